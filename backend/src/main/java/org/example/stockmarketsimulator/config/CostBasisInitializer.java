@@ -0,0 +1,34 @@
+package org.example.stockmarketsimulator.config;
+
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.example.stockmarketsimulator.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class CostBasisInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CostBasisInitializer.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Override
+    public void run(String... args) {
+        List<Long> userIds = userRepository.findIdsWithUntrackedCostBasis();
+        for (Long userId : userIds) {
+            userService.backfillCostBasis(userId);
+        }
+        if (!userIds.isEmpty()) {
+            logger.info("Odtworzono koszt nabycia aktywów dla {} portfeli", userIds.size());
+        }
+    }
+}
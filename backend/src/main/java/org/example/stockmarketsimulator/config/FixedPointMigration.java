@@ -0,0 +1,60 @@
+package org.example.stockmarketsimulator.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.example.stockmarketsimulator.model.FixedPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// zamienia kolumny double precision na bigint w jednostkach FixedPoint; ddl-auto=update nie zmienia typów istniejących kolumn
+@Component("fixedPointMigration")
+public class FixedPointMigration {
+
+    private record ColumnScale(String table, String column, long scale) {}
+
+    private static final List<ColumnScale> COLUMNS = List.of(
+            new ColumnScale("app_user", "account_balance", FixedPoint.MONEY_SCALE),
+            new ColumnScale("app_user", "profit", FixedPoint.MONEY_SCALE),
+            new ColumnScale("assets", "price", FixedPoint.MONEY_SCALE),
+            new ColumnScale("transactions", "amount", FixedPoint.QUANTITY_SCALE),
+            new ColumnScale("transactions", "price", FixedPoint.MONEY_SCALE),
+            new ColumnScale("wallet_assets", "amount", FixedPoint.QUANTITY_SCALE),
+            new ColumnScale("wallet_cost_basis", "cost_basis", FixedPoint.MONEY_SCALE)
+    );
+
+    private static final Logger logger = LoggerFactory.getLogger(FixedPointMigration.class);
+
+    public FixedPointMigration(DataSource dataSource) {
+        migrate(new JdbcTemplate(dataSource));
+    }
+
+    // kolumny już przekształcone (lub jeszcze nieistniejące) są pomijane, więc migracja może działać przy każdym starcie
+    static void migrate(JdbcTemplate jdbcTemplate) {
+        for (ColumnScale column : COLUMNS) {
+            List<String> types = jdbcTemplate.queryForList(
+                    "select data_type from information_schema.columns " +
+                    "where table_schema = current_schema() and table_name = ? and column_name = ?",
+                    String.class, column.table(), column.column());
+            if (types.isEmpty() || !"double precision".equals(types.get(0))) {
+                continue;
+            }
+            jdbcTemplate.execute("alter table " + column.table() + " alter column " + column.column() +
+                    " type bigint using round(" + column.column() + " * " + column.scale() + ")");
+            logger.info("Przekształcono kolumnę {}.{} na wartości stałoprzecinkowe", column.table(), column.column());
+        }
+    }
+
+    // migracja musi się zakończyć, zanim Hibernate zacznie korzystać ze schematu
+    @Configuration
+    static class DependsOnMigration extends EntityManagerFactoryDependsOnPostProcessor {
+        DependsOnMigration() {
+            super("fixedPointMigration");
+        }
+    }
+}
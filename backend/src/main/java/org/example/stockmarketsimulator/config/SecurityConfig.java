@@ -84,12 +84,13 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/notify").permitAll()
                         .requestMatchers("/api/v1/assets").permitAll()
+                        .requestMatchers("/api/v1/assets/list", "/api/v1/assets/search").permitAll()
                         .requestMatchers("/api/v1/users/{userId}/wallet/details").authenticated()
                         .requestMatchers("/api/v1/users/{userId}/wallet/add").authenticated()
                         .requestMatchers("/api/v1/users/{userId}/wallet/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers("/api/v1/users/{id}/add-funds**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers("/api/v1/users/{id}").hasAnyRole("USER", "ADMIN")
-                        .requestMatchers("/api/v1/assets/{id}/history").permitAll()
+                        .requestMatchers("/api/v1/assets/{id}/history", "/api/v1/assets/{id}/candles").permitAll()
                         .requestMatchers("/user-wallet/**").permitAll()
                         .requestMatchers("/add-asset").permitAll()
                         .requestMatchers("/add-user").permitAll()
@@ -0,0 +1,55 @@
+package org.example.stockmarketsimulator.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.example.stockmarketsimulator.model.TradeOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// ddl-auto=update nie zmienia ograniczenia check na kolumnie statusu, więc nowe statusy zleceń odrzucałaby baza
+@Component("tradeOrderStatusMigration")
+public class TradeOrderStatusMigration {
+
+    private static final String CONSTRAINT = "trade_orders_status_check";
+
+    private static final Logger logger = LoggerFactory.getLogger(TradeOrderStatusMigration.class);
+
+    public TradeOrderStatusMigration(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<String> definitions = jdbcTemplate.queryForList(
+                "select pg_get_constraintdef(c.oid) from pg_constraint c join pg_class t on t.oid = c.conrelid " +
+                "where t.relname = 'trade_orders' and t.relnamespace = current_schema()::regnamespace and c.conname = ?",
+                String.class, CONSTRAINT);
+        if (definitions.isEmpty()) {
+            return;
+        }
+        for (TradeOrder.Status status : TradeOrder.Status.values()) {
+            if (!definitions.get(0).contains("'" + status.name() + "'")) {
+                // tabela istnieje, więc Hibernate nie utworzy ograniczenia ponownie; odtwarzamy je z pełną listą
+                StringBuilder allowed = new StringBuilder();
+                for (TradeOrder.Status value : TradeOrder.Status.values()) {
+                    allowed.append(allowed.isEmpty() ? "" : ", ").append("'").append(value.name()).append("'");
+                }
+                jdbcTemplate.execute("alter table trade_orders drop constraint " + CONSTRAINT);
+                jdbcTemplate.execute("alter table trade_orders add constraint " + CONSTRAINT +
+                        " check (status in (" + allowed + "))");
+                logger.info("Zaktualizowano dozwolone statusy zleceń: {}", allowed);
+                return;
+            }
+        }
+    }
+
+    // migracja musi się zakończyć, zanim Hibernate zacznie korzystać ze schematu
+    @Configuration
+    static class DependsOnMigration extends EntityManagerFactoryDependsOnPostProcessor {
+        DependsOnMigration() {
+            super("tradeOrderStatusMigration");
+        }
+    }
+}
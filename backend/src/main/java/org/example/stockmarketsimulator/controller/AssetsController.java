@@ -9,24 +9,53 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.example.stockmarketsimulator.exception.BadRequestException;
 import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
 import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.service.AssetListing;
 import org.example.stockmarketsimulator.service.AssetService;
+import org.example.stockmarketsimulator.service.PriceEpoch;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
+import java.util.regex.Pattern;
 
 @RestController
 @RequestMapping("/api/v1/assets")
 public class AssetsController {
 
+    private static final Pattern GZIP_REFUSED = Pattern.compile("gzip\\s*;\\s*q\\s*=\\s*0(\\.0*)?\\s*(,|$)");
+    // skompresowane bajty różnią się od JSON-a, więc silny ETag wariantu gzip musi być inny
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
     private final AssetService assetService;
+    private final PriceEpoch priceEpoch;
+    private final AssetListing assetListing;
 
     @Autowired
-    public AssetsController(AssetService assetService) {
+    public AssetsController(AssetService assetService, PriceEpoch priceEpoch, AssetListing assetListing) {
         this.assetService = assetService;
+        this.priceEpoch = priceEpoch;
+        this.assetListing = assetListing;
+    }
+
+    // 304 przed jakąkolwiek pracą serwisu; przy 200 ustawia ETag i Last-Modified
+    private static boolean notModified(WebRequest request, PriceEpoch.Version version) {
+        return notModified(request, version, false);
+    }
+
+    private static boolean notModified(WebRequest request, PriceEpoch.Version version, boolean gzip) {
+        return request.checkNotModified(gzip ? version.etag() + GZIP_ETAG_SUFFIX : version.etag(), version.lastModified());
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")
+                && !GZIP_REFUSED.matcher(acceptEncoding.toLowerCase()).find();
     }
 
     @Operation(
@@ -43,8 +72,17 @@ public class AssetsController {
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) String sortDirection,
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size
+            @RequestParam(required = false) Integer size,
+            WebRequest request
     ) {
+        boolean listing = search == null && sortBy == null && sortDirection == null && page == null && size == null;
+        boolean gzip = listing && acceptsGzip(request);
+        if (notModified(request, priceEpoch.catalogVersion(), gzip)) {
+            return null;
+        }
+        if (listing) {
+            return renderedListing(gzip);
+        }
         try {
             var assets = assetService.getAssets(search, sortBy, sortDirection, page, size);
             if (page == null || size == null) {
@@ -60,6 +98,59 @@ public class AssetsController {
         }
     }
 
+    // pełna lista bez parametrów jest taka sama dla wszystkich w ramach epoki: gotowe bajty zamiast serializacji
+    private ResponseEntity<byte[]> renderedListing(boolean gzip) {
+        AssetListing.Rendered rendered = assetListing.rendered();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.gzip());
+        }
+        return response.body(rendered.json());
+    }
+
+    @Operation(
+            summary = "Pobierz stronę aktywów (kursor)",
+            description = "Zwraca kolejną stronę aktywów po kursorze z poprzedniej odpowiedzi (nextCursor). Filtr, sortowanie (id, price, name) i limit wykonuje baza. Liczba wszystkich wyników tylko przy count=true. Publiczny endpoint."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Strona aktywów pobrana pomyślnie"),
+            @ApiResponse(responseCode = "400", description = "Nieprawidłowy kursor, sortowanie lub limit", content = @Content)
+    })
+    @GetMapping("/list")
+    public ResponseEntity<?> listAssets(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            WebRequest request
+    ) {
+        if (notModified(request, priceEpoch.catalogVersion())) {
+            return null;
+        }
+        return ResponseEntity.ok(assetService.listAssets(search, sortBy, sortDirection, limit, cursor, count));
+    }
+
+    @Operation(
+            summary = "Wyszukaj aktywa",
+            description = "Zwraca aktywa najlepiej pasujące do zapytania (symbol, początek nazwy, fragment), do podpowiedzi. Publiczny endpoint."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Wyniki wyszukiwania", content = @Content(schema = @Schema(implementation = Asset.class))),
+            @ApiResponse(responseCode = "400", description = "Puste zapytanie lub nieprawidłowy limit", content = @Content)
+    })
+    @GetMapping("/search")
+    public ResponseEntity<?> searchAssets(@RequestParam String q, @RequestParam(required = false) Integer limit,
+                                          WebRequest request) {
+        if (notModified(request, priceEpoch.catalogVersion())) {
+            return null;
+        }
+        return ResponseEntity.ok(assetService.searchAssets(q, limit));
+    }
+
     @Operation(
             summary = "Dodaj nowe aktywo",
             description = "Tworzy nowe aktywo. Wymaga roli ADMIN."
@@ -104,7 +195,10 @@ public class AssetsController {
     }
 
     @GetMapping("/{id}/history")
-    public ResponseEntity<?> getAssetHistory(@PathVariable Long id) {
+    public ResponseEntity<?> getAssetHistory(@PathVariable Long id, WebRequest request) {
+        if (notModified(request, priceEpoch.historyVersion(id))) {
+            return null;
+        }
         try {
             return ResponseEntity.ok(assetService.getAssetHistory(id));
         } catch (BadRequestException e) {
@@ -116,6 +210,29 @@ public class AssetsController {
         }
     }
 
+    @Operation(
+            summary = "Pobierz świece OHLC aktywa",
+            description = "Zwraca świece (open, high, low, close) w rozdzielczości 1m, 5m, 1h lub 1d dla zakresu from-to (ISO-8601). Bez zakresu: ostatnie 300 świec. Publiczny endpoint."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Świece pobrane pomyślnie"),
+            @ApiResponse(responseCode = "400", description = "Nieprawidłowa rozdzielczość lub zakres", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Aktywo nie zostało znalezione", content = @Content)
+    })
+    @GetMapping("/{id}/candles")
+    public ResponseEntity<?> getAssetCandles(
+            @PathVariable Long id,
+            @RequestParam(required = false) String resolution,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            WebRequest request
+    ) {
+        if (notModified(request, priceEpoch.historyVersion(id))) {
+            return null;
+        }
+        return ResponseEntity.ok(assetService.getAssetCandles(id, resolution, from, to));
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public Map<String, Object> handleResourceNotFound(ResourceNotFoundException ex) {
@@ -0,0 +1,129 @@
+package org.example.stockmarketsimulator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.example.stockmarketsimulator.exception.BadRequestException;
+import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
+import org.example.stockmarketsimulator.service.OrderService;
+import org.example.stockmarketsimulator.service.TriggerService;
+import org.example.stockmarketsimulator.service.UserExecutionLanes;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1")
+@SecurityRequirement(name = "bearerAuth")
+public class OrderController {
+
+    private final OrderService orderService;
+    private final TriggerService triggerService;
+    private final UserExecutionLanes userExecutionLanes;
+
+    public OrderController(OrderService orderService, TriggerService triggerService, UserExecutionLanes userExecutionLanes) {
+        this.orderService = orderService;
+        this.triggerService = triggerService;
+        this.userExecutionLanes = userExecutionLanes;
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @Operation(
+            summary = "Złóż zlecenie z limitem ceny",
+            description = "Dodaje zlecenie kupna lub sprzedaży do arkusza aktywa. Zlecenie kupna blokuje środki po cenie limitu. Wymaga roli USER lub ADMIN."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Zlecenie przyjęte"),
+            @ApiResponse(responseCode = "400", description = "Błędne dane, brak środków lub aktywa", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Użytkownik lub aktywo nie znalezione", content = @Content)
+    })
+    @PostMapping("/users/{userId}/wallet/orders")
+    public ResponseEntity<?> placeOrder(@PathVariable Long userId, @RequestBody Map<String, Object> payload) {
+        String type = payload.get("type").toString();
+        Long assetId = Long.valueOf(payload.get("assetId").toString());
+        Double price = Double.valueOf(payload.get("price").toString());
+        Double amount = Double.valueOf(payload.get("amount").toString());
+        return new ResponseEntity<>(
+                userExecutionLanes.execute(userId, () -> orderService.placeOrder(userId, type, assetId, price, amount)),
+                HttpStatus.CREATED);
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/users/{userId}/wallet/orders")
+    public ResponseEntity<?> getUserOrders(@PathVariable Long userId) {
+        return ResponseEntity.ok(orderService.getUserOrders(userId));
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @Operation(
+            summary = "Anuluj zlecenie",
+            description = "Usuwa aktywne zlecenie z arkusza. Niewykorzystana blokada środków jest zwracana na konto."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Zlecenie anulowane"),
+            @ApiResponse(responseCode = "400", description = "Zlecenie nie jest aktywne", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Zlecenie nie znalezione", content = @Content)
+    })
+    @DeleteMapping("/users/{userId}/wallet/orders/{orderId}")
+    public ResponseEntity<?> cancelOrder(@PathVariable Long userId, @PathVariable Long orderId) {
+        return ResponseEntity.ok(orderService.cancelOrder(userId, orderId));
+    }
+
+    @Operation(
+            summary = "Pobierz arkusz zleceń aktywa",
+            description = "Zwraca zagregowane poziomy cenowe ofert kupna i sprzedaży. Publiczny endpoint."
+    )
+    @GetMapping("/assets/{assetId}/order-book")
+    public ResponseEntity<?> getOrderBook(@PathVariable Long assetId,
+                                          @RequestParam(defaultValue = "10") int levels) {
+        return ResponseEntity.ok(orderService.getOrderBook(assetId, levels));
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @Operation(
+            summary = "Ustaw zlecenie stop-loss lub take-profit",
+            description = "Zleca sprzedaż podanej ilości aktywa, gdy cena spadnie do progu (STOP_LOSS) lub wzrośnie do progu (TAKE_PROFIT). Sprzedaż wykonywana jest po cenie ticku, który przekroczył próg."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Zlecenie warunkowe utworzone"),
+            @ApiResponse(responseCode = "400", description = "Błędny typ, próg lub brak aktywa", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Użytkownik lub aktywo nie znalezione", content = @Content)
+    })
+    @PostMapping("/users/{userId}/wallet/triggers")
+    public ResponseEntity<?> createTrigger(@PathVariable Long userId, @RequestBody Map<String, Object> payload) {
+        String type = payload.get("type").toString();
+        Long assetId = Long.valueOf(payload.get("assetId").toString());
+        Double triggerPrice = Double.valueOf(payload.get("triggerPrice").toString());
+        Double amount = Double.valueOf(payload.get("amount").toString());
+        return new ResponseEntity<>(triggerService.createTrigger(userId, type, assetId, triggerPrice, amount), HttpStatus.CREATED);
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/users/{userId}/wallet/triggers")
+    public ResponseEntity<?> getUserTriggers(@PathVariable Long userId) {
+        return ResponseEntity.ok(triggerService.getUserTriggers(userId));
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @DeleteMapping("/users/{userId}/wallet/triggers/{triggerId}")
+    public ResponseEntity<?> cancelTrigger(@PathVariable Long userId, @PathVariable Long triggerId) {
+        return ResponseEntity.ok(triggerService.cancelTrigger(userId, triggerId));
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Map<String, Object> handleNotFound(ResourceNotFoundException ex) {
+        return Map.of("error", ex.getMessage(), "status", 404);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, Object> handleBadRequest(BadRequestException ex) {
+        return Map.of("error", ex.getMessage(), "status", 400);
+    }
+}
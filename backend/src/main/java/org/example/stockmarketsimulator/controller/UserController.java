@@ -1,9 +1,12 @@
 package org.example.stockmarketsimulator.controller;
 
+import org.example.stockmarketsimulator.dto.TradeLeg;
 import org.example.stockmarketsimulator.exception.BadRequestException;
 import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
 import org.example.stockmarketsimulator.model.User;
 import org.example.stockmarketsimulator.model.UserWallet;
+import org.example.stockmarketsimulator.service.IdempotencyService;
+import org.example.stockmarketsimulator.service.UserExecutionLanes;
 import org.example.stockmarketsimulator.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,7 +19,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -24,9 +30,13 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final UserExecutionLanes userExecutionLanes;
+    private final IdempotencyService idempotencyService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserExecutionLanes userExecutionLanes, IdempotencyService idempotencyService) {
         this.userService = userService;
+        this.userExecutionLanes = userExecutionLanes;
+        this.idempotencyService = idempotencyService;
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -100,7 +110,7 @@ public class UserController {
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @Operation(
             summary = "Dodaj aktywo do portfela użytkownika",
-            description = "Dodaje określoną ilość aktywa do portfela użytkownika. Wymaga roli USER lub ADMIN."
+            description = "Dodaje określoną ilość aktywa do portfela użytkownika. Z parametrem response=delta zwraca tylko zmienioną pozycję, saldo, zysk i wersję portfela. Wymaga roli USER lub ADMIN."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Aktywo dodane pomyślnie", content = @Content),
@@ -109,10 +119,14 @@ public class UserController {
             @ApiResponse(responseCode = "500", description = "Błąd serwera", content = @Content)
     })
     @PostMapping("/{userId}/wallet/add")
-    public ResponseEntity<?> addAssetToWallet(@PathVariable Long userId, @RequestBody Map<String, Object> payload) {
+    public ResponseEntity<?> addAssetToWallet(@PathVariable Long userId, @RequestBody Map<String, Object> payload,
+                                              @RequestParam(value = "response", defaultValue = "full") String responseMode) {
         Long assetId = Long.valueOf(payload.get("assetId").toString());
         Double amount = Double.valueOf(payload.get("amount").toString());
-        return ResponseEntity.ok(userService.addAssetToWallet(userId, assetId, amount));
+        if (isDelta(responseMode)) {
+            return ResponseEntity.ok(userExecutionLanes.execute(userId, () -> userService.addAssetToWalletDelta(userId, assetId, amount)));
+        }
+        return ResponseEntity.ok(userExecutionLanes.execute(userId, () -> userService.addAssetToWallet(userId, assetId, amount)));
     }
 
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
@@ -123,18 +137,55 @@ public class UserController {
 
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @PostMapping("/{id}/add-funds")
-    public ResponseEntity<?> addFunds(@PathVariable Long id, @RequestBody Map<String, Object> payload) {
+    public ResponseEntity<?> addFunds(@PathVariable Long id, @RequestBody Map<String, Object> payload,
+                                      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         double amount = Double.parseDouble(payload.get("amount").toString());
-        return ResponseEntity.ok(userService.addFunds(id, amount));
+        return idempotent(id, idempotencyKey, "add-funds", List.of(amount), () -> userService.addFunds(id, amount));
     }
 
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @PostMapping("/{userId}/wallet/trade")
-    public ResponseEntity<?> tradeAsset(@PathVariable Long userId, @RequestBody Map<String, Object> payload) {
+    public ResponseEntity<?> tradeAsset(@PathVariable Long userId, @RequestBody Map<String, Object> payload,
+                                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                        @RequestParam(value = "response", defaultValue = "full") String responseMode) {
         String type = payload.get("type").toString();
         Long assetId = Long.valueOf(payload.get("assetId").toString());
         Double amount = Double.valueOf(payload.get("amount").toString());
-        return ResponseEntity.ok(userService.tradeAsset(userId, type, assetId, amount));
+        List<Object> request = List.of(type.toUpperCase(), assetId, amount);
+        if (isDelta(responseMode)) {
+            return idempotent(userId, idempotencyKey, "trade-delta", request, () -> userService.tradeAssetDelta(userId, type, assetId, amount));
+        }
+        return idempotent(userId, idempotencyKey, "trade", request, () -> userService.tradeAsset(userId, type, assetId, amount));
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @Operation(
+            summary = "Wykonaj paczkę transakcji",
+            description = "Wykonuje wiele zleceń BUY i SELL w jednej transakcji bazodanowej. Każda pozycja jest sprawdzana na bieżącym stanie konta, a odrzucone pozycje nie wstrzymują pozostałych. Zysk przeliczany jest raz, na końcu."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Paczka przetworzona, wynik dla każdej pozycji"),
+            @ApiResponse(responseCode = "400", description = "Pusta lub zbyt duża paczka", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Użytkownik nie znaleziony", content = @Content)
+    })
+    @PostMapping("/{userId}/wallet/trade/batch")
+    public ResponseEntity<?> tradeBatch(@PathVariable Long userId, @RequestBody Map<String, Object> payload,
+                                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (!(payload.get("legs") instanceof List<?> rawLegs)) {
+            throw new BadRequestException("Wymagana lista zleceń 'legs'");
+        }
+        List<TradeLeg> legs = new ArrayList<>();
+        for (Object raw : rawLegs) {
+            if (!(raw instanceof Map<?, ?> leg)) {
+                throw new BadRequestException("Każde zlecenie musi być obiektem z polami type, assetId i amount");
+            }
+            legs.add(new TradeLeg(
+                    leg.get("type") != null ? leg.get("type").toString() : null,
+                    leg.get("assetId") != null ? Long.valueOf(leg.get("assetId").toString()) : null,
+                    leg.get("amount") != null ? Double.valueOf(leg.get("amount").toString()) : null
+            ));
+        }
+        return idempotent(userId, idempotencyKey, "trade-batch", legs, () -> userService.tradeBatch(userId, legs));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -149,6 +200,26 @@ public class UserController {
         return ResponseEntity.ok(userService.getAggregatedUserData(userId));
     }
 
+    private boolean isDelta(String responseMode) {
+        if ("delta".equalsIgnoreCase(responseMode)) {
+            return true;
+        }
+        if (!"full".equalsIgnoreCase(responseMode)) {
+            throw new BadRequestException("Nieprawidłowy tryb odpowiedzi, dozwolone: full, delta");
+        }
+        return false;
+    }
+
+    // ponowienie z tym samym kluczem zwraca zapisaną odpowiedź bez ponownego wykonania operacji
+    private ResponseEntity<?> idempotent(Long userId, String idempotencyKey, String operation, Object request, Supplier<?> work) {
+        IdempotencyService.Result result = userExecutionLanes.execute(userId,
+                () -> idempotencyService.execute(userId, idempotencyKey, operation, request, work));
+        if (result.replayed()) {
+            return ResponseEntity.ok().header("Idempotent-Replayed", "true").body(result.body());
+        }
+        return ResponseEntity.ok(result.body());
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public Map<String, Object> handleNotFound(ResourceNotFoundException ex) {
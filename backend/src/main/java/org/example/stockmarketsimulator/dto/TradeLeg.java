@@ -0,0 +1,4 @@
+package org.example.stockmarketsimulator.dto;
+
+public record TradeLeg(String type, Long assetId, Double amount) {
+}
@@ -2,9 +2,14 @@ package org.example.stockmarketsimulator.model;
 
 import jakarta.persistence.*;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 @Entity
 @Table(name = "assets", indexes = {
-    @Index(name = "idx_asset_symbol", columnList = "symbol")
+    @Index(name = "idx_asset_symbol", columnList = "symbol"),
+    // klucze stronicowania kursorem (sortowanie po cenie lub nazwie, id rozstrzyga remisy)
+    @Index(name = "idx_asset_price_id", columnList = "price, id"),
+    @Index(name = "idx_asset_name_id", columnList = "name, id")
 })
 public class Asset {
 
@@ -13,19 +18,20 @@ public class Asset {
     private Long id;
     private String symbol;
     private String name;
-    private double price;
+    // jednostki FixedPoint.MONEY_SCALE
+    private long price;
 
     public Asset() {}
 
     public Asset(String symbol, double price, String name) {
         this.symbol = symbol;
-        this.price = price;
+        this.price = FixedPoint.toMoney(price);
         this.name = name;
     }
     public Asset(Long id,String symbol, double price, String name) {
         this.id = id;
         this.symbol = symbol;
-        this.price = price;
+        this.price = FixedPoint.toMoney(price);
         this.name = name;
     }
 
@@ -54,10 +60,15 @@ public class Asset {
     }
 
     public double getPrice() {
-        return price;
+        return FixedPoint.fromMoney(price);
     }
 
     public void setPrice(double price) {
-        this.price = price;
+        this.price = FixedPoint.toMoney(price);
+    }
+
+    @JsonIgnore
+    public long getPriceUnits() {
+        return price;
     }
 }
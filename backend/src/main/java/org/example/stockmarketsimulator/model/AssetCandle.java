@@ -0,0 +1,87 @@
+package org.example.stockmarketsimulator.model;
+
+import jakarta.persistence.*;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+// świeca OHLC jednego aktywa w przedziale czasu; ceny w jednostkach FixedPoint.MONEY_SCALE
+@Entity
+@Table(name = "asset_candles", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_asset_candle_bucket", columnNames = {"asset_id", "resolution", "bucket_start"})
+})
+public class AssetCandle {
+
+    public enum Resolution {
+        ONE_MINUTE("1m", 60_000L),
+        FIVE_MINUTES("5m", 5 * 60_000L),
+        ONE_HOUR("1h", 60 * 60_000L),
+        ONE_DAY("1d", 24 * 60 * 60_000L);
+
+        private final String code;
+        private final long millis;
+
+        Resolution(String code, long millis) {
+            this.code = code;
+            this.millis = millis;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        // początek przedziału (UTC), do którego należy chwila
+        public long bucketOf(long epochMillis) {
+            return Math.floorDiv(epochMillis, millis) * millis;
+        }
+
+        public static Optional<Resolution> fromCode(String code) {
+            return Arrays.stream(values()).filter(r -> r.code.equals(code)).findFirst();
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "asset_id", nullable = false)
+    private Long assetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Resolution resolution;
+
+    // milisekundy od epoki
+    @Column(name = "bucket_start", nullable = false)
+    private long bucketStart;
+
+    private long open;
+    private long high;
+    private long low;
+    private long close;
+    private int ticks;
+
+    public AssetCandle() {}
+
+    public Long getId() { return id; }
+
+    public Long getAssetId() { return assetId; }
+
+    public Resolution getResolution() { return resolution; }
+
+    public long getBucketStart() { return bucketStart; }
+
+    public double getOpen() { return FixedPoint.fromMoney(open); }
+
+    public double getHigh() { return FixedPoint.fromMoney(high); }
+
+    public double getLow() { return FixedPoint.fromMoney(low); }
+
+    public double getClose() { return FixedPoint.fromMoney(close); }
+
+    public int getTicks() { return ticks; }
+}
@@ -0,0 +1,50 @@
+package org.example.stockmarketsimulator.model;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+// kwoty, ceny i ilości przechowujemy jako long w milionowych częściach jednostki; arytmetyka na nich jest dokładna
+public final class FixedPoint {
+
+    public static final long MONEY_SCALE = 1_000_000L;
+    public static final long QUANTITY_SCALE = 1_000_000L;
+
+    private static final BigDecimal BIG_QUANTITY_SCALE = BigDecimal.valueOf(QUANTITY_SCALE);
+
+    private FixedPoint() {}
+
+    public static long toMoney(double value) {
+        return Math.round(value * MONEY_SCALE);
+    }
+
+    public static double fromMoney(long units) {
+        return (double) units / MONEY_SCALE;
+    }
+
+    public static long toQuantity(double value) {
+        return Math.round(value * QUANTITY_SCALE);
+    }
+
+    public static double fromQuantity(long units) {
+        return (double) units / QUANTITY_SCALE;
+    }
+
+    // wartość pozycji (ilość razy cena) w jednostkach pieniężnych, zaokrąglona połówkowo od zera
+    public static long value(long quantityUnits, long priceUnits) {
+        long high = Math.multiplyHigh(quantityUnits, priceUnits);
+        long low = quantityUnits * priceUnits;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            long quotient = low / QUANTITY_SCALE;
+            long remainder = low % QUANTITY_SCALE;
+            if (Math.abs(remainder) * 2 >= QUANTITY_SCALE) {
+                quotient += Long.signum(low);
+            }
+            return quotient;
+        }
+        // iloczyn nie mieści się w 64 bitach (pozycje powyżej ~9 mln); rzadka ścieżka
+        return new BigDecimal(BigInteger.valueOf(quantityUnits).multiply(BigInteger.valueOf(priceUnits)))
+                .divide(BIG_QUANTITY_SCALE, 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+}
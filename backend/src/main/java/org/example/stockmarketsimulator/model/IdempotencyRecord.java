@@ -0,0 +1,48 @@
+package org.example.stockmarketsimulator.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_created", columnList = "createdAt")
+})
+public class IdempotencyRecord {
+    // identyfikator to "<id użytkownika>:<klucz>", żeby klucze różnych użytkowników się nie mieszały
+    @Id
+    @Column(length = 140)
+    private String id;
+
+    @Column(nullable = false, length = 32)
+    private String operation;
+
+    // SHA-256 parametrów żądania; ten sam klucz z innymi parametrami jest odrzucany
+    @Column(length = 64)
+    private String requestHash;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String response;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    public IdempotencyRecord() {}
+
+    public IdempotencyRecord(String id, String operation, String requestHash, String response, Instant createdAt) {
+        this.id = id;
+        this.operation = operation;
+        this.requestHash = requestHash;
+        this.response = response;
+        this.createdAt = createdAt;
+    }
+
+    public String getId() { return id; }
+
+    public String getOperation() { return operation; }
+
+    public String getRequestHash() { return requestHash; }
+
+    public String getResponse() { return response; }
+
+    public Instant getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,26 @@
+package org.example.stockmarketsimulator.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "journal_checkpoints")
+public class JournalCheckpoint {
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(nullable = false)
+    private long lastSequence;
+
+    public JournalCheckpoint() {}
+
+    public JournalCheckpoint(String name, long lastSequence) {
+        this.name = name;
+        this.lastSequence = lastSequence;
+    }
+
+    public String getName() { return name; }
+
+    public long getLastSequence() { return lastSequence; }
+    public void setLastSequence(long lastSequence) { this.lastSequence = lastSequence; }
+}
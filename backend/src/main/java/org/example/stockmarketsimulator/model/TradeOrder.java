@@ -0,0 +1,98 @@
+package org.example.stockmarketsimulator.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "trade_orders", indexes = {
+    @Index(name = "idx_trade_orders_user", columnList = "user_id"),
+    @Index(name = "idx_trade_orders_status", columnList = "status")
+})
+public class TradeOrder {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(optional = false)
+    private User user;
+
+    @ManyToOne(optional = false)
+    private Asset asset;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Side side;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.OPEN;
+
+    private double limitPrice;
+    private double amount;
+    private double remaining;
+    private LocalDateTime createdAt;
+
+    public enum Side {
+        BUY, SELL
+    }
+
+    public enum Status {
+        OPEN, FILLED, CANCELLED, FAILED
+    }
+
+    public TradeOrder() {}
+
+    public TradeOrder(User user, Asset asset, Side side, double limitPrice, double amount) {
+        this.user = user;
+        this.asset = asset;
+        this.side = side;
+        this.limitPrice = limitPrice;
+        this.amount = amount;
+        this.remaining = amount;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public Asset getAsset() {
+        return asset;
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public double getLimitPrice() {
+        return limitPrice;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public double getRemaining() {
+        return remaining;
+    }
+
+    public void setRemaining(double remaining) {
+        this.remaining = remaining;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
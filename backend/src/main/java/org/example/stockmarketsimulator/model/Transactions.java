@@ -3,6 +3,8 @@ package org.example.stockmarketsimulator.model;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 @Entity
 @Table(name = "transactions", indexes = {
     @Index(name = "idx_transactions_user", columnList = "user_id"),
@@ -22,8 +24,9 @@ public class Transactions {
     @Enumerated(EnumType.STRING)
     private TransactionType type;
 
-    private double amount;
-    private double price;
+    // jednostki FixedPoint.QUANTITY_SCALE i FixedPoint.MONEY_SCALE
+    private long amount;
+    private long price;
     private LocalDateTime timestamp;
 
     public enum TransactionType {
@@ -65,18 +68,36 @@ public class Transactions {
     }
 
     public double getAmount() {
-        return amount;
+        return FixedPoint.fromQuantity(amount);
     }
 
     public void setAmount(double amount) {
+        this.amount = FixedPoint.toQuantity(amount);
+    }
+
+    @JsonIgnore
+    public long getAmountUnits() {
+        return amount;
+    }
+
+    public void setAmountUnits(long amount) {
         this.amount = amount;
     }
 
     public double getPrice() {
-        return price;
+        return FixedPoint.fromMoney(price);
     }
 
     public void setPrice(double price) {
+        this.price = FixedPoint.toMoney(price);
+    }
+
+    @JsonIgnore
+    public long getPriceUnits() {
+        return price;
+    }
+
+    public void setPriceUnits(long price) {
         this.price = price;
     }
 
@@ -0,0 +1,106 @@
+package org.example.stockmarketsimulator.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "trigger_orders", indexes = {
+    @Index(name = "idx_trigger_orders_user", columnList = "user_id"),
+    @Index(name = "idx_trigger_orders_status", columnList = "status")
+})
+public class TriggerOrder {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(optional = false)
+    private User user;
+
+    @ManyToOne(optional = false)
+    private Asset asset;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Kind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.ACTIVE;
+
+    private double triggerPrice;
+    private double amount;
+    private LocalDateTime createdAt;
+    private LocalDateTime triggeredAt;
+    private String failureReason;
+
+    public enum Kind {
+        STOP_LOSS, TAKE_PROFIT
+    }
+
+    public enum Status {
+        ACTIVE, TRIGGERED, EXECUTED, FAILED, CANCELLED
+    }
+
+    public TriggerOrder() {}
+
+    public TriggerOrder(User user, Asset asset, Kind kind, double triggerPrice, double amount) {
+        this.user = user;
+        this.asset = asset;
+        this.kind = kind;
+        this.triggerPrice = triggerPrice;
+        this.amount = amount;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public Asset getAsset() {
+        return asset;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public double getTriggerPrice() {
+        return triggerPrice;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getTriggeredAt() {
+        return triggeredAt;
+    }
+
+    public void setTriggeredAt(LocalDateTime triggeredAt) {
+        this.triggeredAt = triggeredAt;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+}
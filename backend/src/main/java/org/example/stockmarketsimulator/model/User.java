@@ -1,6 +1,7 @@
 package org.example.stockmarketsimulator.model;
 
 import jakarta.persistence.*;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 @Entity
@@ -23,11 +24,17 @@ public class User {
     @Column(nullable = false)
     private String role = "ROLE_USER";
 
+    // jednostki FixedPoint.MONEY_SCALE
     @Column(nullable = false)
-    private double accountBalance = 0.0; 
+    private long accountBalance = 0L;
 
     @Column(nullable = false)
-    private double profit = 0.0;
+    private long profit = 0L;
+
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @JsonIgnore
+    private long version;
 
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
@@ -40,8 +47,8 @@ public class User {
         this.email = email;
         this.password = password;
         this.wallet = new UserWallet(this);
-        this.accountBalance = 0.0;
-        this.profit = 0.0;
+        this.accountBalance = 0L;
+        this.profit = 0L;
     }
 
     public Long getId() {
@@ -85,21 +92,43 @@ public class User {
     }
 
     public double getAccountBalance() {
-        return accountBalance;
+        return FixedPoint.fromMoney(accountBalance);
     }
 
     public void setAccountBalance(double accountBalance) {
+        this.accountBalance = FixedPoint.toMoney(accountBalance);
+    }
+
+    @JsonIgnore
+    public long getAccountBalanceUnits() {
+        return accountBalance;
+    }
+
+    public void setAccountBalanceUnits(long accountBalance) {
         this.accountBalance = accountBalance;
     }
 
     public double getProfit() {
-        return profit;
+        return FixedPoint.fromMoney(profit);
     }
 
     public void setProfit(double profit) {
+        this.profit = FixedPoint.toMoney(profit);
+    }
+
+    @JsonIgnore
+    public long getProfitUnits() {
+        return profit;
+    }
+
+    public void setProfitUnits(long profit) {
         this.profit = profit;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public UserWallet getWallet() {
         return wallet;
     }
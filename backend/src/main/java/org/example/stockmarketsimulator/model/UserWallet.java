@@ -1,10 +1,13 @@
 package org.example.stockmarketsimulator.model;
 
 import jakarta.persistence.*;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
 @Table(name = "user_wallet")
@@ -19,11 +22,33 @@ public class UserWallet {
     @JsonBackReference
     private User user;
 
+    // ilości w jednostkach FixedPoint.QUANTITY_SCALE, koszt nabycia w FixedPoint.MONEY_SCALE
     @ElementCollection
     @CollectionTable(name = "wallet_assets", joinColumns = @JoinColumn(name = "wallet_id"))
     @MapKeyColumn(name = "asset_id")
     @Column(name = "amount")
-    private Map<Long, Double> assets = new HashMap<>();
+    private Map<Long, Long> assets = new HashMap<>();
+
+    @ElementCollection
+    @CollectionTable(name = "wallet_cost_basis", joinColumns = @JoinColumn(name = "wallet_id"))
+    @MapKeyColumn(name = "asset_id")
+    @Column(name = "cost_basis")
+    @JsonIgnore
+    private Map<Long, Long> costBasis = new HashMap<>();
+
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    @JsonIgnore
+    private boolean costBasisTracked = true;
+
+    // podbijana przy każdej zmianie pozycji lub kosztu nabycia, unieważnia zapamiętaną wycenę portfela
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @JsonIgnore
+    private long holdingsVersion;
+
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @JsonIgnore
+    private long version;
 
     public UserWallet() {}
 
@@ -47,16 +72,93 @@ public class UserWallet {
         this.user = user;
     }
 
+    // widok w jednostkach dziesiętnych dla API; ścieżki transakcyjne korzystają z getAmountUnits
     public Map<Long, Double> getAssets() {
-        return assets;
+        Map<Long, Double> view = new HashMap<>(assets.size() * 2);
+        assets.forEach((asset, units) -> view.put(asset, FixedPoint.fromQuantity(units)));
+        return view;
+    }
+
+    @JsonIgnore
+    public Set<Long> getAssetIds() {
+        return Collections.unmodifiableSet(assets.keySet());
+    }
+
+    public double getAmount(Long asset) {
+        return FixedPoint.fromQuantity(getAmountUnits(asset));
+    }
+
+    public long getAmountUnits(Long asset) {
+        Long units = assets.get(asset);
+        return units != null ? units : 0L;
     }
 
     public void addAsset(Long asset, double amount) {
-        assets.merge(asset, amount, Double::sum);
+        addAssetUnits(asset, FixedPoint.toQuantity(amount));
+    }
+
+    public void addAssetUnits(Long asset, long units) {
+        assets.merge(asset, units, Long::sum);
+        holdingsVersion++;
     }
 
     public void removeAsset(Long asset, double amount) {
-        assets.computeIfPresent(asset, (k, v) -> (v - amount) > 0 ? v - amount : null);
+        removeAssetUnits(asset, FixedPoint.toQuantity(amount));
+    }
+
+    public void removeAssetUnits(Long asset, long units) {
+        assets.computeIfPresent(asset, (k, v) -> v - units > 0 ? v - units : null);
+        holdingsVersion++;
+    }
+
+    public void clearCostBasis() {
+        costBasis.clear();
+        holdingsVersion++;
     }
-}
 
+    public boolean isCostBasisTracked() {
+        return costBasisTracked;
+    }
+
+    public void setCostBasisTracked(boolean costBasisTracked) {
+        this.costBasisTracked = costBasisTracked;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getHoldingsVersion() {
+        return holdingsVersion;
+    }
+
+    public void recordBuy(Long asset, double amount, double price) {
+        recordBuyUnits(asset, FixedPoint.value(FixedPoint.toQuantity(amount), FixedPoint.toMoney(price)));
+    }
+
+    public void recordBuyUnits(Long asset, long cost) {
+        costBasis.merge(asset, cost, Long::sum);
+        holdingsVersion++;
+    }
+
+    public void recordSell(Long asset, double amount, double price) {
+        recordSellUnits(asset, FixedPoint.value(FixedPoint.toQuantity(amount), FixedPoint.toMoney(price)));
+    }
+
+    public void recordSellUnits(Long asset, long proceeds) {
+        costBasis.merge(asset, -proceeds, Long::sum);
+        holdingsVersion++;
+    }
+
+    // ceny w jednostkach FixedPoint.MONEY_SCALE; wynik w tych samych jednostkach
+    public long calculateProfitUnits(Map<Long, Long> prices) {
+        long profit = 0L;
+        for (Map.Entry<Long, Long> entry : assets.entrySet()) {
+            Long price = prices.get(entry.getKey());
+            if (price == null) continue;
+            Long cost = costBasis.get(entry.getKey());
+            profit += FixedPoint.value(entry.getValue(), price) - (cost != null ? cost : 0L);
+        }
+        return profit;
+    }
+}
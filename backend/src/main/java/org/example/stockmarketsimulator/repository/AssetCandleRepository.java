@@ -0,0 +1,20 @@
+package org.example.stockmarketsimulator.repository;
+
+import org.example.stockmarketsimulator.model.AssetCandle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface AssetCandleRepository extends JpaRepository<AssetCandle, Long> {
+    List<AssetCandle> findByAssetIdAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+            Long assetId, AssetCandle.Resolution resolution, long from, long to);
+
+    @Modifying
+    @Transactional
+    @Query("delete from AssetCandle c where c.assetId = :assetId")
+    int deleteByAssetId(@Param("assetId") Long assetId);
+}
@@ -3,10 +3,17 @@ package org.example.stockmarketsimulator.repository;
 import org.example.stockmarketsimulator.model.Asset;
 import org.example.stockmarketsimulator.model.AssetPriceHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface AssetPriceHistoryRepository extends JpaRepository<AssetPriceHistory, Long> {
     List<AssetPriceHistory> findByAssetOrderByTimestampAsc(Asset asset);
     List<AssetPriceHistory> findTop30ByAssetOrderByTimestampDesc(Asset asset);
+
+    @Modifying
+    @Query("delete from AssetPriceHistory h where h.asset.id = :assetId")
+    int deleteByAssetId(@Param("assetId") Long assetId);
 }
@@ -1,9 +1,21 @@
 package org.example.stockmarketsimulator.repository;
 
 import org.example.stockmarketsimulator.model.Asset;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AssetsRepository extends JpaRepository<Asset, Long> {
+
+    // stronicowanie kursorem: warunek "za ostatnim elementem" i limit wykonuje baza
+    Window<Asset> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Asset> findBySymbolContainingIgnoreCaseOrNameContainingIgnoreCase(String symbol, String name,
+                                                                             ScrollPosition position, Sort sort, Limit limit);
+
+    long countBySymbolContainingIgnoreCaseOrNameContainingIgnoreCase(String symbol, String name);
 }
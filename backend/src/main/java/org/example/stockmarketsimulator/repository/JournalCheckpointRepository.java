@@ -0,0 +1,7 @@
+package org.example.stockmarketsimulator.repository;
+
+import org.example.stockmarketsimulator.model.JournalCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JournalCheckpointRepository extends JpaRepository<JournalCheckpoint, String> {
+}
@@ -0,0 +1,19 @@
+package org.example.stockmarketsimulator.repository;
+
+import org.example.stockmarketsimulator.model.TradeOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TradeOrderRepository extends JpaRepository<TradeOrder, Long> {
+    List<TradeOrder> findByUserIdOrderByIdDesc(Long userId);
+
+    List<TradeOrder> findByStatusOrderByIdAsc(TradeOrder.Status status);
+
+    @Query("select coalesce(sum(o.remaining), 0) from TradeOrder o where o.user.id = :userId and o.asset.id = :assetId " +
+           "and o.side = org.example.stockmarketsimulator.model.TradeOrder.Side.SELL " +
+           "and o.status = org.example.stockmarketsimulator.model.TradeOrder.Status.OPEN")
+    double sumOpenSellRemaining(@Param("userId") Long userId, @Param("assetId") Long assetId);
+}
@@ -0,0 +1,12 @@
+package org.example.stockmarketsimulator.repository;
+
+import org.example.stockmarketsimulator.model.TriggerOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TriggerOrderRepository extends JpaRepository<TriggerOrder, Long> {
+    List<TriggerOrder> findByUserIdOrderByIdDesc(Long userId);
+
+    List<TriggerOrder> findByStatus(TriggerOrder.Status status);
+}
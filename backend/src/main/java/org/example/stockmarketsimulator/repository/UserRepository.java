@@ -2,8 +2,13 @@ package org.example.stockmarketsimulator.repository;
 
 import org.example.stockmarketsimulator.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +16,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
     Optional<User> findByUsername(String username);
+    @Query("select u.id from User u where u.wallet.costBasisTracked = false")
+    List<Long> findIdsWithUntrackedCostBasis();
+    @Query("select key(a), w.user.id, w.version from UserWallet w join w.assets a")
+    List<Object[]> findAssetHolders();
+    @Query("select u.accountBalance from User u where u.id = :id")
+    Optional<Long> findBalanceUnits(@Param("id") Long id);
+    @Query("select value(a) from UserWallet w join w.assets a where w.user.id = :userId and key(a) = :assetId")
+    Optional<Long> findHoldingUnits(@Param("userId") Long userId, @Param("assetId") Long assetId);
+
+    // zapis samego zysku omija kontrolę wersji, żeby przeliczenie w tle nie kolidowało z transakcjami użytkownika
+    // wywoływane także z cyklu cen przy starcie (@PostConstruct), gdzie nie ma jeszcze transakcji
+    @Modifying
+    @Transactional
+    @Query("update User u set u.profit = :profit where u.id = :id")
+    int updateProfit(@Param("id") Long id, @Param("profit") long profitUnits);
+
+    // zysk z bieżącej podstawy kosztowej (suma kupna minus sprzedaży na aktywo), nie z agregatu tabeli transakcji;
+    // ilość razy cena dzielona przez skalę ilości, z zaokrągleniem jak FixedPoint.value
+    @Modifying
+    @Transactional
+    @Query(value = """
+            update app_user u set profit = coalesce(v.profit, 0)
+            from user_wallet w
+            left join (
+                select wa.wallet_id, sum(round(wa.amount::numeric * a.price / :quantityScale) - coalesce(cb.cost_basis, 0))::bigint as profit
+                from wallet_assets wa
+                join assets a on a.id = wa.asset_id
+                left join wallet_cost_basis cb on cb.wallet_id = wa.wallet_id and cb.asset_id = wa.asset_id
+                group by wa.wallet_id
+            ) v on v.wallet_id = w.id
+            where w.user_id = u.id
+              and w.cost_basis_tracked
+              and u.profit is distinct from coalesce(v.profit, 0)
+            """, nativeQuery = true)
+    int revalueAllProfits(@Param("quantityScale") long quantityScale);
 }
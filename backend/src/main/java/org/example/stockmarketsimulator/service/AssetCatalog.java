@@ -0,0 +1,127 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.repository.AssetsRepository;
+import org.springframework.stereotype.Component;
+
+// niezmienna migawka katalogu aktywów podmieniana w całości; odczyty nie sięgają do bazy
+@Component
+public class AssetCatalog {
+
+    // obiekty migawki są kopiami odłączonymi od kontekstu JPA i współdzielonymi między wątkami - nie wolno ich modyfikować
+    public record Snapshot(List<Asset> assets, Map<Long, Asset> byId, Map<String, Asset> bySymbol) {}
+
+    private final AssetsRepository assetsRepository;
+    private final AssetSearchIndex searchIndex = new AssetSearchIndex();
+    private volatile Snapshot snapshot;
+    // zmiany katalogu spoza cyklu cen; cykl publikuje swoją listę tylko, jeśli w międzyczasie nic się nie zmieniło
+    private long modifications;
+
+    public AssetCatalog(AssetsRepository assetsRepository) {
+        this.assetsRepository = assetsRepository;
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    swap(build(assetsRepository.findAll()));
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    public List<Asset> all() {
+        return snapshot().assets();
+    }
+
+    public Optional<Asset> find(Long id) {
+        return Optional.ofNullable(snapshot().byId().get(id));
+    }
+
+    public Optional<Asset> findBySymbol(String symbol) {
+        return Optional.ofNullable(snapshot().bySymbol().get(symbol));
+    }
+
+    // aktywa zawierające zapytanie w symbolu lub nazwie, w kolejności identyfikatorów
+    public List<Asset> matching(String query) {
+        Snapshot current = snapshot();
+        List<Long> ids = new ArrayList<>(searchIndex.matching(query));
+        Collections.sort(ids);
+        return resolve(current, ids);
+    }
+
+    // podpowiedzi: najpierw dokładny symbol, potem prefiksy symbolu i słów nazwy, na końcu dowolne fragmenty
+    public List<Asset> search(String query, int limit) {
+        Snapshot current = snapshot();
+        return resolve(current, searchIndex.search(query, limit));
+    }
+
+    private static List<Asset> resolve(Snapshot current, List<Long> ids) {
+        List<Asset> assets = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            // indeks bywa o krok przed migawką odczytaną przed podmianą
+            Asset asset = current.byId().get(id);
+            if (asset != null) {
+                assets.add(asset);
+            }
+        }
+        return assets;
+    }
+
+    public synchronized long modifications() {
+        return modifications;
+    }
+
+    // dodanie lub usunięcie aktywa: katalog wczytywany jest od nowa po zatwierdzeniu zmiany
+    public void refresh() {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                modifications++;
+                swap(build(assetsRepository.findAll()));
+            }
+        });
+    }
+
+    // cykl cen przekazuje pełną listę wczytaną po odczycie licznika zmian
+    public void publish(List<Asset> assets, long modificationsBefore) {
+        Snapshot next = build(assets);
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                swap(modifications == modificationsBefore ? next : build(assetsRepository.findAll()));
+            }
+        });
+    }
+
+    private synchronized void swap(Snapshot next) {
+        searchIndex.update(snapshot != null ? snapshot.byId() : Map.of(), next.byId());
+        snapshot = next;
+    }
+
+    private static Snapshot build(List<Asset> assets) {
+        List<Asset> copies = new ArrayList<>(assets.size());
+        Map<Long, Asset> byId = new HashMap<>();
+        Map<String, Asset> bySymbol = new HashMap<>();
+        for (Asset asset : assets) {
+            Asset copy = new Asset(asset.getId(), asset.getSymbol(), asset.getPrice(), asset.getName());
+            copies.add(copy);
+            byId.put(copy.getId(), copy);
+            if (copy.getSymbol() != null) {
+                bySymbol.put(copy.getSymbol(), copy);
+            }
+        }
+        copies.sort(Comparator.comparing(Asset::getId));
+        return new Snapshot(List.copyOf(copies), Map.copyOf(byId), Map.copyOf(bySymbol));
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.stockmarketsimulator.model.UserWallet;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+// posiadacze każdego aktywa; serwisy zgłaszają zmienione portfele, a indeks przyjmuje ich stan po zatwierdzeniu
+@Component
+public class AssetHoldersIndex {
+
+    private record Holdings(long version, Set<Long> assetIds) {}
+
+    private final UserRepository userRepository;
+    private final Map<Long, Set<Long>> holders = new ConcurrentHashMap<>();
+    private final Map<Long, Holdings> wallets = new HashMap<>();
+
+    public AssetHoldersIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    // przed startem serwera WWW i harmonogramu, więc żadna zmiana portfela nie wyprzedzi wczytania
+    @PostConstruct
+    public void load() {
+        Map<Long, Long> versions = new HashMap<>();
+        Map<Long, Set<Long>> assetIds = new HashMap<>();
+        for (Object[] row : userRepository.findAssetHolders()) {
+            Long userId = (Long) row[1];
+            assetIds.computeIfAbsent(userId, id -> new HashSet<>()).add((Long) row[0]);
+            versions.put(userId, (Long) row[2]);
+        }
+        assetIds.forEach((userId, held) -> update(userId, versions.get(userId), held));
+    }
+
+    // wywoływane w transakcji zmieniającej portfel, raz na operację
+    public void walletChanged(UserWallet wallet) {
+        Long userId = wallet.getUser().getId();
+        // wersja portfela jest podbita przy zapisie, więc odczytujemy ją dopiero po zatwierdzeniu
+        TransactionHooks.afterCommit(() -> update(userId, wallet.getVersion(), Set.copyOf(wallet.getAssetIds())));
+    }
+
+    public void userRemoved(Long userId) {
+        TransactionHooks.afterCommit(() -> update(userId, Long.MAX_VALUE, Set.of()));
+    }
+
+    public Set<Long> holdersOf(Collection<Long> assetIds) {
+        Set<Long> result = new HashSet<>();
+        for (Long assetId : assetIds) {
+            Set<Long> users = holders.get(assetId);
+            if (users != null) {
+                result.addAll(users);
+            }
+        }
+        return result;
+    }
+
+    // zatwierdzenia z różnych wątków mogą dotrzeć w innej kolejności; starsza wersja portfela nie nadpisuje nowszej
+    private synchronized void update(Long userId, long version, Set<Long> assetIds) {
+        Holdings previous = wallets.get(userId);
+        if (previous != null && previous.version() > version) {
+            return;
+        }
+        Set<Long> before = previous != null ? previous.assetIds() : Set.of();
+        for (Long assetId : before) {
+            if (!assetIds.contains(assetId)) {
+                Set<Long> users = holders.get(assetId);
+                users.remove(userId);
+                if (users.isEmpty()) {
+                    holders.remove(assetId);
+                }
+            }
+        }
+        for (Long assetId : assetIds) {
+            if (!before.contains(assetId)) {
+                holders.computeIfAbsent(assetId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+            }
+        }
+        wallets.put(userId, new Holdings(version, assetIds));
+    }
+}
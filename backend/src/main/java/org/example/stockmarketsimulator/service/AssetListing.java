@@ -0,0 +1,66 @@
+package org.example.stockmarketsimulator.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// domyślna lista aktywów zserializowana raz na migawkę katalogu, razem z wariantem gzip
+@Component
+public class AssetListing {
+
+    // tablice są współdzielone przez wszystkie odpowiedzi - nie wolno ich modyfikować
+    public record Rendered(byte[] json, byte[] gzip) {}
+
+    private record Entry(AssetCatalog.Snapshot source, Rendered rendered) {}
+
+    private final AssetCatalog assetCatalog;
+    private final ObjectMapper objectMapper;
+    private volatile Entry current;
+
+    public AssetListing(AssetCatalog assetCatalog, ObjectMapper objectMapper) {
+        this.assetCatalog = assetCatalog;
+        this.objectMapper = objectMapper;
+    }
+
+    public Rendered rendered() {
+        AssetCatalog.Snapshot snapshot = assetCatalog.snapshot();
+        Entry entry = current;
+        if (entry != null && entry.source() == snapshot) {
+            return entry.rendered();
+        }
+        synchronized (this) {
+            entry = current;
+            if (entry == null || entry.source() != snapshot) {
+                entry = new Entry(snapshot, render(snapshot));
+                current = entry;
+            }
+            return entry.rendered();
+        }
+    }
+
+    // wywoływane przez cykl cen po podmianie katalogu, żeby pierwsze zapytanie nie płaciło za serializację
+    public void refresh() {
+        TransactionHooks.afterCommit(this::rendered);
+    }
+
+    private Rendered render(AssetCatalog.Snapshot snapshot) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(snapshot.assets());
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new Rendered(json, compressed.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Nie udało się zserializować listy aktywów", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package org.example.stockmarketsimulator.service;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,26 +11,20 @@ import java.util.Map;
 import org.example.stockmarketsimulator.config.RabbitConfig;
 import org.example.stockmarketsimulator.model.Asset;
 import org.example.stockmarketsimulator.model.AssetPriceHistory;
-import org.example.stockmarketsimulator.model.Transactions;
-import org.example.stockmarketsimulator.model.User;
-import org.example.stockmarketsimulator.model.UserWallet;
+import org.example.stockmarketsimulator.model.FixedPoint;
 import org.example.stockmarketsimulator.repository.AssetPriceHistoryRepository;
 import org.example.stockmarketsimulator.repository.AssetsRepository;
-import org.example.stockmarketsimulator.repository.TransactionsRepository;
-import org.example.stockmarketsimulator.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.annotation.PostConstruct;
@@ -35,9 +32,8 @@ import jakarta.annotation.PostConstruct;
 @Service
 public class AssetPriceFetcher {
 
-    private final RestTemplate restTemplate = new RestTemplate();
     private final AssetsRepository assetsRepository;
-    private final String API_TOKEN = "d0ln61hr01qpni305vj0d0ln61hr01qpni305vjg";
+    private final PriceFeed priceFeed;
     private final Logger logger = LoggerFactory.getLogger(AssetPriceFetcher.class);
 
     @Autowired
@@ -50,107 +46,121 @@ public class AssetPriceFetcher {
     private AssetPriceHistoryRepository assetPriceHistoryRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private PortfolioRevaluator portfolioRevaluator;
 
     @Autowired
-    private TransactionsRepository transactionsRepository;
+    private TickJournal tickJournal;
 
     @Autowired
-    public AssetPriceFetcher(AssetsRepository assetsRepository) {
-        this.assetsRepository = assetsRepository;
-    }
+    private PriceEpoch priceEpoch;
 
-    public Map<String, Double> fetchPrices(List<Asset> assets) {
-        Map<String, Double> prices = new HashMap<>();
+    @Autowired
+    private TriggerService triggerService;
 
-        for (Asset asset : assets) {
-            String symbol = asset.getSymbol();
+    @Autowired
+    private AssetCatalog assetCatalog;
 
-            String url = "https://finnhub.io/api/v1/quote?symbol=" + symbol + "&token=" + API_TOKEN;
+    @Autowired
+    private AssetListing assetListing;
 
-            try {
-                ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                        url, HttpMethod.GET, null,
-                        new ParameterizedTypeReference<>() {}
-                );
+    @Autowired
+    private CandleRollup candleRollup;
 
-                Map<String, Object> quote = response.getBody();
-                if (quote != null && quote.get("c") != null) {
-                    double price = ((Number) quote.get("c")).doubleValue();
-                    prices.put(symbol, price);
-                }
+    @Autowired
+    private PriceHistoryBuffer priceHistoryBuffer;
 
-            } catch (Exception e) {
-                logger.warn("Błąd podczas pobierania ceny dla symbolu {}: {}", symbol, e.getMessage());
-            }
-        }
+    @Value("${prices.replay.file:}")
+    private String replayFile;
 
-        return prices;
+    @Autowired
+    public AssetPriceFetcher(AssetsRepository assetsRepository, PriceFeed priceFeed) {
+        this.assetsRepository = assetsRepository;
+        this.priceFeed = priceFeed;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void recalculateAllUsersProfit() {
-        List<User> users = userRepository.findAll();
-        for (User user : users) {
-            double profit = 0.0;
-            UserWallet wallet = user.getWallet();
-            if (wallet != null) {
-                List<Transactions> userTransactions = transactionsRepository.findByUserOrderByTimestampDesc(user);
-                for (Map.Entry<Long, Double> entry : wallet.getAssets().entrySet()) {
-                    Long assetId = entry.getKey();
-                    Double amount = entry.getValue();
-                    Asset asset = assetsRepository.findById(assetId).orElse(null);
-                    if (asset == null) continue;
-
-                    double spent = userTransactions.stream()
-                        .filter(t -> t.getAsset().getId().equals(assetId) && t.getType() == Transactions.TransactionType.BUY)
-                        .mapToDouble(t -> t.getAmount() * t.getPrice()).sum()
-                        -
-                        userTransactions.stream()
-                        .filter(t -> t.getAsset().getId().equals(assetId) && t.getType() == Transactions.TransactionType.SELL)
-                        .mapToDouble(t -> t.getAmount() * t.getPrice()).sum();
-
-                    double currentValue = amount * asset.getPrice();
-                    profit += currentValue - spent;
-                }
-            }
-            user.setProfit(profit);
-            userRepository.save(user);
-        }
+    public Map<String, Double> fetchPrices(List<Asset> assets) {
+        return priceFeed.fetchPrices(assets);
     }
 
-    @Scheduled(fixedDelay = 30000)
+    @Scheduled(fixedDelayString = "${prices.update-interval-ms:30000}")
     @PostConstruct
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void updateAssetPrices() {
+        if (!replayFile.isBlank()) {
+            return;
+        }
         try {
+            long catalogModifications = assetCatalog.modifications();
             List<Asset> assets = assetsRepository.findAll();
             Map<String, Double> prices = fetchPrices(assets);
 
-            for (Asset asset : assets) {
-                Double newPrice = prices.get(asset.getSymbol());
-                if (newPrice != null) {
-                    asset.setPrice(newPrice);
-                    AssetPriceHistory history = new AssetPriceHistory(asset, newPrice, LocalDateTime.now());
-                    assetPriceHistoryRepository.save(history);
-                }
-            }
+            Instant cycle = cycleTimestamp();
+            applyPrices(assets, prices, catalogModifications, cycle);
+            logger.info("Ceny aktywów zostały zaktualizowane: {} aktualnych, {} nieaktualnych",
+                    prices.size(), assets.size() - prices.size());
+            // do dziennika trafiają tylko zatwierdzone cykle, z tym samym znacznikiem co historia
+            TransactionHooks.afterCommit(() -> tickJournal.record(cycle.toEpochMilli(), prices));
 
-            assetsRepository.saveAll(assets);
-            logger.info("Ceny aktywów zostały zaktualizowane");
-            for (Asset asset : assets) {
-                if (prices.containsKey(asset.getSymbol())) {
-                    String message = objectMapper.writeValueAsString(asset);
-                    amqpTemplate.convertAndSend(RabbitConfig.EXCHANGE, "asset.price.updated", message);
-                    logger.debug("Wysłano wiadomość do kolejki: {}", message);
+        } catch (Exception e) {
+            logger.error("Błąd podczas aktualizacji cen aktywów: {}", e.getMessage());
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void replayPrices(Map<String, Double> prices) {
+        try {
+            long catalogModifications = assetCatalog.modifications();
+            applyPrices(assetsRepository.findAll(), prices, catalogModifications, cycleTimestamp());
+        } catch (Exception e) {
+            logger.error("Błąd podczas odtwarzania cen aktywów: {}", e.getMessage());
+        }
+    }
+
+    // jeden odczyt zegara na cykl, z dokładnością kolumny w bazie: historia, bufor, świece i dziennik dostają ten sam moment
+    private static Instant cycleTimestamp() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private void applyPrices(List<Asset> assets, Map<String, Double> prices, long catalogModifications, Instant cycle)
+            throws JsonProcessingException {
+        Map<Long, Double> changedPrices = new HashMap<>();
+        Map<Long, Long> recorded = new HashMap<>();
+        Map<Long, Double> ticks = new HashMap<>();
+        LocalDateTime now = LocalDateTime.ofInstant(cycle, ZoneId.systemDefault());
+        for (Asset asset : assets) {
+            Double newPrice = prices.get(asset.getSymbol());
+            if (newPrice != null) {
+                if (FixedPoint.toMoney(newPrice) != asset.getPriceUnits()) {
+                    changedPrices.put(asset.getId(), newPrice);
                 }
+                asset.setPrice(newPrice);
+                AssetPriceHistory history = new AssetPriceHistory(asset, newPrice, now);
+                assetPriceHistoryRepository.save(history);
+                recorded.put(asset.getId(), asset.getPriceUnits());
+                ticks.put(asset.getId(), newPrice);
             }
+        }
 
-            recalculateAllUsersProfit();
+        assetsRepository.saveAll(assets);
+        assetCatalog.publish(assets, catalogModifications);
+        assetListing.refresh();
+        for (Asset asset : assets) {
+            if (prices.containsKey(asset.getSymbol())) {
+                String message = objectMapper.writeValueAsString(asset);
+                amqpTemplate.convertAndSend(RabbitConfig.EXCHANGE, "asset.price.updated", message);
+                logger.debug("Wysłano wiadomość do kolejki: {}", message);
+            }
+        }
 
-        } catch (Exception e) {
-            logger.error("Błąd podczas aktualizacji cen aktywów: {}", e.getMessage());
+        candleRollup.record(recorded, cycle.toEpochMilli());
+        priceHistoryBuffer.record(ticks, now);
+        if (!recorded.isEmpty()) {
+            priceEpoch.advanceHistory(recorded.keySet());
         }
+        if (!changedPrices.isEmpty()) {
+            priceEpoch.advance();
+            triggerService.onPricesChanged(changedPrices);
+        }
+        portfolioRevaluator.revalue(assets, changedPrices.keySet());
     }
 }
-
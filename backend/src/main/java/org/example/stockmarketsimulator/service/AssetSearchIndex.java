@@ -0,0 +1,250 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.example.stockmarketsimulator.model.Asset;
+
+// indeks wyszukiwania po symbolu i nazwie: drzewo prefiksowe dla podpowiedzi i n-gramy dla dopasowań w środku tekstu
+class AssetSearchIndex {
+
+    // n-gramy o długości od 1 do GRAM, dłuższe zapytania zawężamy przecięciem trigramów
+    private static final int GRAM = 3;
+
+    // kolejność w rankingu: dokładny symbol, początek symbolu, początek słowa nazwy, dowolny fragment
+    private static final int EXACT_SYMBOL = 0;
+    private static final int SYMBOL_PREFIX = 1;
+    private static final int WORD_PREFIX = 2;
+    private static final int SUBSTRING = 3;
+
+    private record Entry(long id, String symbol, String name) {}
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        // liczba kluczy aktywa przechodzących przez węzeł (cała nazwa i jej pierwsze słowo mają wspólny prefiks)
+        private final Map<Long, Integer> ids = new HashMap<>();
+    }
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Node symbolTrie = new Node();
+    private final Node wordTrie = new Node();
+    private final Map<String, Set<Long>> grams = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // przyrostowo: przeindeksowujemy tylko aktywa dodane, usunięte lub ze zmienionym symbolem albo nazwą
+    void update(Map<Long, Asset> previous, Map<Long, Asset> next) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : previous.keySet()) {
+                if (!next.containsKey(id)) {
+                    remove(id);
+                }
+            }
+            for (Asset asset : next.values()) {
+                Entry current = entries.get(asset.getId());
+                Entry updated = new Entry(asset.getId(), lower(asset.getSymbol()), lower(asset.getName()));
+                if (current != null && current.equals(updated)) {
+                    continue;
+                }
+                if (current != null) {
+                    remove(asset.getId());
+                }
+                add(updated);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // wszystkie aktywa, których symbol lub nazwa zawiera zapytanie (bez rozróżniania wielkości liter)
+    Set<Long> matching(String query) {
+        String q = lower(query);
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(substringMatches(q));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // najlepiej dopasowane aktywa do podpowiedzi, najwyżej limit wyników
+    List<Long> search(String query, int limit) {
+        String q = lower(query);
+        lock.readLock().lock();
+        try {
+            Comparator<Entry> ranking = Comparator.<Entry>comparingInt(entry -> rank(entry, q))
+                    .thenComparingInt(entry -> entry.symbol().length())
+                    .thenComparing(Entry::symbol)
+                    .thenComparingLong(Entry::id);
+            // kopiec ograniczony do limitu: na szczycie najgorszy z dotychczas wybranych
+            PriorityQueue<Entry> best = new PriorityQueue<>(limit + 1, ranking.reversed());
+
+            Set<Long> prefixed = new HashSet<>(find(symbolTrie, q));
+            prefixed.addAll(find(wordTrie, q));
+            offer(best, prefixed, ranking, limit);
+            // dopasowania w środku tekstu są zawsze niżej niż prefiksy, więc liczymy je tylko przy niepełnej liście
+            if (best.size() < limit) {
+                Set<Long> rest = new HashSet<>(substringMatches(q));
+                rest.removeAll(prefixed);
+                offer(best, rest, ranking, limit);
+            }
+
+            List<Entry> ranked = new ArrayList<>(best);
+            ranked.sort(ranking);
+            List<Long> ids = new ArrayList<>(ranked.size());
+            for (Entry entry : ranked) {
+                ids.add(entry.id());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void offer(PriorityQueue<Entry> best, Set<Long> ids, Comparator<Entry> ranking, int limit) {
+        for (Long id : ids) {
+            Entry entry = entries.get(id);
+            if (best.size() < limit) {
+                best.add(entry);
+            } else if (ranking.compare(entry, best.peek()) < 0) {
+                best.poll();
+                best.add(entry);
+            }
+        }
+    }
+
+    private static int rank(Entry entry, String q) {
+        if (entry.symbol().equals(q)) {
+            return EXACT_SYMBOL;
+        }
+        if (entry.symbol().startsWith(q)) {
+            return SYMBOL_PREFIX;
+        }
+        for (String word : words(entry.name())) {
+            if (word.startsWith(q)) {
+                return WORD_PREFIX;
+            }
+        }
+        return SUBSTRING;
+    }
+
+    private Set<Long> substringMatches(String q) {
+        if (q.isEmpty()) {
+            return entries.keySet();
+        }
+        if (q.length() <= GRAM) {
+            return grams.getOrDefault(q, Set.of());
+        }
+        // przecięcie zaczynamy od najmniejszej listy; trigramy mogą dać fałszywe trafienia, więc sprawdzamy kandydatów
+        List<Set<Long>> postings = new ArrayList<>();
+        for (int i = 0; i + GRAM <= q.length(); i++) {
+            postings.add(grams.getOrDefault(q.substring(i, i + GRAM), Set.of()));
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>();
+        for (Long id : postings.get(0)) {
+            Entry entry = entries.get(id);
+            if (entry.symbol().contains(q) || entry.name().contains(q)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static Set<Long> find(Node root, String q) {
+        Node node = root;
+        for (int i = 0; i < q.length() && node != null; i++) {
+            node = node.children.get(q.charAt(i));
+        }
+        return node != null ? node.ids.keySet() : Set.of();
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id(), entry);
+        insert(symbolTrie, entry.symbol(), entry.id());
+        for (String word : words(entry.name())) {
+            insert(wordTrie, word, entry.id());
+        }
+        for (String gram : gramsOf(entry)) {
+            grams.computeIfAbsent(gram, g -> new HashSet<>()).add(entry.id());
+        }
+    }
+
+    private void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        delete(symbolTrie, entry.symbol(), id);
+        for (String word : words(entry.name())) {
+            delete(wordTrie, word, id);
+        }
+        for (String gram : gramsOf(entry)) {
+            Set<Long> ids = grams.get(gram);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                grams.remove(gram);
+            }
+        }
+    }
+
+    private static void insert(Node root, String key, long id) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            node.ids.merge(id, 1, Integer::sum);
+        }
+    }
+
+    private static void delete(Node node, String key, long id) {
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                return;
+            }
+            child.ids.computeIfPresent(id, (entryId, count) -> count > 1 ? count - 1 : null);
+            if (child.ids.isEmpty()) {
+                // w poddrzewie nie ma już żadnego aktywa
+                node.children.remove(key.charAt(i));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    private static Set<String> gramsOf(Entry entry) {
+        Set<String> result = new HashSet<>();
+        for (String text : List.of(entry.symbol(), entry.name())) {
+            for (int n = 1; n <= GRAM; n++) {
+                for (int i = 0; i + n <= text.length(); i++) {
+                    result.add(text.substring(i, i + n));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> words(String name) {
+        Set<String> words = new HashSet<>();
+        words.add(name);
+        for (String word : name.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static String lower(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
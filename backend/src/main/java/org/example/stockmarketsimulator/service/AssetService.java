@@ -3,27 +3,56 @@ package org.example.stockmarketsimulator.service;
 import org.example.stockmarketsimulator.exception.BadRequestException;
 import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
 import org.example.stockmarketsimulator.model.Asset;
-import org.example.stockmarketsimulator.model.AssetPriceHistory;
+import org.example.stockmarketsimulator.model.AssetCandle;
+import org.example.stockmarketsimulator.repository.AssetCandleRepository;
 import org.example.stockmarketsimulator.repository.AssetPriceHistoryRepository;
 import org.example.stockmarketsimulator.repository.AssetsRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 public class AssetService {
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int DEFAULT_PAGE_LIMIT = 50;
+    private static final int MAX_PAGE_LIMIT = 200;
+    private static final int DEFAULT_CANDLES = 300;
+    private static final int MAX_CANDLES = 1000;
+
     private final AssetsRepository assetsRepository;
+    private final PriceHistoryBuffer priceHistoryBuffer;
+    private final PriceEpoch priceEpoch;
+    private final AssetCatalog assetCatalog;
+    private final AssetCandleRepository assetCandleRepository;
     private final AssetPriceHistoryRepository assetPriceHistoryRepository;
 
     public AssetService(AssetsRepository assetsRepository,
+                       PriceHistoryBuffer priceHistoryBuffer,
+                       PriceEpoch priceEpoch,
+                       AssetCatalog assetCatalog,
+                       AssetCandleRepository assetCandleRepository,
                        AssetPriceHistoryRepository assetPriceHistoryRepository) {
         this.assetsRepository = assetsRepository;
+        this.priceHistoryBuffer = priceHistoryBuffer;
+        this.priceEpoch = priceEpoch;
+        this.assetCatalog = assetCatalog;
+        this.assetCandleRepository = assetCandleRepository;
         this.assetPriceHistoryRepository = assetPriceHistoryRepository;
     }
 
     public Map<String, Object> getAssets(String search, String sortBy, String sortDirection, Integer page, Integer size) {
-        List<Asset> assets = assetsRepository.findAll();
+        List<Asset> assets = assetCatalog.all();
 
         assets = filterAssets(assets, search);
         assets = sortAssets(assets, sortBy, sortDirection);
@@ -39,13 +68,97 @@ public class AssetService {
         if (search == null || search.isEmpty()) {
             return assets;
         }
+        return assetCatalog.matching(search);
+    }
 
-        String searchLower = search.toLowerCase();
-        return assets.stream()
-                .filter(asset ->
-                        asset.getSymbol().toLowerCase().contains(searchLower) ||
-                        asset.getName().toLowerCase().contains(searchLower))
-                .collect(Collectors.toList());
+    public List<Asset> searchAssets(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Zapytanie nie może być puste");
+        }
+        int max = limit != null ? limit : DEFAULT_SEARCH_LIMIT;
+        if (max < 1 || max > MAX_SEARCH_LIMIT) {
+            throw new BadRequestException("Limit wyników musi mieścić się w zakresie 1-" + MAX_SEARCH_LIMIT);
+        }
+        return assetCatalog.search(query.strip(), max);
+    }
+
+    // lista z kursorem: filtr, sortowanie i limit wykonuje baza, więc dalsze strony kosztują tyle co pierwsza
+    public Map<String, Object> listAssets(String search, String sortBy, String sortDirection,
+                                          Integer limit, String cursor, boolean includeTotal) {
+        String property = sortProperty(sortBy);
+        Sort.Direction direction = sortDirection == null || sortDirection.equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC : Sort.Direction.DESC;
+        int max = limit != null ? limit : DEFAULT_PAGE_LIMIT;
+        if (max < 1 || max > MAX_PAGE_LIMIT) {
+            throw new BadRequestException("Limit wyników musi mieścić się w zakresie 1-" + MAX_PAGE_LIMIT);
+        }
+
+        Sort sort = property.equals("id")
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, property).and(Sort.by(direction, "id"));
+        ScrollPosition position = cursor == null || cursor.isEmpty()
+                ? ScrollPosition.keyset()
+                : decodeCursor(cursor, property, direction);
+        boolean filtered = search != null && !search.isEmpty();
+
+        Window<Asset> window = filtered
+                ? assetsRepository.findBySymbolContainingIgnoreCaseOrNameContainingIgnoreCase(search, search, position, sort, Limit.of(max))
+                : assetsRepository.findAllBy(position, sort, Limit.of(max));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", window.getContent());
+        response.put("size", max);
+        response.put("nextCursor", window.hasNext() && !window.isEmpty()
+                ? encodeCursor(window.getContent().get(window.size() - 1), property, direction)
+                : null);
+        if (includeTotal) {
+            response.put("totalElements", filtered
+                    ? assetsRepository.countBySymbolContainingIgnoreCaseOrNameContainingIgnoreCase(search, search)
+                    : assetsRepository.count());
+        }
+        return response;
+    }
+
+    private static String sortProperty(String sortBy) {
+        if (sortBy == null) {
+            return "id";
+        }
+        return switch (sortBy.toLowerCase()) {
+            case "price" -> "price";
+            case "name" -> "name";
+            case "id" -> "id";
+            default -> throw new BadRequestException("Nieprawidłowe pole sortowania, dozwolone: id, price, name");
+        };
+    }
+
+    // kursor zawiera sortowanie, dla którego powstał, oraz klucze ostatniego zwróconego aktywa
+    private static String encodeCursor(Asset last, String property, Sort.Direction direction) {
+        String value = switch (property) {
+            case "price" -> Long.toString(last.getPriceUnits());
+            case "name" -> last.getName();
+            default -> "";
+        };
+        String raw = property + "|" + direction + "|" + last.getId() + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ScrollPosition decodeCursor(String cursor, String property, Sort.Direction direction) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+            if (parts.length != 4 || !parts[0].equals(property) || !parts[1].equals(direction.toString())) {
+                throw new BadRequestException("Kursor nie pasuje do sortowania");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            switch (property) {
+                case "price" -> keys.put("price", Long.parseLong(parts[3]));
+                case "name" -> keys.put("name", parts[3]);
+                default -> { }
+            }
+            keys.put("id", Long.parseLong(parts[2]));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Nieprawidłowy kursor");
+        }
     }
 
     private List<Asset> sortAssets(List<Asset> assets, String sortBy, String sortDirection) {
@@ -90,7 +203,11 @@ public class AssetService {
 
     public Asset createAsset(Asset asset) {
         validateAsset(asset);
-        return assetsRepository.save(asset);
+        Asset saved = assetsRepository.save(asset);
+        // katalog przed epoką: odpowiedź z nowym ETagiem nie może pochodzić ze starej migawki
+        assetCatalog.refresh();
+        priceEpoch.advance();
+        return saved;
     }
 
     private void validateAsset(Asset asset) {
@@ -99,29 +216,63 @@ public class AssetService {
         }
     }
 
+    // świece, historia i aktywo znikają razem albo wcale; bufor, katalog i epoka zmieniają się dopiero po zatwierdzeniu
+    @Transactional
     public void deleteAsset(Long id) {
-        if (!assetsRepository.existsById(id)) {
+        if (assetCatalog.find(id).isEmpty()) {
             throw new ResourceNotFoundException("Aktywo o ID " + id + " nie zostało znalezione.");
         }
+        assetCandleRepository.deleteByAssetId(id);
+        assetPriceHistoryRepository.deleteByAssetId(id);
         assetsRepository.deleteById(id);
+        priceHistoryBuffer.remove(id);
+        assetCatalog.refresh();
+        priceEpoch.advance();
     }
 
     public List<Map<String, Object>> getAssetHistory(Long id) {
-        Asset asset = assetsRepository.findById(id)
+        assetCatalog.find(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Aktywo nie zostało znalezione"));
+        return priceHistoryBuffer.history(id);
+    }
 
-        List<AssetPriceHistory> historyList = assetPriceHistoryRepository
-                .findTop30ByAssetOrderByTimestampDesc(asset);
-        
-        historyList.sort((a, b) -> a.getTimestamp().compareTo(b.getTimestamp()));
-
-        return historyList.stream()
-                .map(h -> {
-                    Map<String, Object> point = new HashMap<>();
-                    point.put("timestamp", h.getTimestamp().toString());
-                    point.put("price", h.getPrice());
-                    return point;
-                })
-                .collect(Collectors.toList());
+    // świece z gotowych agregatów: zakres domyślnie kończy się teraz i obejmuje DEFAULT_CANDLES przedziałów
+    public List<Map<String, Object>> getAssetCandles(Long id, String resolution, String from, String to) {
+        assetCatalog.find(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Aktywo nie zostało znalezione"));
+        AssetCandle.Resolution step = AssetCandle.Resolution.fromCode(resolution == null ? "1m" : resolution)
+                .orElseThrow(() -> new BadRequestException("Nieprawidłowa rozdzielczość, dozwolone: 1m, 5m, 1h, 1d"));
+
+        long end = to != null ? parseInstant(to) : System.currentTimeMillis();
+        long start = from != null ? parseInstant(from) : end - step.getMillis() * (DEFAULT_CANDLES - 1);
+        if (start > end) {
+            throw new BadRequestException("Początek zakresu nie może być późniejszy niż koniec");
+        }
+        long first = step.bucketOf(start);
+        if ((end - first) / step.getMillis() >= MAX_CANDLES) {
+            throw new BadRequestException("Zakres obejmuje więcej niż " + MAX_CANDLES + " świec, wybierz większą rozdzielczość");
+        }
+
+        List<Map<String, Object>> candles = new ArrayList<>();
+        for (AssetCandle candle : assetCandleRepository
+                .findByAssetIdAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(id, step, first, end)) {
+            Map<String, Object> point = new HashMap<>();
+            point.put("time", Instant.ofEpochMilli(candle.getBucketStart()).toString());
+            point.put("open", candle.getOpen());
+            point.put("high", candle.getHigh());
+            point.put("low", candle.getLow());
+            point.put("close", candle.getClose());
+            point.put("ticks", candle.getTicks());
+            candles.add(point);
+        }
+        return candles;
+    }
+
+    private static long parseInstant(String value) {
+        try {
+            return Instant.parse(value).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Nieprawidłowy format daty, oczekiwano ISO-8601 (np. 2024-06-01T12:00:00Z)");
+        }
     }
 }
@@ -0,0 +1,84 @@
+package org.example.stockmarketsimulator.service;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.example.stockmarketsimulator.model.AssetCandle;
+import org.example.stockmarketsimulator.model.FixedPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+
+// świece OHLC aktualizowane przyrostowo przy każdym ticku, zamiast agregować surową historię przy odczycie
+@Service
+public class CandleRollup {
+
+    // ticki przychodzą w kolejności z jednego wątku cyklu cen, więc ostatni zapis jest ceną zamknięcia
+    private static final String UPSERT =
+            "insert into asset_candles (asset_id, resolution, bucket_start, open, high, low, close, ticks) " +
+            "values (?, ?, ?, ?, ?, ?, ?, 1) " +
+            "on conflict (asset_id, resolution, bucket_start) do update set " +
+            "high = greatest(asset_candles.high, excluded.high), " +
+            "low = least(asset_candles.low, excluded.low), " +
+            "close = excluded.close, " +
+            "ticks = asset_candles.ticks + 1";
+
+    // historia zapisuje czas lokalny serwera; przedziały świec liczymy w UTC
+    private static final String BACKFILL =
+            "insert into asset_candles (asset_id, resolution, bucket_start, open, high, low, close, ticks) " +
+            "select asset_id, ?, bucket, (array_agg(price order by ts, id))[1], max(price), min(price), " +
+            "(array_agg(price order by ts desc, id desc))[1], count(*) " +
+            "from (select h.id, h.asset_id, h.timestamp as ts, round(h.price * " + FixedPoint.MONEY_SCALE + ")::bigint as price, " +
+            "floor(extract(epoch from h.timestamp at time zone ?) * 1000 / ?)::bigint * ? as bucket " +
+            "from asset_price_history h) ticks " +
+            "group by asset_id, bucket";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Logger logger = LoggerFactory.getLogger(CandleRollup.class);
+
+    public CandleRollup(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // jednorazowo przy pierwszym uruchomieniu: świece z historii zapisanej przed wprowadzeniem agregacji
+    @PostConstruct
+    public void backfill() {
+        Boolean hasCandles = jdbcTemplate.queryForObject("select exists (select 1 from asset_candles)", Boolean.class);
+        Boolean hasHistory = jdbcTemplate.queryForObject("select exists (select 1 from asset_price_history)", Boolean.class);
+        if (Boolean.TRUE.equals(hasCandles) || !Boolean.TRUE.equals(hasHistory)) {
+            return;
+        }
+        String zone = ZoneId.systemDefault().getId();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (AssetCandle.Resolution resolution : AssetCandle.Resolution.values()) {
+                int created = jdbcTemplate.update(BACKFILL, resolution.name(), zone, resolution.getMillis(), resolution.getMillis());
+                logger.info("Utworzono {} świec {} z historii cen", created, resolution.getCode());
+            }
+        });
+    }
+
+    // wywoływane w transakcji cyklu cen: jeden zapis wsadowy dla wszystkich aktywów i rozdzielczości
+    public void record(Map<Long, Long> prices, long timestampMillis) {
+        if (prices.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(prices.size() * AssetCandle.Resolution.values().length);
+        for (Map.Entry<Long, Long> price : prices.entrySet()) {
+            for (AssetCandle.Resolution resolution : AssetCandle.Resolution.values()) {
+                long units = price.getValue();
+                rows.add(new Object[] {price.getKey(), resolution.name(), resolution.bucketOf(timestampMillis),
+                        units, units, units, units});
+            }
+        }
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+    }
+}
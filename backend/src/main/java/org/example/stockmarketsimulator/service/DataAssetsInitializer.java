@@ -12,10 +12,12 @@ import java.util.List;
 public class DataAssetsInitializer {
 
     private final AssetsRepository assetsRepository;
+    private final AssetCatalog assetCatalog;
 
     @Autowired
-    public DataAssetsInitializer(AssetsRepository assetsRepository) {
+    public DataAssetsInitializer(AssetsRepository assetsRepository, AssetCatalog assetCatalog) {
         this.assetsRepository = assetsRepository;
+        this.assetCatalog = assetCatalog;
     }
 
     @PostConstruct
@@ -73,6 +75,7 @@ public class DataAssetsInitializer {
             asset10.setPrice(0.0);
 
             assetsRepository.saveAll(List.of(asset1, asset2, asset3, asset4, asset5, asset6, asset7, asset8, asset9, asset10));
+            assetCatalog.refresh();
         }
     }
 }
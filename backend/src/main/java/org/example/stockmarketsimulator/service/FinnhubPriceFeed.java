@@ -0,0 +1,148 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+@Service
+@ConditionalOnProperty(name = "prices.feed", havingValue = "finnhub", matchIfMissing = true)
+public class FinnhubPriceFeed implements PriceFeed {
+
+    private final RestTemplate restTemplate;
+    private final String fetchMode;
+    private final long symbolTimeoutMs;
+    private final long cycleDeadlineMs;
+    private final int maxConcurrency;
+    private final String API_TOKEN = "d0ln61hr01qpni305vj0d0ln61hr01qpni305vjg";
+    private final Logger logger = LoggerFactory.getLogger(FinnhubPriceFeed.class);
+
+    public FinnhubPriceFeed(@Value("${prices.fetch.mode:sequential}") String fetchMode,
+                            @Value("${prices.fetch.symbol-timeout-ms:5000}") long symbolTimeoutMs,
+                            @Value("${prices.fetch.cycle-deadline-ms:20000}") long cycleDeadlineMs,
+                            @Value("${prices.fetch.max-concurrency:10}") int maxConcurrency) {
+        this.fetchMode = fetchMode;
+        this.symbolTimeoutMs = symbolTimeoutMs;
+        this.cycleDeadlineMs = cycleDeadlineMs;
+        this.maxConcurrency = maxConcurrency;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) symbolTimeoutMs);
+        requestFactory.setReadTimeout((int) symbolTimeoutMs);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @Override
+    public Map<String, Double> fetchPrices(List<Asset> assets) {
+        if ("concurrent".equalsIgnoreCase(fetchMode)) {
+            return fetchPricesConcurrently(assets);
+        }
+
+        Map<String, Double> prices = new HashMap<>();
+        long deadline = System.currentTimeMillis() + cycleDeadlineMs;
+
+        for (Asset asset : assets) {
+            if (System.currentTimeMillis() >= deadline) {
+                logger.warn("Przekroczono limit czasu cyklu pobierania cen ({} ms)", cycleDeadlineMs);
+                break;
+            }
+            Double price = fetchQuote(asset.getSymbol());
+            if (price != null) {
+                prices.put(asset.getSymbol(), price);
+            }
+        }
+
+        return prices;
+    }
+
+    private Map<String, Double> fetchPricesConcurrently(List<Asset> assets) {
+        Map<String, Double> prices = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        // Finnhub ogranicza liczbę zapytań, więc w locie jest najwyżej maxConcurrency symboli;
+        // limit czasu symbolu liczy się od zajęcia pozwolenia, nie od czekania w kolejce
+        Semaphore permits = new Semaphore(maxConcurrency);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[0];
+
+        try {
+            futures = assets.stream()
+                    .map(Asset::getSymbol)
+                    .map(symbol -> CompletableFuture.runAsync(() -> acquire(permits), executor)
+                            .thenCompose(acquired -> CompletableFuture.runAsync(() -> {
+                                        try {
+                                            Double price = fetchQuote(symbol);
+                                            if (price != null) {
+                                                prices.put(symbol, price);
+                                            }
+                                        } finally {
+                                            permits.release();
+                                        }
+                                    }, executor)
+                                    .orTimeout(symbolTimeoutMs, TimeUnit.MILLISECONDS)))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).get(cycleDeadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Przekroczono limit czasu cyklu pobierania cen ({} ms), {} z {} symboli bez odpowiedzi",
+                    cycleDeadlineMs, Arrays.stream(futures).filter(future -> !future.isDone()).count(), futures.length);
+        } catch (ExecutionException e) {
+            // pojedyncze symbole, które nie zdążyły, zachowują poprzednią cenę
+            long failed = Arrays.stream(futures).filter(CompletableFuture::isCompletedExceptionally).count();
+            logger.warn("Nie pobrano cen {} z {} symboli, zachowują poprzednią cenę: {}",
+                    failed, futures.length, e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new HashMap<>(prices);
+    }
+
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Przerwano oczekiwanie na pobranie ceny", e);
+        }
+    }
+
+    private Double fetchQuote(String symbol) {
+        String url = "https://finnhub.io/api/v1/quote?symbol=" + symbol + "&token=" + API_TOKEN;
+
+        try {
+            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                    url, HttpMethod.GET, null,
+                    new ParameterizedTypeReference<>() {}
+            );
+
+            Map<String, Object> quote = response.getBody();
+            if (quote != null && quote.get("c") != null) {
+                return ((Number) quote.get("c")).doubleValue();
+            }
+        } catch (Exception e) {
+            logger.warn("Błąd podczas pobierania ceny dla symbolu {}: {}", symbol, e.getMessage());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.model.User;
+import org.example.stockmarketsimulator.model.UserWallet;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(name = "profit.engine", havingValue = "jpa", matchIfMissing = true)
+public class HoldersPortfolioRevaluator implements PortfolioRevaluator {
+
+    private final UserRepository userRepository;
+    private final AssetHoldersIndex assetHoldersIndex;
+    private final Logger logger = LoggerFactory.getLogger(HoldersPortfolioRevaluator.class);
+
+    public HoldersPortfolioRevaluator(UserRepository userRepository, AssetHoldersIndex assetHoldersIndex) {
+        this.userRepository = userRepository;
+        this.assetHoldersIndex = assetHoldersIndex;
+    }
+
+    @Override
+    public void revalue(List<Asset> assets, Set<Long> changedAssetIds) {
+        if (changedAssetIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> prices = new HashMap<>();
+        for (Asset asset : assets) {
+            prices.put(asset.getId(), asset.getPriceUnits());
+        }
+
+        List<User> users = userRepository.findAllById(assetHoldersIndex.holdersOf(changedAssetIds));
+        for (User user : users) {
+            UserWallet wallet = user.getWallet();
+            if (wallet != null && !wallet.isCostBasisTracked()) {
+                continue;
+            }
+            userRepository.updateProfit(user.getId(), wallet != null ? wallet.calculateProfitUnits(prices) : 0L);
+        }
+        logger.debug("Przeliczono zysk dla {} posiadaczy {} zmienionych aktywów", users.size(), changedAssetIds.size());
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.stockmarketsimulator.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.example.stockmarketsimulator.exception.BadRequestException;
+import org.example.stockmarketsimulator.exception.UnprocessableEntityException;
+import org.example.stockmarketsimulator.model.IdempotencyRecord;
+import org.example.stockmarketsimulator.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    public record Result(Object body, boolean replayed) {}
+
+    private record CachedResponse(String operation, String requestHash, String response, Instant createdAt) {}
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Map<String, CachedResponse> cache;
+    private final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${idempotency.ttl-minutes:1440}") long ttlMinutes,
+                              @Value("${idempotency.cache.max-entries:10000}") int maxEntries) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        // LRU w kolejności dostępu; najdawniej używany klucz wypada po przekroczeniu limitu
+        this.cache = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // request to sparsowane parametry operacji; ich skrót odróżnia ponowienie od innego żądania z tym samym kluczem
+    public Result execute(Long userId, String key, String operation, Object request, Supplier<?> work) {
+        if (key == null || key.isBlank()) {
+            return new Result(work.get(), false);
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Klucz idempotencji może mieć maksymalnie " + MAX_KEY_LENGTH + " znaków");
+        }
+
+        String id = userId + ":" + key;
+        String requestHash = hash(request);
+        CachedResponse stored = lookup(id);
+        if (stored != null) {
+            if (!stored.operation().equals(operation)) {
+                throw new BadRequestException("Klucz idempotencji został już użyty dla innej operacji");
+            }
+            // rekordy sprzed wprowadzenia skrótu nie mają go i są odtwarzane bez porównania
+            if (stored.requestHash() != null && !stored.requestHash().equals(requestHash)) {
+                throw new UnprocessableEntityException("Klucz idempotencji został już użyty z innymi parametrami żądania");
+            }
+            return new Result(readResponse(stored.response()), true);
+        }
+
+        // zapis klucza w tej samej transakcji co operacja: albo jest oba, albo żadne
+        CachedResponse created = transactionTemplate.execute(status -> {
+            String response = writeResponse(work.get());
+            IdempotencyRecord record = idempotencyRecordRepository.save(
+                    new IdempotencyRecord(id, operation, requestHash, response, Instant.now()));
+            return new CachedResponse(operation, requestHash, record.getResponse(), record.getCreatedAt());
+        });
+        remember(id, created);
+        return new Result(readResponse(created.response()), false);
+    }
+
+    private CachedResponse lookup(String id) {
+        Instant cutoff = Instant.now().minus(ttl);
+        synchronized (cache) {
+            CachedResponse cached = cache.get(id);
+            if (cached != null) {
+                if (cached.createdAt().isAfter(cutoff)) {
+                    return cached;
+                }
+                cache.remove(id);
+            }
+        }
+
+        return idempotencyRecordRepository.findById(id)
+                .filter(record -> record.getCreatedAt().isAfter(cutoff))
+                .map(record -> {
+                    CachedResponse loaded = new CachedResponse(record.getOperation(), record.getRequestHash(),
+                            record.getResponse(), record.getCreatedAt());
+                    remember(id, loaded);
+                    return loaded;
+                })
+                .orElse(null);
+    }
+
+    private void remember(String id, CachedResponse response) {
+        synchronized (cache) {
+            cache.put(id, response);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:3600000}")
+    public void evictExpired() {
+        Instant cutoff = Instant.now().minus(ttl);
+        synchronized (cache) {
+            cache.values().removeIf(cached -> !cached.createdAt().isAfter(cutoff));
+        }
+        int removed = idempotencyRecordRepository.deleteOlderThan(cutoff);
+        if (removed > 0) {
+            logger.info("Usunięto {} wygasłych kluczy idempotencji", removed);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Nie udało się obliczyć skrótu żądania dla klucza idempotencji", e);
+        }
+    }
+
+    private String writeResponse(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Nie udało się zapisać odpowiedzi dla klucza idempotencji", e);
+        }
+    }
+
+    private Object readResponse(String response) {
+        try {
+            return objectMapper.readValue(response, Object.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Nie udało się odczytać odpowiedzi dla klucza idempotencji", e);
+        }
+    }
+}
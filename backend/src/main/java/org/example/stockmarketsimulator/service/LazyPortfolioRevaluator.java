@@ -0,0 +1,19 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.List;
+import java.util.Set;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(name = "profit.engine", havingValue = "lazy")
+public class LazyPortfolioRevaluator implements PortfolioRevaluator {
+
+    @Override
+    public void revalue(List<Asset> assets, Set<Long> changedAssetIds) {
+        // wycena liczona przy odczycie w UserService i zapamiętywana w ValuationCache do zmiany epoki cen;
+        // kolumna users.profit zmienia się tylko przy transakcjach, więc odpowiedzi nie mogą jej zwracać wprost
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.stockmarketsimulator.service;
+
+import org.example.stockmarketsimulator.model.TradeOrder;
+
+public class LimitOrder {
+
+    private final long id;
+    private final long userId;
+    private final long assetId;
+    private final TradeOrder.Side side;
+    private final double price;
+    private double remaining;
+
+    public LimitOrder(long id, long userId, long assetId, TradeOrder.Side side, double price, double remaining) {
+        this.id = id;
+        this.userId = userId;
+        this.assetId = assetId;
+        this.side = side;
+        this.price = price;
+        this.remaining = remaining;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public long getAssetId() {
+        return assetId;
+    }
+
+    public TradeOrder.Side getSide() {
+        return side;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public double getRemaining() {
+        return remaining;
+    }
+
+    void reduce(double amount) {
+        remaining -= amount;
+    }
+}
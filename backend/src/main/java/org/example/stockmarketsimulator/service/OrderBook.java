@@ -0,0 +1,117 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.example.stockmarketsimulator.model.TradeOrder;
+
+// arkusz jednego aktywa; bez synchronizacji, modyfikuje go wyłącznie wątek dopasowujący tego aktywa
+public class OrderBook {
+
+    static final double EPSILON = 1e-9;
+
+    public sealed interface BookEvent permits Fill, Cancelled {}
+
+    // cena transakcji to cena zlecenia oczekującego; buyLimit pozwala zwrócić kupującemu nadwyżkę blokady
+    public record Fill(long assetId, long buyOrderId, long sellOrderId, double buyLimit, double price, double amount) implements BookEvent {}
+
+    public record Cancelled(long orderId, double remaining) implements BookEvent {}
+
+    private final long assetId;
+    private final TreeMap<Double, ArrayDeque<LimitOrder>> bids = new TreeMap<>(Comparator.reverseOrder());
+    private final TreeMap<Double, ArrayDeque<LimitOrder>> asks = new TreeMap<>();
+    private final Map<Long, LimitOrder> orders = new HashMap<>();
+
+    public OrderBook(long assetId) {
+        this.assetId = assetId;
+    }
+
+    public void submit(LimitOrder order, Consumer<BookEvent> events) {
+        boolean buy = order.getSide() == TradeOrder.Side.BUY;
+        TreeMap<Double, ArrayDeque<LimitOrder>> opposite = buy ? asks : bids;
+
+        while (order.getRemaining() > EPSILON && !opposite.isEmpty()) {
+            Map.Entry<Double, ArrayDeque<LimitOrder>> best = opposite.firstEntry();
+            double levelPrice = best.getKey();
+            if (buy ? levelPrice > order.getPrice() : levelPrice < order.getPrice()) {
+                break;
+            }
+
+            ArrayDeque<LimitOrder> level = best.getValue();
+            while (order.getRemaining() > EPSILON && !level.isEmpty()) {
+                LimitOrder resting = level.peekFirst();
+                if (resting.getUserId() == order.getUserId()) {
+                    // zapobieganie transakcjom z samym sobą: reszta nowego zlecenia jest anulowana, oczekujące zostaje
+                    events.accept(new Cancelled(order.getId(), order.getRemaining()));
+                    return;
+                }
+                double amount = Math.min(order.getRemaining(), resting.getRemaining());
+                order.reduce(amount);
+                resting.reduce(amount);
+
+                LimitOrder buyer = buy ? order : resting;
+                LimitOrder seller = buy ? resting : order;
+                events.accept(new Fill(assetId, buyer.getId(), seller.getId(), buyer.getPrice(), levelPrice, amount));
+
+                if (resting.getRemaining() <= EPSILON) {
+                    level.pollFirst();
+                    orders.remove(resting.getId());
+                }
+            }
+            if (level.isEmpty()) {
+                opposite.pollFirstEntry();
+            }
+        }
+
+        if (order.getRemaining() > EPSILON) {
+            (buy ? bids : asks).computeIfAbsent(order.getPrice(), p -> new ArrayDeque<>()).addLast(order);
+            orders.put(order.getId(), order);
+        }
+    }
+
+    public LimitOrder cancel(long orderId, Consumer<BookEvent> events) {
+        LimitOrder order = orders.remove(orderId);
+        if (order == null) {
+            return null;
+        }
+
+        TreeMap<Double, ArrayDeque<LimitOrder>> side = order.getSide() == TradeOrder.Side.BUY ? bids : asks;
+        ArrayDeque<LimitOrder> level = side.get(order.getPrice());
+        level.remove(order);
+        if (level.isEmpty()) {
+            side.remove(order.getPrice());
+        }
+        events.accept(new Cancelled(orderId, order.getRemaining()));
+        return order;
+    }
+
+    public Map<String, Object> depth(int levels) {
+        return Map.of(
+            "assetId", assetId,
+            "bids", levels(bids, levels),
+            "asks", levels(asks, levels)
+        );
+    }
+
+    private static List<Map<String, Object>> levels(NavigableMap<Double, ArrayDeque<LimitOrder>> side, int levels) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Map.Entry<Double, ArrayDeque<LimitOrder>> level : side.entrySet()) {
+            if (result.size() >= levels) {
+                break;
+            }
+            double amount = 0.0;
+            for (LimitOrder order : level.getValue()) {
+                amount += order.getRemaining();
+            }
+            result.add(Map.of("price", level.getKey(), "amount", amount, "orders", level.getValue().size()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// każde aktywo ma własny wątek dopasowujący; wątki HTTP tylko wrzucają zadania do jego kolejki
+public class OrderMatchingEngine {
+
+    private final Consumer<OrderBook.BookEvent> events;
+    private final Map<Long, AssetMatcher> matchers = new ConcurrentHashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(OrderMatchingEngine.class);
+
+    public OrderMatchingEngine(Consumer<OrderBook.BookEvent> events) {
+        this.events = events;
+    }
+
+    public void submit(LimitOrder order) {
+        AssetMatcher matcher = matcher(order.getAssetId());
+        matcher.execute(() -> matcher.book.submit(order, events));
+    }
+
+    public CompletableFuture<LimitOrder> cancel(long assetId, long orderId) {
+        AssetMatcher matcher = matcher(assetId);
+        CompletableFuture<LimitOrder> result = new CompletableFuture<>();
+        matcher.execute(() -> result.complete(matcher.book.cancel(orderId, events)));
+        return result;
+    }
+
+    public CompletableFuture<Map<String, Object>> depth(long assetId, int levels) {
+        AssetMatcher matcher = matcher(assetId);
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        matcher.execute(() -> result.complete(matcher.book.depth(levels)));
+        return result;
+    }
+
+    public void shutdown() {
+        matchers.values().forEach(matcher -> matcher.thread.interrupt());
+    }
+
+    private AssetMatcher matcher(long assetId) {
+        return matchers.computeIfAbsent(assetId, AssetMatcher::new);
+    }
+
+    private static final class AssetMatcher implements Runnable {
+
+        private final OrderBook book;
+        private final Queue<Runnable> inbox = new ConcurrentLinkedQueue<>();
+        private final Thread thread;
+
+        AssetMatcher(long assetId) {
+            this.book = new OrderBook(assetId);
+            this.thread = Thread.ofPlatform().name("matching-" + assetId).daemon().unstarted(this);
+            this.thread.start();
+        }
+
+        void execute(Runnable task) {
+            inbox.offer(task);
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                Runnable task = inbox.poll();
+                if (task == null) {
+                    // unpark przed park zostawia pozwolenie, więc zadanie dodane w międzyczasie nie zostanie zgubione
+                    LockSupport.park(this);
+                    continue;
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.error("Błąd w wątku dopasowującym {}: {}", thread.getName(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package org.example.stockmarketsimulator.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.example.stockmarketsimulator.exception.BadRequestException;
+import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.model.FixedPoint;
+import org.example.stockmarketsimulator.model.TradeOrder;
+import org.example.stockmarketsimulator.model.Transactions;
+import org.example.stockmarketsimulator.model.User;
+import org.example.stockmarketsimulator.model.UserWallet;
+import org.example.stockmarketsimulator.repository.TradeOrderRepository;
+import org.example.stockmarketsimulator.repository.TransactionsRepository;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class OrderService {
+
+    private static final long BOOK_TIMEOUT_MS = 5000;
+    private static final int SETTLEMENT_RETRIES = 5;
+
+    private final TradeOrderRepository tradeOrderRepository;
+    private final UserRepository userRepository;
+    private final AssetCatalog assetCatalog;
+    private final TransactionsRepository transactionsRepository;
+    private final UserService userService;
+    private final ReservationLedger reservationLedger;
+    private final AssetHoldersIndex assetHoldersIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int settlementBatchSize;
+    private final BlockingQueue<OrderBook.BookEvent> settlementQueue = new LinkedBlockingQueue<>();
+    private final OrderMatchingEngine matchingEngine = new OrderMatchingEngine(settlementQueue::add);
+    private Thread settlementThread;
+    private final Logger logger = LoggerFactory.getLogger(OrderService.class);
+
+    public OrderService(TradeOrderRepository tradeOrderRepository,
+                        UserRepository userRepository,
+                        AssetCatalog assetCatalog,
+                        TransactionsRepository transactionsRepository,
+                        UserService userService,
+                        ReservationLedger reservationLedger,
+                        AssetHoldersIndex assetHoldersIndex,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${orders.settlement.batch-size:500}") int settlementBatchSize) {
+        this.tradeOrderRepository = tradeOrderRepository;
+        this.userRepository = userRepository;
+        this.assetCatalog = assetCatalog;
+        this.transactionsRepository = transactionsRepository;
+        this.userService = userService;
+        this.reservationLedger = reservationLedger;
+        this.assetHoldersIndex = assetHoldersIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settlementBatchSize = settlementBatchSize;
+    }
+
+    // arkusze odtwarzamy przed startem serwera WWW: zlecenie złożone w trakcie odtwarzania trafiłoby do arkusza dwa razy
+    @PostConstruct
+    public void start() {
+        settlementThread = Thread.ofPlatform().name("order-settlement").daemon().start(this::settleLoop);
+        List<TradeOrder> open = tradeOrderRepository.findByStatusOrderByIdAsc(TradeOrder.Status.OPEN);
+        for (TradeOrder order : open) {
+            matchingEngine.submit(toLimitOrder(order));
+        }
+        if (!open.isEmpty()) {
+            logger.info("Odtworzono {} aktywnych zleceń w arkuszach", open.size());
+        }
+    }
+
+    @Transactional
+    public Map<String, Object> placeOrder(Long userId, String type, Long assetId, Double price, Double amount) {
+        TradeOrder.Side side = parseSide(type);
+        if (price == null || amount == null || price <= 0 || amount <= 0) {
+            throw new BadRequestException("Cena i ilość muszą być większe od zera");
+        }
+        userService.awaitJournalProjection(userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Użytkownik nie został znaleziony"));
+        Asset asset = assetCatalog.find(assetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Aktywo nie zostało znalezione"));
+
+        // kupujący blokuje gotówkę po cenie limitu, sprzedający nie może zlecić więcej niż ma poza innymi zleceniami
+        if (side == TradeOrder.Side.BUY) {
+            long reserved = FixedPoint.value(FixedPoint.toQuantity(amount), FixedPoint.toMoney(price));
+            reservationLedger.reserveCash(userId, reserved);
+            user.setAccountBalanceUnits(user.getAccountBalanceUnits() - reserved);
+        } else {
+            reservationLedger.reservePosition(userId, assetId, FixedPoint.toQuantity(amount));
+        }
+
+        TradeOrder order = tradeOrderRepository.save(new TradeOrder(user, asset, side, price, amount));
+        LimitOrder limitOrder = toLimitOrder(order);
+        TransactionHooks.afterCommit(() -> matchingEngine.submit(limitOrder));
+        return toMap(order);
+    }
+
+    public List<Map<String, Object>> getUserOrders(Long userId) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (TradeOrder order : tradeOrderRepository.findByUserIdOrderByIdDesc(userId)) {
+            result.add(toMap(order));
+        }
+        return result;
+    }
+
+    public Map<String, Object> cancelOrder(Long userId, Long orderId) {
+        TradeOrder order = tradeOrderRepository.findById(orderId)
+                .filter(o -> o.getUser().getId().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("Zlecenie nie zostało znalezione"));
+        if (order.getStatus() != TradeOrder.Status.OPEN) {
+            throw new BadRequestException("Zlecenie nie jest aktywne");
+        }
+
+        LimitOrder removed = awaitBook(matchingEngine.cancel(order.getAsset().getId(), orderId));
+        if (removed == null) {
+            throw new BadRequestException("Zlecenie nie jest aktywne");
+        }
+        // zwrot blokady i zmiana statusu następują w wątku rozliczeń, po wcześniejszych transakcjach tego zlecenia
+        return Map.of(
+            "id", orderId,
+            "status", TradeOrder.Status.CANCELLED.toString(),
+            "remaining", removed.getRemaining()
+        );
+    }
+
+    public Map<String, Object> getOrderBook(Long assetId, int levels) {
+        if (assetCatalog.find(assetId).isEmpty()) {
+            throw new ResourceNotFoundException("Aktywo nie zostało znalezione");
+        }
+        return awaitBook(matchingEngine.depth(assetId, Math.max(1, levels)));
+    }
+
+    private void settleLoop() {
+        List<OrderBook.BookEvent> batch = new ArrayList<>(settlementBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(settlementQueue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            settlementQueue.drainTo(batch, settlementBatchSize - 1);
+            try {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(this::settle));
+            } catch (RuntimeException e) {
+                // błędna pozycja nie może zablokować reszty paczki, więc rozliczamy je pojedynczo
+                logger.warn("Błąd rozliczenia paczki {} zdarzeń, rozliczanie pojedynczo: {}", batch.size(), e.getMessage());
+                for (OrderBook.BookEvent event : batch) {
+                    try {
+                        settleWithRetries(event);
+                    } catch (RuntimeException ex) {
+                        logger.error("Nie udało się rozliczyć zdarzenia {}: {}", event, ex.getMessage());
+                        failOrders(event);
+                    }
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void settleWithRetries(OrderBook.BookEvent event) {
+        // rozliczenie zmienia konta poza kolejką użytkownika, więc konflikt wersji z jego transakcją ponawiamy
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> settle(event));
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= SETTLEMENT_RETRIES) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void settle(OrderBook.BookEvent event) {
+        if (event instanceof OrderBook.Fill fill) {
+            settleFill(fill);
+        } else if (event instanceof OrderBook.Cancelled cancelled) {
+            settleCancel(cancelled);
+        }
+    }
+
+    private void settleFill(OrderBook.Fill fill) {
+        TradeOrder buyOrder = tradeOrderRepository.findById(fill.buyOrderId())
+                .orElseThrow(() -> new ResourceNotFoundException("Zlecenie " + fill.buyOrderId() + " nie zostało znalezione"));
+        TradeOrder sellOrder = tradeOrderRepository.findById(fill.sellOrderId())
+                .orElseThrow(() -> new ResourceNotFoundException("Zlecenie " + fill.sellOrderId() + " nie zostało znalezione"));
+        User buyer = buyOrder.getUser();
+        User seller = sellOrder.getUser();
+        Asset asset = buyOrder.getAsset();
+        long quantity = FixedPoint.toQuantity(fill.amount());
+        long price = FixedPoint.toMoney(fill.price());
+        long value = FixedPoint.value(quantity, price);
+        long escrowed = FixedPoint.value(quantity, FixedPoint.toMoney(fill.buyLimit()));
+
+        UserWallet buyerWallet = walletOf(buyer);
+        UserWallet sellerWallet = walletOf(seller);
+        // sprzedający mógł pozbyć się aktywa poza arkuszem; brak pokrycia zamyka oba zlecenia przez failOrders
+        if (sellerWallet.getAmountUnits(asset.getId()) < quantity) {
+            throw new IllegalStateException("Sprzedający ze zlecenia " + sellOrder.getId() + " nie posiada wystarczającej ilości aktywa");
+        }
+        userService.ensureCostBasisTracked(buyer, buyerWallet);
+        userService.ensureCostBasisTracked(seller, sellerWallet);
+
+        buyerWallet.addAssetUnits(asset.getId(), quantity);
+        buyerWallet.recordBuyUnits(asset.getId(), value);
+        buyer.setAccountBalanceUnits(buyer.getAccountBalanceUnits() + escrowed - value);
+
+        sellerWallet.removeAssetUnits(asset.getId(), quantity);
+        sellerWallet.recordSellUnits(asset.getId(), value);
+        seller.setAccountBalanceUnits(seller.getAccountBalanceUnits() + value);
+
+        reduceRemaining(buyOrder, fill.amount());
+        reduceRemaining(sellOrder, fill.amount());
+        saveTransaction(buyer, asset, quantity, price, Transactions.TransactionType.BUY);
+        saveTransaction(seller, asset, quantity, price, Transactions.TransactionType.SELL);
+        assetHoldersIndex.walletChanged(buyerWallet);
+        assetHoldersIndex.walletChanged(sellerWallet);
+
+        userService.recalculateProfit(buyer);
+        if (!seller.getId().equals(buyer.getId())) {
+            userService.recalculateProfit(seller);
+        }
+        reservationLedger.invalidate(buyer.getId());
+        reservationLedger.invalidate(seller.getId());
+    }
+
+    private void settleCancel(OrderBook.Cancelled cancelled) {
+        TradeOrder order = tradeOrderRepository.findById(cancelled.orderId())
+                .orElseThrow(() -> new ResourceNotFoundException("Zlecenie " + cancelled.orderId() + " nie zostało znalezione"));
+        if (order.getStatus() == TradeOrder.Status.OPEN) {
+            close(order, cancelled.remaining(), TradeOrder.Status.CANCELLED);
+        }
+    }
+
+    // zdarzenie, którego nie da się rozliczyć, zamyka jego zlecenia, żeby arkusz i baza dalej się nie rozjeżdżały
+    private void failOrders(OrderBook.BookEvent event) {
+        List<Long> orderIds = event instanceof OrderBook.Fill fill
+                ? List.of(fill.buyOrderId(), fill.sellOrderId())
+                : List.of(((OrderBook.Cancelled) event).orderId());
+        for (Long orderId : orderIds) {
+            try {
+                Long assetId = transactionTemplate.execute(status -> tradeOrderRepository.findById(orderId)
+                        .filter(order -> order.getStatus() == TradeOrder.Status.OPEN)
+                        .map(order -> {
+                            // w bazie zlecenie ma jeszcze stan sprzed nierozliczonego zdarzenia, więc zwracamy blokadę z bazy
+                            close(order, order.getRemaining(), TradeOrder.Status.FAILED);
+                            return order.getAsset().getId();
+                        })
+                        .orElse(null));
+                if (assetId != null) {
+                    // zdarzenie Cancelled z arkusza zostanie pominięte, bo zlecenie nie jest już aktywne
+                    matchingEngine.cancel(assetId, orderId);
+                    logger.warn("Zlecenie {} oznaczono jako nieudane po błędzie rozliczenia", orderId);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Nie udało się oznaczyć zlecenia {} jako nieudanego: {}", orderId, e.getMessage());
+            }
+        }
+    }
+
+    private void close(TradeOrder order, double remaining, TradeOrder.Status status) {
+        if (order.getSide() == TradeOrder.Side.BUY) {
+            User user = order.getUser();
+            user.setAccountBalanceUnits(user.getAccountBalanceUnits()
+                    + FixedPoint.value(FixedPoint.toQuantity(remaining), FixedPoint.toMoney(order.getLimitPrice())));
+        }
+        order.setRemaining(remaining);
+        order.setStatus(status);
+        reservationLedger.invalidate(order.getUser().getId());
+    }
+
+    private void reduceRemaining(TradeOrder order, double amount) {
+        double remaining = order.getRemaining() - amount;
+        if (remaining <= OrderBook.EPSILON) {
+            order.setRemaining(0.0);
+            order.setStatus(TradeOrder.Status.FILLED);
+        } else {
+            order.setRemaining(remaining);
+        }
+    }
+
+    private UserWallet walletOf(User user) {
+        if (user.getWallet() == null) {
+            user.setWallet(new UserWallet(user));
+        }
+        return user.getWallet();
+    }
+
+    private void saveTransaction(User user, Asset asset, long quantity, long price, Transactions.TransactionType type) {
+        Transactions transaction = new Transactions();
+        transaction.setUser(user);
+        transaction.setAsset(asset);
+        transaction.setAmountUnits(quantity);
+        transaction.setPriceUnits(price);
+        transaction.setType(type);
+        transaction.setTimestamp(LocalDateTime.now());
+        transactionsRepository.save(transaction);
+    }
+
+    private TradeOrder.Side parseSide(String type) {
+        if ("BUY".equalsIgnoreCase(type)) {
+            return TradeOrder.Side.BUY;
+        }
+        if ("SELL".equalsIgnoreCase(type)) {
+            return TradeOrder.Side.SELL;
+        }
+        throw new BadRequestException("Nieprawidłowy typ zlecenia");
+    }
+
+    private LimitOrder toLimitOrder(TradeOrder order) {
+        return new LimitOrder(order.getId(), order.getUser().getId(), order.getAsset().getId(),
+                order.getSide(), order.getLimitPrice(), order.getRemaining());
+    }
+
+    private Map<String, Object> toMap(TradeOrder order) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("id", order.getId());
+        result.put("assetId", order.getAsset().getId());
+        result.put("assetSymbol", order.getAsset().getSymbol());
+        result.put("type", order.getSide().toString());
+        result.put("price", order.getLimitPrice());
+        result.put("amount", order.getAmount());
+        result.put("remaining", order.getRemaining());
+        result.put("status", order.getStatus().toString());
+        result.put("timestamp", order.getCreatedAt().toString());
+        return result;
+    }
+
+    private <T> T awaitBook(CompletableFuture<T> future) {
+        try {
+            return future.get(BOOK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Przerwano oczekiwanie na arkusz zleceń", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Arkusz zleceń nie odpowiedział", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        matchingEngine.shutdown();
+        if (settlementThread != null) {
+            settlementThread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.model.User;
+import org.example.stockmarketsimulator.model.UserWallet;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+@Service
+@ConditionalOnProperty(name = "profit.engine", havingValue = "parallel")
+public class ParallelPortfolioRevaluator implements PortfolioRevaluator {
+
+    private final UserRepository userRepository;
+    private final AssetHoldersIndex assetHoldersIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Logger logger = LoggerFactory.getLogger(ParallelPortfolioRevaluator.class);
+
+    public ParallelPortfolioRevaluator(UserRepository userRepository,
+                                       AssetHoldersIndex assetHoldersIndex,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${profit.parallel.chunk-size:500}") int chunkSize,
+                                       @Value("${profit.parallel.threads:0}") int threads) {
+        this.userRepository = userRepository;
+        this.assetHoldersIndex = assetHoldersIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public void revalue(List<Asset> assets, Set<Long> changedAssetIds) {
+        if (changedAssetIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> prices = new HashMap<>();
+        for (Asset asset : assets) {
+            prices.put(asset.getId(), asset.getPriceUnits());
+        }
+
+        // paczki zapisują się we własnych transakcjach, więc startują dopiero po zatwierdzeniu cyklu cen;
+        // wycofany cykl nie zostawi zysków liczonych z cen, których nie ma w bazie
+        TransactionHooks.afterCommit(() -> revalueHolders(changedAssetIds, prices));
+    }
+
+    private void revalueHolders(Set<Long> changedAssetIds, Map<Long, Long> prices) {
+        List<Long> holders = new ArrayList<>(assetHoldersIndex.holdersOf(changedAssetIds));
+        Collections.sort(holders);
+
+        // ograniczamy liczbę paczek w locie, żeby zużycie pamięci nie rosło z liczbą użytkowników
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        AtomicInteger revalued = new AtomicInteger();
+
+        try {
+            for (int from = 0; from < holders.size(); from += chunkSize) {
+                List<Long> chunk = holders.subList(from, Math.min(from + chunkSize, holders.size()));
+
+                inFlight.acquire();
+                tasks.add(pool.submit(() -> {
+                    try {
+                        revalued.addAndGet(revalueChunk(chunk, prices));
+                    } catch (Exception e) {
+                        logger.error("Błąd podczas przeliczania zysku dla paczki użytkowników: {}", e.getMessage());
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+                tasks.removeIf(ForkJoinTask::isDone);
+            }
+            tasks.forEach(ForkJoinTask::join);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        logger.debug("Przeliczono zysk dla {} posiadaczy {} zmienionych aktywów w paczkach po {}",
+                revalued.get(), changedAssetIds.size(), chunkSize);
+    }
+
+    private int revalueChunk(List<Long> userIds, Map<Long, Long> prices) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<User> users = userRepository.findAllById(userIds);
+            for (User user : users) {
+                UserWallet wallet = user.getWallet();
+                if (wallet != null && !wallet.isCostBasisTracked()) {
+                    continue;
+                }
+                long profit = wallet != null ? wallet.calculateProfitUnits(prices) : 0L;
+                if (profit != user.getProfitUnits()) {
+                    userRepository.updateProfit(user.getId(), profit);
+                }
+            }
+            return users.size();
+        });
+        return count != null ? count : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.stockmarketsimulator.service;
+
+import org.example.stockmarketsimulator.model.Asset;
+
+import java.util.List;
+import java.util.Set;
+
+public interface PortfolioRevaluator {
+
+    void revalue(List<Asset> assets, Set<Long> changedAssetIds);
+}
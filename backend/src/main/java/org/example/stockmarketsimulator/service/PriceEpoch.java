@@ -0,0 +1,59 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class PriceEpoch {
+
+    // wersja do nagłówków ETag i Last-Modified
+    public record Version(String etag, long lastModified) {}
+
+    private record HistoryEpoch(long epoch, long modifiedAt) {}
+
+    // epoki zaczynają się od zera po każdym starcie, więc ETag zawiera znacznik uruchomienia
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final long startedAt = System.currentTimeMillis();
+    private final AtomicLong epoch = new AtomicLong();
+    private volatile long modifiedAt = startedAt;
+    private final AtomicLong historySequence = new AtomicLong();
+    private final Map<Long, HistoryEpoch> histories = new ConcurrentHashMap<>();
+
+    public long current() {
+        return epoch.get();
+    }
+
+    public void advance() {
+        // podbijamy dopiero po commicie, żeby nikt nie zapamiętał starych cen pod nową epoką
+        TransactionHooks.afterCommit(() -> {
+            modifiedAt = System.currentTimeMillis();
+            epoch.incrementAndGet();
+        });
+    }
+
+    public void advanceHistory(Collection<Long> assetIds) {
+        TransactionHooks.afterCommit(() -> {
+            HistoryEpoch next = new HistoryEpoch(historySequence.incrementAndGet(), System.currentTimeMillis());
+            for (Long assetId : assetIds) {
+                histories.put(assetId, next);
+            }
+        });
+    }
+
+    public Version catalogVersion() {
+        long current = epoch.get();
+        return new Version("a-" + instance + "-" + current, modifiedAt);
+    }
+
+    // historia zależy też od katalogu: usunięcie aktywa musi unieważnić zapamiętaną odpowiedź
+    public Version historyVersion(Long assetId) {
+        HistoryEpoch history = histories.getOrDefault(assetId, new HistoryEpoch(0, startedAt));
+        long current = epoch.get();
+        return new Version("h" + assetId + "-" + instance + "-" + current + "-" + history.epoch(),
+                Math.max(history.modifiedAt(), modifiedAt));
+    }
+}
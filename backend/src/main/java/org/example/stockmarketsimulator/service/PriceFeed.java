@@ -0,0 +1,11 @@
+package org.example.stockmarketsimulator.service;
+
+import org.example.stockmarketsimulator.model.Asset;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PriceFeed {
+
+    Map<String, Double> fetchPrices(List<Asset> assets);
+}
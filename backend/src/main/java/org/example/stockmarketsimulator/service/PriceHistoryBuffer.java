@@ -0,0 +1,115 @@
+package org.example.stockmarketsimulator.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+// ostatnie ticki każdego aktywa w pamięci; endpoint historii nie wykonuje żadnych zapytań
+@Component
+public class PriceHistoryBuffer {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    // bufor cykliczny na tablicach prymitywów: czas w mikrosekundach (jak w bazie) i cena
+    private static final class Ring {
+        private final long[] times;
+        private final double[] prices;
+        private int next;
+        private int size;
+
+        private Ring(int capacity) {
+            this.times = new long[capacity];
+            this.prices = new double[capacity];
+        }
+
+        private synchronized void append(long time, double price) {
+            times[next] = time;
+            prices[next] = price;
+            next = (next + 1) % times.length;
+            size = Math.min(size + 1, times.length);
+        }
+
+        // od najstarszego do najnowszego
+        private synchronized List<Map<String, Object>> points() {
+            List<Map<String, Object>> points = new ArrayList<>(size);
+            int start = (next - size + times.length) % times.length;
+            for (int i = 0; i < size; i++) {
+                int slot = (start + i) % times.length;
+                Map<String, Object> point = new HashMap<>();
+                point.put("timestamp", toDateTime(times[slot]).toString());
+                point.put("price", prices[slot]);
+                points.add(point);
+            }
+            return points;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacity;
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+    private final Logger logger = LoggerFactory.getLogger(PriceHistoryBuffer.class);
+
+    public PriceHistoryBuffer(JdbcTemplate jdbcTemplate,
+                              @Value("${prices.history.buffer-size:30}") int capacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = capacity;
+    }
+
+    // ostatnie ticki każdego aktywa jednym zapytaniem, w kolejności zapisu
+    @PostConstruct
+    public void load() {
+        int[] loaded = {0};
+        jdbcTemplate.query(
+                "select asset_id, timestamp, price from (" +
+                "select h.asset_id, h.timestamp, h.price, h.id, " +
+                "row_number() over (partition by h.asset_id order by h.timestamp desc, h.id desc) as rn " +
+                "from asset_price_history h) recent " +
+                "where rn <= ? order by asset_id, timestamp, id",
+                rs -> {
+                    ring(rs.getLong(1)).append(toMicros(rs.getTimestamp(2).toLocalDateTime()), rs.getDouble(3));
+                    loaded[0]++;
+                },
+                capacity);
+        logger.info("Wczytano {} ostatnich cen {} aktywów do pamięci", loaded[0], rings.size());
+    }
+
+    // ticki cyklu cen trafiają do pamięci dopiero po zatwierdzeniu zapisu historii
+    public void record(Map<Long, Double> prices, LocalDateTime timestamp) {
+        long time = toMicros(timestamp);
+        TransactionHooks.afterCommit(() -> prices.forEach((assetId, price) -> ring(assetId).append(time, price)));
+    }
+
+    public List<Map<String, Object>> history(Long assetId) {
+        Ring ring = rings.get(assetId);
+        return ring != null ? ring.points() : new ArrayList<>();
+    }
+
+    public void remove(Long assetId) {
+        TransactionHooks.afterCommit(() -> rings.remove(assetId));
+    }
+
+    private Ring ring(Long assetId) {
+        return rings.computeIfAbsent(assetId, id -> new Ring(capacity));
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / 1000;
+    }
+
+    private static LocalDateTime toDateTime(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND),
+                (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1000, ZoneOffset.UTC);
+    }
+}
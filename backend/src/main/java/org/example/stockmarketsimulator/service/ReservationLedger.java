@@ -0,0 +1,127 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.stockmarketsimulator.exception.BadRequestException;
+import org.example.stockmarketsimulator.model.FixedPoint;
+import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
+import org.example.stockmarketsimulator.repository.TradeOrderRepository;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+// dostępne środki i pozycje użytkowników w pamięci; blokada następuje od razu, baza potwierdza ją przy zatwierdzeniu
+@Component
+public class ReservationLedger {
+
+    private static final class Account {
+        private long cash;
+        // ilość posiadana minus ilość w otwartych zleceniach sprzedaży, wczytywana przy pierwszym użyciu aktywa
+        private final Map<Long, Long> positions = new HashMap<>();
+
+        private Account(long cash) {
+            this.cash = cash;
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final TradeOrderRepository tradeOrderRepository;
+    private final Map<Long, Account> accounts = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    public ReservationLedger(UserRepository userRepository, TradeOrderRepository tradeOrderRepository) {
+        this.userRepository = userRepository;
+        this.tradeOrderRepository = tradeOrderRepository;
+    }
+
+    public void reserveCash(Long userId, long units) {
+        Account account = account(userId);
+        synchronized (account) {
+            if (account.cash < units) {
+                throw new BadRequestException("Brak środków na koncie");
+            }
+            account.cash -= units;
+        }
+        invalidateOnRollback(userId);
+    }
+
+    public void reservePosition(Long userId, Long assetId, long units) {
+        Account account = account(userId);
+        synchronized (account) {
+            Long available = account.positions.get(assetId);
+            if (available == null) {
+                available = availablePosition(userId, assetId);
+            }
+            if (available < units) {
+                account.positions.put(assetId, available);
+                throw new BadRequestException("Nie posiadasz wystarczającej ilości aktywa");
+            }
+            account.positions.put(assetId, available - units);
+        }
+        invalidateOnRollback(userId);
+    }
+
+    // uznania są widoczne od razu dla kolejnych operacji tej samej transakcji; wycofanie unieważnia stan konta
+    public void creditCash(Long userId, long units) {
+        Account account = accounts.get(userId);
+        if (account != null) {
+            synchronized (account) {
+                account.cash += units;
+            }
+        }
+        invalidateOnRollback(userId);
+    }
+
+    public void creditPosition(Long userId, Long assetId, long units) {
+        Account account = accounts.get(userId);
+        if (account != null) {
+            synchronized (account) {
+                // pozycja jeszcze niewczytana zostanie odczytana z portfela razem z tym zapisem
+                account.positions.computeIfPresent(assetId, (id, available) -> available + units);
+            }
+        }
+        invalidateOnRollback(userId);
+    }
+
+    // zmiany spoza ścieżki rezerwacji (rozliczenia zleceń, projekcja dziennika, usunięcie konta)
+    public void invalidate(Long userId) {
+        TransactionHooks.afterCommit(() -> drop(userId));
+    }
+
+    private void invalidateOnRollback(Long userId) {
+        // po wycofaniu stan w pamięci mógł zostać wczytany z nieaktualnego wiersza, więc wczytujemy go od nowa
+        TransactionHooks.afterRollback(() -> drop(userId));
+    }
+
+    private void drop(Long userId) {
+        accounts.compute(userId, (id, account) -> {
+            generations.merge(id, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    private Account account(Long userId) {
+        Account existing = accounts.get(userId);
+        if (existing != null) {
+            return existing;
+        }
+        // numer generacji przed odczytem salda: rozliczenie zatwierdzone później unieważni wczytany stan
+        long generation = generations.getOrDefault(userId, 0L);
+        Account loaded = new Account(userRepository.findBalanceUnits(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Użytkownik nie został znaleziony")));
+        Account cached = accounts.compute(userId, (id, account) -> {
+            if (account != null) {
+                return account;
+            }
+            // unieważnienie w trakcie wczytywania: nie zapamiętujemy stanu, który mógł się już zmienić
+            return generations.getOrDefault(id, 0L) == generation ? loaded : null;
+        });
+        return cached != null ? cached : loaded;
+    }
+
+    private long availablePosition(Long userId, Long assetId) {
+        long owned = userRepository.findHoldingUnits(userId, assetId).orElse(0L);
+        return owned - FixedPoint.toQuantity(tradeOrderRepository.sumOpenSellRemaining(userId, assetId));
+    }
+}
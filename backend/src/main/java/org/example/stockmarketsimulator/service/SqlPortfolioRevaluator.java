@@ -0,0 +1,33 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.List;
+import java.util.Set;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.model.FixedPoint;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(name = "profit.engine", havingValue = "sql")
+public class SqlPortfolioRevaluator implements PortfolioRevaluator {
+
+    private final UserRepository userRepository;
+    private final Logger logger = LoggerFactory.getLogger(SqlPortfolioRevaluator.class);
+
+    public SqlPortfolioRevaluator(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void revalue(List<Asset> assets, Set<Long> changedAssetIds) {
+        if (changedAssetIds.isEmpty()) {
+            return;
+        }
+        int updated = userRepository.revalueAllProfits(FixedPoint.QUANTITY_SCALE);
+        logger.debug("Przeliczono zysk dla {} użytkowników jednym zapytaniem", updated);
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.repository.AssetsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+
+@Service
+@ConditionalOnProperty(name = "prices.feed", havingValue = "synthetic")
+public class SyntheticPriceFeed implements PriceFeed {
+
+    private static final double MILLIS_PER_YEAR = 365.0 * 24 * 60 * 60 * 1000;
+
+    private final AssetsRepository assetsRepository;
+    private final AssetCatalog assetCatalog;
+    private final Random random;
+    private final int symbolCount;
+    private final double drift;
+    private final double volatility;
+    private final double jumpIntensity;
+    private final double jumpMean;
+    private final double jumpStdDev;
+    private final double tickProbability;
+    private final double dt;
+    private final Map<String, Double> lastPrices = new HashMap<>();
+    private final Logger logger = LoggerFactory.getLogger(SyntheticPriceFeed.class);
+
+    public SyntheticPriceFeed(AssetsRepository assetsRepository,
+                              AssetCatalog assetCatalog,
+                              @Value("${prices.synthetic.seed:42}") long seed,
+                              @Value("${prices.synthetic.symbols:1000}") int symbolCount,
+                              @Value("${prices.synthetic.drift:0.05}") double drift,
+                              @Value("${prices.synthetic.volatility:0.3}") double volatility,
+                              @Value("${prices.synthetic.jump-intensity:5.0}") double jumpIntensity,
+                              @Value("${prices.synthetic.jump-mean:0.0}") double jumpMean,
+                              @Value("${prices.synthetic.jump-stddev:0.05}") double jumpStdDev,
+                              @Value("${prices.synthetic.tick-probability:1.0}") double tickProbability,
+                              @Value("${prices.synthetic.time-acceleration:3600}") double timeAcceleration,
+                              @Value("${prices.update-interval-ms:30000}") long updateIntervalMs) {
+        this.assetsRepository = assetsRepository;
+        this.assetCatalog = assetCatalog;
+        this.random = new Random(seed);
+        this.symbolCount = symbolCount;
+        this.drift = drift;
+        this.volatility = volatility;
+        this.jumpIntensity = jumpIntensity;
+        this.jumpMean = jumpMean;
+        this.jumpStdDev = jumpStdDev;
+        this.tickProbability = tickProbability;
+        this.dt = updateIntervalMs * timeAcceleration / MILLIS_PER_YEAR;
+    }
+
+    @PostConstruct
+    public void initSyntheticAssets() {
+        Set<String> existing = assetsRepository.findAll().stream()
+                .map(Asset::getSymbol)
+                .collect(Collectors.toSet());
+
+        List<Asset> generated = new ArrayList<>();
+        for (int i = 1; i <= symbolCount; i++) {
+            String symbol = String.format("SYN%05d", i);
+            if (!existing.contains(symbol)) {
+                generated.add(new Asset(symbol, 0.0, "Synthetic " + symbol.substring(3)));
+            }
+        }
+
+        if (!generated.isEmpty()) {
+            assetsRepository.saveAll(generated);
+            assetCatalog.refresh();
+            logger.info("Utworzono {} syntetycznych aktywów", generated.size());
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Double> fetchPrices(List<Asset> assets) {
+        List<Asset> ordered = new ArrayList<>(assets);
+        ordered.sort(Comparator.comparing(Asset::getSymbol));
+
+        Map<String, Double> prices = new HashMap<>();
+        double diffusion = volatility * Math.sqrt(dt);
+        double driftTerm = (drift - 0.5 * volatility * volatility) * dt;
+        double jumpProbability = 1.0 - Math.exp(-jumpIntensity * dt);
+
+        for (Asset asset : ordered) {
+            String symbol = asset.getSymbol();
+            double price = lastPrices.computeIfAbsent(symbol,
+                    s -> asset.getPrice() > 0 ? asset.getPrice() : 10.0 + random.nextDouble() * 490.0);
+
+            // losowania wykonujemy zawsze, żeby sekwencja zależała tylko od ziarna i zbioru symboli
+            double shock = random.nextGaussian();
+            boolean jump = random.nextDouble() < jumpProbability;
+            double jumpSize = random.nextGaussian() * jumpStdDev + jumpMean;
+            boolean ticks = random.nextDouble() < tickProbability;
+
+            double logReturn = driftTerm + diffusion * shock + (jump ? jumpSize : 0.0);
+            price = price * Math.exp(logReturn);
+            lastPrices.put(symbol, price);
+
+            if (ticks) {
+                prices.put(symbol, price);
+            }
+        }
+
+        return prices;
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.stockmarketsimulator.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class TickJournal {
+
+    // ramka: [long znacznik czasu ms][int liczba ticków] + liczba x ([UTF symbol][double cena])
+    public record TickFrame(long timestamp, Map<String, Double> prices) {}
+
+    private final boolean enabled;
+    private final Path path;
+    private DataOutputStream output;
+    private static final Logger logger = LoggerFactory.getLogger(TickJournal.class);
+
+    public TickJournal(@Value("${prices.journal.enabled:false}") boolean enabled,
+                       @Value("${prices.journal.path:data/ticks.journal}") String path) {
+        this.enabled = enabled;
+        this.path = Path.of(path);
+    }
+
+    public synchronized void record(long timestamp, Map<String, Double> prices) {
+        if (!enabled || prices.isEmpty()) {
+            return;
+        }
+        try {
+            if (output == null) {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path.toFile(), true)));
+            }
+            output.writeLong(timestamp);
+            output.writeInt(prices.size());
+            for (Map.Entry<String, Double> tick : prices.entrySet()) {
+                output.writeUTF(tick.getKey());
+                output.writeDouble(tick.getValue());
+            }
+            output.flush();
+        } catch (IOException e) {
+            logger.error("Błąd podczas zapisu ticków do dziennika {}: {}", path, e.getMessage());
+        }
+    }
+
+    public static long read(Path path, Consumer<TickFrame> consumer) throws IOException {
+        long frames = 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            while (true) {
+                long timestamp;
+                try {
+                    timestamp = input.readLong();
+                } catch (EOFException e) {
+                    break;
+                }
+                Map<String, Double> prices;
+                try {
+                    int count = input.readInt();
+                    prices = new LinkedHashMap<>(count * 2);
+                    for (int i = 0; i < count; i++) {
+                        prices.put(input.readUTF(), input.readDouble());
+                    }
+                } catch (EOFException e) {
+                    // zapis przerwany w połowie ramki: to, co przed nią, jest kompletne
+                    logger.warn("Niepełna ostatnia ramka w dzienniku ticków {} po {} ramkach, pomijam ją", path, frames);
+                    break;
+                }
+                consumer.accept(new TickFrame(timestamp, prices));
+                frames++;
+            }
+        }
+        return frames;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.close();
+        } catch (IOException e) {
+            logger.warn("Błąd podczas zamykania dziennika ticków: {}", e.getMessage());
+        }
+        output = null;
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.stockmarketsimulator.service;
+
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnExpression("!'${prices.replay.file:}'.isBlank()")
+public class TickReplayer {
+
+    private final AssetPriceFetcher assetPriceFetcher;
+    private final Path file;
+    private final double speed;
+    private final Logger logger = LoggerFactory.getLogger(TickReplayer.class);
+
+    public TickReplayer(AssetPriceFetcher assetPriceFetcher,
+                        @Value("${prices.replay.file}") String file,
+                        @Value("${prices.replay.speed:1.0}") double speed) {
+        this.assetPriceFetcher = assetPriceFetcher;
+        this.file = Path.of(file);
+        this.speed = speed;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startReplay() {
+        Thread.ofPlatform().name("tick-replay").start(this::replay);
+    }
+
+    private void replay() {
+        logger.info("Rozpoczęto odtwarzanie ticków z {} (prędkość {}x)", file, speed);
+        long startedAt = System.nanoTime();
+        long[] firstTimestamp = {-1};
+        long[] ticks = {0};
+
+        try {
+            long frames = TickJournal.read(file, frame -> {
+                if (firstTimestamp[0] < 0) {
+                    firstTimestamp[0] = frame.timestamp();
+                } else if (speed > 0) {
+                    // cel liczony od początku odtwarzania, żeby czas przetwarzania nie kumulował opóźnień
+                    long targetNanos = startedAt + (long) ((frame.timestamp() - firstTimestamp[0]) * 1_000_000 / speed);
+                    long delayMillis = (targetNanos - System.nanoTime()) / 1_000_000;
+                    if (delayMillis > 0) {
+                        try {
+                            Thread.sleep(delayMillis);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("Odtwarzanie przerwane", e);
+                        }
+                    }
+                }
+                assetPriceFetcher.replayPrices(frame.prices());
+                ticks[0] += frame.prices().size();
+            });
+
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            logger.info("Zakończono odtwarzanie: {} cykli, {} ticków w {} s ({} ticków/s)",
+                    frames, ticks[0], String.format("%.2f", seconds), String.format("%.1f", ticks[0] / seconds));
+        } catch (Exception e) {
+            logger.error("Błąd podczas odtwarzania ticków z {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package org.example.stockmarketsimulator.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// dziennik transakcji: transakcja jest potwierdzana po zapisie i fsync paczki, tabele JPA aktualizuje TradeProjector
+@Component
+public class TradeJournal {
+
+    // rekord o stałej długości: [long sekwencja][long czas ms][long użytkownik][long aktywo][byte kupno][double ilość][double cena][int crc]
+    static final int ENTRY_SIZE = 8 * 4 + 1 + 8 * 2 + 4;
+
+    public record Entry(long sequence, long timestamp, long userId, long assetId, boolean buy, double amount, double price) {}
+
+    // niezaprojektowane jeszcze zmiany konta; walidacja kolejnych transakcji musi je uwzględniać
+    public static final class PendingAccount {
+        private double balanceDelta;
+        private final Map<Long, Double> assetDeltas = new HashMap<>();
+        private int entries;
+        // kończona, gdy ostatni wpis konta trafi do tabel i konto zniknie z listy oczekujących
+        private final CompletableFuture<Void> projected = new CompletableFuture<>();
+
+        public synchronized double getBalanceDelta() {
+            return balanceDelta;
+        }
+
+        public synchronized double getAssetDelta(Long assetId) {
+            return assetDeltas.getOrDefault(assetId, 0.0);
+        }
+
+        public synchronized Map<Long, Double> getAssetDeltas() {
+            return new HashMap<>(assetDeltas);
+        }
+
+        private synchronized void apply(Entry entry, int sign) {
+            double value = entry.amount() * entry.price();
+            balanceDelta += sign * (entry.buy() ? -value : value);
+            assetDeltas.merge(entry.assetId(), sign * (entry.buy() ? entry.amount() : -entry.amount()), Double::sum);
+            entries += sign;
+        }
+
+        private synchronized boolean isEmpty() {
+            return entries == 0;
+        }
+
+        private synchronized PendingAccount copy() {
+            PendingAccount copy = new PendingAccount();
+            copy.balanceDelta = balanceDelta;
+            copy.assetDeltas.putAll(assetDeltas);
+            copy.entries = entries;
+            return copy;
+        }
+    }
+
+    private record Append(Entry entry, CompletableFuture<Entry> result) {}
+
+    // zwalnia blokady kont; try-with-resources bez wyjątków kontrolowanych
+    public interface AccountLock extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final int ACCOUNT_LOCK_STRIPES = 64;
+
+    private final boolean enabled;
+    private final Path path;
+    private final int groupCommitSize;
+    private final BlockingQueue<Append> appends = new LinkedBlockingQueue<>();
+    private final Map<Long, PendingAccount> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock[] accountLocks = new ReentrantLock[ACCOUNT_LOCK_STRIPES];
+    private FileChannel channel;
+    private long nextSequence;
+    private Consumer<List<Entry>> durableListener;
+    private Thread writerThread;
+    private final Logger logger = LoggerFactory.getLogger(TradeJournal.class);
+
+    public TradeJournal(@Value("${trading.journal.enabled:false}") boolean enabled,
+                        @Value("${trading.journal.path:data/trades.journal}") String path,
+                        @Value("${trading.journal.group-commit-size:256}") int groupCommitSize) {
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.groupCommitSize = groupCommitSize;
+        for (int i = 0; i < accountLocks.length; i++) {
+            accountLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    // wywoływane przez projektor po odtworzeniu dziennika; plik jest wtedy w całości zaprojektowany i zostaje wyczyszczony
+    synchronized void open(long nextSequence, Consumer<List<Entry>> durableListener) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.channel.force(true);
+        this.nextSequence = nextSequence;
+        this.durableListener = durableListener;
+        this.writerThread = Thread.ofPlatform().name("trade-journal").daemon().start(this::writeLoop);
+    }
+
+    public Entry append(long userId, long assetId, boolean buy, double amount, double price) {
+        if (writerThread == null) {
+            throw new IllegalStateException("Dziennik transakcji nie jest gotowy");
+        }
+        CompletableFuture<Entry> result = new CompletableFuture<>();
+        appends.add(new Append(new Entry(0, System.currentTimeMillis(), userId, assetId, buy, amount, price), result));
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Nie udało się zapisać transakcji w dzienniku", e.getCause());
+        }
+    }
+
+    // projekcja trzyma blokadę od zapisu w bazie do zdjęcia wpisów z oczekujących, a walidacja transakcji
+    // od migawki oczekujących do odczytu konta; bez niej zaprojektowany w międzyczasie wpis liczyłby się podwójnie
+    public AccountLock lockAccounts(Collection<Long> userIds) {
+        // stałą kolejnością, żeby dwie paczki projekcji nie zakleszczyły się na wspólnych pasach
+        int[] stripes = userIds.stream().mapToInt(TradeJournal::stripe).distinct().sorted().toArray();
+        for (int stripe : stripes) {
+            accountLocks[stripe].lock();
+        }
+        return () -> {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                accountLocks[stripes[i]].unlock();
+            }
+        };
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), ACCOUNT_LOCK_STRIPES);
+    }
+
+    // migawka; spójna z kontem w bazie tylko, gdy oba odczyty są pod lockAccounts
+    public PendingAccount pendingOf(Long userId) {
+        PendingAccount account = pending.get(userId);
+        return account != null ? account.copy() : new PendingAccount();
+    }
+
+    public void awaitProjected(Long userId, long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        // po opróżnieniu konta mogły już dojść nowe wpisy, więc czekamy aż do braku oczekujących
+        for (PendingAccount account = pending.get(userId); account != null; account = pending.get(userId)) {
+            try {
+                account.projected.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("Przekroczono czas oczekiwania na zapis transakcji z dziennika");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Przerwano oczekiwanie na zapis transakcji z dziennika", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Błąd oczekiwania na zapis transakcji z dziennika", e.getCause());
+            }
+        }
+    }
+
+    void projected(List<Entry> entries) {
+        for (Entry entry : entries) {
+            pending.computeIfPresent(entry.userId(), (id, account) -> {
+                account.apply(entry, -1);
+                if (account.isEmpty()) {
+                    account.projected.complete(null);
+                    return null;
+                }
+                return account;
+            });
+        }
+    }
+
+    private void writeLoop() {
+        List<Append> batch = new ArrayList<>(groupCommitSize);
+        ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE * groupCommitSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(appends.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            // wszystko, co czeka w kolejce, trafia do jednego zapisu i jednego fsync
+            appends.drainTo(batch, groupCommitSize - 1);
+
+            List<Entry> written = new ArrayList<>(batch.size());
+            buffer.clear();
+            for (Append append : batch) {
+                Entry e = append.entry();
+                Entry entry = new Entry(nextSequence + written.size(), e.timestamp(), e.userId(), e.assetId(), e.buy(), e.amount(), e.price());
+                encode(entry, buffer);
+                written.add(entry);
+            }
+            buffer.flip();
+
+            try {
+                long position = channel.position();
+                try {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                } catch (IOException e) {
+                    channel.truncate(position);
+                    throw e;
+                }
+                nextSequence += written.size();
+                for (Entry entry : written) {
+                    pending.computeIfAbsent(entry.userId(), id -> new PendingAccount()).apply(entry, 1);
+                }
+                durableListener.accept(written);
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result().complete(written.get(i));
+                }
+            } catch (IOException | RuntimeException e) {
+                // wątek zapisu musi przetrwać każdy błąd, inaczej kolejne append czekałyby bez końca
+                logger.error("Błąd zapisu dziennika transakcji {}: {}", path, e.getMessage());
+                batch.forEach(append -> append.result().completeExceptionally(e));
+            }
+            batch.clear();
+        }
+    }
+
+    private static void encode(Entry entry, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putLong(entry.sequence());
+        buffer.putLong(entry.timestamp());
+        buffer.putLong(entry.userId());
+        buffer.putLong(entry.assetId());
+        buffer.put((byte) (entry.buy() ? 1 : 0));
+        buffer.putDouble(entry.amount());
+        buffer.putDouble(entry.price());
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), start, ENTRY_SIZE - 4);
+        buffer.putInt((int) crc.getValue());
+    }
+
+    // odczyt kończy się na pierwszym niepełnym lub uszkodzonym rekordzie (przerwany zapis przed fsync)
+    static List<Entry> readAll(Path path) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return entries;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= ENTRY_SIZE) {
+            int start = buffer.position();
+            crc.reset();
+            crc.update(buffer.array(), start, ENTRY_SIZE - 4);
+            Entry entry = new Entry(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                    buffer.get() == 1, buffer.getDouble(), buffer.getDouble());
+            if (buffer.getInt() != (int) crc.getValue()) {
+                break;
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (writerThread != null) {
+            writerThread.interrupt();
+        }
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Błąd podczas zamykania dziennika transakcji: {}", e.getMessage());
+        }
+        channel = null;
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.stockmarketsimulator.service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.model.FixedPoint;
+import org.example.stockmarketsimulator.model.JournalCheckpoint;
+import org.example.stockmarketsimulator.model.Transactions;
+import org.example.stockmarketsimulator.model.User;
+import org.example.stockmarketsimulator.model.UserWallet;
+import org.example.stockmarketsimulator.repository.JournalCheckpointRepository;
+import org.example.stockmarketsimulator.repository.TransactionsRepository;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// przenosi potwierdzone wpisy dziennika do tabel JPA paczkami; punkt kontrolny zapisywany jest w tej samej transakcji
+@Service
+@ConditionalOnProperty(name = "trading.journal.enabled", havingValue = "true")
+public class TradeProjector {
+
+    private static final String CHECKPOINT = "trades";
+    private static final long MAX_BACKOFF_MS = 5000;
+
+    private final TradeJournal journal;
+    private final UserRepository userRepository;
+    private final AssetCatalog assetCatalog;
+    private final TransactionsRepository transactionsRepository;
+    private final JournalCheckpointRepository checkpointRepository;
+    private final UserService userService;
+    private final ReservationLedger reservationLedger;
+    private final AssetHoldersIndex assetHoldersIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final BlockingQueue<TradeJournal.Entry> queue = new LinkedBlockingQueue<>();
+    private Thread projectorThread;
+    private final Logger logger = LoggerFactory.getLogger(TradeProjector.class);
+
+    public TradeProjector(TradeJournal journal,
+                          UserRepository userRepository,
+                          AssetCatalog assetCatalog,
+                          TransactionsRepository transactionsRepository,
+                          JournalCheckpointRepository checkpointRepository,
+                          UserService userService,
+                          ReservationLedger reservationLedger,
+                          AssetHoldersIndex assetHoldersIndex,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${trading.journal.projection-batch-size:500}") int batchSize) {
+        this.journal = journal;
+        this.userRepository = userRepository;
+        this.assetCatalog = assetCatalog;
+        this.transactionsRepository = transactionsRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.userService = userService;
+        this.reservationLedger = reservationLedger;
+        this.assetHoldersIndex = assetHoldersIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        long checkpoint = checkpointRepository.findById(CHECKPOINT).map(JournalCheckpoint::getLastSequence).orElse(0L);
+        long lastSequence = checkpoint;
+
+        // wpisy potwierdzone przed restartem, ale jeszcze nie zaprojektowane
+        List<TradeJournal.Entry> replay = new ArrayList<>();
+        for (TradeJournal.Entry entry : TradeJournal.readAll(journal.getPath())) {
+            if (entry.sequence() > checkpoint) {
+                replay.add(entry);
+            }
+            lastSequence = Math.max(lastSequence, entry.sequence());
+        }
+        for (int from = 0; from < replay.size(); from += batchSize) {
+            applyWithRetries(replay.subList(from, Math.min(from + batchSize, replay.size())));
+        }
+        if (!replay.isEmpty()) {
+            logger.info("Odtworzono {} transakcji z dziennika {}", replay.size(), journal.getPath());
+        }
+
+        journal.open(lastSequence + 1, queue::addAll);
+        projectorThread = Thread.ofPlatform().name("trade-projector").daemon().start(this::projectLoop);
+    }
+
+    private void projectLoop() {
+        List<TradeJournal.Entry> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            if (!applyWithRetries(batch)) {
+                break;
+            }
+            batch.clear();
+        }
+    }
+
+    // wpisu nie wolno pominąć: kolejne salda zależą od poprzednich, więc ponawiamy aż do skutku
+    private boolean applyWithRetries(List<TradeJournal.Entry> batch) {
+        Set<Long> userIds = new HashSet<>();
+        for (TradeJournal.Entry entry : batch) {
+            userIds.add(entry.userId());
+        }
+        long backoff = 50;
+        while (true) {
+            // zatwierdzenie w bazie i zdjęcie wpisów z oczekujących są dla walidacji transakcji jednym krokiem
+            try (TradeJournal.AccountLock lock = journal.lockAccounts(userIds)) {
+                transactionTemplate.executeWithoutResult(status -> apply(batch));
+                journal.projected(batch);
+                return true;
+            } catch (RuntimeException e) {
+                logger.warn("Nie udało się zapisać {} transakcji z dziennika, ponawiam za {} ms: {}",
+                        batch.size(), backoff, e.getMessage());
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    private void apply(List<TradeJournal.Entry> batch) {
+        Map<Long, List<TradeJournal.Entry>> byUser = new LinkedHashMap<>();
+        for (TradeJournal.Entry entry : batch) {
+            byUser.computeIfAbsent(entry.userId(), id -> new ArrayList<>()).add(entry);
+        }
+        Map<Long, Asset> assets = assetCatalog.snapshot().byId();
+
+        List<Transactions> transactions = new ArrayList<>(batch.size());
+        for (User user : userRepository.findAllById(byUser.keySet())) {
+            UserWallet wallet = user.getWallet();
+            if (wallet == null) {
+                wallet = new UserWallet(user);
+                user.setWallet(wallet);
+            }
+            userService.ensureCostBasisTracked(user, wallet);
+
+            for (TradeJournal.Entry entry : byUser.get(user.getId())) {
+                // te same jednostki stałoprzecinkowe co bezpośrednia ścieżka transakcji
+                long quantity = FixedPoint.toQuantity(entry.amount());
+                long value = FixedPoint.value(quantity, FixedPoint.toMoney(entry.price()));
+                if (entry.buy()) {
+                    wallet.addAssetUnits(entry.assetId(), quantity);
+                    wallet.recordBuyUnits(entry.assetId(), value);
+                    user.setAccountBalanceUnits(user.getAccountBalanceUnits() - value);
+                } else {
+                    wallet.removeAssetUnits(entry.assetId(), quantity);
+                    wallet.recordSellUnits(entry.assetId(), value);
+                    user.setAccountBalanceUnits(user.getAccountBalanceUnits() + value);
+                }
+
+                Asset asset = assets.get(entry.assetId());
+                if (asset == null) {
+                    logger.warn("Aktywo {} z wpisu dziennika {} już nie istnieje, pomijam historię transakcji",
+                            entry.assetId(), entry.sequence());
+                    continue;
+                }
+                Transactions transaction = new Transactions();
+                transaction.setUser(user);
+                transaction.setAsset(asset);
+                transaction.setAmount(entry.amount());
+                transaction.setPrice(entry.price());
+                transaction.setType(entry.buy() ? Transactions.TransactionType.BUY : Transactions.TransactionType.SELL);
+                transaction.setTimestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.timestamp()), ZoneId.systemDefault()));
+                transactions.add(transaction);
+            }
+            assetHoldersIndex.walletChanged(wallet);
+            userService.recalculateProfit(user);
+            reservationLedger.invalidate(user.getId());
+        }
+        transactionsRepository.saveAll(transactions);
+
+        long lastSequence = batch.get(batch.size() - 1).sequence();
+        JournalCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT)
+                .orElseGet(() -> new JournalCheckpoint(CHECKPOINT, 0));
+        checkpoint.setLastSequence(Math.max(checkpoint.getLastSequence(), lastSequence));
+        checkpointRepository.save(checkpoint);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (projectorThread != null) {
+            projectorThread.interrupt();
+        }
+    }
+}
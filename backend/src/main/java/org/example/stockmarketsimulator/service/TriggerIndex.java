@@ -0,0 +1,80 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.example.stockmarketsimulator.model.TriggerOrder;
+
+// progi posortowane po cenie: tick odcina jednym zakresem tylko przekroczone progi, O(log n + k)
+public class TriggerIndex {
+
+    public record Trigger(long id, long assetId, TriggerOrder.Kind kind, double triggerPrice) {}
+
+    private static final class AssetTriggers {
+        // stop-loss odpala przy cenie <= progu, take-profit przy cenie >= progu
+        private final TreeMap<Double, Set<Long>> stopLosses = new TreeMap<>();
+        private final TreeMap<Double, Set<Long>> takeProfits = new TreeMap<>();
+
+        TreeMap<Double, Set<Long>> of(TriggerOrder.Kind kind) {
+            return kind == TriggerOrder.Kind.STOP_LOSS ? stopLosses : takeProfits;
+        }
+    }
+
+    // drzewa cen i wpisy pod jedną blokadą: anulowanie i odpalenie tego samego progu nie mogą się przeplatać
+    private final Map<Long, AssetTriggers> assets = new HashMap<>();
+    private final Map<Long, Trigger> entries = new HashMap<>();
+
+    public void add(long triggerId, long assetId, TriggerOrder.Kind kind, double triggerPrice) {
+        add(new Trigger(triggerId, assetId, kind, triggerPrice));
+    }
+
+    public synchronized void add(Trigger trigger) {
+        assets.computeIfAbsent(trigger.assetId(), id -> new AssetTriggers())
+                .of(trigger.kind()).computeIfAbsent(trigger.triggerPrice(), p -> new LinkedHashSet<>()).add(trigger.id());
+        entries.put(trigger.id(), trigger);
+    }
+
+    // zwraca usunięty próg, żeby po wycofaniu transakcji można go było przywrócić
+    public synchronized Trigger remove(long triggerId) {
+        Trigger entry = entries.remove(triggerId);
+        if (entry == null) {
+            return null;
+        }
+        TreeMap<Double, Set<Long>> side = assets.get(entry.assetId()).of(entry.kind());
+        Set<Long> level = side.get(entry.triggerPrice());
+        level.remove(triggerId);
+        if (level.isEmpty()) {
+            side.remove(entry.triggerPrice());
+        }
+        return entry;
+    }
+
+    public synchronized List<Trigger> crossed(long assetId, double price) {
+        AssetTriggers triggers = assets.get(assetId);
+        if (triggers == null) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>();
+        drain(triggers.stopLosses.tailMap(price, true), ids);
+        drain(triggers.takeProfits.headMap(price, true), ids);
+        List<Trigger> fired = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            fired.add(entries.remove(id));
+        }
+        return fired;
+    }
+
+    private static void drain(NavigableMap<Double, Set<Long>> range, List<Long> fired) {
+        for (Set<Long> level : range.values()) {
+            fired.addAll(level);
+        }
+        range.clear();
+    }
+}
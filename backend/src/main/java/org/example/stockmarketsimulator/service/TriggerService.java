@@ -0,0 +1,203 @@
+package org.example.stockmarketsimulator.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.example.stockmarketsimulator.exception.BadRequestException;
+import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.model.TriggerOrder;
+import org.example.stockmarketsimulator.model.User;
+import org.example.stockmarketsimulator.repository.TriggerOrderRepository;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class TriggerService {
+
+    private final TriggerOrderRepository triggerOrderRepository;
+    private final UserRepository userRepository;
+    private final AssetCatalog assetCatalog;
+    private final UserService userService;
+    private final UserExecutionLanes userExecutionLanes;
+    private final TransactionTemplate transactionTemplate;
+    private final TriggerIndex index = new TriggerIndex();
+    // jeden wątek wykonawczy zachowuje kolejność odpaleń z kolejnych ticków
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("trigger-execution").daemon().factory());
+    private final Logger logger = LoggerFactory.getLogger(TriggerService.class);
+
+    public TriggerService(TriggerOrderRepository triggerOrderRepository,
+                          UserRepository userRepository,
+                          AssetCatalog assetCatalog,
+                          UserService userService,
+                          UserExecutionLanes userExecutionLanes,
+                          PlatformTransactionManager transactionManager) {
+        this.triggerOrderRepository = triggerOrderRepository;
+        this.userRepository = userRepository;
+        this.assetCatalog = assetCatalog;
+        this.userService = userService;
+        this.userExecutionLanes = userExecutionLanes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // przed pierwszym cyklem cen (AssetPriceFetcher zależy od tego serwisu), inaczej przekroczone w nim progi by nie odpaliły
+    @PostConstruct
+    public void restoreIndex() {
+        List<TriggerOrder> active = triggerOrderRepository.findByStatus(TriggerOrder.Status.ACTIVE);
+        for (TriggerOrder trigger : active) {
+            index.add(trigger.getId(), trigger.getAsset().getId(), trigger.getKind(), trigger.getTriggerPrice());
+        }
+        if (!active.isEmpty()) {
+            logger.info("Odtworzono {} aktywnych progów stop-loss i take-profit", active.size());
+        }
+    }
+
+    @Transactional
+    public Map<String, Object> createTrigger(Long userId, String type, Long assetId, Double triggerPrice, Double amount) {
+        TriggerOrder.Kind kind = parseKind(type);
+        if (triggerPrice == null || amount == null || triggerPrice <= 0 || amount <= 0) {
+            throw new BadRequestException("Próg cenowy i ilość muszą być większe od zera");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Użytkownik nie został znaleziony"));
+        Asset asset = assetCatalog.find(assetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Aktywo nie zostało znalezione"));
+
+        double owned = user.getWallet() != null ? user.getWallet().getAmount(assetId) : 0.0;
+        if (owned < amount) {
+            throw new BadRequestException("Nie posiadasz wystarczającej ilości aktywa");
+        }
+        if (kind == TriggerOrder.Kind.STOP_LOSS && triggerPrice >= asset.getPrice()) {
+            throw new BadRequestException("Próg stop-loss musi być niższy od bieżącej ceny");
+        }
+        if (kind == TriggerOrder.Kind.TAKE_PROFIT && triggerPrice <= asset.getPrice()) {
+            throw new BadRequestException("Próg take-profit musi być wyższy od bieżącej ceny");
+        }
+
+        TriggerOrder trigger = triggerOrderRepository.save(new TriggerOrder(user, asset, kind, triggerPrice, amount));
+        long triggerId = trigger.getId();
+        TransactionHooks.afterCommit(() -> index.add(triggerId, assetId, kind, triggerPrice));
+        return toMap(trigger);
+    }
+
+    public List<Map<String, Object>> getUserTriggers(Long userId) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (TriggerOrder trigger : triggerOrderRepository.findByUserIdOrderByIdDesc(userId)) {
+            result.add(toMap(trigger));
+        }
+        return result;
+    }
+
+    @Transactional
+    public Map<String, Object> cancelTrigger(Long userId, Long triggerId) {
+        TriggerOrder trigger = triggerOrderRepository.findById(triggerId)
+                .filter(t -> t.getUser().getId().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("Zlecenie warunkowe nie zostało znalezione"));
+        // usunięcie z indeksu od razu chroni przed odpaleniem w trakcie anulowania; wycofanie przywraca próg
+        TriggerIndex.Trigger removed = trigger.getStatus() == TriggerOrder.Status.ACTIVE ? index.remove(triggerId) : null;
+        if (removed == null) {
+            throw new BadRequestException("Zlecenie warunkowe nie jest aktywne");
+        }
+        TransactionHooks.afterRollback(() -> index.add(removed));
+        trigger.setStatus(TriggerOrder.Status.CANCELLED);
+        return toMap(trigger);
+    }
+
+    public void onPricesChanged(Map<Long, Double> prices) {
+        List<TriggerIndex.Trigger> fired = new ArrayList<>();
+        for (Map.Entry<Long, Double> price : prices.entrySet()) {
+            fired.addAll(index.crossed(price.getKey(), price.getValue()));
+        }
+        if (fired.isEmpty()) {
+            return;
+        }
+        logger.info("Przekroczone progi cenowe: {} zleceń warunkowych", fired.size());
+        // wycofany cykl cen nie zapisał ticku, więc progi w bazie są nadal aktywne i muszą wrócić do indeksu
+        TransactionHooks.afterRollback(() -> fired.forEach(index::add));
+        // wykonujemy dopiero po zapisaniu nowych cen, żeby tradeAsset sprzedał po cenie z tego ticku
+        TransactionHooks.afterCommit(() -> executor.execute(() -> fired.forEach(trigger -> execute(trigger.id()))));
+    }
+
+    private void execute(Long triggerId) {
+        TriggerOrder trigger = transactionTemplate.execute(status -> {
+            TriggerOrder t = triggerOrderRepository.findById(triggerId).orElse(null);
+            if (t == null || t.getStatus() != TriggerOrder.Status.ACTIVE) {
+                return null;
+            }
+            t.setStatus(TriggerOrder.Status.TRIGGERED);
+            t.setTriggeredAt(LocalDateTime.now());
+            return t;
+        });
+        if (trigger == null) {
+            return;
+        }
+
+        TriggerOrder.Status result = TriggerOrder.Status.EXECUTED;
+        String reason = null;
+        try {
+            Long userId = trigger.getUser().getId();
+            userExecutionLanes.execute(userId,
+                    () -> userService.tradeAsset(userId, "SELL", trigger.getAsset().getId(), trigger.getAmount()));
+        } catch (RuntimeException e) {
+            result = TriggerOrder.Status.FAILED;
+            reason = e.getMessage();
+            logger.warn("Nie udało się wykonać zlecenia warunkowego {}: {}", triggerId, e.getMessage());
+        }
+
+        TriggerOrder.Status finalResult = result;
+        String finalReason = reason;
+        transactionTemplate.executeWithoutResult(status -> triggerOrderRepository.findById(triggerId).ifPresent(t -> {
+            t.setStatus(finalResult);
+            t.setFailureReason(finalReason);
+        }));
+    }
+
+    private TriggerOrder.Kind parseKind(String type) {
+        if ("STOP_LOSS".equalsIgnoreCase(type)) {
+            return TriggerOrder.Kind.STOP_LOSS;
+        }
+        if ("TAKE_PROFIT".equalsIgnoreCase(type)) {
+            return TriggerOrder.Kind.TAKE_PROFIT;
+        }
+        throw new BadRequestException("Nieprawidłowy typ zlecenia warunkowego");
+    }
+
+    private Map<String, Object> toMap(TriggerOrder trigger) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("id", trigger.getId());
+        result.put("assetId", trigger.getAsset().getId());
+        result.put("assetSymbol", trigger.getAsset().getSymbol());
+        result.put("type", trigger.getKind().toString());
+        result.put("triggerPrice", trigger.getTriggerPrice());
+        result.put("amount", trigger.getAmount());
+        result.put("status", trigger.getStatus().toString());
+        result.put("timestamp", trigger.getCreatedAt().toString());
+        if (trigger.getTriggeredAt() != null) {
+            result.put("triggeredAt", trigger.getTriggeredAt().toString());
+        }
+        if (trigger.getFailureReason() != null) {
+            result.put("failureReason", trigger.getFailureReason());
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.example.stockmarketsimulator.exception.BadRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// operacje jednego użytkownika wykonują się po kolei, różni użytkownicy nie czekają na siebie nawzajem
+@Component
+public class UserExecutionLanes {
+
+    private final Map<Long, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int maxRetries;
+    private final Logger logger = LoggerFactory.getLogger(UserExecutionLanes.class);
+
+    public UserExecutionLanes(@Value("${trading.lanes.max-retries:3}") int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public <T> T execute(Long userId, Supplier<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<?> tail = tails.compute(userId, (id, previous) -> {
+            CompletableFuture<?> after = previous != null ? previous : CompletableFuture.completedFuture(null);
+            // błąd poprzedniej operacji nie może zatrzymać kolejki użytkownika
+            return after.handle((value, error) -> null)
+                    .thenRunAsync(() -> runWithRetries(userId, work, result), executor);
+        });
+        tail.whenComplete((value, error) -> tails.remove(userId, tail));
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> void runWithRetries(Long userId, Supplier<T> work, CompletableFuture<T> result) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                result.complete(work.get());
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                // konflikt z zapisem spoza kolejki (np. rozliczenie zleceń); ponawiamy na świeżych danych
+                if (attempt >= maxRetries) {
+                    logger.warn("Konflikt wersji konta użytkownika {} po {} próbach", userId, attempt);
+                    result.completeExceptionally(
+                            new BadRequestException("Konto zostało równocześnie zmodyfikowane, spróbuj ponownie"));
+                    return;
+                }
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
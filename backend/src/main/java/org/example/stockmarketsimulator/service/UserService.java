@@ -1,35 +1,67 @@
 package org.example.stockmarketsimulator.service;
 
+import org.example.stockmarketsimulator.dto.TradeLeg;
 import org.example.stockmarketsimulator.exception.BadRequestException;
 import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
 import org.example.stockmarketsimulator.model.*;
 import org.example.stockmarketsimulator.repository.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
 public class UserService {
+    private static final long JOURNAL_PROJECTION_TIMEOUT_MS = 5000;
+
     private final UserRepository userRepository;
-    private final AssetsRepository assetsRepository;
+    private final AssetCatalog assetCatalog;
     private final TransactionsRepository transactionsRepository;
+    private final TradeOrderRepository tradeOrderRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PriceEpoch priceEpoch;
+    private final ValuationCache valuationCache;
+    private final TradeJournal tradeJournal;
+    private final ReservationLedger reservationLedger;
+    private final AssetHoldersIndex assetHoldersIndex;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchLegs;
 
     public UserService(UserRepository userRepository,
-                      AssetsRepository assetsRepository,
+                      AssetCatalog assetCatalog,
                       TransactionsRepository transactionsRepository,
-                      PasswordEncoder passwordEncoder) {
+                      TradeOrderRepository tradeOrderRepository,
+                      PasswordEncoder passwordEncoder,
+                      PriceEpoch priceEpoch,
+                      ValuationCache valuationCache,
+                      TradeJournal tradeJournal,
+                      ReservationLedger reservationLedger,
+                      AssetHoldersIndex assetHoldersIndex,
+                      ObjectMapper objectMapper,
+                      @Value("${trading.batch.max-legs:100}") int maxBatchLegs) {
         this.userRepository = userRepository;
-        this.assetsRepository = assetsRepository;
+        this.assetCatalog = assetCatalog;
         this.transactionsRepository = transactionsRepository;
+        this.tradeOrderRepository = tradeOrderRepository;
         this.passwordEncoder = passwordEncoder;
+        this.priceEpoch = priceEpoch;
+        this.valuationCache = valuationCache;
+        this.tradeJournal = tradeJournal;
+        this.reservationLedger = reservationLedger;
+        this.assetHoldersIndex = assetHoldersIndex;
+        this.objectMapper = objectMapper;
+        this.maxBatchLegs = maxBatchLegs;
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    // przy profit.engine=lazy kolumna zysku nie jest przeliczana po zmianie cen, więc zysk w odpowiedzi liczymy przy odczycie
+    public List<Map<String, Object>> getAllUsers() {
+        return userRepository.findAll().stream().map(this::userResponse).toList();
     }
 
     public User createUser(User user) {
@@ -45,37 +77,77 @@ public class UserService {
     }
 
     public void deleteUser(Long id) {
-        User user = getUserById(id);
+        User user = loadUser(id);
         userRepository.deleteById(id);
+        assetHoldersIndex.userRemoved(id);
+        valuationCache.evict(id);
+        reservationLedger.invalidate(id);
     }
 
     public List<Map<String, Object>> getWalletDetails(Long userId) {
-        User user = getUserById(userId);
-        UserWallet wallet = user.getWallet();
-        if (wallet == null) {
+        User user = loadUser(userId);
+        if (user.getWallet() == null) {
             return Collections.emptyList();
         }
+        return valuate(user).positions();
+    }
+
+    private ValuationCache.Valuation valuate(User user) {
+        UserWallet wallet = user.getWallet();
+        // epokę odczytujemy przed cenami, żeby wycena nigdy nie była nowsza niż jej klucz
+        long epoch = priceEpoch.current();
+        ValuationCache.Valuation cached = valuationCache.get(user.getId(), epoch, wallet.getHoldingsVersion());
+        if (cached != null) {
+            return cached;
+        }
 
+        // ceny i opisy pozycji z katalogu w pamięci, bez zapytań niezależnie od wielkości portfela
+        AssetCatalog.Snapshot catalog = assetCatalog.snapshot();
+        Map<Long, Long> prices = new HashMap<>();
         List<Map<String, Object>> detailedAssets = new ArrayList<>();
-        for (Map.Entry<Long, Double> entry : wallet.getAssets().entrySet()) {
-            Asset asset = assetsRepository.findById(entry.getKey())
-                    .orElseThrow(() -> new ResourceNotFoundException("Aktywo o ID " + entry.getKey() + " nie zostało znalezione"));
-            
+        for (Long assetId : wallet.getAssetIds()) {
+            Asset asset = catalog.byId().get(assetId);
+            if (asset == null) {
+                throw new ResourceNotFoundException("Aktywo o ID " + assetId + " nie zostało znalezione");
+            }
+            prices.put(asset.getId(), asset.getPriceUnits());
+
             detailedAssets.add(Map.of(
                 "id", asset.getId(),
                 "symbol", asset.getSymbol(),
                 "name", asset.getName(),
                 "price", asset.getPrice(),
-                "amount", entry.getValue()
+                "amount", wallet.getAmount(asset.getId())
             ));
         }
-        return detailedAssets;
+
+        // bez odtworzonego kosztu nabycia zostajemy przy zapisanym zysku i nie zapamiętujemy wyceny
+        if (!wallet.isCostBasisTracked()) {
+            return new ValuationCache.Valuation(epoch, wallet.getHoldingsVersion(), user.getProfit(), detailedAssets);
+        }
+
+        ValuationCache.Valuation valuation = new ValuationCache.Valuation(
+                epoch, wallet.getHoldingsVersion(), FixedPoint.fromMoney(wallet.calculateProfitUnits(prices)), List.copyOf(detailedAssets));
+        valuationCache.put(user.getId(), valuation);
+        return valuation;
     }
 
     @Transactional
     public List<Map<String, Object>> addAssetToWallet(Long userId, Long assetId, Double amount) {
-        User user = getUserById(userId);
-        Asset asset = assetsRepository.findById(assetId)
+        depositAsset(userId, assetId, amount);
+        return getWalletDetails(userId);
+    }
+
+    @Transactional
+    public Map<String, Object> addAssetToWalletDelta(Long userId, Long assetId, Double amount) {
+        Asset asset = depositAsset(userId, assetId, amount);
+        User user = loadUser(userId);
+        return positionDelta(user, asset, user.getWallet().getAmount(assetId), user.getAccountBalance());
+    }
+
+    private Asset depositAsset(Long userId, Long assetId, Double amount) {
+        User user = loadUser(userId);
+        Asset asset = assetCatalog.find(assetId)
                 .orElseThrow(() -> new ResourceNotFoundException("Aktywo nie zostało znalezione"));
 
         UserWallet wallet = user.getWallet();
@@ -84,45 +156,58 @@ public class UserService {
             user.setWallet(wallet);
         }
 
-        wallet.addAsset(assetId, amount);
+        long quantity = FixedPoint.toQuantity(amount);
+        wallet.addAssetUnits(assetId, quantity);
+        reservationLedger.creditPosition(userId, assetId, quantity);
+        assetHoldersIndex.walletChanged(wallet);
         userRepository.save(user);
-
-        return getWalletDetails(userId);
+        return asset;
     }
 
     @Transactional
     public void recalculateProfit(User user) {
         UserWallet wallet = user.getWallet();
         if (wallet == null) {
-            user.setProfit(0.0);
+            user.setProfitUnits(0L);
             userRepository.save(user);
             return;
         }
 
-        double profit = 0.0;
-        List<Transactions> userTransactions = transactionsRepository.findByUserOrderByTimestampDesc(user);
-        
-        for (Map.Entry<Long, Double> entry : wallet.getAssets().entrySet()) {
-            Asset asset = assetsRepository.findById(entry.getKey()).orElse(null);
-            if (asset == null) continue;
+        ensureCostBasisTracked(user, wallet);
 
-            Double amount = entry.getValue();
-            double spent = calculateSpentAmount(userTransactions, entry.getKey());
-            double currentValue = amount * asset.getPrice();
-            profit += currentValue - spent;
+        AssetCatalog.Snapshot catalog = assetCatalog.snapshot();
+        Map<Long, Long> prices = new HashMap<>();
+        for (Long assetId : wallet.getAssetIds()) {
+            Asset asset = catalog.byId().get(assetId);
+            if (asset != null) {
+                prices.put(assetId, asset.getPriceUnits());
+            }
         }
-        
-        user.setProfit(profit);
+
+        user.setProfitUnits(wallet.calculateProfitUnits(prices));
         userRepository.save(user);
     }
 
-    private double calculateSpentAmount(List<Transactions> transactions, Long assetId) {
-        return transactions.stream()
-                .filter(t -> t.getAsset().getId().equals(assetId))
-                .mapToDouble(t -> t.getType() == Transactions.TransactionType.BUY ? 
-                        t.getAmount() * t.getPrice() : 
-                        -t.getAmount() * t.getPrice())
-                .sum();
+    @Transactional
+    public void backfillCostBasis(Long userId) {
+        recalculateProfit(loadUser(userId));
+    }
+
+    void ensureCostBasisTracked(User user, UserWallet wallet) {
+        if (wallet.isCostBasisTracked()) {
+            return;
+        }
+
+        wallet.clearCostBasis();
+        for (Transactions t : transactionsRepository.findByUserOrderByTimestampDesc(user)) {
+            long value = FixedPoint.value(t.getAmountUnits(), t.getPriceUnits());
+            if (t.getType() == Transactions.TransactionType.BUY) {
+                wallet.recordBuyUnits(t.getAsset().getId(), value);
+            } else {
+                wallet.recordSellUnits(t.getAsset().getId(), value);
+            }
+        }
+        wallet.setCostBasisTracked(true);
     }
 
     @Transactional
@@ -131,20 +216,45 @@ public class UserService {
             throw new BadRequestException("Kwota musi być większa od zera");
         }
 
-        User user = getUserById(userId);
-        user.setAccountBalance(user.getAccountBalance() + amount);
+        User user = loadUser(userId);
+        long units = FixedPoint.toMoney(amount);
+        user.setAccountBalanceUnits(user.getAccountBalanceUnits() + units);
+        reservationLedger.creditCash(userId, units);
         userRepository.save(user);
 
         return Map.of(
             "accountBalance", user.getAccountBalance(),
-            "profit", user.getProfit()
+            "profit", user.getWallet() != null ? valuate(user).profit() : user.getProfit()
         );
     }
 
     @Transactional
     public List<Map<String, Object>> tradeAsset(Long userId, String type, Long assetId, Double amount) {
-        User user = getUserById(userId);
-        Asset asset = assetsRepository.findById(assetId)
+        if (tradeJournal.isEnabled()) {
+            return positionsView(journalTrade(userId, type, assetId, amount).positions());
+        }
+        executeTrade(userId, type, assetId, amount);
+        return getWalletDetails(userId);
+    }
+
+    // odpowiedź z samą zmienioną pozycją, saldem i zyskiem zamiast całego portfela
+    @Transactional
+    public Map<String, Object> tradeAssetDelta(Long userId, String type, Long assetId, Double amount) {
+        if (tradeJournal.isEnabled()) {
+            JournalTrade trade = journalTrade(userId, type, assetId, amount);
+            Map<String, Object> delta = positionDelta(trade.user(), trade.asset(),
+                    trade.positions().getOrDefault(assetId, 0.0), trade.balance());
+            delta.put("journalSequence", trade.sequence());
+            return delta;
+        }
+        Asset asset = executeTrade(userId, type, assetId, amount);
+        User user = loadUser(userId);
+        return positionDelta(user, asset, user.getWallet().getAmount(assetId), user.getAccountBalance());
+    }
+
+    private Asset executeTrade(Long userId, String type, Long assetId, Double amount) {
+        User user = loadUser(userId);
+        Asset asset = assetCatalog.find(assetId)
                 .orElseThrow(() -> new ResourceNotFoundException("Aktywo nie zostało znalezione"));
 
         UserWallet wallet = user.getWallet();
@@ -153,61 +263,229 @@ public class UserService {
             user.setWallet(wallet);
         }
 
-        double price = asset.getPrice();
+        ensureCostBasisTracked(user, wallet);
 
+        long quantity = FixedPoint.toQuantity(amount);
         if ("BUY".equalsIgnoreCase(type)) {
-            handleBuyTransaction(user, asset, amount, price, wallet);
+            handleBuyTransaction(user, asset, quantity, wallet);
         } else if ("SELL".equalsIgnoreCase(type)) {
-            handleSellTransaction(user, asset, amount, price, wallet);
+            handleSellTransaction(user, asset, quantity, wallet);
         } else {
             throw new BadRequestException("Nieprawidłowy typ transakcji");
         }
+        assetHoldersIndex.walletChanged(wallet);
 
         recalculateProfit(user);
         userRepository.save(user);
-        return getWalletDetails(userId);
+        return asset;
     }
 
-    private void handleBuyTransaction(User user, Asset asset, Double amount, double price, UserWallet wallet) {
-        double totalCost = price * amount;
-        if (user.getAccountBalance() < totalCost) {
-            throw new BadRequestException("Brak środków na koncie");
+    private Map<String, Object> positionDelta(User user, Asset asset, double amount, double balance) {
+        // wersja portfela podbijana jest dopiero przy zapisie do bazy
+        userRepository.flush();
+        Map<String, Object> delta = new HashMap<>();
+        delta.put("position", Map.of(
+            "id", asset.getId(),
+            "symbol", asset.getSymbol(),
+            "name", asset.getName(),
+            "price", asset.getPrice(),
+            "amount", amount
+        ));
+        delta.put("accountBalance", balance);
+        delta.put("profit", user.getProfit());
+        delta.put("walletVersion", user.getWallet() != null ? user.getWallet().getVersion() : 0L);
+        return delta;
+    }
+
+    private record JournalTrade(User user, Asset asset, Map<Long, Double> positions, double balance, long sequence) {}
+
+    // transakcja potwierdzana po zapisie w dzienniku; saldo i pozycje w bazie uzupełni TradeProjector
+    private JournalTrade journalTrade(Long userId, String type, Long assetId, Double amount) {
+        boolean buy = "BUY".equalsIgnoreCase(type);
+        if (!buy && !"SELL".equalsIgnoreCase(type)) {
+            throw new BadRequestException("Nieprawidłowy typ transakcji");
         }
 
-        wallet.addAsset(asset.getId(), amount);
-        user.setAccountBalance(user.getAccountBalance() - totalCost);
-        saveTransaction(user, asset, amount, price, Transactions.TransactionType.BUY);
+        User user;
+        Map<Long, Double> positions;
+        double balance;
+        // oczekujące wpisy i konto z bazy w jednym punkcie: projekcja nie może zatwierdzić wpisu pomiędzy odczytami
+        try (TradeJournal.AccountLock lock = tradeJournal.lockAccounts(List.of(userId))) {
+            TradeJournal.PendingAccount pending = tradeJournal.pendingOf(userId);
+            user = loadUser(userId);
+            positions = new HashMap<>(user.getWallet() != null ? user.getWallet().getAssets() : Map.of());
+            pending.getAssetDeltas().forEach((id, delta) -> positions.merge(id, delta, Double::sum));
+            balance = user.getAccountBalance() + pending.getBalanceDelta();
+        }
+        Asset asset = assetCatalog.find(assetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Aktywo nie zostało znalezione"));
+
+        double price = asset.getPrice();
+        if (buy) {
+            if (balance < price * amount) {
+                throw new BadRequestException("Brak środków na koncie");
+            }
+        } else {
+            double reserved = tradeOrderRepository.sumOpenSellRemaining(userId, assetId);
+            if (positions.getOrDefault(assetId, 0.0) - reserved < amount) {
+                throw new BadRequestException("Nie posiadasz wystarczającej ilości aktywa");
+            }
+        }
+
+        TradeJournal.Entry entry = tradeJournal.append(userId, assetId, buy, amount, price);
+
+        // stan po transakcji: baza plus wpisy dziennika czekające na projekcję
+        positions.merge(assetId, buy ? amount : -amount, Double::sum);
+        positions.values().removeIf(held -> held <= 0);
+        balance += buy ? -price * amount : price * amount;
+        return new JournalTrade(user, asset, positions, balance, entry.sequence());
     }
 
-    private void handleSellTransaction(User user, Asset asset, Double amount, double price, UserWallet wallet) {
-        Double owned = wallet.getAssets().getOrDefault(asset.getId(), 0.0);
-        if (owned < amount) {
-            throw new BadRequestException("Nie posiadasz wystarczającej ilości aktywa");
+    private List<Map<String, Object>> positionsView(Map<Long, Double> positions) {
+        List<Map<String, Object>> detailedAssets = new ArrayList<>();
+        AssetCatalog.Snapshot catalog = assetCatalog.snapshot();
+        for (Long assetId : positions.keySet()) {
+            Asset held = catalog.byId().get(assetId);
+            if (held == null) {
+                continue;
+            }
+            detailedAssets.add(Map.of(
+                "id", held.getId(),
+                "symbol", held.getSymbol(),
+                "name", held.getName(),
+                "price", held.getPrice(),
+                "amount", positions.get(held.getId())
+            ));
         }
+        return detailedAssets;
+    }
 
-        wallet.removeAsset(asset.getId(), amount);
-        user.setAccountBalance(user.getAccountBalance() + (price * amount));
-        saveTransaction(user, asset, amount, price, Transactions.TransactionType.SELL);
+    // operacje czytające saldo z bazy muszą poczekać, aż wpisy dziennika użytkownika trafią do tabel
+    void awaitJournalProjection(Long userId) {
+        if (tradeJournal.isEnabled()) {
+            tradeJournal.awaitProjected(userId, JOURNAL_PROJECTION_TIMEOUT_MS);
+        }
     }
 
-    private void saveTransaction(User user, Asset asset, Double amount, double price, Transactions.TransactionType type) {
+    @Transactional
+    public Map<String, Object> tradeBatch(Long userId, List<TradeLeg> legs) {
+        if (legs == null || legs.isEmpty()) {
+            throw new BadRequestException("Lista zleceń nie może być pusta");
+        }
+        if (legs.size() > maxBatchLegs) {
+            throw new BadRequestException("Maksymalna liczba zleceń w paczce to " + maxBatchLegs);
+        }
+        awaitJournalProjection(userId);
+
+        User user = loadUser(userId);
+        UserWallet wallet = user.getWallet();
+        if (wallet == null) {
+            wallet = new UserWallet(user);
+            user.setWallet(wallet);
+        }
+        ensureCostBasisTracked(user, wallet);
+
+        Map<Long, Asset> assets = assetCatalog.snapshot().byId();
+
+        // każda pozycja sprawdzana jest na bieżącym stanie konta; odrzucona nie wstrzymuje pozostałych
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int i = 0; i < legs.size(); i++) {
+            TradeLeg leg = legs.get(i);
+            Map<String, Object> result = new HashMap<>();
+            result.put("index", i);
+            result.put("type", leg.type());
+            result.put("assetId", leg.assetId());
+            result.put("amount", leg.amount());
+            try {
+                // niezmienna mapa katalogu nie przyjmuje null jako klucza
+                Asset asset = leg.assetId() != null ? assets.get(leg.assetId()) : null;
+                if (asset == null) {
+                    throw new BadRequestException("Aktywo nie zostało znalezione");
+                }
+                if (leg.amount() == null || leg.amount() <= 0) {
+                    throw new BadRequestException("Ilość musi być większa od zera");
+                }
+                long quantity = FixedPoint.toQuantity(leg.amount());
+                if ("BUY".equalsIgnoreCase(leg.type())) {
+                    handleBuyTransaction(user, asset, quantity, wallet);
+                } else if ("SELL".equalsIgnoreCase(leg.type())) {
+                    handleSellTransaction(user, asset, quantity, wallet);
+                } else {
+                    throw new BadRequestException("Nieprawidłowy typ transakcji");
+                }
+                result.put("price", asset.getPrice());
+                result.put("status", "EXECUTED");
+            } catch (BadRequestException e) {
+                result.put("status", "REJECTED");
+                result.put("error", e.getMessage());
+            }
+            results.add(result);
+        }
+        assetHoldersIndex.walletChanged(wallet);
+
+        recalculateProfit(user);
+
+        return Map.of(
+            "results", results,
+            "accountBalance", user.getAccountBalance(),
+            "profit", user.getProfit()
+        );
+    }
+
+    private void handleBuyTransaction(User user, Asset asset, long quantity, UserWallet wallet) {
+        long totalCost = FixedPoint.value(quantity, asset.getPriceUnits());
+        reservationLedger.reserveCash(user.getId(), totalCost);
+
+        wallet.addAssetUnits(asset.getId(), quantity);
+        reservationLedger.creditPosition(user.getId(), asset.getId(), quantity);
+        wallet.recordBuyUnits(asset.getId(), totalCost);
+        user.setAccountBalanceUnits(user.getAccountBalanceUnits() - totalCost);
+        saveTransaction(user, asset, quantity, Transactions.TransactionType.BUY);
+    }
+
+    private void handleSellTransaction(User user, Asset asset, long quantity, UserWallet wallet) {
+        // ilość zablokowana w aktywnych zleceniach sprzedaży nie jest dostępna do natychmiastowej sprzedaży
+        reservationLedger.reservePosition(user.getId(), asset.getId(), quantity);
+
+        long proceeds = FixedPoint.value(quantity, asset.getPriceUnits());
+        wallet.removeAssetUnits(asset.getId(), quantity);
+        wallet.recordSellUnits(asset.getId(), proceeds);
+        user.setAccountBalanceUnits(user.getAccountBalanceUnits() + proceeds);
+        reservationLedger.creditCash(user.getId(), proceeds);
+        saveTransaction(user, asset, quantity, Transactions.TransactionType.SELL);
+    }
+
+    private void saveTransaction(User user, Asset asset, long quantity, Transactions.TransactionType type) {
         Transactions transaction = new Transactions();
         transaction.setUser(user);
         transaction.setAsset(asset);
-        transaction.setAmount(amount);
-        transaction.setPrice(price);
+        transaction.setAmountUnits(quantity);
+        transaction.setPriceUnits(asset.getPriceUnits());
         transaction.setType(type);
         transaction.setTimestamp(LocalDateTime.now());
         transactionsRepository.save(transaction);
     }
 
-    public User getUserById(Long id) {
+    public Map<String, Object> getUserById(Long id) {
+        return userResponse(loadUser(id));
+    }
+
+    // wycena trafia tylko do odpowiedzi; zapis do zarządzanej encji zrobiłby z odczytu zmianę w bazie
+    private Map<String, Object> userResponse(User user) {
+        Map<String, Object> response = objectMapper.convertValue(user, new TypeReference<Map<String, Object>>() {});
+        if (user.getWallet() != null) {
+            response.put("profit", valuate(user).profit());
+        }
+        return response;
+    }
+
+    private User loadUser(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Użytkownik nie został znaleziony"));
     }
 
     public List<Map<String, Object>> getUserTransactions(Long userId) {
-        User user = getUserById(userId);
+        User user = loadUser(userId);
         List<Transactions> transactions = transactionsRepository.findByUserOrderByTimestampDesc(user);
         
         List<Map<String, Object>> result = new ArrayList<>();
@@ -219,7 +497,7 @@ public class UserService {
             transactionMap.put("assetName", t.getAsset().getName());
             transactionMap.put("amount", t.getAmount());
             transactionMap.put("price", t.getPrice());
-            transactionMap.put("totalValue", t.getAmount() * t.getPrice());
+            transactionMap.put("totalValue", FixedPoint.fromMoney(FixedPoint.value(t.getAmountUnits(), t.getPriceUnits())));
             transactionMap.put("timestamp", t.getTimestamp().toString());
             result.add(transactionMap);
         }
@@ -227,7 +505,8 @@ public class UserService {
     }
 
     public Map<String, Object> getAggregatedUserData(Long userId) {
-        User user = getUserById(userId);
+        User user = loadUser(userId);
+        ValuationCache.Valuation valuation = user.getWallet() != null ? valuate(user) : null;
         Map<String, Object> response = new HashMap<>();
         
         response.put("user", Map.of(
@@ -235,13 +514,13 @@ public class UserService {
             "username", user.getUsername(),
             "email", user.getEmail(),
             "accountBalance", user.getAccountBalance(),
-            "profit", user.getProfit()
+            "profit", valuation != null ? valuation.profit() : user.getProfit()
         ));
         
         response.put("transactions", transactionsRepository.findByUserOrderByTimestampDesc(user));
         
-        if (user.getWallet() != null) {
-            response.put("assets", getWalletDetails(userId));
+        if (valuation != null) {
+            response.put("assets", valuation.positions());
         }
         
         return response;
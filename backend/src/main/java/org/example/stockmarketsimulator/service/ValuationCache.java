@@ -0,0 +1,52 @@
+package org.example.stockmarketsimulator.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ValuationCache {
+
+    public record Valuation(long epoch, long holdingsVersion, double profit, List<Map<String, Object>> positions) {}
+
+    private final Map<Long, Valuation> valuations;
+
+    public ValuationCache(@Value("${valuation.cache.max-entries:10000}") int maxEntries) {
+        // LRU w kolejności dostępu; wycena najdawniej odczytywanego portfela wypada po przekroczeniu limitu
+        this.valuations = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Valuation> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Valuation get(Long userId, long epoch, long holdingsVersion) {
+        Valuation valuation;
+        synchronized (valuations) {
+            valuation = valuations.get(userId);
+        }
+        if (valuation == null || valuation.epoch() != epoch || valuation.holdingsVersion() != holdingsVersion) {
+            return null;
+        }
+        return valuation;
+    }
+
+    public void put(Long userId, Valuation valuation) {
+        // wycena policzona w transakcji, która się wycofa, nie może trafić do pamięci
+        TransactionHooks.afterCommit(() -> {
+            synchronized (valuations) {
+                valuations.put(userId, valuation);
+            }
+        });
+    }
+
+    public void evict(Long userId) {
+        synchronized (valuations) {
+            valuations.remove(userId);
+        }
+    }
+}
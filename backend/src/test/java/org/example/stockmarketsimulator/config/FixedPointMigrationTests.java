@@ -0,0 +1,57 @@
+package org.example.stockmarketsimulator.config;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Migracja kolumn na wartości stałoprzecinkowe:
+ * - kolumna double precision jest przekształcana
+ * - kolumna już przekształcona lub nieistniejąca jest pomijana
+ */
+
+@ExtendWith(MockitoExtension.class)
+public class FixedPointMigrationTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private void columnType(String table, String column, List<String> types) {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(table), eq(column))).thenReturn(types);
+    }
+
+    @Test
+    void testMigrate_ConvertsOnlyDoubleColumns() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(), any())).thenReturn(List.of("bigint"));
+        columnType("assets", "price", List.of("double precision"));
+
+        // When
+        FixedPointMigration.migrate(jdbcTemplate);
+
+        // Then
+        verify(jdbcTemplate).execute("alter table assets alter column price type bigint using round(price * 1000000)");
+        verify(jdbcTemplate, times(1)).execute(anyString());
+    }
+
+    @Test
+    void testMigrate_SkipsConvertedAndMissingColumns() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(), any())).thenReturn(List.of("bigint"));
+        columnType("wallet_cost_basis", "cost_basis", List.of());
+
+        // When
+        FixedPointMigration.migrate(jdbcTemplate);
+
+        // Then
+        verify(jdbcTemplate, times(7)).queryForList(anyString(), eq(String.class), any(), any());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
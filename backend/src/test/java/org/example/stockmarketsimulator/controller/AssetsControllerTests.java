@@ -5,27 +5,37 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
+import org.example.stockmarketsimulator.exception.BadRequestException;
 import org.example.stockmarketsimulator.exception.GlobalExceptionHandler;
 import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
 import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.service.AssetListing;
 import org.example.stockmarketsimulator.service.AssetService;
+import org.example.stockmarketsimulator.service.PriceEpoch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Pokrycie testami endpointów AssetsController:
  * - GET /api/v1/assets
+ * - GET /api/v1/assets/list
+ * - GET /api/v1/assets/search
  * - POST /api/v1/assets
  * - DELETE /api/v1/assets/{id}
  * - GET /api/v1/assets/{id}/history
+ * - GET /api/v1/assets/{id}/candles
  */
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +46,12 @@ public class AssetsControllerTests {
     @Mock
     private AssetService assetService;
 
+    @Spy
+    private PriceEpoch priceEpoch = new PriceEpoch();
+
+    @Mock
+    private AssetListing assetListing;
+
     @InjectMocks
     private AssetsController assetsController;
 
@@ -52,12 +68,18 @@ public class AssetsControllerTests {
         assertThat(assetsController).isNotNull();
     }
 
+    private static AssetListing.Rendered rendered(String json) throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        return new AssetListing.Rendered(json.getBytes(StandardCharsets.UTF_8), compressed.toByteArray());
+    }
+
     @Test
     void getAssets_shouldReturnAssets() throws Exception {
         // Given
-        Asset asset = new Asset("AAPL", 150.0, "Apple Inc.");
-        Map<String, Object> response = Map.of("content", Collections.singletonList(asset));
-        when(assetService.getAssets(null, null, null, null, null)).thenReturn(response);
+        when(assetListing.rendered()).thenReturn(rendered("[{\"id\":1,\"symbol\":\"AAPL\",\"name\":\"Apple Inc.\",\"price\":150.0}]"));
 
         // When & Then
         mockMvc.perform(get("/api/v1/assets"))
@@ -65,6 +87,156 @@ public class AssetsControllerTests {
                 .andExpect(jsonPath("$[0].symbol").value("AAPL"))
                 .andExpect(jsonPath("$[0].name").value("Apple Inc."))
                 .andExpect(jsonPath("$[0].price").value(150.0));
+
+        verifyNoInteractions(assetService);
+    }
+
+    @Test
+    void getAssets_shouldReturnGzipVariant() throws Exception {
+        // Given
+        AssetListing.Rendered listing = rendered("[]");
+        when(assetListing.rendered()).thenReturn(listing);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(header().string("ETag", "\"" + priceEpoch.catalogVersion().etag() + "-gz\""))
+                .andExpect(content().bytes(listing.gzip()));
+    }
+
+    @Test
+    void getAssets_shouldMatchEtagOnlyWithinEncodingVariant() throws Exception {
+        // Given
+        when(assetListing.rendered()).thenReturn(rendered("[]"));
+        String etag = "\"" + priceEpoch.catalogVersion().etag() + "\"";
+        String gzipEtag = "\"" + priceEpoch.catalogVersion().etag() + "-gz\"";
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets").header("Accept-Encoding", "gzip").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+        mockMvc.perform(get("/api/v1/assets").header("If-None-Match", gzipEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+        mockMvc.perform(get("/api/v1/assets").header("Accept-Encoding", "gzip").header("If-None-Match", gzipEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getAssets_shouldFilterThroughServiceWhenParametersGiven() throws Exception {
+        // Given
+        Asset asset = new Asset("AAPL", 150.0, "Apple Inc.");
+        when(assetService.getAssets("aap", null, null, null, null))
+                .thenReturn(Map.of("content", Collections.singletonList(asset)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets").param("search", "aap"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].symbol").value("AAPL"));
+
+        verifyNoInteractions(assetListing);
+    }
+
+    @Test
+    void getAssets_shouldReturnEtagAndLastModified() throws Exception {
+        // Given
+        when(assetListing.rendered()).thenReturn(rendered("[]"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + priceEpoch.catalogVersion().etag() + "\""))
+                .andExpect(header().exists("Last-Modified"));
+    }
+
+    @Test
+    void getAssets_shouldReturnNotModifiedWithoutServiceCall() throws Exception {
+        // Given
+        String etag = "\"" + priceEpoch.catalogVersion().etag() + "\"";
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(assetService, assetListing);
+    }
+
+    @Test
+    void getAssets_shouldReturnOkForOutdatedEtag() throws Exception {
+        // Given
+        when(assetListing.rendered()).thenReturn(rendered("[]"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets").header("If-None-Match", "\"a-stale-0\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAssetHistory_shouldReturnNotModifiedWithoutServiceCall() throws Exception {
+        // Given
+        String etag = "\"" + priceEpoch.historyVersion(1L).etag() + "\"";
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets/1/history").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(assetService);
+    }
+
+    @Test
+    void listAssets_shouldReturnPageWithCursor() throws Exception {
+        // Given
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", List.of(new Asset(1L, "AAPL", 150.0, "Apple Inc.")));
+        response.put("size", 1);
+        response.put("nextCursor", "cHJpY2V8QVNDfDF8MTUwMDAwMDAw");
+        when(assetService.listAssets(null, "price", null, 1, null, false)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets/list").param("sortBy", "price").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].symbol").value("AAPL"))
+                .andExpect(jsonPath("$.nextCursor").value("cHJpY2V8QVNDfDF8MTUwMDAwMDAw"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void listAssets_shouldReturnBadRequestForInvalidCursor() throws Exception {
+        // Given
+        when(assetService.listAssets(null, null, null, null, "xyz", true))
+                .thenThrow(new BadRequestException("Nieprawidłowy kursor"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets/list").param("cursor", "xyz").param("count", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Nieprawidłowy kursor"));
+    }
+
+    @Test
+    void searchAssets_shouldReturnRankedAssets() throws Exception {
+        // Given
+        List<Asset> results = List.of(new Asset(1L, "AAPL", 150.0, "Apple Inc."), new Asset(2L, "AAPLX", 10.0, "Apple Leveraged"));
+        when(assetService.searchAssets("aap", 5)).thenReturn(results);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets/search").param("q", "aap").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].symbol").value("AAPL"))
+                .andExpect(jsonPath("$[1].symbol").value("AAPLX"));
+    }
+
+    @Test
+    void searchAssets_shouldReturnBadRequestForInvalidLimit() throws Exception {
+        // Given
+        when(assetService.searchAssets("aap", 500))
+                .thenThrow(new BadRequestException("Limit wyników musi mieścić się w zakresie 1-50"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets/search").param("q", "aap").param("limit", "500"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Limit wyników musi mieścić się w zakresie 1-50"));
     }
 
     @Test
@@ -125,4 +297,33 @@ public class AssetsControllerTests {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].price").value(100.0));
     }
+
+    @Test
+    void getAssetCandles_shouldReturnCandles() throws Exception {
+        // Given
+        List<Map<String, Object>> candles = List.of(
+            Map.of("time", "2024-06-01T12:00:00Z", "open", 100.0, "high", 105.0, "low", 99.0, "close", 104.0, "ticks", 2)
+        );
+        when(assetService.getAssetCandles(1L, "1h", "2024-06-01T00:00:00Z", null)).thenReturn(candles);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets/1/candles").param("resolution", "1h").param("from", "2024-06-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].open").value(100.0))
+                .andExpect(jsonPath("$[0].high").value(105.0))
+                .andExpect(jsonPath("$[0].low").value(99.0))
+                .andExpect(jsonPath("$[0].close").value(104.0));
+    }
+
+    @Test
+    void getAssetCandles_shouldReturnBadRequestForInvalidResolution() throws Exception {
+        // Given
+        when(assetService.getAssetCandles(1L, "2m", null, null))
+                .thenThrow(new BadRequestException("Nieprawidłowa rozdzielczość, dozwolone: 1m, 5m, 1h, 1d"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets/1/candles").param("resolution", "2m"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Nieprawidłowa rozdzielczość, dozwolone: 1m, 5m, 1h, 1d"));
+    }
 }
@@ -0,0 +1,193 @@
+package org.example.stockmarketsimulator.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import org.example.stockmarketsimulator.exception.BadRequestException;
+import org.example.stockmarketsimulator.exception.GlobalExceptionHandler;
+import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
+import org.example.stockmarketsimulator.service.OrderService;
+import org.example.stockmarketsimulator.service.TriggerService;
+import org.example.stockmarketsimulator.service.UserExecutionLanes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.*;
+
+/**
+ * Pokrycie testami endpointów OrderController:
+ * - POST /api/v1/users/{userId}/wallet/orders
+ * - GET /api/v1/users/{userId}/wallet/orders
+ * - DELETE /api/v1/users/{userId}/wallet/orders/{orderId}
+ * - GET /api/v1/assets/{assetId}/order-book
+ * - POST /api/v1/users/{userId}/wallet/triggers
+ * - GET /api/v1/users/{userId}/wallet/triggers
+ * - DELETE /api/v1/users/{userId}/wallet/triggers/{triggerId}
+ */
+
+@ExtendWith(MockitoExtension.class)
+public class OrderControllerTests {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private TriggerService triggerService;
+
+    @Spy
+    private UserExecutionLanes userExecutionLanes = new UserExecutionLanes(3);
+
+    @InjectMocks
+    private OrderController orderController;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(orderController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void placeOrder_shouldReturnCreatedOrder() throws Exception {
+        // Given
+        Map<String, Object> order = Map.of("id", 7L, "type", "BUY", "price", 100.0, "amount", 2.0, "status", "OPEN");
+        when(orderService.placeOrder(eq(1L), eq("BUY"), eq(1L), eq(100.0), eq(2.0))).thenReturn(order);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/orders")
+                        .contentType("application/json")
+                        .content("{\"type\":\"BUY\",\"assetId\":1,\"price\":100.0,\"amount\":2.0}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.status").value("OPEN"));
+    }
+
+    @Test
+    void placeOrder_shouldReturnBadRequest_whenInsufficientFunds() throws Exception {
+        // Given
+        when(orderService.placeOrder(eq(1L), eq("BUY"), eq(1L), eq(100.0), eq(2.0)))
+                .thenThrow(new BadRequestException("Brak środków na koncie"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/orders")
+                        .contentType("application/json")
+                        .content("{\"type\":\"BUY\",\"assetId\":1,\"price\":100.0,\"amount\":2.0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Brak środków na koncie"));
+    }
+
+    @Test
+    void getUserOrders_shouldReturnOrders() throws Exception {
+        // Given
+        List<Map<String, Object>> orders = List.of(Map.of("id", 7L, "type", "SELL", "status", "FILLED"));
+        when(orderService.getUserOrders(1L)).thenReturn(orders);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/1/wallet/orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("SELL"))
+                .andExpect(jsonPath("$[0].status").value("FILLED"));
+    }
+
+    @Test
+    void cancelOrder_shouldReturnCancelledOrder() throws Exception {
+        // Given
+        when(orderService.cancelOrder(1L, 7L)).thenReturn(Map.of("id", 7L, "status", "CANCELLED", "remaining", 1.5));
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/users/1/wallet/orders/7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"))
+                .andExpect(jsonPath("$.remaining").value(1.5));
+    }
+
+    @Test
+    void cancelOrder_shouldReturnNotFound_whenOrderDoesNotExist() throws Exception {
+        // Given
+        when(orderService.cancelOrder(1L, 99L)).thenThrow(new ResourceNotFoundException("Zlecenie nie zostało znalezione"));
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/users/1/wallet/orders/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Zlecenie nie zostało znalezione"));
+    }
+
+    @Test
+    void getOrderBook_shouldReturnDepth() throws Exception {
+        // Given
+        Map<String, Object> book = Map.of(
+            "assetId", 1L,
+            "bids", List.of(Map.of("price", 99.0, "amount", 3.0, "orders", 2)),
+            "asks", List.of()
+        );
+        when(orderService.getOrderBook(1L, 5)).thenReturn(book);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assets/1/order-book").param("levels", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bids[0].price").value(99.0))
+                .andExpect(jsonPath("$.bids[0].orders").value(2));
+    }
+
+    @Test
+    void createTrigger_shouldReturnCreatedTrigger() throws Exception {
+        // Given
+        Map<String, Object> trigger = Map.of("id", 3L, "type", "STOP_LOSS", "triggerPrice", 90.0, "status", "ACTIVE");
+        when(triggerService.createTrigger(eq(1L), eq("STOP_LOSS"), eq(1L), eq(90.0), eq(2.0))).thenReturn(trigger);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/triggers")
+                        .contentType("application/json")
+                        .content("{\"type\":\"STOP_LOSS\",\"assetId\":1,\"triggerPrice\":90.0,\"amount\":2.0}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.type").value("STOP_LOSS"))
+                .andExpect(jsonPath("$.status").value("ACTIVE"));
+    }
+
+    @Test
+    void createTrigger_shouldReturnBadRequest_whenThresholdAboveCurrentPrice() throws Exception {
+        // Given
+        when(triggerService.createTrigger(eq(1L), eq("STOP_LOSS"), eq(1L), eq(200.0), eq(2.0)))
+                .thenThrow(new BadRequestException("Próg stop-loss musi być niższy od bieżącej ceny"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/triggers")
+                        .contentType("application/json")
+                        .content("{\"type\":\"STOP_LOSS\",\"assetId\":1,\"triggerPrice\":200.0,\"amount\":2.0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Próg stop-loss musi być niższy od bieżącej ceny"));
+    }
+
+    @Test
+    void getUserTriggers_shouldReturnTriggers() throws Exception {
+        // Given
+        when(triggerService.getUserTriggers(1L)).thenReturn(List.of(Map.of("id", 3L, "status", "EXECUTED")));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/1/wallet/triggers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("EXECUTED"));
+    }
+
+    @Test
+    void cancelTrigger_shouldReturnCancelledTrigger() throws Exception {
+        // Given
+        when(triggerService.cancelTrigger(1L, 3L)).thenReturn(Map.of("id", 3L, "status", "CANCELLED"));
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/users/1/wallet/triggers/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+}
@@ -4,23 +4,29 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
+import org.example.stockmarketsimulator.dto.TradeLeg;
 import org.example.stockmarketsimulator.exception.BadRequestException;
 import org.example.stockmarketsimulator.exception.GlobalExceptionHandler;
 import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
+import org.example.stockmarketsimulator.exception.UnprocessableEntityException;
 import org.example.stockmarketsimulator.model.Asset;
 import org.example.stockmarketsimulator.model.User;
 import org.example.stockmarketsimulator.model.UserWallet;
+import org.example.stockmarketsimulator.service.IdempotencyService;
+import org.example.stockmarketsimulator.service.UserExecutionLanes;
 import org.example.stockmarketsimulator.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Pokrycie testami endpointów UserController:
@@ -32,6 +38,7 @@ import java.util.*;
  * - GET /api/v1/users/{id}
  * - POST /api/v1/users/{id}/add-funds
  * - POST /api/v1/users/{userId}/wallet/trade
+ * - POST /api/v1/users/{userId}/wallet/trade/batch
  * - GET /api/v1/users/{userId}/transactions
  * - GET /api/v1/users/{userId}/aggregated
  */
@@ -44,6 +51,12 @@ public class UserControllerTests {
     @Mock
     private UserService userService;
 
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Spy
+    private UserExecutionLanes userExecutionLanes = new UserExecutionLanes(3);
+
     @InjectMocks
     private UserController userController;
 
@@ -53,12 +66,15 @@ public class UserControllerTests {
                 .standaloneSetup(userController)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
+        lenient().when(idempotencyService.execute(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> new IdempotencyService.Result(
+                        invocation.<Supplier<?>>getArgument(4).get(), false));
     }
 
     @Test
     void getUsers_shouldReturnUsers() throws Exception {
         // Given
-        User user = new User("John Doe", "john.doe@example.com", "password123");
+        Map<String, Object> user = Map.of("username", "John Doe", "email", "john.doe@example.com", "profit", 0.0);
         when(userService.getAllUsers()).thenReturn(Collections.singletonList(user));
 
         // When & Then
@@ -210,8 +226,7 @@ public class UserControllerTests {
     @Test
     void getUserById_shouldReturnUser() throws Exception {
         // Given
-        User user = new User("John Doe", "john.doe@example.com", "password123");
-        user.setId(1L);
+        Map<String, Object> user = Map.of("id", 1L, "username", "John Doe", "email", "john.doe@example.com");
         when(userService.getUserById(1L)).thenReturn(user);
 
         // When & Then
@@ -251,6 +266,117 @@ public class UserControllerTests {
                 .andExpect(jsonPath("$[0].symbol").value("AAPL"));
     }
 
+    @Test
+    void tradeAsset_shouldReturnDelta_whenResponseModeDelta() throws Exception {
+        // Given
+        Map<String, Object> delta = Map.of(
+            "position", Map.of("id", 1L, "symbol", "AAPL", "amount", 5.0),
+            "accountBalance", 250.0,
+            "profit", 12.5,
+            "walletVersion", 4L
+        );
+        when(userService.tradeAssetDelta(eq(1L), eq("BUY"), eq(1L), eq(5.0))).thenReturn(delta);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/trade")
+                .param("response", "delta")
+                .contentType("application/json")
+                .content("{\"type\":\"BUY\",\"assetId\":1,\"amount\":5.0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.position.symbol").value("AAPL"))
+                .andExpect(jsonPath("$.accountBalance").value(250.0))
+                .andExpect(jsonPath("$.walletVersion").value(4));
+        verify(userService, never()).tradeAsset(any(), any(), any(), any());
+    }
+
+    @Test
+    void tradeAsset_shouldReturnBadRequest_whenResponseModeUnknown() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/trade")
+                .param("response", "compact")
+                .contentType("application/json")
+                .content("{\"type\":\"BUY\",\"assetId\":1,\"amount\":5.0}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void tradeBatch_shouldReturnPerLegResults() throws Exception {
+        // Given
+        List<TradeLeg> legs = List.of(new TradeLeg("BUY", 1L, 5.0), new TradeLeg("SELL", 2L, 1.0));
+        Map<String, Object> response = Map.of(
+            "results", List.of(
+                Map.of("index", 0, "status", "EXECUTED", "price", 150.0),
+                Map.of("index", 1, "status", "REJECTED", "error", "Nie posiadasz wystarczającej ilości aktywa")
+            ),
+            "accountBalance", 250.0,
+            "profit", 0.0
+        );
+        when(userService.tradeBatch(eq(1L), eq(legs))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/trade/batch")
+                .contentType("application/json")
+                .content("{\"legs\":[{\"type\":\"BUY\",\"assetId\":1,\"amount\":5.0},{\"type\":\"SELL\",\"assetId\":2,\"amount\":1.0}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("EXECUTED"))
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.accountBalance").value(250.0));
+    }
+
+    @Test
+    void tradeBatch_shouldReturnBadRequest_whenLegsMissing() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/trade/batch")
+                .contentType("application/json")
+                .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void tradeBatch_shouldReturnBadRequest_whenLegIsNotObject() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/trade/batch")
+                .contentType("application/json")
+                .content("{\"legs\":[\"BUY\"]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Każde zlecenie musi być obiektem z polami type, assetId i amount"));
+        verify(userService, never()).tradeBatch(any(), any());
+    }
+
+    @Test
+    void tradeAsset_shouldReturnStoredResponse_whenIdempotencyKeyReplayed() throws Exception {
+        // Given
+        List<Map<String, Object>> stored = List.of(Map.of("id", 1, "symbol", "AAPL", "amount", 5.0));
+        doReturn(new IdempotencyService.Result(stored, true))
+                .when(idempotencyService).execute(eq(1L), eq("retry-1"), eq("trade"), eq(List.of("BUY", 1L, 5.0)), any());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/trade")
+                .header("Idempotency-Key", "retry-1")
+                .contentType("application/json")
+                .content("{\"type\":\"BUY\",\"assetId\":1,\"amount\":5.0}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$[0].symbol").value("AAPL"));
+
+        verify(userService, never()).tradeAsset(any(), any(), any(), any());
+    }
+
+    @Test
+    void tradeAsset_shouldReturnUnprocessableEntity_whenIdempotencyKeyReusedWithOtherPayload() throws Exception {
+        // Given
+        doThrow(new UnprocessableEntityException("Klucz idempotencji został już użyty z innymi parametrami żądania"))
+                .when(idempotencyService).execute(eq(1L), eq("retry-1"), eq("trade"), eq(List.of("BUY", 1L, 7.0)), any());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/1/wallet/trade")
+                .header("Idempotency-Key", "retry-1")
+                .contentType("application/json")
+                .content("{\"type\":\"buy\",\"assetId\":1,\"amount\":7.0}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value("Klucz idempotencji został już użyty z innymi parametrami żądania"));
+    }
+
     @Test
     void getUserTransactions_shouldReturnTransactions() throws Exception {
         // Given
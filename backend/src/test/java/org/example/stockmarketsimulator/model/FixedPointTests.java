@@ -0,0 +1,91 @@
+package org.example.stockmarketsimulator.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+/**
+ * Arytmetyka stałoprzecinkowa:
+ * - value: zaokrąglenie połówkowe od zera, także dla wartości ujemnych
+ * - value: przejście na BigDecimal po przekroczeniu 64 bitów
+ * - toMoney/fromMoney i toQuantity/fromQuantity w obie strony
+ */
+
+public class FixedPointTests {
+
+    private static long expected(long quantityUnits, long priceUnits) {
+        return BigDecimal.valueOf(quantityUnits).multiply(BigDecimal.valueOf(priceUnits))
+                .divide(BigDecimal.valueOf(FixedPoint.QUANTITY_SCALE), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    @Test
+    void testValue_HalfUpRounding() {
+        // When & Then
+        assertEquals(2L, FixedPoint.value(1_500_000L, 1L));
+        assertEquals(1L, FixedPoint.value(1_499_999L, 1L));
+        assertEquals(0L, FixedPoint.value(499_999L, 1L));
+        assertEquals(1L, FixedPoint.value(500_000L, 1L));
+    }
+
+    @Test
+    void testValue_NegativeRoundsAwayFromZero() {
+        // When & Then
+        assertEquals(-2L, FixedPoint.value(-1_500_000L, 1L));
+        assertEquals(-2L, FixedPoint.value(1_500_000L, -1L));
+        assertEquals(-1L, FixedPoint.value(-1_499_999L, 1L));
+        assertEquals(-1L, FixedPoint.value(-500_000L, 1L));
+        assertEquals(0L, FixedPoint.value(-499_999L, 1L));
+    }
+
+    @Test
+    void testValue_OverflowFallsBackToBigDecimal() {
+        // Given: 10 mln jednostek po 1.5 - iloczyn przekracza Long.MAX_VALUE
+        long quantity = FixedPoint.toQuantity(10_000_000.0) + 1;
+        long price = FixedPoint.toMoney(1.5);
+
+        // When & Then
+        assertEquals(15_000_000_000_002L, FixedPoint.value(quantity, price));
+        assertEquals(-15_000_000_000_002L, FixedPoint.value(-quantity, price));
+        assertEquals(expected(Long.MAX_VALUE, 1_000_000L), FixedPoint.value(Long.MAX_VALUE, 1_000_000L));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.value(Long.MAX_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    void testValue_MatchesBigDecimalAroundOverflowBoundary() {
+        // Given
+        Random random = new Random(42);
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            long quantity = random.nextLong(-20_000_000_000_000L, 20_000_000_000_000L);
+            long price = random.nextLong(-2_000_000_000L, 2_000_000_000L);
+            assertEquals(expected(quantity, price), FixedPoint.value(quantity, price),
+                    () -> "value(" + quantity + ", " + price + ")");
+        }
+    }
+
+    @Test
+    void testMoney_RoundTrip() {
+        // When & Then
+        for (double amount : new double[] {0.0, 0.01, 123.456789, -42.5, 99_999_999.999999, 0.1 + 0.2}) {
+            assertEquals(Math.round(amount * 1_000_000) / 1_000_000.0, FixedPoint.fromMoney(FixedPoint.toMoney(amount)));
+        }
+        assertEquals(300_000L, FixedPoint.toMoney(0.1 + 0.2));
+        assertEquals(1L, FixedPoint.toMoney(0.0000005));
+        assertEquals(-1L, FixedPoint.toMoney(-0.0000006));
+    }
+
+    @Test
+    void testQuantity_RoundTrip() {
+        // When & Then
+        for (double amount : new double[] {0.000001, 1.0, 2.5, 1_000_000.123456, -3.75}) {
+            assertEquals(amount, FixedPoint.fromQuantity(FixedPoint.toQuantity(amount)));
+        }
+        assertEquals(1_500_000L, FixedPoint.toQuantity(1.5));
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+/**
+ * Indeks wyszukiwania aktywów:
+ * - dopasowania fragmentów symbolu i nazwy
+ * - ranking i limit podpowiedzi
+ * - przyrostowa aktualizacja po zmianach katalogu
+ */
+
+public class AssetSearchIndexTests {
+
+    private AssetSearchIndex index;
+    private Map<Long, Asset> catalog;
+
+    @BeforeEach
+    void setUp() {
+        index = new AssetSearchIndex();
+        catalog = new HashMap<>();
+        put(new Asset(1L, "AAPL", 150.0, "Apple Inc."));
+        put(new Asset(2L, "MSFT", 300.0, "Microsoft Corp."));
+        put(new Asset(3L, "BINANCE:SOLUSDT", 20.0, "Solana"));
+        put(new Asset(4L, "PAPL", 1.0, "Pineapple Holdings"));
+        put(new Asset(5L, "APL", 2.0, "Apollo"));
+        index.update(Map.of(), catalog);
+    }
+
+    private void put(Asset asset) {
+        catalog.put(asset.getId(), asset);
+    }
+
+    @Test
+    void testMatching_SubstringOfSymbolOrName() {
+        // When & Then
+        assertEquals(Set.of(1L, 4L), index.matching("apple"));
+        assertEquals(Set.of(1L, 4L, 5L), index.matching("PL"));
+        assertEquals(Set.of(3L), index.matching("usdt"));
+        assertEquals(Set.of(), index.matching("xyz"));
+    }
+
+    @Test
+    void testSearch_RanksExactSymbolThenPrefixesThenSubstrings() {
+        // When & Then
+        assertEquals(List.of(5L, 1L, 4L), index.search("apl", 10));
+        assertEquals(List.of(1L, 4L), index.search("apple", 10));
+        assertEquals(List.of(5L), index.search("apl", 1));
+    }
+
+    @Test
+    void testSearch_MatchesNameWordPrefix() {
+        // When & Then
+        assertEquals(List.of(2L), index.search("corp", 10));
+        assertEquals(List.of(1L), index.search("apple inc", 10));
+    }
+
+    @Test
+    void testUpdate_ReindexesChangedAndRemovedAssets() {
+        // Given
+        Map<Long, Asset> previous = new HashMap<>(catalog);
+        catalog.remove(1L);
+        put(new Asset(2L, "MSFT", 310.0, "Macrohard"));
+        put(new Asset(6L, "APLE", 5.0, "Appleton"));
+
+        // When
+        index.update(previous, catalog);
+
+        // Then
+        assertEquals(Set.of(4L, 6L), index.matching("apple"));
+        assertEquals(Set.of(), index.matching("microsoft"));
+        assertEquals(List.of(2L), index.search("macro", 10));
+        assertEquals(List.of(5L, 6L, 4L), index.search("apl", 10));
+    }
+}
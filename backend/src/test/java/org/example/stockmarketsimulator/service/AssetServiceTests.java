@@ -0,0 +1,188 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.example.stockmarketsimulator.exception.BadRequestException;
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.model.FixedPoint;
+import org.example.stockmarketsimulator.repository.AssetCandleRepository;
+import org.example.stockmarketsimulator.repository.AssetPriceHistoryRepository;
+import org.example.stockmarketsimulator.repository.AssetsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lista aktywów z kursorem:
+ * - kursor z ostatniego aktywa strony wraca jako pozycja keyset dla sortowania po id, cenie i nazwie
+ * - kursor z innego sortowania lub kierunku oraz uszkodzony kursor są odrzucane
+ * - remis ceny rozstrzyga id: jest w kursorze i w sortowaniu
+ * - usunięcie aktywa kasuje świece i historię przed samym aktywem, w jednej transakcji
+ */
+
+@ExtendWith(MockitoExtension.class)
+public class AssetServiceTests {
+
+    @Mock
+    private AssetsRepository assetsRepository;
+
+    @Mock
+    private PriceHistoryBuffer priceHistoryBuffer;
+
+    @Mock
+    private PriceEpoch priceEpoch;
+
+    @Mock
+    private AssetCatalog assetCatalog;
+
+    @Mock
+    private AssetCandleRepository assetCandleRepository;
+
+    @Mock
+    private AssetPriceHistoryRepository assetPriceHistoryRepository;
+
+    private AssetService assetService;
+
+    @BeforeEach
+    void setUp() {
+        assetService = new AssetService(assetsRepository, priceHistoryBuffer, priceEpoch, assetCatalog,
+                assetCandleRepository, assetPriceHistoryRepository);
+    }
+
+    private static Window<Asset> page(boolean hasNext, Asset... assets) {
+        return Window.from(List.of(assets), index -> ScrollPosition.offset(index), hasNext);
+    }
+
+    // pierwsza strona zwraca kursor, druga strona przekazuje go do repozytorium jako pozycję keyset
+    private KeysetScrollPosition nextPosition(String sortBy, String direction, Asset... firstPage) {
+        when(assetsRepository.findAllBy(any(), any(), any())).thenReturn(page(true, firstPage), page(false));
+
+        Map<String, Object> first = assetService.listAssets(null, sortBy, direction, firstPage.length, null, false);
+        String cursor = (String) first.get("nextCursor");
+        assertNotNull(cursor);
+        Map<String, Object> second = assetService.listAssets(null, sortBy, direction, firstPage.length, cursor, false);
+        assertNull(second.get("nextCursor"));
+
+        ArgumentCaptor<ScrollPosition> positions = ArgumentCaptor.forClass(ScrollPosition.class);
+        verify(assetsRepository, times(2)).findAllBy(positions.capture(), any(Sort.class), eq(Limit.of(firstPage.length)));
+        assertTrue(positions.getAllValues().get(0).isInitial());
+        return assertInstanceOf(KeysetScrollPosition.class, positions.getAllValues().get(1));
+    }
+
+    @Test
+    void testListAssets_CursorRoundTripById() {
+        // When
+        KeysetScrollPosition position = nextPosition("id", "asc",
+                new Asset(1L, "AAPL", 150.0, "Apple"), new Asset(2L, "MSFT", 300.0, "Microsoft"));
+
+        // Then
+        assertEquals(Map.of("id", 2L), position.getKeys());
+        assertTrue(position.scrollsForward());
+    }
+
+    @Test
+    void testListAssets_CursorRoundTripByPrice() {
+        // When
+        KeysetScrollPosition position = nextPosition("price", "desc",
+                new Asset(2L, "MSFT", 300.0, "Microsoft"), new Asset(1L, "AAPL", 150.25, "Apple"));
+
+        // Then
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("price", FixedPoint.toMoney(150.25));
+        expected.put("id", 1L);
+        assertEquals(expected, position.getKeys());
+    }
+
+    @Test
+    void testListAssets_CursorRoundTripByName() {
+        // When
+        KeysetScrollPosition position = nextPosition("name", "asc",
+                new Asset(1L, "AAPL", 150.0, "Apple"), new Asset(7L, "BRK", 400.0, "Berkshire | Class B"));
+
+        // Then
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("name", "Berkshire | Class B");
+        expected.put("id", 7L);
+        assertEquals(expected, position.getKeys());
+    }
+
+    @Test
+    void testListAssets_PriceTieBrokenById() {
+        // Given
+        when(assetsRepository.findAllBy(any(), any(), any())).thenReturn(
+                page(true, new Asset(3L, "AAA", 100.0, "Alpha"), new Asset(4L, "BBB", 100.0, "Beta")), page(false));
+
+        // When
+        String cursor = (String) assetService.listAssets(null, "price", "asc", 2, null, false).get("nextCursor");
+        assetService.listAssets(null, "price", "asc", 2, cursor, false);
+
+        // Then
+        ArgumentCaptor<ScrollPosition> positions = ArgumentCaptor.forClass(ScrollPosition.class);
+        ArgumentCaptor<Sort> sorts = ArgumentCaptor.forClass(Sort.class);
+        verify(assetsRepository, times(2)).findAllBy(positions.capture(), sorts.capture(), any());
+        assertEquals(Sort.by(Sort.Direction.ASC, "price").and(Sort.by(Sort.Direction.ASC, "id")), sorts.getValue());
+        // następna strona zaczyna się za (cena, id) ostatniego aktywa, więc Alpha i Beta o tej samej cenie nie wrócą
+        Map<String, Object> keys = ((KeysetScrollPosition) positions.getValue()).getKeys();
+        assertEquals(FixedPoint.toMoney(100.0), keys.get("price"));
+        assertEquals(4L, keys.get("id"));
+    }
+
+    @Test
+    void testListAssets_CursorFromOtherSortRejected() {
+        // Given
+        when(assetsRepository.findAllBy(any(), any(), any()))
+                .thenReturn(page(true, new Asset(1L, "AAPL", 150.0, "Apple")));
+        String cursor = (String) assetService.listAssets(null, "price", "asc", 1, null, false).get("nextCursor");
+
+        // When & Then
+        BadRequestException otherSort = assertThrows(BadRequestException.class,
+                () -> assetService.listAssets(null, "name", "asc", 1, cursor, false));
+        assertEquals("Kursor nie pasuje do sortowania", otherSort.getMessage());
+        BadRequestException otherDirection = assertThrows(BadRequestException.class,
+                () -> assetService.listAssets(null, "price", "desc", 1, cursor, false));
+        assertEquals("Kursor nie pasuje do sortowania", otherDirection.getMessage());
+        verify(assetsRepository, times(1)).findAllBy(any(), any(), any());
+    }
+
+    @Test
+    void testListAssets_MalformedCursorRejected() {
+        // When & Then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> assetService.listAssets(null, "id", "asc", 10, "nie-base64!", false));
+        assertEquals("Nieprawidłowy kursor", exception.getMessage());
+        verifyNoInteractions(assetsRepository);
+    }
+
+    @Test
+    void testDeleteAsset_RemovesDependentRowsInOneTransaction() throws Exception {
+        // Given
+        when(assetCatalog.find(5L)).thenReturn(Optional.of(new Asset(5L, "AAPL", 150.0, "Apple")));
+
+        // When
+        assetService.deleteAsset(5L);
+
+        // Then
+        InOrder order = inOrder(assetCandleRepository, assetPriceHistoryRepository, assetsRepository);
+        order.verify(assetCandleRepository).deleteByAssetId(5L);
+        order.verify(assetPriceHistoryRepository).deleteByAssetId(5L);
+        order.verify(assetsRepository).deleteById(5L);
+        assertNotNull(AssetService.class.getMethod("deleteAsset", Long.class).getAnnotation(Transactional.class));
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.example.stockmarketsimulator.exception.BadRequestException;
+import org.example.stockmarketsimulator.exception.UnprocessableEntityException;
+import org.example.stockmarketsimulator.model.IdempotencyRecord;
+import org.example.stockmarketsimulator.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Klucze idempotencji:
+ * - ponowienie z tymi samymi parametrami zwraca zapisaną odpowiedź bez ponownego wykonania
+ * - inne parametry z tym samym kluczem: 422, inna operacja: 400
+ * - wygasły klucz wykonuje operację ponownie
+ * - klucz wyparty z pamięci (LRU) jest odczytywany z tabeli
+ * - wycofana operacja nie zapisuje klucza
+ */
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyServiceTests {
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private IdempotencyService service(long ttlMinutes, int maxEntries) {
+        return new IdempotencyService(repository, objectMapper, transactionManager, ttlMinutes, maxEntries);
+    }
+
+    private Object trade() {
+        return Map.of("executed", executions.incrementAndGet());
+    }
+
+    private void saveReturnsRecord() {
+        when(repository.save(any(IdempotencyRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void testExecute_ReplaysStoredResponse() {
+        // Given
+        saveReturnsRecord();
+        IdempotencyService service = service(60, 10);
+        service.execute(1L, "key", "trade", List.of("BUY", 5L, 1.0), this::trade);
+
+        // When
+        IdempotencyService.Result result = service.execute(1L, "key", "trade", List.of("BUY", 5L, 1.0), this::trade);
+
+        // Then
+        assertTrue(result.replayed());
+        assertEquals(Map.of("executed", 1), result.body());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testExecute_DifferentPayloadRejected() {
+        // Given
+        saveReturnsRecord();
+        IdempotencyService service = service(60, 10);
+        service.execute(1L, "key", "trade", List.of("BUY", 5L, 1.0), this::trade);
+
+        // When & Then
+        UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+                () -> service.execute(1L, "key", "trade", List.of("BUY", 5L, 2.0), this::trade));
+        assertEquals("Klucz idempotencji został już użyty z innymi parametrami żądania", exception.getMessage());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testExecute_DifferentOperationRejected() {
+        // Given
+        saveReturnsRecord();
+        IdempotencyService service = service(60, 10);
+        service.execute(1L, "key", "trade", List.of("BUY", 5L, 1.0), this::trade);
+
+        // When & Then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> service.execute(1L, "key", "add-funds", List.of(1.0), this::trade));
+        assertEquals("Klucz idempotencji został już użyty dla innej operacji", exception.getMessage());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testExecute_ExpiredKeyExecutesAgain() {
+        // Given
+        saveReturnsRecord();
+        IdempotencyService service = service(0, 10);
+        service.execute(1L, "key", "trade", List.of("BUY", 5L, 1.0), this::trade);
+
+        // When
+        IdempotencyService.Result result = service.execute(1L, "key", "trade", List.of("BUY", 5L, 1.0), this::trade);
+
+        // Then
+        assertFalse(result.replayed());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void testExecute_EvictedKeyLoadedFromTable() {
+        // Given
+        saveReturnsRecord();
+        IdempotencyService service = service(60, 1);
+        service.execute(1L, "first", "trade", List.of("BUY", 5L, 1.0), this::trade);
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(repository).save(saved.capture());
+        service.execute(1L, "second", "trade", List.of("BUY", 5L, 1.0), this::trade);
+        when(repository.findById("1:first")).thenReturn(Optional.of(saved.getValue()));
+
+        // When
+        IdempotencyService.Result result = service.execute(1L, "first", "trade", List.of("BUY", 5L, 1.0), this::trade);
+
+        // Then
+        assertTrue(result.replayed());
+        assertEquals(Map.of("executed", 1), result.body());
+        assertEquals(2, executions.get());
+        assertThrows(UnprocessableEntityException.class,
+                () -> service.execute(1L, "first", "trade", List.of("SELL", 5L, 1.0), this::trade));
+    }
+
+    @Test
+    void testExecute_RolledBackOperationStoresNoKey() {
+        // Given
+        IdempotencyService service = service(60, 10);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> service.execute(1L, "key", "trade", List.of("BUY", 5L, 1.0), () -> {
+            throw new IllegalStateException("brak środków");
+        }));
+
+        // Then
+        verify(transactionManager).rollback(any());
+        verify(repository, never()).save(any());
+        saveReturnsRecord();
+        IdempotencyService.Result retry = service.execute(1L, "key", "trade", List.of("BUY", 5L, 1.0), this::trade);
+        assertFalse(retry.replayed());
+        assertEquals(1, executions.get());
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.stockmarketsimulator.model.TradeOrder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Arkusz zleceń:
+ * - zlecenia różnych użytkowników są dopasowywane po cenie oczekującego
+ * - zlecenie krzyżujące się z własnym oczekującym jest anulowane zamiast transakcji z samym sobą
+ */
+
+public class OrderBookTests {
+
+    private final OrderBook book = new OrderBook(5L);
+    private final List<OrderBook.BookEvent> events = new ArrayList<>();
+
+    @Test
+    void testSubmit_MatchesOtherUsersOrder() {
+        // Given
+        book.submit(new LimitOrder(1L, 10L, 5L, TradeOrder.Side.SELL, 100.0, 2.0), events::add);
+
+        // When
+        book.submit(new LimitOrder(2L, 20L, 5L, TradeOrder.Side.BUY, 105.0, 1.0), events::add);
+
+        // Then
+        assertEquals(List.of(new OrderBook.Fill(5L, 2L, 1L, 105.0, 100.0, 1.0)), events);
+    }
+
+    @Test
+    void testSubmit_SelfCrossCancelsIncomingOrder() {
+        // Given
+        book.submit(new LimitOrder(1L, 20L, 5L, TradeOrder.Side.SELL, 101.0, 1.0), events::add);
+        book.submit(new LimitOrder(2L, 10L, 5L, TradeOrder.Side.SELL, 100.0, 1.0), events::add);
+
+        // When
+        book.submit(new LimitOrder(3L, 10L, 5L, TradeOrder.Side.BUY, 101.0, 3.0), events::add);
+
+        // Then
+        assertEquals(List.of(new OrderBook.Cancelled(3L, 3.0)), events);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> bids = (List<Map<String, Object>>) book.depth(5).get("bids");
+        assertTrue(bids.isEmpty());
+        assertNotNull(book.cancel(2L, events::add));
+    }
+}
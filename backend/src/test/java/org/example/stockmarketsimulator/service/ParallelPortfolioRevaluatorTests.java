@@ -0,0 +1,109 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.model.FixedPoint;
+import org.example.stockmarketsimulator.model.User;
+import org.example.stockmarketsimulator.model.UserWallet;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Równoległe przeliczanie zysku:
+ * - przeliczani są tylko posiadacze zmienionych aktywów
+ * - praca rusza dopiero po zatwierdzeniu cyklu cen
+ * - brak zmian cen nie uruchamia przeliczenia
+ */
+
+@ExtendWith(MockitoExtension.class)
+public class ParallelPortfolioRevaluatorTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AssetHoldersIndex assetHoldersIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ParallelPortfolioRevaluator revaluator;
+    private List<Asset> assets;
+
+    @BeforeEach
+    void setUp() {
+        revaluator = new ParallelPortfolioRevaluator(userRepository, assetHoldersIndex, transactionManager, 500, 2);
+        assets = List.of(new Asset(5L, "AAPL", 12.0, "Apple"), new Asset(6L, "MSFT", 20.0, "Microsoft"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        revaluator.shutdown();
+    }
+
+    private User holder() {
+        User user = new User("test", "test@example.com", "password");
+        user.setId(1L);
+        UserWallet wallet = new UserWallet(user);
+        wallet.setCostBasisTracked(true);
+        wallet.addAsset(5L, 2.0);
+        wallet.recordBuy(5L, 2.0, 10.0);
+        user.setWallet(wallet);
+        return user;
+    }
+
+    @Test
+    void testRevalue_OnlyHoldersOfChangedAssets() {
+        // Given
+        when(assetHoldersIndex.holdersOf(Set.of(5L))).thenReturn(Set.of(1L));
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of(holder()));
+
+        // When
+        revaluator.revalue(assets, Set.of(5L));
+
+        // Then
+        verify(userRepository).updateProfit(1L, FixedPoint.toMoney(4.0));
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void testRevalue_WaitsForPriceCycleCommit() {
+        // Given
+        when(assetHoldersIndex.holdersOf(Set.of(5L))).thenReturn(Set.of(1L));
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of(holder()));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            revaluator.revalue(assets, Set.of(5L));
+            verifyNoInteractions(assetHoldersIndex, userRepository);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        verify(userRepository).updateProfit(1L, FixedPoint.toMoney(4.0));
+    }
+
+    @Test
+    void testRevalue_NoChangedPricesSkipsWork() {
+        // When
+        revaluator.revalue(assets, Set.of());
+
+        // Then
+        verifyNoInteractions(assetHoldersIndex, userRepository);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Bufor ostatnich cen aktywów:
+ * - kolejność od najstarszego do najnowszego
+ * - nadpisywanie najstarszych ticków po zapełnieniu
+ */
+
+public class PriceHistoryBufferTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void testHistory_ReturnsTicksOldestFirst() {
+        // Given
+        PriceHistoryBuffer buffer = new PriceHistoryBuffer(jdbcTemplate, 3);
+        LocalDateTime start = LocalDateTime.of(2024, 6, 1, 12, 0, 0, 123456000);
+        buffer.record(Map.of(1L, 100.0), start);
+        buffer.record(Map.of(1L, 101.5), start.plusSeconds(30));
+
+        // When
+        List<Map<String, Object>> history = buffer.history(1L);
+
+        // Then
+        assertEquals(2, history.size());
+        assertEquals("2024-06-01T12:00:00.123456", history.get(0).get("timestamp"));
+        assertEquals(100.0, history.get(0).get("price"));
+        assertEquals(101.5, history.get(1).get("price"));
+        assertTrue(buffer.history(2L).isEmpty());
+    }
+
+    @Test
+    void testHistory_KeepsOnlyMostRecentTicks() {
+        // Given
+        PriceHistoryBuffer buffer = new PriceHistoryBuffer(jdbcTemplate, 3);
+        LocalDateTime start = LocalDateTime.of(2024, 6, 1, 12, 0);
+        for (int i = 0; i < 5; i++) {
+            buffer.record(Map.of(1L, 100.0 + i), start.plusMinutes(i));
+        }
+
+        // When
+        List<Map<String, Object>> history = buffer.history(1L);
+
+        // Then
+        assertEquals(List.of(102.0, 103.0, 104.0), history.stream().map(point -> point.get("price")).toList());
+        assertEquals("2024-06-01T12:02", history.get(0).get("timestamp"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dziennik ticków:
+ * - ramki odczytywane w kolejności zapisu
+ * - niepełna ostatnia ramka kończy odczyt zamiast zgłaszać błąd
+ */
+
+public class TickJournalTests {
+
+    @TempDir
+    Path dir;
+
+    private Path write(Map<Long, Map<String, Double>> frames) {
+        Path path = dir.resolve("ticks.journal");
+        TickJournal journal = new TickJournal(true, path.toString());
+        frames.forEach(journal::record);
+        journal.close();
+        return path;
+    }
+
+    @Test
+    void testRead_ReturnsFramesInOrder() throws Exception {
+        // Given
+        Path path = write(Map.of(1000L, Map.of("AAPL", 150.0)));
+        List<TickJournal.TickFrame> frames = new ArrayList<>();
+
+        // When
+        long count = TickJournal.read(path, frames::add);
+
+        // Then
+        assertEquals(1, count);
+        assertEquals(List.of(new TickJournal.TickFrame(1000L, Map.of("AAPL", 150.0))), frames);
+    }
+
+    @Test
+    void testRead_StopsAtTornTail() throws Exception {
+        // Given
+        Path path = write(Map.of(1000L, Map.of("AAPL", 150.0)));
+        byte[] complete = Files.readAllBytes(path);
+        TickJournal journal = new TickJournal(true, path.toString());
+        journal.record(2000L, Map.of("MSFT", 300.0));
+        journal.close();
+        // przerwany zapis drugiej ramki: na dysk trafił znacznik czasu i część symbolu
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, complete.length + 14));
+        List<TickJournal.TickFrame> frames = new ArrayList<>();
+
+        // When
+        long count = TickJournal.read(path, frames::add);
+
+        // Then
+        assertEquals(1, count);
+        assertEquals(1000L, frames.get(0).timestamp());
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Dziennik transakcji:
+ * - rekordy z sumą CRC odczytywane w kolejności zapisu
+ * - odczyt kończy się na niepełnym lub uszkodzonym rekordzie
+ * - błąd po stronie odbiorcy nie zatrzymuje wątku zapisu
+ * - awaitProjected kończy się po projekcji wpisów użytkownika albo po czasie
+ * - blokada konta wstrzymuje projekcję tego samego użytkownika
+ */
+
+public class TradeJournalTests {
+
+    @TempDir
+    Path dir;
+
+    private TradeJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private TradeJournal open(long nextSequence, Consumer<List<TradeJournal.Entry>> listener) throws IOException {
+        journal = new TradeJournal(true, dir.resolve("trades.journal").toString(), 16);
+        journal.open(nextSequence, listener);
+        return journal;
+    }
+
+    @Test
+    void testReadAll_ReturnsEntriesWithSequences() throws Exception {
+        // Given
+        open(10, entries -> {});
+        journal.append(1L, 5L, true, 2.5, 100.0);
+        journal.append(2L, 6L, false, 1.0, 50.25);
+
+        // When
+        List<TradeJournal.Entry> entries = TradeJournal.readAll(journal.getPath());
+
+        // Then
+        assertEquals(2, entries.size());
+        assertEquals(10, entries.get(0).sequence());
+        assertEquals(1L, entries.get(0).userId());
+        assertEquals(5L, entries.get(0).assetId());
+        assertTrue(entries.get(0).buy());
+        assertEquals(2.5, entries.get(0).amount());
+        assertEquals(100.0, entries.get(0).price());
+        assertEquals(11, entries.get(1).sequence());
+        assertFalse(entries.get(1).buy());
+        assertEquals(50.25, entries.get(1).price());
+    }
+
+    @Test
+    void testReadAll_StopsAtTornTail() throws Exception {
+        // Given
+        open(1, entries -> {});
+        journal.append(1L, 5L, true, 1.0, 10.0);
+        journal.append(1L, 5L, true, 1.0, 10.0);
+        journal.close();
+        byte[] bytes = Files.readAllBytes(journal.getPath());
+        // przerwany zapis trzeciego rekordu: tylko jego początek trafił na dysk
+        Files.write(journal.getPath(), Arrays.copyOf(bytes, TradeJournal.ENTRY_SIZE - 1), StandardOpenOption.APPEND);
+
+        // When & Then
+        assertEquals(2, TradeJournal.readAll(journal.getPath()).size());
+    }
+
+    @Test
+    void testReadAll_StopsAtCorruptedRecord() throws Exception {
+        // Given
+        open(1, entries -> {});
+        for (int i = 0; i < 3; i++) {
+            journal.append(1L, 5L, true, 1.0, 10.0);
+        }
+        journal.close();
+        byte[] bytes = Files.readAllBytes(journal.getPath());
+        bytes[TradeJournal.ENTRY_SIZE + 20] ^= 1;
+        Files.write(journal.getPath(), bytes);
+
+        // When
+        List<TradeJournal.Entry> entries = TradeJournal.readAll(journal.getPath());
+
+        // Then
+        assertEquals(1, entries.size());
+        assertEquals(1, entries.get(0).sequence());
+    }
+
+    @Test
+    void testAppend_ListenerFailureDoesNotStopWriter() throws Exception {
+        // Given
+        AtomicBoolean failed = new AtomicBoolean();
+        open(1, entries -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("odbiorca niedostępny");
+            }
+        });
+
+        // When & Then
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertThrows(IllegalStateException.class, () -> journal.append(1L, 5L, true, 1.0, 10.0));
+            assertEquals(2, journal.append(1L, 5L, true, 1.0, 10.0).sequence());
+        });
+    }
+
+    @Test
+    void testAwaitProjected_ReturnsAfterProjection() throws Exception {
+        // Given
+        List<TradeJournal.Entry> durable = Collections.synchronizedList(new ArrayList<>());
+        open(1, durable::addAll);
+        journal.append(1L, 5L, true, 1.0, 10.0);
+        journal.append(1L, 6L, true, 1.0, 10.0);
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> journal.awaitProjected(1L, 5000));
+
+        // When
+        journal.projected(List.of(durable.get(0)));
+        Thread.sleep(50);
+        assertFalse(waiting.isDone());
+        journal.projected(List.of(durable.get(1)));
+
+        // Then
+        waiting.get(5, TimeUnit.SECONDS);
+        assertEquals(0.0, journal.pendingOf(1L).getBalanceDelta());
+    }
+
+    @Test
+    void testAwaitProjected_TimesOut() throws Exception {
+        // Given
+        open(1, entries -> {});
+        journal.append(1L, 5L, true, 1.0, 10.0);
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> journal.awaitProjected(1L, 50));
+        assertEquals("Przekroczono czas oczekiwania na zapis transakcji z dziennika", exception.getMessage());
+        journal.awaitProjected(2L, 50);
+    }
+
+    @Test
+    void testLockAccounts_BlocksProjectionOfSameUser() throws Exception {
+        // Given
+        open(1, entries -> {});
+        CompletableFuture<Void> projection;
+
+        // When
+        try (TradeJournal.AccountLock lock = journal.lockAccounts(List.of(1L))) {
+            projection = CompletableFuture.runAsync(() -> {
+                try (TradeJournal.AccountLock batch = journal.lockAccounts(List.of(2L, 1L))) {
+                    // projekcja paczki z wpisami obu użytkowników
+                }
+            });
+            Thread.sleep(50);
+            assertFalse(projection.isDone());
+        }
+
+        // Then
+        projection.get(5, TimeUnit.SECONDS);
+    }
+}
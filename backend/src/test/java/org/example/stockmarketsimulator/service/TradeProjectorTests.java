@@ -0,0 +1,132 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.model.JournalCheckpoint;
+import org.example.stockmarketsimulator.model.Transactions;
+import org.example.stockmarketsimulator.model.User;
+import org.example.stockmarketsimulator.repository.JournalCheckpointRepository;
+import org.example.stockmarketsimulator.repository.TransactionsRepository;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Odtwarzanie dziennika przy starcie projekcji:
+ * - wpisy po punkcie kontrolnym trafiają do bazy, wcześniejsze są pomijane
+ * - numeracja nowych wpisów kontynuuje najwyższą sekwencję z dziennika lub punktu kontrolnego
+ */
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TradeProjectorTests {
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AssetCatalog assetCatalog;
+
+    @Mock
+    private TransactionsRepository transactionsRepository;
+
+    @Mock
+    private JournalCheckpointRepository checkpointRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ReservationLedger reservationLedger;
+
+    @Mock
+    private AssetHoldersIndex assetHoldersIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TradeJournal journal;
+    private TradeProjector projector;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // dziennik z poprzedniego uruchomienia: cztery zakupy o sekwencjach 1..4
+        TradeJournal previous = new TradeJournal(true, dir.resolve("trades.journal").toString(), 16);
+        previous.open(1, entries -> {});
+        for (int i = 0; i < 4; i++) {
+            previous.append(1L, 5L, true, 1.0, 10.0);
+        }
+        previous.close();
+
+        user = new User("test", "test@example.com", "password");
+        user.setId(1L);
+        user.setAccountBalance(1000.0);
+        Asset asset = new Asset(5L, "AAPL", 10.0, "Apple");
+        when(assetCatalog.snapshot()).thenReturn(new AssetCatalog.Snapshot(List.of(asset), Map.of(5L, asset), Map.of()));
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+
+        journal = new TradeJournal(true, dir.resolve("trades.journal").toString(), 16);
+        projector = new TradeProjector(journal, userRepository, assetCatalog, transactionsRepository,
+                checkpointRepository, userService, reservationLedger, assetHoldersIndex, transactionManager, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projector.shutdown();
+        journal.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStart_ReplaysEntriesAfterCheckpoint() throws Exception {
+        // Given
+        JournalCheckpoint checkpoint = new JournalCheckpoint("trades", 2);
+        when(checkpointRepository.findById("trades")).thenReturn(Optional.of(checkpoint));
+
+        // When
+        projector.start();
+
+        // Then
+        ArgumentCaptor<List<Transactions>> saved = ArgumentCaptor.forClass(List.class);
+        verify(transactionsRepository).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        assertEquals(980.0, user.getAccountBalance());
+        assertEquals(4, checkpoint.getLastSequence());
+        verify(transactionManager).commit(any());
+        assertEquals(5, journal.append(1L, 5L, true, 1.0, 10.0).sequence());
+    }
+
+    @Test
+    void testStart_CheckpointAheadOfJournalContinuesNumbering() throws Exception {
+        // Given
+        when(checkpointRepository.findById("trades")).thenReturn(Optional.of(new JournalCheckpoint("trades", 6)));
+
+        // When
+        projector.start();
+
+        // Then
+        verify(transactionsRepository, never()).saveAll(any());
+        assertEquals(7, journal.append(1L, 5L, true, 1.0, 10.0).sequence());
+    }
+}
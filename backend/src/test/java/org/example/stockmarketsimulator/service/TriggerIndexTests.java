@@ -0,0 +1,81 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.stockmarketsimulator.model.TriggerOrder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Indeks progów cenowych:
+ * - tick zwraca tylko przekroczone progi i usuwa je z indeksu
+ * - anulowany próg nie odpala
+ * - równoległe anulowanie i odpalenie: każdy próg trafia dokładnie do jednej strony, bez null
+ */
+
+public class TriggerIndexTests {
+
+    private final TriggerIndex index = new TriggerIndex();
+
+    @Test
+    void testCrossed_ReturnsOnlyCrossedThresholds() {
+        // Given
+        index.add(1L, 5L, TriggerOrder.Kind.STOP_LOSS, 90.0);
+        index.add(2L, 5L, TriggerOrder.Kind.STOP_LOSS, 80.0);
+        index.add(3L, 5L, TriggerOrder.Kind.TAKE_PROFIT, 120.0);
+
+        // When
+        List<TriggerIndex.Trigger> fired = index.crossed(5L, 85.0);
+
+        // Then
+        assertEquals(List.of(1L), fired.stream().map(TriggerIndex.Trigger::id).toList());
+        assertTrue(index.crossed(5L, 85.0).isEmpty());
+        assertEquals(3L, index.crossed(5L, 125.0).get(0).id());
+    }
+
+    @Test
+    void testRemove_CancelledThresholdDoesNotFire() {
+        // Given
+        index.add(1L, 5L, TriggerOrder.Kind.STOP_LOSS, 90.0);
+
+        // When
+        TriggerIndex.Trigger removed = index.remove(1L);
+
+        // Then
+        assertEquals(new TriggerIndex.Trigger(1L, 5L, TriggerOrder.Kind.STOP_LOSS, 90.0), removed);
+        assertNull(index.remove(1L));
+        assertTrue(index.crossed(5L, 50.0).isEmpty());
+    }
+
+    @Test
+    void testRemoveRacingCrossed_EachThresholdClaimedOnce() throws Exception {
+        // Given
+        int count = 1000;
+        for (long id = 0; id < count; id++) {
+            index.add(id, 5L, TriggerOrder.Kind.STOP_LOSS, 100.0 - id % 10);
+        }
+
+        // When
+        CompletableFuture<List<TriggerIndex.Trigger>> cancelled = CompletableFuture.supplyAsync(() -> {
+            List<TriggerIndex.Trigger> removed = new ArrayList<>();
+            for (long id = 0; id < count; id++) {
+                TriggerIndex.Trigger trigger = index.remove(id);
+                if (trigger != null) {
+                    removed.add(trigger);
+                }
+            }
+            return removed;
+        });
+        List<TriggerIndex.Trigger> fired = new ArrayList<>();
+        for (int tick = 0; tick < 10; tick++) {
+            fired.addAll(index.crossed(5L, 100.0 - tick));
+        }
+
+        // Then
+        assertFalse(fired.contains(null));
+        assertEquals(count, fired.size() + cancelled.get().size());
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.stockmarketsimulator.exception.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Kolejki operacji użytkowników:
+ * - kolejność wykonania zgodna z kolejnością zgłoszeń jednego użytkownika
+ * - ponawianie konfliktu wersji i BadRequestException po wyczerpaniu prób
+ * - błąd operacji nie blokuje kolejnej
+ * - różni użytkownicy wykonują się równolegle
+ */
+
+public class UserExecutionLanesTests {
+
+    private static final int MAX_RETRIES = 3;
+
+    private final UserExecutionLanes lanes = new UserExecutionLanes(MAX_RETRIES);
+
+    @AfterEach
+    void tearDown() {
+        lanes.shutdown();
+    }
+
+    // wątek czekający w join jest już w kolejce użytkownika, więc następne zgłoszenie trafi za nim
+    private static Thread submit(Runnable call) throws InterruptedException {
+        Thread thread = Thread.ofPlatform().start(call);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "Zgłoszenie nie trafiło do kolejki");
+            Thread.sleep(1);
+        }
+        return thread;
+    }
+
+    @Test
+    void testExecute_SameUserRunsInArrivalOrder() throws Exception {
+        // Given
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> callers = new ArrayList<>();
+        callers.add(submit(() -> lanes.execute(1L, () -> {
+            awaitQuietly(release);
+            return order.add(0);
+        })));
+        for (int i = 1; i < 5; i++) {
+            int index = i;
+            callers.add(submit(() -> lanes.execute(1L, () -> order.add(index))));
+        }
+
+        // When
+        release.countDown();
+        for (Thread caller : callers) {
+            caller.join(5000);
+        }
+
+        // Then
+        assertEquals(List.of(0, 1, 2, 3, 4), order);
+    }
+
+    @Test
+    void testExecute_OptimisticLockRetried() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = lanes.execute(1L, () -> {
+            if (attempts.incrementAndGet() < MAX_RETRIES) {
+                throw new OptimisticLockingFailureException("konflikt");
+            }
+            return "ok";
+        });
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(MAX_RETRIES, attempts.get());
+    }
+
+    @Test
+    void testExecute_OptimisticLockExhaustedBecomesBadRequest() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> lanes.execute(1L, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("konflikt");
+        }));
+        assertEquals("Konto zostało równocześnie zmodyfikowane, spróbuj ponownie", exception.getMessage());
+        assertEquals(MAX_RETRIES, attempts.get());
+    }
+
+    @Test
+    void testExecute_FailureDoesNotBlockNextOperation() {
+        // Given
+        assertThrows(IllegalStateException.class, () -> lanes.execute(1L, () -> {
+            throw new IllegalStateException("błąd");
+        }));
+
+        // When & Then
+        assertEquals("next", lanes.execute(1L, () -> "next"));
+    }
+
+    @Test
+    void testExecute_DifferentUsersRunInParallel() throws Exception {
+        // Given
+        CountDownLatch otherUserRan = new CountDownLatch(1);
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(
+                () -> lanes.execute(1L, () -> awaitQuietly(otherUserRan)));
+
+        // When
+        lanes.execute(2L, () -> {
+            otherUserRan.countDown();
+            return null;
+        });
+
+        // Then
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
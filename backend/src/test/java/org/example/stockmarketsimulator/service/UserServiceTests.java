@@ -0,0 +1,194 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.example.stockmarketsimulator.dto.TradeLeg;
+import org.example.stockmarketsimulator.exception.ResourceNotFoundException;
+import org.example.stockmarketsimulator.model.Asset;
+import org.example.stockmarketsimulator.model.User;
+import org.example.stockmarketsimulator.model.UserWallet;
+import org.example.stockmarketsimulator.repository.AssetsRepository;
+import org.example.stockmarketsimulator.repository.TradeOrderRepository;
+import org.example.stockmarketsimulator.repository.TransactionsRepository;
+import org.example.stockmarketsimulator.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.*;
+
+/**
+ * Liczba zapytań przy wycenie portfela:
+ * - getWalletDetails
+ * - getAggregatedUserData
+ * Profil użytkownika:
+ * - getUserById (wycena tylko w odpowiedzi)
+ * - getAllUsers i addFunds liczą zysk przy odczycie, nie z nieaktualnej kolumny (profit.engine=lazy)
+ * Paczka transakcji:
+ * - tradeBatch (pozycja bez aktywa)
+ */
+
+@ExtendWith(MockitoExtension.class)
+public class UserServiceTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AssetsRepository assetsRepository;
+
+    @Mock
+    private TransactionsRepository transactionsRepository;
+
+    @Mock
+    private TradeOrderRepository tradeOrderRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private TradeJournal tradeJournal;
+
+    @Mock
+    private ReservationLedger reservationLedger;
+
+    @Mock
+    private AssetHoldersIndex assetHoldersIndex;
+
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userRepository, new AssetCatalog(assetsRepository), transactionsRepository, tradeOrderRepository,
+                passwordEncoder, new PriceEpoch(), new ValuationCache(100), tradeJournal, reservationLedger, assetHoldersIndex, new ObjectMapper(), 100);
+    }
+
+    private User userWithHoldings(int holdings) {
+        User user = new User("test", "test@example.com", "password");
+        user.setId(1L);
+        UserWallet wallet = new UserWallet(user);
+        List<Asset> assets = new ArrayList<>();
+        for (long id = 1; id <= holdings; id++) {
+            wallet.addAsset(id, 2.0);
+            assets.add(new Asset(id, "SYM" + id, 10.0 * id, "Asset " + id));
+        }
+        user.setWallet(wallet);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(assetsRepository.findAll()).thenReturn(assets);
+        return user;
+    }
+
+    @Test
+    void testGetWalletDetails_SingleHolding() {
+        // Given
+        userWithHoldings(1);
+
+        // When & Then
+        assertEquals(1, userService.getWalletDetails(1L).size());
+        verify(assetsRepository, times(1)).findAll();
+        verifyNoMoreInteractions(assetsRepository);
+    }
+
+    @Test
+    void testGetWalletDetails_QueryCountIndependentOfWalletSize() {
+        // Given
+        userWithHoldings(50);
+
+        // When & Then
+        assertEquals(50, userService.getWalletDetails(1L).size());
+        verify(assetsRepository, times(1)).findAll();
+        verifyNoMoreInteractions(assetsRepository);
+    }
+
+    @Test
+    void testGetAggregatedUserData_QueryCountIndependentOfWalletSize() {
+        // Given
+        userWithHoldings(50);
+        when(transactionsRepository.findByUserOrderByTimestampDesc(any())).thenReturn(List.of());
+
+        // When & Then
+        Map<String, Object> data = userService.getAggregatedUserData(1L);
+        assertEquals(50, ((List<?>) data.get("assets")).size());
+        verify(assetsRepository, times(1)).findAll();
+        verifyNoMoreInteractions(assetsRepository);
+    }
+
+    @Test
+    void testGetWalletDetails_MissingAsset() {
+        // Given
+        User user = userWithHoldings(2);
+        user.getWallet().addAsset(99L, 1.0);
+
+        // When & Then
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> userService.getWalletDetails(1L));
+        assertEquals("Aktywo o ID 99 nie zostało znalezione", exception.getMessage());
+    }
+
+    @Test
+    void testTradeBatch_LegWithoutAssetRejected() {
+        // Given
+        User user = userWithHoldings(1);
+        user.setAccountBalance(1000.0);
+        List<TradeLeg> legs = new ArrayList<>();
+        legs.add(new TradeLeg("BUY", null, 1.0));
+        legs.add(new TradeLeg("BUY", 1L, 1.0));
+
+        // When & Then
+        Map<String, Object> response = userService.tradeBatch(1L, legs);
+        List<?> results = (List<?>) response.get("results");
+        assertEquals("REJECTED", ((Map<?, ?>) results.get(0)).get("status"));
+        assertEquals("Aktywo nie zostało znalezione", ((Map<?, ?>) results.get(0)).get("error"));
+        assertEquals("EXECUTED", ((Map<?, ?>) results.get(1)).get("status"));
+        assertEquals(990.0, response.get("accountBalance"));
+    }
+
+    @Test
+    void testGetUserById_ProfitOnlyInResponse() {
+        // Given
+        User user = userWithHoldings(1);
+
+        // When & Then
+        Map<String, Object> response = userService.getUserById(1L);
+        assertEquals(20.0, response.get("profit"));
+        assertEquals("test", response.get("username"));
+        assertEquals(0.0, user.getProfit());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void testGetAllUsers_ProfitComputedOnRead() {
+        // Given
+        User user = userWithHoldings(1);
+        when(userRepository.findAll()).thenReturn(List.of(user));
+
+        // When
+        List<Map<String, Object>> users = userService.getAllUsers();
+
+        // Then
+        assertEquals(20.0, users.get(0).get("profit"));
+        assertEquals(userService.getUserById(1L).get("profit"), users.get(0).get("profit"));
+        assertEquals(0.0, user.getProfit());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void testAddFunds_ProfitComputedOnRead() {
+        // Given
+        userWithHoldings(1);
+
+        // When
+        Map<String, Object> response = userService.addFunds(1L, 100.0);
+
+        // Then
+        assertEquals(100.0, response.get("accountBalance"));
+        assertEquals(20.0, response.get("profit"));
+    }
+}
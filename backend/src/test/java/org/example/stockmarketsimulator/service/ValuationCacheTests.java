@@ -0,0 +1,49 @@
+package org.example.stockmarketsimulator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Pamięć wycen portfeli:
+ * - trafienie tylko przy zgodnej epoce i wersji portfela
+ * - limit wpisów z usuwaniem najdawniej odczytywanej wyceny
+ */
+
+public class ValuationCacheTests {
+
+    private static ValuationCache.Valuation valuation(long epoch, long holdingsVersion) {
+        return new ValuationCache.Valuation(epoch, holdingsVersion, 1.0, List.of());
+    }
+
+    @Test
+    void testGet_StaleEpochOrHoldingsMiss() {
+        // Given
+        ValuationCache cache = new ValuationCache(10);
+        cache.put(1L, valuation(3, 7));
+
+        // When & Then
+        assertNotNull(cache.get(1L, 3, 7));
+        assertNull(cache.get(1L, 4, 7));
+        assertNull(cache.get(1L, 3, 8));
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyRead() {
+        // Given
+        ValuationCache cache = new ValuationCache(2);
+        cache.put(1L, valuation(1, 1));
+        cache.put(2L, valuation(1, 1));
+
+        // When
+        cache.get(1L, 1, 1);
+        cache.put(3L, valuation(1, 1));
+
+        // Then
+        assertNotNull(cache.get(1L, 1, 1));
+        assertNull(cache.get(2L, 1, 1));
+        assertNotNull(cache.get(3L, 1, 1));
+    }
+}
@@ -0,0 +1,77 @@
+var Qv=Object.defineProperty;var Zv=(i,e,a)=>e in i?Qv(i,e,{enumerable:!0,configurable:!0,writable:!0,value:a}):i[e]=a;var St=(i,e,a)=>Zv(i,typeof e!="symbol"?e+"":e,a);(function(){const e=document.createElement("link").relList;if(e&&e.supports&&e.supports("modulepreload"))return;for(const r of document.querySelectorAll('link[rel="modulepreload"]'))l(r);new MutationObserver(r=>{for(const u of r)if(u.type==="childList")for(const c of u.addedNodes)c.tagName==="LINK"&&c.rel==="modulepreload"&&l(c)}).observe(document,{childList:!0,subtree:!0});function a(r){const u={};return r.integrity&&(u.integrity=r.integrity),r.referrerPolicy&&(u.referrerPolicy=r.referrerPolicy),r.crossOrigin==="use-credentials"?u.credentials="include":r.crossOrigin==="anonymous"?u.credentials="omit":u.credentials="same-origin",u}function l(r){if(r.ep)return;r.ep=!0;const u=a(r);fetch(r.href,u)}})();function xy(i){return i&&i.__esModule&&Object.prototype.hasOwnProperty.call(i,"default")?i.default:i}var Pc={exports:{}},sl={};/**
+ * @license React
+ * react-jsx-runtime.production.js
+ *
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */var km;function Kv(){if(km)return sl;km=1;var i=Symbol.for("react.transitional.element"),e=Symbol.for("react.fragment");function a(l,r,u){var c=null;if(u!==void 0&&(c=""+u),r.key!==void 0&&(c=""+r.key),"key"in r){u={};for(var h in r)h!=="key"&&(u[h]=r[h])}else u=r;return r=u.ref,{$$typeof:i,type:l,key:c,ref:r!==void 0?r:null,props:u}}return sl.Fragment=e,sl.jsx=a,sl.jsxs=a,sl}var Nm;function Wv(){return Nm||(Nm=1,Pc.exports=Kv()),Pc.exports}var M=Wv(),$c={exports:{}},_t={};/**
+ * @license React
+ * react.production.js
+ *
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */var jm;function Pv(){if(jm)return _t;jm=1;var i=Symbol.for("react.transitional.element"),e=Symbol.for("react.portal"),a=Symbol.for("react.fragment"),l=Symbol.for("react.strict_mode"),r=Symbol.for("react.profiler"),u=Symbol.for("react.consumer"),c=Symbol.for("react.context"),h=Symbol.for("react.forward_ref"),d=Symbol.for("react.suspense"),m=Symbol.for("react.memo"),p=Symbol.for("react.lazy"),b=Symbol.iterator;function v(O){return O===null||typeof O!="object"?null:(O=b&&O[b]||O["@@iterator"],typeof O=="function"?O:null)}var _={isMounted:function(){return!1},enqueueForceUpdate:function(){},enqueueReplaceState:function(){},enqueueSetState:function(){}},S=Object.assign,w={};function T(O,K,gt){this.props=O,this.context=K,this.refs=w,this.updater=gt||_}T.prototype.isReactComponent={},T.prototype.setState=function(O,K){if(typeof O!="object"&&typeof O!="function"&&O!=null)throw Error("takes an object of state variables to update or a function which returns an object of state variables.");this.updater.enqueueSetState(this,O,K,"setState")},T.prototype.forceUpdate=function(O){this.updater.enqueueForceUpdate(this,O,"forceUpdate")};function A(){}A.prototype=T.prototype;function N(O,K,gt){this.props=O,this.context=K,this.refs=w,this.updater=gt||_}var U=N.prototype=new A;U.constructor=N,S(U,T.prototype),U.isPureReactComponent=!0;var Y=Array.isArray,C={H:null,A:null,T:null,S:null},W=Object.prototype.hasOwnProperty;function J(O,K,gt,dt,it,xt){return gt=xt.ref,{$$typeof:i,type:O,key:K,ref:gt!==void 0?gt:null,props:xt}}function $(O,K){return J(O.type,K,void 0,void 0,void 0,O.props)}function X(O){return typeof O=="object"&&O!==null&&O.$$typeof===i}function tt(O){var K={"=":"=0",":":"=2"};return"$"+O.replace(/[=:]/g,function(gt){return K[gt]})}var rt=/\/+/g;function at(O,K){return typeof O=="object"&&O!==null&&O.key!=null?tt(""+O.key):K.toString(36)}function ct(){}function st(O){switch(O.status){case"fulfilled":return O.value;case"rejected":throw O.reason;default:switch(typeof O.status=="string"?O.then(ct,ct):(O.status="pending",O.then(function(K){O.status==="pending"&&(O.status="fulfilled",O.value=K)},function(K){O.status==="pending"&&(O.status="rejected",O.reason=K)})),O.status){case"fulfilled":return O.value;case"rejected":throw O.reason}}throw O}function P(O,K,gt,dt,it){var xt=typeof O;(xt==="undefined"||xt==="boolean")&&(O=null);var bt=!1;if(O===null)bt=!0;else switch(xt){case"bigint":case"string":case"number":bt=!0;break;case"object":switch(O.$$typeof){case i:case e:bt=!0;break;case p:return bt=O._init,P(bt(O._payload),K,gt,dt,it)}}if(bt)return it=it(O),bt=dt===""?"."+at(O,0):dt,Y(it)?(gt="",bt!=null&&(gt=bt.replace(rt,"$&/")+"/"),P(it,K,gt,"",function(Gt){return Gt})):it!=null&&(X(it)&&(it=$(it,gt+(it.key==null||O&&O.key===it.key?"":(""+it.key).replace(rt,"$&/")+"/")+bt)),K.push(it)),1;bt=0;var ue=dt===""?".":dt+":";if(Y(O))for(var Rt=0;Rt<O.length;Rt++)dt=O[Rt],xt=ue+at(dt,Rt),bt+=P(dt,K,gt,xt,it);else if(Rt=v(O),typeof Rt=="function")for(O=Rt.call(O),Rt=0;!(dt=O.next()).done;)dt=dt.value,xt=ue+at(dt,Rt++),bt+=P(dt,K,gt,xt,it);else if(xt==="object"){if(typeof O.then=="function")return P(st(O),K,gt,dt,it);throw K=String(O),Error("Objects are not valid as a React child (found: "+(K==="[object Object]"?"object with keys {"+Object.keys(O).join(", ")+"}":K)+"). If you meant to render a collection of children, use an array instead.")}return bt}function V(O,K,gt){if(O==null)return O;var dt=[],it=0;return P(O,dt,"","",function(xt){return K.call(gt,xt,it++)}),dt}function et(O){if(O._status===-1){var K=O._result;K=K(),K.then(function(gt){(O._status===0||O._status===-1)&&(O._status=1,O._result=gt)},function(gt){(O._status===0||O._status===-1)&&(O._status=2,O._result=gt)}),O._status===-1&&(O._status=0,O._result=K)}if(O._status===1)return O._result.default;throw O._result}var ut=typeof reportError=="function"?reportError:function(O){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var K=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof O=="object"&&O!==null&&typeof O.message=="string"?String(O.message):String(O),error:O});if(!window.dispatchEvent(K))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",O);return}console.error(O)};function wt(){}return _t.Children={map:V,forEach:function(O,K,gt){V(O,function(){K.apply(this,arguments)},gt)},count:function(O){var K=0;return V(O,function(){K++}),K},toArray:function(O){return V(O,function(K){return K})||[]},only:function(O){if(!X(O))throw Error("React.Children.only expected to receive a single React element child.");return O}},_t.Component=T,_t.Fragment=a,_t.Profiler=r,_t.PureComponent=N,_t.StrictMode=l,_t.Suspense=d,_t.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=C,_t.act=function(){throw Error("act(...) is not supported in production builds of React.")},_t.cache=function(O){return function(){return O.apply(null,arguments)}},_t.cloneElement=function(O,K,gt){if(O==null)throw Error("The argument must be a React element, but you passed "+O+".");var dt=S({},O.props),it=O.key,xt=void 0;if(K!=null)for(bt in K.ref!==void 0&&(xt=void 0),K.key!==void 0&&(it=""+K.key),K)!W.call(K,bt)||bt==="key"||bt==="__self"||bt==="__source"||bt==="ref"&&K.ref===void 0||(dt[bt]=K[bt]);var bt=arguments.length-2;if(bt===1)dt.children=gt;else if(1<bt){for(var ue=Array(bt),Rt=0;Rt<bt;Rt++)ue[Rt]=arguments[Rt+2];dt.children=ue}return J(O.type,it,void 0,void 0,xt,dt)},_t.createContext=function(O){return O={$$typeof:c,_currentValue:O,_currentValue2:O,_threadCount:0,Provider:null,Consumer:null},O.Provider=O,O.Consumer={$$typeof:u,_context:O},O},_t.createElement=function(O,K,gt){var dt,it={},xt=null;if(K!=null)for(dt in K.key!==void 0&&(xt=""+K.key),K)W.call(K,dt)&&dt!=="key"&&dt!=="__self"&&dt!=="__source"&&(it[dt]=K[dt]);var bt=arguments.length-2;if(bt===1)it.children=gt;else if(1<bt){for(var ue=Array(bt),Rt=0;Rt<bt;Rt++)ue[Rt]=arguments[Rt+2];it.children=ue}if(O&&O.defaultProps)for(dt in bt=O.defaultProps,bt)it[dt]===void 0&&(it[dt]=bt[dt]);return J(O,xt,void 0,void 0,null,it)},_t.createRef=function(){return{current:null}},_t.forwardRef=function(O){return{$$typeof:h,render:O}},_t.isValidElement=X,_t.lazy=function(O){return{$$typeof:p,_payload:{_status:-1,_result:O},_init:et}},_t.memo=function(O,K){return{$$typeof:m,type:O,compare:K===void 0?null:K}},_t.startTransition=function(O){var K=C.T,gt={};C.T=gt;try{var dt=O(),it=C.S;it!==null&&it(gt,dt),typeof dt=="object"&&dt!==null&&typeof dt.then=="function"&&dt.then(wt,ut)}catch(xt){ut(xt)}finally{C.T=K}},_t.unstable_useCacheRefresh=function(){return C.H.useCacheRefresh()},_t.use=function(O){return C.H.use(O)},_t.useActionState=function(O,K,gt){return C.H.useActionState(O,K,gt)},_t.useCallback=function(O,K){return C.H.useCallback(O,K)},_t.useContext=function(O){return C.H.useContext(O)},_t.useDebugValue=function(){},_t.useDeferredValue=function(O,K){return C.H.useDeferredValue(O,K)},_t.useEffect=function(O,K){return C.H.useEffect(O,K)},_t.useId=function(){return C.H.useId()},_t.useImperativeHandle=function(O,K,gt){return C.H.useImperativeHandle(O,K,gt)},_t.useInsertionEffect=function(O,K){return C.H.useInsertionEffect(O,K)},_t.useLayoutEffect=function(O,K){return C.H.useLayoutEffect(O,K)},_t.useMemo=function(O,K){return C.H.useMemo(O,K)},_t.useOptimistic=function(O,K){return C.H.useOptimistic(O,K)},_t.useReducer=function(O,K,gt){return C.H.useReducer(O,K,gt)},_t.useRef=function(O){return C.H.useRef(O)},_t.useState=function(O){return C.H.useState(O)},_t.useSyncExternalStore=function(O,K,gt){return C.H.useSyncExternalStore(O,K,gt)},_t.useTransition=function(){return C.H.useTransition()},_t.version="19.0.0",_t}var Lm;function Of(){return Lm||(Lm=1,$c.exports=Pv()),$c.exports}var j=Of();const Ee=xy(j);var Jc={exports:{}},ll={},Ic={exports:{}},tf={};/**
+ * @license React
+ * scheduler.production.js
+ *
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */var Hm;function $v(){return Hm||(Hm=1,function(i){function e(V,et){var ut=V.length;V.push(et);t:for(;0<ut;){var wt=ut-1>>>1,O=V[wt];if(0<r(O,et))V[wt]=et,V[ut]=O,ut=wt;else break t}}function a(V){return V.length===0?null:V[0]}function l(V){if(V.length===0)return null;var et=V[0],ut=V.pop();if(ut!==et){V[0]=ut;t:for(var wt=0,O=V.length,K=O>>>1;wt<K;){var gt=2*(wt+1)-1,dt=V[gt],it=gt+1,xt=V[it];if(0>r(dt,ut))it<O&&0>r(xt,dt)?(V[wt]=xt,V[it]=ut,wt=it):(V[wt]=dt,V[gt]=ut,wt=gt);else if(it<O&&0>r(xt,ut))V[wt]=xt,V[it]=ut,wt=it;else break t}}return et}function r(V,et){var ut=V.sortIndex-et.sortIndex;return ut!==0?ut:V.id-et.id}if(i.unstable_now=void 0,typeof performance=="object"&&typeof performance.now=="function"){var u=performance;i.unstable_now=function(){return u.now()}}else{var c=Date,h=c.now();i.unstable_now=function(){return c.now()-h}}var d=[],m=[],p=1,b=null,v=3,_=!1,S=!1,w=!1,T=typeof setTimeout=="function"?setTimeout:null,A=typeof clearTimeout=="function"?clearTimeout:null,N=typeof setImmediate<"u"?setImmediate:null;function U(V){for(var et=a(m);et!==null;){if(et.callback===null)l(m);else if(et.startTime<=V)l(m),et.sortIndex=et.expirationTime,e(d,et);else break;et=a(m)}}function Y(V){if(w=!1,U(V),!S)if(a(d)!==null)S=!0,st();else{var et=a(m);et!==null&&P(Y,et.startTime-V)}}var C=!1,W=-1,J=5,$=-1;function X(){return!(i.unstable_now()-$<J)}function tt(){if(C){var V=i.unstable_now();$=V;var et=!0;try{t:{S=!1,w&&(w=!1,A(W),W=-1),_=!0;var ut=v;try{e:{for(U(V),b=a(d);b!==null&&!(b.expirationTime>V&&X());){var wt=b.callback;if(typeof wt=="function"){b.callback=null,v=b.priorityLevel;var O=wt(b.expirationTime<=V);if(V=i.unstable_now(),typeof O=="function"){b.callback=O,U(V),et=!0;break e}b===a(d)&&l(d),U(V)}else l(d);b=a(d)}if(b!==null)et=!0;else{var K=a(m);K!==null&&P(Y,K.startTime-V),et=!1}}break t}finally{b=null,v=ut,_=!1}et=void 0}}finally{et?rt():C=!1}}}var rt;if(typeof N=="function")rt=function(){N(tt)};else if(typeof MessageChannel<"u"){var at=new MessageChannel,ct=at.port2;at.port1.onmessage=tt,rt=function(){ct.postMessage(null)}}else rt=function(){T(tt,0)};function st(){C||(C=!0,rt())}function P(V,et){W=T(function(){V(i.unstable_now())},et)}i.unstable_IdlePriority=5,i.unstable_ImmediatePriority=1,i.unstable_LowPriority=4,i.unstable_NormalPriority=3,i.unstable_Profiling=null,i.unstable_UserBlockingPriority=2,i.unstable_cancelCallback=function(V){V.callback=null},i.unstable_continueExecution=function(){S||_||(S=!0,st())},i.unstable_forceFrameRate=function(V){0>V||125<V?console.error("forceFrameRate takes a positive int between 0 and 125, forcing frame rates higher than 125 fps is not supported"):J=0<V?Math.floor(1e3/V):5},i.unstable_getCurrentPriorityLevel=function(){return v},i.unstable_getFirstCallbackNode=function(){return a(d)},i.unstable_next=function(V){switch(v){case 1:case 2:case 3:var et=3;break;default:et=v}var ut=v;v=et;try{return V()}finally{v=ut}},i.unstable_pauseExecution=function(){},i.unstable_requestPaint=function(){},i.unstable_runWithPriority=function(V,et){switch(V){case 1:case 2:case 3:case 4:case 5:break;default:V=3}var ut=v;v=V;try{return et()}finally{v=ut}},i.unstable_scheduleCallback=function(V,et,ut){var wt=i.unstable_now();switch(typeof ut=="object"&&ut!==null?(ut=ut.delay,ut=typeof ut=="number"&&0<ut?wt+ut:wt):ut=wt,V){case 1:var O=-1;break;case 2:O=250;break;case 5:O=1073741823;break;case 4:O=1e4;break;default:O=5e3}return O=ut+O,V={id:p++,callback:et,priorityLevel:V,startTime:ut,expirationTime:O,sortIndex:-1},ut>wt?(V.sortIndex=ut,e(m,V),a(d)===null&&V===a(m)&&(w?(A(W),W=-1):w=!0,P(Y,ut-wt))):(V.sortIndex=O,e(d,V),S||_||(S=!0,st())),V},i.unstable_shouldYield=X,i.unstable_wrapCallback=function(V){var et=v;return function(){var ut=v;v=et;try{return V.apply(this,arguments)}finally{v=ut}}}}(tf)),tf}var Bm;function Jv(){return Bm||(Bm=1,Ic.exports=$v()),Ic.exports}var ef={exports:{}},Se={};/**
+ * @license React
+ * react-dom.production.js
+ *
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */var Um;function Iv(){if(Um)return Se;Um=1;var i=Of();function e(d){var m="https://react.dev/errors/"+d;if(1<arguments.length){m+="?args[]="+encodeURIComponent(arguments[1]);for(var p=2;p<arguments.length;p++)m+="&args[]="+encodeURIComponent(arguments[p])}return"Minified React error #"+d+"; visit "+m+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function a(){}var l={d:{f:a,r:function(){throw Error(e(522))},D:a,C:a,L:a,m:a,X:a,S:a,M:a},p:0,findDOMNode:null},r=Symbol.for("react.portal");function u(d,m,p){var b=3<arguments.length&&arguments[3]!==void 0?arguments[3]:null;return{$$typeof:r,key:b==null?null:""+b,children:d,containerInfo:m,implementation:p}}var c=i.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE;function h(d,m){if(d==="font")return"";if(typeof m=="string")return m==="use-credentials"?m:""}return Se.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=l,Se.createPortal=function(d,m){var p=2<arguments.length&&arguments[2]!==void 0?arguments[2]:null;if(!m||m.nodeType!==1&&m.nodeType!==9&&m.nodeType!==11)throw Error(e(299));return u(d,m,null,p)},Se.flushSync=function(d){var m=c.T,p=l.p;try{if(c.T=null,l.p=2,d)return d()}finally{c.T=m,l.p=p,l.d.f()}},Se.preconnect=function(d,m){typeof d=="string"&&(m?(m=m.crossOrigin,m=typeof m=="string"?m==="use-credentials"?m:"":void 0):m=null,l.d.C(d,m))},Se.prefetchDNS=function(d){typeof d=="string"&&l.d.D(d)},Se.preinit=function(d,m){if(typeof d=="string"&&m&&typeof m.as=="string"){var p=m.as,b=h(p,m.crossOrigin),v=typeof m.integrity=="string"?m.integrity:void 0,_=typeof m.fetchPriority=="string"?m.fetchPriority:void 0;p==="style"?l.d.S(d,typeof m.precedence=="string"?m.precedence:void 0,{crossOrigin:b,integrity:v,fetchPriority:_}):p==="script"&&l.d.X(d,{crossOrigin:b,integrity:v,fetchPriority:_,nonce:typeof m.nonce=="string"?m.nonce:void 0})}},Se.preinitModule=function(d,m){if(typeof d=="string")if(typeof m=="object"&&m!==null){if(m.as==null||m.as==="script"){var p=h(m.as,m.crossOrigin);l.d.M(d,{crossOrigin:p,integrity:typeof m.integrity=="string"?m.integrity:void 0,nonce:typeof m.nonce=="string"?m.nonce:void 0})}}else m==null&&l.d.M(d)},Se.preload=function(d,m){if(typeof d=="string"&&typeof m=="object"&&m!==null&&typeof m.as=="string"){var p=m.as,b=h(p,m.crossOrigin);l.d.L(d,p,{crossOrigin:b,integrity:typeof m.integrity=="string"?m.integrity:void 0,nonce:typeof m.nonce=="string"?m.nonce:void 0,type:typeof m.type=="string"?m.type:void 0,fetchPriority:typeof m.fetchPriority=="string"?m.fetchPriority:void 0,referrerPolicy:typeof m.referrerPolicy=="string"?m.referrerPolicy:void 0,imageSrcSet:typeof m.imageSrcSet=="string"?m.imageSrcSet:void 0,imageSizes:typeof m.imageSizes=="string"?m.imageSizes:void 0,media:typeof m.media=="string"?m.media:void 0})}},Se.preloadModule=function(d,m){if(typeof d=="string")if(m){var p=h(m.as,m.crossOrigin);l.d.m(d,{as:typeof m.as=="string"&&m.as!=="script"?m.as:void 0,crossOrigin:p,integrity:typeof m.integrity=="string"?m.integrity:void 0})}else l.d.m(d)},Se.requestFormReset=function(d){l.d.r(d)},Se.unstable_batchedUpdates=function(d,m){return d(m)},Se.useFormState=function(d,m,p){return c.H.useFormState(d,m,p)},Se.useFormStatus=function(){return c.H.useHostTransitionStatus()},Se.version="19.0.0",Se}var Vm;function tx(){if(Vm)return ef.exports;Vm=1;function i(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(i)}catch(e){console.error(e)}}return i(),ef.exports=Iv(),ef.exports}/**
+ * @license React
+ * react-dom-client.production.js
+ *
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */var Ym;function ex(){if(Ym)return ll;Ym=1;var i=Jv(),e=Of(),a=tx();function l(t){var n="https://react.dev/errors/"+t;if(1<arguments.length){n+="?args[]="+encodeURIComponent(arguments[1]);for(var s=2;s<arguments.length;s++)n+="&args[]="+encodeURIComponent(arguments[s])}return"Minified React error #"+t+"; visit "+n+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function r(t){return!(!t||t.nodeType!==1&&t.nodeType!==9&&t.nodeType!==11)}var u=Symbol.for("react.element"),c=Symbol.for("react.transitional.element"),h=Symbol.for("react.portal"),d=Symbol.for("react.fragment"),m=Symbol.for("react.strict_mode"),p=Symbol.for("react.profiler"),b=Symbol.for("react.provider"),v=Symbol.for("react.consumer"),_=Symbol.for("react.context"),S=Symbol.for("react.forward_ref"),w=Symbol.for("react.suspense"),T=Symbol.for("react.suspense_list"),A=Symbol.for("react.memo"),N=Symbol.for("react.lazy"),U=Symbol.for("react.offscreen"),Y=Symbol.for("react.memo_cache_sentinel"),C=Symbol.iterator;function W(t){return t===null||typeof t!="object"?null:(t=C&&t[C]||t["@@iterator"],typeof t=="function"?t:null)}var J=Symbol.for("react.client.reference");function $(t){if(t==null)return null;if(typeof t=="function")return t.$$typeof===J?null:t.displayName||t.name||null;if(typeof t=="string")return t;switch(t){case d:return"Fragment";case h:return"Portal";case p:return"Profiler";case m:return"StrictMode";case w:return"Suspense";case T:return"SuspenseList"}if(typeof t=="object")switch(t.$$typeof){case _:return(t.displayName||"Context")+".Provider";case v:return(t._context.displayName||"Context")+".Consumer";case S:var n=t.render;return t=t.displayName,t||(t=n.displayName||n.name||"",t=t!==""?"ForwardRef("+t+")":"ForwardRef"),t;case A:return n=t.displayName||null,n!==null?n:$(t.type)||"Memo";case N:n=t._payload,t=t._init;try{return $(t(n))}catch{}}return null}var X=e.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,tt=Object.assign,rt,at;function ct(t){if(rt===void 0)try{throw Error()}catch(s){var n=s.stack.trim().match(/\n( *(at )?)/);rt=n&&n[1]||"",at=-1<s.stack.indexOf(`
+    at`)?" (<anonymous>)":-1<s.stack.indexOf("@")?"@unknown:0:0":""}return`
+`+rt+t+at}var st=!1;function P(t,n){if(!t||st)return"";st=!0;var s=Error.prepareStackTrace;Error.prepareStackTrace=void 0;try{var o={DetermineComponentFrameRoot:function(){try{if(n){var Z=function(){throw Error()};if(Object.defineProperty(Z.prototype,"props",{set:function(){throw Error()}}),typeof Reflect=="object"&&Reflect.construct){try{Reflect.construct(Z,[])}catch(F){var H=F}Reflect.construct(t,[],Z)}else{try{Z.call()}catch(F){H=F}t.call(Z.prototype)}}else{try{throw Error()}catch(F){H=F}(Z=t())&&typeof Z.catch=="function"&&Z.catch(function(){})}}catch(F){if(F&&H&&typeof F.stack=="string")return[F.stack,H.stack]}return[null,null]}};o.DetermineComponentFrameRoot.displayName="DetermineComponentFrameRoot";var f=Object.getOwnPropertyDescriptor(o.DetermineComponentFrameRoot,"name");f&&f.configurable&&Object.defineProperty(o.DetermineComponentFrameRoot,"name",{value:"DetermineComponentFrameRoot"});var g=o.DetermineComponentFrameRoot(),y=g[0],x=g[1];if(y&&x){var E=y.split(`
+`),R=x.split(`
+`);for(f=o=0;o<E.length&&!E[o].includes("DetermineComponentFrameRoot");)o++;for(;f<R.length&&!R[f].includes("DetermineComponentFrameRoot");)f++;if(o===E.length||f===R.length)for(o=E.length-1,f=R.length-1;1<=o&&0<=f&&E[o]!==R[f];)f--;for(;1<=o&&0<=f;o--,f--)if(E[o]!==R[f]){if(o!==1||f!==1)do if(o--,f--,0>f||E[o]!==R[f]){var G=`
+`+E[o].replace(" at new "," at ");return t.displayName&&G.includes("<anonymous>")&&(G=G.replace("<anonymous>",t.displayName)),G}while(1<=o&&0<=f);break}}}finally{st=!1,Error.prepareStackTrace=s}return(s=t?t.displayName||t.name:"")?ct(s):""}function V(t){switch(t.tag){case 26:case 27:case 5:return ct(t.type);case 16:return ct("Lazy");case 13:return ct("Suspense");case 19:return ct("SuspenseList");case 0:case 15:return t=P(t.type,!1),t;case 11:return t=P(t.type.render,!1),t;case 1:return t=P(t.type,!0),t;default:return""}}function et(t){try{var n="";do n+=V(t),t=t.return;while(t);return n}catch(s){return`
+Error generating stack: `+s.message+`
+`+s.stack}}function ut(t){var n=t,s=t;if(t.alternate)for(;n.return;)n=n.return;else{t=n;do n=t,(n.flags&4098)!==0&&(s=n.return),t=n.return;while(t)}return n.tag===3?s:null}function wt(t){if(t.tag===13){var n=t.memoizedState;if(n===null&&(t=t.alternate,t!==null&&(n=t.memoizedState)),n!==null)return n.dehydrated}return null}function O(t){if(ut(t)!==t)throw Error(l(188))}function K(t){var n=t.alternate;if(!n){if(n=ut(t),n===null)throw Error(l(188));return n!==t?null:t}for(var s=t,o=n;;){var f=s.return;if(f===null)break;var g=f.alternate;if(g===null){if(o=f.return,o!==null){s=o;continue}break}if(f.child===g.child){for(g=f.child;g;){if(g===s)return O(f),t;if(g===o)return O(f),n;g=g.sibling}throw Error(l(188))}if(s.return!==o.return)s=f,o=g;else{for(var y=!1,x=f.child;x;){if(x===s){y=!0,s=f,o=g;break}if(x===o){y=!0,o=f,s=g;break}x=x.sibling}if(!y){for(x=g.child;x;){if(x===s){y=!0,s=g,o=f;break}if(x===o){y=!0,o=g,s=f;break}x=x.sibling}if(!y)throw Error(l(189))}}if(s.alternate!==o)throw Error(l(190))}if(s.tag!==3)throw Error(l(188));return s.stateNode.current===s?t:n}function gt(t){var n=t.tag;if(n===5||n===26||n===27||n===6)return t;for(t=t.child;t!==null;){if(n=gt(t),n!==null)return n;t=t.sibling}return null}var dt=Array.isArray,it=a.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,xt={pending:!1,data:null,method:null,action:null},bt=[],ue=-1;function Rt(t){return{current:t}}function Gt(t){0>ue||(t.current=bt[ue],bt[ue]=null,ue--)}function Bt(t,n){ue++,bt[ue]=t.current,t.current=n}var Re=Rt(null),ni=Rt(null),mn=Rt(null),ki=Rt(null);function ma(t,n){switch(Bt(mn,n),Bt(ni,t),Bt(Re,null),t=n.nodeType,t){case 9:case 11:n=(n=n.documentElement)&&(n=n.namespaceURI)?om(n):0;break;default:if(t=t===8?n.parentNode:n,n=t.tagName,t=t.namespaceURI)t=om(t),n=um(t,n);else switch(n){case"svg":n=1;break;case"math":n=2;break;default:n=0}}Gt(Re),Bt(Re,n)}function zn(){Gt(Re),Gt(ni),Gt(mn)}function pa(t){t.memoizedState!==null&&Bt(ki,t);var n=Re.current,s=um(n,t.type);n!==s&&(Bt(ni,t),Bt(Re,s))}function ya(t){ni.current===t&&(Gt(Re),Gt(ni)),ki.current===t&&(Gt(ki),tl._currentValue=xt)}var us=Object.prototype.hasOwnProperty,ql=i.unstable_scheduleCallback,ba=i.unstable_cancelCallback,D=i.unstable_shouldYield,B=i.unstable_requestPaint,q=i.unstable_now,lt=i.unstable_getCurrentPriorityLevel,nt=i.unstable_ImmediatePriority,I=i.unstable_UserBlockingPriority,ot=i.unstable_NormalPriority,Dt=i.unstable_LowPriority,Qt=i.unstable_IdlePriority,ce=i.log,Fo=i.unstable_setDisableYieldValue,Rn=null,me=null;function Xo(t){if(me&&typeof me.onCommitFiberRoot=="function")try{me.onCommitFiberRoot(Rn,t,void 0,(t.current.flags&128)===128)}catch{}}function ln(t){if(typeof ce=="function"&&Fo(t),me&&typeof me.setStrictMode=="function")try{me.setStrictMode(Rn,t)}catch{}}var Me=Math.clz32?Math.clz32:k0,Fl=Math.log,C0=Math.LN2;function k0(t){return t>>>=0,t===0?32:31-(Fl(t)/C0|0)|0}var Xl=128,Gl=4194304;function Ni(t){var n=t&42;if(n!==0)return n;switch(t&-t){case 1:return 1;case 2:return 2;case 4:return 4;case 8:return 8;case 16:return 16;case 32:return 32;case 64:return 64;case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return t&4194176;case 4194304:case 8388608:case 16777216:case 33554432:return t&62914560;case 67108864:return 67108864;case 134217728:return 134217728;case 268435456:return 268435456;case 536870912:return 536870912;case 1073741824:return 0;default:return t}}function Ql(t,n){var s=t.pendingLanes;if(s===0)return 0;var o=0,f=t.suspendedLanes,g=t.pingedLanes,y=t.warmLanes;t=t.finishedLanes!==0;var x=s&134217727;return x!==0?(s=x&~f,s!==0?o=Ni(s):(g&=x,g!==0?o=Ni(g):t||(y=x&~y,y!==0&&(o=Ni(y))))):(x=s&~f,x!==0?o=Ni(x):g!==0?o=Ni(g):t||(y=s&~y,y!==0&&(o=Ni(y)))),o===0?0:n!==0&&n!==o&&(n&f)===0&&(f=o&-o,y=n&-n,f>=y||f===32&&(y&4194176)!==0)?n:o}function cs(t,n){return(t.pendingLanes&~(t.suspendedLanes&~t.pingedLanes)&n)===0}function N0(t,n){switch(t){case 1:case 2:case 4:case 8:return n+250;case 16:case 32:case 64:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return n+5e3;case 4194304:case 8388608:case 16777216:case 33554432:return-1;case 67108864:case 134217728:case 268435456:case 536870912:case 1073741824:return-1;default:return-1}}function th(){var t=Xl;return Xl<<=1,(Xl&4194176)===0&&(Xl=128),t}function eh(){var t=Gl;return Gl<<=1,(Gl&62914560)===0&&(Gl=4194304),t}function Go(t){for(var n=[],s=0;31>s;s++)n.push(t);return n}function fs(t,n){t.pendingLanes|=n,n!==268435456&&(t.suspendedLanes=0,t.pingedLanes=0,t.warmLanes=0)}function j0(t,n,s,o,f,g){var y=t.pendingLanes;t.pendingLanes=s,t.suspendedLanes=0,t.pingedLanes=0,t.warmLanes=0,t.expiredLanes&=s,t.entangledLanes&=s,t.errorRecoveryDisabledLanes&=s,t.shellSuspendCounter=0;var x=t.entanglements,E=t.expirationTimes,R=t.hiddenUpdates;for(s=y&~s;0<s;){var G=31-Me(s),Z=1<<G;x[G]=0,E[G]=-1;var H=R[G];if(H!==null)for(R[G]=null,G=0;G<H.length;G++){var F=H[G];F!==null&&(F.lane&=-536870913)}s&=~Z}o!==0&&nh(t,o,0),g!==0&&f===0&&t.tag!==0&&(t.suspendedLanes|=g&~(y&~n))}function nh(t,n,s){t.pendingLanes|=n,t.suspendedLanes&=~n;var o=31-Me(n);t.entangledLanes|=n,t.entanglements[o]=t.entanglements[o]|1073741824|s&4194218}function ih(t,n){var s=t.entangledLanes|=n;for(t=t.entanglements;s;){var o=31-Me(s),f=1<<o;f&n|t[o]&n&&(t[o]|=n),s&=~f}}function ah(t){return t&=-t,2<t?8<t?(t&134217727)!==0?32:268435456:8:2}function sh(){var t=it.p;return t!==0?t:(t=window.event,t===void 0?32:Am(t.type))}function L0(t,n){var s=it.p;try{return it.p=t,n()}finally{it.p=s}}var ii=Math.random().toString(36).slice(2),xe="__reactFiber$"+ii,Ce="__reactProps$"+ii,va="__reactContainer$"+ii,Qo="__reactEvents$"+ii,H0="__reactListeners$"+ii,B0="__reactHandles$"+ii,lh="__reactResources$"+ii,hs="__reactMarker$"+ii;function Zo(t){delete t[xe],delete t[Ce],delete t[Qo],delete t[H0],delete t[B0]}function ji(t){var n=t[xe];if(n)return n;for(var s=t.parentNode;s;){if(n=s[va]||s[xe]){if(s=n.alternate,n.child!==null||s!==null&&s.child!==null)for(t=hm(t);t!==null;){if(s=t[xe])return s;t=hm(t)}return n}t=s,s=t.parentNode}return null}function xa(t){if(t=t[xe]||t[va]){var n=t.tag;if(n===5||n===6||n===13||n===26||n===27||n===3)return t}return null}function ds(t){var n=t.tag;if(n===5||n===26||n===27||n===6)return t.stateNode;throw Error(l(33))}function _a(t){var n=t[lh];return n||(n=t[lh]={hoistableStyles:new Map,hoistableScripts:new Map}),n}function fe(t){t[hs]=!0}var rh=new Set,oh={};function Li(t,n){Sa(t,n),Sa(t+"Capture",n)}function Sa(t,n){for(oh[t]=n,t=0;t<n.length;t++)rh.add(n[t])}var Cn=!(typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"),U0=RegExp("^[:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD][:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD\\-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040]*$"),uh={},ch={};function V0(t){return us.call(ch,t)?!0:us.call(uh,t)?!1:U0.test(t)?ch[t]=!0:(uh[t]=!0,!1)}function Zl(t,n,s){if(V0(n))if(s===null)t.removeAttribute(n);else{switch(typeof s){case"undefined":case"function":case"symbol":t.removeAttribute(n);return;case"boolean":var o=n.toLowerCase().slice(0,5);if(o!=="data-"&&o!=="aria-"){t.removeAttribute(n);return}}t.setAttribute(n,""+s)}}function Kl(t,n,s){if(s===null)t.removeAttribute(n);else{switch(typeof s){case"undefined":case"function":case"symbol":case"boolean":t.removeAttribute(n);return}t.setAttribute(n,""+s)}}function kn(t,n,s,o){if(o===null)t.removeAttribute(s);else{switch(typeof o){case"undefined":case"function":case"symbol":case"boolean":t.removeAttribute(s);return}t.setAttributeNS(n,s,""+o)}}function Xe(t){switch(typeof t){case"bigint":case"boolean":case"number":case"string":case"undefined":return t;case"object":return t;default:return""}}function fh(t){var n=t.type;return(t=t.nodeName)&&t.toLowerCase()==="input"&&(n==="checkbox"||n==="radio")}function Y0(t){var n=fh(t)?"checked":"value",s=Object.getOwnPropertyDescriptor(t.constructor.prototype,n),o=""+t[n];if(!t.hasOwnProperty(n)&&typeof s<"u"&&typeof s.get=="function"&&typeof s.set=="function"){var f=s.get,g=s.set;return Object.defineProperty(t,n,{configurable:!0,get:function(){return f.call(this)},set:function(y){o=""+y,g.call(this,y)}}),Object.defineProperty(t,n,{enumerable:s.enumerable}),{getValue:function(){return o},setValue:function(y){o=""+y},stopTracking:function(){t._valueTracker=null,delete t[n]}}}}function Wl(t){t._valueTracker||(t._valueTracker=Y0(t))}function hh(t){if(!t)return!1;var n=t._valueTracker;if(!n)return!0;var s=n.getValue(),o="";return t&&(o=fh(t)?t.checked?"true":"false":t.value),t=o,t!==s?(n.setValue(t),!0):!1}function Pl(t){if(t=t||(typeof document<"u"?document:void 0),typeof t>"u")return null;try{return t.activeElement||t.body}catch{return t.body}}var q0=/[\n"\\]/g;function Ge(t){return t.replace(q0,function(n){return"\\"+n.charCodeAt(0).toString(16)+" "})}function Ko(t,n,s,o,f,g,y,x){t.name="",y!=null&&typeof y!="function"&&typeof y!="symbol"&&typeof y!="boolean"?t.type=y:t.removeAttribute("type"),n!=null?y==="number"?(n===0&&t.value===""||t.value!=n)&&(t.value=""+Xe(n)):t.value!==""+Xe(n)&&(t.value=""+Xe(n)):y!=="submit"&&y!=="reset"||t.removeAttribute("value"),n!=null?Wo(t,y,Xe(n)):s!=null?Wo(t,y,Xe(s)):o!=null&&t.removeAttribute("value"),f==null&&g!=null&&(t.defaultChecked=!!g),f!=null&&(t.checked=f&&typeof f!="function"&&typeof f!="symbol"),x!=null&&typeof x!="function"&&typeof x!="symbol"&&typeof x!="boolean"?t.name=""+Xe(x):t.removeAttribute("name")}function dh(t,n,s,o,f,g,y,x){if(g!=null&&typeof g!="function"&&typeof g!="symbol"&&typeof g!="boolean"&&(t.type=g),n!=null||s!=null){if(!(g!=="submit"&&g!=="reset"||n!=null))return;s=s!=null?""+Xe(s):"",n=n!=null?""+Xe(n):s,x||n===t.value||(t.value=n),t.defaultValue=n}o=o??f,o=typeof o!="function"&&typeof o!="symbol"&&!!o,t.checked=x?t.checked:!!o,t.defaultChecked=!!o,y!=null&&typeof y!="function"&&typeof y!="symbol"&&typeof y!="boolean"&&(t.name=y)}function Wo(t,n,s){n==="number"&&Pl(t.ownerDocument)===t||t.defaultValue===""+s||(t.defaultValue=""+s)}function wa(t,n,s,o){if(t=t.options,n){n={};for(var f=0;f<s.length;f++)n["$"+s[f]]=!0;for(s=0;s<t.length;s++)f=n.hasOwnProperty("$"+t[s].value),t[s].selected!==f&&(t[s].selected=f),f&&o&&(t[s].defaultSelected=!0)}else{for(s=""+Xe(s),n=null,f=0;f<t.length;f++){if(t[f].value===s){t[f].selected=!0,o&&(t[f].defaultSelected=!0);return}n!==null||t[f].disabled||(n=t[f])}n!==null&&(n.selected=!0)}}function gh(t,n,s){if(n!=null&&(n=""+Xe(n),n!==t.value&&(t.value=n),s==null)){t.defaultValue!==n&&(t.defaultValue=n);return}t.defaultValue=s!=null?""+Xe(s):""}function mh(t,n,s,o){if(n==null){if(o!=null){if(s!=null)throw Error(l(92));if(dt(o)){if(1<o.length)throw Error(l(93));o=o[0]}s=o}s==null&&(s=""),n=s}s=Xe(n),t.defaultValue=s,o=t.textContent,o===s&&o!==""&&o!==null&&(t.value=o)}function Ea(t,n){if(n){var s=t.firstChild;if(s&&s===t.lastChild&&s.nodeType===3){s.nodeValue=n;return}}t.textContent=n}var F0=new Set("animationIterationCount aspectRatio borderImageOutset borderImageSlice borderImageWidth boxFlex boxFlexGroup boxOrdinalGroup columnCount columns flex flexGrow flexPositive flexShrink flexNegative flexOrder gridArea gridRow gridRowEnd gridRowSpan gridRowStart gridColumn gridColumnEnd gridColumnSpan gridColumnStart fontWeight lineClamp lineHeight opacity order orphans scale tabSize widows zIndex zoom fillOpacity floodOpacity stopOpacity strokeDasharray strokeDashoffset strokeMiterlimit strokeOpacity strokeWidth MozAnimationIterationCount MozBoxFlex MozBoxFlexGroup MozLineClamp msAnimationIterationCount msFlex msZoom msFlexGrow msFlexNegative msFlexOrder msFlexPositive msFlexShrink msGridColumn msGridColumnSpan msGridRow msGridRowSpan WebkitAnimationIterationCount WebkitBoxFlex WebKitBoxFlexGroup WebkitBoxOrdinalGroup WebkitColumnCount WebkitColumns WebkitFlex WebkitFlexGrow WebkitFlexPositive WebkitFlexShrink WebkitLineClamp".split(" "));function ph(t,n,s){var o=n.indexOf("--")===0;s==null||typeof s=="boolean"||s===""?o?t.setProperty(n,""):n==="float"?t.cssFloat="":t[n]="":o?t.setProperty(n,s):typeof s!="number"||s===0||F0.has(n)?n==="float"?t.cssFloat=s:t[n]=(""+s).trim():t[n]=s+"px"}function yh(t,n,s){if(n!=null&&typeof n!="object")throw Error(l(62));if(t=t.style,s!=null){for(var o in s)!s.hasOwnProperty(o)||n!=null&&n.hasOwnProperty(o)||(o.indexOf("--")===0?t.setProperty(o,""):o==="float"?t.cssFloat="":t[o]="");for(var f in n)o=n[f],n.hasOwnProperty(f)&&s[f]!==o&&ph(t,f,o)}else for(var g in n)n.hasOwnProperty(g)&&ph(t,g,n[g])}function Po(t){if(t.indexOf("-")===-1)return!1;switch(t){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}var X0=new Map([["acceptCharset","accept-charset"],["htmlFor","for"],["httpEquiv","http-equiv"],["crossOrigin","crossorigin"],["accentHeight","accent-height"],["alignmentBaseline","alignment-baseline"],["arabicForm","arabic-form"],["baselineShift","baseline-shift"],["capHeight","cap-height"],["clipPath","clip-path"],["clipRule","clip-rule"],["colorInterpolation","color-interpolation"],["colorInterpolationFilters","color-interpolation-filters"],["colorProfile","color-profile"],["colorRendering","color-rendering"],["dominantBaseline","dominant-baseline"],["enableBackground","enable-background"],["fillOpacity","fill-opacity"],["fillRule","fill-rule"],["floodColor","flood-color"],["floodOpacity","flood-opacity"],["fontFamily","font-family"],["fontSize","font-size"],["fontSizeAdjust","font-size-adjust"],["fontStretch","font-stretch"],["fontStyle","font-style"],["fontVariant","font-variant"],["fontWeight","font-weight"],["glyphName","glyph-name"],["glyphOrientationHorizontal","glyph-orientation-horizontal"],["glyphOrientationVertical","glyph-orientation-vertical"],["horizAdvX","horiz-adv-x"],["horizOriginX","horiz-origin-x"],["imageRendering","image-rendering"],["letterSpacing","letter-spacing"],["lightingColor","lighting-color"],["markerEnd","marker-end"],["markerMid","marker-mid"],["markerStart","marker-start"],["overlinePosition","overline-position"],["overlineThickness","overline-thickness"],["paintOrder","paint-order"],["panose-1","panose-1"],["pointerEvents","pointer-events"],["renderingIntent","rendering-intent"],["shapeRendering","shape-rendering"],["stopColor","stop-color"],["stopOpacity","stop-opacity"],["strikethroughPosition","strikethrough-position"],["strikethroughThickness","strikethrough-thickness"],["strokeDasharray","stroke-dasharray"],["strokeDashoffset","stroke-dashoffset"],["strokeLinecap","stroke-linecap"],["strokeLinejoin","stroke-linejoin"],["strokeMiterlimit","stroke-miterlimit"],["strokeOpacity","stroke-opacity"],["strokeWidth","stroke-width"],["textAnchor","text-anchor"],["textDecoration","text-decoration"],["textRendering","text-rendering"],["transformOrigin","transform-origin"],["underlinePosition","underline-position"],["underlineThickness","underline-thickness"],["unicodeBidi","unicode-bidi"],["unicodeRange","unicode-range"],["unitsPerEm","units-per-em"],["vAlphabetic","v-alphabetic"],["vHanging","v-hanging"],["vIdeographic","v-ideographic"],["vMathematical","v-mathematical"],["vectorEffect","vector-effect"],["vertAdvY","vert-adv-y"],["vertOriginX","vert-origin-x"],["vertOriginY","vert-origin-y"],["wordSpacing","word-spacing"],["writingMode","writing-mode"],["xmlnsXlink","xmlns:xlink"],["xHeight","x-height"]]),G0=/^[\u0000-\u001F ]*j[\r\n\t]*a[\r\n\t]*v[\r\n\t]*a[\r\n\t]*s[\r\n\t]*c[\r\n\t]*r[\r\n\t]*i[\r\n\t]*p[\r\n\t]*t[\r\n\t]*:/i;function $l(t){return G0.test(""+t)?"javascript:throw new Error('React has blocked a javascript: URL as a security precaution.')":t}var $o=null;function Jo(t){return t=t.target||t.srcElement||window,t.correspondingUseElement&&(t=t.correspondingUseElement),t.nodeType===3?t.parentNode:t}var Ta=null,Ma=null;function bh(t){var n=xa(t);if(n&&(t=n.stateNode)){var s=t[Ce]||null;t:switch(t=n.stateNode,n.type){case"input":if(Ko(t,s.value,s.defaultValue,s.defaultValue,s.checked,s.defaultChecked,s.type,s.name),n=s.name,s.type==="radio"&&n!=null){for(s=t;s.parentNode;)s=s.parentNode;for(s=s.querySelectorAll('input[name="'+Ge(""+n)+'"][type="radio"]'),n=0;n<s.length;n++){var o=s[n];if(o!==t&&o.form===t.form){var f=o[Ce]||null;if(!f)throw Error(l(90));Ko(o,f.value,f.defaultValue,f.defaultValue,f.checked,f.defaultChecked,f.type,f.name)}}for(n=0;n<s.length;n++)o=s[n],o.form===t.form&&hh(o)}break t;case"textarea":gh(t,s.value,s.defaultValue);break t;case"select":n=s.value,n!=null&&wa(t,!!s.multiple,n,!1)}}}var Io=!1;function vh(t,n,s){if(Io)return t(n,s);Io=!0;try{var o=t(n);return o}finally{if(Io=!1,(Ta!==null||Ma!==null)&&(Nr(),Ta&&(n=Ta,t=Ma,Ma=Ta=null,bh(n),t)))for(n=0;n<t.length;n++)bh(t[n])}}function gs(t,n){var s=t.stateNode;if(s===null)return null;var o=s[Ce]||null;if(o===null)return null;s=o[n];t:switch(n){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":case"onMouseEnter":(o=!o.disabled)||(t=t.type,o=!(t==="button"||t==="input"||t==="select"||t==="textarea")),t=!o;break t;default:t=!1}if(t)return null;if(s&&typeof s!="function")throw Error(l(231,n,typeof s));return s}var tu=!1;if(Cn)try{var ms={};Object.defineProperty(ms,"passive",{get:function(){tu=!0}}),window.addEventListener("test",ms,ms),window.removeEventListener("test",ms,ms)}catch{tu=!1}var ai=null,eu=null,Jl=null;function xh(){if(Jl)return Jl;var t,n=eu,s=n.length,o,f="value"in ai?ai.value:ai.textContent,g=f.length;for(t=0;t<s&&n[t]===f[t];t++);var y=s-t;for(o=1;o<=y&&n[s-o]===f[g-o];o++);return Jl=f.slice(t,1<o?1-o:void 0)}function Il(t){var n=t.keyCode;return"charCode"in t?(t=t.charCode,t===0&&n===13&&(t=13)):t=n,t===10&&(t=13),32<=t||t===13?t:0}function tr(){return!0}function _h(){return!1}function ke(t){function n(s,o,f,g,y){this._reactName=s,this._targetInst=f,this.type=o,this.nativeEvent=g,this.target=y,this.currentTarget=null;for(var x in t)t.hasOwnProperty(x)&&(s=t[x],this[x]=s?s(g):g[x]);return this.isDefaultPrevented=(g.defaultPrevented!=null?g.defaultPrevented:g.returnValue===!1)?tr:_h,this.isPropagationStopped=_h,this}return tt(n.prototype,{preventDefault:function(){this.defaultPrevented=!0;var s=this.nativeEvent;s&&(s.preventDefault?s.preventDefault():typeof s.returnValue!="unknown"&&(s.returnValue=!1),this.isDefaultPrevented=tr)},stopPropagation:function(){var s=this.nativeEvent;s&&(s.stopPropagation?s.stopPropagation():typeof s.cancelBubble!="unknown"&&(s.cancelBubble=!0),this.isPropagationStopped=tr)},persist:function(){},isPersistent:tr}),n}var Hi={eventPhase:0,bubbles:0,cancelable:0,timeStamp:function(t){return t.timeStamp||Date.now()},defaultPrevented:0,isTrusted:0},er=ke(Hi),ps=tt({},Hi,{view:0,detail:0}),Q0=ke(ps),nu,iu,ys,nr=tt({},ps,{screenX:0,screenY:0,clientX:0,clientY:0,pageX:0,pageY:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,getModifierState:su,button:0,buttons:0,relatedTarget:function(t){return t.relatedTarget===void 0?t.fromElement===t.srcElement?t.toElement:t.fromElement:t.relatedTarget},movementX:function(t){return"movementX"in t?t.movementX:(t!==ys&&(ys&&t.type==="mousemove"?(nu=t.screenX-ys.screenX,iu=t.screenY-ys.screenY):iu=nu=0,ys=t),nu)},movementY:function(t){return"movementY"in t?t.movementY:iu}}),Sh=ke(nr),Z0=tt({},nr,{dataTransfer:0}),K0=ke(Z0),W0=tt({},ps,{relatedTarget:0}),au=ke(W0),P0=tt({},Hi,{animationName:0,elapsedTime:0,pseudoElement:0}),$0=ke(P0),J0=tt({},Hi,{clipboardData:function(t){return"clipboardData"in t?t.clipboardData:window.clipboardData}}),I0=ke(J0),tb=tt({},Hi,{data:0}),wh=ke(tb),eb={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},nb={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},ib={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"};function ab(t){var n=this.nativeEvent;return n.getModifierState?n.getModifierState(t):(t=ib[t])?!!n[t]:!1}function su(){return ab}var sb=tt({},ps,{key:function(t){if(t.key){var n=eb[t.key]||t.key;if(n!=="Unidentified")return n}return t.type==="keypress"?(t=Il(t),t===13?"Enter":String.fromCharCode(t)):t.type==="keydown"||t.type==="keyup"?nb[t.keyCode]||"Unidentified":""},code:0,location:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,repeat:0,locale:0,getModifierState:su,charCode:function(t){return t.type==="keypress"?Il(t):0},keyCode:function(t){return t.type==="keydown"||t.type==="keyup"?t.keyCode:0},which:function(t){return t.type==="keypress"?Il(t):t.type==="keydown"||t.type==="keyup"?t.keyCode:0}}),lb=ke(sb),rb=tt({},nr,{pointerId:0,width:0,height:0,pressure:0,tangentialPressure:0,tiltX:0,tiltY:0,twist:0,pointerType:0,isPrimary:0}),Eh=ke(rb),ob=tt({},ps,{touches:0,targetTouches:0,changedTouches:0,altKey:0,metaKey:0,ctrlKey:0,shiftKey:0,getModifierState:su}),ub=ke(ob),cb=tt({},Hi,{propertyName:0,elapsedTime:0,pseudoElement:0}),fb=ke(cb),hb=tt({},nr,{deltaX:function(t){return"deltaX"in t?t.deltaX:"wheelDeltaX"in t?-t.wheelDeltaX:0},deltaY:function(t){return"deltaY"in t?t.deltaY:"wheelDeltaY"in t?-t.wheelDeltaY:"wheelDelta"in t?-t.wheelDelta:0},deltaZ:0,deltaMode:0}),db=ke(hb),gb=tt({},Hi,{newState:0,oldState:0}),mb=ke(gb),pb=[9,13,27,32],lu=Cn&&"CompositionEvent"in window,bs=null;Cn&&"documentMode"in document&&(bs=document.documentMode);var yb=Cn&&"TextEvent"in window&&!bs,Th=Cn&&(!lu||bs&&8<bs&&11>=bs),Mh=" ",Ah=!1;function Dh(t,n){switch(t){case"keyup":return pb.indexOf(n.keyCode)!==-1;case"keydown":return n.keyCode!==229;case"keypress":case"mousedown":case"focusout":return!0;default:return!1}}function Oh(t){return t=t.detail,typeof t=="object"&&"data"in t?t.data:null}var Aa=!1;function bb(t,n){switch(t){case"compositionend":return Oh(n);case"keypress":return n.which!==32?null:(Ah=!0,Mh);case"textInput":return t=n.data,t===Mh&&Ah?null:t;default:return null}}function vb(t,n){if(Aa)return t==="compositionend"||!lu&&Dh(t,n)?(t=xh(),Jl=eu=ai=null,Aa=!1,t):null;switch(t){case"paste":return null;case"keypress":if(!(n.ctrlKey||n.altKey||n.metaKey)||n.ctrlKey&&n.altKey){if(n.char&&1<n.char.length)return n.char;if(n.which)return String.fromCharCode(n.which)}return null;case"compositionend":return Th&&n.locale!=="ko"?null:n.data;default:return null}}var xb={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0};function zh(t){var n=t&&t.nodeName&&t.nodeName.toLowerCase();return n==="input"?!!xb[t.type]:n==="textarea"}function Rh(t,n,s,o){Ta?Ma?Ma.push(o):Ma=[o]:Ta=o,n=Ur(n,"onChange"),0<n.length&&(s=new er("onChange","change",null,s,o),t.push({event:s,listeners:n}))}var vs=null,xs=null;function _b(t){im(t,0)}function ir(t){var n=ds(t);if(hh(n))return t}function Ch(t,n){if(t==="change")return n}var kh=!1;if(Cn){var ru;if(Cn){var ou="oninput"in document;if(!ou){var Nh=document.createElement("div");Nh.setAttribute("oninput","return;"),ou=typeof Nh.oninput=="function"}ru=ou}else ru=!1;kh=ru&&(!document.documentMode||9<document.documentMode)}function jh(){vs&&(vs.detachEvent("onpropertychange",Lh),xs=vs=null)}function Lh(t){if(t.propertyName==="value"&&ir(xs)){var n=[];Rh(n,xs,t,Jo(t)),vh(_b,n)}}function Sb(t,n,s){t==="focusin"?(jh(),vs=n,xs=s,vs.attachEvent("onpropertychange",Lh)):t==="focusout"&&jh()}function wb(t){if(t==="selectionchange"||t==="keyup"||t==="keydown")return ir(xs)}function Eb(t,n){if(t==="click")return ir(n)}function Tb(t,n){if(t==="input"||t==="change")return ir(n)}function Mb(t,n){return t===n&&(t!==0||1/t===1/n)||t!==t&&n!==n}var Be=typeof Object.is=="function"?Object.is:Mb;function _s(t,n){if(Be(t,n))return!0;if(typeof t!="object"||t===null||typeof n!="object"||n===null)return!1;var s=Object.keys(t),o=Object.keys(n);if(s.length!==o.length)return!1;for(o=0;o<s.length;o++){var f=s[o];if(!us.call(n,f)||!Be(t[f],n[f]))return!1}return!0}function Hh(t){for(;t&&t.firstChild;)t=t.firstChild;return t}function Bh(t,n){var s=Hh(t);t=0;for(var o;s;){if(s.nodeType===3){if(o=t+s.textContent.length,t<=n&&o>=n)return{node:s,offset:n-t};t=o}t:{for(;s;){if(s.nextSibling){s=s.nextSibling;break t}s=s.parentNode}s=void 0}s=Hh(s)}}function Uh(t,n){return t&&n?t===n?!0:t&&t.nodeType===3?!1:n&&n.nodeType===3?Uh(t,n.parentNode):"contains"in t?t.contains(n):t.compareDocumentPosition?!!(t.compareDocumentPosition(n)&16):!1:!1}function Vh(t){t=t!=null&&t.ownerDocument!=null&&t.ownerDocument.defaultView!=null?t.ownerDocument.defaultView:window;for(var n=Pl(t.document);n instanceof t.HTMLIFrameElement;){try{var s=typeof n.contentWindow.location.href=="string"}catch{s=!1}if(s)t=n.contentWindow;else break;n=Pl(t.document)}return n}function uu(t){var n=t&&t.nodeName&&t.nodeName.toLowerCase();return n&&(n==="input"&&(t.type==="text"||t.type==="search"||t.type==="tel"||t.type==="url"||t.type==="password")||n==="textarea"||t.contentEditable==="true")}function Ab(t,n){var s=Vh(n);n=t.focusedElem;var o=t.selectionRange;if(s!==n&&n&&n.ownerDocument&&Uh(n.ownerDocument.documentElement,n)){if(o!==null&&uu(n)){if(t=o.start,s=o.end,s===void 0&&(s=t),"selectionStart"in n)n.selectionStart=t,n.selectionEnd=Math.min(s,n.value.length);else if(s=(t=n.ownerDocument||document)&&t.defaultView||window,s.getSelection){s=s.getSelection();var f=n.textContent.length,g=Math.min(o.start,f);o=o.end===void 0?g:Math.min(o.end,f),!s.extend&&g>o&&(f=o,o=g,g=f),f=Bh(n,g);var y=Bh(n,o);f&&y&&(s.rangeCount!==1||s.anchorNode!==f.node||s.anchorOffset!==f.offset||s.focusNode!==y.node||s.focusOffset!==y.offset)&&(t=t.createRange(),t.setStart(f.node,f.offset),s.removeAllRanges(),g>o?(s.addRange(t),s.extend(y.node,y.offset)):(t.setEnd(y.node,y.offset),s.addRange(t)))}}for(t=[],s=n;s=s.parentNode;)s.nodeType===1&&t.push({element:s,left:s.scrollLeft,top:s.scrollTop});for(typeof n.focus=="function"&&n.focus(),n=0;n<t.length;n++)s=t[n],s.element.scrollLeft=s.left,s.element.scrollTop=s.top}}var Db=Cn&&"documentMode"in document&&11>=document.documentMode,Da=null,cu=null,Ss=null,fu=!1;function Yh(t,n,s){var o=s.window===s?s.document:s.nodeType===9?s:s.ownerDocument;fu||Da==null||Da!==Pl(o)||(o=Da,"selectionStart"in o&&uu(o)?o={start:o.selectionStart,end:o.selectionEnd}:(o=(o.ownerDocument&&o.ownerDocument.defaultView||window).getSelection(),o={anchorNode:o.anchorNode,anchorOffset:o.anchorOffset,focusNode:o.focusNode,focusOffset:o.focusOffset}),Ss&&_s(Ss,o)||(Ss=o,o=Ur(cu,"onSelect"),0<o.length&&(n=new er("onSelect","select",null,n,s),t.push({event:n,listeners:o}),n.target=Da)))}function Bi(t,n){var s={};return s[t.toLowerCase()]=n.toLowerCase(),s["Webkit"+t]="webkit"+n,s["Moz"+t]="moz"+n,s}var Oa={animationend:Bi("Animation","AnimationEnd"),animationiteration:Bi("Animation","AnimationIteration"),animationstart:Bi("Animation","AnimationStart"),transitionrun:Bi("Transition","TransitionRun"),transitionstart:Bi("Transition","TransitionStart"),transitioncancel:Bi("Transition","TransitionCancel"),transitionend:Bi("Transition","TransitionEnd")},hu={},qh={};Cn&&(qh=document.createElement("div").style,"AnimationEvent"in window||(delete Oa.animationend.animation,delete Oa.animationiteration.animation,delete Oa.animationstart.animation),"TransitionEvent"in window||delete Oa.transitionend.transition);function Ui(t){if(hu[t])return hu[t];if(!Oa[t])return t;var n=Oa[t],s;for(s in n)if(n.hasOwnProperty(s)&&s in qh)return hu[t]=n[s];return t}var Fh=Ui("animationend"),Xh=Ui("animationiteration"),Gh=Ui("animationstart"),Ob=Ui("transitionrun"),zb=Ui("transitionstart"),Rb=Ui("transitioncancel"),Qh=Ui("transitionend"),Zh=new Map,Kh="abort auxClick beforeToggle cancel canPlay canPlayThrough click close contextMenu copy cut drag dragEnd dragEnter dragExit dragLeave dragOver dragStart drop durationChange emptied encrypted ended error gotPointerCapture input invalid keyDown keyPress keyUp load loadedData loadedMetadata loadStart lostPointerCapture mouseDown mouseMove mouseOut mouseOver mouseUp paste pause play playing pointerCancel pointerDown pointerMove pointerOut pointerOver pointerUp progress rateChange reset resize seeked seeking stalled submit suspend timeUpdate touchCancel touchEnd touchStart volumeChange scroll scrollEnd toggle touchMove waiting wheel".split(" ");function rn(t,n){Zh.set(t,n),Li(n,[t])}var Qe=[],za=0,du=0;function ar(){for(var t=za,n=du=za=0;n<t;){var s=Qe[n];Qe[n++]=null;var o=Qe[n];Qe[n++]=null;var f=Qe[n];Qe[n++]=null;var g=Qe[n];if(Qe[n++]=null,o!==null&&f!==null){var y=o.pending;y===null?f.next=f:(f.next=y.next,y.next=f),o.pending=f}g!==0&&Wh(s,f,g)}}function sr(t,n,s,o){Qe[za++]=t,Qe[za++]=n,Qe[za++]=s,Qe[za++]=o,du|=o,t.lanes|=o,t=t.alternate,t!==null&&(t.lanes|=o)}function gu(t,n,s,o){return sr(t,n,s,o),lr(t)}function si(t,n){return sr(t,null,null,n),lr(t)}function Wh(t,n,s){t.lanes|=s;var o=t.alternate;o!==null&&(o.lanes|=s);for(var f=!1,g=t.return;g!==null;)g.childLanes|=s,o=g.alternate,o!==null&&(o.childLanes|=s),g.tag===22&&(t=g.stateNode,t===null||t._visibility&1||(f=!0)),t=g,g=g.return;f&&n!==null&&t.tag===3&&(g=t.stateNode,f=31-Me(s),g=g.hiddenUpdates,t=g[f],t===null?g[f]=[n]:t.push(n),n.lane=s|536870912)}function lr(t){if(50<Zs)throw Zs=0,xc=null,Error(l(185));for(var n=t.return;n!==null;)t=n,n=t.return;return t.tag===3?t.stateNode:null}var Ra={},Ph=new WeakMap;function Ze(t,n){if(typeof t=="object"&&t!==null){var s=Ph.get(t);return s!==void 0?s:(n={value:t,source:n,stack:et(n)},Ph.set(t,n),n)}return{value:t,source:n,stack:et(n)}}var Ca=[],ka=0,rr=null,or=0,Ke=[],We=0,Vi=null,Nn=1,jn="";function Yi(t,n){Ca[ka++]=or,Ca[ka++]=rr,rr=t,or=n}function $h(t,n,s){Ke[We++]=Nn,Ke[We++]=jn,Ke[We++]=Vi,Vi=t;var o=Nn;t=jn;var f=32-Me(o)-1;o&=~(1<<f),s+=1;var g=32-Me(n)+f;if(30<g){var y=f-f%5;g=(o&(1<<y)-1).toString(32),o>>=y,f-=y,Nn=1<<32-Me(n)+f|s<<f|o,jn=g+t}else Nn=1<<g|s<<f|o,jn=t}function mu(t){t.return!==null&&(Yi(t,1),$h(t,1,0))}function pu(t){for(;t===rr;)rr=Ca[--ka],Ca[ka]=null,or=Ca[--ka],Ca[ka]=null;for(;t===Vi;)Vi=Ke[--We],Ke[We]=null,jn=Ke[--We],Ke[We]=null,Nn=Ke[--We],Ke[We]=null}var Ae=null,pe=null,Ct=!1,on=null,pn=!1,yu=Error(l(519));function qi(t){var n=Error(l(418,""));throw Ts(Ze(n,t)),yu}function Jh(t){var n=t.stateNode,s=t.type,o=t.memoizedProps;switch(n[xe]=t,n[Ce]=o,s){case"dialog":At("cancel",n),At("close",n);break;case"iframe":case"object":case"embed":At("load",n);break;case"video":case"audio":for(s=0;s<Ws.length;s++)At(Ws[s],n);break;case"source":At("error",n);break;case"img":case"image":case"link":At("error",n),At("load",n);break;case"details":At("toggle",n);break;case"input":At("invalid",n),dh(n,o.value,o.defaultValue,o.checked,o.defaultChecked,o.type,o.name,!0),Wl(n);break;case"select":At("invalid",n);break;case"textarea":At("invalid",n),mh(n,o.value,o.defaultValue,o.children),Wl(n)}s=o.children,typeof s!="string"&&typeof s!="number"&&typeof s!="bigint"||n.textContent===""+s||o.suppressHydrationWarning===!0||rm(n.textContent,s)?(o.popover!=null&&(At("beforetoggle",n),At("toggle",n)),o.onScroll!=null&&At("scroll",n),o.onScrollEnd!=null&&At("scrollend",n),o.onClick!=null&&(n.onclick=Vr),n=!0):n=!1,n||qi(t)}function Ih(t){for(Ae=t.return;Ae;)switch(Ae.tag){case 3:case 27:pn=!0;return;case 5:case 13:pn=!1;return;default:Ae=Ae.return}}function ws(t){if(t!==Ae)return!1;if(!Ct)return Ih(t),Ct=!0,!1;var n=!1,s;if((s=t.tag!==3&&t.tag!==27)&&((s=t.tag===5)&&(s=t.type,s=!(s!=="form"&&s!=="button")||Hc(t.type,t.memoizedProps)),s=!s),s&&(n=!0),n&&pe&&qi(t),Ih(t),t.tag===13){if(t=t.memoizedState,t=t!==null?t.dehydrated:null,!t)throw Error(l(317));t:{for(t=t.nextSibling,n=0;t;){if(t.nodeType===8)if(s=t.data,s==="/$"){if(n===0){pe=cn(t.nextSibling);break t}n--}else s!=="$"&&s!=="$!"&&s!=="$?"||n++;t=t.nextSibling}pe=null}}else pe=Ae?cn(t.stateNode.nextSibling):null;return!0}function Es(){pe=Ae=null,Ct=!1}function Ts(t){on===null?on=[t]:on.push(t)}var Ms=Error(l(460)),td=Error(l(474)),bu={then:function(){}};function ed(t){return t=t.status,t==="fulfilled"||t==="rejected"}function ur(){}function nd(t,n,s){switch(s=t[s],s===void 0?t.push(n):s!==n&&(n.then(ur,ur),n=s),n.status){case"fulfilled":return n.value;case"rejected":throw t=n.reason,t===Ms?Error(l(483)):t;default:if(typeof n.status=="string")n.then(ur,ur);else{if(t=Vt,t!==null&&100<t.shellSuspendCounter)throw Error(l(482));t=n,t.status="pending",t.then(function(o){if(n.status==="pending"){var f=n;f.status="fulfilled",f.value=o}},function(o){if(n.status==="pending"){var f=n;f.status="rejected",f.reason=o}})}switch(n.status){case"fulfilled":return n.value;case"rejected":throw t=n.reason,t===Ms?Error(l(483)):t}throw As=n,Ms}}var As=null;function id(){if(As===null)throw Error(l(459));var t=As;return As=null,t}var Na=null,Ds=0;function cr(t){var n=Ds;return Ds+=1,Na===null&&(Na=[]),nd(Na,t,n)}function Os(t,n){n=n.props.ref,t.ref=n!==void 0?n:null}function fr(t,n){throw n.$$typeof===u?Error(l(525)):(t=Object.prototype.toString.call(n),Error(l(31,t==="[object Object]"?"object with keys {"+Object.keys(n).join(", ")+"}":t)))}function ad(t){var n=t._init;return n(t._payload)}function sd(t){function n(k,z){if(t){var L=k.deletions;L===null?(k.deletions=[z],k.flags|=16):L.push(z)}}function s(k,z){if(!t)return null;for(;z!==null;)n(k,z),z=z.sibling;return null}function o(k){for(var z=new Map;k!==null;)k.key!==null?z.set(k.key,k):z.set(k.index,k),k=k.sibling;return z}function f(k,z){return k=yi(k,z),k.index=0,k.sibling=null,k}function g(k,z,L){return k.index=L,t?(L=k.alternate,L!==null?(L=L.index,L<z?(k.flags|=33554434,z):L):(k.flags|=33554434,z)):(k.flags|=1048576,z)}function y(k){return t&&k.alternate===null&&(k.flags|=33554434),k}function x(k,z,L,Q){return z===null||z.tag!==6?(z=hc(L,k.mode,Q),z.return=k,z):(z=f(z,L),z.return=k,z)}function E(k,z,L,Q){var ft=L.type;return ft===d?G(k,z,L.props.children,Q,L.key):z!==null&&(z.elementType===ft||typeof ft=="object"&&ft!==null&&ft.$$typeof===N&&ad(ft)===z.type)?(z=f(z,L.props),Os(z,L),z.return=k,z):(z=Or(L.type,L.key,L.props,null,k.mode,Q),Os(z,L),z.return=k,z)}function R(k,z,L,Q){return z===null||z.tag!==4||z.stateNode.containerInfo!==L.containerInfo||z.stateNode.implementation!==L.implementation?(z=dc(L,k.mode,Q),z.return=k,z):(z=f(z,L.children||[]),z.return=k,z)}function G(k,z,L,Q,ft){return z===null||z.tag!==7?(z=Ji(L,k.mode,Q,ft),z.return=k,z):(z=f(z,L),z.return=k,z)}function Z(k,z,L){if(typeof z=="string"&&z!==""||typeof z=="number"||typeof z=="bigint")return z=hc(""+z,k.mode,L),z.return=k,z;if(typeof z=="object"&&z!==null){switch(z.$$typeof){case c:return L=Or(z.type,z.key,z.props,null,k.mode,L),Os(L,z),L.return=k,L;case h:return z=dc(z,k.mode,L),z.return=k,z;case N:var Q=z._init;return z=Q(z._payload),Z(k,z,L)}if(dt(z)||W(z))return z=Ji(z,k.mode,L,null),z.return=k,z;if(typeof z.then=="function")return Z(k,cr(z),L);if(z.$$typeof===_)return Z(k,Mr(k,z),L);fr(k,z)}return null}function H(k,z,L,Q){var ft=z!==null?z.key:null;if(typeof L=="string"&&L!==""||typeof L=="number"||typeof L=="bigint")return ft!==null?null:x(k,z,""+L,Q);if(typeof L=="object"&&L!==null){switch(L.$$typeof){case c:return L.key===ft?E(k,z,L,Q):null;case h:return L.key===ft?R(k,z,L,Q):null;case N:return ft=L._init,L=ft(L._payload),H(k,z,L,Q)}if(dt(L)||W(L))return ft!==null?null:G(k,z,L,Q,null);if(typeof L.then=="function")return H(k,z,cr(L),Q);if(L.$$typeof===_)return H(k,z,Mr(k,L),Q);fr(k,L)}return null}function F(k,z,L,Q,ft){if(typeof Q=="string"&&Q!==""||typeof Q=="number"||typeof Q=="bigint")return k=k.get(L)||null,x(z,k,""+Q,ft);if(typeof Q=="object"&&Q!==null){switch(Q.$$typeof){case c:return k=k.get(Q.key===null?L:Q.key)||null,E(z,k,Q,ft);case h:return k=k.get(Q.key===null?L:Q.key)||null,R(z,k,Q,ft);case N:var Tt=Q._init;return Q=Tt(Q._payload),F(k,z,L,Q,ft)}if(dt(Q)||W(Q))return k=k.get(L)||null,G(z,k,Q,ft,null);if(typeof Q.then=="function")return F(k,z,L,cr(Q),ft);if(Q.$$typeof===_)return F(k,z,L,Mr(z,Q),ft);fr(z,Q)}return null}function mt(k,z,L,Q){for(var ft=null,Tt=null,pt=z,yt=z=0,ge=null;pt!==null&&yt<L.length;yt++){pt.index>yt?(ge=pt,pt=null):ge=pt.sibling;var kt=H(k,pt,L[yt],Q);if(kt===null){pt===null&&(pt=ge);break}t&&pt&&kt.alternate===null&&n(k,pt),z=g(kt,z,yt),Tt===null?ft=kt:Tt.sibling=kt,Tt=kt,pt=ge}if(yt===L.length)return s(k,pt),Ct&&Yi(k,yt),ft;if(pt===null){for(;yt<L.length;yt++)pt=Z(k,L[yt],Q),pt!==null&&(z=g(pt,z,yt),Tt===null?ft=pt:Tt.sibling=pt,Tt=pt);return Ct&&Yi(k,yt),ft}for(pt=o(pt);yt<L.length;yt++)ge=F(pt,k,yt,L[yt],Q),ge!==null&&(t&&ge.alternate!==null&&pt.delete(ge.key===null?yt:ge.key),z=g(ge,z,yt),Tt===null?ft=ge:Tt.sibling=ge,Tt=ge);return t&&pt.forEach(function(Ei){return n(k,Ei)}),Ct&&Yi(k,yt),ft}function vt(k,z,L,Q){if(L==null)throw Error(l(151));for(var ft=null,Tt=null,pt=z,yt=z=0,ge=null,kt=L.next();pt!==null&&!kt.done;yt++,kt=L.next()){pt.index>yt?(ge=pt,pt=null):ge=pt.sibling;var Ei=H(k,pt,kt.value,Q);if(Ei===null){pt===null&&(pt=ge);break}t&&pt&&Ei.alternate===null&&n(k,pt),z=g(Ei,z,yt),Tt===null?ft=Ei:Tt.sibling=Ei,Tt=Ei,pt=ge}if(kt.done)return s(k,pt),Ct&&Yi(k,yt),ft;if(pt===null){for(;!kt.done;yt++,kt=L.next())kt=Z(k,kt.value,Q),kt!==null&&(z=g(kt,z,yt),Tt===null?ft=kt:Tt.sibling=kt,Tt=kt);return Ct&&Yi(k,yt),ft}for(pt=o(pt);!kt.done;yt++,kt=L.next())kt=F(pt,k,yt,kt.value,Q),kt!==null&&(t&&kt.alternate!==null&&pt.delete(kt.key===null?yt:kt.key),z=g(kt,z,yt),Tt===null?ft=kt:Tt.sibling=kt,Tt=kt);return t&&pt.forEach(function(Gv){return n(k,Gv)}),Ct&&Yi(k,yt),ft}function Jt(k,z,L,Q){if(typeof L=="object"&&L!==null&&L.type===d&&L.key===null&&(L=L.props.children),typeof L=="object"&&L!==null){switch(L.$$typeof){case c:t:{for(var ft=L.key;z!==null;){if(z.key===ft){if(ft=L.type,ft===d){if(z.tag===7){s(k,z.sibling),Q=f(z,L.props.children),Q.return=k,k=Q;break t}}else if(z.elementType===ft||typeof ft=="object"&&ft!==null&&ft.$$typeof===N&&ad(ft)===z.type){s(k,z.sibling),Q=f(z,L.props),Os(Q,L),Q.return=k,k=Q;break t}s(k,z);break}else n(k,z);z=z.sibling}L.type===d?(Q=Ji(L.props.children,k.mode,Q,L.key),Q.return=k,k=Q):(Q=Or(L.type,L.key,L.props,null,k.mode,Q),Os(Q,L),Q.return=k,k=Q)}return y(k);case h:t:{for(ft=L.key;z!==null;){if(z.key===ft)if(z.tag===4&&z.stateNode.containerInfo===L.containerInfo&&z.stateNode.implementation===L.implementation){s(k,z.sibling),Q=f(z,L.children||[]),Q.return=k,k=Q;break t}else{s(k,z);break}else n(k,z);z=z.sibling}Q=dc(L,k.mode,Q),Q.return=k,k=Q}return y(k);case N:return ft=L._init,L=ft(L._payload),Jt(k,z,L,Q)}if(dt(L))return mt(k,z,L,Q);if(W(L)){if(ft=W(L),typeof ft!="function")throw Error(l(150));return L=ft.call(L),vt(k,z,L,Q)}if(typeof L.then=="function")return Jt(k,z,cr(L),Q);if(L.$$typeof===_)return Jt(k,z,Mr(k,L),Q);fr(k,L)}return typeof L=="string"&&L!==""||typeof L=="number"||typeof L=="bigint"?(L=""+L,z!==null&&z.tag===6?(s(k,z.sibling),Q=f(z,L),Q.return=k,k=Q):(s(k,z),Q=hc(L,k.mode,Q),Q.return=k,k=Q),y(k)):s(k,z)}return function(k,z,L,Q){try{Ds=0;var ft=Jt(k,z,L,Q);return Na=null,ft}catch(pt){if(pt===Ms)throw pt;var Tt=Ie(29,pt,null,k.mode);return Tt.lanes=Q,Tt.return=k,Tt}finally{}}}var Fi=sd(!0),ld=sd(!1),ja=Rt(null),hr=Rt(0);function rd(t,n){t=Qn,Bt(hr,t),Bt(ja,n),Qn=t|n.baseLanes}function vu(){Bt(hr,Qn),Bt(ja,ja.current)}function xu(){Qn=hr.current,Gt(ja),Gt(hr)}var Pe=Rt(null),yn=null;function li(t){var n=t.alternate;Bt(le,le.current&1),Bt(Pe,t),yn===null&&(n===null||ja.current!==null||n.memoizedState!==null)&&(yn=t)}function od(t){if(t.tag===22){if(Bt(le,le.current),Bt(Pe,t),yn===null){var n=t.alternate;n!==null&&n.memoizedState!==null&&(yn=t)}}else ri()}function ri(){Bt(le,le.current),Bt(Pe,Pe.current)}function Ln(t){Gt(Pe),yn===t&&(yn=null),Gt(le)}var le=Rt(0);function dr(t){for(var n=t;n!==null;){if(n.tag===13){var s=n.memoizedState;if(s!==null&&(s=s.dehydrated,s===null||s.data==="$?"||s.data==="$!"))return n}else if(n.tag===19&&n.memoizedProps.revealOrder!==void 0){if((n.flags&128)!==0)return n}else if(n.child!==null){n.child.return=n,n=n.child;continue}if(n===t)break;for(;n.sibling===null;){if(n.return===null||n.return===t)return null;n=n.return}n.sibling.return=n.return,n=n.sibling}return null}var Cb=typeof AbortController<"u"?AbortController:function(){var t=[],n=this.signal={aborted:!1,addEventListener:function(s,o){t.push(o)}};this.abort=function(){n.aborted=!0,t.forEach(function(s){return s()})}},kb=i.unstable_scheduleCallback,Nb=i.unstable_NormalPriority,re={$$typeof:_,Consumer:null,Provider:null,_currentValue:null,_currentValue2:null,_threadCount:0};function _u(){return{controller:new Cb,data:new Map,refCount:0}}function zs(t){t.refCount--,t.refCount===0&&kb(Nb,function(){t.controller.abort()})}var Rs=null,Su=0,La=0,Ha=null;function jb(t,n){if(Rs===null){var s=Rs=[];Su=0,La=Dc(),Ha={status:"pending",value:void 0,then:function(o){s.push(o)}}}return Su++,n.then(ud,ud),n}function ud(){if(--Su===0&&Rs!==null){Ha!==null&&(Ha.status="fulfilled");var t=Rs;Rs=null,La=0,Ha=null;for(var n=0;n<t.length;n++)(0,t[n])()}}function Lb(t,n){var s=[],o={status:"pending",value:null,reason:null,then:function(f){s.push(f)}};return t.then(function(){o.status="fulfilled",o.value=n;for(var f=0;f<s.length;f++)(0,s[f])(n)},function(f){for(o.status="rejected",o.reason=f,f=0;f<s.length;f++)(0,s[f])(void 0)}),o}var cd=X.S;X.S=function(t,n){typeof n=="object"&&n!==null&&typeof n.then=="function"&&jb(t,n),cd!==null&&cd(t,n)};var Xi=Rt(null);function wu(){var t=Xi.current;return t!==null?t:Vt.pooledCache}function gr(t,n){n===null?Bt(Xi,Xi.current):Bt(Xi,n.pool)}function fd(){var t=wu();return t===null?null:{parent:re._currentValue,pool:t}}var oi=0,Et=null,Lt=null,ne=null,mr=!1,Ba=!1,Gi=!1,pr=0,Cs=0,Ua=null,Hb=0;function It(){throw Error(l(321))}function Eu(t,n){if(n===null)return!1;for(var s=0;s<n.length&&s<t.length;s++)if(!Be(t[s],n[s]))return!1;return!0}function Tu(t,n,s,o,f,g){return oi=g,Et=n,n.memoizedState=null,n.updateQueue=null,n.lanes=0,X.H=t===null||t.memoizedState===null?Qi:ui,Gi=!1,g=s(o,f),Gi=!1,Ba&&(g=dd(n,s,o,f)),hd(t),g}function hd(t){X.H=bn;var n=Lt!==null&&Lt.next!==null;if(oi=0,ne=Lt=Et=null,mr=!1,Cs=0,Ua=null,n)throw Error(l(300));t===null||he||(t=t.dependencies,t!==null&&Tr(t)&&(he=!0))}function dd(t,n,s,o){Et=t;var f=0;do{if(Ba&&(Ua=null),Cs=0,Ba=!1,25<=f)throw Error(l(301));if(f+=1,ne=Lt=null,t.updateQueue!=null){var g=t.updateQueue;g.lastEffect=null,g.events=null,g.stores=null,g.memoCache!=null&&(g.memoCache.index=0)}X.H=Zi,g=n(s,o)}while(Ba);return g}function Bb(){var t=X.H,n=t.useState()[0];return n=typeof n.then=="function"?ks(n):n,t=t.useState()[0],(Lt!==null?Lt.memoizedState:null)!==t&&(Et.flags|=1024),n}function Mu(){var t=pr!==0;return pr=0,t}function Au(t,n,s){n.updateQueue=t.updateQueue,n.flags&=-2053,t.lanes&=~s}function Du(t){if(mr){for(t=t.memoizedState;t!==null;){var n=t.queue;n!==null&&(n.pending=null),t=t.next}mr=!1}oi=0,ne=Lt=Et=null,Ba=!1,Cs=pr=0,Ua=null}function Ne(){var t={memoizedState:null,baseState:null,baseQueue:null,queue:null,next:null};return ne===null?Et.memoizedState=ne=t:ne=ne.next=t,ne}function ie(){if(Lt===null){var t=Et.alternate;t=t!==null?t.memoizedState:null}else t=Lt.next;var n=ne===null?Et.memoizedState:ne.next;if(n!==null)ne=n,Lt=t;else{if(t===null)throw Et.alternate===null?Error(l(467)):Error(l(310));Lt=t,t={memoizedState:Lt.memoizedState,baseState:Lt.baseState,baseQueue:Lt.baseQueue,queue:Lt.queue,next:null},ne===null?Et.memoizedState=ne=t:ne=ne.next=t}return ne}var yr;yr=function(){return{lastEffect:null,events:null,stores:null,memoCache:null}};function ks(t){var n=Cs;return Cs+=1,Ua===null&&(Ua=[]),t=nd(Ua,t,n),n=Et,(ne===null?n.memoizedState:ne.next)===null&&(n=n.alternate,X.H=n===null||n.memoizedState===null?Qi:ui),t}function br(t){if(t!==null&&typeof t=="object"){if(typeof t.then=="function")return ks(t);if(t.$$typeof===_)return _e(t)}throw Error(l(438,String(t)))}function Ou(t){var n=null,s=Et.updateQueue;if(s!==null&&(n=s.memoCache),n==null){var o=Et.alternate;o!==null&&(o=o.updateQueue,o!==null&&(o=o.memoCache,o!=null&&(n={data:o.data.map(function(f){return f.slice()}),index:0})))}if(n==null&&(n={data:[],index:0}),s===null&&(s=yr(),Et.updateQueue=s),s.memoCache=n,s=n.data[n.index],s===void 0)for(s=n.data[n.index]=Array(t),o=0;o<t;o++)s[o]=Y;return n.index++,s}function Hn(t,n){return typeof n=="function"?n(t):n}function vr(t){var n=ie();return zu(n,Lt,t)}function zu(t,n,s){var o=t.queue;if(o===null)throw Error(l(311));o.lastRenderedReducer=s;var f=t.baseQueue,g=o.pending;if(g!==null){if(f!==null){var y=f.next;f.next=g.next,g.next=y}n.baseQueue=f=g,o.pending=null}if(g=t.baseState,f===null)t.memoizedState=g;else{n=f.next;var x=y=null,E=null,R=n,G=!1;do{var Z=R.lane&-536870913;if(Z!==R.lane?(Ot&Z)===Z:(oi&Z)===Z){var H=R.revertLane;if(H===0)E!==null&&(E=E.next={lane:0,revertLane:0,action:R.action,hasEagerState:R.hasEagerState,eagerState:R.eagerState,next:null}),Z===La&&(G=!0);else if((oi&H)===H){R=R.next,H===La&&(G=!0);continue}else Z={lane:0,revertLane:R.revertLane,action:R.action,hasEagerState:R.hasEagerState,eagerState:R.eagerState,next:null},E===null?(x=E=Z,y=g):E=E.next=Z,Et.lanes|=H,bi|=H;Z=R.action,Gi&&s(g,Z),g=R.hasEagerState?R.eagerState:s(g,Z)}else H={lane:Z,revertLane:R.revertLane,action:R.action,hasEagerState:R.hasEagerState,eagerState:R.eagerState,next:null},E===null?(x=E=H,y=g):E=E.next=H,Et.lanes|=Z,bi|=Z;R=R.next}while(R!==null&&R!==n);if(E===null?y=g:E.next=x,!Be(g,t.memoizedState)&&(he=!0,G&&(s=Ha,s!==null)))throw s;t.memoizedState=g,t.baseState=y,t.baseQueue=E,o.lastRenderedState=g}return f===null&&(o.lanes=0),[t.memoizedState,o.dispatch]}function Ru(t){var n=ie(),s=n.queue;if(s===null)throw Error(l(311));s.lastRenderedReducer=t;var o=s.dispatch,f=s.pending,g=n.memoizedState;if(f!==null){s.pending=null;var y=f=f.next;do g=t(g,y.action),y=y.next;while(y!==f);Be(g,n.memoizedState)||(he=!0),n.memoizedState=g,n.baseQueue===null&&(n.baseState=g),s.lastRenderedState=g}return[g,o]}function gd(t,n,s){var o=Et,f=ie(),g=Ct;if(g){if(s===void 0)throw Error(l(407));s=s()}else s=n();var y=!Be((Lt||f).memoizedState,s);if(y&&(f.memoizedState=s,he=!0),f=f.queue,Nu(yd.bind(null,o,f,t),[t]),f.getSnapshot!==n||y||ne!==null&&ne.memoizedState.tag&1){if(o.flags|=2048,Va(9,pd.bind(null,o,f,s,n),{destroy:void 0},null),Vt===null)throw Error(l(349));g||(oi&60)!==0||md(o,n,s)}return s}function md(t,n,s){t.flags|=16384,t={getSnapshot:n,value:s},n=Et.updateQueue,n===null?(n=yr(),Et.updateQueue=n,n.stores=[t]):(s=n.stores,s===null?n.stores=[t]:s.push(t))}function pd(t,n,s,o){n.value=s,n.getSnapshot=o,bd(n)&&vd(t)}function yd(t,n,s){return s(function(){bd(n)&&vd(t)})}function bd(t){var n=t.getSnapshot;t=t.value;try{var s=n();return!Be(t,s)}catch{return!0}}function vd(t){var n=si(t,2);n!==null&&De(n,t,2)}function Cu(t){var n=Ne();if(typeof t=="function"){var s=t;if(t=s(),Gi){ln(!0);try{s()}finally{ln(!1)}}}return n.memoizedState=n.baseState=t,n.queue={pending:null,lanes:0,dispatch:null,lastRenderedReducer:Hn,lastRenderedState:t},n}function xd(t,n,s,o){return t.baseState=s,zu(t,Lt,typeof o=="function"?o:Hn)}function Ub(t,n,s,o,f){if(Sr(t))throw Error(l(485));if(t=n.action,t!==null){var g={payload:f,action:t,next:null,isTransition:!0,status:"pending",value:null,reason:null,listeners:[],then:function(y){g.listeners.push(y)}};X.T!==null?s(!0):g.isTransition=!1,o(g),s=n.pending,s===null?(g.next=n.pending=g,_d(n,g)):(g.next=s.next,n.pending=s.next=g)}}function _d(t,n){var s=n.action,o=n.payload,f=t.state;if(n.isTransition){var g=X.T,y={};X.T=y;try{var x=s(f,o),E=X.S;E!==null&&E(y,x),Sd(t,n,x)}catch(R){ku(t,n,R)}finally{X.T=g}}else try{g=s(f,o),Sd(t,n,g)}catch(R){ku(t,n,R)}}function Sd(t,n,s){s!==null&&typeof s=="object"&&typeof s.then=="function"?s.then(function(o){wd(t,n,o)},function(o){return ku(t,n,o)}):wd(t,n,s)}function wd(t,n,s){n.status="fulfilled",n.value=s,Ed(n),t.state=s,n=t.pending,n!==null&&(s=n.next,s===n?t.pending=null:(s=s.next,n.next=s,_d(t,s)))}function ku(t,n,s){var o=t.pending;if(t.pending=null,o!==null){o=o.next;do n.status="rejected",n.reason=s,Ed(n),n=n.next;while(n!==o)}t.action=null}function Ed(t){t=t.listeners;for(var n=0;n<t.length;n++)(0,t[n])()}function Td(t,n){return n}function Md(t,n){if(Ct){var s=Vt.formState;if(s!==null){t:{var o=Et;if(Ct){if(pe){e:{for(var f=pe,g=pn;f.nodeType!==8;){if(!g){f=null;break e}if(f=cn(f.nextSibling),f===null){f=null;break e}}g=f.data,f=g==="F!"||g==="F"?f:null}if(f){pe=cn(f.nextSibling),o=f.data==="F!";break t}}qi(o)}o=!1}o&&(n=s[0])}}return s=Ne(),s.memoizedState=s.baseState=n,o={pending:null,lanes:0,dispatch:null,lastRenderedReducer:Td,lastRenderedState:n},s.queue=o,s=Xd.bind(null,Et,o),o.dispatch=s,o=Cu(!1),g=Uu.bind(null,Et,!1,o.queue),o=Ne(),f={state:n,dispatch:null,action:t,pending:null},o.queue=f,s=Ub.bind(null,Et,f,g,s),f.dispatch=s,o.memoizedState=t,[n,s,!1]}function Ad(t){var n=ie();return Dd(n,Lt,t)}function Dd(t,n,s){n=zu(t,n,Td)[0],t=vr(Hn)[0],n=typeof n=="object"&&n!==null&&typeof n.then=="function"?ks(n):n;var o=ie(),f=o.queue,g=f.dispatch;return s!==o.memoizedState&&(Et.flags|=2048,Va(9,Vb.bind(null,f,s),{destroy:void 0},null)),[n,g,t]}function Vb(t,n){t.action=n}function Od(t){var n=ie(),s=Lt;if(s!==null)return Dd(n,s,t);ie(),n=n.memoizedState,s=ie();var o=s.queue.dispatch;return s.memoizedState=t,[n,o,!1]}function Va(t,n,s,o){return t={tag:t,create:n,inst:s,deps:o,next:null},n=Et.updateQueue,n===null&&(n=yr(),Et.updateQueue=n),s=n.lastEffect,s===null?n.lastEffect=t.next=t:(o=s.next,s.next=t,t.next=o,n.lastEffect=t),t}function zd(){return ie().memoizedState}function xr(t,n,s,o){var f=Ne();Et.flags|=t,f.memoizedState=Va(1|n,s,{destroy:void 0},o===void 0?null:o)}function _r(t,n,s,o){var f=ie();o=o===void 0?null:o;var g=f.memoizedState.inst;Lt!==null&&o!==null&&Eu(o,Lt.memoizedState.deps)?f.memoizedState=Va(n,s,g,o):(Et.flags|=t,f.memoizedState=Va(1|n,s,g,o))}function Rd(t,n){xr(8390656,8,t,n)}function Nu(t,n){_r(2048,8,t,n)}function Cd(t,n){return _r(4,2,t,n)}function kd(t,n){return _r(4,4,t,n)}function Nd(t,n){if(typeof n=="function"){t=t();var s=n(t);return function(){typeof s=="function"?s():n(null)}}if(n!=null)return t=t(),n.current=t,function(){n.current=null}}function jd(t,n,s){s=s!=null?s.concat([t]):null,_r(4,4,Nd.bind(null,n,t),s)}function ju(){}function Ld(t,n){var s=ie();n=n===void 0?null:n;var o=s.memoizedState;return n!==null&&Eu(n,o[1])?o[0]:(s.memoizedState=[t,n],t)}function Hd(t,n){var s=ie();n=n===void 0?null:n;var o=s.memoizedState;if(n!==null&&Eu(n,o[1]))return o[0];if(o=t(),Gi){ln(!0);try{t()}finally{ln(!1)}}return s.memoizedState=[o,n],o}function Lu(t,n,s){return s===void 0||(oi&1073741824)!==0?t.memoizedState=n:(t.memoizedState=s,t=Ug(),Et.lanes|=t,bi|=t,s)}function Bd(t,n,s,o){return Be(s,n)?s:ja.current!==null?(t=Lu(t,s,o),Be(t,n)||(he=!0),t):(oi&42)===0?(he=!0,t.memoizedState=s):(t=Ug(),Et.lanes|=t,bi|=t,n)}function Ud(t,n,s,o,f){var g=it.p;it.p=g!==0&&8>g?g:8;var y=X.T,x={};X.T=x,Uu(t,!1,n,s);try{var E=f(),R=X.S;if(R!==null&&R(x,E),E!==null&&typeof E=="object"&&typeof E.then=="function"){var G=Lb(E,o);Ns(t,n,G,qe(t))}else Ns(t,n,o,qe(t))}catch(Z){Ns(t,n,{then:function(){},status:"rejected",reason:Z},qe())}finally{it.p=g,X.T=y}}function Yb(){}function Hu(t,n,s,o){if(t.tag!==5)throw Error(l(476));var f=Vd(t).queue;Ud(t,f,n,xt,s===null?Yb:function(){return Yd(t),s(o)})}function Vd(t){var n=t.memoizedState;if(n!==null)return n;n={memoizedState:xt,baseState:xt,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:Hn,lastRenderedState:xt},next:null};var s={};return n.next={memoizedState:s,baseState:s,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:Hn,lastRenderedState:s},next:null},t.memoizedState=n,t=t.alternate,t!==null&&(t.memoizedState=n),n}function Yd(t){var n=Vd(t).next.queue;Ns(t,n,{},qe())}function Bu(){return _e(tl)}function qd(){return ie().memoizedState}function Fd(){return ie().memoizedState}function qb(t){for(var n=t.return;n!==null;){switch(n.tag){case 24:case 3:var s=qe();t=hi(s);var o=di(n,t,s);o!==null&&(De(o,n,s),Hs(o,n,s)),n={cache:_u()},t.payload=n;return}n=n.return}}function Fb(t,n,s){var o=qe();s={lane:o,revertLane:0,action:s,hasEagerState:!1,eagerState:null,next:null},Sr(t)?Gd(n,s):(s=gu(t,n,s,o),s!==null&&(De(s,t,o),Qd(s,n,o)))}function Xd(t,n,s){var o=qe();Ns(t,n,s,o)}function Ns(t,n,s,o){var f={lane:o,revertLane:0,action:s,hasEagerState:!1,eagerState:null,next:null};if(Sr(t))Gd(n,f);else{var g=t.alternate;if(t.lanes===0&&(g===null||g.lanes===0)&&(g=n.lastRenderedReducer,g!==null))try{var y=n.lastRenderedState,x=g(y,s);if(f.hasEagerState=!0,f.eagerState=x,Be(x,y))return sr(t,n,f,0),Vt===null&&ar(),!1}catch{}finally{}if(s=gu(t,n,f,o),s!==null)return De(s,t,o),Qd(s,n,o),!0}return!1}function Uu(t,n,s,o){if(o={lane:2,revertLane:Dc(),action:o,hasEagerState:!1,eagerState:null,next:null},Sr(t)){if(n)throw Error(l(479))}else n=gu(t,s,o,2),n!==null&&De(n,t,2)}function Sr(t){var n=t.alternate;return t===Et||n!==null&&n===Et}function Gd(t,n){Ba=mr=!0;var s=t.pending;s===null?n.next=n:(n.next=s.next,s.next=n),t.pending=n}function Qd(t,n,s){if((s&4194176)!==0){var o=n.lanes;o&=t.pendingLanes,s|=o,n.lanes=s,ih(t,s)}}var bn={readContext:_e,use:br,useCallback:It,useContext:It,useEffect:It,useImperativeHandle:It,useLayoutEffect:It,useInsertionEffect:It,useMemo:It,useReducer:It,useRef:It,useState:It,useDebugValue:It,useDeferredValue:It,useTransition:It,useSyncExternalStore:It,useId:It};bn.useCacheRefresh=It,bn.useMemoCache=It,bn.useHostTransitionStatus=It,bn.useFormState=It,bn.useActionState=It,bn.useOptimistic=It;var Qi={readContext:_e,use:br,useCallback:function(t,n){return Ne().memoizedState=[t,n===void 0?null:n],t},useContext:_e,useEffect:Rd,useImperativeHandle:function(t,n,s){s=s!=null?s.concat([t]):null,xr(4194308,4,Nd.bind(null,n,t),s)},useLayoutEffect:function(t,n){return xr(4194308,4,t,n)},useInsertionEffect:function(t,n){xr(4,2,t,n)},useMemo:function(t,n){var s=Ne();n=n===void 0?null:n;var o=t();if(Gi){ln(!0);try{t()}finally{ln(!1)}}return s.memoizedState=[o,n],o},useReducer:function(t,n,s){var o=Ne();if(s!==void 0){var f=s(n);if(Gi){ln(!0);try{s(n)}finally{ln(!1)}}}else f=n;return o.memoizedState=o.baseState=f,t={pending:null,lanes:0,dispatch:null,lastRenderedReducer:t,lastRenderedState:f},o.queue=t,t=t.dispatch=Fb.bind(null,Et,t),[o.memoizedState,t]},useRef:function(t){var n=Ne();return t={current:t},n.memoizedState=t},useState:function(t){t=Cu(t);var n=t.queue,s=Xd.bind(null,Et,n);return n.dispatch=s,[t.memoizedState,s]},useDebugValue:ju,useDeferredValue:function(t,n){var s=Ne();return Lu(s,t,n)},useTransition:function(){var t=Cu(!1);return t=Ud.bind(null,Et,t.queue,!0,!1),Ne().memoizedState=t,[!1,t]},useSyncExternalStore:function(t,n,s){var o=Et,f=Ne();if(Ct){if(s===void 0)throw Error(l(407));s=s()}else{if(s=n(),Vt===null)throw Error(l(349));(Ot&60)!==0||md(o,n,s)}f.memoizedState=s;var g={value:s,getSnapshot:n};return f.queue=g,Rd(yd.bind(null,o,g,t),[t]),o.flags|=2048,Va(9,pd.bind(null,o,g,s,n),{destroy:void 0},null),s},useId:function(){var t=Ne(),n=Vt.identifierPrefix;if(Ct){var s=jn,o=Nn;s=(o&~(1<<32-Me(o)-1)).toString(32)+s,n=":"+n+"R"+s,s=pr++,0<s&&(n+="H"+s.toString(32)),n+=":"}else s=Hb++,n=":"+n+"r"+s.toString(32)+":";return t.memoizedState=n},useCacheRefresh:function(){return Ne().memoizedState=qb.bind(null,Et)}};Qi.useMemoCache=Ou,Qi.useHostTransitionStatus=Bu,Qi.useFormState=Md,Qi.useActionState=Md,Qi.useOptimistic=function(t){var n=Ne();n.memoizedState=n.baseState=t;var s={pending:null,lanes:0,dispatch:null,lastRenderedReducer:null,lastRenderedState:null};return n.queue=s,n=Uu.bind(null,Et,!0,s),s.dispatch=n,[t,n]};var ui={readContext:_e,use:br,useCallback:Ld,useContext:_e,useEffect:Nu,useImperativeHandle:jd,useInsertionEffect:Cd,useLayoutEffect:kd,useMemo:Hd,useReducer:vr,useRef:zd,useState:function(){return vr(Hn)},useDebugValue:ju,useDeferredValue:function(t,n){var s=ie();return Bd(s,Lt.memoizedState,t,n)},useTransition:function(){var t=vr(Hn)[0],n=ie().memoizedState;return[typeof t=="boolean"?t:ks(t),n]},useSyncExternalStore:gd,useId:qd};ui.useCacheRefresh=Fd,ui.useMemoCache=Ou,ui.useHostTransitionStatus=Bu,ui.useFormState=Ad,ui.useActionState=Ad,ui.useOptimistic=function(t,n){var s=ie();return xd(s,Lt,t,n)};var Zi={readContext:_e,use:br,useCallback:Ld,useContext:_e,useEffect:Nu,useImperativeHandle:jd,useInsertionEffect:Cd,useLayoutEffect:kd,useMemo:Hd,useReducer:Ru,useRef:zd,useState:function(){return Ru(Hn)},useDebugValue:ju,useDeferredValue:function(t,n){var s=ie();return Lt===null?Lu(s,t,n):Bd(s,Lt.memoizedState,t,n)},useTransition:function(){var t=Ru(Hn)[0],n=ie().memoizedState;return[typeof t=="boolean"?t:ks(t),n]},useSyncExternalStore:gd,useId:qd};Zi.useCacheRefresh=Fd,Zi.useMemoCache=Ou,Zi.useHostTransitionStatus=Bu,Zi.useFormState=Od,Zi.useActionState=Od,Zi.useOptimistic=function(t,n){var s=ie();return Lt!==null?xd(s,Lt,t,n):(s.baseState=t,[t,s.queue.dispatch])};function Vu(t,n,s,o){n=t.memoizedState,s=s(o,n),s=s==null?n:tt({},n,s),t.memoizedState=s,t.lanes===0&&(t.updateQueue.baseState=s)}var Yu={isMounted:function(t){return(t=t._reactInternals)?ut(t)===t:!1},enqueueSetState:function(t,n,s){t=t._reactInternals;var o=qe(),f=hi(o);f.payload=n,s!=null&&(f.callback=s),n=di(t,f,o),n!==null&&(De(n,t,o),Hs(n,t,o))},enqueueReplaceState:function(t,n,s){t=t._reactInternals;var o=qe(),f=hi(o);f.tag=1,f.payload=n,s!=null&&(f.callback=s),n=di(t,f,o),n!==null&&(De(n,t,o),Hs(n,t,o))},enqueueForceUpdate:function(t,n){t=t._reactInternals;var s=qe(),o=hi(s);o.tag=2,n!=null&&(o.callback=n),n=di(t,o,s),n!==null&&(De(n,t,s),Hs(n,t,s))}};function Zd(t,n,s,o,f,g,y){return t=t.stateNode,typeof t.shouldComponentUpdate=="function"?t.shouldComponentUpdate(o,g,y):n.prototype&&n.prototype.isPureReactComponent?!_s(s,o)||!_s(f,g):!0}function Kd(t,n,s,o){t=n.state,typeof n.componentWillReceiveProps=="function"&&n.componentWillReceiveProps(s,o),typeof n.UNSAFE_componentWillReceiveProps=="function"&&n.UNSAFE_componentWillReceiveProps(s,o),n.state!==t&&Yu.enqueueReplaceState(n,n.state,null)}function Ki(t,n){var s=n;if("ref"in n){s={};for(var o in n)o!=="ref"&&(s[o]=n[o])}if(t=t.defaultProps){s===n&&(s=tt({},s));for(var f in t)s[f]===void 0&&(s[f]=t[f])}return s}var wr=typeof reportError=="function"?reportError:function(t){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var n=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof t=="object"&&t!==null&&typeof t.message=="string"?String(t.message):String(t),error:t});if(!window.dispatchEvent(n))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",t);return}console.error(t)};function Wd(t){wr(t)}function Pd(t){console.error(t)}function $d(t){wr(t)}function Er(t,n){try{var s=t.onUncaughtError;s(n.value,{componentStack:n.stack})}catch(o){setTimeout(function(){throw o})}}function Jd(t,n,s){try{var o=t.onCaughtError;o(s.value,{componentStack:s.stack,errorBoundary:n.tag===1?n.stateNode:null})}catch(f){setTimeout(function(){throw f})}}function qu(t,n,s){return s=hi(s),s.tag=3,s.payload={element:null},s.callback=function(){Er(t,n)},s}function Id(t){return t=hi(t),t.tag=3,t}function tg(t,n,s,o){var f=s.type.getDerivedStateFromError;if(typeof f=="function"){var g=o.value;t.payload=function(){return f(g)},t.callback=function(){Jd(n,s,o)}}var y=s.stateNode;y!==null&&typeof y.componentDidCatch=="function"&&(t.callback=function(){Jd(n,s,o),typeof f!="function"&&(vi===null?vi=new Set([this]):vi.add(this));var x=o.stack;this.componentDidCatch(o.value,{componentStack:x!==null?x:""})})}function Xb(t,n,s,o,f){if(s.flags|=32768,o!==null&&typeof o=="object"&&typeof o.then=="function"){if(n=s.alternate,n!==null&&Ls(n,s,f,!0),s=Pe.current,s!==null){switch(s.tag){case 13:return yn===null?wc():s.alternate===null&&$t===0&&($t=3),s.flags&=-257,s.flags|=65536,s.lanes=f,o===bu?s.flags|=16384:(n=s.updateQueue,n===null?s.updateQueue=new Set([o]):n.add(o),Tc(t,o,f)),!1;case 22:return s.flags|=65536,o===bu?s.flags|=16384:(n=s.updateQueue,n===null?(n={transitions:null,markerInstances:null,retryQueue:new Set([o])},s.updateQueue=n):(s=n.retryQueue,s===null?n.retryQueue=new Set([o]):s.add(o)),Tc(t,o,f)),!1}throw Error(l(435,s.tag))}return Tc(t,o,f),wc(),!1}if(Ct)return n=Pe.current,n!==null?((n.flags&65536)===0&&(n.flags|=256),n.flags|=65536,n.lanes=f,o!==yu&&(t=Error(l(422),{cause:o}),Ts(Ze(t,s)))):(o!==yu&&(n=Error(l(423),{cause:o}),Ts(Ze(n,s))),t=t.current.alternate,t.flags|=65536,f&=-f,t.lanes|=f,o=Ze(o,s),f=qu(t.stateNode,o,f),ic(t,f),$t!==4&&($t=2)),!1;var g=Error(l(520),{cause:o});if(g=Ze(g,s),Gs===null?Gs=[g]:Gs.push(g),$t!==4&&($t=2),n===null)return!0;o=Ze(o,s),s=n;do{switch(s.tag){case 3:return s.flags|=65536,t=f&-f,s.lanes|=t,t=qu(s.stateNode,o,t),ic(s,t),!1;case 1:if(n=s.type,g=s.stateNode,(s.flags&128)===0&&(typeof n.getDerivedStateFromError=="function"||g!==null&&typeof g.componentDidCatch=="function"&&(vi===null||!vi.has(g))))return s.flags|=65536,f&=-f,s.lanes|=f,f=Id(f),tg(f,t,s,o),ic(s,f),!1}s=s.return}while(s!==null);return!1}var eg=Error(l(461)),he=!1;function ye(t,n,s,o){n.child=t===null?ld(n,null,s,o):Fi(n,t.child,s,o)}function ng(t,n,s,o,f){s=s.render;var g=n.ref;if("ref"in o){var y={};for(var x in o)x!=="ref"&&(y[x]=o[x])}else y=o;return Pi(n),o=Tu(t,n,s,y,g,f),x=Mu(),t!==null&&!he?(Au(t,n,f),Bn(t,n,f)):(Ct&&x&&mu(n),n.flags|=1,ye(t,n,o,f),n.child)}function ig(t,n,s,o,f){if(t===null){var g=s.type;return typeof g=="function"&&!fc(g)&&g.defaultProps===void 0&&s.compare===null?(n.tag=15,n.type=g,ag(t,n,g,o,f)):(t=Or(s.type,null,o,n,n.mode,f),t.ref=n.ref,t.return=n,n.child=t)}if(g=t.child,!$u(t,f)){var y=g.memoizedProps;if(s=s.compare,s=s!==null?s:_s,s(y,o)&&t.ref===n.ref)return Bn(t,n,f)}return n.flags|=1,t=yi(g,o),t.ref=n.ref,t.return=n,n.child=t}function ag(t,n,s,o,f){if(t!==null){var g=t.memoizedProps;if(_s(g,o)&&t.ref===n.ref)if(he=!1,n.pendingProps=o=g,$u(t,f))(t.flags&131072)!==0&&(he=!0);else return n.lanes=t.lanes,Bn(t,n,f)}return Fu(t,n,s,o,f)}function sg(t,n,s){var o=n.pendingProps,f=o.children,g=(n.stateNode._pendingVisibility&2)!==0,y=t!==null?t.memoizedState:null;if(js(t,n),o.mode==="hidden"||g){if((n.flags&128)!==0){if(o=y!==null?y.baseLanes|s:s,t!==null){for(f=n.child=t.child,g=0;f!==null;)g=g|f.lanes|f.childLanes,f=f.sibling;n.childLanes=g&~o}else n.childLanes=0,n.child=null;return lg(t,n,o,s)}if((s&536870912)!==0)n.memoizedState={baseLanes:0,cachePool:null},t!==null&&gr(n,y!==null?y.cachePool:null),y!==null?rd(n,y):vu(),od(n);else return n.lanes=n.childLanes=536870912,lg(t,n,y!==null?y.baseLanes|s:s,s)}else y!==null?(gr(n,y.cachePool),rd(n,y),ri(),n.memoizedState=null):(t!==null&&gr(n,null),vu(),ri());return ye(t,n,f,s),n.child}function lg(t,n,s,o){var f=wu();return f=f===null?null:{parent:re._currentValue,pool:f},n.memoizedState={baseLanes:s,cachePool:f},t!==null&&gr(n,null),vu(),od(n),t!==null&&Ls(t,n,o,!0),null}function js(t,n){var s=n.ref;if(s===null)t!==null&&t.ref!==null&&(n.flags|=2097664);else{if(typeof s!="function"&&typeof s!="object")throw Error(l(284));(t===null||t.ref!==s)&&(n.flags|=2097664)}}function Fu(t,n,s,o,f){return Pi(n),s=Tu(t,n,s,o,void 0,f),o=Mu(),t!==null&&!he?(Au(t,n,f),Bn(t,n,f)):(Ct&&o&&mu(n),n.flags|=1,ye(t,n,s,f),n.child)}function rg(t,n,s,o,f,g){return Pi(n),n.updateQueue=null,s=dd(n,o,s,f),hd(t),o=Mu(),t!==null&&!he?(Au(t,n,g),Bn(t,n,g)):(Ct&&o&&mu(n),n.flags|=1,ye(t,n,s,g),n.child)}function og(t,n,s,o,f){if(Pi(n),n.stateNode===null){var g=Ra,y=s.contextType;typeof y=="object"&&y!==null&&(g=_e(y)),g=new s(o,g),n.memoizedState=g.state!==null&&g.state!==void 0?g.state:null,g.updater=Yu,n.stateNode=g,g._reactInternals=n,g=n.stateNode,g.props=o,g.state=n.memoizedState,g.refs={},ec(n),y=s.contextType,g.context=typeof y=="object"&&y!==null?_e(y):Ra,g.state=n.memoizedState,y=s.getDerivedStateFromProps,typeof y=="function"&&(Vu(n,s,y,o),g.state=n.memoizedState),typeof s.getDerivedStateFromProps=="function"||typeof g.getSnapshotBeforeUpdate=="function"||typeof g.UNSAFE_componentWillMount!="function"&&typeof g.componentWillMount!="function"||(y=g.state,typeof g.componentWillMount=="function"&&g.componentWillMount(),typeof g.UNSAFE_componentWillMount=="function"&&g.UNSAFE_componentWillMount(),y!==g.state&&Yu.enqueueReplaceState(g,g.state,null),Us(n,o,g,f),Bs(),g.state=n.memoizedState),typeof g.componentDidMount=="function"&&(n.flags|=4194308),o=!0}else if(t===null){g=n.stateNode;var x=n.memoizedProps,E=Ki(s,x);g.props=E;var R=g.context,G=s.contextType;y=Ra,typeof G=="object"&&G!==null&&(y=_e(G));var Z=s.getDerivedStateFromProps;G=typeof Z=="function"||typeof g.getSnapshotBeforeUpdate=="function",x=n.pendingProps!==x,G||typeof g.UNSAFE_componentWillReceiveProps!="function"&&typeof g.componentWillReceiveProps!="function"||(x||R!==y)&&Kd(n,g,o,y),fi=!1;var H=n.memoizedState;g.state=H,Us(n,o,g,f),Bs(),R=n.memoizedState,x||H!==R||fi?(typeof Z=="function"&&(Vu(n,s,Z,o),R=n.memoizedState),(E=fi||Zd(n,s,E,o,H,R,y))?(G||typeof g.UNSAFE_componentWillMount!="function"&&typeof g.componentWillMount!="function"||(typeof g.componentWillMount=="function"&&g.componentWillMount(),typeof g.UNSAFE_componentWillMount=="function"&&g.UNSAFE_componentWillMount()),typeof g.componentDidMount=="function"&&(n.flags|=4194308)):(typeof g.componentDidMount=="function"&&(n.flags|=4194308),n.memoizedProps=o,n.memoizedState=R),g.props=o,g.state=R,g.context=y,o=E):(typeof g.componentDidMount=="function"&&(n.flags|=4194308),o=!1)}else{g=n.stateNode,nc(t,n),y=n.memoizedProps,G=Ki(s,y),g.props=G,Z=n.pendingProps,H=g.context,R=s.contextType,E=Ra,typeof R=="object"&&R!==null&&(E=_e(R)),x=s.getDerivedStateFromProps,(R=typeof x=="function"||typeof g.getSnapshotBeforeUpdate=="function")||typeof g.UNSAFE_componentWillReceiveProps!="function"&&typeof g.componentWillReceiveProps!="function"||(y!==Z||H!==E)&&Kd(n,g,o,E),fi=!1,H=n.memoizedState,g.state=H,Us(n,o,g,f),Bs();var F=n.memoizedState;y!==Z||H!==F||fi||t!==null&&t.dependencies!==null&&Tr(t.dependencies)?(typeof x=="function"&&(Vu(n,s,x,o),F=n.memoizedState),(G=fi||Zd(n,s,G,o,H,F,E)||t!==null&&t.dependencies!==null&&Tr(t.dependencies))?(R||typeof g.UNSAFE_componentWillUpdate!="function"&&typeof g.componentWillUpdate!="function"||(typeof g.componentWillUpdate=="function"&&g.componentWillUpdate(o,F,E),typeof g.UNSAFE_componentWillUpdate=="function"&&g.UNSAFE_componentWillUpdate(o,F,E)),typeof g.componentDidUpdate=="function"&&(n.flags|=4),typeof g.getSnapshotBeforeUpdate=="function"&&(n.flags|=1024)):(typeof g.componentDidUpdate!="function"||y===t.memoizedProps&&H===t.memoizedState||(n.flags|=4),typeof g.getSnapshotBeforeUpdate!="function"||y===t.memoizedProps&&H===t.memoizedState||(n.flags|=1024),n.memoizedProps=o,n.memoizedState=F),g.props=o,g.state=F,g.context=E,o=G):(typeof g.componentDidUpdate!="function"||y===t.memoizedProps&&H===t.memoizedState||(n.flags|=4),typeof g.getSnapshotBeforeUpdate!="function"||y===t.memoizedProps&&H===t.memoizedState||(n.flags|=1024),o=!1)}return g=o,js(t,n),o=(n.flags&128)!==0,g||o?(g=n.stateNode,s=o&&typeof s.getDerivedStateFromError!="function"?null:g.render(),n.flags|=1,t!==null&&o?(n.child=Fi(n,t.child,null,f),n.child=Fi(n,null,s,f)):ye(t,n,s,f),n.memoizedState=g.state,t=n.child):t=Bn(t,n,f),t}function ug(t,n,s,o){return Es(),n.flags|=256,ye(t,n,s,o),n.child}var Xu={dehydrated:null,treeContext:null,retryLane:0};function Gu(t){return{baseLanes:t,cachePool:fd()}}function Qu(t,n,s){return t=t!==null?t.childLanes&~s:0,n&&(t|=tn),t}function cg(t,n,s){var o=n.pendingProps,f=!1,g=(n.flags&128)!==0,y;if((y=g)||(y=t!==null&&t.memoizedState===null?!1:(le.current&2)!==0),y&&(f=!0,n.flags&=-129),y=(n.flags&32)!==0,n.flags&=-33,t===null){if(Ct){if(f?li(n):ri(),Ct){var x=pe,E;if(E=x){t:{for(E=x,x=pn;E.nodeType!==8;){if(!x){x=null;break t}if(E=cn(E.nextSibling),E===null){x=null;break t}}x=E}x!==null?(n.memoizedState={dehydrated:x,treeContext:Vi!==null?{id:Nn,overflow:jn}:null,retryLane:536870912},E=Ie(18,null,null,0),E.stateNode=x,E.return=n,n.child=E,Ae=n,pe=null,E=!0):E=!1}E||qi(n)}if(x=n.memoizedState,x!==null&&(x=x.dehydrated,x!==null))return x.data==="$!"?n.lanes=16:n.lanes=536870912,null;Ln(n)}return x=o.children,o=o.fallback,f?(ri(),f=n.mode,x=Ku({mode:"hidden",children:x},f),o=Ji(o,f,s,null),x.return=n,o.return=n,x.sibling=o,n.child=x,f=n.child,f.memoizedState=Gu(s),f.childLanes=Qu(t,y,s),n.memoizedState=Xu,o):(li(n),Zu(n,x))}if(E=t.memoizedState,E!==null&&(x=E.dehydrated,x!==null)){if(g)n.flags&256?(li(n),n.flags&=-257,n=Wu(t,n,s)):n.memoizedState!==null?(ri(),n.child=t.child,n.flags|=128,n=null):(ri(),f=o.fallback,x=n.mode,o=Ku({mode:"visible",children:o.children},x),f=Ji(f,x,s,null),f.flags|=2,o.return=n,f.return=n,o.sibling=f,n.child=o,Fi(n,t.child,null,s),o=n.child,o.memoizedState=Gu(s),o.childLanes=Qu(t,y,s),n.memoizedState=Xu,n=f);else if(li(n),x.data==="$!"){if(y=x.nextSibling&&x.nextSibling.dataset,y)var R=y.dgst;y=R,o=Error(l(419)),o.stack="",o.digest=y,Ts({value:o,source:null,stack:null}),n=Wu(t,n,s)}else if(he||Ls(t,n,s,!1),y=(s&t.childLanes)!==0,he||y){if(y=Vt,y!==null){if(o=s&-s,(o&42)!==0)o=1;else switch(o){case 2:o=1;break;case 8:o=4;break;case 32:o=16;break;case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:case 4194304:case 8388608:case 16777216:case 33554432:o=64;break;case 268435456:o=134217728;break;default:o=0}if(o=(o&(y.suspendedLanes|s))!==0?0:o,o!==0&&o!==E.retryLane)throw E.retryLane=o,si(t,o),De(y,t,o),eg}x.data==="$?"||wc(),n=Wu(t,n,s)}else x.data==="$?"?(n.flags|=128,n.child=t.child,n=sv.bind(null,t),x._reactRetry=n,n=null):(t=E.treeContext,pe=cn(x.nextSibling),Ae=n,Ct=!0,on=null,pn=!1,t!==null&&(Ke[We++]=Nn,Ke[We++]=jn,Ke[We++]=Vi,Nn=t.id,jn=t.overflow,Vi=n),n=Zu(n,o.children),n.flags|=4096);return n}return f?(ri(),f=o.fallback,x=n.mode,E=t.child,R=E.sibling,o=yi(E,{mode:"hidden",children:o.children}),o.subtreeFlags=E.subtreeFlags&31457280,R!==null?f=yi(R,f):(f=Ji(f,x,s,null),f.flags|=2),f.return=n,o.return=n,o.sibling=f,n.child=o,o=f,f=n.child,x=t.child.memoizedState,x===null?x=Gu(s):(E=x.cachePool,E!==null?(R=re._currentValue,E=E.parent!==R?{parent:R,pool:R}:E):E=fd(),x={baseLanes:x.baseLanes|s,cachePool:E}),f.memoizedState=x,f.childLanes=Qu(t,y,s),n.memoizedState=Xu,o):(li(n),s=t.child,t=s.sibling,s=yi(s,{mode:"visible",children:o.children}),s.return=n,s.sibling=null,t!==null&&(y=n.deletions,y===null?(n.deletions=[t],n.flags|=16):y.push(t)),n.child=s,n.memoizedState=null,s)}function Zu(t,n){return n=Ku({mode:"visible",children:n},t.mode),n.return=t,t.child=n}function Ku(t,n){return Lg(t,n,0,null)}function Wu(t,n,s){return Fi(n,t.child,null,s),t=Zu(n,n.pendingProps.children),t.flags|=2,n.memoizedState=null,t}function fg(t,n,s){t.lanes|=n;var o=t.alternate;o!==null&&(o.lanes|=n),Iu(t.return,n,s)}function Pu(t,n,s,o,f){var g=t.memoizedState;g===null?t.memoizedState={isBackwards:n,rendering:null,renderingStartTime:0,last:o,tail:s,tailMode:f}:(g.isBackwards=n,g.rendering=null,g.renderingStartTime=0,g.last=o,g.tail=s,g.tailMode=f)}function hg(t,n,s){var o=n.pendingProps,f=o.revealOrder,g=o.tail;if(ye(t,n,o.children,s),o=le.current,(o&2)!==0)o=o&1|2,n.flags|=128;else{if(t!==null&&(t.flags&128)!==0)t:for(t=n.child;t!==null;){if(t.tag===13)t.memoizedState!==null&&fg(t,s,n);else if(t.tag===19)fg(t,s,n);else if(t.child!==null){t.child.return=t,t=t.child;continue}if(t===n)break t;for(;t.sibling===null;){if(t.return===null||t.return===n)break t;t=t.return}t.sibling.return=t.return,t=t.sibling}o&=1}switch(Bt(le,o),f){case"forwards":for(s=n.child,f=null;s!==null;)t=s.alternate,t!==null&&dr(t)===null&&(f=s),s=s.sibling;s=f,s===null?(f=n.child,n.child=null):(f=s.sibling,s.sibling=null),Pu(n,!1,f,s,g);break;case"backwards":for(s=null,f=n.child,n.child=null;f!==null;){if(t=f.alternate,t!==null&&dr(t)===null){n.child=f;break}t=f.sibling,f.sibling=s,s=f,f=t}Pu(n,!0,s,null,g);break;case"together":Pu(n,!1,null,null,void 0);break;default:n.memoizedState=null}return n.child}function Bn(t,n,s){if(t!==null&&(n.dependencies=t.dependencies),bi|=n.lanes,(s&n.childLanes)===0)if(t!==null){if(Ls(t,n,s,!1),(s&n.childLanes)===0)return null}else return null;if(t!==null&&n.child!==t.child)throw Error(l(153));if(n.child!==null){for(t=n.child,s=yi(t,t.pendingProps),n.child=s,s.return=n;t.sibling!==null;)t=t.sibling,s=s.sibling=yi(t,t.pendingProps),s.return=n;s.sibling=null}return n.child}function $u(t,n){return(t.lanes&n)!==0?!0:(t=t.dependencies,!!(t!==null&&Tr(t)))}function Gb(t,n,s){switch(n.tag){case 3:ma(n,n.stateNode.containerInfo),ci(n,re,t.memoizedState.cache),Es();break;case 27:case 5:pa(n);break;case 4:ma(n,n.stateNode.containerInfo);break;case 10:ci(n,n.type,n.memoizedProps.value);break;case 13:var o=n.memoizedState;if(o!==null)return o.dehydrated!==null?(li(n),n.flags|=128,null):(s&n.child.childLanes)!==0?cg(t,n,s):(li(n),t=Bn(t,n,s),t!==null?t.sibling:null);li(n);break;case 19:var f=(t.flags&128)!==0;if(o=(s&n.childLanes)!==0,o||(Ls(t,n,s,!1),o=(s&n.childLanes)!==0),f){if(o)return hg(t,n,s);n.flags|=128}if(f=n.memoizedState,f!==null&&(f.rendering=null,f.tail=null,f.lastEffect=null),Bt(le,le.current),o)break;return null;case 22:case 23:return n.lanes=0,sg(t,n,s);case 24:ci(n,re,t.memoizedState.cache)}return Bn(t,n,s)}function dg(t,n,s){if(t!==null)if(t.memoizedProps!==n.pendingProps)he=!0;else{if(!$u(t,s)&&(n.flags&128)===0)return he=!1,Gb(t,n,s);he=(t.flags&131072)!==0}else he=!1,Ct&&(n.flags&1048576)!==0&&$h(n,or,n.index);switch(n.lanes=0,n.tag){case 16:t:{t=n.pendingProps;var o=n.elementType,f=o._init;if(o=f(o._payload),n.type=o,typeof o=="function")fc(o)?(t=Ki(o,t),n.tag=1,n=og(null,n,o,t,s)):(n.tag=0,n=Fu(null,n,o,t,s));else{if(o!=null){if(f=o.$$typeof,f===S){n.tag=11,n=ng(null,n,o,t,s);break t}else if(f===A){n.tag=14,n=ig(null,n,o,t,s);break t}}throw n=$(o)||o,Error(l(306,n,""))}}return n;case 0:return Fu(t,n,n.type,n.pendingProps,s);case 1:return o=n.type,f=Ki(o,n.pendingProps),og(t,n,o,f,s);case 3:t:{if(ma(n,n.stateNode.containerInfo),t===null)throw Error(l(387));var g=n.pendingProps;f=n.memoizedState,o=f.element,nc(t,n),Us(n,g,null,s);var y=n.memoizedState;if(g=y.cache,ci(n,re,g),g!==f.cache&&tc(n,[re],s,!0),Bs(),g=y.element,f.isDehydrated)if(f={element:g,isDehydrated:!1,cache:y.cache},n.updateQueue.baseState=f,n.memoizedState=f,n.flags&256){n=ug(t,n,g,s);break t}else if(g!==o){o=Ze(Error(l(424)),n),Ts(o),n=ug(t,n,g,s);break t}else for(pe=cn(n.stateNode.containerInfo.firstChild),Ae=n,Ct=!0,on=null,pn=!0,s=ld(n,null,g,s),n.child=s;s;)s.flags=s.flags&-3|4096,s=s.sibling;else{if(Es(),g===o){n=Bn(t,n,s);break t}ye(t,n,g,s)}n=n.child}return n;case 26:return js(t,n),t===null?(s=pm(n.type,null,n.pendingProps,null))?n.memoizedState=s:Ct||(s=n.type,t=n.pendingProps,o=Yr(mn.current).createElement(s),o[xe]=n,o[Ce]=t,be(o,s,t),fe(o),n.stateNode=o):n.memoizedState=pm(n.type,t.memoizedProps,n.pendingProps,t.memoizedState),null;case 27:return pa(n),t===null&&Ct&&(o=n.stateNode=dm(n.type,n.pendingProps,mn.current),Ae=n,pn=!0,pe=cn(o.firstChild)),o=n.pendingProps.children,t!==null||Ct?ye(t,n,o,s):n.child=Fi(n,null,o,s),js(t,n),n.child;case 5:return t===null&&Ct&&((f=o=pe)&&(o=_v(o,n.type,n.pendingProps,pn),o!==null?(n.stateNode=o,Ae=n,pe=cn(o.firstChild),pn=!1,f=!0):f=!1),f||qi(n)),pa(n),f=n.type,g=n.pendingProps,y=t!==null?t.memoizedProps:null,o=g.children,Hc(f,g)?o=null:y!==null&&Hc(f,y)&&(n.flags|=32),n.memoizedState!==null&&(f=Tu(t,n,Bb,null,null,s),tl._currentValue=f),js(t,n),ye(t,n,o,s),n.child;case 6:return t===null&&Ct&&((t=s=pe)&&(s=Sv(s,n.pendingProps,pn),s!==null?(n.stateNode=s,Ae=n,pe=null,t=!0):t=!1),t||qi(n)),null;case 13:return cg(t,n,s);case 4:return ma(n,n.stateNode.containerInfo),o=n.pendingProps,t===null?n.child=Fi(n,null,o,s):ye(t,n,o,s),n.child;case 11:return ng(t,n,n.type,n.pendingProps,s);case 7:return ye(t,n,n.pendingProps,s),n.child;case 8:return ye(t,n,n.pendingProps.children,s),n.child;case 12:return ye(t,n,n.pendingProps.children,s),n.child;case 10:return o=n.pendingProps,ci(n,n.type,o.value),ye(t,n,o.children,s),n.child;case 9:return f=n.type._context,o=n.pendingProps.children,Pi(n),f=_e(f),o=o(f),n.flags|=1,ye(t,n,o,s),n.child;case 14:return ig(t,n,n.type,n.pendingProps,s);case 15:return ag(t,n,n.type,n.pendingProps,s);case 19:return hg(t,n,s);case 22:return sg(t,n,s);case 24:return Pi(n),o=_e(re),t===null?(f=wu(),f===null&&(f=Vt,g=_u(),f.pooledCache=g,g.refCount++,g!==null&&(f.pooledCacheLanes|=s),f=g),n.memoizedState={parent:o,cache:f},ec(n),ci(n,re,f)):((t.lanes&s)!==0&&(nc(t,n),Us(n,null,null,s),Bs()),f=t.memoizedState,g=n.memoizedState,f.parent!==o?(f={parent:o,cache:o},n.memoizedState=f,n.lanes===0&&(n.memoizedState=n.updateQueue.baseState=f),ci(n,re,o)):(o=g.cache,ci(n,re,o),o!==f.cache&&tc(n,[re],s,!0))),ye(t,n,n.pendingProps.children,s),n.child;case 29:throw n.pendingProps}throw Error(l(156,n.tag))}var Ju=Rt(null),Wi=null,Un=null;function ci(t,n,s){Bt(Ju,n._currentValue),n._currentValue=s}function Vn(t){t._currentValue=Ju.current,Gt(Ju)}function Iu(t,n,s){for(;t!==null;){var o=t.alternate;if((t.childLanes&n)!==n?(t.childLanes|=n,o!==null&&(o.childLanes|=n)):o!==null&&(o.childLanes&n)!==n&&(o.childLanes|=n),t===s)break;t=t.return}}function tc(t,n,s,o){var f=t.child;for(f!==null&&(f.return=t);f!==null;){var g=f.dependencies;if(g!==null){var y=f.child;g=g.firstContext;t:for(;g!==null;){var x=g;g=f;for(var E=0;E<n.length;E++)if(x.context===n[E]){g.lanes|=s,x=g.alternate,x!==null&&(x.lanes|=s),Iu(g.return,s,t),o||(y=null);break t}g=x.next}}else if(f.tag===18){if(y=f.return,y===null)throw Error(l(341));y.lanes|=s,g=y.alternate,g!==null&&(g.lanes|=s),Iu(y,s,t),y=null}else y=f.child;if(y!==null)y.return=f;else for(y=f;y!==null;){if(y===t){y=null;break}if(f=y.sibling,f!==null){f.return=y.return,y=f;break}y=y.return}f=y}}function Ls(t,n,s,o){t=null;for(var f=n,g=!1;f!==null;){if(!g){if((f.flags&524288)!==0)g=!0;else if((f.flags&262144)!==0)break}if(f.tag===10){var y=f.alternate;if(y===null)throw Error(l(387));if(y=y.memoizedProps,y!==null){var x=f.type;Be(f.pendingProps.value,y.value)||(t!==null?t.push(x):t=[x])}}else if(f===ki.current){if(y=f.alternate,y===null)throw Error(l(387));y.memoizedState.memoizedState!==f.memoizedState.memoizedState&&(t!==null?t.push(tl):t=[tl])}f=f.return}t!==null&&tc(n,t,s,o),n.flags|=262144}function Tr(t){for(t=t.firstContext;t!==null;){if(!Be(t.context._currentValue,t.memoizedValue))return!0;t=t.next}return!1}function Pi(t){Wi=t,Un=null,t=t.dependencies,t!==null&&(t.firstContext=null)}function _e(t){return gg(Wi,t)}function Mr(t,n){return Wi===null&&Pi(t),gg(t,n)}function gg(t,n){var s=n._currentValue;if(n={context:n,memoizedValue:s,next:null},Un===null){if(t===null)throw Error(l(308));Un=n,t.dependencies={lanes:0,firstContext:n},t.flags|=524288}else Un=Un.next=n;return s}var fi=!1;function ec(t){t.updateQueue={baseState:t.memoizedState,firstBaseUpdate:null,lastBaseUpdate:null,shared:{pending:null,lanes:0,hiddenCallbacks:null},callbacks:null}}function nc(t,n){t=t.updateQueue,n.updateQueue===t&&(n.updateQueue={baseState:t.baseState,firstBaseUpdate:t.firstBaseUpdate,lastBaseUpdate:t.lastBaseUpdate,shared:t.shared,callbacks:null})}function hi(t){return{lane:t,tag:0,payload:null,callback:null,next:null}}function di(t,n,s){var o=t.updateQueue;if(o===null)return null;if(o=o.shared,(Kt&2)!==0){var f=o.pending;return f===null?n.next=n:(n.next=f.next,f.next=n),o.pending=n,n=lr(t),Wh(t,null,s),n}return sr(t,o,n,s),lr(t)}function Hs(t,n,s){if(n=n.updateQueue,n!==null&&(n=n.shared,(s&4194176)!==0)){var o=n.lanes;o&=t.pendingLanes,s|=o,n.lanes=s,ih(t,s)}}function ic(t,n){var s=t.updateQueue,o=t.alternate;if(o!==null&&(o=o.updateQueue,s===o)){var f=null,g=null;if(s=s.firstBaseUpdate,s!==null){do{var y={lane:s.lane,tag:s.tag,payload:s.payload,callback:null,next:null};g===null?f=g=y:g=g.next=y,s=s.next}while(s!==null);g===null?f=g=n:g=g.next=n}else f=g=n;s={baseState:o.baseState,firstBaseUpdate:f,lastBaseUpdate:g,shared:o.shared,callbacks:o.callbacks},t.updateQueue=s;return}t=s.lastBaseUpdate,t===null?s.firstBaseUpdate=n:t.next=n,s.lastBaseUpdate=n}var ac=!1;function Bs(){if(ac){var t=Ha;if(t!==null)throw t}}function Us(t,n,s,o){ac=!1;var f=t.updateQueue;fi=!1;var g=f.firstBaseUpdate,y=f.lastBaseUpdate,x=f.shared.pending;if(x!==null){f.shared.pending=null;var E=x,R=E.next;E.next=null,y===null?g=R:y.next=R,y=E;var G=t.alternate;G!==null&&(G=G.updateQueue,x=G.lastBaseUpdate,x!==y&&(x===null?G.firstBaseUpdate=R:x.next=R,G.lastBaseUpdate=E))}if(g!==null){var Z=f.baseState;y=0,G=R=E=null,x=g;do{var H=x.lane&-536870913,F=H!==x.lane;if(F?(Ot&H)===H:(o&H)===H){H!==0&&H===La&&(ac=!0),G!==null&&(G=G.next={lane:0,tag:x.tag,payload:x.payload,callback:null,next:null});t:{var mt=t,vt=x;H=n;var Jt=s;switch(vt.tag){case 1:if(mt=vt.payload,typeof mt=="function"){Z=mt.call(Jt,Z,H);break t}Z=mt;break t;case 3:mt.flags=mt.flags&-65537|128;case 0:if(mt=vt.payload,H=typeof mt=="function"?mt.call(Jt,Z,H):mt,H==null)break t;Z=tt({},Z,H);break t;case 2:fi=!0}}H=x.callback,H!==null&&(t.flags|=64,F&&(t.flags|=8192),F=f.callbacks,F===null?f.callbacks=[H]:F.push(H))}else F={lane:H,tag:x.tag,payload:x.payload,callback:x.callback,next:null},G===null?(R=G=F,E=Z):G=G.next=F,y|=H;if(x=x.next,x===null){if(x=f.shared.pending,x===null)break;F=x,x=F.next,F.next=null,f.lastBaseUpdate=F,f.shared.pending=null}}while(!0);G===null&&(E=Z),f.baseState=E,f.firstBaseUpdate=R,f.lastBaseUpdate=G,g===null&&(f.shared.lanes=0),bi|=y,t.lanes=y,t.memoizedState=Z}}function mg(t,n){if(typeof t!="function")throw Error(l(191,t));t.call(n)}function pg(t,n){var s=t.callbacks;if(s!==null)for(t.callbacks=null,t=0;t<s.length;t++)mg(s[t],n)}function Vs(t,n){try{var s=n.updateQueue,o=s!==null?s.lastEffect:null;if(o!==null){var f=o.next;s=f;do{if((s.tag&t)===t){o=void 0;var g=s.create,y=s.inst;o=g(),y.destroy=o}s=s.next}while(s!==f)}}catch(x){Ut(n,n.return,x)}}function gi(t,n,s){try{var o=n.updateQueue,f=o!==null?o.lastEffect:null;if(f!==null){var g=f.next;o=g;do{if((o.tag&t)===t){var y=o.inst,x=y.destroy;if(x!==void 0){y.destroy=void 0,f=n;var E=s;try{x()}catch(R){Ut(f,E,R)}}}o=o.next}while(o!==g)}}catch(R){Ut(n,n.return,R)}}function yg(t){var n=t.updateQueue;if(n!==null){var s=t.stateNode;try{pg(n,s)}catch(o){Ut(t,t.return,o)}}}function bg(t,n,s){s.props=Ki(t.type,t.memoizedProps),s.state=t.memoizedState;try{s.componentWillUnmount()}catch(o){Ut(t,n,o)}}function $i(t,n){try{var s=t.ref;if(s!==null){var o=t.stateNode;switch(t.tag){case 26:case 27:case 5:var f=o;break;default:f=o}typeof s=="function"?t.refCleanup=s(f):s.current=f}}catch(g){Ut(t,n,g)}}function Ue(t,n){var s=t.ref,o=t.refCleanup;if(s!==null)if(typeof o=="function")try{o()}catch(f){Ut(t,n,f)}finally{t.refCleanup=null,t=t.alternate,t!=null&&(t.refCleanup=null)}else if(typeof s=="function")try{s(null)}catch(f){Ut(t,n,f)}else s.current=null}function vg(t){var n=t.type,s=t.memoizedProps,o=t.stateNode;try{t:switch(n){case"button":case"input":case"select":case"textarea":s.autoFocus&&o.focus();break t;case"img":s.src?o.src=s.src:s.srcSet&&(o.srcset=s.srcSet)}}catch(f){Ut(t,t.return,f)}}function xg(t,n,s){try{var o=t.stateNode;pv(o,t.type,s,n),o[Ce]=n}catch(f){Ut(t,t.return,f)}}function _g(t){return t.tag===5||t.tag===3||t.tag===26||t.tag===27||t.tag===4}function sc(t){t:for(;;){for(;t.sibling===null;){if(t.return===null||_g(t.return))return null;t=t.return}for(t.sibling.return=t.return,t=t.sibling;t.tag!==5&&t.tag!==6&&t.tag!==27&&t.tag!==18;){if(t.flags&2||t.child===null||t.tag===4)continue t;t.child.return=t,t=t.child}if(!(t.flags&2))return t.stateNode}}function lc(t,n,s){var o=t.tag;if(o===5||o===6)t=t.stateNode,n?s.nodeType===8?s.parentNode.insertBefore(t,n):s.insertBefore(t,n):(s.nodeType===8?(n=s.parentNode,n.insertBefore(t,s)):(n=s,n.appendChild(t)),s=s._reactRootContainer,s!=null||n.onclick!==null||(n.onclick=Vr));else if(o!==4&&o!==27&&(t=t.child,t!==null))for(lc(t,n,s),t=t.sibling;t!==null;)lc(t,n,s),t=t.sibling}function Ar(t,n,s){var o=t.tag;if(o===5||o===6)t=t.stateNode,n?s.insertBefore(t,n):s.appendChild(t);else if(o!==4&&o!==27&&(t=t.child,t!==null))for(Ar(t,n,s),t=t.sibling;t!==null;)Ar(t,n,s),t=t.sibling}var Yn=!1,Pt=!1,rc=!1,Sg=typeof WeakSet=="function"?WeakSet:Set,de=null,wg=!1;function Qb(t,n){if(t=t.containerInfo,jc=Zr,t=Vh(t),uu(t)){if("selectionStart"in t)var s={start:t.selectionStart,end:t.selectionEnd};else t:{s=(s=t.ownerDocument)&&s.defaultView||window;var o=s.getSelection&&s.getSelection();if(o&&o.rangeCount!==0){s=o.anchorNode;var f=o.anchorOffset,g=o.focusNode;o=o.focusOffset;try{s.nodeType,g.nodeType}catch{s=null;break t}var y=0,x=-1,E=-1,R=0,G=0,Z=t,H=null;e:for(;;){for(var F;Z!==s||f!==0&&Z.nodeType!==3||(x=y+f),Z!==g||o!==0&&Z.nodeType!==3||(E=y+o),Z.nodeType===3&&(y+=Z.nodeValue.length),(F=Z.firstChild)!==null;)H=Z,Z=F;for(;;){if(Z===t)break e;if(H===s&&++R===f&&(x=y),H===g&&++G===o&&(E=y),(F=Z.nextSibling)!==null)break;Z=H,H=Z.parentNode}Z=F}s=x===-1||E===-1?null:{start:x,end:E}}else s=null}s=s||{start:0,end:0}}else s=null;for(Lc={focusedElem:t,selectionRange:s},Zr=!1,de=n;de!==null;)if(n=de,t=n.child,(n.subtreeFlags&1028)!==0&&t!==null)t.return=n,de=t;else for(;de!==null;){switch(n=de,g=n.alternate,t=n.flags,n.tag){case 0:break;case 11:case 15:break;case 1:if((t&1024)!==0&&g!==null){t=void 0,s=n,f=g.memoizedProps,g=g.memoizedState,o=s.stateNode;try{var mt=Ki(s.type,f,s.elementType===s.type);t=o.getSnapshotBeforeUpdate(mt,g),o.__reactInternalSnapshotBeforeUpdate=t}catch(vt){Ut(s,s.return,vt)}}break;case 3:if((t&1024)!==0){if(t=n.stateNode.containerInfo,s=t.nodeType,s===9)Vc(t);else if(s===1)switch(t.nodeName){case"HEAD":case"HTML":case"BODY":Vc(t);break;default:t.textContent=""}}break;case 5:case 26:case 27:case 6:case 4:case 17:break;default:if((t&1024)!==0)throw Error(l(163))}if(t=n.sibling,t!==null){t.return=n.return,de=t;break}de=n.return}return mt=wg,wg=!1,mt}function Eg(t,n,s){var o=s.flags;switch(s.tag){case 0:case 11:case 15:Fn(t,s),o&4&&Vs(5,s);break;case 1:if(Fn(t,s),o&4)if(t=s.stateNode,n===null)try{t.componentDidMount()}catch(x){Ut(s,s.return,x)}else{var f=Ki(s.type,n.memoizedProps);n=n.memoizedState;try{t.componentDidUpdate(f,n,t.__reactInternalSnapshotBeforeUpdate)}catch(x){Ut(s,s.return,x)}}o&64&&yg(s),o&512&&$i(s,s.return);break;case 3:if(Fn(t,s),o&64&&(o=s.updateQueue,o!==null)){if(t=null,s.child!==null)switch(s.child.tag){case 27:case 5:t=s.child.stateNode;break;case 1:t=s.child.stateNode}try{pg(o,t)}catch(x){Ut(s,s.return,x)}}break;case 26:Fn(t,s),o&512&&$i(s,s.return);break;case 27:case 5:Fn(t,s),n===null&&o&4&&vg(s),o&512&&$i(s,s.return);break;case 12:Fn(t,s);break;case 13:Fn(t,s),o&4&&Ag(t,s);break;case 22:if(f=s.memoizedState!==null||Yn,!f){n=n!==null&&n.memoizedState!==null||Pt;var g=Yn,y=Pt;Yn=f,(Pt=n)&&!y?mi(t,s,(s.subtreeFlags&8772)!==0):Fn(t,s),Yn=g,Pt=y}o&512&&(s.memoizedProps.mode==="manual"?$i(s,s.return):Ue(s,s.return));break;default:Fn(t,s)}}function Tg(t){var n=t.alternate;n!==null&&(t.alternate=null,Tg(n)),t.child=null,t.deletions=null,t.sibling=null,t.tag===5&&(n=t.stateNode,n!==null&&Zo(n)),t.stateNode=null,t.return=null,t.dependencies=null,t.memoizedProps=null,t.memoizedState=null,t.pendingProps=null,t.stateNode=null,t.updateQueue=null}var ae=null,Ve=!1;function qn(t,n,s){for(s=s.child;s!==null;)Mg(t,n,s),s=s.sibling}function Mg(t,n,s){if(me&&typeof me.onCommitFiberUnmount=="function")try{me.onCommitFiberUnmount(Rn,s)}catch{}switch(s.tag){case 26:Pt||Ue(s,n),qn(t,n,s),s.memoizedState?s.memoizedState.count--:s.stateNode&&(s=s.stateNode,s.parentNode.removeChild(s));break;case 27:Pt||Ue(s,n);var o=ae,f=Ve;for(ae=s.stateNode,qn(t,n,s),s=s.stateNode,n=s.attributes;n.length;)s.removeAttributeNode(n[0]);Zo(s),ae=o,Ve=f;break;case 5:Pt||Ue(s,n);case 6:f=ae;var g=Ve;if(ae=null,qn(t,n,s),ae=f,Ve=g,ae!==null)if(Ve)try{t=ae,o=s.stateNode,t.nodeType===8?t.parentNode.removeChild(o):t.removeChild(o)}catch(y){Ut(s,n,y)}else try{ae.removeChild(s.stateNode)}catch(y){Ut(s,n,y)}break;case 18:ae!==null&&(Ve?(n=ae,s=s.stateNode,n.nodeType===8?Uc(n.parentNode,s):n.nodeType===1&&Uc(n,s),al(n)):Uc(ae,s.stateNode));break;case 4:o=ae,f=Ve,ae=s.stateNode.containerInfo,Ve=!0,qn(t,n,s),ae=o,Ve=f;break;case 0:case 11:case 14:case 15:Pt||gi(2,s,n),Pt||gi(4,s,n),qn(t,n,s);break;case 1:Pt||(Ue(s,n),o=s.stateNode,typeof o.componentWillUnmount=="function"&&bg(s,n,o)),qn(t,n,s);break;case 21:qn(t,n,s);break;case 22:Pt||Ue(s,n),Pt=(o=Pt)||s.memoizedState!==null,qn(t,n,s),Pt=o;break;default:qn(t,n,s)}}function Ag(t,n){if(n.memoizedState===null&&(t=n.alternate,t!==null&&(t=t.memoizedState,t!==null&&(t=t.dehydrated,t!==null))))try{al(t)}catch(s){Ut(n,n.return,s)}}function Zb(t){switch(t.tag){case 13:case 19:var n=t.stateNode;return n===null&&(n=t.stateNode=new Sg),n;case 22:return t=t.stateNode,n=t._retryCache,n===null&&(n=t._retryCache=new Sg),n;default:throw Error(l(435,t.tag))}}function oc(t,n){var s=Zb(t);n.forEach(function(o){var f=lv.bind(null,t,o);s.has(o)||(s.add(o),o.then(f,f))})}function $e(t,n){var s=n.deletions;if(s!==null)for(var o=0;o<s.length;o++){var f=s[o],g=t,y=n,x=y;t:for(;x!==null;){switch(x.tag){case 27:case 5:ae=x.stateNode,Ve=!1;break t;case 3:ae=x.stateNode.containerInfo,Ve=!0;break t;case 4:ae=x.stateNode.containerInfo,Ve=!0;break t}x=x.return}if(ae===null)throw Error(l(160));Mg(g,y,f),ae=null,Ve=!1,g=f.alternate,g!==null&&(g.return=null),f.return=null}if(n.subtreeFlags&13878)for(n=n.child;n!==null;)Dg(n,t),n=n.sibling}var un=null;function Dg(t,n){var s=t.alternate,o=t.flags;switch(t.tag){case 0:case 11:case 14:case 15:$e(n,t),Je(t),o&4&&(gi(3,t,t.return),Vs(3,t),gi(5,t,t.return));break;case 1:$e(n,t),Je(t),o&512&&(Pt||s===null||Ue(s,s.return)),o&64&&Yn&&(t=t.updateQueue,t!==null&&(o=t.callbacks,o!==null&&(s=t.shared.hiddenCallbacks,t.shared.hiddenCallbacks=s===null?o:s.concat(o))));break;case 26:var f=un;if($e(n,t),Je(t),o&512&&(Pt||s===null||Ue(s,s.return)),o&4){var g=s!==null?s.memoizedState:null;if(o=t.memoizedState,s===null)if(o===null)if(t.stateNode===null){t:{o=t.type,s=t.memoizedProps,f=f.ownerDocument||f;e:switch(o){case"title":g=f.getElementsByTagName("title")[0],(!g||g[hs]||g[xe]||g.namespaceURI==="http://www.w3.org/2000/svg"||g.hasAttribute("itemprop"))&&(g=f.createElement(o),f.head.insertBefore(g,f.querySelector("head > title"))),be(g,o,s),g[xe]=t,fe(g),o=g;break t;case"link":var y=vm("link","href",f).get(o+(s.href||""));if(y){for(var x=0;x<y.length;x++)if(g=y[x],g.getAttribute("href")===(s.href==null?null:s.href)&&g.getAttribute("rel")===(s.rel==null?null:s.rel)&&g.getAttribute("title")===(s.title==null?null:s.title)&&g.getAttribute("crossorigin")===(s.crossOrigin==null?null:s.crossOrigin)){y.splice(x,1);break e}}g=f.createElement(o),be(g,o,s),f.head.appendChild(g);break;case"meta":if(y=vm("meta","content",f).get(o+(s.content||""))){for(x=0;x<y.length;x++)if(g=y[x],g.getAttribute("content")===(s.content==null?null:""+s.content)&&g.getAttribute("name")===(s.name==null?null:s.name)&&g.getAttribute("property")===(s.property==null?null:s.property)&&g.getAttribute("http-equiv")===(s.httpEquiv==null?null:s.httpEquiv)&&g.getAttribute("charset")===(s.charSet==null?null:s.charSet)){y.splice(x,1);break e}}g=f.createElement(o),be(g,o,s),f.head.appendChild(g);break;default:throw Error(l(468,o))}g[xe]=t,fe(g),o=g}t.stateNode=o}else xm(f,t.type,t.stateNode);else t.stateNode=bm(f,o,t.memoizedProps);else g!==o?(g===null?s.stateNode!==null&&(s=s.stateNode,s.parentNode.removeChild(s)):g.count--,o===null?xm(f,t.type,t.stateNode):bm(f,o,t.memoizedProps)):o===null&&t.stateNode!==null&&xg(t,t.memoizedProps,s.memoizedProps)}break;case 27:if(o&4&&t.alternate===null){f=t.stateNode,g=t.memoizedProps;try{for(var E=f.firstChild;E;){var R=E.nextSibling,G=E.nodeName;E[hs]||G==="HEAD"||G==="BODY"||G==="SCRIPT"||G==="STYLE"||G==="LINK"&&E.rel.toLowerCase()==="stylesheet"||f.removeChild(E),E=R}for(var Z=t.type,H=f.attributes;H.length;)f.removeAttributeNode(H[0]);be(f,Z,g),f[xe]=t,f[Ce]=g}catch(mt){Ut(t,t.return,mt)}}case 5:if($e(n,t),Je(t),o&512&&(Pt||s===null||Ue(s,s.return)),t.flags&32){f=t.stateNode;try{Ea(f,"")}catch(mt){Ut(t,t.return,mt)}}o&4&&t.stateNode!=null&&(f=t.memoizedProps,xg(t,f,s!==null?s.memoizedProps:f)),o&1024&&(rc=!0);break;case 6:if($e(n,t),Je(t),o&4){if(t.stateNode===null)throw Error(l(162));o=t.memoizedProps,s=t.stateNode;try{s.nodeValue=o}catch(mt){Ut(t,t.return,mt)}}break;case 3:if(Xr=null,f=un,un=qr(n.containerInfo),$e(n,t),un=f,Je(t),o&4&&s!==null&&s.memoizedState.isDehydrated)try{al(n.containerInfo)}catch(mt){Ut(t,t.return,mt)}rc&&(rc=!1,Og(t));break;case 4:o=un,un=qr(t.stateNode.containerInfo),$e(n,t),Je(t),un=o;break;case 12:$e(n,t),Je(t);break;case 13:$e(n,t),Je(t),t.child.flags&8192&&t.memoizedState!==null!=(s!==null&&s.memoizedState!==null)&&(yc=q()),o&4&&(o=t.updateQueue,o!==null&&(t.updateQueue=null,oc(t,o)));break;case 22:if(o&512&&(Pt||s===null||Ue(s,s.return)),E=t.memoizedState!==null,R=s!==null&&s.memoizedState!==null,G=Yn,Z=Pt,Yn=G||E,Pt=Z||R,$e(n,t),Pt=Z,Yn=G,Je(t),n=t.stateNode,n._current=t,n._visibility&=-3,n._visibility|=n._pendingVisibility&2,o&8192&&(n._visibility=E?n._visibility&-2:n._visibility|1,E&&(n=Yn||Pt,s===null||R||n||Ya(t)),t.memoizedProps===null||t.memoizedProps.mode!=="manual"))t:for(s=null,n=t;;){if(n.tag===5||n.tag===26||n.tag===27){if(s===null){R=s=n;try{if(f=R.stateNode,E)g=f.style,typeof g.setProperty=="function"?g.setProperty("display","none","important"):g.display="none";else{y=R.stateNode,x=R.memoizedProps.style;var F=x!=null&&x.hasOwnProperty("display")?x.display:null;y.style.display=F==null||typeof F=="boolean"?"":(""+F).trim()}}catch(mt){Ut(R,R.return,mt)}}}else if(n.tag===6){if(s===null){R=n;try{R.stateNode.nodeValue=E?"":R.memoizedProps}catch(mt){Ut(R,R.return,mt)}}}else if((n.tag!==22&&n.tag!==23||n.memoizedState===null||n===t)&&n.child!==null){n.child.return=n,n=n.child;continue}if(n===t)break t;for(;n.sibling===null;){if(n.return===null||n.return===t)break t;s===n&&(s=null),n=n.return}s===n&&(s=null),n.sibling.return=n.return,n=n.sibling}o&4&&(o=t.updateQueue,o!==null&&(s=o.retryQueue,s!==null&&(o.retryQueue=null,oc(t,s))));break;case 19:$e(n,t),Je(t),o&4&&(o=t.updateQueue,o!==null&&(t.updateQueue=null,oc(t,o)));break;case 21:break;default:$e(n,t),Je(t)}}function Je(t){var n=t.flags;if(n&2){try{if(t.tag!==27){t:{for(var s=t.return;s!==null;){if(_g(s)){var o=s;break t}s=s.return}throw Error(l(160))}switch(o.tag){case 27:var f=o.stateNode,g=sc(t);Ar(t,g,f);break;case 5:var y=o.stateNode;o.flags&32&&(Ea(y,""),o.flags&=-33);var x=sc(t);Ar(t,x,y);break;case 3:case 4:var E=o.stateNode.containerInfo,R=sc(t);lc(t,R,E);break;default:throw Error(l(161))}}}catch(G){Ut(t,t.return,G)}t.flags&=-3}n&4096&&(t.flags&=-4097)}function Og(t){if(t.subtreeFlags&1024)for(t=t.child;t!==null;){var n=t;Og(n),n.tag===5&&n.flags&1024&&n.stateNode.reset(),t=t.sibling}}function Fn(t,n){if(n.subtreeFlags&8772)for(n=n.child;n!==null;)Eg(t,n.alternate,n),n=n.sibling}function Ya(t){for(t=t.child;t!==null;){var n=t;switch(n.tag){case 0:case 11:case 14:case 15:gi(4,n,n.return),Ya(n);break;case 1:Ue(n,n.return);var s=n.stateNode;typeof s.componentWillUnmount=="function"&&bg(n,n.return,s),Ya(n);break;case 26:case 27:case 5:Ue(n,n.return),Ya(n);break;case 22:Ue(n,n.return),n.memoizedState===null&&Ya(n);break;default:Ya(n)}t=t.sibling}}function mi(t,n,s){for(s=s&&(n.subtreeFlags&8772)!==0,n=n.child;n!==null;){var o=n.alternate,f=t,g=n,y=g.flags;switch(g.tag){case 0:case 11:case 15:mi(f,g,s),Vs(4,g);break;case 1:if(mi(f,g,s),o=g,f=o.stateNode,typeof f.componentDidMount=="function")try{f.componentDidMount()}catch(R){Ut(o,o.return,R)}if(o=g,f=o.updateQueue,f!==null){var x=o.stateNode;try{var E=f.shared.hiddenCallbacks;if(E!==null)for(f.shared.hiddenCallbacks=null,f=0;f<E.length;f++)mg(E[f],x)}catch(R){Ut(o,o.return,R)}}s&&y&64&&yg(g),$i(g,g.return);break;case 26:case 27:case 5:mi(f,g,s),s&&o===null&&y&4&&vg(g),$i(g,g.return);break;case 12:mi(f,g,s);break;case 13:mi(f,g,s),s&&y&4&&Ag(f,g);break;case 22:g.memoizedState===null&&mi(f,g,s),$i(g,g.return);break;default:mi(f,g,s)}n=n.sibling}}function uc(t,n){var s=null;t!==null&&t.memoizedState!==null&&t.memoizedState.cachePool!==null&&(s=t.memoizedState.cachePool.pool),t=null,n.memoizedState!==null&&n.memoizedState.cachePool!==null&&(t=n.memoizedState.cachePool.pool),t!==s&&(t!=null&&t.refCount++,s!=null&&zs(s))}function cc(t,n){t=null,n.alternate!==null&&(t=n.alternate.memoizedState.cache),n=n.memoizedState.cache,n!==t&&(n.refCount++,t!=null&&zs(t))}function pi(t,n,s,o){if(n.subtreeFlags&10256)for(n=n.child;n!==null;)zg(t,n,s,o),n=n.sibling}function zg(t,n,s,o){var f=n.flags;switch(n.tag){case 0:case 11:case 15:pi(t,n,s,o),f&2048&&Vs(9,n);break;case 3:pi(t,n,s,o),f&2048&&(t=null,n.alternate!==null&&(t=n.alternate.memoizedState.cache),n=n.memoizedState.cache,n!==t&&(n.refCount++,t!=null&&zs(t)));break;case 12:if(f&2048){pi(t,n,s,o),t=n.stateNode;try{var g=n.memoizedProps,y=g.id,x=g.onPostCommit;typeof x=="function"&&x(y,n.alternate===null?"mount":"update",t.passiveEffectDuration,-0)}catch(E){Ut(n,n.return,E)}}else pi(t,n,s,o);break;case 23:break;case 22:g=n.stateNode,n.memoizedState!==null?g._visibility&4?pi(t,n,s,o):Ys(t,n):g._visibility&4?pi(t,n,s,o):(g._visibility|=4,qa(t,n,s,o,(n.subtreeFlags&10256)!==0)),f&2048&&uc(n.alternate,n);break;case 24:pi(t,n,s,o),f&2048&&cc(n.alternate,n);break;default:pi(t,n,s,o)}}function qa(t,n,s,o,f){for(f=f&&(n.subtreeFlags&10256)!==0,n=n.child;n!==null;){var g=t,y=n,x=s,E=o,R=y.flags;switch(y.tag){case 0:case 11:case 15:qa(g,y,x,E,f),Vs(8,y);break;case 23:break;case 22:var G=y.stateNode;y.memoizedState!==null?G._visibility&4?qa(g,y,x,E,f):Ys(g,y):(G._visibility|=4,qa(g,y,x,E,f)),f&&R&2048&&uc(y.alternate,y);break;case 24:qa(g,y,x,E,f),f&&R&2048&&cc(y.alternate,y);break;default:qa(g,y,x,E,f)}n=n.sibling}}function Ys(t,n){if(n.subtreeFlags&10256)for(n=n.child;n!==null;){var s=t,o=n,f=o.flags;switch(o.tag){case 22:Ys(s,o),f&2048&&uc(o.alternate,o);break;case 24:Ys(s,o),f&2048&&cc(o.alternate,o);break;default:Ys(s,o)}n=n.sibling}}var qs=8192;function Fa(t){if(t.subtreeFlags&qs)for(t=t.child;t!==null;)Rg(t),t=t.sibling}function Rg(t){switch(t.tag){case 26:Fa(t),t.flags&qs&&t.memoizedState!==null&&jv(un,t.memoizedState,t.memoizedProps);break;case 5:Fa(t);break;case 3:case 4:var n=un;un=qr(t.stateNode.containerInfo),Fa(t),un=n;break;case 22:t.memoizedState===null&&(n=t.alternate,n!==null&&n.memoizedState!==null?(n=qs,qs=16777216,Fa(t),qs=n):Fa(t));break;default:Fa(t)}}function Cg(t){var n=t.alternate;if(n!==null&&(t=n.child,t!==null)){n.child=null;do n=t.sibling,t.sibling=null,t=n;while(t!==null)}}function Fs(t){var n=t.deletions;if((t.flags&16)!==0){if(n!==null)for(var s=0;s<n.length;s++){var o=n[s];de=o,Ng(o,t)}Cg(t)}if(t.subtreeFlags&10256)for(t=t.child;t!==null;)kg(t),t=t.sibling}function kg(t){switch(t.tag){case 0:case 11:case 15:Fs(t),t.flags&2048&&gi(9,t,t.return);break;case 3:Fs(t);break;case 12:Fs(t);break;case 22:var n=t.stateNode;t.memoizedState!==null&&n._visibility&4&&(t.return===null||t.return.tag!==13)?(n._visibility&=-5,Dr(t)):Fs(t);break;default:Fs(t)}}function Dr(t){var n=t.deletions;if((t.flags&16)!==0){if(n!==null)for(var s=0;s<n.length;s++){var o=n[s];de=o,Ng(o,t)}Cg(t)}for(t=t.child;t!==null;){switch(n=t,n.tag){case 0:case 11:case 15:gi(8,n,n.return),Dr(n);break;case 22:s=n.stateNode,s._visibility&4&&(s._visibility&=-5,Dr(n));break;default:Dr(n)}t=t.sibling}}function Ng(t,n){for(;de!==null;){var s=de;switch(s.tag){case 0:case 11:case 15:gi(8,s,n);break;case 23:case 22:if(s.memoizedState!==null&&s.memoizedState.cachePool!==null){var o=s.memoizedState.cachePool.pool;o!=null&&o.refCount++}break;case 24:zs(s.memoizedState.cache)}if(o=s.child,o!==null)o.return=s,de=o;else t:for(s=t;de!==null;){o=de;var f=o.sibling,g=o.return;if(Tg(o),o===s){de=null;break t}if(f!==null){f.return=g,de=f;break t}de=g}}}function Kb(t,n,s,o){this.tag=t,this.key=s,this.sibling=this.child=this.return=this.stateNode=this.type=this.elementType=null,this.index=0,this.refCleanup=this.ref=null,this.pendingProps=n,this.dependencies=this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=o,this.subtreeFlags=this.flags=0,this.deletions=null,this.childLanes=this.lanes=0,this.alternate=null}function Ie(t,n,s,o){return new Kb(t,n,s,o)}function fc(t){return t=t.prototype,!(!t||!t.isReactComponent)}function yi(t,n){var s=t.alternate;return s===null?(s=Ie(t.tag,n,t.key,t.mode),s.elementType=t.elementType,s.type=t.type,s.stateNode=t.stateNode,s.alternate=t,t.alternate=s):(s.pendingProps=n,s.type=t.type,s.flags=0,s.subtreeFlags=0,s.deletions=null),s.flags=t.flags&31457280,s.childLanes=t.childLanes,s.lanes=t.lanes,s.child=t.child,s.memoizedProps=t.memoizedProps,s.memoizedState=t.memoizedState,s.updateQueue=t.updateQueue,n=t.dependencies,s.dependencies=n===null?null:{lanes:n.lanes,firstContext:n.firstContext},s.sibling=t.sibling,s.index=t.index,s.ref=t.ref,s.refCleanup=t.refCleanup,s}function jg(t,n){t.flags&=31457282;var s=t.alternate;return s===null?(t.childLanes=0,t.lanes=n,t.child=null,t.subtreeFlags=0,t.memoizedProps=null,t.memoizedState=null,t.updateQueue=null,t.dependencies=null,t.stateNode=null):(t.childLanes=s.childLanes,t.lanes=s.lanes,t.child=s.child,t.subtreeFlags=0,t.deletions=null,t.memoizedProps=s.memoizedProps,t.memoizedState=s.memoizedState,t.updateQueue=s.updateQueue,t.type=s.type,n=s.dependencies,t.dependencies=n===null?null:{lanes:n.lanes,firstContext:n.firstContext}),t}function Or(t,n,s,o,f,g){var y=0;if(o=t,typeof t=="function")fc(t)&&(y=1);else if(typeof t=="string")y=kv(t,s,Re.current)?26:t==="html"||t==="head"||t==="body"?27:5;else t:switch(t){case d:return Ji(s.children,f,g,n);case m:y=8,f|=24;break;case p:return t=Ie(12,s,n,f|2),t.elementType=p,t.lanes=g,t;case w:return t=Ie(13,s,n,f),t.elementType=w,t.lanes=g,t;case T:return t=Ie(19,s,n,f),t.elementType=T,t.lanes=g,t;case U:return Lg(s,f,g,n);default:if(typeof t=="object"&&t!==null)switch(t.$$typeof){case b:case _:y=10;break t;case v:y=9;break t;case S:y=11;break t;case A:y=14;break t;case N:y=16,o=null;break t}y=29,s=Error(l(130,t===null?"null":typeof t,"")),o=null}return n=Ie(y,s,n,f),n.elementType=t,n.type=o,n.lanes=g,n}function Ji(t,n,s,o){return t=Ie(7,t,o,n),t.lanes=s,t}function Lg(t,n,s,o){t=Ie(22,t,o,n),t.elementType=U,t.lanes=s;var f={_visibility:1,_pendingVisibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null,_current:null,detach:function(){var g=f._current;if(g===null)throw Error(l(456));if((f._pendingVisibility&2)===0){var y=si(g,2);y!==null&&(f._pendingVisibility|=2,De(y,g,2))}},attach:function(){var g=f._current;if(g===null)throw Error(l(456));if((f._pendingVisibility&2)!==0){var y=si(g,2);y!==null&&(f._pendingVisibility&=-3,De(y,g,2))}}};return t.stateNode=f,t}function hc(t,n,s){return t=Ie(6,t,null,n),t.lanes=s,t}function dc(t,n,s){return n=Ie(4,t.children!==null?t.children:[],t.key,n),n.lanes=s,n.stateNode={containerInfo:t.containerInfo,pendingChildren:null,implementation:t.implementation},n}function Xn(t){t.flags|=4}function Hg(t,n){if(n.type!=="stylesheet"||(n.state.loading&4)!==0)t.flags&=-16777217;else if(t.flags|=16777216,!_m(n)){if(n=Pe.current,n!==null&&((Ot&4194176)===Ot?yn!==null:(Ot&62914560)!==Ot&&(Ot&536870912)===0||n!==yn))throw As=bu,td;t.flags|=8192}}function zr(t,n){n!==null&&(t.flags|=4),t.flags&16384&&(n=t.tag!==22?eh():536870912,t.lanes|=n,Ga|=n)}function Xs(t,n){if(!Ct)switch(t.tailMode){case"hidden":n=t.tail;for(var s=null;n!==null;)n.alternate!==null&&(s=n),n=n.sibling;s===null?t.tail=null:s.sibling=null;break;case"collapsed":s=t.tail;for(var o=null;s!==null;)s.alternate!==null&&(o=s),s=s.sibling;o===null?n||t.tail===null?t.tail=null:t.tail.sibling=null:o.sibling=null}}function Zt(t){var n=t.alternate!==null&&t.alternate.child===t.child,s=0,o=0;if(n)for(var f=t.child;f!==null;)s|=f.lanes|f.childLanes,o|=f.subtreeFlags&31457280,o|=f.flags&31457280,f.return=t,f=f.sibling;else for(f=t.child;f!==null;)s|=f.lanes|f.childLanes,o|=f.subtreeFlags,o|=f.flags,f.return=t,f=f.sibling;return t.subtreeFlags|=o,t.childLanes=s,n}function Wb(t,n,s){var o=n.pendingProps;switch(pu(n),n.tag){case 16:case 15:case 0:case 11:case 7:case 8:case 12:case 9:case 14:return Zt(n),null;case 1:return Zt(n),null;case 3:return s=n.stateNode,o=null,t!==null&&(o=t.memoizedState.cache),n.memoizedState.cache!==o&&(n.flags|=2048),Vn(re),zn(),s.pendingContext&&(s.context=s.pendingContext,s.pendingContext=null),(t===null||t.child===null)&&(ws(n)?Xn(n):t===null||t.memoizedState.isDehydrated&&(n.flags&256)===0||(n.flags|=1024,on!==null&&(_c(on),on=null))),Zt(n),null;case 26:return s=n.memoizedState,t===null?(Xn(n),s!==null?(Zt(n),Hg(n,s)):(Zt(n),n.flags&=-16777217)):s?s!==t.memoizedState?(Xn(n),Zt(n),Hg(n,s)):(Zt(n),n.flags&=-16777217):(t.memoizedProps!==o&&Xn(n),Zt(n),n.flags&=-16777217),null;case 27:ya(n),s=mn.current;var f=n.type;if(t!==null&&n.stateNode!=null)t.memoizedProps!==o&&Xn(n);else{if(!o){if(n.stateNode===null)throw Error(l(166));return Zt(n),null}t=Re.current,ws(n)?Jh(n):(t=dm(f,o,s),n.stateNode=t,Xn(n))}return Zt(n),null;case 5:if(ya(n),s=n.type,t!==null&&n.stateNode!=null)t.memoizedProps!==o&&Xn(n);else{if(!o){if(n.stateNode===null)throw Error(l(166));return Zt(n),null}if(t=Re.current,ws(n))Jh(n);else{switch(f=Yr(mn.current),t){case 1:t=f.createElementNS("http://www.w3.org/2000/svg",s);break;case 2:t=f.createElementNS("http://www.w3.org/1998/Math/MathML",s);break;default:switch(s){case"svg":t=f.createElementNS("http://www.w3.org/2000/svg",s);break;case"math":t=f.createElementNS("http://www.w3.org/1998/Math/MathML",s);break;case"script":t=f.createElement("div"),t.innerHTML="<script><\/script>",t=t.removeChild(t.firstChild);break;case"select":t=typeof o.is=="string"?f.createElement("select",{is:o.is}):f.createElement("select"),o.multiple?t.multiple=!0:o.size&&(t.size=o.size);break;default:t=typeof o.is=="string"?f.createElement(s,{is:o.is}):f.createElement(s)}}t[xe]=n,t[Ce]=o;t:for(f=n.child;f!==null;){if(f.tag===5||f.tag===6)t.appendChild(f.stateNode);else if(f.tag!==4&&f.tag!==27&&f.child!==null){f.child.return=f,f=f.child;continue}if(f===n)break t;for(;f.sibling===null;){if(f.return===null||f.return===n)break t;f=f.return}f.sibling.return=f.return,f=f.sibling}n.stateNode=t;t:switch(be(t,s,o),s){case"button":case"input":case"select":case"textarea":t=!!o.autoFocus;break t;case"img":t=!0;break t;default:t=!1}t&&Xn(n)}}return Zt(n),n.flags&=-16777217,null;case 6:if(t&&n.stateNode!=null)t.memoizedProps!==o&&Xn(n);else{if(typeof o!="string"&&n.stateNode===null)throw Error(l(166));if(t=mn.current,ws(n)){if(t=n.stateNode,s=n.memoizedProps,o=null,f=Ae,f!==null)switch(f.tag){case 27:case 5:o=f.memoizedProps}t[xe]=n,t=!!(t.nodeValue===s||o!==null&&o.suppressHydrationWarning===!0||rm(t.nodeValue,s)),t||qi(n)}else t=Yr(t).createTextNode(o),t[xe]=n,n.stateNode=t}return Zt(n),null;case 13:if(o=n.memoizedState,t===null||t.memoizedState!==null&&t.memoizedState.dehydrated!==null){if(f=ws(n),o!==null&&o.dehydrated!==null){if(t===null){if(!f)throw Error(l(318));if(f=n.memoizedState,f=f!==null?f.dehydrated:null,!f)throw Error(l(317));f[xe]=n}else Es(),(n.flags&128)===0&&(n.memoizedState=null),n.flags|=4;Zt(n),f=!1}else on!==null&&(_c(on),on=null),f=!0;if(!f)return n.flags&256?(Ln(n),n):(Ln(n),null)}if(Ln(n),(n.flags&128)!==0)return n.lanes=s,n;if(s=o!==null,t=t!==null&&t.memoizedState!==null,s){o=n.child,f=null,o.alternate!==null&&o.alternate.memoizedState!==null&&o.alternate.memoizedState.cachePool!==null&&(f=o.alternate.memoizedState.cachePool.pool);var g=null;o.memoizedState!==null&&o.memoizedState.cachePool!==null&&(g=o.memoizedState.cachePool.pool),g!==f&&(o.flags|=2048)}return s!==t&&s&&(n.child.flags|=8192),zr(n,n.updateQueue),Zt(n),null;case 4:return zn(),t===null&&Cc(n.stateNode.containerInfo),Zt(n),null;case 10:return Vn(n.type),Zt(n),null;case 19:if(Gt(le),f=n.memoizedState,f===null)return Zt(n),null;if(o=(n.flags&128)!==0,g=f.rendering,g===null)if(o)Xs(f,!1);else{if($t!==0||t!==null&&(t.flags&128)!==0)for(t=n.child;t!==null;){if(g=dr(t),g!==null){for(n.flags|=128,Xs(f,!1),t=g.updateQueue,n.updateQueue=t,zr(n,t),n.subtreeFlags=0,t=s,s=n.child;s!==null;)jg(s,t),s=s.sibling;return Bt(le,le.current&1|2),n.child}t=t.sibling}f.tail!==null&&q()>Rr&&(n.flags|=128,o=!0,Xs(f,!1),n.lanes=4194304)}else{if(!o)if(t=dr(g),t!==null){if(n.flags|=128,o=!0,t=t.updateQueue,n.updateQueue=t,zr(n,t),Xs(f,!0),f.tail===null&&f.tailMode==="hidden"&&!g.alternate&&!Ct)return Zt(n),null}else 2*q()-f.renderingStartTime>Rr&&s!==536870912&&(n.flags|=128,o=!0,Xs(f,!1),n.lanes=4194304);f.isBackwards?(g.sibling=n.child,n.child=g):(t=f.last,t!==null?t.sibling=g:n.child=g,f.last=g)}return f.tail!==null?(n=f.tail,f.rendering=n,f.tail=n.sibling,f.renderingStartTime=q(),n.sibling=null,t=le.current,Bt(le,o?t&1|2:t&1),n):(Zt(n),null);case 22:case 23:return Ln(n),xu(),o=n.memoizedState!==null,t!==null?t.memoizedState!==null!==o&&(n.flags|=8192):o&&(n.flags|=8192),o?(s&536870912)!==0&&(n.flags&128)===0&&(Zt(n),n.subtreeFlags&6&&(n.flags|=8192)):Zt(n),s=n.updateQueue,s!==null&&zr(n,s.retryQueue),s=null,t!==null&&t.memoizedState!==null&&t.memoizedState.cachePool!==null&&(s=t.memoizedState.cachePool.pool),o=null,n.memoizedState!==null&&n.memoizedState.cachePool!==null&&(o=n.memoizedState.cachePool.pool),o!==s&&(n.flags|=2048),t!==null&&Gt(Xi),null;case 24:return s=null,t!==null&&(s=t.memoizedState.cache),n.memoizedState.cache!==s&&(n.flags|=2048),Vn(re),Zt(n),null;case 25:return null}throw Error(l(156,n.tag))}function Pb(t,n){switch(pu(n),n.tag){case 1:return t=n.flags,t&65536?(n.flags=t&-65537|128,n):null;case 3:return Vn(re),zn(),t=n.flags,(t&65536)!==0&&(t&128)===0?(n.flags=t&-65537|128,n):null;case 26:case 27:case 5:return ya(n),null;case 13:if(Ln(n),t=n.memoizedState,t!==null&&t.dehydrated!==null){if(n.alternate===null)throw Error(l(340));Es()}return t=n.flags,t&65536?(n.flags=t&-65537|128,n):null;case 19:return Gt(le),null;case 4:return zn(),null;case 10:return Vn(n.type),null;case 22:case 23:return Ln(n),xu(),t!==null&&Gt(Xi),t=n.flags,t&65536?(n.flags=t&-65537|128,n):null;case 24:return Vn(re),null;case 25:return null;default:return null}}function Bg(t,n){switch(pu(n),n.tag){case 3:Vn(re),zn();break;case 26:case 27:case 5:ya(n);break;case 4:zn();break;case 13:Ln(n);break;case 19:Gt(le);break;case 10:Vn(n.type);break;case 22:case 23:Ln(n),xu(),t!==null&&Gt(Xi);break;case 24:Vn(re)}}var $b={getCacheForType:function(t){var n=_e(re),s=n.data.get(t);return s===void 0&&(s=t(),n.data.set(t,s)),s}},Jb=typeof WeakMap=="function"?WeakMap:Map,Kt=0,Vt=null,Mt=null,Ot=0,Yt=0,Ye=null,Gn=!1,Xa=!1,gc=!1,Qn=0,$t=0,bi=0,Ii=0,mc=0,tn=0,Ga=0,Gs=null,vn=null,pc=!1,yc=0,Rr=1/0,Cr=null,vi=null,kr=!1,ta=null,Qs=0,bc=0,vc=null,Zs=0,xc=null;function qe(){if((Kt&2)!==0&&Ot!==0)return Ot&-Ot;if(X.T!==null){var t=La;return t!==0?t:Dc()}return sh()}function Ug(){tn===0&&(tn=(Ot&536870912)===0||Ct?th():536870912);var t=Pe.current;return t!==null&&(t.flags|=32),tn}function De(t,n,s){(t===Vt&&Yt===2||t.cancelPendingCommit!==null)&&(Qa(t,0),Zn(t,Ot,tn,!1)),fs(t,s),((Kt&2)===0||t!==Vt)&&(t===Vt&&((Kt&2)===0&&(Ii|=s),$t===4&&Zn(t,Ot,tn,!1)),xn(t))}function Vg(t,n,s){if((Kt&6)!==0)throw Error(l(327));var o=!s&&(n&60)===0&&(n&t.expiredLanes)===0||cs(t,n),f=o?ev(t,n):Ec(t,n,!0),g=o;do{if(f===0){Xa&&!o&&Zn(t,n,0,!1);break}else if(f===6)Zn(t,n,0,!Gn);else{if(s=t.current.alternate,g&&!Ib(s)){f=Ec(t,n,!1),g=!1;continue}if(f===2){if(g=n,t.errorRecoveryDisabledLanes&g)var y=0;else y=t.pendingLanes&-536870913,y=y!==0?y:y&536870912?536870912:0;if(y!==0){n=y;t:{var x=t;f=Gs;var E=x.current.memoizedState.isDehydrated;if(E&&(Qa(x,y).flags|=256),y=Ec(x,y,!1),y!==2){if(gc&&!E){x.errorRecoveryDisabledLanes|=g,Ii|=g,f=4;break t}g=vn,vn=f,g!==null&&_c(g)}f=y}if(g=!1,f!==2)continue}}if(f===1){Qa(t,0),Zn(t,n,0,!0);break}t:{switch(o=t,f){case 0:case 1:throw Error(l(345));case 4:if((n&4194176)===n){Zn(o,n,tn,!Gn);break t}break;case 2:vn=null;break;case 3:case 5:break;default:throw Error(l(329))}if(o.finishedWork=s,o.finishedLanes=n,(n&62914560)===n&&(g=yc+300-q(),10<g)){if(Zn(o,n,tn,!Gn),Ql(o,0)!==0)break t;o.timeoutHandle=cm(Yg.bind(null,o,s,vn,Cr,pc,n,tn,Ii,Ga,Gn,2,-0,0),g);break t}Yg(o,s,vn,Cr,pc,n,tn,Ii,Ga,Gn,0,-0,0)}}break}while(!0);xn(t)}function _c(t){vn===null?vn=t:vn.push.apply(vn,t)}function Yg(t,n,s,o,f,g,y,x,E,R,G,Z,H){var F=n.subtreeFlags;if((F&8192||(F&16785408)===16785408)&&(Is={stylesheets:null,count:0,unsuspend:Nv},Rg(n),n=Lv(),n!==null)){t.cancelPendingCommit=n(Kg.bind(null,t,s,o,f,y,x,E,1,Z,H)),Zn(t,g,y,!R);return}Kg(t,s,o,f,y,x,E,G,Z,H)}function Ib(t){for(var n=t;;){var s=n.tag;if((s===0||s===11||s===15)&&n.flags&16384&&(s=n.updateQueue,s!==null&&(s=s.stores,s!==null)))for(var o=0;o<s.length;o++){var f=s[o],g=f.getSnapshot;f=f.value;try{if(!Be(g(),f))return!1}catch{return!1}}if(s=n.child,n.subtreeFlags&16384&&s!==null)s.return=n,n=s;else{if(n===t)break;for(;n.sibling===null;){if(n.return===null||n.return===t)return!0;n=n.return}n.sibling.return=n.return,n=n.sibling}}return!0}function Zn(t,n,s,o){n&=~mc,n&=~Ii,t.suspendedLanes|=n,t.pingedLanes&=~n,o&&(t.warmLanes|=n),o=t.expirationTimes;for(var f=n;0<f;){var g=31-Me(f),y=1<<g;o[g]=-1,f&=~y}s!==0&&nh(t,s,n)}function Nr(){return(Kt&6)===0?(Ks(0),!1):!0}function Sc(){if(Mt!==null){if(Yt===0)var t=Mt.return;else t=Mt,Un=Wi=null,Du(t),Na=null,Ds=0,t=Mt;for(;t!==null;)Bg(t.alternate,t),t=t.return;Mt=null}}function Qa(t,n){t.finishedWork=null,t.finishedLanes=0;var s=t.timeoutHandle;s!==-1&&(t.timeoutHandle=-1,bv(s)),s=t.cancelPendingCommit,s!==null&&(t.cancelPendingCommit=null,s()),Sc(),Vt=t,Mt=s=yi(t.current,null),Ot=n,Yt=0,Ye=null,Gn=!1,Xa=cs(t,n),gc=!1,Ga=tn=mc=Ii=bi=$t=0,vn=Gs=null,pc=!1,(n&8)!==0&&(n|=n&32);var o=t.entangledLanes;if(o!==0)for(t=t.entanglements,o&=n;0<o;){var f=31-Me(o),g=1<<f;n|=t[f],o&=~g}return Qn=n,ar(),s}function qg(t,n){Et=null,X.H=bn,n===Ms?(n=id(),Yt=3):n===td?(n=id(),Yt=4):Yt=n===eg?8:n!==null&&typeof n=="object"&&typeof n.then=="function"?6:1,Ye=n,Mt===null&&($t=1,Er(t,Ze(n,t.current)))}function Fg(){var t=X.H;return X.H=bn,t===null?bn:t}function Xg(){var t=X.A;return X.A=$b,t}function wc(){$t=4,Gn||(Ot&4194176)!==Ot&&Pe.current!==null||(Xa=!0),(bi&134217727)===0&&(Ii&134217727)===0||Vt===null||Zn(Vt,Ot,tn,!1)}function Ec(t,n,s){var o=Kt;Kt|=2;var f=Fg(),g=Xg();(Vt!==t||Ot!==n)&&(Cr=null,Qa(t,n)),n=!1;var y=$t;t:do try{if(Yt!==0&&Mt!==null){var x=Mt,E=Ye;switch(Yt){case 8:Sc(),y=6;break t;case 3:case 2:case 6:Pe.current===null&&(n=!0);var R=Yt;if(Yt=0,Ye=null,Za(t,x,E,R),s&&Xa){y=0;break t}break;default:R=Yt,Yt=0,Ye=null,Za(t,x,E,R)}}tv(),y=$t;break}catch(G){qg(t,G)}while(!0);return n&&t.shellSuspendCounter++,Un=Wi=null,Kt=o,X.H=f,X.A=g,Mt===null&&(Vt=null,Ot=0,ar()),y}function tv(){for(;Mt!==null;)Gg(Mt)}function ev(t,n){var s=Kt;Kt|=2;var o=Fg(),f=Xg();Vt!==t||Ot!==n?(Cr=null,Rr=q()+500,Qa(t,n)):Xa=cs(t,n);t:do try{if(Yt!==0&&Mt!==null){n=Mt;var g=Ye;e:switch(Yt){case 1:Yt=0,Ye=null,Za(t,n,g,1);break;case 2:if(ed(g)){Yt=0,Ye=null,Qg(n);break}n=function(){Yt===2&&Vt===t&&(Yt=7),xn(t)},g.then(n,n);break t;case 3:Yt=7;break t;case 4:Yt=5;break t;case 7:ed(g)?(Yt=0,Ye=null,Qg(n)):(Yt=0,Ye=null,Za(t,n,g,7));break;case 5:var y=null;switch(Mt.tag){case 26:y=Mt.memoizedState;case 5:case 27:var x=Mt;if(!y||_m(y)){Yt=0,Ye=null;var E=x.sibling;if(E!==null)Mt=E;else{var R=x.return;R!==null?(Mt=R,jr(R)):Mt=null}break e}}Yt=0,Ye=null,Za(t,n,g,5);break;case 6:Yt=0,Ye=null,Za(t,n,g,6);break;case 8:Sc(),$t=6;break t;default:throw Error(l(462))}}nv();break}catch(G){qg(t,G)}while(!0);return Un=Wi=null,X.H=o,X.A=f,Kt=s,Mt!==null?0:(Vt=null,Ot=0,ar(),$t)}function nv(){for(;Mt!==null&&!D();)Gg(Mt)}function Gg(t){var n=dg(t.alternate,t,Qn);t.memoizedProps=t.pendingProps,n===null?jr(t):Mt=n}function Qg(t){var n=t,s=n.alternate;switch(n.tag){case 15:case 0:n=rg(s,n,n.pendingProps,n.type,void 0,Ot);break;case 11:n=rg(s,n,n.pendingProps,n.type.render,n.ref,Ot);break;case 5:Du(n);default:Bg(s,n),n=Mt=jg(n,Qn),n=dg(s,n,Qn)}t.memoizedProps=t.pendingProps,n===null?jr(t):Mt=n}function Za(t,n,s,o){Un=Wi=null,Du(n),Na=null,Ds=0;var f=n.return;try{if(Xb(t,f,n,s,Ot)){$t=1,Er(t,Ze(s,t.current)),Mt=null;return}}catch(g){if(f!==null)throw Mt=f,g;$t=1,Er(t,Ze(s,t.current)),Mt=null;return}n.flags&32768?(Ct||o===1?t=!0:Xa||(Ot&536870912)!==0?t=!1:(Gn=t=!0,(o===2||o===3||o===6)&&(o=Pe.current,o!==null&&o.tag===13&&(o.flags|=16384))),Zg(n,t)):jr(n)}function jr(t){var n=t;do{if((n.flags&32768)!==0){Zg(n,Gn);return}t=n.return;var s=Wb(n.alternate,n,Qn);if(s!==null){Mt=s;return}if(n=n.sibling,n!==null){Mt=n;return}Mt=n=t}while(n!==null);$t===0&&($t=5)}function Zg(t,n){do{var s=Pb(t.alternate,t);if(s!==null){s.flags&=32767,Mt=s;return}if(s=t.return,s!==null&&(s.flags|=32768,s.subtreeFlags=0,s.deletions=null),!n&&(t=t.sibling,t!==null)){Mt=t;return}Mt=t=s}while(t!==null);$t=6,Mt=null}function Kg(t,n,s,o,f,g,y,x,E,R){var G=X.T,Z=it.p;try{it.p=2,X.T=null,iv(t,n,s,o,Z,f,g,y,x,E,R)}finally{X.T=G,it.p=Z}}function iv(t,n,s,o,f,g,y,x){do Ka();while(ta!==null);if((Kt&6)!==0)throw Error(l(327));var E=t.finishedWork;if(o=t.finishedLanes,E===null)return null;if(t.finishedWork=null,t.finishedLanes=0,E===t.current)throw Error(l(177));t.callbackNode=null,t.callbackPriority=0,t.cancelPendingCommit=null;var R=E.lanes|E.childLanes;if(R|=du,j0(t,o,R,g,y,x),t===Vt&&(Mt=Vt=null,Ot=0),(E.subtreeFlags&10256)===0&&(E.flags&10256)===0||kr||(kr=!0,bc=R,vc=s,rv(ot,function(){return Ka(),null})),s=(E.flags&15990)!==0,(E.subtreeFlags&15990)!==0||s?(s=X.T,X.T=null,g=it.p,it.p=2,y=Kt,Kt|=4,Qb(t,E),Dg(E,t),Ab(Lc,t.containerInfo),Zr=!!jc,Lc=jc=null,t.current=E,Eg(t,E.alternate,E),B(),Kt=y,it.p=g,X.T=s):t.current=E,kr?(kr=!1,ta=t,Qs=o):Wg(t,R),R=t.pendingLanes,R===0&&(vi=null),Xo(E.stateNode),xn(t),n!==null)for(f=t.onRecoverableError,E=0;E<n.length;E++)R=n[E],f(R.value,{componentStack:R.stack});return(Qs&3)!==0&&Ka(),R=t.pendingLanes,(o&4194218)!==0&&(R&42)!==0?t===xc?Zs++:(Zs=0,xc=t):Zs=0,Ks(0),null}function Wg(t,n){(t.pooledCacheLanes&=n)===0&&(n=t.pooledCache,n!=null&&(t.pooledCache=null,zs(n)))}function Ka(){if(ta!==null){var t=ta,n=bc;bc=0;var s=ah(Qs),o=X.T,f=it.p;try{if(it.p=32>s?32:s,X.T=null,ta===null)var g=!1;else{s=vc,vc=null;var y=ta,x=Qs;if(ta=null,Qs=0,(Kt&6)!==0)throw Error(l(331));var E=Kt;if(Kt|=4,kg(y.current),zg(y,y.current,x,s),Kt=E,Ks(0,!1),me&&typeof me.onPostCommitFiberRoot=="function")try{me.onPostCommitFiberRoot(Rn,y)}catch{}g=!0}return g}finally{it.p=f,X.T=o,Wg(t,n)}}return!1}function Pg(t,n,s){n=Ze(s,n),n=qu(t.stateNode,n,2),t=di(t,n,2),t!==null&&(fs(t,2),xn(t))}function Ut(t,n,s){if(t.tag===3)Pg(t,t,s);else for(;n!==null;){if(n.tag===3){Pg(n,t,s);break}else if(n.tag===1){var o=n.stateNode;if(typeof n.type.getDerivedStateFromError=="function"||typeof o.componentDidCatch=="function"&&(vi===null||!vi.has(o))){t=Ze(s,t),s=Id(2),o=di(n,s,2),o!==null&&(tg(s,o,n,t),fs(o,2),xn(o));break}}n=n.return}}function Tc(t,n,s){var o=t.pingCache;if(o===null){o=t.pingCache=new Jb;var f=new Set;o.set(n,f)}else f=o.get(n),f===void 0&&(f=new Set,o.set(n,f));f.has(s)||(gc=!0,f.add(s),t=av.bind(null,t,n,s),n.then(t,t))}function av(t,n,s){var o=t.pingCache;o!==null&&o.delete(n),t.pingedLanes|=t.suspendedLanes&s,t.warmLanes&=~s,Vt===t&&(Ot&s)===s&&($t===4||$t===3&&(Ot&62914560)===Ot&&300>q()-yc?(Kt&2)===0&&Qa(t,0):mc|=s,Ga===Ot&&(Ga=0)),xn(t)}function $g(t,n){n===0&&(n=eh()),t=si(t,n),t!==null&&(fs(t,n),xn(t))}function sv(t){var n=t.memoizedState,s=0;n!==null&&(s=n.retryLane),$g(t,s)}function lv(t,n){var s=0;switch(t.tag){case 13:var o=t.stateNode,f=t.memoizedState;f!==null&&(s=f.retryLane);break;case 19:o=t.stateNode;break;case 22:o=t.stateNode._retryCache;break;default:throw Error(l(314))}o!==null&&o.delete(n),$g(t,s)}function rv(t,n){return ql(t,n)}var Lr=null,Wa=null,Mc=!1,Hr=!1,Ac=!1,ea=0;function xn(t){t!==Wa&&t.next===null&&(Wa===null?Lr=Wa=t:Wa=Wa.next=t),Hr=!0,Mc||(Mc=!0,uv(ov))}function Ks(t,n){if(!Ac&&Hr){Ac=!0;do for(var s=!1,o=Lr;o!==null;){if(t!==0){var f=o.pendingLanes;if(f===0)var g=0;else{var y=o.suspendedLanes,x=o.pingedLanes;g=(1<<31-Me(42|t)+1)-1,g&=f&~(y&~x),g=g&201326677?g&201326677|1:g?g|2:0}g!==0&&(s=!0,tm(o,g))}else g=Ot,g=Ql(o,o===Vt?g:0),(g&3)===0||cs(o,g)||(s=!0,tm(o,g));o=o.next}while(s);Ac=!1}}function ov(){Hr=Mc=!1;var t=0;ea!==0&&(yv()&&(t=ea),ea=0);for(var n=q(),s=null,o=Lr;o!==null;){var f=o.next,g=Jg(o,n);g===0?(o.next=null,s===null?Lr=f:s.next=f,f===null&&(Wa=s)):(s=o,(t!==0||(g&3)!==0)&&(Hr=!0)),o=f}Ks(t)}function Jg(t,n){for(var s=t.suspendedLanes,o=t.pingedLanes,f=t.expirationTimes,g=t.pendingLanes&-62914561;0<g;){var y=31-Me(g),x=1<<y,E=f[y];E===-1?((x&s)===0||(x&o)!==0)&&(f[y]=N0(x,n)):E<=n&&(t.expiredLanes|=x),g&=~x}if(n=Vt,s=Ot,s=Ql(t,t===n?s:0),o=t.callbackNode,s===0||t===n&&Yt===2||t.cancelPendingCommit!==null)return o!==null&&o!==null&&ba(o),t.callbackNode=null,t.callbackPriority=0;if((s&3)===0||cs(t,s)){if(n=s&-s,n===t.callbackPriority)return n;switch(o!==null&&ba(o),ah(s)){case 2:case 8:s=I;break;case 32:s=ot;break;case 268435456:s=Qt;break;default:s=ot}return o=Ig.bind(null,t),s=ql(s,o),t.callbackPriority=n,t.callbackNode=s,n}return o!==null&&o!==null&&ba(o),t.callbackPriority=2,t.callbackNode=null,2}function Ig(t,n){var s=t.callbackNode;if(Ka()&&t.callbackNode!==s)return null;var o=Ot;return o=Ql(t,t===Vt?o:0),o===0?null:(Vg(t,o,n),Jg(t,q()),t.callbackNode!=null&&t.callbackNode===s?Ig.bind(null,t):null)}function tm(t,n){if(Ka())return null;Vg(t,n,!0)}function uv(t){vv(function(){(Kt&6)!==0?ql(nt,t):t()})}function Dc(){return ea===0&&(ea=th()),ea}function em(t){return t==null||typeof t=="symbol"||typeof t=="boolean"?null:typeof t=="function"?t:$l(""+t)}function nm(t,n){var s=n.ownerDocument.createElement("input");return s.name=n.name,s.value=n.value,t.id&&s.setAttribute("form",t.id),n.parentNode.insertBefore(s,n),t=new FormData(t),s.parentNode.removeChild(s),t}function cv(t,n,s,o,f){if(n==="submit"&&s&&s.stateNode===f){var g=em((f[Ce]||null).action),y=o.submitter;y&&(n=(n=y[Ce]||null)?em(n.formAction):y.getAttribute("formAction"),n!==null&&(g=n,y=null));var x=new er("action","action",null,o,f);t.push({event:x,listeners:[{instance:null,listener:function(){if(o.defaultPrevented){if(ea!==0){var E=y?nm(f,y):new FormData(f);Hu(s,{pending:!0,data:E,method:f.method,action:g},null,E)}}else typeof g=="function"&&(x.preventDefault(),E=y?nm(f,y):new FormData(f),Hu(s,{pending:!0,data:E,method:f.method,action:g},g,E))},currentTarget:f}]})}}for(var Oc=0;Oc<Kh.length;Oc++){var zc=Kh[Oc],fv=zc.toLowerCase(),hv=zc[0].toUpperCase()+zc.slice(1);rn(fv,"on"+hv)}rn(Fh,"onAnimationEnd"),rn(Xh,"onAnimationIteration"),rn(Gh,"onAnimationStart"),rn("dblclick","onDoubleClick"),rn("focusin","onFocus"),rn("focusout","onBlur"),rn(Ob,"onTransitionRun"),rn(zb,"onTransitionStart"),rn(Rb,"onTransitionCancel"),rn(Qh,"onTransitionEnd"),Sa("onMouseEnter",["mouseout","mouseover"]),Sa("onMouseLeave",["mouseout","mouseover"]),Sa("onPointerEnter",["pointerout","pointerover"]),Sa("onPointerLeave",["pointerout","pointerover"]),Li("onChange","change click focusin focusout input keydown keyup selectionchange".split(" ")),Li("onSelect","focusout contextmenu dragend focusin keydown keyup mousedown mouseup selectionchange".split(" ")),Li("onBeforeInput",["compositionend","keypress","textInput","paste"]),Li("onCompositionEnd","compositionend focusout keydown keypress keyup mousedown".split(" ")),Li("onCompositionStart","compositionstart focusout keydown keypress keyup mousedown".split(" ")),Li("onCompositionUpdate","compositionupdate focusout keydown keypress keyup mousedown".split(" "));var Ws="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange resize seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),dv=new Set("beforetoggle cancel close invalid load scroll scrollend toggle".split(" ").concat(Ws));function im(t,n){n=(n&4)!==0;for(var s=0;s<t.length;s++){var o=t[s],f=o.event;o=o.listeners;t:{var g=void 0;if(n)for(var y=o.length-1;0<=y;y--){var x=o[y],E=x.instance,R=x.currentTarget;if(x=x.listener,E!==g&&f.isPropagationStopped())break t;g=x,f.currentTarget=R;try{g(f)}catch(G){wr(G)}f.currentTarget=null,g=E}else for(y=0;y<o.length;y++){if(x=o[y],E=x.instance,R=x.currentTarget,x=x.listener,E!==g&&f.isPropagationStopped())break t;g=x,f.currentTarget=R;try{g(f)}catch(G){wr(G)}f.currentTarget=null,g=E}}}}function At(t,n){var s=n[Qo];s===void 0&&(s=n[Qo]=new Set);var o=t+"__bubble";s.has(o)||(am(n,t,2,!1),s.add(o))}function Rc(t,n,s){var o=0;n&&(o|=4),am(s,t,o,n)}var Br="_reactListening"+Math.random().toString(36).slice(2);function Cc(t){if(!t[Br]){t[Br]=!0,rh.forEach(function(s){s!=="selectionchange"&&(dv.has(s)||Rc(s,!1,t),Rc(s,!0,t))});var n=t.nodeType===9?t:t.ownerDocument;n===null||n[Br]||(n[Br]=!0,Rc("selectionchange",!1,n))}}function am(t,n,s,o){switch(Am(n)){case 2:var f=Uv;break;case 8:f=Vv;break;default:f=Gc}s=f.bind(null,n,s,t),f=void 0,!tu||n!=="touchstart"&&n!=="touchmove"&&n!=="wheel"||(f=!0),o?f!==void 0?t.addEventListener(n,s,{capture:!0,passive:f}):t.addEventListener(n,s,!0):f!==void 0?t.addEventListener(n,s,{passive:f}):t.addEventListener(n,s,!1)}function kc(t,n,s,o,f){var g=o;if((n&1)===0&&(n&2)===0&&o!==null)t:for(;;){if(o===null)return;var y=o.tag;if(y===3||y===4){var x=o.stateNode.containerInfo;if(x===f||x.nodeType===8&&x.parentNode===f)break;if(y===4)for(y=o.return;y!==null;){var E=y.tag;if((E===3||E===4)&&(E=y.stateNode.containerInfo,E===f||E.nodeType===8&&E.parentNode===f))return;y=y.return}for(;x!==null;){if(y=ji(x),y===null)return;if(E=y.tag,E===5||E===6||E===26||E===27){o=g=y;continue t}x=x.parentNode}}o=o.return}vh(function(){var R=g,G=Jo(s),Z=[];t:{var H=Zh.get(t);if(H!==void 0){var F=er,mt=t;switch(t){case"keypress":if(Il(s)===0)break t;case"keydown":case"keyup":F=lb;break;case"focusin":mt="focus",F=au;break;case"focusout":mt="blur",F=au;break;case"beforeblur":case"afterblur":F=au;break;case"click":if(s.button===2)break t;case"auxclick":case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":F=Sh;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":F=K0;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":F=ub;break;case Fh:case Xh:case Gh:F=$0;break;case Qh:F=fb;break;case"scroll":case"scrollend":F=Q0;break;case"wheel":F=db;break;case"copy":case"cut":case"paste":F=I0;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":F=Eh;break;case"toggle":case"beforetoggle":F=mb}var vt=(n&4)!==0,Jt=!vt&&(t==="scroll"||t==="scrollend"),k=vt?H!==null?H+"Capture":null:H;vt=[];for(var z=R,L;z!==null;){var Q=z;if(L=Q.stateNode,Q=Q.tag,Q!==5&&Q!==26&&Q!==27||L===null||k===null||(Q=gs(z,k),Q!=null&&vt.push(Ps(z,Q,L))),Jt)break;z=z.return}0<vt.length&&(H=new F(H,mt,null,s,G),Z.push({event:H,listeners:vt}))}}if((n&7)===0){t:{if(H=t==="mouseover"||t==="pointerover",F=t==="mouseout"||t==="pointerout",H&&s!==$o&&(mt=s.relatedTarget||s.fromElement)&&(ji(mt)||mt[va]))break t;if((F||H)&&(H=G.window===G?G:(H=G.ownerDocument)?H.defaultView||H.parentWindow:window,F?(mt=s.relatedTarget||s.toElement,F=R,mt=mt?ji(mt):null,mt!==null&&(Jt=ut(mt),vt=mt.tag,mt!==Jt||vt!==5&&vt!==27&&vt!==6)&&(mt=null)):(F=null,mt=R),F!==mt)){if(vt=Sh,Q="onMouseLeave",k="onMouseEnter",z="mouse",(t==="pointerout"||t==="pointerover")&&(vt=Eh,Q="onPointerLeave",k="onPointerEnter",z="pointer"),Jt=F==null?H:ds(F),L=mt==null?H:ds(mt),H=new vt(Q,z+"leave",F,s,G),H.target=Jt,H.relatedTarget=L,Q=null,ji(G)===R&&(vt=new vt(k,z+"enter",mt,s,G),vt.target=L,vt.relatedTarget=Jt,Q=vt),Jt=Q,F&&mt)e:{for(vt=F,k=mt,z=0,L=vt;L;L=Pa(L))z++;for(L=0,Q=k;Q;Q=Pa(Q))L++;for(;0<z-L;)vt=Pa(vt),z--;for(;0<L-z;)k=Pa(k),L--;for(;z--;){if(vt===k||k!==null&&vt===k.alternate)break e;vt=Pa(vt),k=Pa(k)}vt=null}else vt=null;F!==null&&sm(Z,H,F,vt,!1),mt!==null&&Jt!==null&&sm(Z,Jt,mt,vt,!0)}}t:{if(H=R?ds(R):window,F=H.nodeName&&H.nodeName.toLowerCase(),F==="select"||F==="input"&&H.type==="file")var ft=Ch;else if(zh(H))if(kh)ft=Tb;else{ft=wb;var Tt=Sb}else F=H.nodeName,!F||F.toLowerCase()!=="input"||H.type!=="checkbox"&&H.type!=="radio"?R&&Po(R.elementType)&&(ft=Ch):ft=Eb;if(ft&&(ft=ft(t,R))){Rh(Z,ft,s,G);break t}Tt&&Tt(t,H,R),t==="focusout"&&R&&H.type==="number"&&R.memoizedProps.value!=null&&Wo(H,"number",H.value)}switch(Tt=R?ds(R):window,t){case"focusin":(zh(Tt)||Tt.contentEditable==="true")&&(Da=Tt,cu=R,Ss=null);break;case"focusout":Ss=cu=Da=null;break;case"mousedown":fu=!0;break;case"contextmenu":case"mouseup":case"dragend":fu=!1,Yh(Z,s,G);break;case"selectionchange":if(Db)break;case"keydown":case"keyup":Yh(Z,s,G)}var pt;if(lu)t:{switch(t){case"compositionstart":var yt="onCompositionStart";break t;case"compositionend":yt="onCompositionEnd";break t;case"compositionupdate":yt="onCompositionUpdate";break t}yt=void 0}else Aa?Dh(t,s)&&(yt="onCompositionEnd"):t==="keydown"&&s.keyCode===229&&(yt="onCompositionStart");yt&&(Th&&s.locale!=="ko"&&(Aa||yt!=="onCompositionStart"?yt==="onCompositionEnd"&&Aa&&(pt=xh()):(ai=G,eu="value"in ai?ai.value:ai.textContent,Aa=!0)),Tt=Ur(R,yt),0<Tt.length&&(yt=new wh(yt,t,null,s,G),Z.push({event:yt,listeners:Tt}),pt?yt.data=pt:(pt=Oh(s),pt!==null&&(yt.data=pt)))),(pt=yb?bb(t,s):vb(t,s))&&(yt=Ur(R,"onBeforeInput"),0<yt.length&&(Tt=new wh("onBeforeInput","beforeinput",null,s,G),Z.push({event:Tt,listeners:yt}),Tt.data=pt)),cv(Z,t,R,s,G)}im(Z,n)})}function Ps(t,n,s){return{instance:t,listener:n,currentTarget:s}}function Ur(t,n){for(var s=n+"Capture",o=[];t!==null;){var f=t,g=f.stateNode;f=f.tag,f!==5&&f!==26&&f!==27||g===null||(f=gs(t,s),f!=null&&o.unshift(Ps(t,f,g)),f=gs(t,n),f!=null&&o.push(Ps(t,f,g))),t=t.return}return o}function Pa(t){if(t===null)return null;do t=t.return;while(t&&t.tag!==5&&t.tag!==27);return t||null}function sm(t,n,s,o,f){for(var g=n._reactName,y=[];s!==null&&s!==o;){var x=s,E=x.alternate,R=x.stateNode;if(x=x.tag,E!==null&&E===o)break;x!==5&&x!==26&&x!==27||R===null||(E=R,f?(R=gs(s,g),R!=null&&y.unshift(Ps(s,R,E))):f||(R=gs(s,g),R!=null&&y.push(Ps(s,R,E)))),s=s.return}y.length!==0&&t.push({event:n,listeners:y})}var gv=/\r\n?/g,mv=/\u0000|\uFFFD/g;function lm(t){return(typeof t=="string"?t:""+t).replace(gv,`
+`).replace(mv,"")}function rm(t,n){return n=lm(n),lm(t)===n}function Vr(){}function Ht(t,n,s,o,f,g){switch(s){case"children":typeof o=="string"?n==="body"||n==="textarea"&&o===""||Ea(t,o):(typeof o=="number"||typeof o=="bigint")&&n!=="body"&&Ea(t,""+o);break;case"className":Kl(t,"class",o);break;case"tabIndex":Kl(t,"tabindex",o);break;case"dir":case"role":case"viewBox":case"width":case"height":Kl(t,s,o);break;case"style":yh(t,o,g);break;case"data":if(n!=="object"){Kl(t,"data",o);break}case"src":case"href":if(o===""&&(n!=="a"||s!=="href")){t.removeAttribute(s);break}if(o==null||typeof o=="function"||typeof o=="symbol"||typeof o=="boolean"){t.removeAttribute(s);break}o=$l(""+o),t.setAttribute(s,o);break;case"action":case"formAction":if(typeof o=="function"){t.setAttribute(s,"javascript:throw new Error('A React form was unexpectedly submitted. If you called form.submit() manually, consider using form.requestSubmit() instead. If you\\'re trying to use event.stopPropagation() in a submit event handler, consider also calling event.preventDefault().')");break}else typeof g=="function"&&(s==="formAction"?(n!=="input"&&Ht(t,n,"name",f.name,f,null),Ht(t,n,"formEncType",f.formEncType,f,null),Ht(t,n,"formMethod",f.formMethod,f,null),Ht(t,n,"formTarget",f.formTarget,f,null)):(Ht(t,n,"encType",f.encType,f,null),Ht(t,n,"method",f.method,f,null),Ht(t,n,"target",f.target,f,null)));if(o==null||typeof o=="symbol"||typeof o=="boolean"){t.removeAttribute(s);break}o=$l(""+o),t.setAttribute(s,o);break;case"onClick":o!=null&&(t.onclick=Vr);break;case"onScroll":o!=null&&At("scroll",t);break;case"onScrollEnd":o!=null&&At("scrollend",t);break;case"dangerouslySetInnerHTML":if(o!=null){if(typeof o!="object"||!("__html"in o))throw Error(l(61));if(s=o.__html,s!=null){if(f.children!=null)throw Error(l(60));t.innerHTML=s}}break;case"multiple":t.multiple=o&&typeof o!="function"&&typeof o!="symbol";break;case"muted":t.muted=o&&typeof o!="function"&&typeof o!="symbol";break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"defaultValue":case"defaultChecked":case"innerHTML":case"ref":break;case"autoFocus":break;case"xlinkHref":if(o==null||typeof o=="function"||typeof o=="boolean"||typeof o=="symbol"){t.removeAttribute("xlink:href");break}s=$l(""+o),t.setAttributeNS("http://www.w3.org/1999/xlink","xlink:href",s);break;case"contentEditable":case"spellCheck":case"draggable":case"value":case"autoReverse":case"externalResourcesRequired":case"focusable":case"preserveAlpha":o!=null&&typeof o!="function"&&typeof o!="symbol"?t.setAttribute(s,""+o):t.removeAttribute(s);break;case"inert":case"allowFullScreen":case"async":case"autoPlay":case"controls":case"default":case"defer":case"disabled":case"disablePictureInPicture":case"disableRemotePlayback":case"formNoValidate":case"hidden":case"loop":case"noModule":case"noValidate":case"open":case"playsInline":case"readOnly":case"required":case"reversed":case"scoped":case"seamless":case"itemScope":o&&typeof o!="function"&&typeof o!="symbol"?t.setAttribute(s,""):t.removeAttribute(s);break;case"capture":case"download":o===!0?t.setAttribute(s,""):o!==!1&&o!=null&&typeof o!="function"&&typeof o!="symbol"?t.setAttribute(s,o):t.removeAttribute(s);break;case"cols":case"rows":case"size":case"span":o!=null&&typeof o!="function"&&typeof o!="symbol"&&!isNaN(o)&&1<=o?t.setAttribute(s,o):t.removeAttribute(s);break;case"rowSpan":case"start":o==null||typeof o=="function"||typeof o=="symbol"||isNaN(o)?t.removeAttribute(s):t.setAttribute(s,o);break;case"popover":At("beforetoggle",t),At("toggle",t),Zl(t,"popover",o);break;case"xlinkActuate":kn(t,"http://www.w3.org/1999/xlink","xlink:actuate",o);break;case"xlinkArcrole":kn(t,"http://www.w3.org/1999/xlink","xlink:arcrole",o);break;case"xlinkRole":kn(t,"http://www.w3.org/1999/xlink","xlink:role",o);break;case"xlinkShow":kn(t,"http://www.w3.org/1999/xlink","xlink:show",o);break;case"xlinkTitle":kn(t,"http://www.w3.org/1999/xlink","xlink:title",o);break;case"xlinkType":kn(t,"http://www.w3.org/1999/xlink","xlink:type",o);break;case"xmlBase":kn(t,"http://www.w3.org/XML/1998/namespace","xml:base",o);break;case"xmlLang":kn(t,"http://www.w3.org/XML/1998/namespace","xml:lang",o);break;case"xmlSpace":kn(t,"http://www.w3.org/XML/1998/namespace","xml:space",o);break;case"is":Zl(t,"is",o);break;case"innerText":case"textContent":break;default:(!(2<s.length)||s[0]!=="o"&&s[0]!=="O"||s[1]!=="n"&&s[1]!=="N")&&(s=X0.get(s)||s,Zl(t,s,o))}}function Nc(t,n,s,o,f,g){switch(s){case"style":yh(t,o,g);break;case"dangerouslySetInnerHTML":if(o!=null){if(typeof o!="object"||!("__html"in o))throw Error(l(61));if(s=o.__html,s!=null){if(f.children!=null)throw Error(l(60));t.innerHTML=s}}break;case"children":typeof o=="string"?Ea(t,o):(typeof o=="number"||typeof o=="bigint")&&Ea(t,""+o);break;case"onScroll":o!=null&&At("scroll",t);break;case"onScrollEnd":o!=null&&At("scrollend",t);break;case"onClick":o!=null&&(t.onclick=Vr);break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"innerHTML":case"ref":break;case"innerText":case"textContent":break;default:if(!oh.hasOwnProperty(s))t:{if(s[0]==="o"&&s[1]==="n"&&(f=s.endsWith("Capture"),n=s.slice(2,f?s.length-7:void 0),g=t[Ce]||null,g=g!=null?g[s]:null,typeof g=="function"&&t.removeEventListener(n,g,f),typeof o=="function")){typeof g!="function"&&g!==null&&(s in t?t[s]=null:t.hasAttribute(s)&&t.removeAttribute(s)),t.addEventListener(n,o,f);break t}s in t?t[s]=o:o===!0?t.setAttribute(s,""):Zl(t,s,o)}}}function be(t,n,s){switch(n){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"img":At("error",t),At("load",t);var o=!1,f=!1,g;for(g in s)if(s.hasOwnProperty(g)){var y=s[g];if(y!=null)switch(g){case"src":o=!0;break;case"srcSet":f=!0;break;case"children":case"dangerouslySetInnerHTML":throw Error(l(137,n));default:Ht(t,n,g,y,s,null)}}f&&Ht(t,n,"srcSet",s.srcSet,s,null),o&&Ht(t,n,"src",s.src,s,null);return;case"input":At("invalid",t);var x=g=y=f=null,E=null,R=null;for(o in s)if(s.hasOwnProperty(o)){var G=s[o];if(G!=null)switch(o){case"name":f=G;break;case"type":y=G;break;case"checked":E=G;break;case"defaultChecked":R=G;break;case"value":g=G;break;case"defaultValue":x=G;break;case"children":case"dangerouslySetInnerHTML":if(G!=null)throw Error(l(137,n));break;default:Ht(t,n,o,G,s,null)}}dh(t,g,x,E,R,y,f,!1),Wl(t);return;case"select":At("invalid",t),o=y=g=null;for(f in s)if(s.hasOwnProperty(f)&&(x=s[f],x!=null))switch(f){case"value":g=x;break;case"defaultValue":y=x;break;case"multiple":o=x;default:Ht(t,n,f,x,s,null)}n=g,s=y,t.multiple=!!o,n!=null?wa(t,!!o,n,!1):s!=null&&wa(t,!!o,s,!0);return;case"textarea":At("invalid",t),g=f=o=null;for(y in s)if(s.hasOwnProperty(y)&&(x=s[y],x!=null))switch(y){case"value":o=x;break;case"defaultValue":f=x;break;case"children":g=x;break;case"dangerouslySetInnerHTML":if(x!=null)throw Error(l(91));break;default:Ht(t,n,y,x,s,null)}mh(t,o,f,g),Wl(t);return;case"option":for(E in s)if(s.hasOwnProperty(E)&&(o=s[E],o!=null))switch(E){case"selected":t.selected=o&&typeof o!="function"&&typeof o!="symbol";break;default:Ht(t,n,E,o,s,null)}return;case"dialog":At("cancel",t),At("close",t);break;case"iframe":case"object":At("load",t);break;case"video":case"audio":for(o=0;o<Ws.length;o++)At(Ws[o],t);break;case"image":At("error",t),At("load",t);break;case"details":At("toggle",t);break;case"embed":case"source":case"link":At("error",t),At("load",t);case"area":case"base":case"br":case"col":case"hr":case"keygen":case"meta":case"param":case"track":case"wbr":case"menuitem":for(R in s)if(s.hasOwnProperty(R)&&(o=s[R],o!=null))switch(R){case"children":case"dangerouslySetInnerHTML":throw Error(l(137,n));default:Ht(t,n,R,o,s,null)}return;default:if(Po(n)){for(G in s)s.hasOwnProperty(G)&&(o=s[G],o!==void 0&&Nc(t,n,G,o,s,void 0));return}}for(x in s)s.hasOwnProperty(x)&&(o=s[x],o!=null&&Ht(t,n,x,o,s,null))}function pv(t,n,s,o){switch(n){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"input":var f=null,g=null,y=null,x=null,E=null,R=null,G=null;for(F in s){var Z=s[F];if(s.hasOwnProperty(F)&&Z!=null)switch(F){case"checked":break;case"value":break;case"defaultValue":E=Z;default:o.hasOwnProperty(F)||Ht(t,n,F,null,o,Z)}}for(var H in o){var F=o[H];if(Z=s[H],o.hasOwnProperty(H)&&(F!=null||Z!=null))switch(H){case"type":g=F;break;case"name":f=F;break;case"checked":R=F;break;case"defaultChecked":G=F;break;case"value":y=F;break;case"defaultValue":x=F;break;case"children":case"dangerouslySetInnerHTML":if(F!=null)throw Error(l(137,n));break;default:F!==Z&&Ht(t,n,H,F,o,Z)}}Ko(t,y,x,E,R,G,g,f);return;case"select":F=y=x=H=null;for(g in s)if(E=s[g],s.hasOwnProperty(g)&&E!=null)switch(g){case"value":break;case"multiple":F=E;default:o.hasOwnProperty(g)||Ht(t,n,g,null,o,E)}for(f in o)if(g=o[f],E=s[f],o.hasOwnProperty(f)&&(g!=null||E!=null))switch(f){case"value":H=g;break;case"defaultValue":x=g;break;case"multiple":y=g;default:g!==E&&Ht(t,n,f,g,o,E)}n=x,s=y,o=F,H!=null?wa(t,!!s,H,!1):!!o!=!!s&&(n!=null?wa(t,!!s,n,!0):wa(t,!!s,s?[]:"",!1));return;case"textarea":F=H=null;for(x in s)if(f=s[x],s.hasOwnProperty(x)&&f!=null&&!o.hasOwnProperty(x))switch(x){case"value":break;case"children":break;default:Ht(t,n,x,null,o,f)}for(y in o)if(f=o[y],g=s[y],o.hasOwnProperty(y)&&(f!=null||g!=null))switch(y){case"value":H=f;break;case"defaultValue":F=f;break;case"children":break;case"dangerouslySetInnerHTML":if(f!=null)throw Error(l(91));break;default:f!==g&&Ht(t,n,y,f,o,g)}gh(t,H,F);return;case"option":for(var mt in s)if(H=s[mt],s.hasOwnProperty(mt)&&H!=null&&!o.hasOwnProperty(mt))switch(mt){case"selected":t.selected=!1;break;default:Ht(t,n,mt,null,o,H)}for(E in o)if(H=o[E],F=s[E],o.hasOwnProperty(E)&&H!==F&&(H!=null||F!=null))switch(E){case"selected":t.selected=H&&typeof H!="function"&&typeof H!="symbol";break;default:Ht(t,n,E,H,o,F)}return;case"img":case"link":case"area":case"base":case"br":case"col":case"embed":case"hr":case"keygen":case"meta":case"param":case"source":case"track":case"wbr":case"menuitem":for(var vt in s)H=s[vt],s.hasOwnProperty(vt)&&H!=null&&!o.hasOwnProperty(vt)&&Ht(t,n,vt,null,o,H);for(R in o)if(H=o[R],F=s[R],o.hasOwnProperty(R)&&H!==F&&(H!=null||F!=null))switch(R){case"children":case"dangerouslySetInnerHTML":if(H!=null)throw Error(l(137,n));break;default:Ht(t,n,R,H,o,F)}return;default:if(Po(n)){for(var Jt in s)H=s[Jt],s.hasOwnProperty(Jt)&&H!==void 0&&!o.hasOwnProperty(Jt)&&Nc(t,n,Jt,void 0,o,H);for(G in o)H=o[G],F=s[G],!o.hasOwnProperty(G)||H===F||H===void 0&&F===void 0||Nc(t,n,G,H,o,F);return}}for(var k in s)H=s[k],s.hasOwnProperty(k)&&H!=null&&!o.hasOwnProperty(k)&&Ht(t,n,k,null,o,H);for(Z in o)H=o[Z],F=s[Z],!o.hasOwnProperty(Z)||H===F||H==null&&F==null||Ht(t,n,Z,H,o,F)}var jc=null,Lc=null;function Yr(t){return t.nodeType===9?t:t.ownerDocument}function om(t){switch(t){case"http://www.w3.org/2000/svg":return 1;case"http://www.w3.org/1998/Math/MathML":return 2;default:return 0}}function um(t,n){if(t===0)switch(n){case"svg":return 1;case"math":return 2;default:return 0}return t===1&&n==="foreignObject"?0:t}function Hc(t,n){return t==="textarea"||t==="noscript"||typeof n.children=="string"||typeof n.children=="number"||typeof n.children=="bigint"||typeof n.dangerouslySetInnerHTML=="object"&&n.dangerouslySetInnerHTML!==null&&n.dangerouslySetInnerHTML.__html!=null}var Bc=null;function yv(){var t=window.event;return t&&t.type==="popstate"?t===Bc?!1:(Bc=t,!0):(Bc=null,!1)}var cm=typeof setTimeout=="function"?setTimeout:void 0,bv=typeof clearTimeout=="function"?clearTimeout:void 0,fm=typeof Promise=="function"?Promise:void 0,vv=typeof queueMicrotask=="function"?queueMicrotask:typeof fm<"u"?function(t){return fm.resolve(null).then(t).catch(xv)}:cm;function xv(t){setTimeout(function(){throw t})}function Uc(t,n){var s=n,o=0;do{var f=s.nextSibling;if(t.removeChild(s),f&&f.nodeType===8)if(s=f.data,s==="/$"){if(o===0){t.removeChild(f),al(n);return}o--}else s!=="$"&&s!=="$?"&&s!=="$!"||o++;s=f}while(s);al(n)}function Vc(t){var n=t.firstChild;for(n&&n.nodeType===10&&(n=n.nextSibling);n;){var s=n;switch(n=n.nextSibling,s.nodeName){case"HTML":case"HEAD":case"BODY":Vc(s),Zo(s);continue;case"SCRIPT":case"STYLE":continue;case"LINK":if(s.rel.toLowerCase()==="stylesheet")continue}t.removeChild(s)}}function _v(t,n,s,o){for(;t.nodeType===1;){var f=s;if(t.nodeName.toLowerCase()!==n.toLowerCase()){if(!o&&(t.nodeName!=="INPUT"||t.type!=="hidden"))break}else if(o){if(!t[hs])switch(n){case"meta":if(!t.hasAttribute("itemprop"))break;return t;case"link":if(g=t.getAttribute("rel"),g==="stylesheet"&&t.hasAttribute("data-precedence"))break;if(g!==f.rel||t.getAttribute("href")!==(f.href==null?null:f.href)||t.getAttribute("crossorigin")!==(f.crossOrigin==null?null:f.crossOrigin)||t.getAttribute("title")!==(f.title==null?null:f.title))break;return t;case"style":if(t.hasAttribute("data-precedence"))break;return t;case"script":if(g=t.getAttribute("src"),(g!==(f.src==null?null:f.src)||t.getAttribute("type")!==(f.type==null?null:f.type)||t.getAttribute("crossorigin")!==(f.crossOrigin==null?null:f.crossOrigin))&&g&&t.hasAttribute("async")&&!t.hasAttribute("itemprop"))break;return t;default:return t}}else if(n==="input"&&t.type==="hidden"){var g=f.name==null?null:""+f.name;if(f.type==="hidden"&&t.getAttribute("name")===g)return t}else return t;if(t=cn(t.nextSibling),t===null)break}return null}function Sv(t,n,s){if(n==="")return null;for(;t.nodeType!==3;)if((t.nodeType!==1||t.nodeName!=="INPUT"||t.type!=="hidden")&&!s||(t=cn(t.nextSibling),t===null))return null;return t}function cn(t){for(;t!=null;t=t.nextSibling){var n=t.nodeType;if(n===1||n===3)break;if(n===8){if(n=t.data,n==="$"||n==="$!"||n==="$?"||n==="F!"||n==="F")break;if(n==="/$")return null}}return t}function hm(t){t=t.previousSibling;for(var n=0;t;){if(t.nodeType===8){var s=t.data;if(s==="$"||s==="$!"||s==="$?"){if(n===0)return t;n--}else s==="/$"&&n++}t=t.previousSibling}return null}function dm(t,n,s){switch(n=Yr(s),t){case"html":if(t=n.documentElement,!t)throw Error(l(452));return t;case"head":if(t=n.head,!t)throw Error(l(453));return t;case"body":if(t=n.body,!t)throw Error(l(454));return t;default:throw Error(l(451))}}var en=new Map,gm=new Set;function qr(t){return typeof t.getRootNode=="function"?t.getRootNode():t.ownerDocument}var Kn=it.d;it.d={f:wv,r:Ev,D:Tv,C:Mv,L:Av,m:Dv,X:zv,S:Ov,M:Rv};function wv(){var t=Kn.f(),n=Nr();return t||n}function Ev(t){var n=xa(t);n!==null&&n.tag===5&&n.type==="form"?Yd(n):Kn.r(t)}var $a=typeof document>"u"?null:document;function mm(t,n,s){var o=$a;if(o&&typeof n=="string"&&n){var f=Ge(n);f='link[rel="'+t+'"][href="'+f+'"]',typeof s=="string"&&(f+='[crossorigin="'+s+'"]'),gm.has(f)||(gm.add(f),t={rel:t,crossOrigin:s,href:n},o.querySelector(f)===null&&(n=o.createElement("link"),be(n,"link",t),fe(n),o.head.appendChild(n)))}}function Tv(t){Kn.D(t),mm("dns-prefetch",t,null)}function Mv(t,n){Kn.C(t,n),mm("preconnect",t,n)}function Av(t,n,s){Kn.L(t,n,s);var o=$a;if(o&&t&&n){var f='link[rel="preload"][as="'+Ge(n)+'"]';n==="image"&&s&&s.imageSrcSet?(f+='[imagesrcset="'+Ge(s.imageSrcSet)+'"]',typeof s.imageSizes=="string"&&(f+='[imagesizes="'+Ge(s.imageSizes)+'"]')):f+='[href="'+Ge(t)+'"]';var g=f;switch(n){case"style":g=Ja(t);break;case"script":g=Ia(t)}en.has(g)||(t=tt({rel:"preload",href:n==="image"&&s&&s.imageSrcSet?void 0:t,as:n},s),en.set(g,t),o.querySelector(f)!==null||n==="style"&&o.querySelector($s(g))||n==="script"&&o.querySelector(Js(g))||(n=o.createElement("link"),be(n,"link",t),fe(n),o.head.appendChild(n)))}}function Dv(t,n){Kn.m(t,n);var s=$a;if(s&&t){var o=n&&typeof n.as=="string"?n.as:"script",f='link[rel="modulepreload"][as="'+Ge(o)+'"][href="'+Ge(t)+'"]',g=f;switch(o){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":g=Ia(t)}if(!en.has(g)&&(t=tt({rel:"modulepreload",href:t},n),en.set(g,t),s.querySelector(f)===null)){switch(o){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":if(s.querySelector(Js(g)))return}o=s.createElement("link"),be(o,"link",t),fe(o),s.head.appendChild(o)}}}function Ov(t,n,s){Kn.S(t,n,s);var o=$a;if(o&&t){var f=_a(o).hoistableStyles,g=Ja(t);n=n||"default";var y=f.get(g);if(!y){var x={loading:0,preload:null};if(y=o.querySelector($s(g)))x.loading=5;else{t=tt({rel:"stylesheet",href:t,"data-precedence":n},s),(s=en.get(g))&&Yc(t,s);var E=y=o.createElement("link");fe(E),be(E,"link",t),E._p=new Promise(function(R,G){E.onload=R,E.onerror=G}),E.addEventListener("load",function(){x.loading|=1}),E.addEventListener("error",function(){x.loading|=2}),x.loading|=4,Fr(y,n,o)}y={type:"stylesheet",instance:y,count:1,state:x},f.set(g,y)}}}function zv(t,n){Kn.X(t,n);var s=$a;if(s&&t){var o=_a(s).hoistableScripts,f=Ia(t),g=o.get(f);g||(g=s.querySelector(Js(f)),g||(t=tt({src:t,async:!0},n),(n=en.get(f))&&qc(t,n),g=s.createElement("script"),fe(g),be(g,"link",t),s.head.appendChild(g)),g={type:"script",instance:g,count:1,state:null},o.set(f,g))}}function Rv(t,n){Kn.M(t,n);var s=$a;if(s&&t){var o=_a(s).hoistableScripts,f=Ia(t),g=o.get(f);g||(g=s.querySelector(Js(f)),g||(t=tt({src:t,async:!0,type:"module"},n),(n=en.get(f))&&qc(t,n),g=s.createElement("script"),fe(g),be(g,"link",t),s.head.appendChild(g)),g={type:"script",instance:g,count:1,state:null},o.set(f,g))}}function pm(t,n,s,o){var f=(f=mn.current)?qr(f):null;if(!f)throw Error(l(446));switch(t){case"meta":case"title":return null;case"style":return typeof s.precedence=="string"&&typeof s.href=="string"?(n=Ja(s.href),s=_a(f).hoistableStyles,o=s.get(n),o||(o={type:"style",instance:null,count:0,state:null},s.set(n,o)),o):{type:"void",instance:null,count:0,state:null};case"link":if(s.rel==="stylesheet"&&typeof s.href=="string"&&typeof s.precedence=="string"){t=Ja(s.href);var g=_a(f).hoistableStyles,y=g.get(t);if(y||(f=f.ownerDocument||f,y={type:"stylesheet",instance:null,count:0,state:{loading:0,preload:null}},g.set(t,y),(g=f.querySelector($s(t)))&&!g._p&&(y.instance=g,y.state.loading=5),en.has(t)||(s={rel:"preload",as:"style",href:s.href,crossOrigin:s.crossOrigin,integrity:s.integrity,media:s.media,hrefLang:s.hrefLang,referrerPolicy:s.referrerPolicy},en.set(t,s),g||Cv(f,t,s,y.state))),n&&o===null)throw Error(l(528,""));return y}if(n&&o!==null)throw Error(l(529,""));return null;case"script":return n=s.async,s=s.src,typeof s=="string"&&n&&typeof n!="function"&&typeof n!="symbol"?(n=Ia(s),s=_a(f).hoistableScripts,o=s.get(n),o||(o={type:"script",instance:null,count:0,state:null},s.set(n,o)),o):{type:"void",instance:null,count:0,state:null};default:throw Error(l(444,t))}}function Ja(t){return'href="'+Ge(t)+'"'}function $s(t){return'link[rel="stylesheet"]['+t+"]"}function ym(t){return tt({},t,{"data-precedence":t.precedence,precedence:null})}function Cv(t,n,s,o){t.querySelector('link[rel="preload"][as="style"]['+n+"]")?o.loading=1:(n=t.createElement("link"),o.preload=n,n.addEventListener("load",function(){return o.loading|=1}),n.addEventListener("error",function(){return o.loading|=2}),be(n,"link",s),fe(n),t.head.appendChild(n))}function Ia(t){return'[src="'+Ge(t)+'"]'}function Js(t){return"script[async]"+t}function bm(t,n,s){if(n.count++,n.instance===null)switch(n.type){case"style":var o=t.querySelector('style[data-href~="'+Ge(s.href)+'"]');if(o)return n.instance=o,fe(o),o;var f=tt({},s,{"data-href":s.href,"data-precedence":s.precedence,href:null,precedence:null});return o=(t.ownerDocument||t).createElement("style"),fe(o),be(o,"style",f),Fr(o,s.precedence,t),n.instance=o;case"stylesheet":f=Ja(s.href);var g=t.querySelector($s(f));if(g)return n.state.loading|=4,n.instance=g,fe(g),g;o=ym(s),(f=en.get(f))&&Yc(o,f),g=(t.ownerDocument||t).createElement("link"),fe(g);var y=g;return y._p=new Promise(function(x,E){y.onload=x,y.onerror=E}),be(g,"link",o),n.state.loading|=4,Fr(g,s.precedence,t),n.instance=g;case"script":return g=Ia(s.src),(f=t.querySelector(Js(g)))?(n.instance=f,fe(f),f):(o=s,(f=en.get(g))&&(o=tt({},s),qc(o,f)),t=t.ownerDocument||t,f=t.createElement("script"),fe(f),be(f,"link",o),t.head.appendChild(f),n.instance=f);case"void":return null;default:throw Error(l(443,n.type))}else n.type==="stylesheet"&&(n.state.loading&4)===0&&(o=n.instance,n.state.loading|=4,Fr(o,s.precedence,t));return n.instance}function Fr(t,n,s){for(var o=s.querySelectorAll('link[rel="stylesheet"][data-precedence],style[data-precedence]'),f=o.length?o[o.length-1]:null,g=f,y=0;y<o.length;y++){var x=o[y];if(x.dataset.precedence===n)g=x;else if(g!==f)break}g?g.parentNode.insertBefore(t,g.nextSibling):(n=s.nodeType===9?s.head:s,n.insertBefore(t,n.firstChild))}function Yc(t,n){t.crossOrigin==null&&(t.crossOrigin=n.crossOrigin),t.referrerPolicy==null&&(t.referrerPolicy=n.referrerPolicy),t.title==null&&(t.title=n.title)}function qc(t,n){t.crossOrigin==null&&(t.crossOrigin=n.crossOrigin),t.referrerPolicy==null&&(t.referrerPolicy=n.referrerPolicy),t.integrity==null&&(t.integrity=n.integrity)}var Xr=null;function vm(t,n,s){if(Xr===null){var o=new Map,f=Xr=new Map;f.set(s,o)}else f=Xr,o=f.get(s),o||(o=new Map,f.set(s,o));if(o.has(t))return o;for(o.set(t,null),s=s.getElementsByTagName(t),f=0;f<s.length;f++){var g=s[f];if(!(g[hs]||g[xe]||t==="link"&&g.getAttribute("rel")==="stylesheet")&&g.namespaceURI!=="http://www.w3.org/2000/svg"){var y=g.getAttribute(n)||"";y=t+y;var x=o.get(y);x?x.push(g):o.set(y,[g])}}return o}function xm(t,n,s){t=t.ownerDocument||t,t.head.insertBefore(s,n==="title"?t.querySelector("head > title"):null)}function kv(t,n,s){if(s===1||n.itemProp!=null)return!1;switch(t){case"meta":case"title":return!0;case"style":if(typeof n.precedence!="string"||typeof n.href!="string"||n.href==="")break;return!0;case"link":if(typeof n.rel!="string"||typeof n.href!="string"||n.href===""||n.onLoad||n.onError)break;switch(n.rel){case"stylesheet":return t=n.disabled,typeof n.precedence=="string"&&t==null;default:return!0}case"script":if(n.async&&typeof n.async!="function"&&typeof n.async!="symbol"&&!n.onLoad&&!n.onError&&n.src&&typeof n.src=="string")return!0}return!1}function _m(t){return!(t.type==="stylesheet"&&(t.state.loading&3)===0)}var Is=null;function Nv(){}function jv(t,n,s){if(Is===null)throw Error(l(475));var o=Is;if(n.type==="stylesheet"&&(typeof s.media!="string"||matchMedia(s.media).matches!==!1)&&(n.state.loading&4)===0){if(n.instance===null){var f=Ja(s.href),g=t.querySelector($s(f));if(g){t=g._p,t!==null&&typeof t=="object"&&typeof t.then=="function"&&(o.count++,o=Gr.bind(o),t.then(o,o)),n.state.loading|=4,n.instance=g,fe(g);return}g=t.ownerDocument||t,s=ym(s),(f=en.get(f))&&Yc(s,f),g=g.createElement("link"),fe(g);var y=g;y._p=new Promise(function(x,E){y.onload=x,y.onerror=E}),be(g,"link",s),n.instance=g}o.stylesheets===null&&(o.stylesheets=new Map),o.stylesheets.set(n,t),(t=n.state.preload)&&(n.state.loading&3)===0&&(o.count++,n=Gr.bind(o),t.addEventListener("load",n),t.addEventListener("error",n))}}function Lv(){if(Is===null)throw Error(l(475));var t=Is;return t.stylesheets&&t.count===0&&Fc(t,t.stylesheets),0<t.count?function(n){var s=setTimeout(function(){if(t.stylesheets&&Fc(t,t.stylesheets),t.unsuspend){var o=t.unsuspend;t.unsuspend=null,o()}},6e4);return t.unsuspend=n,function(){t.unsuspend=null,clearTimeout(s)}}:null}function Gr(){if(this.count--,this.count===0){if(this.stylesheets)Fc(this,this.stylesheets);else if(this.unsuspend){var t=this.unsuspend;this.unsuspend=null,t()}}}var Qr=null;function Fc(t,n){t.stylesheets=null,t.unsuspend!==null&&(t.count++,Qr=new Map,n.forEach(Hv,t),Qr=null,Gr.call(t))}function Hv(t,n){if(!(n.state.loading&4)){var s=Qr.get(t);if(s)var o=s.get(null);else{s=new Map,Qr.set(t,s);for(var f=t.querySelectorAll("link[data-precedence],style[data-precedence]"),g=0;g<f.length;g++){var y=f[g];(y.nodeName==="LINK"||y.getAttribute("media")!=="not all")&&(s.set(y.dataset.precedence,y),o=y)}o&&s.set(null,o)}f=n.instance,y=f.getAttribute("data-precedence"),g=s.get(y)||o,g===o&&s.set(null,f),s.set(y,f),this.count++,o=Gr.bind(this),f.addEventListener("load",o),f.addEventListener("error",o),g?g.parentNode.insertBefore(f,g.nextSibling):(t=t.nodeType===9?t.head:t,t.insertBefore(f,t.firstChild)),n.state.loading|=4}}var tl={$$typeof:_,Provider:null,Consumer:null,_currentValue:xt,_currentValue2:xt,_threadCount:0};function Bv(t,n,s,o,f,g,y,x){this.tag=1,this.containerInfo=t,this.finishedWork=this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.next=this.pendingContext=this.context=this.cancelPendingCommit=null,this.callbackPriority=0,this.expirationTimes=Go(-1),this.entangledLanes=this.shellSuspendCounter=this.errorRecoveryDisabledLanes=this.finishedLanes=this.expiredLanes=this.warmLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=Go(0),this.hiddenUpdates=Go(null),this.identifierPrefix=o,this.onUncaughtError=f,this.onCaughtError=g,this.onRecoverableError=y,this.pooledCache=null,this.pooledCacheLanes=0,this.formState=x,this.incompleteTransitions=new Map}function Sm(t,n,s,o,f,g,y,x,E,R,G,Z){return t=new Bv(t,n,s,y,x,E,R,Z),n=1,g===!0&&(n|=24),g=Ie(3,null,null,n),t.current=g,g.stateNode=t,n=_u(),n.refCount++,t.pooledCache=n,n.refCount++,g.memoizedState={element:o,isDehydrated:s,cache:n},ec(g),t}function wm(t){return t?(t=Ra,t):Ra}function Em(t,n,s,o,f,g){f=wm(f),o.context===null?o.context=f:o.pendingContext=f,o=hi(n),o.payload={element:s},g=g===void 0?null:g,g!==null&&(o.callback=g),s=di(t,o,n),s!==null&&(De(s,t,n),Hs(s,t,n))}function Tm(t,n){if(t=t.memoizedState,t!==null&&t.dehydrated!==null){var s=t.retryLane;t.retryLane=s!==0&&s<n?s:n}}function Xc(t,n){Tm(t,n),(t=t.alternate)&&Tm(t,n)}function Mm(t){if(t.tag===13){var n=si(t,67108864);n!==null&&De(n,t,67108864),Xc(t,67108864)}}var Zr=!0;function Uv(t,n,s,o){var f=X.T;X.T=null;var g=it.p;try{it.p=2,Gc(t,n,s,o)}finally{it.p=g,X.T=f}}function Vv(t,n,s,o){var f=X.T;X.T=null;var g=it.p;try{it.p=8,Gc(t,n,s,o)}finally{it.p=g,X.T=f}}function Gc(t,n,s,o){if(Zr){var f=Qc(o);if(f===null)kc(t,n,o,Kr,s),Dm(t,o);else if(qv(f,t,n,s,o))o.stopPropagation();else if(Dm(t,o),n&4&&-1<Yv.indexOf(t)){for(;f!==null;){var g=xa(f);if(g!==null)switch(g.tag){case 3:if(g=g.stateNode,g.current.memoizedState.isDehydrated){var y=Ni(g.pendingLanes);if(y!==0){var x=g;for(x.pendingLanes|=2,x.entangledLanes|=2;y;){var E=1<<31-Me(y);x.entanglements[1]|=E,y&=~E}xn(g),(Kt&6)===0&&(Rr=q()+500,Ks(0))}}break;case 13:x=si(g,2),x!==null&&De(x,g,2),Nr(),Xc(g,2)}if(g=Qc(o),g===null&&kc(t,n,o,Kr,s),g===f)break;f=g}f!==null&&o.stopPropagation()}else kc(t,n,o,null,s)}}function Qc(t){return t=Jo(t),Zc(t)}var Kr=null;function Zc(t){if(Kr=null,t=ji(t),t!==null){var n=ut(t);if(n===null)t=null;else{var s=n.tag;if(s===13){if(t=wt(n),t!==null)return t;t=null}else if(s===3){if(n.stateNode.current.memoizedState.isDehydrated)return n.tag===3?n.stateNode.containerInfo:null;t=null}else n!==t&&(t=null)}}return Kr=t,null}function Am(t){switch(t){case"beforetoggle":case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"toggle":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 2;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 8;case"message":switch(lt()){case nt:return 2;case I:return 8;case ot:case Dt:return 32;case Qt:return 268435456;default:return 32}default:return 32}}var Kc=!1,xi=null,_i=null,Si=null,el=new Map,nl=new Map,wi=[],Yv="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset".split(" ");function Dm(t,n){switch(t){case"focusin":case"focusout":xi=null;break;case"dragenter":case"dragleave":_i=null;break;case"mouseover":case"mouseout":Si=null;break;case"pointerover":case"pointerout":el.delete(n.pointerId);break;case"gotpointercapture":case"lostpointercapture":nl.delete(n.pointerId)}}function il(t,n,s,o,f,g){return t===null||t.nativeEvent!==g?(t={blockedOn:n,domEventName:s,eventSystemFlags:o,nativeEvent:g,targetContainers:[f]},n!==null&&(n=xa(n),n!==null&&Mm(n)),t):(t.eventSystemFlags|=o,n=t.targetContainers,f!==null&&n.indexOf(f)===-1&&n.push(f),t)}function qv(t,n,s,o,f){switch(n){case"focusin":return xi=il(xi,t,n,s,o,f),!0;case"dragenter":return _i=il(_i,t,n,s,o,f),!0;case"mouseover":return Si=il(Si,t,n,s,o,f),!0;case"pointerover":var g=f.pointerId;return el.set(g,il(el.get(g)||null,t,n,s,o,f)),!0;case"gotpointercapture":return g=f.pointerId,nl.set(g,il(nl.get(g)||null,t,n,s,o,f)),!0}return!1}function Om(t){var n=ji(t.target);if(n!==null){var s=ut(n);if(s!==null){if(n=s.tag,n===13){if(n=wt(s),n!==null){t.blockedOn=n,L0(t.priority,function(){if(s.tag===13){var o=qe(),f=si(s,o);f!==null&&De(f,s,o),Xc(s,o)}});return}}else if(n===3&&s.stateNode.current.memoizedState.isDehydrated){t.blockedOn=s.tag===3?s.stateNode.containerInfo:null;return}}}t.blockedOn=null}function Wr(t){if(t.blockedOn!==null)return!1;for(var n=t.targetContainers;0<n.length;){var s=Qc(t.nativeEvent);if(s===null){s=t.nativeEvent;var o=new s.constructor(s.type,s);$o=o,s.target.dispatchEvent(o),$o=null}else return n=xa(s),n!==null&&Mm(n),t.blockedOn=s,!1;n.shift()}return!0}function zm(t,n,s){Wr(t)&&s.delete(n)}function Fv(){Kc=!1,xi!==null&&Wr(xi)&&(xi=null),_i!==null&&Wr(_i)&&(_i=null),Si!==null&&Wr(Si)&&(Si=null),el.forEach(zm),nl.forEach(zm)}function Pr(t,n){t.blockedOn===n&&(t.blockedOn=null,Kc||(Kc=!0,i.unstable_scheduleCallback(i.unstable_NormalPriority,Fv)))}var $r=null;function Rm(t){$r!==t&&($r=t,i.unstable_scheduleCallback(i.unstable_NormalPriority,function(){$r===t&&($r=null);for(var n=0;n<t.length;n+=3){var s=t[n],o=t[n+1],f=t[n+2];if(typeof o!="function"){if(Zc(o||s)===null)continue;break}var g=xa(s);g!==null&&(t.splice(n,3),n-=3,Hu(g,{pending:!0,data:f,method:s.method,action:o},o,f))}}))}function al(t){function n(E){return Pr(E,t)}xi!==null&&Pr(xi,t),_i!==null&&Pr(_i,t),Si!==null&&Pr(Si,t),el.forEach(n),nl.forEach(n);for(var s=0;s<wi.length;s++){var o=wi[s];o.blockedOn===t&&(o.blockedOn=null)}for(;0<wi.length&&(s=wi[0],s.blockedOn===null);)Om(s),s.blockedOn===null&&wi.shift();if(s=(t.ownerDocument||t).$$reactFormReplay,s!=null)for(o=0;o<s.length;o+=3){var f=s[o],g=s[o+1],y=f[Ce]||null;if(typeof g=="function")y||Rm(s);else if(y){var x=null;if(g&&g.hasAttribute("formAction")){if(f=g,y=g[Ce]||null)x=y.formAction;else if(Zc(f)!==null)continue}else x=y.action;typeof x=="function"?s[o+1]=x:(s.splice(o,3),o-=3),Rm(s)}}}function Wc(t){this._internalRoot=t}Jr.prototype.render=Wc.prototype.render=function(t){var n=this._internalRoot;if(n===null)throw Error(l(409));var s=n.current,o=qe();Em(s,o,t,n,null,null)},Jr.prototype.unmount=Wc.prototype.unmount=function(){var t=this._internalRoot;if(t!==null){this._internalRoot=null;var n=t.containerInfo;t.tag===0&&Ka(),Em(t.current,2,null,t,null,null),Nr(),n[va]=null}};function Jr(t){this._internalRoot=t}Jr.prototype.unstable_scheduleHydration=function(t){if(t){var n=sh();t={blockedOn:null,target:t,priority:n};for(var s=0;s<wi.length&&n!==0&&n<wi[s].priority;s++);wi.splice(s,0,t),s===0&&Om(t)}};var Cm=e.version;if(Cm!=="19.0.0")throw Error(l(527,Cm,"19.0.0"));it.findDOMNode=function(t){var n=t._reactInternals;if(n===void 0)throw typeof t.render=="function"?Error(l(188)):(t=Object.keys(t).join(","),Error(l(268,t)));return t=K(n),t=t!==null?gt(t):null,t=t===null?null:t.stateNode,t};var Xv={bundleType:0,version:"19.0.0",rendererPackageName:"react-dom",currentDispatcherRef:X,findFiberByHostInstance:ji,reconcilerVersion:"19.0.0"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__<"u"){var Ir=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!Ir.isDisabled&&Ir.supportsFiber)try{Rn=Ir.inject(Xv),me=Ir}catch{}}return ll.createRoot=function(t,n){if(!r(t))throw Error(l(299));var s=!1,o="",f=Wd,g=Pd,y=$d,x=null;return n!=null&&(n.unstable_strictMode===!0&&(s=!0),n.identifierPrefix!==void 0&&(o=n.identifierPrefix),n.onUncaughtError!==void 0&&(f=n.onUncaughtError),n.onCaughtError!==void 0&&(g=n.onCaughtError),n.onRecoverableError!==void 0&&(y=n.onRecoverableError),n.unstable_transitionCallbacks!==void 0&&(x=n.unstable_transitionCallbacks)),n=Sm(t,1,!1,null,null,s,o,f,g,y,x,null),t[va]=n.current,Cc(t.nodeType===8?t.parentNode:t),new Wc(n)},ll.hydrateRoot=function(t,n,s){if(!r(t))throw Error(l(299));var o=!1,f="",g=Wd,y=Pd,x=$d,E=null,R=null;return s!=null&&(s.unstable_strictMode===!0&&(o=!0),s.identifierPrefix!==void 0&&(f=s.identifierPrefix),s.onUncaughtError!==void 0&&(g=s.onUncaughtError),s.onCaughtError!==void 0&&(y=s.onCaughtError),s.onRecoverableError!==void 0&&(x=s.onRecoverableError),s.unstable_transitionCallbacks!==void 0&&(E=s.unstable_transitionCallbacks),s.formState!==void 0&&(R=s.formState)),n=Sm(t,1,!0,n,s??null,o,f,g,y,x,E,R),n.context=wm(null),s=n.current,o=qe(),f=hi(o),f.callback=null,di(s,f,o),n.current.lanes=o,fs(n,o),xn(n),t[va]=n.current,Cc(t),new Jr(n)},ll.version="19.0.0",ll}var qm;function nx(){if(qm)return Jc.exports;qm=1;function i(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(i)}catch(e){console.error(e)}}return i(),Jc.exports=ex(),Jc.exports}var ix=nx();const ax=xy(ix);var rl={},Fm;function sx(){if(Fm)return rl;Fm=1,Object.defineProperty(rl,"__esModule",{value:!0}),rl.parse=c,rl.serialize=m;const i=/^[\u0021-\u003A\u003C\u003E-\u007E]+$/,e=/^[\u0021-\u003A\u003C-\u007E]*$/,a=/^([.]?[a-z0-9]([a-z0-9-]{0,61}[a-z0-9])?)([.][a-z0-9]([a-z0-9-]{0,61}[a-z0-9])?)*$/i,l=/^[\u0020-\u003A\u003D-\u007E]*$/,r=Object.prototype.toString,u=(()=>{const v=function(){};return v.prototype=Object.create(null),v})();function c(v,_){const S=new u,w=v.length;if(w<2)return S;const T=(_==null?void 0:_.decode)||p;let A=0;do{const N=v.indexOf("=",A);if(N===-1)break;const U=v.indexOf(";",A),Y=U===-1?w:U;if(N>Y){A=v.lastIndexOf(";",N-1)+1;continue}const C=h(v,A,N),W=d(v,N,C),J=v.slice(C,W);if(S[J]===void 0){let $=h(v,N+1,Y),X=d(v,Y,$);const tt=T(v.slice($,X));S[J]=tt}A=Y+1}while(A<w);return S}function h(v,_,S){do{const w=v.charCodeAt(_);if(w!==32&&w!==9)return _}while(++_<S);return S}function d(v,_,S){for(;_>S;){const w=v.charCodeAt(--_);if(w!==32&&w!==9)return _+1}return S}function m(v,_,S){const w=(S==null?void 0:S.encode)||encodeURIComponent;if(!i.test(v))throw new TypeError(`argument name is invalid: ${v}`);const T=w(_);if(!e.test(T))throw new TypeError(`argument val is invalid: ${_}`);let A=v+"="+T;if(!S)return A;if(S.maxAge!==void 0){if(!Number.isInteger(S.maxAge))throw new TypeError(`option maxAge is invalid: ${S.maxAge}`);A+="; Max-Age="+S.maxAge}if(S.domain){if(!a.test(S.domain))throw new TypeError(`option domain is invalid: ${S.domain}`);A+="; Domain="+S.domain}if(S.path){if(!l.test(S.path))throw new TypeError(`option path is invalid: ${S.path}`);A+="; Path="+S.path}if(S.expires){if(!b(S.expires)||!Number.isFinite(S.expires.valueOf()))throw new TypeError(`option expires is invalid: ${S.expires}`);A+="; Expires="+S.expires.toUTCString()}if(S.httpOnly&&(A+="; HttpOnly"),S.secure&&(A+="; Secure"),S.partitioned&&(A+="; Partitioned"),S.priority)switch(typeof S.priority=="string"?S.priority.toLowerCase():void 0){case"low":A+="; Priority=Low";break;case"medium":A+="; Priority=Medium";break;case"high":A+="; Priority=High";break;default:throw new TypeError(`option priority is invalid: ${S.priority}`)}if(S.sameSite)switch(typeof S.sameSite=="string"?S.sameSite.toLowerCase():S.sameSite){case!0:case"strict":A+="; SameSite=Strict";break;case"lax":A+="; SameSite=Lax";break;case"none":A+="; SameSite=None";break;default:throw new TypeError(`option sameSite is invalid: ${S.sameSite}`)}return A}function p(v){if(v.indexOf("%")===-1)return v;try{return decodeURIComponent(v)}catch{return v}}function b(v){return r.call(v)==="[object Date]"}return rl}sx();/**
+ * react-router v7.4.1
+ *
+ * Copyright (c) Remix Software Inc.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE.md file in the root directory of this source tree.
+ *
+ * @license MIT
+ */var Xm="popstate";function lx(i={}){function e(l,r){let{pathname:u,search:c,hash:h}=l.location;return mf("",{pathname:u,search:c,hash:h},r.state&&r.state.usr||null,r.state&&r.state.key||"default")}function a(l,r){return typeof r=="string"?r:Ol(r)}return ox(e,a,null,i)}function Wt(i,e){if(i===!1||i===null||typeof i>"u")throw new Error(e)}function An(i,e){if(!i){typeof console<"u"&&console.warn(e);try{throw new Error(e)}catch{}}}function rx(){return Math.random().toString(36).substring(2,10)}function Gm(i,e){return{usr:i.state,key:i.key,idx:e}}function mf(i,e,a=null,l){return{pathname:typeof i=="string"?i:i.pathname,search:"",hash:"",...typeof e=="string"?ls(e):e,state:a,key:e&&e.key||l||rx()}}function Ol({pathname:i="/",search:e="",hash:a=""}){return e&&e!=="?"&&(i+=e.charAt(0)==="?"?e:"?"+e),a&&a!=="#"&&(i+=a.charAt(0)==="#"?a:"#"+a),i}function ls(i){let e={};if(i){let a=i.indexOf("#");a>=0&&(e.hash=i.substring(a),i=i.substring(0,a));let l=i.indexOf("?");l>=0&&(e.search=i.substring(l),i=i.substring(0,l)),i&&(e.pathname=i)}return e}function ox(i,e,a,l={}){let{window:r=document.defaultView,v5Compat:u=!1}=l,c=r.history,h="POP",d=null,m=p();m==null&&(m=0,c.replaceState({...c.state,idx:m},""));function p(){return(c.state||{idx:null}).idx}function b(){h="POP";let T=p(),A=T==null?null:T-m;m=T,d&&d({action:h,location:w.location,delta:A})}function v(T,A){h="PUSH";let N=mf(w.location,T,A);m=p()+1;let U=Gm(N,m),Y=w.createHref(N);try{c.pushState(U,"",Y)}catch(C){if(C instanceof DOMException&&C.name==="DataCloneError")throw C;r.location.assign(Y)}u&&d&&d({action:h,location:w.location,delta:1})}function _(T,A){h="REPLACE";let N=mf(w.location,T,A);m=p();let U=Gm(N,m),Y=w.createHref(N);c.replaceState(U,"",Y),u&&d&&d({action:h,location:w.location,delta:0})}function S(T){let A=r.location.origin!=="null"?r.location.origin:r.location.href,N=typeof T=="string"?T:Ol(T);return N=N.replace(/ $/,"%20"),Wt(A,`No window.location.(origin|href) available to create URL for href: ${N}`),new URL(N,A)}let w={get action(){return h},get location(){return i(r,c)},listen(T){if(d)throw new Error("A history only accepts one active listener");return r.addEventListener(Xm,b),d=T,()=>{r.removeEventListener(Xm,b),d=null}},createHref(T){return e(r,T)},createURL:S,encodeLocation(T){let A=S(T);return{pathname:A.pathname,search:A.search,hash:A.hash}},push:v,replace:_,go(T){return c.go(T)}};return w}function _y(i,e,a="/"){return ux(i,e,a,!1)}function ux(i,e,a,l){let r=typeof e=="string"?ls(e):e,u=ei(r.pathname||"/",a);if(u==null)return null;let c=Sy(i);cx(c);let h=null;for(let d=0;h==null&&d<c.length;++d){let m=_x(u);h=vx(c[d],m,l)}return h}function Sy(i,e=[],a=[],l=""){let r=(u,c,h)=>{let d={relativePath:h===void 0?u.path||"":h,caseSensitive:u.caseSensitive===!0,childrenIndex:c,route:u};d.relativePath.startsWith("/")&&(Wt(d.relativePath.startsWith(l),`Absolute route path "${d.relativePath}" nested under path "${l}" is not valid. An absolute child route path must start with the combined path of all its parent routes.`),d.relativePath=d.relativePath.slice(l.length));let m=ti([l,d.relativePath]),p=a.concat(d);u.children&&u.children.length>0&&(Wt(u.index!==!0,`Index routes must not have child routes. Please remove all child routes from route path "${m}".`),Sy(u.children,e,p,m)),!(u.path==null&&!u.index)&&e.push({path:m,score:yx(m,u.index),routesMeta:p})};return i.forEach((u,c)=>{var h;if(u.path===""||!((h=u.path)!=null&&h.includes("?")))r(u,c);else for(let d of wy(u.path))r(u,c,d)}),e}function wy(i){let e=i.split("/");if(e.length===0)return[];let[a,...l]=e,r=a.endsWith("?"),u=a.replace(/\?$/,"");if(l.length===0)return r?[u,""]:[u];let c=wy(l.join("/")),h=[];return h.push(...c.map(d=>d===""?u:[u,d].join("/"))),r&&h.push(...c),h.map(d=>i.startsWith("/")&&d===""?"/":d)}function cx(i){i.sort((e,a)=>e.score!==a.score?a.score-e.score:bx(e.routesMeta.map(l=>l.childrenIndex),a.routesMeta.map(l=>l.childrenIndex)))}var fx=/^:[\w-]+$/,hx=3,dx=2,gx=1,mx=10,px=-2,Qm=i=>i==="*";function yx(i,e){let a=i.split("/"),l=a.length;return a.some(Qm)&&(l+=px),e&&(l+=dx),a.filter(r=>!Qm(r)).reduce((r,u)=>r+(fx.test(u)?hx:u===""?gx:mx),l)}function bx(i,e){return i.length===e.length&&i.slice(0,-1).every((l,r)=>l===e[r])?i[i.length-1]-e[e.length-1]:0}function vx(i,e,a=!1){let{routesMeta:l}=i,r={},u="/",c=[];for(let h=0;h<l.length;++h){let d=l[h],m=h===l.length-1,p=u==="/"?e:e.slice(u.length)||"/",b=wo({path:d.relativePath,caseSensitive:d.caseSensitive,end:m},p),v=d.route;if(!b&&m&&a&&!l[l.length-1].route.index&&(b=wo({path:d.relativePath,caseSensitive:d.caseSensitive,end:!1},p)),!b)return null;Object.assign(r,b.params),c.push({params:r,pathname:ti([u,b.pathname]),pathnameBase:Tx(ti([u,b.pathnameBase])),route:v}),b.pathnameBase!=="/"&&(u=ti([u,b.pathnameBase]))}return c}function wo(i,e){typeof i=="string"&&(i={path:i,caseSensitive:!1,end:!0});let[a,l]=xx(i.path,i.caseSensitive,i.end),r=e.match(a);if(!r)return null;let u=r[0],c=u.replace(/(.)\/+$/,"$1"),h=r.slice(1);return{params:l.reduce((m,{paramName:p,isOptional:b},v)=>{if(p==="*"){let S=h[v]||"";c=u.slice(0,u.length-S.length).replace(/(.)\/+$/,"$1")}const _=h[v];return b&&!_?m[p]=void 0:m[p]=(_||"").replace(/%2F/g,"/"),m},{}),pathname:u,pathnameBase:c,pattern:i}}function xx(i,e=!1,a=!0){An(i==="*"||!i.endsWith("*")||i.endsWith("/*"),`Route path "${i}" will be treated as if it were "${i.replace(/\*$/,"/*")}" because the \`*\` character must always follow a \`/\` in the pattern. To get rid of this warning, please change the route path to "${i.replace(/\*$/,"/*")}".`);let l=[],r="^"+i.replace(/\/*\*?$/,"").replace(/^\/*/,"/").replace(/[\\.*+^${}|()[\]]/g,"\\$&").replace(/\/:([\w-]+)(\?)?/g,(c,h,d)=>(l.push({paramName:h,isOptional:d!=null}),d?"/?([^\\/]+)?":"/([^\\/]+)"));return i.endsWith("*")?(l.push({paramName:"*"}),r+=i==="*"||i==="/*"?"(.*)$":"(?:\\/(.+)|\\/*)$"):a?r+="\\/*$":i!==""&&i!=="/"&&(r+="(?:(?=\\/|$))"),[new RegExp(r,e?void 0:"i"),l]}function _x(i){try{return i.split("/").map(e=>decodeURIComponent(e).replace(/\//g,"%2F")).join("/")}catch(e){return An(!1,`The URL path "${i}" could not be decoded because it is a malformed URL segment. This is probably due to a bad percent encoding (${e}).`),i}}function ei(i,e){if(e==="/")return i;if(!i.toLowerCase().startsWith(e.toLowerCase()))return null;let a=e.endsWith("/")?e.length-1:e.length,l=i.charAt(a);return l&&l!=="/"?null:i.slice(a)||"/"}function Sx(i,e="/"){let{pathname:a,search:l="",hash:r=""}=typeof i=="string"?ls(i):i;return{pathname:a?a.startsWith("/")?a:wx(a,e):e,search:Mx(l),hash:Ax(r)}}function wx(i,e){let a=e.replace(/\/+$/,"").split("/");return i.split("/").forEach(r=>{r===".."?a.length>1&&a.pop():r!=="."&&a.push(r)}),a.length>1?a.join("/"):"/"}function nf(i,e,a,l){return`Cannot include a '${i}' character in a manually specified \`to.${e}\` field [${JSON.stringify(l)}].  Please separate it out to the \`to.${a}\` field. Alternatively you may provide the full path as a string in <Link to="..."> and the router will parse it for you.`}function Ex(i){return i.filter((e,a)=>a===0||e.route.path&&e.route.path.length>0)}function Ey(i){let e=Ex(i);return e.map((a,l)=>l===e.length-1?a.pathname:a.pathnameBase)}function Ty(i,e,a,l=!1){let r;typeof i=="string"?r=ls(i):(r={...i},Wt(!r.pathname||!r.pathname.includes("?"),nf("?","pathname","search",r)),Wt(!r.pathname||!r.pathname.includes("#"),nf("#","pathname","hash",r)),Wt(!r.search||!r.search.includes("#"),nf("#","search","hash",r)));let u=i===""||r.pathname==="",c=u?"/":r.pathname,h;if(c==null)h=a;else{let b=e.length-1;if(!l&&c.startsWith("..")){let v=c.split("/");for(;v[0]==="..";)v.shift(),b-=1;r.pathname=v.join("/")}h=b>=0?e[b]:"/"}let d=Sx(r,h),m=c&&c!=="/"&&c.endsWith("/"),p=(u||c===".")&&a.endsWith("/");return!d.pathname.endsWith("/")&&(m||p)&&(d.pathname+="/"),d}var ti=i=>i.join("/").replace(/\/\/+/g,"/"),Tx=i=>i.replace(/\/+$/,"").replace(/^\/*/,"/"),Mx=i=>!i||i==="?"?"":i.startsWith("?")?i:"?"+i,Ax=i=>!i||i==="#"?"":i.startsWith("#")?i:"#"+i;function Dx(i){return i!=null&&typeof i.status=="number"&&typeof i.statusText=="string"&&typeof i.internal=="boolean"&&"data"in i}var My=["POST","PUT","PATCH","DELETE"];new Set(My);var Ox=["GET",...My];new Set(Ox);var rs=j.createContext(null);rs.displayName="DataRouter";var Lo=j.createContext(null);Lo.displayName="DataRouterState";var Ay=j.createContext({isTransitioning:!1});Ay.displayName="ViewTransition";var zx=j.createContext(new Map);zx.displayName="Fetchers";var Rx=j.createContext(null);Rx.displayName="Await";var Dn=j.createContext(null);Dn.displayName="Navigation";var Ll=j.createContext(null);Ll.displayName="Location";var On=j.createContext({outlet:null,matches:[],isDataRoute:!1});On.displayName="Route";var zf=j.createContext(null);zf.displayName="RouteError";function Cx(i,{relative:e}={}){Wt(Hl(),"useHref() may be used only in the context of a <Router> component.");let{basename:a,navigator:l}=j.useContext(Dn),{hash:r,pathname:u,search:c}=Ul(i,{relative:e}),h=u;return a!=="/"&&(h=u==="/"?a:ti([a,u])),l.createHref({pathname:h,search:c,hash:r})}function Hl(){return j.useContext(Ll)!=null}function da(){return Wt(Hl(),"useLocation() may be used only in the context of a <Router> component."),j.useContext(Ll).location}var Dy="You should call navigate() in a React.useEffect(), not when your component is first rendered.";function Oy(i){j.useContext(Dn).static||j.useLayoutEffect(i)}function Bl(){let{isDataRoute:i}=j.useContext(On);return i?Qx():kx()}function kx(){Wt(Hl(),"useNavigate() may be used only in the context of a <Router> component.");let i=j.useContext(rs),{basename:e,navigator:a}=j.useContext(Dn),{matches:l}=j.useContext(On),{pathname:r}=da(),u=JSON.stringify(Ey(l)),c=j.useRef(!1);return Oy(()=>{c.current=!0}),j.useCallback((d,m={})=>{if(An(c.current,Dy),!c.current)return;if(typeof d=="number"){a.go(d);return}let p=Ty(d,JSON.parse(u),r,m.relative==="path");i==null&&e!=="/"&&(p.pathname=p.pathname==="/"?e:ti([e,p.pathname])),(m.replace?a.replace:a.push)(p,m.state,m)},[e,a,u,r,i])}j.createContext(null);function Nx(){let{matches:i}=j.useContext(On),e=i[i.length-1];return e?e.params:{}}function Ul(i,{relative:e}={}){let{matches:a}=j.useContext(On),{pathname:l}=da(),r=JSON.stringify(Ey(a));return j.useMemo(()=>Ty(i,JSON.parse(r),l,e==="path"),[i,r,l,e])}function jx(i,e){return zy(i,e)}function zy(i,e,a,l){var N;Wt(Hl(),"useRoutes() may be used only in the context of a <Router> component.");let{navigator:r,static:u}=j.useContext(Dn),{matches:c}=j.useContext(On),h=c[c.length-1],d=h?h.params:{},m=h?h.pathname:"/",p=h?h.pathnameBase:"/",b=h&&h.route;{let U=b&&b.path||"";Ry(m,!b||U.endsWith("*")||U.endsWith("*?"),`You rendered descendant <Routes> (or called \`useRoutes()\`) at "${m}" (under <Route path="${U}">) but the parent route path has no trailing "*". This means if you navigate deeper, the parent won't match anymore and therefore the child routes will never render.
+
+Please change the parent <Route path="${U}"> to <Route path="${U==="/"?"*":`${U}/*`}">.`)}let v=da(),_;if(e){let U=typeof e=="string"?ls(e):e;Wt(p==="/"||((N=U.pathname)==null?void 0:N.startsWith(p)),`When overriding the location using \`<Routes location>\` or \`useRoutes(routes, location)\`, the location pathname must begin with the portion of the URL pathname that was matched by all parent routes. The current pathname base is "${p}" but pathname "${U.pathname}" was given in the \`location\` prop.`),_=U}else _=v;let S=_.pathname||"/",w=S;if(p!=="/"){let U=p.replace(/^\//,"").split("/");w="/"+S.replace(/^\//,"").split("/").slice(U.length).join("/")}let T=!u&&a&&a.matches&&a.matches.length>0?a.matches:_y(i,{pathname:w});An(b||T!=null,`No routes matched location "${_.pathname}${_.search}${_.hash}" `),An(T==null||T[T.length-1].route.element!==void 0||T[T.length-1].route.Component!==void 0||T[T.length-1].route.lazy!==void 0,`Matched leaf route at location "${_.pathname}${_.search}${_.hash}" does not have an element or Component. This means it will render an <Outlet /> with a null value by default resulting in an "empty" page.`);let A=Vx(T&&T.map(U=>Object.assign({},U,{params:Object.assign({},d,U.params),pathname:ti([p,r.encodeLocation?r.encodeLocation(U.pathname).pathname:U.pathname]),pathnameBase:U.pathnameBase==="/"?p:ti([p,r.encodeLocation?r.encodeLocation(U.pathnameBase).pathname:U.pathnameBase])})),c,a,l);return e&&A?j.createElement(Ll.Provider,{value:{location:{pathname:"/",search:"",hash:"",state:null,key:"default",..._},navigationType:"POP"}},A):A}function Lx(){let i=Gx(),e=Dx(i)?`${i.status} ${i.statusText}`:i instanceof Error?i.message:JSON.stringify(i),a=i instanceof Error?i.stack:null,l="rgba(200,200,200, 0.5)",r={padding:"0.5rem",backgroundColor:l},u={padding:"2px 4px",backgroundColor:l},c=null;return console.error("Error handled by React Router default ErrorBoundary:",i),c=j.createElement(j.Fragment,null,j.createElement("p",null,"💿 Hey developer 👋"),j.createElement("p",null,"You can provide a way better UX than this when your app throws errors by providing your own ",j.createElement("code",{style:u},"ErrorBoundary")," or"," ",j.createElement("code",{style:u},"errorElement")," prop on your route.")),j.createElement(j.Fragment,null,j.createElement("h2",null,"Unexpected Application Error!"),j.createElement("h3",{style:{fontStyle:"italic"}},e),a?j.createElement("pre",{style:r},a):null,c)}var Hx=j.createElement(Lx,null),Bx=class extends j.Component{constructor(i){super(i),this.state={location:i.location,revalidation:i.revalidation,error:i.error}}static getDerivedStateFromError(i){return{error:i}}static getDerivedStateFromProps(i,e){return e.location!==i.location||e.revalidation!=="idle"&&i.revalidation==="idle"?{error:i.error,location:i.location,revalidation:i.revalidation}:{error:i.error!==void 0?i.error:e.error,location:e.location,revalidation:i.revalidation||e.revalidation}}componentDidCatch(i,e){console.error("React Router caught the following error during render",i,e)}render(){return this.state.error!==void 0?j.createElement(On.Provider,{value:this.props.routeContext},j.createElement(zf.Provider,{value:this.state.error,children:this.props.component})):this.props.children}};function Ux({routeContext:i,match:e,children:a}){let l=j.useContext(rs);return l&&l.static&&l.staticContext&&(e.route.errorElement||e.route.ErrorBoundary)&&(l.staticContext._deepestRenderedBoundaryId=e.route.id),j.createElement(On.Provider,{value:i},a)}function Vx(i,e=[],a=null,l=null){if(i==null){if(!a)return null;if(a.errors)i=a.matches;else if(e.length===0&&!a.initialized&&a.matches.length>0)i=a.matches;else return null}let r=i,u=a==null?void 0:a.errors;if(u!=null){let d=r.findIndex(m=>m.route.id&&(u==null?void 0:u[m.route.id])!==void 0);Wt(d>=0,`Could not find a matching route for errors on route IDs: ${Object.keys(u).join(",")}`),r=r.slice(0,Math.min(r.length,d+1))}let c=!1,h=-1;if(a)for(let d=0;d<r.length;d++){let m=r[d];if((m.route.HydrateFallback||m.route.hydrateFallbackElement)&&(h=d),m.route.id){let{loaderData:p,errors:b}=a,v=m.route.loader&&!p.hasOwnProperty(m.route.id)&&(!b||b[m.route.id]===void 0);if(m.route.lazy||v){c=!0,h>=0?r=r.slice(0,h+1):r=[r[0]];break}}}return r.reduceRight((d,m,p)=>{let b,v=!1,_=null,S=null;a&&(b=u&&m.route.id?u[m.route.id]:void 0,_=m.route.errorElement||Hx,c&&(h<0&&p===0?(Ry("route-fallback",!1,"No `HydrateFallback` element provided to render during initial hydration"),v=!0,S=null):h===p&&(v=!0,S=m.route.hydrateFallbackElement||null)));let w=e.concat(r.slice(0,p+1)),T=()=>{let A;return b?A=_:v?A=S:m.route.Component?A=j.createElement(m.route.Component,null):m.route.element?A=m.route.element:A=d,j.createElement(Ux,{match:m,routeContext:{outlet:d,matches:w,isDataRoute:a!=null},children:A})};return a&&(m.route.ErrorBoundary||m.route.errorElement||p===0)?j.createElement(Bx,{location:a.location,revalidation:a.revalidation,component:_,error:b,children:T(),routeContext:{outlet:null,matches:w,isDataRoute:!0}}):T()},null)}function Rf(i){return`${i} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function Yx(i){let e=j.useContext(rs);return Wt(e,Rf(i)),e}function qx(i){let e=j.useContext(Lo);return Wt(e,Rf(i)),e}function Fx(i){let e=j.useContext(On);return Wt(e,Rf(i)),e}function Cf(i){let e=Fx(i),a=e.matches[e.matches.length-1];return Wt(a.route.id,`${i} can only be used on routes that contain a unique "id"`),a.route.id}function Xx(){return Cf("useRouteId")}function Gx(){var l;let i=j.useContext(zf),e=qx("useRouteError"),a=Cf("useRouteError");return i!==void 0?i:(l=e.errors)==null?void 0:l[a]}function Qx(){let{router:i}=Yx("useNavigate"),e=Cf("useNavigate"),a=j.useRef(!1);return Oy(()=>{a.current=!0}),j.useCallback(async(r,u={})=>{An(a.current,Dy),a.current&&(typeof r=="number"?i.navigate(r):await i.navigate(r,{fromRouteId:e,...u}))},[i,e])}var Zm={};function Ry(i,e,a){!e&&!Zm[i]&&(Zm[i]=!0,An(!1,a))}j.memo(Zx);function Zx({routes:i,future:e,state:a}){return zy(i,void 0,a,e)}function sa(i){Wt(!1,"A <Route> is only ever to be used as the child of <Routes> element, never rendered directly. Please wrap your <Route> in a <Routes>.")}function Kx({basename:i="/",children:e=null,location:a,navigationType:l="POP",navigator:r,static:u=!1}){Wt(!Hl(),"You cannot render a <Router> inside another <Router>. You should never have more than one in your app.");let c=i.replace(/^\/*/,"/"),h=j.useMemo(()=>({basename:c,navigator:r,static:u,future:{}}),[c,r,u]);typeof a=="string"&&(a=ls(a));let{pathname:d="/",search:m="",hash:p="",state:b=null,key:v="default"}=a,_=j.useMemo(()=>{let S=ei(d,c);return S==null?null:{location:{pathname:S,search:m,hash:p,state:b,key:v},navigationType:l}},[c,d,m,p,b,v,l]);return An(_!=null,`<Router basename="${c}"> is not able to match the URL "${d}${m}${p}" because it does not start with the basename, so the <Router> won't render anything.`),_==null?null:j.createElement(Dn.Provider,{value:h},j.createElement(Ll.Provider,{children:e,value:_}))}function Wx({children:i,location:e}){return jx(pf(i),e)}function pf(i,e=[]){let a=[];return j.Children.forEach(i,(l,r)=>{if(!j.isValidElement(l))return;let u=[...e,r];if(l.type===j.Fragment){a.push.apply(a,pf(l.props.children,u));return}Wt(l.type===sa,`[${typeof l.type=="string"?l.type:l.type.name}] is not a <Route> component. All component children of <Routes> must be a <Route> or <React.Fragment>`),Wt(!l.props.index||!l.props.children,"An index route cannot have child routes.");let c={id:l.props.id||u.join("-"),caseSensitive:l.props.caseSensitive,element:l.props.element,Component:l.props.Component,index:l.props.index,path:l.props.path,loader:l.props.loader,action:l.props.action,hydrateFallbackElement:l.props.hydrateFallbackElement,HydrateFallback:l.props.HydrateFallback,errorElement:l.props.errorElement,ErrorBoundary:l.props.ErrorBoundary,hasErrorBoundary:l.props.hasErrorBoundary===!0||l.props.ErrorBoundary!=null||l.props.errorElement!=null,shouldRevalidate:l.props.shouldRevalidate,handle:l.props.handle,lazy:l.props.lazy};l.props.children&&(c.children=pf(l.props.children,u)),a.push(c)}),a}var po="get",yo="application/x-www-form-urlencoded";function Ho(i){return i!=null&&typeof i.tagName=="string"}function Px(i){return Ho(i)&&i.tagName.toLowerCase()==="button"}function $x(i){return Ho(i)&&i.tagName.toLowerCase()==="form"}function Jx(i){return Ho(i)&&i.tagName.toLowerCase()==="input"}function Ix(i){return!!(i.metaKey||i.altKey||i.ctrlKey||i.shiftKey)}function t_(i,e){return i.button===0&&(!e||e==="_self")&&!Ix(i)}var to=null;function e_(){if(to===null)try{new FormData(document.createElement("form"),0),to=!1}catch{to=!0}return to}var n_=new Set(["application/x-www-form-urlencoded","multipart/form-data","text/plain"]);function af(i){return i!=null&&!n_.has(i)?(An(!1,`"${i}" is not a valid \`encType\` for \`<Form>\`/\`<fetcher.Form>\` and will default to "${yo}"`),null):i}function i_(i,e){let a,l,r,u,c;if($x(i)){let h=i.getAttribute("action");l=h?ei(h,e):null,a=i.getAttribute("method")||po,r=af(i.getAttribute("enctype"))||yo,u=new FormData(i)}else if(Px(i)||Jx(i)&&(i.type==="submit"||i.type==="image")){let h=i.form;if(h==null)throw new Error('Cannot submit a <button> or <input type="submit"> without a <form>');let d=i.getAttribute("formaction")||h.getAttribute("action");if(l=d?ei(d,e):null,a=i.getAttribute("formmethod")||h.getAttribute("method")||po,r=af(i.getAttribute("formenctype"))||af(h.getAttribute("enctype"))||yo,u=new FormData(h,i),!e_()){let{name:m,type:p,value:b}=i;if(p==="image"){let v=m?`${m}.`:"";u.append(`${v}x`,"0"),u.append(`${v}y`,"0")}else m&&u.append(m,b)}}else{if(Ho(i))throw new Error('Cannot submit element that is not <form>, <button>, or <input type="submit|image">');a=po,l=null,r=yo,c=i}return u&&r==="text/plain"&&(c=u,u=void 0),{action:l,method:a.toLowerCase(),encType:r,formData:u,body:c}}function kf(i,e){if(i===!1||i===null||typeof i>"u")throw new Error(e)}async function a_(i,e){if(i.id in e)return e[i.id];try{let a=await import(i.module);return e[i.id]=a,a}catch(a){return console.error(`Error loading route module \`${i.module}\`, reloading page...`),console.error(a),window.__reactRouterContext&&window.__reactRouterContext.isSpaMode,window.location.reload(),new Promise(()=>{})}}function s_(i){return i==null?!1:i.href==null?i.rel==="preload"&&typeof i.imageSrcSet=="string"&&typeof i.imageSizes=="string":typeof i.rel=="string"&&typeof i.href=="string"}async function l_(i,e,a){let l=await Promise.all(i.map(async r=>{let u=e.routes[r.route.id];if(u){let c=await a_(u,a);return c.links?c.links():[]}return[]}));return c_(l.flat(1).filter(s_).filter(r=>r.rel==="stylesheet"||r.rel==="preload").map(r=>r.rel==="stylesheet"?{...r,rel:"prefetch",as:"style"}:{...r,rel:"prefetch"}))}function Km(i,e,a,l,r,u){let c=(d,m)=>a[m]?d.route.id!==a[m].route.id:!0,h=(d,m)=>{var p;return a[m].pathname!==d.pathname||((p=a[m].route.path)==null?void 0:p.endsWith("*"))&&a[m].params["*"]!==d.params["*"]};return u==="assets"?e.filter((d,m)=>c(d,m)||h(d,m)):u==="data"?e.filter((d,m)=>{var b;let p=l.routes[d.route.id];if(!p||!p.hasLoader)return!1;if(c(d,m)||h(d,m))return!0;if(d.route.shouldRevalidate){let v=d.route.shouldRevalidate({currentUrl:new URL(r.pathname+r.search+r.hash,window.origin),currentParams:((b=a[0])==null?void 0:b.params)||{},nextUrl:new URL(i,window.origin),nextParams:d.params,defaultShouldRevalidate:!0});if(typeof v=="boolean")return v}return!0}):[]}function r_(i,e,{includeHydrateFallback:a}={}){return o_(i.map(l=>{let r=e.routes[l.route.id];if(!r)return[];let u=[r.module];return r.clientActionModule&&(u=u.concat(r.clientActionModule)),r.clientLoaderModule&&(u=u.concat(r.clientLoaderModule)),a&&r.hydrateFallbackModule&&(u=u.concat(r.hydrateFallbackModule)),r.imports&&(u=u.concat(r.imports)),u}).flat(1))}function o_(i){return[...new Set(i)]}function u_(i){let e={},a=Object.keys(i).sort();for(let l of a)e[l]=i[l];return e}function c_(i,e){let a=new Set;return new Set(e),i.reduce((l,r)=>{let u=JSON.stringify(u_(r));return a.has(u)||(a.add(u),l.push({key:u,link:r})),l},[])}function f_(i,e){let a=typeof i=="string"?new URL(i,typeof window>"u"?"server://singlefetch/":window.location.origin):i;return a.pathname==="/"?a.pathname="_root.data":e&&ei(a.pathname,e)==="/"?a.pathname=`${e.replace(/\/$/,"")}/_root.data`:a.pathname=`${a.pathname.replace(/\/$/,"")}.data`,a}function Cy(){let i=j.useContext(rs);return kf(i,"You must render this element inside a <DataRouterContext.Provider> element"),i}function h_(){let i=j.useContext(Lo);return kf(i,"You must render this element inside a <DataRouterStateContext.Provider> element"),i}var Nf=j.createContext(void 0);Nf.displayName="FrameworkContext";function ky(){let i=j.useContext(Nf);return kf(i,"You must render this element inside a <HydratedRouter> element"),i}function d_(i,e){let a=j.useContext(Nf),[l,r]=j.useState(!1),[u,c]=j.useState(!1),{onFocus:h,onBlur:d,onMouseEnter:m,onMouseLeave:p,onTouchStart:b}=e,v=j.useRef(null);j.useEffect(()=>{if(i==="render"&&c(!0),i==="viewport"){let w=A=>{A.forEach(N=>{c(N.isIntersecting)})},T=new IntersectionObserver(w,{threshold:.5});return v.current&&T.observe(v.current),()=>{T.disconnect()}}},[i]),j.useEffect(()=>{if(l){let w=setTimeout(()=>{c(!0)},100);return()=>{clearTimeout(w)}}},[l]);let _=()=>{r(!0)},S=()=>{r(!1),c(!1)};return a?i!=="intent"?[u,v,{}]:[u,v,{onFocus:ol(h,_),onBlur:ol(d,S),onMouseEnter:ol(m,_),onMouseLeave:ol(p,S),onTouchStart:ol(b,_)}]:[!1,v,{}]}function ol(i,e){return a=>{i&&i(a),a.defaultPrevented||e(a)}}function g_({page:i,...e}){let{router:a}=Cy(),l=j.useMemo(()=>_y(a.routes,i,a.basename),[a.routes,i,a.basename]);return l?j.createElement(p_,{page:i,matches:l,...e}):null}function m_(i){let{manifest:e,routeModules:a}=ky(),[l,r]=j.useState([]);return j.useEffect(()=>{let u=!1;return l_(i,e,a).then(c=>{u||r(c)}),()=>{u=!0}},[i,e,a]),l}function p_({page:i,matches:e,...a}){let l=da(),{manifest:r,routeModules:u}=ky(),{basename:c}=Cy(),{loaderData:h,matches:d}=h_(),m=j.useMemo(()=>Km(i,e,d,r,l,"data"),[i,e,d,r,l]),p=j.useMemo(()=>Km(i,e,d,r,l,"assets"),[i,e,d,r,l]),b=j.useMemo(()=>{if(i===l.pathname+l.search+l.hash)return[];let S=new Set,w=!1;if(e.forEach(A=>{var U;let N=r.routes[A.route.id];!N||!N.hasLoader||(!m.some(Y=>Y.route.id===A.route.id)&&A.route.id in h&&((U=u[A.route.id])!=null&&U.shouldRevalidate)||N.hasClientLoader?w=!0:S.add(A.route.id))}),S.size===0)return[];let T=f_(i,c);return w&&S.size>0&&T.searchParams.set("_routes",e.filter(A=>S.has(A.route.id)).map(A=>A.route.id).join(",")),[T.pathname+T.search]},[c,h,l,r,m,e,i,u]),v=j.useMemo(()=>r_(p,r),[p,r]),_=m_(p);return j.createElement(j.Fragment,null,b.map(S=>j.createElement("link",{key:S,rel:"prefetch",as:"fetch",href:S,...a})),v.map(S=>j.createElement("link",{key:S,rel:"modulepreload",href:S,...a})),_.map(({key:S,link:w})=>j.createElement("link",{key:S,...w})))}function y_(...i){return e=>{i.forEach(a=>{typeof a=="function"?a(e):a!=null&&(a.current=e)})}}var Ny=typeof window<"u"&&typeof window.document<"u"&&typeof window.document.createElement<"u";try{Ny&&(window.__reactRouterVersion="7.4.1")}catch{}function b_({basename:i,children:e,window:a}){let l=j.useRef();l.current==null&&(l.current=lx({window:a,v5Compat:!0}));let r=l.current,[u,c]=j.useState({action:r.action,location:r.location}),h=j.useCallback(d=>{j.startTransition(()=>c(d))},[c]);return j.useLayoutEffect(()=>r.listen(h),[r,h]),j.createElement(Kx,{basename:i,children:e,location:u.location,navigationType:u.action,navigator:r})}var jy=/^(?:[a-z][a-z0-9+.-]*:|\/\/)/i,zl=j.forwardRef(function({onClick:e,discover:a="render",prefetch:l="none",relative:r,reloadDocument:u,replace:c,state:h,target:d,to:m,preventScrollReset:p,viewTransition:b,...v},_){let{basename:S}=j.useContext(Dn),w=typeof m=="string"&&jy.test(m),T,A=!1;if(typeof m=="string"&&w&&(T=m,Ny))try{let X=new URL(window.location.href),tt=m.startsWith("//")?new URL(X.protocol+m):new URL(m),rt=ei(tt.pathname,S);tt.origin===X.origin&&rt!=null?m=rt+tt.search+tt.hash:A=!0}catch{An(!1,`<Link to="${m}"> contains an invalid URL which will probably break when clicked - please update to a valid URL path.`)}let N=Cx(m,{relative:r}),[U,Y,C]=d_(l,v),W=S_(m,{replace:c,state:h,target:d,preventScrollReset:p,relative:r,viewTransition:b});function J(X){e&&e(X),X.defaultPrevented||W(X)}let $=j.createElement("a",{...v,...C,href:T||N,onClick:A||u?e:J,ref:y_(_,Y),target:d,"data-discover":!w&&a==="render"?"true":void 0});return U&&!w?j.createElement(j.Fragment,null,$,j.createElement(g_,{page:N})):$});zl.displayName="Link";var v_=j.forwardRef(function({"aria-current":e="page",caseSensitive:a=!1,className:l="",end:r=!1,style:u,to:c,viewTransition:h,children:d,...m},p){let b=Ul(c,{relative:m.relative}),v=da(),_=j.useContext(Lo),{navigator:S,basename:w}=j.useContext(Dn),T=_!=null&&A_(b)&&h===!0,A=S.encodeLocation?S.encodeLocation(b).pathname:b.pathname,N=v.pathname,U=_&&_.navigation&&_.navigation.location?_.navigation.location.pathname:null;a||(N=N.toLowerCase(),U=U?U.toLowerCase():null,A=A.toLowerCase()),U&&w&&(U=ei(U,w)||U);const Y=A!=="/"&&A.endsWith("/")?A.length-1:A.length;let C=N===A||!r&&N.startsWith(A)&&N.charAt(Y)==="/",W=U!=null&&(U===A||!r&&U.startsWith(A)&&U.charAt(A.length)==="/"),J={isActive:C,isPending:W,isTransitioning:T},$=C?e:void 0,X;typeof l=="function"?X=l(J):X=[l,C?"active":null,W?"pending":null,T?"transitioning":null].filter(Boolean).join(" ");let tt=typeof u=="function"?u(J):u;return j.createElement(zl,{...m,"aria-current":$,className:X,ref:p,style:tt,to:c,viewTransition:h},typeof d=="function"?d(J):d)});v_.displayName="NavLink";var x_=j.forwardRef(({discover:i="render",fetcherKey:e,navigate:a,reloadDocument:l,replace:r,state:u,method:c=po,action:h,onSubmit:d,relative:m,preventScrollReset:p,viewTransition:b,...v},_)=>{let S=T_(),w=M_(h,{relative:m}),T=c.toLowerCase()==="get"?"get":"post",A=typeof h=="string"&&jy.test(h),N=U=>{if(d&&d(U),U.defaultPrevented)return;U.preventDefault();let Y=U.nativeEvent.submitter,C=(Y==null?void 0:Y.getAttribute("formmethod"))||c;S(Y||U.currentTarget,{fetcherKey:e,method:C,navigate:a,replace:r,state:u,relative:m,preventScrollReset:p,viewTransition:b})};return j.createElement("form",{ref:_,method:T,action:w,onSubmit:l?d:N,...v,"data-discover":!A&&i==="render"?"true":void 0})});x_.displayName="Form";function __(i){return`${i} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function Ly(i){let e=j.useContext(rs);return Wt(e,__(i)),e}function S_(i,{target:e,replace:a,state:l,preventScrollReset:r,relative:u,viewTransition:c}={}){let h=Bl(),d=da(),m=Ul(i,{relative:u});return j.useCallback(p=>{if(t_(p,e)){p.preventDefault();let b=a!==void 0?a:Ol(d)===Ol(m);h(i,{replace:b,state:l,preventScrollReset:r,relative:u,viewTransition:c})}},[d,h,m,a,l,e,i,r,u,c])}var w_=0,E_=()=>`__${String(++w_)}__`;function T_(){let{router:i}=Ly("useSubmit"),{basename:e}=j.useContext(Dn),a=Xx();return j.useCallback(async(l,r={})=>{let{action:u,method:c,encType:h,formData:d,body:m}=i_(l,e);if(r.navigate===!1){let p=r.fetcherKey||E_();await i.fetch(p,a,r.action||u,{preventScrollReset:r.preventScrollReset,formData:d,body:m,formMethod:r.method||c,formEncType:r.encType||h,flushSync:r.flushSync})}else await i.navigate(r.action||u,{preventScrollReset:r.preventScrollReset,formData:d,body:m,formMethod:r.method||c,formEncType:r.encType||h,replace:r.replace,state:r.state,fromRouteId:a,flushSync:r.flushSync,viewTransition:r.viewTransition})},[i,e,a])}function M_(i,{relative:e}={}){let{basename:a}=j.useContext(Dn),l=j.useContext(On);Wt(l,"useFormAction must be used inside a RouteContext");let[r]=l.matches.slice(-1),u={...Ul(i||".",{relative:e})},c=da();if(i==null){u.search=c.search;let h=new URLSearchParams(u.search),d=h.getAll("index");if(d.some(p=>p==="")){h.delete("index"),d.filter(b=>b).forEach(b=>h.append("index",b));let p=h.toString();u.search=p?`?${p}`:""}}return(!i||i===".")&&r.route.index&&(u.search=u.search?u.search.replace(/^\?/,"?index&"):"?index"),a!=="/"&&(u.pathname=u.pathname==="/"?a:ti([a,u.pathname])),Ol(u)}function A_(i,e={}){let a=j.useContext(Ay);Wt(a!=null,"`useViewTransitionState` must be used within `react-router-dom`'s `RouterProvider`.  Did you accidentally import `RouterProvider` from `react-router`?");let{basename:l}=Ly("useViewTransitionState"),r=Ul(i,{relative:e.relative});if(!a.isTransitioning)return!1;let u=ei(a.currentLocation.pathname,l)||a.currentLocation.pathname,c=ei(a.nextLocation.pathname,l)||a.nextLocation.pathname;return wo(r.pathname,c)!=null||wo(r.pathname,u)!=null}new TextEncoder;const D_="/assets/image-BGP0Iu3q.jpg";function O_(){return M.jsxs("div",{className:"home-main-container",children:[M.jsxs("div",{className:"home-content-wrapper",children:[M.jsxs("div",{className:"home-header",children:[M.jsx("h1",{className:"home-title",children:"Stock Market Simulator"}),M.jsxs("p",{className:"home-subtitle",children:["Symulator giełdy, w którym możesz kupować i sprzedawać aktywa, śledzić ich ceny w czasie rzeczywistym oraz zarządzać swoim portfelem inwestycyjnym.",M.jsx("br",{})]}),M.jsx("img",{src:D_,alt:"Walka byka z niedźwiedziem - symbol giełdy",className:"home-bullbear-img"})]}),M.jsxs("div",{className:"home-assets-section",children:[M.jsxs("div",{className:"home-assets-info",children:[M.jsx("h3",{children:"Co możesz zrobić?"}),M.jsxs("ul",{children:[M.jsx("li",{children:"Obserwuj aktualne ceny akcji, kryptowalut i innych aktywów"}),M.jsx("li",{children:"Analizuj wykresy historyczne cen"}),M.jsx("li",{children:"Kupuj i sprzedawaj aktywa do swojego portfela"}),M.jsx("li",{children:"Śledź swój zysk i saldo konta na bieżąco"})]})]}),M.jsx(zl,{to:"/add-asset",children:M.jsx("button",{className:"home-assets-btn",children:"Przeglądaj Aktywa"})})]}),M.jsxs("div",{className:"home-side-info",children:[M.jsx("div",{className:"home-side-info-title",children:"Dlaczego warto korzystać?"}),M.jsxs("ul",{className:"home-side-info-list",children:[M.jsx("li",{children:"Bez ryzyka – inwestujesz wirtualne środki"}),M.jsx("li",{children:"Uczysz się inwestowania na realnych danych rynkowych"}),M.jsx("li",{children:"Możesz rywalizować z innymi użytkownikami"}),M.jsx("li",{children:"Przyjazny i nowoczesny interfejs"})]}),M.jsx("div",{className:"home-side-info-tip",children:"💡 Tip: Dodawaj środki i testuj różne strategie inwestycyjne bez ryzyka utraty prawdziwych pieniędzy!"})]})]}),M.jsxs("div",{className:"home-footer",children:[M.jsx(zl,{to:"/add-user",children:M.jsx("button",{className:"home-admin-btn",children:"Panel użytkowników (admin)"})}),M.jsx("div",{className:"home-footer-info",children:M.jsx("span",{children:"Panel użytkowników dostępny tylko dla administratorów."})})]})]})}const Wm=i=>{let e;const a=new Set,l=(m,p)=>{const b=typeof m=="function"?m(e):m;if(!Object.is(b,e)){const v=e;e=p??(typeof b!="object"||b===null)?b:Object.assign({},e,b),a.forEach(_=>_(e,v))}},r=()=>e,h={setState:l,getState:r,getInitialState:()=>d,subscribe:m=>(a.add(m),()=>a.delete(m))},d=e=i(l,r,h);return h},z_=i=>i?Wm(i):Wm,R_=i=>i;function C_(i,e=R_){const a=Ee.useSyncExternalStore(i.subscribe,()=>e(i.getState()),()=>e(i.getInitialState()));return Ee.useDebugValue(a),a}const Pm=i=>{const e=z_(i),a=l=>C_(e,l);return Object.assign(a,e),a},k_=i=>i?Pm(i):Pm,jf=k_(i=>({users:[],isAuthenticated:!!localStorage.getItem("userId"),userRole:localStorage.getItem("userRole"),setUsers:e=>i({users:e}),addUser:e=>i(a=>({users:[...a.users,e]})),setAuthenticated:e=>i({isAuthenticated:e}),setUserRole:e=>{localStorage.setItem("userRole",e||""),i({userRole:e})},logout:()=>{localStorage.removeItem("userId"),localStorage.removeItem("userRole"),i({isAuthenticated:!1,users:[],userRole:null})}}));var Vl=i=>i.type==="checkbox",oa=i=>i instanceof Date,ze=i=>i==null;const Hy=i=>typeof i=="object";var ee=i=>!ze(i)&&!Array.isArray(i)&&Hy(i)&&!oa(i),N_=i=>ee(i)&&i.target?Vl(i.target)?i.target.checked:i.target.value:i,j_=i=>i.substring(0,i.search(/\.\d+(\.|$)/))||i,L_=(i,e)=>i.has(j_(e)),H_=i=>{const e=i.constructor&&i.constructor.prototype;return ee(e)&&e.hasOwnProperty("isPrototypeOf")},Lf=typeof window<"u"&&typeof window.HTMLElement<"u"&&typeof document<"u";function we(i){let e;const a=Array.isArray(i),l=typeof FileList<"u"?i instanceof FileList:!1;if(i instanceof Date)e=new Date(i);else if(i instanceof Set)e=new Set(i);else if(!(Lf&&(i instanceof Blob||l))&&(a||ee(i)))if(e=a?[]:{},!a&&!H_(i))e=i;else for(const r in i)i.hasOwnProperty(r)&&(e[r]=we(i[r]));else return i;return e}var Bo=i=>Array.isArray(i)?i.filter(Boolean):[],se=i=>i===void 0,ht=(i,e,a)=>{if(!e||!ee(i))return a;const l=Bo(e.split(/[,[\].]+?/)).reduce((r,u)=>ze(r)?r:r[u],i);return se(l)||l===i?se(i[e])?a:i[e]:l},En=i=>typeof i=="boolean",Hf=i=>/^\w*$/.test(i),By=i=>Bo(i.replace(/["|']|\]/g,"").split(/\.|\[/)),Ft=(i,e,a)=>{let l=-1;const r=Hf(e)?[e]:By(e),u=r.length,c=u-1;for(;++l<u;){const h=r[l];let d=a;if(l!==c){const m=i[h];d=ee(m)||Array.isArray(m)?m:isNaN(+r[l+1])?{}:[]}if(h==="__proto__"||h==="constructor"||h==="prototype")return;i[h]=d,i=i[h]}};const $m={BLUR:"blur",FOCUS_OUT:"focusout"},fn={onBlur:"onBlur",onChange:"onChange",onSubmit:"onSubmit",onTouched:"onTouched",all:"all"},Wn={max:"max",min:"min",maxLength:"maxLength",minLength:"minLength",pattern:"pattern",required:"required",validate:"validate"};Ee.createContext(null);var B_=(i,e,a,l=!0)=>{const r={defaultValues:e._defaultValues};for(const u in i)Object.defineProperty(r,u,{get:()=>{const c=u;return e._proxyFormState[c]!==fn.all&&(e._proxyFormState[c]=!l||fn.all),i[c]}});return r},Tn=i=>typeof i=="string",U_=(i,e,a,l,r)=>Tn(i)?(l&&e.watch.add(i),ht(a,i,r)):Array.isArray(i)?i.map(u=>(l&&e.watch.add(u),ht(a,u))):(l&&(e.watchAll=!0),a),V_=(i,e,a,l,r)=>e?{...a[i],types:{...a[i]&&a[i].types?a[i].types:{},[l]:r||!0}}:{},_l=i=>Array.isArray(i)?i:[i],Jm=()=>{let i=[];return{get observers(){return i},next:r=>{for(const u of i)u.next&&u.next(r)},subscribe:r=>(i.push(r),{unsubscribe:()=>{i=i.filter(u=>u!==r)}}),unsubscribe:()=>{i=[]}}},yf=i=>ze(i)||!Hy(i);function Ai(i,e){if(yf(i)||yf(e))return i===e;if(oa(i)&&oa(e))return i.getTime()===e.getTime();const a=Object.keys(i),l=Object.keys(e);if(a.length!==l.length)return!1;for(const r of a){const u=i[r];if(!l.includes(r))return!1;if(r!=="ref"){const c=e[r];if(oa(u)&&oa(c)||ee(u)&&ee(c)||Array.isArray(u)&&Array.isArray(c)?!Ai(u,c):u!==c)return!1}}return!0}var Oe=i=>ee(i)&&!Object.keys(i).length,Bf=i=>i.type==="file",hn=i=>typeof i=="function",Eo=i=>{if(!Lf)return!1;const e=i?i.ownerDocument:0;return i instanceof(e&&e.defaultView?e.defaultView.HTMLElement:HTMLElement)},Uy=i=>i.type==="select-multiple",Uf=i=>i.type==="radio",Y_=i=>Uf(i)||Vl(i),sf=i=>Eo(i)&&i.isConnected;function q_(i,e){const a=e.slice(0,-1).length;let l=0;for(;l<a;)i=se(i)?l++:i[e[l++]];return i}function F_(i){for(const e in i)if(i.hasOwnProperty(e)&&!se(i[e]))return!1;return!0}function oe(i,e){const a=Array.isArray(e)?e:Hf(e)?[e]:By(e),l=a.length===1?i:q_(i,a),r=a.length-1,u=a[r];return l&&delete l[u],r!==0&&(ee(l)&&Oe(l)||Array.isArray(l)&&F_(l))&&oe(i,a.slice(0,-1)),i}var Vy=i=>{for(const e in i)if(hn(i[e]))return!0;return!1};function To(i,e={}){const a=Array.isArray(i);if(ee(i)||a)for(const l in i)Array.isArray(i[l])||ee(i[l])&&!Vy(i[l])?(e[l]=Array.isArray(i[l])?[]:{},To(i[l],e[l])):ze(i[l])||(e[l]=!0);return e}function Yy(i,e,a){const l=Array.isArray(i);if(ee(i)||l)for(const r in i)Array.isArray(i[r])||ee(i[r])&&!Vy(i[r])?se(e)||yf(a[r])?a[r]=Array.isArray(i[r])?To(i[r],[]):{...To(i[r])}:Yy(i[r],ze(e)?{}:e[r],a[r]):a[r]=!Ai(i[r],e[r]);return a}var ul=(i,e)=>Yy(i,e,To(e));const Im={value:!1,isValid:!1},tp={value:!0,isValid:!0};var qy=i=>{if(Array.isArray(i)){if(i.length>1){const e=i.filter(a=>a&&a.checked&&!a.disabled).map(a=>a.value);return{value:e,isValid:!!e.length}}return i[0].checked&&!i[0].disabled?i[0].attributes&&!se(i[0].attributes.value)?se(i[0].value)||i[0].value===""?tp:{value:i[0].value,isValid:!0}:tp:Im}return Im},Fy=(i,{valueAsNumber:e,valueAsDate:a,setValueAs:l})=>se(i)?i:e?i===""?NaN:i&&+i:a&&Tn(i)?new Date(i):l?l(i):i;const ep={isValid:!1,value:null};var Xy=i=>Array.isArray(i)?i.reduce((e,a)=>a&&a.checked&&!a.disabled?{isValid:!0,value:a.value}:e,ep):ep;function np(i){const e=i.ref;return Bf(e)?e.files:Uf(e)?Xy(i.refs).value:Uy(e)?[...e.selectedOptions].map(({value:a})=>a):Vl(e)?qy(i.refs).value:Fy(se(e.value)?i.ref.value:e.value,i)}var X_=(i,e,a,l)=>{const r={};for(const u of i){const c=ht(e,u);c&&Ft(r,u,c._f)}return{criteriaMode:a,names:[...i],fields:r,shouldUseNativeValidation:l}},Mo=i=>i instanceof RegExp,cl=i=>se(i)?i:Mo(i)?i.source:ee(i)?Mo(i.value)?i.value.source:i.value:i,ip=i=>({isOnSubmit:!i||i===fn.onSubmit,isOnBlur:i===fn.onBlur,isOnChange:i===fn.onChange,isOnAll:i===fn.all,isOnTouch:i===fn.onTouched});const ap="AsyncFunction";var G_=i=>!!i&&!!i.validate&&!!(hn(i.validate)&&i.validate.constructor.name===ap||ee(i.validate)&&Object.values(i.validate).find(e=>e.constructor.name===ap)),Q_=i=>i.mount&&(i.required||i.min||i.max||i.maxLength||i.minLength||i.pattern||i.validate),sp=(i,e,a)=>!a&&(e.watchAll||e.watch.has(i)||[...e.watch].some(l=>i.startsWith(l)&&/^\.\w+/.test(i.slice(l.length))));const Sl=(i,e,a,l)=>{for(const r of a||Object.keys(i)){const u=ht(i,r);if(u){const{_f:c,...h}=u;if(c){if(c.refs&&c.refs[0]&&e(c.refs[0],r)&&!l)return!0;if(c.ref&&e(c.ref,c.name)&&!l)return!0;if(Sl(h,e))break}else if(ee(h)&&Sl(h,e))break}}};function lp(i,e,a){const l=ht(i,a);if(l||Hf(a))return{error:l,name:a};const r=a.split(".");for(;r.length;){const u=r.join("."),c=ht(e,u),h=ht(i,u);if(c&&!Array.isArray(c)&&a!==u)return{name:a};if(h&&h.type)return{name:u,error:h};r.pop()}return{name:a}}var Z_=(i,e,a,l)=>{a(i);const{name:r,...u}=i;return Oe(u)||Object.keys(u).length>=Object.keys(e).length||Object.keys(u).find(c=>e[c]===(!l||fn.all))},K_=(i,e,a)=>!i||!e||i===e||_l(i).some(l=>l&&(a?l===e:l.startsWith(e)||e.startsWith(l))),W_=(i,e,a,l,r)=>r.isOnAll?!1:!a&&r.isOnTouch?!(e||i):(a?l.isOnBlur:r.isOnBlur)?!i:(a?l.isOnChange:r.isOnChange)?i:!0,P_=(i,e)=>!Bo(ht(i,e)).length&&oe(i,e),$_=(i,e,a)=>{const l=_l(ht(i,a));return Ft(l,"root",e[a]),Ft(i,a,l),i},bo=i=>Tn(i);function rp(i,e,a="validate"){if(bo(i)||Array.isArray(i)&&i.every(bo)||En(i)&&!i)return{type:a,message:bo(i)?i:"",ref:e}}var ts=i=>ee(i)&&!Mo(i)?i:{value:i,message:""},op=async(i,e,a,l,r,u)=>{const{ref:c,refs:h,required:d,maxLength:m,minLength:p,min:b,max:v,pattern:_,validate:S,name:w,valueAsNumber:T,mount:A}=i._f,N=ht(a,w);if(!A||e.has(w))return{};const U=h?h[0]:c,Y=at=>{r&&U.reportValidity&&(U.setCustomValidity(En(at)?"":at||""),U.reportValidity())},C={},W=Uf(c),J=Vl(c),$=W||J,X=(T||Bf(c))&&se(c.value)&&se(N)||Eo(c)&&c.value===""||N===""||Array.isArray(N)&&!N.length,tt=V_.bind(null,w,l,C),rt=(at,ct,st,P=Wn.maxLength,V=Wn.minLength)=>{const et=at?ct:st;C[w]={type:at?P:V,message:et,ref:c,...tt(at?P:V,et)}};if(u?!Array.isArray(N)||!N.length:d&&(!$&&(X||ze(N))||En(N)&&!N||J&&!qy(h).isValid||W&&!Xy(h).isValid)){const{value:at,message:ct}=bo(d)?{value:!!d,message:d}:ts(d);if(at&&(C[w]={type:Wn.required,message:ct,ref:U,...tt(Wn.required,ct)},!l))return Y(ct),C}if(!X&&(!ze(b)||!ze(v))){let at,ct;const st=ts(v),P=ts(b);if(!ze(N)&&!isNaN(N)){const V=c.valueAsNumber||N&&+N;ze(st.value)||(at=V>st.value),ze(P.value)||(ct=V<P.value)}else{const V=c.valueAsDate||new Date(N),et=O=>new Date(new Date().toDateString()+" "+O),ut=c.type=="time",wt=c.type=="week";Tn(st.value)&&N&&(at=ut?et(N)>et(st.value):wt?N>st.value:V>new Date(st.value)),Tn(P.value)&&N&&(ct=ut?et(N)<et(P.value):wt?N<P.value:V<new Date(P.value))}if((at||ct)&&(rt(!!at,st.message,P.message,Wn.max,Wn.min),!l))return Y(C[w].message),C}if((m||p)&&!X&&(Tn(N)||u&&Array.isArray(N))){const at=ts(m),ct=ts(p),st=!ze(at.value)&&N.length>+at.value,P=!ze(ct.value)&&N.length<+ct.value;if((st||P)&&(rt(st,at.message,ct.message),!l))return Y(C[w].message),C}if(_&&!X&&Tn(N)){const{value:at,message:ct}=ts(_);if(Mo(at)&&!N.match(at)&&(C[w]={type:Wn.pattern,message:ct,ref:c,...tt(Wn.pattern,ct)},!l))return Y(ct),C}if(S){if(hn(S)){const at=await S(N,a),ct=rp(at,U);if(ct&&(C[w]={...ct,...tt(Wn.validate,ct.message)},!l))return Y(ct.message),C}else if(ee(S)){let at={};for(const ct in S){if(!Oe(at)&&!l)break;const st=rp(await S[ct](N,a),U,ct);st&&(at={...st,...tt(ct,st.message)},Y(st.message),l&&(C[w]=at))}if(!Oe(at)&&(C[w]={ref:U,...at},!l))return C}}return Y(!0),C};const J_={mode:fn.onSubmit,reValidateMode:fn.onChange,shouldFocusError:!0};function I_(i={}){let e={...J_,...i},a={submitCount:0,isDirty:!1,isLoading:hn(e.defaultValues),isValidating:!1,isSubmitted:!1,isSubmitting:!1,isSubmitSuccessful:!1,isValid:!1,touchedFields:{},dirtyFields:{},validatingFields:{},errors:e.errors||{},disabled:e.disabled||!1};const l={};let r=ee(e.defaultValues)||ee(e.values)?we(e.values||e.defaultValues)||{}:{},u=e.shouldUnregister?{}:we(r),c={action:!1,mount:!1,watch:!1},h={mount:new Set,disabled:new Set,unMount:new Set,array:new Set,watch:new Set},d,m=0;const p={isDirty:!1,dirtyFields:!1,validatingFields:!1,touchedFields:!1,isValidating:!1,isValid:!1,errors:!1};let b={...p};const v={array:Jm(),state:Jm()},_=ip(e.mode),S=ip(e.reValidateMode),w=e.criteriaMode===fn.all,T=D=>B=>{clearTimeout(m),m=setTimeout(D,B)},A=async D=>{if(!e.disabled&&(p.isValid||b.isValid||D)){const B=e.resolver?Oe((await X()).errors):await rt(l,!0);B!==a.isValid&&v.state.next({isValid:B})}},N=(D,B)=>{!e.disabled&&(p.isValidating||p.validatingFields||b.isValidating||b.validatingFields)&&((D||Array.from(h.mount)).forEach(q=>{q&&(B?Ft(a.validatingFields,q,B):oe(a.validatingFields,q))}),v.state.next({validatingFields:a.validatingFields,isValidating:!Oe(a.validatingFields)}))},U=(D,B=[],q,lt,nt=!0,I=!0)=>{if(lt&&q&&!e.disabled){if(c.action=!0,I&&Array.isArray(ht(l,D))){const ot=q(ht(l,D),lt.argA,lt.argB);nt&&Ft(l,D,ot)}if(I&&Array.isArray(ht(a.errors,D))){const ot=q(ht(a.errors,D),lt.argA,lt.argB);nt&&Ft(a.errors,D,ot),P_(a.errors,D)}if((p.touchedFields||b.touchedFields)&&I&&Array.isArray(ht(a.touchedFields,D))){const ot=q(ht(a.touchedFields,D),lt.argA,lt.argB);nt&&Ft(a.touchedFields,D,ot)}(p.dirtyFields||b.dirtyFields)&&(a.dirtyFields=ul(r,u)),v.state.next({name:D,isDirty:ct(D,B),dirtyFields:a.dirtyFields,errors:a.errors,isValid:a.isValid})}else Ft(u,D,B)},Y=(D,B)=>{Ft(a.errors,D,B),v.state.next({errors:a.errors})},C=D=>{a.errors=D,v.state.next({errors:a.errors,isValid:!1})},W=(D,B,q,lt)=>{const nt=ht(l,D);if(nt){const I=ht(u,D,se(q)?ht(r,D):q);se(I)||lt&&lt.defaultChecked||B?Ft(u,D,B?I:np(nt._f)):V(D,I),c.mount&&A()}},J=(D,B,q,lt,nt)=>{let I=!1,ot=!1;const Dt={name:D};if(!e.disabled){if(!q||lt){(p.isDirty||b.isDirty)&&(ot=a.isDirty,a.isDirty=Dt.isDirty=ct(),I=ot!==Dt.isDirty);const Qt=Ai(ht(r,D),B);ot=!!ht(a.dirtyFields,D),Qt?oe(a.dirtyFields,D):Ft(a.dirtyFields,D,!0),Dt.dirtyFields=a.dirtyFields,I=I||(p.dirtyFields||b.dirtyFields)&&ot!==!Qt}if(q){const Qt=ht(a.touchedFields,D);Qt||(Ft(a.touchedFields,D,q),Dt.touchedFields=a.touchedFields,I=I||(p.touchedFields||b.touchedFields)&&Qt!==q)}I&&nt&&v.state.next(Dt)}return I?Dt:{}},$=(D,B,q,lt)=>{const nt=ht(a.errors,D),I=(p.isValid||b.isValid)&&En(B)&&a.isValid!==B;if(e.delayError&&q?(d=T(()=>Y(D,q)),d(e.delayError)):(clearTimeout(m),d=null,q?Ft(a.errors,D,q):oe(a.errors,D)),(q?!Ai(nt,q):nt)||!Oe(lt)||I){const ot={...lt,...I&&En(B)?{isValid:B}:{},errors:a.errors,name:D};a={...a,...ot},v.state.next(ot)}},X=async D=>{N(D,!0);const B=await e.resolver(u,e.context,X_(D||h.mount,l,e.criteriaMode,e.shouldUseNativeValidation));return N(D),B},tt=async D=>{const{errors:B}=await X(D);if(D)for(const q of D){const lt=ht(B,q);lt?Ft(a.errors,q,lt):oe(a.errors,q)}else a.errors=B;return B},rt=async(D,B,q={valid:!0})=>{for(const lt in D){const nt=D[lt];if(nt){const{_f:I,...ot}=nt;if(I){const Dt=h.array.has(I.name),Qt=nt._f&&G_(nt._f);Qt&&p.validatingFields&&N([lt],!0);const ce=await op(nt,h.disabled,u,w,e.shouldUseNativeValidation&&!B,Dt);if(Qt&&p.validatingFields&&N([lt]),ce[I.name]&&(q.valid=!1,B))break;!B&&(ht(ce,I.name)?Dt?$_(a.errors,ce,I.name):Ft(a.errors,I.name,ce[I.name]):oe(a.errors,I.name))}!Oe(ot)&&await rt(ot,B,q)}}return q.valid},at=()=>{for(const D of h.unMount){const B=ht(l,D);B&&(B._f.refs?B._f.refs.every(q=>!sf(q)):!sf(B._f.ref))&&Gt(D)}h.unMount=new Set},ct=(D,B)=>!e.disabled&&(D&&B&&Ft(u,D,B),!Ai(gt(),r)),st=(D,B,q)=>U_(D,h,{...c.mount?u:se(B)?r:Tn(D)?{[D]:B}:B},q,B),P=D=>Bo(ht(c.mount?u:r,D,e.shouldUnregister?ht(r,D,[]):[])),V=(D,B,q={})=>{const lt=ht(l,D);let nt=B;if(lt){const I=lt._f;I&&(!I.disabled&&Ft(u,D,Fy(B,I)),nt=Eo(I.ref)&&ze(B)?"":B,Uy(I.ref)?[...I.ref.options].forEach(ot=>ot.selected=nt.includes(ot.value)):I.refs?Vl(I.ref)?I.refs.length>1?I.refs.forEach(ot=>(!ot.defaultChecked||!ot.disabled)&&(ot.checked=Array.isArray(nt)?!!nt.find(Dt=>Dt===ot.value):nt===ot.value)):I.refs[0]&&(I.refs[0].checked=!!nt):I.refs.forEach(ot=>ot.checked=ot.value===nt):Bf(I.ref)?I.ref.value="":(I.ref.value=nt,I.ref.type||v.state.next({name:D,values:we(u)})))}(q.shouldDirty||q.shouldTouch)&&J(D,nt,q.shouldTouch,q.shouldDirty,!0),q.shouldValidate&&K(D)},et=(D,B,q)=>{for(const lt in B){const nt=B[lt],I=`${D}.${lt}`,ot=ht(l,I);(h.array.has(D)||ee(nt)||ot&&!ot._f)&&!oa(nt)?et(I,nt,q):V(I,nt,q)}},ut=(D,B,q={})=>{const lt=ht(l,D),nt=h.array.has(D),I=we(B);Ft(u,D,I),nt?(v.array.next({name:D,values:we(u)}),(p.isDirty||p.dirtyFields||b.isDirty||b.dirtyFields)&&q.shouldDirty&&v.state.next({name:D,dirtyFields:ul(r,u),isDirty:ct(D,I)})):lt&&!lt._f&&!ze(I)?et(D,I,q):V(D,I,q),sp(D,h)&&v.state.next({...a}),v.state.next({name:c.mount?D:void 0,values:we(u)})},wt=async D=>{c.mount=!0;const B=D.target;let q=B.name,lt=!0;const nt=ht(l,q),I=ot=>{lt=Number.isNaN(ot)||oa(ot)&&isNaN(ot.getTime())||Ai(ot,ht(u,q,ot))};if(nt){let ot,Dt;const Qt=B.type?np(nt._f):N_(D),ce=D.type===$m.BLUR||D.type===$m.FOCUS_OUT,Fo=!Q_(nt._f)&&!e.resolver&&!ht(a.errors,q)&&!nt._f.deps||W_(ce,ht(a.touchedFields,q),a.isSubmitted,S,_),Rn=sp(q,h,ce);Ft(u,q,Qt),ce?(nt._f.onBlur&&nt._f.onBlur(D),d&&d(0)):nt._f.onChange&&nt._f.onChange(D);const me=J(q,Qt,ce),Xo=!Oe(me)||Rn;if(!ce&&v.state.next({name:q,type:D.type,values:we(u)}),Fo)return(p.isValid||b.isValid)&&(e.mode==="onBlur"?ce&&A():ce||A()),Xo&&v.state.next({name:q,...Rn?{}:me});if(!ce&&Rn&&v.state.next({...a}),e.resolver){const{errors:ln}=await X([q]);if(I(Qt),lt){const Me=lp(a.errors,l,q),Fl=lp(ln,l,Me.name||q);ot=Fl.error,q=Fl.name,Dt=Oe(ln)}}else N([q],!0),ot=(await op(nt,h.disabled,u,w,e.shouldUseNativeValidation))[q],N([q]),I(Qt),lt&&(ot?Dt=!1:(p.isValid||b.isValid)&&(Dt=await rt(l,!0)));lt&&(nt._f.deps&&K(nt._f.deps),$(q,Dt,ot,me))}},O=(D,B)=>{if(ht(a.errors,B)&&D.focus)return D.focus(),1},K=async(D,B={})=>{let q,lt;const nt=_l(D);if(e.resolver){const I=await tt(se(D)?D:nt);q=Oe(I),lt=D?!nt.some(ot=>ht(I,ot)):q}else D?(lt=(await Promise.all(nt.map(async I=>{const ot=ht(l,I);return await rt(ot&&ot._f?{[I]:ot}:ot)}))).every(Boolean),!(!lt&&!a.isValid)&&A()):lt=q=await rt(l);return v.state.next({...!Tn(D)||(p.isValid||b.isValid)&&q!==a.isValid?{}:{name:D},...e.resolver||!D?{isValid:q}:{},errors:a.errors}),B.shouldFocus&&!lt&&Sl(l,O,D?nt:h.mount),lt},gt=D=>{const B={...c.mount?u:r};return se(D)?B:Tn(D)?ht(B,D):D.map(q=>ht(B,q))},dt=(D,B)=>({invalid:!!ht((B||a).errors,D),isDirty:!!ht((B||a).dirtyFields,D),error:ht((B||a).errors,D),isValidating:!!ht(a.validatingFields,D),isTouched:!!ht((B||a).touchedFields,D)}),it=D=>{D&&_l(D).forEach(B=>oe(a.errors,B)),v.state.next({errors:D?a.errors:{}})},xt=(D,B,q)=>{const lt=(ht(l,D,{_f:{}})._f||{}).ref,nt=ht(a.errors,D)||{},{ref:I,message:ot,type:Dt,...Qt}=nt;Ft(a.errors,D,{...Qt,...B,ref:lt}),v.state.next({name:D,errors:a.errors,isValid:!1}),q&&q.shouldFocus&&lt&&lt.focus&&lt.focus()},bt=(D,B)=>hn(D)?v.state.subscribe({next:q=>D(st(void 0,B),q)}):st(D,B,!0),ue=D=>v.state.subscribe({next:B=>{K_(D.name,B.name,D.exact)&&Z_(B,D.formState||p,us,D.reRenderRoot)&&D.callback({values:{...u},...a,...B})}}).unsubscribe,Rt=D=>(c.mount=!0,b={...b,...D.formState},ue({...D,formState:b})),Gt=(D,B={})=>{for(const q of D?_l(D):h.mount)h.mount.delete(q),h.array.delete(q),B.keepValue||(oe(l,q),oe(u,q)),!B.keepError&&oe(a.errors,q),!B.keepDirty&&oe(a.dirtyFields,q),!B.keepTouched&&oe(a.touchedFields,q),!B.keepIsValidating&&oe(a.validatingFields,q),!e.shouldUnregister&&!B.keepDefaultValue&&oe(r,q);v.state.next({values:we(u)}),v.state.next({...a,...B.keepDirty?{isDirty:ct()}:{}}),!B.keepIsValid&&A()},Bt=({disabled:D,name:B})=>{(En(D)&&c.mount||D||h.disabled.has(B))&&(D?h.disabled.add(B):h.disabled.delete(B))},Re=(D,B={})=>{let q=ht(l,D);const lt=En(B.disabled)||En(e.disabled);return Ft(l,D,{...q||{},_f:{...q&&q._f?q._f:{ref:{name:D}},name:D,mount:!0,...B}}),h.mount.add(D),q?Bt({disabled:En(B.disabled)?B.disabled:e.disabled,name:D}):W(D,!0,B.value),{...lt?{disabled:B.disabled||e.disabled}:{},...e.progressive?{required:!!B.required,min:cl(B.min),max:cl(B.max),minLength:cl(B.minLength),maxLength:cl(B.maxLength),pattern:cl(B.pattern)}:{},name:D,onChange:wt,onBlur:wt,ref:nt=>{if(nt){Re(D,B),q=ht(l,D);const I=se(nt.value)&&nt.querySelectorAll&&nt.querySelectorAll("input,select,textarea")[0]||nt,ot=Y_(I),Dt=q._f.refs||[];if(ot?Dt.find(Qt=>Qt===I):I===q._f.ref)return;Ft(l,D,{_f:{...q._f,...ot?{refs:[...Dt.filter(sf),I,...Array.isArray(ht(r,D))?[{}]:[]],ref:{type:I.type,name:D}}:{ref:I}}}),W(D,!1,void 0,I)}else q=ht(l,D,{}),q._f&&(q._f.mount=!1),(e.shouldUnregister||B.shouldUnregister)&&!(L_(h.array,D)&&c.action)&&h.unMount.add(D)}}},ni=()=>e.shouldFocusError&&Sl(l,O,h.mount),mn=D=>{En(D)&&(v.state.next({disabled:D}),Sl(l,(B,q)=>{const lt=ht(l,q);lt&&(B.disabled=lt._f.disabled||D,Array.isArray(lt._f.refs)&&lt._f.refs.forEach(nt=>{nt.disabled=lt._f.disabled||D}))},0,!1))},ki=(D,B)=>async q=>{let lt;q&&(q.preventDefault&&q.preventDefault(),q.persist&&q.persist());let nt=we(u);if(v.state.next({isSubmitting:!0}),e.resolver){const{errors:I,values:ot}=await X();a.errors=I,nt=ot}else await rt(l);if(h.disabled.size)for(const I of h.disabled)Ft(nt,I,void 0);if(oe(a.errors,"root"),Oe(a.errors)){v.state.next({errors:{}});try{await D(nt,q)}catch(I){lt=I}}else B&&await B({...a.errors},q),ni(),setTimeout(ni);if(v.state.next({isSubmitted:!0,isSubmitting:!1,isSubmitSuccessful:Oe(a.errors)&&!lt,submitCount:a.submitCount+1,errors:a.errors}),lt)throw lt},ma=(D,B={})=>{ht(l,D)&&(se(B.defaultValue)?ut(D,we(ht(r,D))):(ut(D,B.defaultValue),Ft(r,D,we(B.defaultValue))),B.keepTouched||oe(a.touchedFields,D),B.keepDirty||(oe(a.dirtyFields,D),a.isDirty=B.defaultValue?ct(D,we(ht(r,D))):ct()),B.keepError||(oe(a.errors,D),p.isValid&&A()),v.state.next({...a}))},zn=(D,B={})=>{const q=D?we(D):r,lt=we(q),nt=Oe(D),I=nt?r:lt;if(B.keepDefaultValues||(r=q),!B.keepValues){if(B.keepDirtyValues){const ot=new Set([...h.mount,...Object.keys(ul(r,u))]);for(const Dt of Array.from(ot))ht(a.dirtyFields,Dt)?Ft(I,Dt,ht(u,Dt)):ut(Dt,ht(I,Dt))}else{if(Lf&&se(D))for(const ot of h.mount){const Dt=ht(l,ot);if(Dt&&Dt._f){const Qt=Array.isArray(Dt._f.refs)?Dt._f.refs[0]:Dt._f.ref;if(Eo(Qt)){const ce=Qt.closest("form");if(ce){ce.reset();break}}}}for(const ot of h.mount)ut(ot,ht(I,ot))}u=we(I),v.array.next({values:{...I}}),v.state.next({values:{...I}})}h={mount:B.keepDirtyValues?h.mount:new Set,unMount:new Set,array:new Set,disabled:new Set,watch:new Set,watchAll:!1,focus:""},c.mount=!p.isValid||!!B.keepIsValid||!!B.keepDirtyValues,c.watch=!!e.shouldUnregister,v.state.next({submitCount:B.keepSubmitCount?a.submitCount:0,isDirty:nt?!1:B.keepDirty?a.isDirty:!!(B.keepDefaultValues&&!Ai(D,r)),isSubmitted:B.keepIsSubmitted?a.isSubmitted:!1,dirtyFields:nt?{}:B.keepDirtyValues?B.keepDefaultValues&&u?ul(r,u):a.dirtyFields:B.keepDefaultValues&&D?ul(r,D):B.keepDirty?a.dirtyFields:{},touchedFields:B.keepTouched?a.touchedFields:{},errors:B.keepErrors?a.errors:{},isSubmitSuccessful:B.keepIsSubmitSuccessful?a.isSubmitSuccessful:!1,isSubmitting:!1})},pa=(D,B)=>zn(hn(D)?D(u):D,B),ya=(D,B={})=>{const q=ht(l,D),lt=q&&q._f;if(lt){const nt=lt.refs?lt.refs[0]:lt.ref;nt.focus&&(nt.focus(),B.shouldSelect&&hn(nt.select)&&nt.select())}},us=D=>{a={...a,...D}},ba={control:{register:Re,unregister:Gt,getFieldState:dt,handleSubmit:ki,setError:xt,_subscribe:ue,_runSchema:X,_getWatch:st,_getDirty:ct,_setValid:A,_setFieldArray:U,_setDisabledField:Bt,_setErrors:C,_getFieldArray:P,_reset:zn,_resetDefaultValues:()=>hn(e.defaultValues)&&e.defaultValues().then(D=>{pa(D,e.resetOptions),v.state.next({isLoading:!1})}),_removeUnmounted:at,_disableForm:mn,_subjects:v,_proxyFormState:p,get _fields(){return l},get _formValues(){return u},get _state(){return c},set _state(D){c=D},get _defaultValues(){return r},get _names(){return h},set _names(D){h=D},get _formState(){return a},get _options(){return e},set _options(D){e={...e,...D}}},subscribe:Rt,trigger:K,register:Re,handleSubmit:ki,watch:bt,setValue:ut,getValues:gt,reset:pa,resetField:ma,clearErrors:it,unregister:Gt,setError:xt,setFocus:ya,getFieldState:dt};return{...ba,formControl:ba}}function Gy(i={}){const e=Ee.useRef(void 0),a=Ee.useRef(void 0),[l,r]=Ee.useState({isDirty:!1,isValidating:!1,isLoading:hn(i.defaultValues),isSubmitted:!1,isSubmitting:!1,isSubmitSuccessful:!1,isValid:!1,submitCount:0,dirtyFields:{},touchedFields:{},validatingFields:{},errors:i.errors||{},disabled:i.disabled||!1,defaultValues:hn(i.defaultValues)?void 0:i.defaultValues});e.current||(e.current={...i.formControl?i.formControl:I_(i),formState:l},i.formControl&&i.defaultValues&&!hn(i.defaultValues)&&i.formControl.reset(i.defaultValues,i.resetOptions));const u=e.current.control;return u._options=i,Ee.useLayoutEffect(()=>u._subscribe({formState:u._proxyFormState,callback:()=>r({...u._formState}),reRenderRoot:!0}),[u]),Ee.useEffect(()=>u._disableForm(i.disabled),[u,i.disabled]),Ee.useEffect(()=>{if(u._proxyFormState.isDirty){const c=u._getDirty();c!==l.isDirty&&u._subjects.state.next({isDirty:c})}},[u,l.isDirty]),Ee.useEffect(()=>{i.values&&!Ai(i.values,a.current)?(u._reset(i.values,u._options.resetOptions),a.current=i.values,r(c=>({...c}))):u._resetDefaultValues()},[i.values,u]),Ee.useEffect(()=>{i.errors&&!Oe(i.errors)&&u._setErrors(i.errors)},[i.errors,u]),Ee.useEffect(()=>{u._state.mount||(u._setValid(),u._state.mount=!0),u._state.watch&&(u._state.watch=!1,u._subjects.state.next({...u._formState})),u._removeUnmounted()}),Ee.useEffect(()=>{i.shouldUnregister&&u._subjects.state.next({values:u._getWatch()})},[i.shouldUnregister,u]),e.current.formState=B_(l,u),e.current}const t1=({loading:i,onAdd:e})=>{const{register:a,handleSubmit:l,reset:r}=Gy(),u=async c=>{await e(c),r()};return M.jsxs("form",{onSubmit:l(u),className:"admin-users-form",children:[M.jsx("input",{...a("username",{required:!0}),placeholder:"Nazwa użytkownika",className:"admin-users-input"}),M.jsx("input",{...a("email",{required:!0}),placeholder:"Email",type:"email",className:"admin-users-input"}),M.jsx("input",{...a("password",{required:!0}),placeholder:"Hasło",type:"password",className:"admin-users-input"}),M.jsx("button",{type:"submit",className:"admin-users-btn",disabled:i,children:i?"Dodawanie...":"Dodaj użytkownika"})]})},e1=({user:i,onWalletClick:e,onTransactionsClick:a,onDeleteClick:l})=>M.jsxs("div",{className:"admin-user-item",children:[M.jsx("div",{className:"admin-user-avatar",children:i.name?i.name[0].toUpperCase():"U"}),M.jsxs("div",{className:"admin-user-info",children:[M.jsx("span",{className:"admin-user-name",children:i.name}),M.jsx("span",{className:"admin-user-email",children:i.email})]}),M.jsxs("div",{className:"admin-user-actions",children:[M.jsx("button",{className:"admin-user-wallet-btn",onClick:()=>e(i.id),children:"Portfel"}),M.jsx("button",{className:"admin-user-transactions-btn",onClick:()=>a(i.id),children:"Transakcje"}),M.jsx("button",{className:"admin-user-delete-btn",onClick:()=>l(i.id),children:"Usuń"})]})]}),n1=({users:i,loading:e,onWalletClick:a,onTransactionsClick:l,onDeleteClick:r})=>M.jsxs("div",{className:"admin-users-list-section",children:[M.jsx("h2",{className:"admin-users-list-title",children:"Lista użytkowników"}),e?M.jsx("p",{className:"admin-users-loading",children:"Ładowanie użytkowników..."}):i.length>0?M.jsx("div",{className:"admin-users-list",children:i.map(u=>M.jsx(e1,{user:u,onWalletClick:a,onTransactionsClick:l,onDeleteClick:r},u.id))}):M.jsx("p",{className:"admin-users-empty",children:"Brak użytkowników"})]}),i1=({transaction:i})=>M.jsxs("div",{className:"admin-user-transaction",children:[M.jsx("div",{className:"transaction-type","data-type":i.type,children:i.type==="BUY"?"Kupno":"Sprzedaż"}),M.jsxs("div",{className:"transaction-details",children:[M.jsxs("span",{className:"transaction-asset",children:[i.assetName," (",i.assetSymbol,")"]}),M.jsxs("span",{className:"transaction-amount",children:[i.amount," szt. @ ",i.price.toFixed(2)," USD"]}),M.jsxs("span",{className:"transaction-total",children:["Wartość: ",i.totalValue.toFixed(2)," USD"]})]}),M.jsx("div",{className:"transaction-timestamp",children:new Date(i.timestamp).toLocaleString()})]}),a1=({transactions:i,loading:e})=>M.jsxs("div",{className:"admin-users-transactions-section",children:[M.jsx("h2",{className:"admin-users-list-title",children:"Historia transakcji użytkownika"}),e?M.jsx("p",{className:"admin-users-loading",children:"Ładowanie transakcji..."}):i.length>0?M.jsx("div",{className:"admin-users-transactions",children:i.map(a=>M.jsx(i1,{transaction:a},a.id))}):M.jsx("p",{className:"admin-users-empty",children:"Brak transakcji"})]});function s1(){const{users:i,setUsers:e,userRole:a,addUser:l}=jf(),[r,u]=j.useState(!1),[c,h]=j.useState(""),[d,m]=j.useState(null),[p,b]=j.useState([]),[v,_]=j.useState(!1),S=Bl(),w=async()=>{try{const Y=await fetch("http://localhost:8000/api/v1/users",{credentials:"include",headers:{"Content-Type":"application/json"}});if(!Y.ok){const W=await Y.json();if(Y.status===401){S("/login");return}if(Y.status===403){h("Nie masz uprawnień do wyświetlania listy użytkowników. Tylko administrator ma dostęp do tej funkcjonalności.");return}throw new Error(W.error||"Nie udało się pobrać użytkowników")}const C=await Y.json();e(C)}catch(Y){h(Y.message)}};j.useEffect(()=>{a==="ROLE_ADMIN"&&w()},[a]);const T=async Y=>{u(!0),h("");try{const C={username:Y.username,email:Y.email,password:Y.password},W=await fetch("http://localhost:8000/api/v1/users",{method:"POST",credentials:"include",headers:{"Content-Type":"application/json"},body:JSON.stringify(C)});if(!W.ok)throw new Error("Nie udało się dodać użytkownika");const J=await W.json();l(J)}catch(C){h(C.message)}finally{u(!1)}},A=async Y=>{try{const C=await fetch(`http://localhost:8000/api/v1/users/${Y}`,{method:"DELETE",credentials:"include",headers:{"Content-Type":"application/json"}});if(C.status===401)throw new Error("Sesja wygasła. Zaloguj się ponownie.");if(C.status===403)throw new Error("Brak uprawnień do usuwania użytkowników.");if(!C.ok)throw new Error("Nie udało się usunąć użytkownika");e(i.filter(W=>W.id!==Y))}catch(C){h(C.message)}},N=async Y=>{try{const C=await fetch(`http://localhost:8000/api/v1/users/${Y}/wallet/details`,{credentials:"include"});C.ok&&localStorage.setItem(`wallet_${Y}`,JSON.stringify(await C.json())),S(`/user-wallet/${Y}`)}catch(C){console.error("Failed to prefetch wallet data:",C),S(`/user-wallet/${Y}`)}},U=async Y=>{_(!0);try{const[C,W]=await Promise.all([fetch(`http://localhost:8000/api/v1/users/${Y}`,{credentials:"include"}),fetch(`http://localhost:8000/api/v1/users/${Y}/transactions`,{credentials:"include"})]);if(!C.ok||!W.ok)throw new Error("Nie udało się pobrać danych użytkownika");const[J,$]=await Promise.all([C.json(),W.json()]);b($),m(Y),localStorage.setItem(`user_${Y}`,JSON.stringify(J))}catch(C){h(C.message)}finally{_(!1)}};return a!=="ROLE_ADMIN"?M.jsx("div",{className:"admin-users-container",children:M.jsxs("div",{className:"admin-users-header",children:[M.jsx("h1",{className:"admin-users-title",children:"Panel administratora"}),M.jsx("div",{className:"admin-users-error",children:"Nie masz uprawnień do wyświetlania listy użytkowników. Tylko administrator ma dostęp do tej funkcjonalności."})]})}):M.jsxs("div",{className:"admin-users-container",children:[M.jsxs("div",{className:"admin-users-header",children:[M.jsx("h1",{className:"admin-users-title",children:"Panel administratora – Zarządzanie użytkownikami"}),M.jsx("p",{className:"admin-users-desc",children:"Tutaj możesz przeglądać, dodawać i usuwać użytkowników oraz podejrzeć ich portfele inwestycyjne."})]}),M.jsx(t1,{loading:r,onAdd:T}),c&&M.jsx("p",{className:"admin-users-error",children:c}),M.jsx(n1,{users:i,loading:r,onWalletClick:N,onTransactionsClick:U,onDeleteClick:A}),d&&M.jsx(a1,{transactions:p,loading:v})]})}const l1=({asset:i,isSelected:e,onClick:a,isAdmin:l,onDelete:r})=>M.jsxs("div",{className:`assets-list-item${e?" selected":""}`,onClick:a,children:[M.jsxs("div",{className:"assets-list-main",children:[M.jsx("span",{className:"assets-list-symbol",children:i.symbol}),M.jsx("span",{className:"assets-list-name",children:i.name})]}),M.jsxs("div",{className:"assets-list-details",children:[M.jsxs("span",{className:"assets-list-price",children:[i.price.toFixed(2)," USD"]}),l&&M.jsx("button",{className:"assets-delete-btn",onClick:u=>{u.stopPropagation(),r()},children:"Usuń"})]})]}),r1=({assets:i,loading:e,isAdmin:a,selectedAsset:l,setSelectedAsset:r,deleteAsset:u})=>M.jsxs("div",{className:"assets-list-section",children:[M.jsx("h2",{className:"assets-list-title",children:"Lista aktywów"}),M.jsx("div",{className:"assets-list-info",children:M.jsx("span",{children:"Wybierz aktywo, aby zobaczyć szczegóły i wykres cenowy."})}),M.jsx("div",{className:"assets-list",children:e?M.jsx("p",{className:"assets-error",children:"Ładowanie aktywów..."}):i.length>0?i.map(c=>M.jsx(l1,{asset:c,isSelected:(l==null?void 0:l.id)===c.id,onClick:()=>r(c),isAdmin:a,onDelete:()=>u(c.id)},c.id)):M.jsx("p",{className:"assets-list-empty",children:"Brak aktywów"})})]}),o1=({loading:i,onAdd:e,register:a})=>M.jsxs("form",{onSubmit:e,className:"assets-form",children:[M.jsx("input",{...a("symbol",{required:!0}),placeholder:"Symbol",className:"assets-input"}),M.jsx("input",{...a("name",{required:!0}),placeholder:"Nazwa",className:"assets-input"}),M.jsx("input",{...a("price",{required:!0}),placeholder:"Cena",type:"number",className:"assets-input"}),M.jsx("button",{type:"submit",className:"assets-btn",disabled:i,children:i?"Dodawanie...":"Dodaj asset"})]}),u1=({searchTerm:i,setSearchTerm:e,sortBy:a,setSortBy:l,sortDirection:r,setSortDirection:u,page:c,setPage:h,totalPages:d})=>M.jsxs(M.Fragment,{children:[M.jsxs("div",{className:"assets-filters",children:[M.jsx("input",{type:"text",placeholder:"Szukaj po nazwie lub symbolu...",value:i,onChange:m=>{e(m.target.value),h(0)},className:"assets-filter-input"}),M.jsxs("select",{value:a,onChange:m=>{l(m.target.value),h(0)},className:"assets-filter-select",children:[M.jsx("option",{value:"id",children:"Domyślne"}),M.jsx("option",{value:"price",children:"Cena"}),M.jsx("option",{value:"name",children:"Nazwa"})]}),M.jsx("button",{onClick:()=>{u(r==="asc"?"desc":"asc"),h(0)},className:"assets-filter-btn",children:r==="asc"?"↑":"↓"})]}),M.jsxs("div",{style:{display:"flex",justifyContent:"center",gap:"1rem",marginBottom:"1.5rem"},children:[M.jsx("button",{className:"assets-btn",disabled:c===0,onClick:()=>h(Math.max(0,c-1)),children:"Poprzednia"}),M.jsxs("span",{style:{color:"#fff",fontWeight:600},children:["Strona ",c+1," z ",d]}),M.jsx("button",{className:"assets-btn",disabled:c+1>=d,onClick:()=>h(Math.min(d-1,c+1)),children:"Następna"})]})]});/*!
+ * @kurkle/color v0.3.4
+ * https://github.com/kurkle/color#readme
+ * (c) 2024 Jukka Kurkela
+ * Released under the MIT License
+ */function Yl(i){return i+.5|0}const Di=(i,e,a)=>Math.max(Math.min(i,a),e);function pl(i){return Di(Yl(i*2.55),0,255)}function zi(i){return Di(Yl(i*255),0,255)}function In(i){return Di(Yl(i/2.55)/100,0,1)}function up(i){return Di(Yl(i*100),0,100)}const nn={0:0,1:1,2:2,3:3,4:4,5:5,6:6,7:7,8:8,9:9,A:10,B:11,C:12,D:13,E:14,F:15,a:10,b:11,c:12,d:13,e:14,f:15},bf=[..."0123456789ABCDEF"],c1=i=>bf[i&15],f1=i=>bf[(i&240)>>4]+bf[i&15],eo=i=>(i&240)>>4===(i&15),h1=i=>eo(i.r)&&eo(i.g)&&eo(i.b)&&eo(i.a);function d1(i){var e=i.length,a;return i[0]==="#"&&(e===4||e===5?a={r:255&nn[i[1]]*17,g:255&nn[i[2]]*17,b:255&nn[i[3]]*17,a:e===5?nn[i[4]]*17:255}:(e===7||e===9)&&(a={r:nn[i[1]]<<4|nn[i[2]],g:nn[i[3]]<<4|nn[i[4]],b:nn[i[5]]<<4|nn[i[6]],a:e===9?nn[i[7]]<<4|nn[i[8]]:255})),a}const g1=(i,e)=>i<255?e(i):"";function m1(i){var e=h1(i)?c1:f1;return i?"#"+e(i.r)+e(i.g)+e(i.b)+g1(i.a,e):void 0}const p1=/^(hsla?|hwb|hsv)\(\s*([-+.e\d]+)(?:deg)?[\s,]+([-+.e\d]+)%[\s,]+([-+.e\d]+)%(?:[\s,]+([-+.e\d]+)(%)?)?\s*\)$/;function Qy(i,e,a){const l=e*Math.min(a,1-a),r=(u,c=(u+i/30)%12)=>a-l*Math.max(Math.min(c-3,9-c,1),-1);return[r(0),r(8),r(4)]}function y1(i,e,a){const l=(r,u=(r+i/60)%6)=>a-a*e*Math.max(Math.min(u,4-u,1),0);return[l(5),l(3),l(1)]}function b1(i,e,a){const l=Qy(i,1,.5);let r;for(e+a>1&&(r=1/(e+a),e*=r,a*=r),r=0;r<3;r++)l[r]*=1-e-a,l[r]+=e;return l}function v1(i,e,a,l,r){return i===r?(e-a)/l+(e<a?6:0):e===r?(a-i)/l+2:(i-e)/l+4}function Vf(i){const a=i.r/255,l=i.g/255,r=i.b/255,u=Math.max(a,l,r),c=Math.min(a,l,r),h=(u+c)/2;let d,m,p;return u!==c&&(p=u-c,m=h>.5?p/(2-u-c):p/(u+c),d=v1(a,l,r,p,u),d=d*60+.5),[d|0,m||0,h]}function Yf(i,e,a,l){return(Array.isArray(e)?i(e[0],e[1],e[2]):i(e,a,l)).map(zi)}function qf(i,e,a){return Yf(Qy,i,e,a)}function x1(i,e,a){return Yf(b1,i,e,a)}function _1(i,e,a){return Yf(y1,i,e,a)}function Zy(i){return(i%360+360)%360}function S1(i){const e=p1.exec(i);let a=255,l;if(!e)return;e[5]!==l&&(a=e[6]?pl(+e[5]):zi(+e[5]));const r=Zy(+e[2]),u=+e[3]/100,c=+e[4]/100;return e[1]==="hwb"?l=x1(r,u,c):e[1]==="hsv"?l=_1(r,u,c):l=qf(r,u,c),{r:l[0],g:l[1],b:l[2],a}}function w1(i,e){var a=Vf(i);a[0]=Zy(a[0]+e),a=qf(a),i.r=a[0],i.g=a[1],i.b=a[2]}function E1(i){if(!i)return;const e=Vf(i),a=e[0],l=up(e[1]),r=up(e[2]);return i.a<255?`hsla(${a}, ${l}%, ${r}%, ${In(i.a)})`:`hsl(${a}, ${l}%, ${r}%)`}const cp={x:"dark",Z:"light",Y:"re",X:"blu",W:"gr",V:"medium",U:"slate",A:"ee",T:"ol",S:"or",B:"ra",C:"lateg",D:"ights",R:"in",Q:"turquois",E:"hi",P:"ro",O:"al",N:"le",M:"de",L:"yello",F:"en",K:"ch",G:"arks",H:"ea",I:"ightg",J:"wh"},fp={OiceXe:"f0f8ff",antiquewEte:"faebd7",aqua:"ffff",aquamarRe:"7fffd4",azuY:"f0ffff",beige:"f5f5dc",bisque:"ffe4c4",black:"0",blanKedOmond:"ffebcd",Xe:"ff",XeviTet:"8a2be2",bPwn:"a52a2a",burlywood:"deb887",caMtXe:"5f9ea0",KartYuse:"7fff00",KocTate:"d2691e",cSO:"ff7f50",cSnflowerXe:"6495ed",cSnsilk:"fff8dc",crimson:"dc143c",cyan:"ffff",xXe:"8b",xcyan:"8b8b",xgTMnPd:"b8860b",xWay:"a9a9a9",xgYF:"6400",xgYy:"a9a9a9",xkhaki:"bdb76b",xmagFta:"8b008b",xTivegYF:"556b2f",xSange:"ff8c00",xScEd:"9932cc",xYd:"8b0000",xsOmon:"e9967a",xsHgYF:"8fbc8f",xUXe:"483d8b",xUWay:"2f4f4f",xUgYy:"2f4f4f",xQe:"ced1",xviTet:"9400d3",dAppRk:"ff1493",dApskyXe:"bfff",dimWay:"696969",dimgYy:"696969",dodgerXe:"1e90ff",fiYbrick:"b22222",flSOwEte:"fffaf0",foYstWAn:"228b22",fuKsia:"ff00ff",gaRsbSo:"dcdcdc",ghostwEte:"f8f8ff",gTd:"ffd700",gTMnPd:"daa520",Way:"808080",gYF:"8000",gYFLw:"adff2f",gYy:"808080",honeyMw:"f0fff0",hotpRk:"ff69b4",RdianYd:"cd5c5c",Rdigo:"4b0082",ivSy:"fffff0",khaki:"f0e68c",lavFMr:"e6e6fa",lavFMrXsh:"fff0f5",lawngYF:"7cfc00",NmoncEffon:"fffacd",ZXe:"add8e6",ZcSO:"f08080",Zcyan:"e0ffff",ZgTMnPdLw:"fafad2",ZWay:"d3d3d3",ZgYF:"90ee90",ZgYy:"d3d3d3",ZpRk:"ffb6c1",ZsOmon:"ffa07a",ZsHgYF:"20b2aa",ZskyXe:"87cefa",ZUWay:"778899",ZUgYy:"778899",ZstAlXe:"b0c4de",ZLw:"ffffe0",lime:"ff00",limegYF:"32cd32",lRF:"faf0e6",magFta:"ff00ff",maPon:"800000",VaquamarRe:"66cdaa",VXe:"cd",VScEd:"ba55d3",VpurpN:"9370db",VsHgYF:"3cb371",VUXe:"7b68ee",VsprRggYF:"fa9a",VQe:"48d1cc",VviTetYd:"c71585",midnightXe:"191970",mRtcYam:"f5fffa",mistyPse:"ffe4e1",moccasR:"ffe4b5",navajowEte:"ffdead",navy:"80",Tdlace:"fdf5e6",Tive:"808000",TivedBb:"6b8e23",Sange:"ffa500",SangeYd:"ff4500",ScEd:"da70d6",pOegTMnPd:"eee8aa",pOegYF:"98fb98",pOeQe:"afeeee",pOeviTetYd:"db7093",papayawEp:"ffefd5",pHKpuff:"ffdab9",peru:"cd853f",pRk:"ffc0cb",plum:"dda0dd",powMrXe:"b0e0e6",purpN:"800080",YbeccapurpN:"663399",Yd:"ff0000",Psybrown:"bc8f8f",PyOXe:"4169e1",saddNbPwn:"8b4513",sOmon:"fa8072",sandybPwn:"f4a460",sHgYF:"2e8b57",sHshell:"fff5ee",siFna:"a0522d",silver:"c0c0c0",skyXe:"87ceeb",UXe:"6a5acd",UWay:"708090",UgYy:"708090",snow:"fffafa",sprRggYF:"ff7f",stAlXe:"4682b4",tan:"d2b48c",teO:"8080",tEstN:"d8bfd8",tomato:"ff6347",Qe:"40e0d0",viTet:"ee82ee",JHt:"f5deb3",wEte:"ffffff",wEtesmoke:"f5f5f5",Lw:"ffff00",LwgYF:"9acd32"};function T1(){const i={},e=Object.keys(fp),a=Object.keys(cp);let l,r,u,c,h;for(l=0;l<e.length;l++){for(c=h=e[l],r=0;r<a.length;r++)u=a[r],h=h.replace(u,cp[u]);u=parseInt(fp[c],16),i[h]=[u>>16&255,u>>8&255,u&255]}return i}let no;function M1(i){no||(no=T1(),no.transparent=[0,0,0,0]);const e=no[i.toLowerCase()];return e&&{r:e[0],g:e[1],b:e[2],a:e.length===4?e[3]:255}}const A1=/^rgba?\(\s*([-+.\d]+)(%)?[\s,]+([-+.e\d]+)(%)?[\s,]+([-+.e\d]+)(%)?(?:[\s,/]+([-+.e\d]+)(%)?)?\s*\)$/;function D1(i){const e=A1.exec(i);let a=255,l,r,u;if(e){if(e[7]!==l){const c=+e[7];a=e[8]?pl(c):Di(c*255,0,255)}return l=+e[1],r=+e[3],u=+e[5],l=255&(e[2]?pl(l):Di(l,0,255)),r=255&(e[4]?pl(r):Di(r,0,255)),u=255&(e[6]?pl(u):Di(u,0,255)),{r:l,g:r,b:u,a}}}function O1(i){return i&&(i.a<255?`rgba(${i.r}, ${i.g}, ${i.b}, ${In(i.a)})`:`rgb(${i.r}, ${i.g}, ${i.b})`)}const lf=i=>i<=.0031308?i*12.92:Math.pow(i,1/2.4)*1.055-.055,es=i=>i<=.04045?i/12.92:Math.pow((i+.055)/1.055,2.4);function z1(i,e,a){const l=es(In(i.r)),r=es(In(i.g)),u=es(In(i.b));return{r:zi(lf(l+a*(es(In(e.r))-l))),g:zi(lf(r+a*(es(In(e.g))-r))),b:zi(lf(u+a*(es(In(e.b))-u))),a:i.a+a*(e.a-i.a)}}function io(i,e,a){if(i){let l=Vf(i);l[e]=Math.max(0,Math.min(l[e]+l[e]*a,e===0?360:1)),l=qf(l),i.r=l[0],i.g=l[1],i.b=l[2]}}function Ky(i,e){return i&&Object.assign(e||{},i)}function hp(i){var e={r:0,g:0,b:0,a:255};return Array.isArray(i)?i.length>=3&&(e={r:i[0],g:i[1],b:i[2],a:255},i.length>3&&(e.a=zi(i[3]))):(e=Ky(i,{r:0,g:0,b:0,a:1}),e.a=zi(e.a)),e}function R1(i){return i.charAt(0)==="r"?D1(i):S1(i)}class Rl{constructor(e){if(e instanceof Rl)return e;const a=typeof e;let l;a==="object"?l=hp(e):a==="string"&&(l=d1(e)||M1(e)||R1(e)),this._rgb=l,this._valid=!!l}get valid(){return this._valid}get rgb(){var e=Ky(this._rgb);return e&&(e.a=In(e.a)),e}set rgb(e){this._rgb=hp(e)}rgbString(){return this._valid?O1(this._rgb):void 0}hexString(){return this._valid?m1(this._rgb):void 0}hslString(){return this._valid?E1(this._rgb):void 0}mix(e,a){if(e){const l=this.rgb,r=e.rgb;let u;const c=a===u?.5:a,h=2*c-1,d=l.a-r.a,m=((h*d===-1?h:(h+d)/(1+h*d))+1)/2;u=1-m,l.r=255&m*l.r+u*r.r+.5,l.g=255&m*l.g+u*r.g+.5,l.b=255&m*l.b+u*r.b+.5,l.a=c*l.a+(1-c)*r.a,this.rgb=l}return this}interpolate(e,a){return e&&(this._rgb=z1(this._rgb,e._rgb,a)),this}clone(){return new Rl(this.rgb)}alpha(e){return this._rgb.a=zi(e),this}clearer(e){const a=this._rgb;return a.a*=1-e,this}greyscale(){const e=this._rgb,a=Yl(e.r*.3+e.g*.59+e.b*.11);return e.r=e.g=e.b=a,this}opaquer(e){const a=this._rgb;return a.a*=1+e,this}negate(){const e=this._rgb;return e.r=255-e.r,e.g=255-e.g,e.b=255-e.b,this}lighten(e){return io(this._rgb,2,e),this}darken(e){return io(this._rgb,2,-e),this}saturate(e){return io(this._rgb,1,e),this}desaturate(e){return io(this._rgb,1,-e),this}rotate(e){return w1(this._rgb,e),this}}/*!
+ * Chart.js v4.4.9
+ * https://www.chartjs.org
+ * (c) 2025 Chart.js Contributors
+ * Released under the MIT License
+ */function Pn(){}const C1=(()=>{let i=0;return()=>i++})();function qt(i){return i==null}function ve(i){if(Array.isArray&&Array.isArray(i))return!0;const e=Object.prototype.toString.call(i);return e.slice(0,7)==="[object"&&e.slice(-6)==="Array]"}function Nt(i){return i!==null&&Object.prototype.toString.call(i)==="[object Object]"}function sn(i){return(typeof i=="number"||i instanceof Number)&&isFinite(+i)}function _n(i,e){return sn(i)?i:e}function zt(i,e){return typeof i>"u"?e:i}const k1=(i,e)=>typeof i=="string"&&i.endsWith("%")?parseFloat(i)/100*e:+i;function Xt(i,e,a){if(i&&typeof i.call=="function")return i.apply(a,e)}function jt(i,e,a,l){let r,u,c;if(ve(i))for(u=i.length,r=0;r<u;r++)e.call(a,i[r],r);else if(Nt(i))for(c=Object.keys(i),u=c.length,r=0;r<u;r++)e.call(a,i[c[r]],c[r])}function Ao(i,e){let a,l,r,u;if(!i||!e||i.length!==e.length)return!1;for(a=0,l=i.length;a<l;++a)if(r=i[a],u=e[a],r.datasetIndex!==u.datasetIndex||r.index!==u.index)return!1;return!0}function Do(i){if(ve(i))return i.map(Do);if(Nt(i)){const e=Object.create(null),a=Object.keys(i),l=a.length;let r=0;for(;r<l;++r)e[a[r]]=Do(i[a[r]]);return e}return i}function Wy(i){return["__proto__","prototype","constructor"].indexOf(i)===-1}function N1(i,e,a,l){if(!Wy(i))return;const r=e[i],u=a[i];Nt(r)&&Nt(u)?Cl(r,u,l):e[i]=Do(u)}function Cl(i,e,a){const l=ve(e)?e:[e],r=l.length;if(!Nt(i))return i;a=a||{};const u=a.merger||N1;let c;for(let h=0;h<r;++h){if(c=l[h],!Nt(c))continue;const d=Object.keys(c);for(let m=0,p=d.length;m<p;++m)u(d[m],i,c,a)}return i}function wl(i,e){return Cl(i,e,{merger:j1})}function j1(i,e,a){if(!Wy(i))return;const l=e[i],r=a[i];Nt(l)&&Nt(r)?wl(l,r):Object.prototype.hasOwnProperty.call(e,i)||(e[i]=Do(r))}const dp={"":i=>i,x:i=>i.x,y:i=>i.y};function L1(i){const e=i.split("."),a=[];let l="";for(const r of e)l+=r,l.endsWith("\\")?l=l.slice(0,-1)+".":(a.push(l),l="");return a}function H1(i){const e=L1(i);return a=>{for(const l of e){if(l==="")break;a=a&&a[l]}return a}}function Oo(i,e){return(dp[e]||(dp[e]=H1(e)))(i)}function Ff(i){return i.charAt(0).toUpperCase()+i.slice(1)}const zo=i=>typeof i<"u",Ri=i=>typeof i=="function",gp=(i,e)=>{if(i.size!==e.size)return!1;for(const a of i)if(!e.has(a))return!1;return!0};function B1(i){return i.type==="mouseup"||i.type==="click"||i.type==="contextmenu"}const Te=Math.PI,Mn=2*Te,U1=Mn+Te,Ro=Number.POSITIVE_INFINITY,V1=Te/180,dn=Te/2,na=Te/4,mp=Te*2/3,Py=Math.log10,is=Math.sign;function El(i,e,a){return Math.abs(i-e)<a}function pp(i){const e=Math.round(i);i=El(i,e,i/1e3)?e:i;const a=Math.pow(10,Math.floor(Py(i))),l=i/a;return(l<=1?1:l<=2?2:l<=5?5:10)*a}function Y1(i){const e=[],a=Math.sqrt(i);let l;for(l=1;l<a;l++)i%l===0&&(e.push(l),e.push(i/l));return a===(a|0)&&e.push(a),e.sort((r,u)=>r-u).pop(),e}function q1(i){return typeof i=="symbol"||typeof i=="object"&&i!==null&&!(Symbol.toPrimitive in i||"toString"in i||"valueOf"in i)}function kl(i){return!q1(i)&&!isNaN(parseFloat(i))&&isFinite(i)}function F1(i,e){const a=Math.round(i);return a-e<=i&&a+e>=i}function X1(i,e,a){let l,r,u;for(l=0,r=i.length;l<r;l++)u=i[l][a],isNaN(u)||(e.min=Math.min(e.min,u),e.max=Math.max(e.max,u))}function ua(i){return i*(Te/180)}function G1(i){return i*(180/Te)}function yp(i){if(!sn(i))return;let e=1,a=0;for(;Math.round(i*e)/e!==i;)e*=10,a++;return a}function Q1(i,e){const a=e.x-i.x,l=e.y-i.y,r=Math.sqrt(a*a+l*l);let u=Math.atan2(l,a);return u<-.5*Te&&(u+=Mn),{angle:u,distance:r}}function vf(i,e){return Math.sqrt(Math.pow(e.x-i.x,2)+Math.pow(e.y-i.y,2))}function Z1(i,e){return(i-e+U1)%Mn-Te}function Mi(i){return(i%Mn+Mn)%Mn}function $y(i,e,a,l){const r=Mi(i),u=Mi(e),c=Mi(a),h=Mi(u-r),d=Mi(c-r),m=Mi(r-u),p=Mi(r-c);return r===u||r===c||l&&u===c||h>d&&m<p}function an(i,e,a){return Math.max(e,Math.min(a,i))}function K1(i){return an(i,-32768,32767)}function yl(i,e,a,l=1e-6){return i>=Math.min(e,a)-l&&i<=Math.max(e,a)+l}function Xf(i,e,a){a=a||(c=>i[c]<e);let l=i.length-1,r=0,u;for(;l-r>1;)u=r+l>>1,a(u)?r=u:l=u;return{lo:r,hi:l}}const ca=(i,e,a,l)=>Xf(i,a,l?r=>{const u=i[r][e];return u<a||u===a&&i[r+1][e]===a}:r=>i[r][e]<a),W1=(i,e,a)=>Xf(i,a,l=>i[l][e]>=a);function P1(i,e,a){let l=0,r=i.length;for(;l<r&&i[l]<e;)l++;for(;r>l&&i[r-1]>a;)r--;return l>0||r<i.length?i.slice(l,r):i}const Jy=["push","pop","shift","splice","unshift"];function $1(i,e){if(i._chartjs){i._chartjs.listeners.push(e);return}Object.defineProperty(i,"_chartjs",{configurable:!0,enumerable:!1,value:{listeners:[e]}}),Jy.forEach(a=>{const l="_onData"+Ff(a),r=i[a];Object.defineProperty(i,a,{configurable:!0,enumerable:!1,value(...u){const c=r.apply(this,u);return i._chartjs.listeners.forEach(h=>{typeof h[l]=="function"&&h[l](...u)}),c}})})}function bp(i,e){const a=i._chartjs;if(!a)return;const l=a.listeners,r=l.indexOf(e);r!==-1&&l.splice(r,1),!(l.length>0)&&(Jy.forEach(u=>{delete i[u]}),delete i._chartjs)}function J1(i){const e=new Set(i);return e.size===i.length?i:Array.from(e)}const Iy=function(){return typeof window>"u"?function(i){return i()}:window.requestAnimationFrame}();function t0(i,e){let a=[],l=!1;return function(...r){a=r,l||(l=!0,Iy.call(window,()=>{l=!1,i.apply(e,a)}))}}function I1(i,e){let a;return function(...l){return e?(clearTimeout(a),a=setTimeout(i,e,l)):i.apply(this,l),e}}const e0=i=>i==="start"?"left":i==="end"?"right":"center",Fe=(i,e,a)=>i==="start"?e:i==="end"?a:(e+a)/2,tS=(i,e,a,l)=>i===(l?"left":"right")?a:i==="center"?(e+a)/2:e;function eS(i,e,a){const l=e.length;let r=0,u=l;if(i._sorted){const{iScale:c,vScale:h,_parsed:d}=i,m=i.dataset&&i.dataset.options?i.dataset.options.spanGaps:null,p=c.axis,{min:b,max:v,minDefined:_,maxDefined:S}=c.getUserBounds();if(_){if(r=Math.min(ca(d,p,b).lo,a?l:ca(e,p,c.getPixelForValue(b)).lo),m){const w=d.slice(0,r+1).reverse().findIndex(T=>!qt(T[h.axis]));r-=Math.max(0,w)}r=an(r,0,l-1)}if(S){let w=Math.max(ca(d,c.axis,v,!0).hi+1,a?0:ca(e,p,c.getPixelForValue(v),!0).hi+1);if(m){const T=d.slice(w-1).findIndex(A=>!qt(A[h.axis]));w+=Math.max(0,T)}u=an(w,r,l)-r}else u=l-r}return{start:r,count:u}}function nS(i){const{xScale:e,yScale:a,_scaleRanges:l}=i,r={xmin:e.min,xmax:e.max,ymin:a.min,ymax:a.max};if(!l)return i._scaleRanges=r,!0;const u=l.xmin!==e.min||l.xmax!==e.max||l.ymin!==a.min||l.ymax!==a.max;return Object.assign(l,r),u}const ao=i=>i===0||i===1,vp=(i,e,a)=>-(Math.pow(2,10*(i-=1))*Math.sin((i-e)*Mn/a)),xp=(i,e,a)=>Math.pow(2,-10*i)*Math.sin((i-e)*Mn/a)+1,Tl={linear:i=>i,easeInQuad:i=>i*i,easeOutQuad:i=>-i*(i-2),easeInOutQuad:i=>(i/=.5)<1?.5*i*i:-.5*(--i*(i-2)-1),easeInCubic:i=>i*i*i,easeOutCubic:i=>(i-=1)*i*i+1,easeInOutCubic:i=>(i/=.5)<1?.5*i*i*i:.5*((i-=2)*i*i+2),easeInQuart:i=>i*i*i*i,easeOutQuart:i=>-((i-=1)*i*i*i-1),easeInOutQuart:i=>(i/=.5)<1?.5*i*i*i*i:-.5*((i-=2)*i*i*i-2),easeInQuint:i=>i*i*i*i*i,easeOutQuint:i=>(i-=1)*i*i*i*i+1,easeInOutQuint:i=>(i/=.5)<1?.5*i*i*i*i*i:.5*((i-=2)*i*i*i*i+2),easeInSine:i=>-Math.cos(i*dn)+1,easeOutSine:i=>Math.sin(i*dn),easeInOutSine:i=>-.5*(Math.cos(Te*i)-1),easeInExpo:i=>i===0?0:Math.pow(2,10*(i-1)),easeOutExpo:i=>i===1?1:-Math.pow(2,-10*i)+1,easeInOutExpo:i=>ao(i)?i:i<.5?.5*Math.pow(2,10*(i*2-1)):.5*(-Math.pow(2,-10*(i*2-1))+2),easeInCirc:i=>i>=1?i:-(Math.sqrt(1-i*i)-1),easeOutCirc:i=>Math.sqrt(1-(i-=1)*i),easeInOutCirc:i=>(i/=.5)<1?-.5*(Math.sqrt(1-i*i)-1):.5*(Math.sqrt(1-(i-=2)*i)+1),easeInElastic:i=>ao(i)?i:vp(i,.075,.3),easeOutElastic:i=>ao(i)?i:xp(i,.075,.3),easeInOutElastic(i){return ao(i)?i:i<.5?.5*vp(i*2,.1125,.45):.5+.5*xp(i*2-1,.1125,.45)},easeInBack(i){return i*i*((1.70158+1)*i-1.70158)},easeOutBack(i){return(i-=1)*i*((1.70158+1)*i+1.70158)+1},easeInOutBack(i){let e=1.70158;return(i/=.5)<1?.5*(i*i*(((e*=1.525)+1)*i-e)):.5*((i-=2)*i*(((e*=1.525)+1)*i+e)+2)},easeInBounce:i=>1-Tl.easeOutBounce(1-i),easeOutBounce(i){return i<1/2.75?7.5625*i*i:i<2/2.75?7.5625*(i-=1.5/2.75)*i+.75:i<2.5/2.75?7.5625*(i-=2.25/2.75)*i+.9375:7.5625*(i-=2.625/2.75)*i+.984375},easeInOutBounce:i=>i<.5?Tl.easeInBounce(i*2)*.5:Tl.easeOutBounce(i*2-1)*.5+.5};function Gf(i){if(i&&typeof i=="object"){const e=i.toString();return e==="[object CanvasPattern]"||e==="[object CanvasGradient]"}return!1}function _p(i){return Gf(i)?i:new Rl(i)}function rf(i){return Gf(i)?i:new Rl(i).saturate(.5).darken(.1).hexString()}const iS=["x","y","borderWidth","radius","tension"],aS=["color","borderColor","backgroundColor"];function sS(i){i.set("animation",{delay:void 0,duration:1e3,easing:"easeOutQuart",fn:void 0,from:void 0,loop:void 0,to:void 0,type:void 0}),i.describe("animation",{_fallback:!1,_indexable:!1,_scriptable:e=>e!=="onProgress"&&e!=="onComplete"&&e!=="fn"}),i.set("animations",{colors:{type:"color",properties:aS},numbers:{type:"number",properties:iS}}),i.describe("animations",{_fallback:"animation"}),i.set("transitions",{active:{animation:{duration:400}},resize:{animation:{duration:0}},show:{animations:{colors:{from:"transparent"},visible:{type:"boolean",duration:0}}},hide:{animations:{colors:{to:"transparent"},visible:{type:"boolean",easing:"linear",fn:e=>e|0}}}})}function lS(i){i.set("layout",{autoPadding:!0,padding:{top:0,right:0,bottom:0,left:0}})}const Sp=new Map;function rS(i,e){e=e||{};const a=i+JSON.stringify(e);let l=Sp.get(a);return l||(l=new Intl.NumberFormat(i,e),Sp.set(a,l)),l}function n0(i,e,a){return rS(e,a).format(i)}const oS={values(i){return ve(i)?i:""+i},numeric(i,e,a){if(i===0)return"0";const l=this.chart.options.locale;let r,u=i;if(a.length>1){const m=Math.max(Math.abs(a[0].value),Math.abs(a[a.length-1].value));(m<1e-4||m>1e15)&&(r="scientific"),u=uS(i,a)}const c=Py(Math.abs(u)),h=isNaN(c)?1:Math.max(Math.min(-1*Math.floor(c),20),0),d={notation:r,minimumFractionDigits:h,maximumFractionDigits:h};return Object.assign(d,this.options.ticks.format),n0(i,l,d)}};function uS(i,e){let a=e.length>3?e[2].value-e[1].value:e[1].value-e[0].value;return Math.abs(a)>=1&&i!==Math.floor(i)&&(a=i-Math.floor(i)),a}var i0={formatters:oS};function cS(i){i.set("scale",{display:!0,offset:!1,reverse:!1,beginAtZero:!1,bounds:"ticks",clip:!0,grace:0,grid:{display:!0,lineWidth:1,drawOnChartArea:!0,drawTicks:!0,tickLength:8,tickWidth:(e,a)=>a.lineWidth,tickColor:(e,a)=>a.color,offset:!1},border:{display:!0,dash:[],dashOffset:0,width:1},title:{display:!1,text:"",padding:{top:4,bottom:4}},ticks:{minRotation:0,maxRotation:50,mirror:!1,textStrokeWidth:0,textStrokeColor:"",padding:3,display:!0,autoSkip:!0,autoSkipPadding:3,labelOffset:0,callback:i0.formatters.values,minor:{},major:{},align:"center",crossAlign:"near",showLabelBackdrop:!1,backdropColor:"rgba(255, 255, 255, 0.75)",backdropPadding:2}}),i.route("scale.ticks","color","","color"),i.route("scale.grid","color","","borderColor"),i.route("scale.border","color","","borderColor"),i.route("scale.title","color","","color"),i.describe("scale",{_fallback:!1,_scriptable:e=>!e.startsWith("before")&&!e.startsWith("after")&&e!=="callback"&&e!=="parser",_indexable:e=>e!=="borderDash"&&e!=="tickBorderDash"&&e!=="dash"}),i.describe("scales",{_fallback:"scale"}),i.describe("scale.ticks",{_scriptable:e=>e!=="backdropPadding"&&e!=="callback",_indexable:e=>e!=="backdropPadding"})}const ha=Object.create(null),xf=Object.create(null);function Ml(i,e){if(!e)return i;const a=e.split(".");for(let l=0,r=a.length;l<r;++l){const u=a[l];i=i[u]||(i[u]=Object.create(null))}return i}function of(i,e,a){return typeof e=="string"?Cl(Ml(i,e),a):Cl(Ml(i,""),e)}class fS{constructor(e,a){this.animation=void 0,this.backgroundColor="rgba(0,0,0,0.1)",this.borderColor="rgba(0,0,0,0.1)",this.color="#666",this.datasets={},this.devicePixelRatio=l=>l.chart.platform.getDevicePixelRatio(),this.elements={},this.events=["mousemove","mouseout","click","touchstart","touchmove"],this.font={family:"'Helvetica Neue', 'Helvetica', 'Arial', sans-serif",size:12,style:"normal",lineHeight:1.2,weight:null},this.hover={},this.hoverBackgroundColor=(l,r)=>rf(r.backgroundColor),this.hoverBorderColor=(l,r)=>rf(r.borderColor),this.hoverColor=(l,r)=>rf(r.color),this.indexAxis="x",this.interaction={mode:"nearest",intersect:!0,includeInvisible:!1},this.maintainAspectRatio=!0,this.onHover=null,this.onClick=null,this.parsing=!0,this.plugins={},this.responsive=!0,this.scale=void 0,this.scales={},this.showLine=!0,this.drawActiveElementsOnTop=!0,this.describe(e),this.apply(a)}set(e,a){return of(this,e,a)}get(e){return Ml(this,e)}describe(e,a){return of(xf,e,a)}override(e,a){return of(ha,e,a)}route(e,a,l,r){const u=Ml(this,e),c=Ml(this,l),h="_"+a;Object.defineProperties(u,{[h]:{value:u[a],writable:!0},[a]:{enumerable:!0,get(){const d=this[h],m=c[r];return Nt(d)?Object.assign({},m,d):zt(d,m)},set(d){this[h]=d}}})}apply(e){e.forEach(a=>a(this))}}var te=new fS({_scriptable:i=>!i.startsWith("on"),_indexable:i=>i!=="events",hover:{_fallback:"interaction"},interaction:{_scriptable:!1,_indexable:!1}},[sS,lS,cS]);function hS(i){return!i||qt(i.size)||qt(i.family)?null:(i.style?i.style+" ":"")+(i.weight?i.weight+" ":"")+i.size+"px "+i.family}function wp(i,e,a,l,r){let u=e[r];return u||(u=e[r]=i.measureText(r).width,a.push(r)),u>l&&(l=u),l}function ia(i,e,a){const l=i.currentDevicePixelRatio,r=a!==0?Math.max(a/2,.5):0;return Math.round((e-r)*l)/l+r}function Ep(i,e){!e&&!i||(e=e||i.getContext("2d"),e.save(),e.resetTransform(),e.clearRect(0,0,i.width,i.height),e.restore())}function _f(i,e,a,l){a0(i,e,a,l,null)}function a0(i,e,a,l,r){let u,c,h,d,m,p,b,v;const _=e.pointStyle,S=e.rotation,w=e.radius;let T=(S||0)*V1;if(_&&typeof _=="object"&&(u=_.toString(),u==="[object HTMLImageElement]"||u==="[object HTMLCanvasElement]")){i.save(),i.translate(a,l),i.rotate(T),i.drawImage(_,-_.width/2,-_.height/2,_.width,_.height),i.restore();return}if(!(isNaN(w)||w<=0)){switch(i.beginPath(),_){default:r?i.ellipse(a,l,r/2,w,0,0,Mn):i.arc(a,l,w,0,Mn),i.closePath();break;case"triangle":p=r?r/2:w,i.moveTo(a+Math.sin(T)*p,l-Math.cos(T)*w),T+=mp,i.lineTo(a+Math.sin(T)*p,l-Math.cos(T)*w),T+=mp,i.lineTo(a+Math.sin(T)*p,l-Math.cos(T)*w),i.closePath();break;case"rectRounded":m=w*.516,d=w-m,c=Math.cos(T+na)*d,b=Math.cos(T+na)*(r?r/2-m:d),h=Math.sin(T+na)*d,v=Math.sin(T+na)*(r?r/2-m:d),i.arc(a-b,l-h,m,T-Te,T-dn),i.arc(a+v,l-c,m,T-dn,T),i.arc(a+b,l+h,m,T,T+dn),i.arc(a-v,l+c,m,T+dn,T+Te),i.closePath();break;case"rect":if(!S){d=Math.SQRT1_2*w,p=r?r/2:d,i.rect(a-p,l-d,2*p,2*d);break}T+=na;case"rectRot":b=Math.cos(T)*(r?r/2:w),c=Math.cos(T)*w,h=Math.sin(T)*w,v=Math.sin(T)*(r?r/2:w),i.moveTo(a-b,l-h),i.lineTo(a+v,l-c),i.lineTo(a+b,l+h),i.lineTo(a-v,l+c),i.closePath();break;case"crossRot":T+=na;case"cross":b=Math.cos(T)*(r?r/2:w),c=Math.cos(T)*w,h=Math.sin(T)*w,v=Math.sin(T)*(r?r/2:w),i.moveTo(a-b,l-h),i.lineTo(a+b,l+h),i.moveTo(a+v,l-c),i.lineTo(a-v,l+c);break;case"star":b=Math.cos(T)*(r?r/2:w),c=Math.cos(T)*w,h=Math.sin(T)*w,v=Math.sin(T)*(r?r/2:w),i.moveTo(a-b,l-h),i.lineTo(a+b,l+h),i.moveTo(a+v,l-c),i.lineTo(a-v,l+c),T+=na,b=Math.cos(T)*(r?r/2:w),c=Math.cos(T)*w,h=Math.sin(T)*w,v=Math.sin(T)*(r?r/2:w),i.moveTo(a-b,l-h),i.lineTo(a+b,l+h),i.moveTo(a+v,l-c),i.lineTo(a-v,l+c);break;case"line":c=r?r/2:Math.cos(T)*w,h=Math.sin(T)*w,i.moveTo(a-c,l-h),i.lineTo(a+c,l+h);break;case"dash":i.moveTo(a,l),i.lineTo(a+Math.cos(T)*(r?r/2:w),l+Math.sin(T)*w);break;case!1:i.closePath();break}i.fill(),e.borderWidth>0&&i.stroke()}}function Nl(i,e,a){return a=a||.5,!e||i&&i.x>e.left-a&&i.x<e.right+a&&i.y>e.top-a&&i.y<e.bottom+a}function Qf(i,e){i.save(),i.beginPath(),i.rect(e.left,e.top,e.right-e.left,e.bottom-e.top),i.clip()}function Zf(i){i.restore()}function dS(i,e,a,l,r){if(!e)return i.lineTo(a.x,a.y);if(r==="middle"){const u=(e.x+a.x)/2;i.lineTo(u,e.y),i.lineTo(u,a.y)}else r==="after"!=!!l?i.lineTo(e.x,a.y):i.lineTo(a.x,e.y);i.lineTo(a.x,a.y)}function gS(i,e,a,l){if(!e)return i.lineTo(a.x,a.y);i.bezierCurveTo(l?e.cp1x:e.cp2x,l?e.cp1y:e.cp2y,l?a.cp2x:a.cp1x,l?a.cp2y:a.cp1y,a.x,a.y)}function mS(i,e){e.translation&&i.translate(e.translation[0],e.translation[1]),qt(e.rotation)||i.rotate(e.rotation),e.color&&(i.fillStyle=e.color),e.textAlign&&(i.textAlign=e.textAlign),e.textBaseline&&(i.textBaseline=e.textBaseline)}function pS(i,e,a,l,r){if(r.strikethrough||r.underline){const u=i.measureText(l),c=e-u.actualBoundingBoxLeft,h=e+u.actualBoundingBoxRight,d=a-u.actualBoundingBoxAscent,m=a+u.actualBoundingBoxDescent,p=r.strikethrough?(d+m)/2:m;i.strokeStyle=i.fillStyle,i.beginPath(),i.lineWidth=r.decorationWidth||2,i.moveTo(c,p),i.lineTo(h,p),i.stroke()}}function yS(i,e){const a=i.fillStyle;i.fillStyle=e.color,i.fillRect(e.left,e.top,e.width,e.height),i.fillStyle=a}function Co(i,e,a,l,r,u={}){const c=ve(e)?e:[e],h=u.strokeWidth>0&&u.strokeColor!=="";let d,m;for(i.save(),i.font=r.string,mS(i,u),d=0;d<c.length;++d)m=c[d],u.backdrop&&yS(i,u.backdrop),h&&(u.strokeColor&&(i.strokeStyle=u.strokeColor),qt(u.strokeWidth)||(i.lineWidth=u.strokeWidth),i.strokeText(m,a,l,u.maxWidth)),i.fillText(m,a,l,u.maxWidth),pS(i,a,l,m,u),l+=Number(r.lineHeight);i.restore()}function Sf(i,e){const{x:a,y:l,w:r,h:u,radius:c}=e;i.arc(a+c.topLeft,l+c.topLeft,c.topLeft,1.5*Te,Te,!0),i.lineTo(a,l+u-c.bottomLeft),i.arc(a+c.bottomLeft,l+u-c.bottomLeft,c.bottomLeft,Te,dn,!0),i.lineTo(a+r-c.bottomRight,l+u),i.arc(a+r-c.bottomRight,l+u-c.bottomRight,c.bottomRight,dn,0,!0),i.lineTo(a+r,l+c.topRight),i.arc(a+r-c.topRight,l+c.topRight,c.topRight,0,-dn,!0),i.lineTo(a+c.topLeft,l)}const bS=/^(normal|(\d+(?:\.\d+)?)(px|em|%)?)$/,vS=/^(normal|italic|initial|inherit|unset|(oblique( -?[0-9]?[0-9]deg)?))$/;function xS(i,e){const a=(""+i).match(bS);if(!a||a[1]==="normal")return e*1.2;switch(i=+a[2],a[3]){case"px":return i;case"%":i/=100;break}return e*i}const _S=i=>+i||0;function s0(i,e){const a={},l=Nt(e),r=l?Object.keys(e):e,u=Nt(i)?l?c=>zt(i[c],i[e[c]]):c=>i[c]:()=>i;for(const c of r)a[c]=_S(u(c));return a}function SS(i){return s0(i,{top:"y",right:"x",bottom:"y",left:"x"})}function Al(i){return s0(i,["topLeft","topRight","bottomLeft","bottomRight"])}function gn(i){const e=SS(i);return e.width=e.left+e.right,e.height=e.top+e.bottom,e}function He(i,e){i=i||{},e=e||te.font;let a=zt(i.size,e.size);typeof a=="string"&&(a=parseInt(a,10));let l=zt(i.style,e.style);l&&!(""+l).match(vS)&&(console.warn('Invalid font style specified: "'+l+'"'),l=void 0);const r={family:zt(i.family,e.family),lineHeight:xS(zt(i.lineHeight,e.lineHeight),a),size:a,style:l,weight:zt(i.weight,e.weight),string:""};return r.string=hS(r),r}function so(i,e,a,l){let r,u,c;for(r=0,u=i.length;r<u;++r)if(c=i[r],c!==void 0&&c!==void 0)return c}function wS(i,e,a){const{min:l,max:r}=i,u=k1(e,(r-l)/2),c=(h,d)=>a&&h===0?0:h+d;return{min:c(l,-Math.abs(u)),max:c(r,u)}}function ga(i,e){return Object.assign(Object.create(i),e)}function Kf(i,e=[""],a,l,r=()=>i[0]){const u=a||i;typeof l>"u"&&(l=u0("_fallback",i));const c={[Symbol.toStringTag]:"Object",_cacheable:!0,_scopes:i,_rootScopes:u,_fallback:l,_getTarget:r,override:h=>Kf([h,...i],e,u,l)};return new Proxy(c,{deleteProperty(h,d){return delete h[d],delete h._keys,delete i[0][d],!0},get(h,d){return r0(h,d,()=>RS(d,e,i,h))},getOwnPropertyDescriptor(h,d){return Reflect.getOwnPropertyDescriptor(h._scopes[0],d)},getPrototypeOf(){return Reflect.getPrototypeOf(i[0])},has(h,d){return Mp(h).includes(d)},ownKeys(h){return Mp(h)},set(h,d,m){const p=h._storage||(h._storage=r());return h[d]=p[d]=m,delete h._keys,!0}})}function as(i,e,a,l){const r={_cacheable:!1,_proxy:i,_context:e,_subProxy:a,_stack:new Set,_descriptors:l0(i,l),setContext:u=>as(i,u,a,l),override:u=>as(i.override(u),e,a,l)};return new Proxy(r,{deleteProperty(u,c){return delete u[c],delete i[c],!0},get(u,c,h){return r0(u,c,()=>TS(u,c,h))},getOwnPropertyDescriptor(u,c){return u._descriptors.allKeys?Reflect.has(i,c)?{enumerable:!0,configurable:!0}:void 0:Reflect.getOwnPropertyDescriptor(i,c)},getPrototypeOf(){return Reflect.getPrototypeOf(i)},has(u,c){return Reflect.has(i,c)},ownKeys(){return Reflect.ownKeys(i)},set(u,c,h){return i[c]=h,delete u[c],!0}})}function l0(i,e={scriptable:!0,indexable:!0}){const{_scriptable:a=e.scriptable,_indexable:l=e.indexable,_allKeys:r=e.allKeys}=i;return{allKeys:r,scriptable:a,indexable:l,isScriptable:Ri(a)?a:()=>a,isIndexable:Ri(l)?l:()=>l}}const ES=(i,e)=>i?i+Ff(e):e,Wf=(i,e)=>Nt(e)&&i!=="adapters"&&(Object.getPrototypeOf(e)===null||e.constructor===Object);function r0(i,e,a){if(Object.prototype.hasOwnProperty.call(i,e)||e==="constructor")return i[e];const l=a();return i[e]=l,l}function TS(i,e,a){const{_proxy:l,_context:r,_subProxy:u,_descriptors:c}=i;let h=l[e];return Ri(h)&&c.isScriptable(e)&&(h=MS(e,h,i,a)),ve(h)&&h.length&&(h=AS(e,h,i,c.isIndexable)),Wf(e,h)&&(h=as(h,r,u&&u[e],c)),h}function MS(i,e,a,l){const{_proxy:r,_context:u,_subProxy:c,_stack:h}=a;if(h.has(i))throw new Error("Recursion detected: "+Array.from(h).join("->")+"->"+i);h.add(i);let d=e(u,c||l);return h.delete(i),Wf(i,d)&&(d=Pf(r._scopes,r,i,d)),d}function AS(i,e,a,l){const{_proxy:r,_context:u,_subProxy:c,_descriptors:h}=a;if(typeof u.index<"u"&&l(i))return e[u.index%e.length];if(Nt(e[0])){const d=e,m=r._scopes.filter(p=>p!==d);e=[];for(const p of d){const b=Pf(m,r,i,p);e.push(as(b,u,c&&c[i],h))}}return e}function o0(i,e,a){return Ri(i)?i(e,a):i}const DS=(i,e)=>i===!0?e:typeof i=="string"?Oo(e,i):void 0;function OS(i,e,a,l,r){for(const u of e){const c=DS(a,u);if(c){i.add(c);const h=o0(c._fallback,a,r);if(typeof h<"u"&&h!==a&&h!==l)return h}else if(c===!1&&typeof l<"u"&&a!==l)return null}return!1}function Pf(i,e,a,l){const r=e._rootScopes,u=o0(e._fallback,a,l),c=[...i,...r],h=new Set;h.add(l);let d=Tp(h,c,a,u||a,l);return d===null||typeof u<"u"&&u!==a&&(d=Tp(h,c,u,d,l),d===null)?!1:Kf(Array.from(h),[""],r,u,()=>zS(e,a,l))}function Tp(i,e,a,l,r){for(;a;)a=OS(i,e,a,l,r);return a}function zS(i,e,a){const l=i._getTarget();e in l||(l[e]={});const r=l[e];return ve(r)&&Nt(a)?a:r||{}}function RS(i,e,a,l){let r;for(const u of e)if(r=u0(ES(u,i),a),typeof r<"u")return Wf(i,r)?Pf(a,l,i,r):r}function u0(i,e){for(const a of e){if(!a)continue;const l=a[i];if(typeof l<"u")return l}}function Mp(i){let e=i._keys;return e||(e=i._keys=CS(i._scopes)),e}function CS(i){const e=new Set;for(const a of i)for(const l of Object.keys(a).filter(r=>!r.startsWith("_")))e.add(l);return Array.from(e)}const kS=Number.EPSILON||1e-14,ss=(i,e)=>e<i.length&&!i[e].skip&&i[e],c0=i=>i==="x"?"y":"x";function NS(i,e,a,l){const r=i.skip?e:i,u=e,c=a.skip?e:a,h=vf(u,r),d=vf(c,u);let m=h/(h+d),p=d/(h+d);m=isNaN(m)?0:m,p=isNaN(p)?0:p;const b=l*m,v=l*p;return{previous:{x:u.x-b*(c.x-r.x),y:u.y-b*(c.y-r.y)},next:{x:u.x+v*(c.x-r.x),y:u.y+v*(c.y-r.y)}}}function jS(i,e,a){const l=i.length;let r,u,c,h,d,m=ss(i,0);for(let p=0;p<l-1;++p)if(d=m,m=ss(i,p+1),!(!d||!m)){if(El(e[p],0,kS)){a[p]=a[p+1]=0;continue}r=a[p]/e[p],u=a[p+1]/e[p],h=Math.pow(r,2)+Math.pow(u,2),!(h<=9)&&(c=3/Math.sqrt(h),a[p]=r*c*e[p],a[p+1]=u*c*e[p])}}function LS(i,e,a="x"){const l=c0(a),r=i.length;let u,c,h,d=ss(i,0);for(let m=0;m<r;++m){if(c=h,h=d,d=ss(i,m+1),!h)continue;const p=h[a],b=h[l];c&&(u=(p-c[a])/3,h[`cp1${a}`]=p-u,h[`cp1${l}`]=b-u*e[m]),d&&(u=(d[a]-p)/3,h[`cp2${a}`]=p+u,h[`cp2${l}`]=b+u*e[m])}}function HS(i,e="x"){const a=c0(e),l=i.length,r=Array(l).fill(0),u=Array(l);let c,h,d,m=ss(i,0);for(c=0;c<l;++c)if(h=d,d=m,m=ss(i,c+1),!!d){if(m){const p=m[e]-d[e];r[c]=p!==0?(m[a]-d[a])/p:0}u[c]=h?m?is(r[c-1])!==is(r[c])?0:(r[c-1]+r[c])/2:r[c-1]:r[c]}jS(i,r,u),LS(i,u,e)}function lo(i,e,a){return Math.max(Math.min(i,a),e)}function BS(i,e){let a,l,r,u,c,h=Nl(i[0],e);for(a=0,l=i.length;a<l;++a)c=u,u=h,h=a<l-1&&Nl(i[a+1],e),u&&(r=i[a],c&&(r.cp1x=lo(r.cp1x,e.left,e.right),r.cp1y=lo(r.cp1y,e.top,e.bottom)),h&&(r.cp2x=lo(r.cp2x,e.left,e.right),r.cp2y=lo(r.cp2y,e.top,e.bottom)))}function US(i,e,a,l,r){let u,c,h,d;if(e.spanGaps&&(i=i.filter(m=>!m.skip)),e.cubicInterpolationMode==="monotone")HS(i,r);else{let m=l?i[i.length-1]:i[0];for(u=0,c=i.length;u<c;++u)h=i[u],d=NS(m,h,i[Math.min(u+1,c-(l?0:1))%c],e.tension),h.cp1x=d.previous.x,h.cp1y=d.previous.y,h.cp2x=d.next.x,h.cp2y=d.next.y,m=h}e.capBezierPoints&&BS(i,a)}function $f(){return typeof window<"u"&&typeof document<"u"}function Jf(i){let e=i.parentNode;return e&&e.toString()==="[object ShadowRoot]"&&(e=e.host),e}function ko(i,e,a){let l;return typeof i=="string"?(l=parseInt(i,10),i.indexOf("%")!==-1&&(l=l/100*e.parentNode[a])):l=i,l}const Uo=i=>i.ownerDocument.defaultView.getComputedStyle(i,null);function VS(i,e){return Uo(i).getPropertyValue(e)}const YS=["top","right","bottom","left"];function fa(i,e,a){const l={};a=a?"-"+a:"";for(let r=0;r<4;r++){const u=YS[r];l[u]=parseFloat(i[e+"-"+u+a])||0}return l.width=l.left+l.right,l.height=l.top+l.bottom,l}const qS=(i,e,a)=>(i>0||e>0)&&(!a||!a.shadowRoot);function FS(i,e){const a=i.touches,l=a&&a.length?a[0]:i,{offsetX:r,offsetY:u}=l;let c=!1,h,d;if(qS(r,u,i.target))h=r,d=u;else{const m=e.getBoundingClientRect();h=l.clientX-m.left,d=l.clientY-m.top,c=!0}return{x:h,y:d,box:c}}function la(i,e){if("native"in i)return i;const{canvas:a,currentDevicePixelRatio:l}=e,r=Uo(a),u=r.boxSizing==="border-box",c=fa(r,"padding"),h=fa(r,"border","width"),{x:d,y:m,box:p}=FS(i,a),b=c.left+(p&&h.left),v=c.top+(p&&h.top);let{width:_,height:S}=e;return u&&(_-=c.width+h.width,S-=c.height+h.height),{x:Math.round((d-b)/_*a.width/l),y:Math.round((m-v)/S*a.height/l)}}function XS(i,e,a){let l,r;if(e===void 0||a===void 0){const u=i&&Jf(i);if(!u)e=i.clientWidth,a=i.clientHeight;else{const c=u.getBoundingClientRect(),h=Uo(u),d=fa(h,"border","width"),m=fa(h,"padding");e=c.width-m.width-d.width,a=c.height-m.height-d.height,l=ko(h.maxWidth,u,"clientWidth"),r=ko(h.maxHeight,u,"clientHeight")}}return{width:e,height:a,maxWidth:l||Ro,maxHeight:r||Ro}}const ro=i=>Math.round(i*10)/10;function GS(i,e,a,l){const r=Uo(i),u=fa(r,"margin"),c=ko(r.maxWidth,i,"clientWidth")||Ro,h=ko(r.maxHeight,i,"clientHeight")||Ro,d=XS(i,e,a);let{width:m,height:p}=d;if(r.boxSizing==="content-box"){const v=fa(r,"border","width"),_=fa(r,"padding");m-=_.width+v.width,p-=_.height+v.height}return m=Math.max(0,m-u.width),p=Math.max(0,l?m/l:p-u.height),m=ro(Math.min(m,c,d.maxWidth)),p=ro(Math.min(p,h,d.maxHeight)),m&&!p&&(p=ro(m/2)),(e!==void 0||a!==void 0)&&l&&d.height&&p>d.height&&(p=d.height,m=ro(Math.floor(p*l))),{width:m,height:p}}function Ap(i,e,a){const l=e||1,r=Math.floor(i.height*l),u=Math.floor(i.width*l);i.height=Math.floor(i.height),i.width=Math.floor(i.width);const c=i.canvas;return c.style&&(a||!c.style.height&&!c.style.width)&&(c.style.height=`${i.height}px`,c.style.width=`${i.width}px`),i.currentDevicePixelRatio!==l||c.height!==r||c.width!==u?(i.currentDevicePixelRatio=l,c.height=r,c.width=u,i.ctx.setTransform(l,0,0,l,0,0),!0):!1}const QS=function(){let i=!1;try{const e={get passive(){return i=!0,!1}};$f()&&(window.addEventListener("test",null,e),window.removeEventListener("test",null,e))}catch{}return i}();function Dp(i,e){const a=VS(i,e),l=a&&a.match(/^(\d+)(\.\d+)?px$/);return l?+l[1]:void 0}function ra(i,e,a,l){return{x:i.x+a*(e.x-i.x),y:i.y+a*(e.y-i.y)}}function ZS(i,e,a,l){return{x:i.x+a*(e.x-i.x),y:l==="middle"?a<.5?i.y:e.y:l==="after"?a<1?i.y:e.y:a>0?e.y:i.y}}function KS(i,e,a,l){const r={x:i.cp2x,y:i.cp2y},u={x:e.cp1x,y:e.cp1y},c=ra(i,r,a),h=ra(r,u,a),d=ra(u,e,a),m=ra(c,h,a),p=ra(h,d,a);return ra(m,p,a)}const WS=function(i,e){return{x(a){return i+i+e-a},setWidth(a){e=a},textAlign(a){return a==="center"?a:a==="right"?"left":"right"},xPlus(a,l){return a-l},leftForLtr(a,l){return a-l}}},PS=function(){return{x(i){return i},setWidth(i){},textAlign(i){return i},xPlus(i,e){return i+e},leftForLtr(i,e){return i}}};function ns(i,e,a){return i?WS(e,a):PS()}function f0(i,e){let a,l;(e==="ltr"||e==="rtl")&&(a=i.canvas.style,l=[a.getPropertyValue("direction"),a.getPropertyPriority("direction")],a.setProperty("direction",e,"important"),i.prevTextDirection=l)}function h0(i,e){e!==void 0&&(delete i.prevTextDirection,i.canvas.style.setProperty("direction",e[0],e[1]))}function d0(i){return i==="angle"?{between:$y,compare:Z1,normalize:Mi}:{between:yl,compare:(e,a)=>e-a,normalize:e=>e}}function Op({start:i,end:e,count:a,loop:l,style:r}){return{start:i%a,end:e%a,loop:l&&(e-i+1)%a===0,style:r}}function $S(i,e,a){const{property:l,start:r,end:u}=a,{between:c,normalize:h}=d0(l),d=e.length;let{start:m,end:p,loop:b}=i,v,_;if(b){for(m+=d,p+=d,v=0,_=d;v<_&&c(h(e[m%d][l]),r,u);++v)m--,p--;m%=d,p%=d}return p<m&&(p+=d),{start:m,end:p,loop:b,style:i.style}}function JS(i,e,a){if(!a)return[i];const{property:l,start:r,end:u}=a,c=e.length,{compare:h,between:d,normalize:m}=d0(l),{start:p,end:b,loop:v,style:_}=$S(i,e,a),S=[];let w=!1,T=null,A,N,U;const Y=()=>d(r,U,A)&&h(r,U)!==0,C=()=>h(u,A)===0||d(u,U,A),W=()=>w||Y(),J=()=>!w||C();for(let $=p,X=p;$<=b;++$)N=e[$%c],!N.skip&&(A=m(N[l]),A!==U&&(w=d(A,r,u),T===null&&W()&&(T=h(A,r)===0?$:X),T!==null&&J()&&(S.push(Op({start:T,end:$,loop:v,count:c,style:_})),T=null),X=$,U=A));return T!==null&&S.push(Op({start:T,end:b,loop:v,count:c,style:_})),S}function IS(i,e){const a=[],l=i.segments;for(let r=0;r<l.length;r++){const u=JS(l[r],i.points,e);u.length&&a.push(...u)}return a}function tw(i,e,a,l){let r=0,u=e-1;if(a&&!l)for(;r<e&&!i[r].skip;)r++;for(;r<e&&i[r].skip;)r++;for(r%=e,a&&(u+=r);u>r&&i[u%e].skip;)u--;return u%=e,{start:r,end:u}}function ew(i,e,a,l){const r=i.length,u=[];let c=e,h=i[e],d;for(d=e+1;d<=a;++d){const m=i[d%r];m.skip||m.stop?h.skip||(l=!1,u.push({start:e%r,end:(d-1)%r,loop:l}),e=c=m.stop?d:null):(c=d,h.skip&&(e=d)),h=m}return c!==null&&u.push({start:e%r,end:c%r,loop:l}),u}function nw(i,e){const a=i.points,l=i.options.spanGaps,r=a.length;if(!r)return[];const u=!!i._loop,{start:c,end:h}=tw(a,r,u,l);if(l===!0)return zp(i,[{start:c,end:h,loop:u}],a,e);const d=h<c?h+r:h,m=!!i._fullLoop&&c===0&&h===r-1;return zp(i,ew(a,c,d,m),a,e)}function zp(i,e,a,l){return!l||!l.setContext||!a?e:iw(i,e,a,l)}function iw(i,e,a,l){const r=i._chart.getContext(),u=Rp(i.options),{_datasetIndex:c,options:{spanGaps:h}}=i,d=a.length,m=[];let p=u,b=e[0].start,v=b;function _(S,w,T,A){const N=h?-1:1;if(S!==w){for(S+=d;a[S%d].skip;)S-=N;for(;a[w%d].skip;)w+=N;S%d!==w%d&&(m.push({start:S%d,end:w%d,loop:T,style:A}),p=A,b=w%d)}}for(const S of e){b=h?b:S.start;let w=a[b%d],T;for(v=b+1;v<=S.end;v++){const A=a[v%d];T=Rp(l.setContext(ga(r,{type:"segment",p0:w,p1:A,p0DataIndex:(v-1)%d,p1DataIndex:v%d,datasetIndex:c}))),aw(T,p)&&_(b,v-1,S.loop,p),w=A,p=T}b<v-1&&_(b,v-1,S.loop,p)}return m}function Rp(i){return{backgroundColor:i.backgroundColor,borderCapStyle:i.borderCapStyle,borderDash:i.borderDash,borderDashOffset:i.borderDashOffset,borderJoinStyle:i.borderJoinStyle,borderWidth:i.borderWidth,borderColor:i.borderColor}}function aw(i,e){if(!e)return!1;const a=[],l=function(r,u){return Gf(u)?(a.includes(u)||a.push(u),a.indexOf(u)):u};return JSON.stringify(i,l)!==JSON.stringify(e,l)}function oo(i,e,a){return i.options.clip?i[a]:e[a]}function sw(i,e){const{xScale:a,yScale:l}=i;return a&&l?{left:oo(a,e,"left"),right:oo(a,e,"right"),top:oo(l,e,"top"),bottom:oo(l,e,"bottom")}:e}function lw(i,e){const a=e._clip;if(a.disabled)return!1;const l=sw(e,i.chartArea);return{left:a.left===!1?0:l.left-(a.left===!0?0:a.left),right:a.right===!1?i.width:l.right+(a.right===!0?0:a.right),top:a.top===!1?0:l.top-(a.top===!0?0:a.top),bottom:a.bottom===!1?i.height:l.bottom+(a.bottom===!0?0:a.bottom)}}/*!
+ * Chart.js v4.4.9
+ * https://www.chartjs.org
+ * (c) 2025 Chart.js Contributors
+ * Released under the MIT License
+ */class rw{constructor(){this._request=null,this._charts=new Map,this._running=!1,this._lastDate=void 0}_notify(e,a,l,r){const u=a.listeners[r],c=a.duration;u.forEach(h=>h({chart:e,initial:a.initial,numSteps:c,currentStep:Math.min(l-a.start,c)}))}_refresh(){this._request||(this._running=!0,this._request=Iy.call(window,()=>{this._update(),this._request=null,this._running&&this._refresh()}))}_update(e=Date.now()){let a=0;this._charts.forEach((l,r)=>{if(!l.running||!l.items.length)return;const u=l.items;let c=u.length-1,h=!1,d;for(;c>=0;--c)d=u[c],d._active?(d._total>l.duration&&(l.duration=d._total),d.tick(e),h=!0):(u[c]=u[u.length-1],u.pop());h&&(r.draw(),this._notify(r,l,e,"progress")),u.length||(l.running=!1,this._notify(r,l,e,"complete"),l.initial=!1),a+=u.length}),this._lastDate=e,a===0&&(this._running=!1)}_getAnims(e){const a=this._charts;let l=a.get(e);return l||(l={running:!1,initial:!0,items:[],listeners:{complete:[],progress:[]}},a.set(e,l)),l}listen(e,a,l){this._getAnims(e).listeners[a].push(l)}add(e,a){!a||!a.length||this._getAnims(e).items.push(...a)}has(e){return this._getAnims(e).items.length>0}start(e){const a=this._charts.get(e);a&&(a.running=!0,a.start=Date.now(),a.duration=a.items.reduce((l,r)=>Math.max(l,r._duration),0),this._refresh())}running(e){if(!this._running)return!1;const a=this._charts.get(e);return!(!a||!a.running||!a.items.length)}stop(e){const a=this._charts.get(e);if(!a||!a.items.length)return;const l=a.items;let r=l.length-1;for(;r>=0;--r)l[r].cancel();a.items=[],this._notify(e,a,Date.now(),"complete")}remove(e){return this._charts.delete(e)}}var $n=new rw;const Cp="transparent",ow={boolean(i,e,a){return a>.5?e:i},color(i,e,a){const l=_p(i||Cp),r=l.valid&&_p(e||Cp);return r&&r.valid?r.mix(l,a).hexString():e},number(i,e,a){return i+(e-i)*a}};class uw{constructor(e,a,l,r){const u=a[l];r=so([e.to,r,u,e.from]);const c=so([e.from,u,r]);this._active=!0,this._fn=e.fn||ow[e.type||typeof c],this._easing=Tl[e.easing]||Tl.linear,this._start=Math.floor(Date.now()+(e.delay||0)),this._duration=this._total=Math.floor(e.duration),this._loop=!!e.loop,this._target=a,this._prop=l,this._from=c,this._to=r,this._promises=void 0}active(){return this._active}update(e,a,l){if(this._active){this._notify(!1);const r=this._target[this._prop],u=l-this._start,c=this._duration-u;this._start=l,this._duration=Math.floor(Math.max(c,e.duration)),this._total+=u,this._loop=!!e.loop,this._to=so([e.to,a,r,e.from]),this._from=so([e.from,r,a])}}cancel(){this._active&&(this.tick(Date.now()),this._active=!1,this._notify(!1))}tick(e){const a=e-this._start,l=this._duration,r=this._prop,u=this._from,c=this._loop,h=this._to;let d;if(this._active=u!==h&&(c||a<l),!this._active){this._target[r]=h,this._notify(!0);return}if(a<0){this._target[r]=u;return}d=a/l%2,d=c&&d>1?2-d:d,d=this._easing(Math.min(1,Math.max(0,d))),this._target[r]=this._fn(u,h,d)}wait(){const e=this._promises||(this._promises=[]);return new Promise((a,l)=>{e.push({res:a,rej:l})})}_notify(e){const a=e?"res":"rej",l=this._promises||[];for(let r=0;r<l.length;r++)l[r][a]()}}class g0{constructor(e,a){this._chart=e,this._properties=new Map,this.configure(a)}configure(e){if(!Nt(e))return;const a=Object.keys(te.animation),l=this._properties;Object.getOwnPropertyNames(e).forEach(r=>{const u=e[r];if(!Nt(u))return;const c={};for(const h of a)c[h]=u[h];(ve(u.properties)&&u.properties||[r]).forEach(h=>{(h===r||!l.has(h))&&l.set(h,c)})})}_animateOptions(e,a){const l=a.options,r=fw(e,l);if(!r)return[];const u=this._createAnimations(r,l);return l.$shared&&cw(e.options.$animations,l).then(()=>{e.options=l},()=>{}),u}_createAnimations(e,a){const l=this._properties,r=[],u=e.$animations||(e.$animations={}),c=Object.keys(a),h=Date.now();let d;for(d=c.length-1;d>=0;--d){const m=c[d];if(m.charAt(0)==="$")continue;if(m==="options"){r.push(...this._animateOptions(e,a));continue}const p=a[m];let b=u[m];const v=l.get(m);if(b)if(v&&b.active()){b.update(v,p,h);continue}else b.cancel();if(!v||!v.duration){e[m]=p;continue}u[m]=b=new uw(v,e,m,p),r.push(b)}return r}update(e,a){if(this._properties.size===0){Object.assign(e,a);return}const l=this._createAnimations(e,a);if(l.length)return $n.add(this._chart,l),!0}}function cw(i,e){const a=[],l=Object.keys(e);for(let r=0;r<l.length;r++){const u=i[l[r]];u&&u.active()&&a.push(u.wait())}return Promise.all(a)}function fw(i,e){if(!e)return;let a=i.options;if(!a){i.options=e;return}return a.$shared&&(i.options=a=Object.assign({},a,{$shared:!1,$animations:{}})),a}function kp(i,e){const a=i&&i.options||{},l=a.reverse,r=a.min===void 0?e:0,u=a.max===void 0?e:0;return{start:l?u:r,end:l?r:u}}function hw(i,e,a){if(a===!1)return!1;const l=kp(i,a),r=kp(e,a);return{top:r.end,right:l.end,bottom:r.start,left:l.start}}function dw(i){let e,a,l,r;return Nt(i)?(e=i.top,a=i.right,l=i.bottom,r=i.left):e=a=l=r=i,{top:e,right:a,bottom:l,left:r,disabled:i===!1}}function m0(i,e){const a=[],l=i._getSortedDatasetMetas(e);let r,u;for(r=0,u=l.length;r<u;++r)a.push(l[r].index);return a}function Np(i,e,a,l={}){const r=i.keys,u=l.mode==="single";let c,h,d,m;if(e===null)return;let p=!1;for(c=0,h=r.length;c<h;++c){if(d=+r[c],d===a){if(p=!0,l.all)continue;break}m=i.values[d],sn(m)&&(u||e===0||is(e)===is(m))&&(e+=m)}return!p&&!l.all?0:e}function gw(i,e){const{iScale:a,vScale:l}=e,r=a.axis==="x"?"x":"y",u=l.axis==="x"?"x":"y",c=Object.keys(i),h=new Array(c.length);let d,m,p;for(d=0,m=c.length;d<m;++d)p=c[d],h[d]={[r]:p,[u]:i[p]};return h}function uf(i,e){const a=i&&i.options.stacked;return a||a===void 0&&e.stack!==void 0}function mw(i,e,a){return`${i.id}.${e.id}.${a.stack||a.type}`}function pw(i){const{min:e,max:a,minDefined:l,maxDefined:r}=i.getUserBounds();return{min:l?e:Number.NEGATIVE_INFINITY,max:r?a:Number.POSITIVE_INFINITY}}function yw(i,e,a){const l=i[e]||(i[e]={});return l[a]||(l[a]={})}function jp(i,e,a,l){for(const r of e.getMatchingVisibleMetas(l).reverse()){const u=i[r.index];if(a&&u>0||!a&&u<0)return r.index}return null}function Lp(i,e){const{chart:a,_cachedMeta:l}=i,r=a._stacks||(a._stacks={}),{iScale:u,vScale:c,index:h}=l,d=u.axis,m=c.axis,p=mw(u,c,l),b=e.length;let v;for(let _=0;_<b;++_){const S=e[_],{[d]:w,[m]:T}=S,A=S._stacks||(S._stacks={});v=A[m]=yw(r,p,w),v[h]=T,v._top=jp(v,c,!0,l.type),v._bottom=jp(v,c,!1,l.type);const N=v._visualValues||(v._visualValues={});N[h]=T}}function cf(i,e){const a=i.scales;return Object.keys(a).filter(l=>a[l].axis===e).shift()}function bw(i,e){return ga(i,{active:!1,dataset:void 0,datasetIndex:e,index:e,mode:"default",type:"dataset"})}function vw(i,e,a){return ga(i,{active:!1,dataIndex:e,parsed:void 0,raw:void 0,element:a,index:e,mode:"default",type:"data"})}function fl(i,e){const a=i.controller.index,l=i.vScale&&i.vScale.axis;if(l){e=e||i._parsed;for(const r of e){const u=r._stacks;if(!u||u[l]===void 0||u[l][a]===void 0)return;delete u[l][a],u[l]._visualValues!==void 0&&u[l]._visualValues[a]!==void 0&&delete u[l]._visualValues[a]}}}const ff=i=>i==="reset"||i==="none",Hp=(i,e)=>e?i:Object.assign({},i),xw=(i,e,a)=>i&&!e.hidden&&e._stacked&&{keys:m0(a,!0),values:null};class Dl{constructor(e,a){this.chart=e,this._ctx=e.ctx,this.index=a,this._cachedDataOpts={},this._cachedMeta=this.getMeta(),this._type=this._cachedMeta.type,this.options=void 0,this._parsing=!1,this._data=void 0,this._objectData=void 0,this._sharedOptions=void 0,this._drawStart=void 0,this._drawCount=void 0,this.enableOptionSharing=!1,this.supportsDecimation=!1,this.$context=void 0,this._syncList=[],this.datasetElementType=new.target.datasetElementType,this.dataElementType=new.target.dataElementType,this.initialize()}initialize(){const e=this._cachedMeta;this.configure(),this.linkScales(),e._stacked=uf(e.vScale,e),this.addElements(),this.options.fill&&!this.chart.isPluginEnabled("filler")&&console.warn("Tried to use the 'fill' option without the 'Filler' plugin enabled. Please import and register the 'Filler' plugin and make sure it is not disabled in the options")}updateIndex(e){this.index!==e&&fl(this._cachedMeta),this.index=e}linkScales(){const e=this.chart,a=this._cachedMeta,l=this.getDataset(),r=(b,v,_,S)=>b==="x"?v:b==="r"?S:_,u=a.xAxisID=zt(l.xAxisID,cf(e,"x")),c=a.yAxisID=zt(l.yAxisID,cf(e,"y")),h=a.rAxisID=zt(l.rAxisID,cf(e,"r")),d=a.indexAxis,m=a.iAxisID=r(d,u,c,h),p=a.vAxisID=r(d,c,u,h);a.xScale=this.getScaleForId(u),a.yScale=this.getScaleForId(c),a.rScale=this.getScaleForId(h),a.iScale=this.getScaleForId(m),a.vScale=this.getScaleForId(p)}getDataset(){return this.chart.data.datasets[this.index]}getMeta(){return this.chart.getDatasetMeta(this.index)}getScaleForId(e){return this.chart.scales[e]}_getOtherScale(e){const a=this._cachedMeta;return e===a.iScale?a.vScale:a.iScale}reset(){this._update("reset")}_destroy(){const e=this._cachedMeta;this._data&&bp(this._data,this),e._stacked&&fl(e)}_dataCheck(){const e=this.getDataset(),a=e.data||(e.data=[]),l=this._data;if(Nt(a)){const r=this._cachedMeta;this._data=gw(a,r)}else if(l!==a){if(l){bp(l,this);const r=this._cachedMeta;fl(r),r._parsed=[]}a&&Object.isExtensible(a)&&$1(a,this),this._syncList=[],this._data=a}}addElements(){const e=this._cachedMeta;this._dataCheck(),this.datasetElementType&&(e.dataset=new this.datasetElementType)}buildOrUpdateElements(e){const a=this._cachedMeta,l=this.getDataset();let r=!1;this._dataCheck();const u=a._stacked;a._stacked=uf(a.vScale,a),a.stack!==l.stack&&(r=!0,fl(a),a.stack=l.stack),this._resyncElements(e),(r||u!==a._stacked)&&(Lp(this,a._parsed),a._stacked=uf(a.vScale,a))}configure(){const e=this.chart.config,a=e.datasetScopeKeys(this._type),l=e.getOptionScopes(this.getDataset(),a,!0);this.options=e.createResolver(l,this.getContext()),this._parsing=this.options.parsing,this._cachedDataOpts={}}parse(e,a){const{_cachedMeta:l,_data:r}=this,{iScale:u,_stacked:c}=l,h=u.axis;let d=e===0&&a===r.length?!0:l._sorted,m=e>0&&l._parsed[e-1],p,b,v;if(this._parsing===!1)l._parsed=r,l._sorted=!0,v=r;else{ve(r[e])?v=this.parseArrayData(l,r,e,a):Nt(r[e])?v=this.parseObjectData(l,r,e,a):v=this.parsePrimitiveData(l,r,e,a);const _=()=>b[h]===null||m&&b[h]<m[h];for(p=0;p<a;++p)l._parsed[p+e]=b=v[p],d&&(_()&&(d=!1),m=b);l._sorted=d}c&&Lp(this,v)}parsePrimitiveData(e,a,l,r){const{iScale:u,vScale:c}=e,h=u.axis,d=c.axis,m=u.getLabels(),p=u===c,b=new Array(r);let v,_,S;for(v=0,_=r;v<_;++v)S=v+l,b[v]={[h]:p||u.parse(m[S],S),[d]:c.parse(a[S],S)};return b}parseArrayData(e,a,l,r){const{xScale:u,yScale:c}=e,h=new Array(r);let d,m,p,b;for(d=0,m=r;d<m;++d)p=d+l,b=a[p],h[d]={x:u.parse(b[0],p),y:c.parse(b[1],p)};return h}parseObjectData(e,a,l,r){const{xScale:u,yScale:c}=e,{xAxisKey:h="x",yAxisKey:d="y"}=this._parsing,m=new Array(r);let p,b,v,_;for(p=0,b=r;p<b;++p)v=p+l,_=a[v],m[p]={x:u.parse(Oo(_,h),v),y:c.parse(Oo(_,d),v)};return m}getParsed(e){return this._cachedMeta._parsed[e]}getDataElement(e){return this._cachedMeta.data[e]}applyStack(e,a,l){const r=this.chart,u=this._cachedMeta,c=a[e.axis],h={keys:m0(r,!0),values:a._stacks[e.axis]._visualValues};return Np(h,c,u.index,{mode:l})}updateRangeFromParsed(e,a,l,r){const u=l[a.axis];let c=u===null?NaN:u;const h=r&&l._stacks[a.axis];r&&h&&(r.values=h,c=Np(r,u,this._cachedMeta.index)),e.min=Math.min(e.min,c),e.max=Math.max(e.max,c)}getMinMax(e,a){const l=this._cachedMeta,r=l._parsed,u=l._sorted&&e===l.iScale,c=r.length,h=this._getOtherScale(e),d=xw(a,l,this.chart),m={min:Number.POSITIVE_INFINITY,max:Number.NEGATIVE_INFINITY},{min:p,max:b}=pw(h);let v,_;function S(){_=r[v];const w=_[h.axis];return!sn(_[e.axis])||p>w||b<w}for(v=0;v<c&&!(!S()&&(this.updateRangeFromParsed(m,e,_,d),u));++v);if(u){for(v=c-1;v>=0;--v)if(!S()){this.updateRangeFromParsed(m,e,_,d);break}}return m}getAllParsedValues(e){const a=this._cachedMeta._parsed,l=[];let r,u,c;for(r=0,u=a.length;r<u;++r)c=a[r][e.axis],sn(c)&&l.push(c);return l}getMaxOverflow(){return!1}getLabelAndValue(e){const a=this._cachedMeta,l=a.iScale,r=a.vScale,u=this.getParsed(e);return{label:l?""+l.getLabelForValue(u[l.axis]):"",value:r?""+r.getLabelForValue(u[r.axis]):""}}_update(e){const a=this._cachedMeta;this.update(e||"default"),a._clip=dw(zt(this.options.clip,hw(a.xScale,a.yScale,this.getMaxOverflow())))}update(e){}draw(){const e=this._ctx,a=this.chart,l=this._cachedMeta,r=l.data||[],u=a.chartArea,c=[],h=this._drawStart||0,d=this._drawCount||r.length-h,m=this.options.drawActiveElementsOnTop;let p;for(l.dataset&&l.dataset.draw(e,u,h,d),p=h;p<h+d;++p){const b=r[p];b.hidden||(b.active&&m?c.push(b):b.draw(e,u))}for(p=0;p<c.length;++p)c[p].draw(e,u)}getStyle(e,a){const l=a?"active":"default";return e===void 0&&this._cachedMeta.dataset?this.resolveDatasetElementOptions(l):this.resolveDataElementOptions(e||0,l)}getContext(e,a,l){const r=this.getDataset();let u;if(e>=0&&e<this._cachedMeta.data.length){const c=this._cachedMeta.data[e];u=c.$context||(c.$context=vw(this.getContext(),e,c)),u.parsed=this.getParsed(e),u.raw=r.data[e],u.index=u.dataIndex=e}else u=this.$context||(this.$context=bw(this.chart.getContext(),this.index)),u.dataset=r,u.index=u.datasetIndex=this.index;return u.active=!!a,u.mode=l,u}resolveDatasetElementOptions(e){return this._resolveElementOptions(this.datasetElementType.id,e)}resolveDataElementOptions(e,a){return this._resolveElementOptions(this.dataElementType.id,a,e)}_resolveElementOptions(e,a="default",l){const r=a==="active",u=this._cachedDataOpts,c=e+"-"+a,h=u[c],d=this.enableOptionSharing&&zo(l);if(h)return Hp(h,d);const m=this.chart.config,p=m.datasetElementScopeKeys(this._type,e),b=r?[`${e}Hover`,"hover",e,""]:[e,""],v=m.getOptionScopes(this.getDataset(),p),_=Object.keys(te.elements[e]),S=()=>this.getContext(l,r,a),w=m.resolveNamedOptions(v,_,S,b);return w.$shared&&(w.$shared=d,u[c]=Object.freeze(Hp(w,d))),w}_resolveAnimations(e,a,l){const r=this.chart,u=this._cachedDataOpts,c=`animation-${a}`,h=u[c];if(h)return h;let d;if(r.options.animation!==!1){const p=this.chart.config,b=p.datasetAnimationScopeKeys(this._type,a),v=p.getOptionScopes(this.getDataset(),b);d=p.createResolver(v,this.getContext(e,l,a))}const m=new g0(r,d&&d.animations);return d&&d._cacheable&&(u[c]=Object.freeze(m)),m}getSharedOptions(e){if(e.$shared)return this._sharedOptions||(this._sharedOptions=Object.assign({},e))}includeOptions(e,a){return!a||ff(e)||this.chart._animationsDisabled}_getSharedOptions(e,a){const l=this.resolveDataElementOptions(e,a),r=this._sharedOptions,u=this.getSharedOptions(l),c=this.includeOptions(a,u)||u!==r;return this.updateSharedOptions(u,a,l),{sharedOptions:u,includeOptions:c}}updateElement(e,a,l,r){ff(r)?Object.assign(e,l):this._resolveAnimations(a,r).update(e,l)}updateSharedOptions(e,a,l){e&&!ff(a)&&this._resolveAnimations(void 0,a).update(e,l)}_setStyle(e,a,l,r){e.active=r;const u=this.getStyle(a,r);this._resolveAnimations(a,l,r).update(e,{options:!r&&this.getSharedOptions(u)||u})}removeHoverStyle(e,a,l){this._setStyle(e,l,"active",!1)}setHoverStyle(e,a,l){this._setStyle(e,l,"active",!0)}_removeDatasetHoverStyle(){const e=this._cachedMeta.dataset;e&&this._setStyle(e,void 0,"active",!1)}_setDatasetHoverStyle(){const e=this._cachedMeta.dataset;e&&this._setStyle(e,void 0,"active",!0)}_resyncElements(e){const a=this._data,l=this._cachedMeta.data;for(const[h,d,m]of this._syncList)this[h](d,m);this._syncList=[];const r=l.length,u=a.length,c=Math.min(u,r);c&&this.parse(0,c),u>r?this._insertElements(r,u-r,e):u<r&&this._removeElements(u,r-u)}_insertElements(e,a,l=!0){const r=this._cachedMeta,u=r.data,c=e+a;let h;const d=m=>{for(m.length+=a,h=m.length-1;h>=c;h--)m[h]=m[h-a]};for(d(u),h=e;h<c;++h)u[h]=new this.dataElementType;this._parsing&&d(r._parsed),this.parse(e,a),l&&this.updateElements(u,e,a,"reset")}updateElements(e,a,l,r){}_removeElements(e,a){const l=this._cachedMeta;if(this._parsing){const r=l._parsed.splice(e,a);l._stacked&&fl(l,r)}l.data.splice(e,a)}_sync(e){if(this._parsing)this._syncList.push(e);else{const[a,l,r]=e;this[a](l,r)}this.chart._dataChanges.push([this.index,...e])}_onDataPush(){const e=arguments.length;this._sync(["_insertElements",this.getDataset().data.length-e,e])}_onDataPop(){this._sync(["_removeElements",this._cachedMeta.data.length-1,1])}_onDataShift(){this._sync(["_removeElements",0,1])}_onDataSplice(e,a){a&&this._sync(["_removeElements",e,a]);const l=arguments.length-2;l&&this._sync(["_insertElements",e,l])}_onDataUnshift(){this._sync(["_insertElements",0,arguments.length])}}St(Dl,"defaults",{}),St(Dl,"datasetElementType",null),St(Dl,"dataElementType",null);class vo extends Dl{initialize(){this.enableOptionSharing=!0,this.supportsDecimation=!0,super.initialize()}update(e){const a=this._cachedMeta,{dataset:l,data:r=[],_dataset:u}=a,c=this.chart._animationsDisabled;let{start:h,count:d}=eS(a,r,c);this._drawStart=h,this._drawCount=d,nS(a)&&(h=0,d=r.length),l._chart=this.chart,l._datasetIndex=this.index,l._decimated=!!u._decimated,l.points=r;const m=this.resolveDatasetElementOptions(e);this.options.showLine||(m.borderWidth=0),m.segment=this.options.segment,this.updateElement(l,void 0,{animated:!c,options:m},e),this.updateElements(r,h,d,e)}updateElements(e,a,l,r){const u=r==="reset",{iScale:c,vScale:h,_stacked:d,_dataset:m}=this._cachedMeta,{sharedOptions:p,includeOptions:b}=this._getSharedOptions(a,r),v=c.axis,_=h.axis,{spanGaps:S,segment:w}=this.options,T=kl(S)?S:Number.POSITIVE_INFINITY,A=this.chart._animationsDisabled||u||r==="none",N=a+l,U=e.length;let Y=a>0&&this.getParsed(a-1);for(let C=0;C<U;++C){const W=e[C],J=A?W:{};if(C<a||C>=N){J.skip=!0;continue}const $=this.getParsed(C),X=qt($[_]),tt=J[v]=c.getPixelForValue($[v],C),rt=J[_]=u||X?h.getBasePixel():h.getPixelForValue(d?this.applyStack(h,$,d):$[_],C);J.skip=isNaN(tt)||isNaN(rt)||X,J.stop=C>0&&Math.abs($[v]-Y[v])>T,w&&(J.parsed=$,J.raw=m.data[C]),b&&(J.options=p||this.resolveDataElementOptions(C,W.active?"active":r)),A||this.updateElement(W,C,J,r),Y=$}}getMaxOverflow(){const e=this._cachedMeta,a=e.dataset,l=a.options&&a.options.borderWidth||0,r=e.data||[];if(!r.length)return l;const u=r[0].size(this.resolveDataElementOptions(0)),c=r[r.length-1].size(this.resolveDataElementOptions(r.length-1));return Math.max(l,u,c)/2}draw(){const e=this._cachedMeta;e.dataset.updateControlPoints(this.chart.chartArea,e.iScale.axis),super.draw()}}St(vo,"id","line"),St(vo,"defaults",{datasetElementType:"line",dataElementType:"point",showLine:!0,spanGaps:!1}),St(vo,"overrides",{scales:{_index_:{type:"category"},_value_:{type:"linear"}}});function aa(){throw new Error("This method is not implemented: Check that a complete date adapter is provided.")}class If{constructor(e){St(this,"options");this.options=e||{}}static override(e){Object.assign(If.prototype,e)}init(){}formats(){return aa()}parse(){return aa()}format(){return aa()}add(){return aa()}diff(){return aa()}startOf(){return aa()}endOf(){return aa()}}var _w={_date:If};function Sw(i,e,a,l){const{controller:r,data:u,_sorted:c}=i,h=r._cachedMeta.iScale,d=i.dataset&&i.dataset.options?i.dataset.options.spanGaps:null;if(h&&e===h.axis&&e!=="r"&&c&&u.length){const m=h._reversePixels?W1:ca;if(l){if(r._sharedOptions){const p=u[0],b=typeof p.getRange=="function"&&p.getRange(e);if(b){const v=m(u,e,a-b),_=m(u,e,a+b);return{lo:v.lo,hi:_.hi}}}}else{const p=m(u,e,a);if(d){const{vScale:b}=r._cachedMeta,{_parsed:v}=i,_=v.slice(0,p.lo+1).reverse().findIndex(w=>!qt(w[b.axis]));p.lo-=Math.max(0,_);const S=v.slice(p.hi).findIndex(w=>!qt(w[b.axis]));p.hi+=Math.max(0,S)}return p}}return{lo:0,hi:u.length-1}}function Vo(i,e,a,l,r){const u=i.getSortedVisibleDatasetMetas(),c=a[e];for(let h=0,d=u.length;h<d;++h){const{index:m,data:p}=u[h],{lo:b,hi:v}=Sw(u[h],e,c,r);for(let _=b;_<=v;++_){const S=p[_];S.skip||l(S,m,_)}}}function ww(i){const e=i.indexOf("x")!==-1,a=i.indexOf("y")!==-1;return function(l,r){const u=e?Math.abs(l.x-r.x):0,c=a?Math.abs(l.y-r.y):0;return Math.sqrt(Math.pow(u,2)+Math.pow(c,2))}}function hf(i,e,a,l,r){const u=[];return!r&&!i.isPointInArea(e)||Vo(i,a,e,function(h,d,m){!r&&!Nl(h,i.chartArea,0)||h.inRange(e.x,e.y,l)&&u.push({element:h,datasetIndex:d,index:m})},!0),u}function Ew(i,e,a,l){let r=[];function u(c,h,d){const{startAngle:m,endAngle:p}=c.getProps(["startAngle","endAngle"],l),{angle:b}=Q1(c,{x:e.x,y:e.y});$y(b,m,p)&&r.push({element:c,datasetIndex:h,index:d})}return Vo(i,a,e,u),r}function Tw(i,e,a,l,r,u){let c=[];const h=ww(a);let d=Number.POSITIVE_INFINITY;function m(p,b,v){const _=p.inRange(e.x,e.y,r);if(l&&!_)return;const S=p.getCenterPoint(r);if(!(!!u||i.isPointInArea(S))&&!_)return;const T=h(e,S);T<d?(c=[{element:p,datasetIndex:b,index:v}],d=T):T===d&&c.push({element:p,datasetIndex:b,index:v})}return Vo(i,a,e,m),c}function df(i,e,a,l,r,u){return!u&&!i.isPointInArea(e)?[]:a==="r"&&!l?Ew(i,e,a,r):Tw(i,e,a,l,r,u)}function Bp(i,e,a,l,r){const u=[],c=a==="x"?"inXRange":"inYRange";let h=!1;return Vo(i,a,e,(d,m,p)=>{d[c]&&d[c](e[a],r)&&(u.push({element:d,datasetIndex:m,index:p}),h=h||d.inRange(e.x,e.y,r))}),l&&!h?[]:u}var Mw={modes:{index(i,e,a,l){const r=la(e,i),u=a.axis||"x",c=a.includeInvisible||!1,h=a.intersect?hf(i,r,u,l,c):df(i,r,u,!1,l,c),d=[];return h.length?(i.getSortedVisibleDatasetMetas().forEach(m=>{const p=h[0].index,b=m.data[p];b&&!b.skip&&d.push({element:b,datasetIndex:m.index,index:p})}),d):[]},dataset(i,e,a,l){const r=la(e,i),u=a.axis||"xy",c=a.includeInvisible||!1;let h=a.intersect?hf(i,r,u,l,c):df(i,r,u,!1,l,c);if(h.length>0){const d=h[0].datasetIndex,m=i.getDatasetMeta(d).data;h=[];for(let p=0;p<m.length;++p)h.push({element:m[p],datasetIndex:d,index:p})}return h},point(i,e,a,l){const r=la(e,i),u=a.axis||"xy",c=a.includeInvisible||!1;return hf(i,r,u,l,c)},nearest(i,e,a,l){const r=la(e,i),u=a.axis||"xy",c=a.includeInvisible||!1;return df(i,r,u,a.intersect,l,c)},x(i,e,a,l){const r=la(e,i);return Bp(i,r,"x",a.intersect,l)},y(i,e,a,l){const r=la(e,i);return Bp(i,r,"y",a.intersect,l)}}};const p0=["left","top","right","bottom"];function hl(i,e){return i.filter(a=>a.pos===e)}function Up(i,e){return i.filter(a=>p0.indexOf(a.pos)===-1&&a.box.axis===e)}function dl(i,e){return i.sort((a,l)=>{const r=e?l:a,u=e?a:l;return r.weight===u.weight?r.index-u.index:r.weight-u.weight})}function Aw(i){const e=[];let a,l,r,u,c,h;for(a=0,l=(i||[]).length;a<l;++a)r=i[a],{position:u,options:{stack:c,stackWeight:h=1}}=r,e.push({index:a,box:r,pos:u,horizontal:r.isHorizontal(),weight:r.weight,stack:c&&u+c,stackWeight:h});return e}function Dw(i){const e={};for(const a of i){const{stack:l,pos:r,stackWeight:u}=a;if(!l||!p0.includes(r))continue;const c=e[l]||(e[l]={count:0,placed:0,weight:0,size:0});c.count++,c.weight+=u}return e}function Ow(i,e){const a=Dw(i),{vBoxMaxWidth:l,hBoxMaxHeight:r}=e;let u,c,h;for(u=0,c=i.length;u<c;++u){h=i[u];const{fullSize:d}=h.box,m=a[h.stack],p=m&&h.stackWeight/m.weight;h.horizontal?(h.width=p?p*l:d&&e.availableWidth,h.height=r):(h.width=l,h.height=p?p*r:d&&e.availableHeight)}return a}function zw(i){const e=Aw(i),a=dl(e.filter(m=>m.box.fullSize),!0),l=dl(hl(e,"left"),!0),r=dl(hl(e,"right")),u=dl(hl(e,"top"),!0),c=dl(hl(e,"bottom")),h=Up(e,"x"),d=Up(e,"y");return{fullSize:a,leftAndTop:l.concat(u),rightAndBottom:r.concat(d).concat(c).concat(h),chartArea:hl(e,"chartArea"),vertical:l.concat(r).concat(d),horizontal:u.concat(c).concat(h)}}function Vp(i,e,a,l){return Math.max(i[a],e[a])+Math.max(i[l],e[l])}function y0(i,e){i.top=Math.max(i.top,e.top),i.left=Math.max(i.left,e.left),i.bottom=Math.max(i.bottom,e.bottom),i.right=Math.max(i.right,e.right)}function Rw(i,e,a,l){const{pos:r,box:u}=a,c=i.maxPadding;if(!Nt(r)){a.size&&(i[r]-=a.size);const b=l[a.stack]||{size:0,count:1};b.size=Math.max(b.size,a.horizontal?u.height:u.width),a.size=b.size/b.count,i[r]+=a.size}u.getPadding&&y0(c,u.getPadding());const h=Math.max(0,e.outerWidth-Vp(c,i,"left","right")),d=Math.max(0,e.outerHeight-Vp(c,i,"top","bottom")),m=h!==i.w,p=d!==i.h;return i.w=h,i.h=d,a.horizontal?{same:m,other:p}:{same:p,other:m}}function Cw(i){const e=i.maxPadding;function a(l){const r=Math.max(e[l]-i[l],0);return i[l]+=r,r}i.y+=a("top"),i.x+=a("left"),a("right"),a("bottom")}function kw(i,e){const a=e.maxPadding;function l(r){const u={left:0,top:0,right:0,bottom:0};return r.forEach(c=>{u[c]=Math.max(e[c],a[c])}),u}return l(i?["left","right"]:["top","bottom"])}function bl(i,e,a,l){const r=[];let u,c,h,d,m,p;for(u=0,c=i.length,m=0;u<c;++u){h=i[u],d=h.box,d.update(h.width||e.w,h.height||e.h,kw(h.horizontal,e));const{same:b,other:v}=Rw(e,a,h,l);m|=b&&r.length,p=p||v,d.fullSize||r.push(h)}return m&&bl(r,e,a,l)||p}function uo(i,e,a,l,r){i.top=a,i.left=e,i.right=e+l,i.bottom=a+r,i.width=l,i.height=r}function Yp(i,e,a,l){const r=a.padding;let{x:u,y:c}=e;for(const h of i){const d=h.box,m=l[h.stack]||{placed:0,weight:1},p=h.stackWeight/m.weight||1;if(h.horizontal){const b=e.w*p,v=m.size||d.height;zo(m.start)&&(c=m.start),d.fullSize?uo(d,r.left,c,a.outerWidth-r.right-r.left,v):uo(d,e.left+m.placed,c,b,v),m.start=c,m.placed+=b,c=d.bottom}else{const b=e.h*p,v=m.size||d.width;zo(m.start)&&(u=m.start),d.fullSize?uo(d,u,r.top,v,a.outerHeight-r.bottom-r.top):uo(d,u,e.top+m.placed,v,b),m.start=u,m.placed+=b,u=d.right}}e.x=u,e.y=c}var Oi={addBox(i,e){i.boxes||(i.boxes=[]),e.fullSize=e.fullSize||!1,e.position=e.position||"top",e.weight=e.weight||0,e._layers=e._layers||function(){return[{z:0,draw(a){e.draw(a)}}]},i.boxes.push(e)},removeBox(i,e){const a=i.boxes?i.boxes.indexOf(e):-1;a!==-1&&i.boxes.splice(a,1)},configure(i,e,a){e.fullSize=a.fullSize,e.position=a.position,e.weight=a.weight},update(i,e,a,l){if(!i)return;const r=gn(i.options.layout.padding),u=Math.max(e-r.width,0),c=Math.max(a-r.height,0),h=zw(i.boxes),d=h.vertical,m=h.horizontal;jt(i.boxes,w=>{typeof w.beforeLayout=="function"&&w.beforeLayout()});const p=d.reduce((w,T)=>T.box.options&&T.box.options.display===!1?w:w+1,0)||1,b=Object.freeze({outerWidth:e,outerHeight:a,padding:r,availableWidth:u,availableHeight:c,vBoxMaxWidth:u/2/p,hBoxMaxHeight:c/2}),v=Object.assign({},r);y0(v,gn(l));const _=Object.assign({maxPadding:v,w:u,h:c,x:r.left,y:r.top},r),S=Ow(d.concat(m),b);bl(h.fullSize,_,b,S),bl(d,_,b,S),bl(m,_,b,S)&&bl(d,_,b,S),Cw(_),Yp(h.leftAndTop,_,b,S),_.x+=_.w,_.y+=_.h,Yp(h.rightAndBottom,_,b,S),i.chartArea={left:_.left,top:_.top,right:_.left+_.w,bottom:_.top+_.h,height:_.h,width:_.w},jt(h.chartArea,w=>{const T=w.box;Object.assign(T,i.chartArea),T.update(_.w,_.h,{left:0,top:0,right:0,bottom:0})})}};class b0{acquireContext(e,a){}releaseContext(e){return!1}addEventListener(e,a,l){}removeEventListener(e,a,l){}getDevicePixelRatio(){return 1}getMaximumSize(e,a,l,r){return a=Math.max(0,a||e.width),l=l||e.height,{width:a,height:Math.max(0,r?Math.floor(a/r):l)}}isAttached(e){return!0}updateConfig(e){}}class Nw extends b0{acquireContext(e){return e&&e.getContext&&e.getContext("2d")||null}updateConfig(e){e.options.animation=!1}}const xo="$chartjs",jw={touchstart:"mousedown",touchmove:"mousemove",touchend:"mouseup",pointerenter:"mouseenter",pointerdown:"mousedown",pointermove:"mousemove",pointerup:"mouseup",pointerleave:"mouseout",pointerout:"mouseout"},qp=i=>i===null||i==="";function Lw(i,e){const a=i.style,l=i.getAttribute("height"),r=i.getAttribute("width");if(i[xo]={initial:{height:l,width:r,style:{display:a.display,height:a.height,width:a.width}}},a.display=a.display||"block",a.boxSizing=a.boxSizing||"border-box",qp(r)){const u=Dp(i,"width");u!==void 0&&(i.width=u)}if(qp(l))if(i.style.height==="")i.height=i.width/(e||2);else{const u=Dp(i,"height");u!==void 0&&(i.height=u)}return i}const v0=QS?{passive:!0}:!1;function Hw(i,e,a){i&&i.addEventListener(e,a,v0)}function Bw(i,e,a){i&&i.canvas&&i.canvas.removeEventListener(e,a,v0)}function Uw(i,e){const a=jw[i.type]||i.type,{x:l,y:r}=la(i,e);return{type:a,chart:e,native:i,x:l!==void 0?l:null,y:r!==void 0?r:null}}function No(i,e){for(const a of i)if(a===e||a.contains(e))return!0}function Vw(i,e,a){const l=i.canvas,r=new MutationObserver(u=>{let c=!1;for(const h of u)c=c||No(h.addedNodes,l),c=c&&!No(h.removedNodes,l);c&&a()});return r.observe(document,{childList:!0,subtree:!0}),r}function Yw(i,e,a){const l=i.canvas,r=new MutationObserver(u=>{let c=!1;for(const h of u)c=c||No(h.removedNodes,l),c=c&&!No(h.addedNodes,l);c&&a()});return r.observe(document,{childList:!0,subtree:!0}),r}const jl=new Map;let Fp=0;function x0(){const i=window.devicePixelRatio;i!==Fp&&(Fp=i,jl.forEach((e,a)=>{a.currentDevicePixelRatio!==i&&e()}))}function qw(i,e){jl.size||window.addEventListener("resize",x0),jl.set(i,e)}function Fw(i){jl.delete(i),jl.size||window.removeEventListener("resize",x0)}function Xw(i,e,a){const l=i.canvas,r=l&&Jf(l);if(!r)return;const u=t0((h,d)=>{const m=r.clientWidth;a(h,d),m<r.clientWidth&&a()},window),c=new ResizeObserver(h=>{const d=h[0],m=d.contentRect.width,p=d.contentRect.height;m===0&&p===0||u(m,p)});return c.observe(r),qw(i,u),c}function gf(i,e,a){a&&a.disconnect(),e==="resize"&&Fw(i)}function Gw(i,e,a){const l=i.canvas,r=t0(u=>{i.ctx!==null&&a(Uw(u,i))},i);return Hw(l,e,r),r}class Qw extends b0{acquireContext(e,a){const l=e&&e.getContext&&e.getContext("2d");return l&&l.canvas===e?(Lw(e,a),l):null}releaseContext(e){const a=e.canvas;if(!a[xo])return!1;const l=a[xo].initial;["height","width"].forEach(u=>{const c=l[u];qt(c)?a.removeAttribute(u):a.setAttribute(u,c)});const r=l.style||{};return Object.keys(r).forEach(u=>{a.style[u]=r[u]}),a.width=a.width,delete a[xo],!0}addEventListener(e,a,l){this.removeEventListener(e,a);const r=e.$proxies||(e.$proxies={}),c={attach:Vw,detach:Yw,resize:Xw}[a]||Gw;r[a]=c(e,a,l)}removeEventListener(e,a){const l=e.$proxies||(e.$proxies={}),r=l[a];if(!r)return;({attach:gf,detach:gf,resize:gf}[a]||Bw)(e,a,r),l[a]=void 0}getDevicePixelRatio(){return window.devicePixelRatio}getMaximumSize(e,a,l,r){return GS(e,a,l,r)}isAttached(e){const a=e&&Jf(e);return!!(a&&a.isConnected)}}function Zw(i){return!$f()||typeof OffscreenCanvas<"u"&&i instanceof OffscreenCanvas?Nw:Qw}class Ci{constructor(){St(this,"x");St(this,"y");St(this,"active",!1);St(this,"options");St(this,"$animations")}tooltipPosition(e){const{x:a,y:l}=this.getProps(["x","y"],e);return{x:a,y:l}}hasValue(){return kl(this.x)&&kl(this.y)}getProps(e,a){const l=this.$animations;if(!a||!l)return this;const r={};return e.forEach(u=>{r[u]=l[u]&&l[u].active()?l[u]._to:this[u]}),r}}St(Ci,"defaults",{}),St(Ci,"defaultRoutes");function Kw(i,e){const a=i.options.ticks,l=Ww(i),r=Math.min(a.maxTicksLimit||l,l),u=a.major.enabled?$w(e):[],c=u.length,h=u[0],d=u[c-1],m=[];if(c>r)return Jw(e,m,u,c/r),m;const p=Pw(u,e,r);if(c>0){let b,v;const _=c>1?Math.round((d-h)/(c-1)):null;for(co(e,m,p,qt(_)?0:h-_,h),b=0,v=c-1;b<v;b++)co(e,m,p,u[b],u[b+1]);return co(e,m,p,d,qt(_)?e.length:d+_),m}return co(e,m,p),m}function Ww(i){const e=i.options.offset,a=i._tickSize(),l=i._length/a+(e?0:1),r=i._maxLength/a;return Math.floor(Math.min(l,r))}function Pw(i,e,a){const l=Iw(i),r=e.length/a;if(!l)return Math.max(r,1);const u=Y1(l);for(let c=0,h=u.length-1;c<h;c++){const d=u[c];if(d>r)return d}return Math.max(r,1)}function $w(i){const e=[];let a,l;for(a=0,l=i.length;a<l;a++)i[a].major&&e.push(a);return e}function Jw(i,e,a,l){let r=0,u=a[0],c;for(l=Math.ceil(l),c=0;c<i.length;c++)c===u&&(e.push(i[c]),r++,u=a[r*l])}function co(i,e,a,l,r){const u=zt(l,0),c=Math.min(zt(r,i.length),i.length);let h=0,d,m,p;for(a=Math.ceil(a),r&&(d=r-l,a=d/Math.floor(d/a)),p=u;p<0;)h++,p=Math.round(u+h*a);for(m=Math.max(u,0);m<c;m++)m===p&&(e.push(i[m]),h++,p=Math.round(u+h*a))}function Iw(i){const e=i.length;let a,l;if(e<2)return!1;for(l=i[0],a=1;a<e;++a)if(i[a]-i[a-1]!==l)return!1;return l}const t2=i=>i==="left"?"right":i==="right"?"left":i,Xp=(i,e,a)=>e==="top"||e==="left"?i[e]+a:i[e]-a,Gp=(i,e)=>Math.min(e||i,i);function Qp(i,e){const a=[],l=i.length/e,r=i.length;let u=0;for(;u<r;u+=l)a.push(i[Math.floor(u)]);return a}function e2(i,e,a){const l=i.ticks.length,r=Math.min(e,l-1),u=i._startPixel,c=i._endPixel,h=1e-6;let d=i.getPixelForTick(r),m;if(!(a&&(l===1?m=Math.max(d-u,c-d):e===0?m=(i.getPixelForTick(1)-d)/2:m=(d-i.getPixelForTick(r-1))/2,d+=r<e?m:-m,d<u-h||d>c+h)))return d}function n2(i,e){jt(i,a=>{const l=a.gc,r=l.length/2;let u;if(r>e){for(u=0;u<r;++u)delete a.data[l[u]];l.splice(0,r)}})}function gl(i){return i.drawTicks?i.tickLength:0}function Zp(i,e){if(!i.display)return 0;const a=He(i.font,e),l=gn(i.padding);return(ve(i.text)?i.text.length:1)*a.lineHeight+l.height}function i2(i,e){return ga(i,{scale:e,type:"scale"})}function a2(i,e,a){return ga(i,{tick:a,index:e,type:"tick"})}function s2(i,e,a){let l=e0(i);return(a&&e!=="right"||!a&&e==="right")&&(l=t2(l)),l}function l2(i,e,a,l){const{top:r,left:u,bottom:c,right:h,chart:d}=i,{chartArea:m,scales:p}=d;let b=0,v,_,S;const w=c-r,T=h-u;if(i.isHorizontal()){if(_=Fe(l,u,h),Nt(a)){const A=Object.keys(a)[0],N=a[A];S=p[A].getPixelForValue(N)+w-e}else a==="center"?S=(m.bottom+m.top)/2+w-e:S=Xp(i,a,e);v=h-u}else{if(Nt(a)){const A=Object.keys(a)[0],N=a[A];_=p[A].getPixelForValue(N)-T+e}else a==="center"?_=(m.left+m.right)/2-T+e:_=Xp(i,a,e);S=Fe(l,c,r),b=a==="left"?-dn:dn}return{titleX:_,titleY:S,maxWidth:v,rotation:b}}class os extends Ci{constructor(e){super(),this.id=e.id,this.type=e.type,this.options=void 0,this.ctx=e.ctx,this.chart=e.chart,this.top=void 0,this.bottom=void 0,this.left=void 0,this.right=void 0,this.width=void 0,this.height=void 0,this._margins={left:0,right:0,top:0,bottom:0},this.maxWidth=void 0,this.maxHeight=void 0,this.paddingTop=void 0,this.paddingBottom=void 0,this.paddingLeft=void 0,this.paddingRight=void 0,this.axis=void 0,this.labelRotation=void 0,this.min=void 0,this.max=void 0,this._range=void 0,this.ticks=[],this._gridLineItems=null,this._labelItems=null,this._labelSizes=null,this._length=0,this._maxLength=0,this._longestTextCache={},this._startPixel=void 0,this._endPixel=void 0,this._reversePixels=!1,this._userMax=void 0,this._userMin=void 0,this._suggestedMax=void 0,this._suggestedMin=void 0,this._ticksLength=0,this._borderValue=0,this._cache={},this._dataLimitsCached=!1,this.$context=void 0}init(e){this.options=e.setContext(this.getContext()),this.axis=e.axis,this._userMin=this.parse(e.min),this._userMax=this.parse(e.max),this._suggestedMin=this.parse(e.suggestedMin),this._suggestedMax=this.parse(e.suggestedMax)}parse(e,a){return e}getUserBounds(){let{_userMin:e,_userMax:a,_suggestedMin:l,_suggestedMax:r}=this;return e=_n(e,Number.POSITIVE_INFINITY),a=_n(a,Number.NEGATIVE_INFINITY),l=_n(l,Number.POSITIVE_INFINITY),r=_n(r,Number.NEGATIVE_INFINITY),{min:_n(e,l),max:_n(a,r),minDefined:sn(e),maxDefined:sn(a)}}getMinMax(e){let{min:a,max:l,minDefined:r,maxDefined:u}=this.getUserBounds(),c;if(r&&u)return{min:a,max:l};const h=this.getMatchingVisibleMetas();for(let d=0,m=h.length;d<m;++d)c=h[d].controller.getMinMax(this,e),r||(a=Math.min(a,c.min)),u||(l=Math.max(l,c.max));return a=u&&a>l?l:a,l=r&&a>l?a:l,{min:_n(a,_n(l,a)),max:_n(l,_n(a,l))}}getPadding(){return{left:this.paddingLeft||0,top:this.paddingTop||0,right:this.paddingRight||0,bottom:this.paddingBottom||0}}getTicks(){return this.ticks}getLabels(){const e=this.chart.data;return this.options.labels||(this.isHorizontal()?e.xLabels:e.yLabels)||e.labels||[]}getLabelItems(e=this.chart.chartArea){return this._labelItems||(this._labelItems=this._computeLabelItems(e))}beforeLayout(){this._cache={},this._dataLimitsCached=!1}beforeUpdate(){Xt(this.options.beforeUpdate,[this])}update(e,a,l){const{beginAtZero:r,grace:u,ticks:c}=this.options,h=c.sampleSize;this.beforeUpdate(),this.maxWidth=e,this.maxHeight=a,this._margins=l=Object.assign({left:0,right:0,top:0,bottom:0},l),this.ticks=null,this._labelSizes=null,this._gridLineItems=null,this._labelItems=null,this.beforeSetDimensions(),this.setDimensions(),this.afterSetDimensions(),this._maxLength=this.isHorizontal()?this.width+l.left+l.right:this.height+l.top+l.bottom,this._dataLimitsCached||(this.beforeDataLimits(),this.determineDataLimits(),this.afterDataLimits(),this._range=wS(this,u,r),this._dataLimitsCached=!0),this.beforeBuildTicks(),this.ticks=this.buildTicks()||[],this.afterBuildTicks();const d=h<this.ticks.length;this._convertTicksToLabels(d?Qp(this.ticks,h):this.ticks),this.configure(),this.beforeCalculateLabelRotation(),this.calculateLabelRotation(),this.afterCalculateLabelRotation(),c.display&&(c.autoSkip||c.source==="auto")&&(this.ticks=Kw(this,this.ticks),this._labelSizes=null,this.afterAutoSkip()),d&&this._convertTicksToLabels(this.ticks),this.beforeFit(),this.fit(),this.afterFit(),this.afterUpdate()}configure(){let e=this.options.reverse,a,l;this.isHorizontal()?(a=this.left,l=this.right):(a=this.top,l=this.bottom,e=!e),this._startPixel=a,this._endPixel=l,this._reversePixels=e,this._length=l-a,this._alignToPixels=this.options.alignToPixels}afterUpdate(){Xt(this.options.afterUpdate,[this])}beforeSetDimensions(){Xt(this.options.beforeSetDimensions,[this])}setDimensions(){this.isHorizontal()?(this.width=this.maxWidth,this.left=0,this.right=this.width):(this.height=this.maxHeight,this.top=0,this.bottom=this.height),this.paddingLeft=0,this.paddingTop=0,this.paddingRight=0,this.paddingBottom=0}afterSetDimensions(){Xt(this.options.afterSetDimensions,[this])}_callHooks(e){this.chart.notifyPlugins(e,this.getContext()),Xt(this.options[e],[this])}beforeDataLimits(){this._callHooks("beforeDataLimits")}determineDataLimits(){}afterDataLimits(){this._callHooks("afterDataLimits")}beforeBuildTicks(){this._callHooks("beforeBuildTicks")}buildTicks(){return[]}afterBuildTicks(){this._callHooks("afterBuildTicks")}beforeTickToLabelConversion(){Xt(this.options.beforeTickToLabelConversion,[this])}generateTickLabels(e){const a=this.options.ticks;let l,r,u;for(l=0,r=e.length;l<r;l++)u=e[l],u.label=Xt(a.callback,[u.value,l,e],this)}afterTickToLabelConversion(){Xt(this.options.afterTickToLabelConversion,[this])}beforeCalculateLabelRotation(){Xt(this.options.beforeCalculateLabelRotation,[this])}calculateLabelRotation(){const e=this.options,a=e.ticks,l=Gp(this.ticks.length,e.ticks.maxTicksLimit),r=a.minRotation||0,u=a.maxRotation;let c=r,h,d,m;if(!this._isVisible()||!a.display||r>=u||l<=1||!this.isHorizontal()){this.labelRotation=r;return}const p=this._getLabelSizes(),b=p.widest.width,v=p.highest.height,_=an(this.chart.width-b,0,this.maxWidth);h=e.offset?this.maxWidth/l:_/(l-1),b+6>h&&(h=_/(l-(e.offset?.5:1)),d=this.maxHeight-gl(e.grid)-a.padding-Zp(e.title,this.chart.options.font),m=Math.sqrt(b*b+v*v),c=G1(Math.min(Math.asin(an((p.highest.height+6)/h,-1,1)),Math.asin(an(d/m,-1,1))-Math.asin(an(v/m,-1,1)))),c=Math.max(r,Math.min(u,c))),this.labelRotation=c}afterCalculateLabelRotation(){Xt(this.options.afterCalculateLabelRotation,[this])}afterAutoSkip(){}beforeFit(){Xt(this.options.beforeFit,[this])}fit(){const e={width:0,height:0},{chart:a,options:{ticks:l,title:r,grid:u}}=this,c=this._isVisible(),h=this.isHorizontal();if(c){const d=Zp(r,a.options.font);if(h?(e.width=this.maxWidth,e.height=gl(u)+d):(e.height=this.maxHeight,e.width=gl(u)+d),l.display&&this.ticks.length){const{first:m,last:p,widest:b,highest:v}=this._getLabelSizes(),_=l.padding*2,S=ua(this.labelRotation),w=Math.cos(S),T=Math.sin(S);if(h){const A=l.mirror?0:T*b.width+w*v.height;e.height=Math.min(this.maxHeight,e.height+A+_)}else{const A=l.mirror?0:w*b.width+T*v.height;e.width=Math.min(this.maxWidth,e.width+A+_)}this._calculatePadding(m,p,T,w)}}this._handleMargins(),h?(this.width=this._length=a.width-this._margins.left-this._margins.right,this.height=e.height):(this.width=e.width,this.height=this._length=a.height-this._margins.top-this._margins.bottom)}_calculatePadding(e,a,l,r){const{ticks:{align:u,padding:c},position:h}=this.options,d=this.labelRotation!==0,m=h!=="top"&&this.axis==="x";if(this.isHorizontal()){const p=this.getPixelForTick(0)-this.left,b=this.right-this.getPixelForTick(this.ticks.length-1);let v=0,_=0;d?m?(v=r*e.width,_=l*a.height):(v=l*e.height,_=r*a.width):u==="start"?_=a.width:u==="end"?v=e.width:u!=="inner"&&(v=e.width/2,_=a.width/2),this.paddingLeft=Math.max((v-p+c)*this.width/(this.width-p),0),this.paddingRight=Math.max((_-b+c)*this.width/(this.width-b),0)}else{let p=a.height/2,b=e.height/2;u==="start"?(p=0,b=e.height):u==="end"&&(p=a.height,b=0),this.paddingTop=p+c,this.paddingBottom=b+c}}_handleMargins(){this._margins&&(this._margins.left=Math.max(this.paddingLeft,this._margins.left),this._margins.top=Math.max(this.paddingTop,this._margins.top),this._margins.right=Math.max(this.paddingRight,this._margins.right),this._margins.bottom=Math.max(this.paddingBottom,this._margins.bottom))}afterFit(){Xt(this.options.afterFit,[this])}isHorizontal(){const{axis:e,position:a}=this.options;return a==="top"||a==="bottom"||e==="x"}isFullSize(){return this.options.fullSize}_convertTicksToLabels(e){this.beforeTickToLabelConversion(),this.generateTickLabels(e);let a,l;for(a=0,l=e.length;a<l;a++)qt(e[a].label)&&(e.splice(a,1),l--,a--);this.afterTickToLabelConversion()}_getLabelSizes(){let e=this._labelSizes;if(!e){const a=this.options.ticks.sampleSize;let l=this.ticks;a<l.length&&(l=Qp(l,a)),this._labelSizes=e=this._computeLabelSizes(l,l.length,this.options.ticks.maxTicksLimit)}return e}_computeLabelSizes(e,a,l){const{ctx:r,_longestTextCache:u}=this,c=[],h=[],d=Math.floor(a/Gp(a,l));let m=0,p=0,b,v,_,S,w,T,A,N,U,Y,C;for(b=0;b<a;b+=d){if(S=e[b].label,w=this._resolveTickFontOptions(b),r.font=T=w.string,A=u[T]=u[T]||{data:{},gc:[]},N=w.lineHeight,U=Y=0,!qt(S)&&!ve(S))U=wp(r,A.data,A.gc,U,S),Y=N;else if(ve(S))for(v=0,_=S.length;v<_;++v)C=S[v],!qt(C)&&!ve(C)&&(U=wp(r,A.data,A.gc,U,C),Y+=N);c.push(U),h.push(Y),m=Math.max(U,m),p=Math.max(Y,p)}n2(u,a);const W=c.indexOf(m),J=h.indexOf(p),$=X=>({width:c[X]||0,height:h[X]||0});return{first:$(0),last:$(a-1),widest:$(W),highest:$(J),widths:c,heights:h}}getLabelForValue(e){return e}getPixelForValue(e,a){return NaN}getValueForPixel(e){}getPixelForTick(e){const a=this.ticks;return e<0||e>a.length-1?null:this.getPixelForValue(a[e].value)}getPixelForDecimal(e){this._reversePixels&&(e=1-e);const a=this._startPixel+e*this._length;return K1(this._alignToPixels?ia(this.chart,a,0):a)}getDecimalForPixel(e){const a=(e-this._startPixel)/this._length;return this._reversePixels?1-a:a}getBasePixel(){return this.getPixelForValue(this.getBaseValue())}getBaseValue(){const{min:e,max:a}=this;return e<0&&a<0?a:e>0&&a>0?e:0}getContext(e){const a=this.ticks||[];if(e>=0&&e<a.length){const l=a[e];return l.$context||(l.$context=a2(this.getContext(),e,l))}return this.$context||(this.$context=i2(this.chart.getContext(),this))}_tickSize(){const e=this.options.ticks,a=ua(this.labelRotation),l=Math.abs(Math.cos(a)),r=Math.abs(Math.sin(a)),u=this._getLabelSizes(),c=e.autoSkipPadding||0,h=u?u.widest.width+c:0,d=u?u.highest.height+c:0;return this.isHorizontal()?d*l>h*r?h/l:d/r:d*r<h*l?d/l:h/r}_isVisible(){const e=this.options.display;return e!=="auto"?!!e:this.getMatchingVisibleMetas().length>0}_computeGridLineItems(e){const a=this.axis,l=this.chart,r=this.options,{grid:u,position:c,border:h}=r,d=u.offset,m=this.isHorizontal(),b=this.ticks.length+(d?1:0),v=gl(u),_=[],S=h.setContext(this.getContext()),w=S.display?S.width:0,T=w/2,A=function(V){return ia(l,V,w)};let N,U,Y,C,W,J,$,X,tt,rt,at,ct;if(c==="top")N=A(this.bottom),J=this.bottom-v,X=N-T,rt=A(e.top)+T,ct=e.bottom;else if(c==="bottom")N=A(this.top),rt=e.top,ct=A(e.bottom)-T,J=N+T,X=this.top+v;else if(c==="left")N=A(this.right),W=this.right-v,$=N-T,tt=A(e.left)+T,at=e.right;else if(c==="right")N=A(this.left),tt=e.left,at=A(e.right)-T,W=N+T,$=this.left+v;else if(a==="x"){if(c==="center")N=A((e.top+e.bottom)/2+.5);else if(Nt(c)){const V=Object.keys(c)[0],et=c[V];N=A(this.chart.scales[V].getPixelForValue(et))}rt=e.top,ct=e.bottom,J=N+T,X=J+v}else if(a==="y"){if(c==="center")N=A((e.left+e.right)/2);else if(Nt(c)){const V=Object.keys(c)[0],et=c[V];N=A(this.chart.scales[V].getPixelForValue(et))}W=N-T,$=W-v,tt=e.left,at=e.right}const st=zt(r.ticks.maxTicksLimit,b),P=Math.max(1,Math.ceil(b/st));for(U=0;U<b;U+=P){const V=this.getContext(U),et=u.setContext(V),ut=h.setContext(V),wt=et.lineWidth,O=et.color,K=ut.dash||[],gt=ut.dashOffset,dt=et.tickWidth,it=et.tickColor,xt=et.tickBorderDash||[],bt=et.tickBorderDashOffset;Y=e2(this,U,d),Y!==void 0&&(C=ia(l,Y,wt),m?W=$=tt=at=C:J=X=rt=ct=C,_.push({tx1:W,ty1:J,tx2:$,ty2:X,x1:tt,y1:rt,x2:at,y2:ct,width:wt,color:O,borderDash:K,borderDashOffset:gt,tickWidth:dt,tickColor:it,tickBorderDash:xt,tickBorderDashOffset:bt}))}return this._ticksLength=b,this._borderValue=N,_}_computeLabelItems(e){const a=this.axis,l=this.options,{position:r,ticks:u}=l,c=this.isHorizontal(),h=this.ticks,{align:d,crossAlign:m,padding:p,mirror:b}=u,v=gl(l.grid),_=v+p,S=b?-p:_,w=-ua(this.labelRotation),T=[];let A,N,U,Y,C,W,J,$,X,tt,rt,at,ct="middle";if(r==="top")W=this.bottom-S,J=this._getXAxisLabelAlignment();else if(r==="bottom")W=this.top+S,J=this._getXAxisLabelAlignment();else if(r==="left"){const P=this._getYAxisLabelAlignment(v);J=P.textAlign,C=P.x}else if(r==="right"){const P=this._getYAxisLabelAlignment(v);J=P.textAlign,C=P.x}else if(a==="x"){if(r==="center")W=(e.top+e.bottom)/2+_;else if(Nt(r)){const P=Object.keys(r)[0],V=r[P];W=this.chart.scales[P].getPixelForValue(V)+_}J=this._getXAxisLabelAlignment()}else if(a==="y"){if(r==="center")C=(e.left+e.right)/2-_;else if(Nt(r)){const P=Object.keys(r)[0],V=r[P];C=this.chart.scales[P].getPixelForValue(V)}J=this._getYAxisLabelAlignment(v).textAlign}a==="y"&&(d==="start"?ct="top":d==="end"&&(ct="bottom"));const st=this._getLabelSizes();for(A=0,N=h.length;A<N;++A){U=h[A],Y=U.label;const P=u.setContext(this.getContext(A));$=this.getPixelForTick(A)+u.labelOffset,X=this._resolveTickFontOptions(A),tt=X.lineHeight,rt=ve(Y)?Y.length:1;const V=rt/2,et=P.color,ut=P.textStrokeColor,wt=P.textStrokeWidth;let O=J;c?(C=$,J==="inner"&&(A===N-1?O=this.options.reverse?"left":"right":A===0?O=this.options.reverse?"right":"left":O="center"),r==="top"?m==="near"||w!==0?at=-rt*tt+tt/2:m==="center"?at=-st.highest.height/2-V*tt+tt:at=-st.highest.height+tt/2:m==="near"||w!==0?at=tt/2:m==="center"?at=st.highest.height/2-V*tt:at=st.highest.height-rt*tt,b&&(at*=-1),w!==0&&!P.showLabelBackdrop&&(C+=tt/2*Math.sin(w))):(W=$,at=(1-rt)*tt/2);let K;if(P.showLabelBackdrop){const gt=gn(P.backdropPadding),dt=st.heights[A],it=st.widths[A];let xt=at-gt.top,bt=0-gt.left;switch(ct){case"middle":xt-=dt/2;break;case"bottom":xt-=dt;break}switch(J){case"center":bt-=it/2;break;case"right":bt-=it;break;case"inner":A===N-1?bt-=it:A>0&&(bt-=it/2);break}K={left:bt,top:xt,width:it+gt.width,height:dt+gt.height,color:P.backdropColor}}T.push({label:Y,font:X,textOffset:at,options:{rotation:w,color:et,strokeColor:ut,strokeWidth:wt,textAlign:O,textBaseline:ct,translation:[C,W],backdrop:K}})}return T}_getXAxisLabelAlignment(){const{position:e,ticks:a}=this.options;if(-ua(this.labelRotation))return e==="top"?"left":"right";let r="center";return a.align==="start"?r="left":a.align==="end"?r="right":a.align==="inner"&&(r="inner"),r}_getYAxisLabelAlignment(e){const{position:a,ticks:{crossAlign:l,mirror:r,padding:u}}=this.options,c=this._getLabelSizes(),h=e+u,d=c.widest.width;let m,p;return a==="left"?r?(p=this.right+u,l==="near"?m="left":l==="center"?(m="center",p+=d/2):(m="right",p+=d)):(p=this.right-h,l==="near"?m="right":l==="center"?(m="center",p-=d/2):(m="left",p=this.left)):a==="right"?r?(p=this.left+u,l==="near"?m="right":l==="center"?(m="center",p-=d/2):(m="left",p-=d)):(p=this.left+h,l==="near"?m="left":l==="center"?(m="center",p+=d/2):(m="right",p=this.right)):m="right",{textAlign:m,x:p}}_computeLabelArea(){if(this.options.ticks.mirror)return;const e=this.chart,a=this.options.position;if(a==="left"||a==="right")return{top:0,left:this.left,bottom:e.height,right:this.right};if(a==="top"||a==="bottom")return{top:this.top,left:0,bottom:this.bottom,right:e.width}}drawBackground(){const{ctx:e,options:{backgroundColor:a},left:l,top:r,width:u,height:c}=this;a&&(e.save(),e.fillStyle=a,e.fillRect(l,r,u,c),e.restore())}getLineWidthForValue(e){const a=this.options.grid;if(!this._isVisible()||!a.display)return 0;const r=this.ticks.findIndex(u=>u.value===e);return r>=0?a.setContext(this.getContext(r)).lineWidth:0}drawGrid(e){const a=this.options.grid,l=this.ctx,r=this._gridLineItems||(this._gridLineItems=this._computeGridLineItems(e));let u,c;const h=(d,m,p)=>{!p.width||!p.color||(l.save(),l.lineWidth=p.width,l.strokeStyle=p.color,l.setLineDash(p.borderDash||[]),l.lineDashOffset=p.borderDashOffset,l.beginPath(),l.moveTo(d.x,d.y),l.lineTo(m.x,m.y),l.stroke(),l.restore())};if(a.display)for(u=0,c=r.length;u<c;++u){const d=r[u];a.drawOnChartArea&&h({x:d.x1,y:d.y1},{x:d.x2,y:d.y2},d),a.drawTicks&&h({x:d.tx1,y:d.ty1},{x:d.tx2,y:d.ty2},{color:d.tickColor,width:d.tickWidth,borderDash:d.tickBorderDash,borderDashOffset:d.tickBorderDashOffset})}}drawBorder(){const{chart:e,ctx:a,options:{border:l,grid:r}}=this,u=l.setContext(this.getContext()),c=l.display?u.width:0;if(!c)return;const h=r.setContext(this.getContext(0)).lineWidth,d=this._borderValue;let m,p,b,v;this.isHorizontal()?(m=ia(e,this.left,c)-c/2,p=ia(e,this.right,h)+h/2,b=v=d):(b=ia(e,this.top,c)-c/2,v=ia(e,this.bottom,h)+h/2,m=p=d),a.save(),a.lineWidth=u.width,a.strokeStyle=u.color,a.beginPath(),a.moveTo(m,b),a.lineTo(p,v),a.stroke(),a.restore()}drawLabels(e){if(!this.options.ticks.display)return;const l=this.ctx,r=this._computeLabelArea();r&&Qf(l,r);const u=this.getLabelItems(e);for(const c of u){const h=c.options,d=c.font,m=c.label,p=c.textOffset;Co(l,m,0,p,d,h)}r&&Zf(l)}drawTitle(){const{ctx:e,options:{position:a,title:l,reverse:r}}=this;if(!l.display)return;const u=He(l.font),c=gn(l.padding),h=l.align;let d=u.lineHeight/2;a==="bottom"||a==="center"||Nt(a)?(d+=c.bottom,ve(l.text)&&(d+=u.lineHeight*(l.text.length-1))):d+=c.top;const{titleX:m,titleY:p,maxWidth:b,rotation:v}=l2(this,d,a,h);Co(e,l.text,0,0,u,{color:l.color,maxWidth:b,rotation:v,textAlign:s2(h,a,r),textBaseline:"middle",translation:[m,p]})}draw(e){this._isVisible()&&(this.drawBackground(),this.drawGrid(e),this.drawBorder(),this.drawTitle(),this.drawLabels(e))}_layers(){const e=this.options,a=e.ticks&&e.ticks.z||0,l=zt(e.grid&&e.grid.z,-1),r=zt(e.border&&e.border.z,0);return!this._isVisible()||this.draw!==os.prototype.draw?[{z:a,draw:u=>{this.draw(u)}}]:[{z:l,draw:u=>{this.drawBackground(),this.drawGrid(u),this.drawTitle()}},{z:r,draw:()=>{this.drawBorder()}},{z:a,draw:u=>{this.drawLabels(u)}}]}getMatchingVisibleMetas(e){const a=this.chart.getSortedVisibleDatasetMetas(),l=this.axis+"AxisID",r=[];let u,c;for(u=0,c=a.length;u<c;++u){const h=a[u];h[l]===this.id&&(!e||h.type===e)&&r.push(h)}return r}_resolveTickFontOptions(e){const a=this.options.ticks.setContext(this.getContext(e));return He(a.font)}_maxDigits(){const e=this._resolveTickFontOptions(0).lineHeight;return(this.isHorizontal()?this.width:this.height)/e}}class fo{constructor(e,a,l){this.type=e,this.scope=a,this.override=l,this.items=Object.create(null)}isForType(e){return Object.prototype.isPrototypeOf.call(this.type.prototype,e.prototype)}register(e){const a=Object.getPrototypeOf(e);let l;u2(a)&&(l=this.register(a));const r=this.items,u=e.id,c=this.scope+"."+u;if(!u)throw new Error("class does not have id: "+e);return u in r||(r[u]=e,r2(e,c,l),this.override&&te.override(e.id,e.overrides)),c}get(e){return this.items[e]}unregister(e){const a=this.items,l=e.id,r=this.scope;l in a&&delete a[l],r&&l in te[r]&&(delete te[r][l],this.override&&delete ha[l])}}function r2(i,e,a){const l=Cl(Object.create(null),[a?te.get(a):{},te.get(e),i.defaults]);te.set(e,l),i.defaultRoutes&&o2(e,i.defaultRoutes),i.descriptors&&te.describe(e,i.descriptors)}function o2(i,e){Object.keys(e).forEach(a=>{const l=a.split("."),r=l.pop(),u=[i].concat(l).join("."),c=e[a].split("."),h=c.pop(),d=c.join(".");te.route(u,r,d,h)})}function u2(i){return"id"in i&&"defaults"in i}class c2{constructor(){this.controllers=new fo(Dl,"datasets",!0),this.elements=new fo(Ci,"elements"),this.plugins=new fo(Object,"plugins"),this.scales=new fo(os,"scales"),this._typedRegistries=[this.controllers,this.scales,this.elements]}add(...e){this._each("register",e)}remove(...e){this._each("unregister",e)}addControllers(...e){this._each("register",e,this.controllers)}addElements(...e){this._each("register",e,this.elements)}addPlugins(...e){this._each("register",e,this.plugins)}addScales(...e){this._each("register",e,this.scales)}getController(e){return this._get(e,this.controllers,"controller")}getElement(e){return this._get(e,this.elements,"element")}getPlugin(e){return this._get(e,this.plugins,"plugin")}getScale(e){return this._get(e,this.scales,"scale")}removeControllers(...e){this._each("unregister",e,this.controllers)}removeElements(...e){this._each("unregister",e,this.elements)}removePlugins(...e){this._each("unregister",e,this.plugins)}removeScales(...e){this._each("unregister",e,this.scales)}_each(e,a,l){[...a].forEach(r=>{const u=l||this._getRegistryForType(r);l||u.isForType(r)||u===this.plugins&&r.id?this._exec(e,u,r):jt(r,c=>{const h=l||this._getRegistryForType(c);this._exec(e,h,c)})})}_exec(e,a,l){const r=Ff(e);Xt(l["before"+r],[],l),a[e](l),Xt(l["after"+r],[],l)}_getRegistryForType(e){for(let a=0;a<this._typedRegistries.length;a++){const l=this._typedRegistries[a];if(l.isForType(e))return l}return this.plugins}_get(e,a,l){const r=a.get(e);if(r===void 0)throw new Error('"'+e+'" is not a registered '+l+".");return r}}var wn=new c2;class f2{constructor(){this._init=[]}notify(e,a,l,r){a==="beforeInit"&&(this._init=this._createDescriptors(e,!0),this._notify(this._init,e,"install"));const u=r?this._descriptors(e).filter(r):this._descriptors(e),c=this._notify(u,e,a,l);return a==="afterDestroy"&&(this._notify(u,e,"stop"),this._notify(this._init,e,"uninstall")),c}_notify(e,a,l,r){r=r||{};for(const u of e){const c=u.plugin,h=c[l],d=[a,r,u.options];if(Xt(h,d,c)===!1&&r.cancelable)return!1}return!0}invalidate(){qt(this._cache)||(this._oldCache=this._cache,this._cache=void 0)}_descriptors(e){if(this._cache)return this._cache;const a=this._cache=this._createDescriptors(e);return this._notifyStateChanges(e),a}_createDescriptors(e,a){const l=e&&e.config,r=zt(l.options&&l.options.plugins,{}),u=h2(l);return r===!1&&!a?[]:g2(e,u,r,a)}_notifyStateChanges(e){const a=this._oldCache||[],l=this._cache,r=(u,c)=>u.filter(h=>!c.some(d=>h.plugin.id===d.plugin.id));this._notify(r(a,l),e,"stop"),this._notify(r(l,a),e,"start")}}function h2(i){const e={},a=[],l=Object.keys(wn.plugins.items);for(let u=0;u<l.length;u++)a.push(wn.getPlugin(l[u]));const r=i.plugins||[];for(let u=0;u<r.length;u++){const c=r[u];a.indexOf(c)===-1&&(a.push(c),e[c.id]=!0)}return{plugins:a,localIds:e}}function d2(i,e){return!e&&i===!1?null:i===!0?{}:i}function g2(i,{plugins:e,localIds:a},l,r){const u=[],c=i.getContext();for(const h of e){const d=h.id,m=d2(l[d],r);m!==null&&u.push({plugin:h,options:m2(i.config,{plugin:h,local:a[d]},m,c)})}return u}function m2(i,{plugin:e,local:a},l,r){const u=i.pluginScopeKeys(e),c=i.getOptionScopes(l,u);return a&&e.defaults&&c.push(e.defaults),i.createResolver(c,r,[""],{scriptable:!1,indexable:!1,allKeys:!0})}function wf(i,e){const a=te.datasets[i]||{};return((e.datasets||{})[i]||{}).indexAxis||e.indexAxis||a.indexAxis||"x"}function p2(i,e){let a=i;return i==="_index_"?a=e:i==="_value_"&&(a=e==="x"?"y":"x"),a}function y2(i,e){return i===e?"_index_":"_value_"}function Kp(i){if(i==="x"||i==="y"||i==="r")return i}function b2(i){if(i==="top"||i==="bottom")return"x";if(i==="left"||i==="right")return"y"}function Ef(i,...e){if(Kp(i))return i;for(const a of e){const l=a.axis||b2(a.position)||i.length>1&&Kp(i[0].toLowerCase());if(l)return l}throw new Error(`Cannot determine type of '${i}' axis. Please provide 'axis' or 'position' option.`)}function Wp(i,e,a){if(a[e+"AxisID"]===i)return{axis:e}}function v2(i,e){if(e.data&&e.data.datasets){const a=e.data.datasets.filter(l=>l.xAxisID===i||l.yAxisID===i);if(a.length)return Wp(i,"x",a[0])||Wp(i,"y",a[0])}return{}}function x2(i,e){const a=ha[i.type]||{scales:{}},l=e.scales||{},r=wf(i.type,e),u=Object.create(null);return Object.keys(l).forEach(c=>{const h=l[c];if(!Nt(h))return console.error(`Invalid scale configuration for scale: ${c}`);if(h._proxy)return console.warn(`Ignoring resolver passed as options for scale: ${c}`);const d=Ef(c,h,v2(c,i),te.scales[h.type]),m=y2(d,r),p=a.scales||{};u[c]=wl(Object.create(null),[{axis:d},h,p[d],p[m]])}),i.data.datasets.forEach(c=>{const h=c.type||i.type,d=c.indexAxis||wf(h,e),p=(ha[h]||{}).scales||{};Object.keys(p).forEach(b=>{const v=p2(b,d),_=c[v+"AxisID"]||v;u[_]=u[_]||Object.create(null),wl(u[_],[{axis:v},l[_],p[b]])})}),Object.keys(u).forEach(c=>{const h=u[c];wl(h,[te.scales[h.type],te.scale])}),u}function _0(i){const e=i.options||(i.options={});e.plugins=zt(e.plugins,{}),e.scales=x2(i,e)}function S0(i){return i=i||{},i.datasets=i.datasets||[],i.labels=i.labels||[],i}function _2(i){return i=i||{},i.data=S0(i.data),_0(i),i}const Pp=new Map,w0=new Set;function ho(i,e){let a=Pp.get(i);return a||(a=e(),Pp.set(i,a),w0.add(a)),a}const ml=(i,e,a)=>{const l=Oo(e,a);l!==void 0&&i.add(l)};class S2{constructor(e){this._config=_2(e),this._scopeCache=new Map,this._resolverCache=new Map}get platform(){return this._config.platform}get type(){return this._config.type}set type(e){this._config.type=e}get data(){return this._config.data}set data(e){this._config.data=S0(e)}get options(){return this._config.options}set options(e){this._config.options=e}get plugins(){return this._config.plugins}update(){const e=this._config;this.clearCache(),_0(e)}clearCache(){this._scopeCache.clear(),this._resolverCache.clear()}datasetScopeKeys(e){return ho(e,()=>[[`datasets.${e}`,""]])}datasetAnimationScopeKeys(e,a){return ho(`${e}.transition.${a}`,()=>[[`datasets.${e}.transitions.${a}`,`transitions.${a}`],[`datasets.${e}`,""]])}datasetElementScopeKeys(e,a){return ho(`${e}-${a}`,()=>[[`datasets.${e}.elements.${a}`,`datasets.${e}`,`elements.${a}`,""]])}pluginScopeKeys(e){const a=e.id,l=this.type;return ho(`${l}-plugin-${a}`,()=>[[`plugins.${a}`,...e.additionalOptionScopes||[]]])}_cachedScopes(e,a){const l=this._scopeCache;let r=l.get(e);return(!r||a)&&(r=new Map,l.set(e,r)),r}getOptionScopes(e,a,l){const{options:r,type:u}=this,c=this._cachedScopes(e,l),h=c.get(a);if(h)return h;const d=new Set;a.forEach(p=>{e&&(d.add(e),p.forEach(b=>ml(d,e,b))),p.forEach(b=>ml(d,r,b)),p.forEach(b=>ml(d,ha[u]||{},b)),p.forEach(b=>ml(d,te,b)),p.forEach(b=>ml(d,xf,b))});const m=Array.from(d);return m.length===0&&m.push(Object.create(null)),w0.has(a)&&c.set(a,m),m}chartOptionScopes(){const{options:e,type:a}=this;return[e,ha[a]||{},te.datasets[a]||{},{type:a},te,xf]}resolveNamedOptions(e,a,l,r=[""]){const u={$shared:!0},{resolver:c,subPrefixes:h}=$p(this._resolverCache,e,r);let d=c;if(E2(c,a)){u.$shared=!1,l=Ri(l)?l():l;const m=this.createResolver(e,l,h);d=as(c,l,m)}for(const m of a)u[m]=d[m];return u}createResolver(e,a,l=[""],r){const{resolver:u}=$p(this._resolverCache,e,l);return Nt(a)?as(u,a,void 0,r):u}}function $p(i,e,a){let l=i.get(e);l||(l=new Map,i.set(e,l));const r=a.join();let u=l.get(r);return u||(u={resolver:Kf(e,a),subPrefixes:a.filter(h=>!h.toLowerCase().includes("hover"))},l.set(r,u)),u}const w2=i=>Nt(i)&&Object.getOwnPropertyNames(i).some(e=>Ri(i[e]));function E2(i,e){const{isScriptable:a,isIndexable:l}=l0(i);for(const r of e){const u=a(r),c=l(r),h=(c||u)&&i[r];if(u&&(Ri(h)||w2(h))||c&&ve(h))return!0}return!1}var T2="4.4.9";const M2=["top","bottom","left","right","chartArea"];function Jp(i,e){return i==="top"||i==="bottom"||M2.indexOf(i)===-1&&e==="x"}function Ip(i,e){return function(a,l){return a[i]===l[i]?a[e]-l[e]:a[i]-l[i]}}function ty(i){const e=i.chart,a=e.options.animation;e.notifyPlugins("afterRender"),Xt(a&&a.onComplete,[i],e)}function A2(i){const e=i.chart,a=e.options.animation;Xt(a&&a.onProgress,[i],e)}function E0(i){return $f()&&typeof i=="string"?i=document.getElementById(i):i&&i.length&&(i=i[0]),i&&i.canvas&&(i=i.canvas),i}const _o={},ey=i=>{const e=E0(i);return Object.values(_o).filter(a=>a.canvas===e).pop()};function D2(i,e,a){const l=Object.keys(i);for(const r of l){const u=+r;if(u>=e){const c=i[r];delete i[r],(a>0||u>e)&&(i[u+a]=c)}}}function O2(i,e,a,l){return!a||i.type==="mouseout"?null:l?e:i}var Ti;let Yo=(Ti=class{static register(...e){wn.add(...e),ny()}static unregister(...e){wn.remove(...e),ny()}constructor(e,a){const l=this.config=new S2(a),r=E0(e),u=ey(r);if(u)throw new Error("Canvas is already in use. Chart with ID '"+u.id+"' must be destroyed before the canvas with ID '"+u.canvas.id+"' can be reused.");const c=l.createResolver(l.chartOptionScopes(),this.getContext());this.platform=new(l.platform||Zw(r)),this.platform.updateConfig(l);const h=this.platform.acquireContext(r,c.aspectRatio),d=h&&h.canvas,m=d&&d.height,p=d&&d.width;if(this.id=C1(),this.ctx=h,this.canvas=d,this.width=p,this.height=m,this._options=c,this._aspectRatio=this.aspectRatio,this._layers=[],this._metasets=[],this._stacks=void 0,this.boxes=[],this.currentDevicePixelRatio=void 0,this.chartArea=void 0,this._active=[],this._lastEvent=void 0,this._listeners={},this._responsiveListeners=void 0,this._sortedMetasets=[],this.scales={},this._plugins=new f2,this.$proxies={},this._hiddenIndices={},this.attached=!1,this._animationsDisabled=void 0,this.$context=void 0,this._doResize=I1(b=>this.update(b),c.resizeDelay||0),this._dataChanges=[],_o[this.id]=this,!h||!d){console.error("Failed to create chart: can't acquire context from the given item");return}$n.listen(this,"complete",ty),$n.listen(this,"progress",A2),this._initialize(),this.attached&&this.update()}get aspectRatio(){const{options:{aspectRatio:e,maintainAspectRatio:a},width:l,height:r,_aspectRatio:u}=this;return qt(e)?a&&u?u:r?l/r:null:e}get data(){return this.config.data}set data(e){this.config.data=e}get options(){return this._options}set options(e){this.config.options=e}get registry(){return wn}_initialize(){return this.notifyPlugins("beforeInit"),this.options.responsive?this.resize():Ap(this,this.options.devicePixelRatio),this.bindEvents(),this.notifyPlugins("afterInit"),this}clear(){return Ep(this.canvas,this.ctx),this}stop(){return $n.stop(this),this}resize(e,a){$n.running(this)?this._resizeBeforeDraw={width:e,height:a}:this._resize(e,a)}_resize(e,a){const l=this.options,r=this.canvas,u=l.maintainAspectRatio&&this.aspectRatio,c=this.platform.getMaximumSize(r,e,a,u),h=l.devicePixelRatio||this.platform.getDevicePixelRatio(),d=this.width?"resize":"attach";this.width=c.width,this.height=c.height,this._aspectRatio=this.aspectRatio,Ap(this,h,!0)&&(this.notifyPlugins("resize",{size:c}),Xt(l.onResize,[this,c],this),this.attached&&this._doResize(d)&&this.render())}ensureScalesHaveIDs(){const a=this.options.scales||{};jt(a,(l,r)=>{l.id=r})}buildOrUpdateScales(){const e=this.options,a=e.scales,l=this.scales,r=Object.keys(l).reduce((c,h)=>(c[h]=!1,c),{});let u=[];a&&(u=u.concat(Object.keys(a).map(c=>{const h=a[c],d=Ef(c,h),m=d==="r",p=d==="x";return{options:h,dposition:m?"chartArea":p?"bottom":"left",dtype:m?"radialLinear":p?"category":"linear"}}))),jt(u,c=>{const h=c.options,d=h.id,m=Ef(d,h),p=zt(h.type,c.dtype);(h.position===void 0||Jp(h.position,m)!==Jp(c.dposition))&&(h.position=c.dposition),r[d]=!0;let b=null;if(d in l&&l[d].type===p)b=l[d];else{const v=wn.getScale(p);b=new v({id:d,type:p,ctx:this.ctx,chart:this}),l[b.id]=b}b.init(h,e)}),jt(r,(c,h)=>{c||delete l[h]}),jt(l,c=>{Oi.configure(this,c,c.options),Oi.addBox(this,c)})}_updateMetasets(){const e=this._metasets,a=this.data.datasets.length,l=e.length;if(e.sort((r,u)=>r.index-u.index),l>a){for(let r=a;r<l;++r)this._destroyDatasetMeta(r);e.splice(a,l-a)}this._sortedMetasets=e.slice(0).sort(Ip("order","index"))}_removeUnreferencedMetasets(){const{_metasets:e,data:{datasets:a}}=this;e.length>a.length&&delete this._stacks,e.forEach((l,r)=>{a.filter(u=>u===l._dataset).length===0&&this._destroyDatasetMeta(r)})}buildOrUpdateControllers(){const e=[],a=this.data.datasets;let l,r;for(this._removeUnreferencedMetasets(),l=0,r=a.length;l<r;l++){const u=a[l];let c=this.getDatasetMeta(l);const h=u.type||this.config.type;if(c.type&&c.type!==h&&(this._destroyDatasetMeta(l),c=this.getDatasetMeta(l)),c.type=h,c.indexAxis=u.indexAxis||wf(h,this.options),c.order=u.order||0,c.index=l,c.label=""+u.label,c.visible=this.isDatasetVisible(l),c.controller)c.controller.updateIndex(l),c.controller.linkScales();else{const d=wn.getController(h),{datasetElementType:m,dataElementType:p}=te.datasets[h];Object.assign(d,{dataElementType:wn.getElement(p),datasetElementType:m&&wn.getElement(m)}),c.controller=new d(this,l),e.push(c.controller)}}return this._updateMetasets(),e}_resetElements(){jt(this.data.datasets,(e,a)=>{this.getDatasetMeta(a).controller.reset()},this)}reset(){this._resetElements(),this.notifyPlugins("reset")}update(e){const a=this.config;a.update();const l=this._options=a.createResolver(a.chartOptionScopes(),this.getContext()),r=this._animationsDisabled=!l.animation;if(this._updateScales(),this._checkEventBindings(),this._updateHiddenIndices(),this._plugins.invalidate(),this.notifyPlugins("beforeUpdate",{mode:e,cancelable:!0})===!1)return;const u=this.buildOrUpdateControllers();this.notifyPlugins("beforeElementsUpdate");let c=0;for(let m=0,p=this.data.datasets.length;m<p;m++){const{controller:b}=this.getDatasetMeta(m),v=!r&&u.indexOf(b)===-1;b.buildOrUpdateElements(v),c=Math.max(+b.getMaxOverflow(),c)}c=this._minPadding=l.layout.autoPadding?c:0,this._updateLayout(c),r||jt(u,m=>{m.reset()}),this._updateDatasets(e),this.notifyPlugins("afterUpdate",{mode:e}),this._layers.sort(Ip("z","_idx"));const{_active:h,_lastEvent:d}=this;d?this._eventHandler(d,!0):h.length&&this._updateHoverStyles(h,h,!0),this.render()}_updateScales(){jt(this.scales,e=>{Oi.removeBox(this,e)}),this.ensureScalesHaveIDs(),this.buildOrUpdateScales()}_checkEventBindings(){const e=this.options,a=new Set(Object.keys(this._listeners)),l=new Set(e.events);(!gp(a,l)||!!this._responsiveListeners!==e.responsive)&&(this.unbindEvents(),this.bindEvents())}_updateHiddenIndices(){const{_hiddenIndices:e}=this,a=this._getUniformDataChanges()||[];for(const{method:l,start:r,count:u}of a){const c=l==="_removeElements"?-u:u;D2(e,r,c)}}_getUniformDataChanges(){const e=this._dataChanges;if(!e||!e.length)return;this._dataChanges=[];const a=this.data.datasets.length,l=u=>new Set(e.filter(c=>c[0]===u).map((c,h)=>h+","+c.splice(1).join(","))),r=l(0);for(let u=1;u<a;u++)if(!gp(r,l(u)))return;return Array.from(r).map(u=>u.split(",")).map(u=>({method:u[1],start:+u[2],count:+u[3]}))}_updateLayout(e){if(this.notifyPlugins("beforeLayout",{cancelable:!0})===!1)return;Oi.update(this,this.width,this.height,e);const a=this.chartArea,l=a.width<=0||a.height<=0;this._layers=[],jt(this.boxes,r=>{l&&r.position==="chartArea"||(r.configure&&r.configure(),this._layers.push(...r._layers()))},this),this._layers.forEach((r,u)=>{r._idx=u}),this.notifyPlugins("afterLayout")}_updateDatasets(e){if(this.notifyPlugins("beforeDatasetsUpdate",{mode:e,cancelable:!0})!==!1){for(let a=0,l=this.data.datasets.length;a<l;++a)this.getDatasetMeta(a).controller.configure();for(let a=0,l=this.data.datasets.length;a<l;++a)this._updateDataset(a,Ri(e)?e({datasetIndex:a}):e);this.notifyPlugins("afterDatasetsUpdate",{mode:e})}}_updateDataset(e,a){const l=this.getDatasetMeta(e),r={meta:l,index:e,mode:a,cancelable:!0};this.notifyPlugins("beforeDatasetUpdate",r)!==!1&&(l.controller._update(a),r.cancelable=!1,this.notifyPlugins("afterDatasetUpdate",r))}render(){this.notifyPlugins("beforeRender",{cancelable:!0})!==!1&&($n.has(this)?this.attached&&!$n.running(this)&&$n.start(this):(this.draw(),ty({chart:this})))}draw(){let e;if(this._resizeBeforeDraw){const{width:l,height:r}=this._resizeBeforeDraw;this._resizeBeforeDraw=null,this._resize(l,r)}if(this.clear(),this.width<=0||this.height<=0||this.notifyPlugins("beforeDraw",{cancelable:!0})===!1)return;const a=this._layers;for(e=0;e<a.length&&a[e].z<=0;++e)a[e].draw(this.chartArea);for(this._drawDatasets();e<a.length;++e)a[e].draw(this.chartArea);this.notifyPlugins("afterDraw")}_getSortedDatasetMetas(e){const a=this._sortedMetasets,l=[];let r,u;for(r=0,u=a.length;r<u;++r){const c=a[r];(!e||c.visible)&&l.push(c)}return l}getSortedVisibleDatasetMetas(){return this._getSortedDatasetMetas(!0)}_drawDatasets(){if(this.notifyPlugins("beforeDatasetsDraw",{cancelable:!0})===!1)return;const e=this.getSortedVisibleDatasetMetas();for(let a=e.length-1;a>=0;--a)this._drawDataset(e[a]);this.notifyPlugins("afterDatasetsDraw")}_drawDataset(e){const a=this.ctx,l={meta:e,index:e.index,cancelable:!0},r=lw(this,e);this.notifyPlugins("beforeDatasetDraw",l)!==!1&&(r&&Qf(a,r),e.controller.draw(),r&&Zf(a),l.cancelable=!1,this.notifyPlugins("afterDatasetDraw",l))}isPointInArea(e){return Nl(e,this.chartArea,this._minPadding)}getElementsAtEventForMode(e,a,l,r){const u=Mw.modes[a];return typeof u=="function"?u(this,e,l,r):[]}getDatasetMeta(e){const a=this.data.datasets[e],l=this._metasets;let r=l.filter(u=>u&&u._dataset===a).pop();return r||(r={type:null,data:[],dataset:null,controller:null,hidden:null,xAxisID:null,yAxisID:null,order:a&&a.order||0,index:e,_dataset:a,_parsed:[],_sorted:!1},l.push(r)),r}getContext(){return this.$context||(this.$context=ga(null,{chart:this,type:"chart"}))}getVisibleDatasetCount(){return this.getSortedVisibleDatasetMetas().length}isDatasetVisible(e){const a=this.data.datasets[e];if(!a)return!1;const l=this.getDatasetMeta(e);return typeof l.hidden=="boolean"?!l.hidden:!a.hidden}setDatasetVisibility(e,a){const l=this.getDatasetMeta(e);l.hidden=!a}toggleDataVisibility(e){this._hiddenIndices[e]=!this._hiddenIndices[e]}getDataVisibility(e){return!this._hiddenIndices[e]}_updateVisibility(e,a,l){const r=l?"show":"hide",u=this.getDatasetMeta(e),c=u.controller._resolveAnimations(void 0,r);zo(a)?(u.data[a].hidden=!l,this.update()):(this.setDatasetVisibility(e,l),c.update(u,{visible:l}),this.update(h=>h.datasetIndex===e?r:void 0))}hide(e,a){this._updateVisibility(e,a,!1)}show(e,a){this._updateVisibility(e,a,!0)}_destroyDatasetMeta(e){const a=this._metasets[e];a&&a.controller&&a.controller._destroy(),delete this._metasets[e]}_stop(){let e,a;for(this.stop(),$n.remove(this),e=0,a=this.data.datasets.length;e<a;++e)this._destroyDatasetMeta(e)}destroy(){this.notifyPlugins("beforeDestroy");const{canvas:e,ctx:a}=this;this._stop(),this.config.clearCache(),e&&(this.unbindEvents(),Ep(e,a),this.platform.releaseContext(a),this.canvas=null,this.ctx=null),delete _o[this.id],this.notifyPlugins("afterDestroy")}toBase64Image(...e){return this.canvas.toDataURL(...e)}bindEvents(){this.bindUserEvents(),this.options.responsive?this.bindResponsiveEvents():this.attached=!0}bindUserEvents(){const e=this._listeners,a=this.platform,l=(u,c)=>{a.addEventListener(this,u,c),e[u]=c},r=(u,c,h)=>{u.offsetX=c,u.offsetY=h,this._eventHandler(u)};jt(this.options.events,u=>l(u,r))}bindResponsiveEvents(){this._responsiveListeners||(this._responsiveListeners={});const e=this._responsiveListeners,a=this.platform,l=(d,m)=>{a.addEventListener(this,d,m),e[d]=m},r=(d,m)=>{e[d]&&(a.removeEventListener(this,d,m),delete e[d])},u=(d,m)=>{this.canvas&&this.resize(d,m)};let c;const h=()=>{r("attach",h),this.attached=!0,this.resize(),l("resize",u),l("detach",c)};c=()=>{this.attached=!1,r("resize",u),this._stop(),this._resize(0,0),l("attach",h)},a.isAttached(this.canvas)?h():c()}unbindEvents(){jt(this._listeners,(e,a)=>{this.platform.removeEventListener(this,a,e)}),this._listeners={},jt(this._responsiveListeners,(e,a)=>{this.platform.removeEventListener(this,a,e)}),this._responsiveListeners=void 0}updateHoverStyle(e,a,l){const r=l?"set":"remove";let u,c,h,d;for(a==="dataset"&&(u=this.getDatasetMeta(e[0].datasetIndex),u.controller["_"+r+"DatasetHoverStyle"]()),h=0,d=e.length;h<d;++h){c=e[h];const m=c&&this.getDatasetMeta(c.datasetIndex).controller;m&&m[r+"HoverStyle"](c.element,c.datasetIndex,c.index)}}getActiveElements(){return this._active||[]}setActiveElements(e){const a=this._active||[],l=e.map(({datasetIndex:u,index:c})=>{const h=this.getDatasetMeta(u);if(!h)throw new Error("No dataset found at index "+u);return{datasetIndex:u,element:h.data[c],index:c}});!Ao(l,a)&&(this._active=l,this._lastEvent=null,this._updateHoverStyles(l,a))}notifyPlugins(e,a,l){return this._plugins.notify(this,e,a,l)}isPluginEnabled(e){return this._plugins._cache.filter(a=>a.plugin.id===e).length===1}_updateHoverStyles(e,a,l){const r=this.options.hover,u=(d,m)=>d.filter(p=>!m.some(b=>p.datasetIndex===b.datasetIndex&&p.index===b.index)),c=u(a,e),h=l?e:u(e,a);c.length&&this.updateHoverStyle(c,r.mode,!1),h.length&&r.mode&&this.updateHoverStyle(h,r.mode,!0)}_eventHandler(e,a){const l={event:e,replay:a,cancelable:!0,inChartArea:this.isPointInArea(e)},r=c=>(c.options.events||this.options.events).includes(e.native.type);if(this.notifyPlugins("beforeEvent",l,r)===!1)return;const u=this._handleEvent(e,a,l.inChartArea);return l.cancelable=!1,this.notifyPlugins("afterEvent",l,r),(u||l.changed)&&this.render(),this}_handleEvent(e,a,l){const{_active:r=[],options:u}=this,c=a,h=this._getActiveElements(e,r,l,c),d=B1(e),m=O2(e,this._lastEvent,l,d);l&&(this._lastEvent=null,Xt(u.onHover,[e,h,this],this),d&&Xt(u.onClick,[e,h,this],this));const p=!Ao(h,r);return(p||a)&&(this._active=h,this._updateHoverStyles(h,r,a)),this._lastEvent=m,p}_getActiveElements(e,a,l,r){if(e.type==="mouseout")return[];if(!l)return a;const u=this.options.hover;return this.getElementsAtEventForMode(e,u.mode,u,r)}},St(Ti,"defaults",te),St(Ti,"instances",_o),St(Ti,"overrides",ha),St(Ti,"registry",wn),St(Ti,"version",T2),St(Ti,"getChart",ey),Ti);function ny(){return jt(Yo.instances,i=>i._plugins.invalidate())}function T0(i,e,a=e){i.lineCap=zt(a.borderCapStyle,e.borderCapStyle),i.setLineDash(zt(a.borderDash,e.borderDash)),i.lineDashOffset=zt(a.borderDashOffset,e.borderDashOffset),i.lineJoin=zt(a.borderJoinStyle,e.borderJoinStyle),i.lineWidth=zt(a.borderWidth,e.borderWidth),i.strokeStyle=zt(a.borderColor,e.borderColor)}function z2(i,e,a){i.lineTo(a.x,a.y)}function R2(i){return i.stepped?dS:i.tension||i.cubicInterpolationMode==="monotone"?gS:z2}function M0(i,e,a={}){const l=i.length,{start:r=0,end:u=l-1}=a,{start:c,end:h}=e,d=Math.max(r,c),m=Math.min(u,h),p=r<c&&u<c||r>h&&u>h;return{count:l,start:d,loop:e.loop,ilen:m<d&&!p?l+m-d:m-d}}function C2(i,e,a,l){const{points:r,options:u}=e,{count:c,start:h,loop:d,ilen:m}=M0(r,a,l),p=R2(u);let{move:b=!0,reverse:v}=l||{},_,S,w;for(_=0;_<=m;++_)S=r[(h+(v?m-_:_))%c],!S.skip&&(b?(i.moveTo(S.x,S.y),b=!1):p(i,w,S,v,u.stepped),w=S);return d&&(S=r[(h+(v?m:0))%c],p(i,w,S,v,u.stepped)),!!d}function k2(i,e,a,l){const r=e.points,{count:u,start:c,ilen:h}=M0(r,a,l),{move:d=!0,reverse:m}=l||{};let p=0,b=0,v,_,S,w,T,A;const N=Y=>(c+(m?h-Y:Y))%u,U=()=>{w!==T&&(i.lineTo(p,T),i.lineTo(p,w),i.lineTo(p,A))};for(d&&(_=r[N(0)],i.moveTo(_.x,_.y)),v=0;v<=h;++v){if(_=r[N(v)],_.skip)continue;const Y=_.x,C=_.y,W=Y|0;W===S?(C<w?w=C:C>T&&(T=C),p=(b*p+Y)/++b):(U(),i.lineTo(Y,C),S=W,b=0,w=T=C),A=C}U()}function Tf(i){const e=i.options,a=e.borderDash&&e.borderDash.length;return!i._decimated&&!i._loop&&!e.tension&&e.cubicInterpolationMode!=="monotone"&&!e.stepped&&!a?k2:C2}function N2(i){return i.stepped?ZS:i.tension||i.cubicInterpolationMode==="monotone"?KS:ra}function j2(i,e,a,l){let r=e._path;r||(r=e._path=new Path2D,e.path(r,a,l)&&r.closePath()),T0(i,e.options),i.stroke(r)}function L2(i,e,a,l){const{segments:r,options:u}=e,c=Tf(e);for(const h of r)T0(i,u,h.style),i.beginPath(),c(i,e,h,{start:a,end:a+l-1})&&i.closePath(),i.stroke()}const H2=typeof Path2D=="function";function B2(i,e,a,l){H2&&!e.options.segment?j2(i,e,a,l):L2(i,e,a,l)}class vl extends Ci{constructor(e){super(),this.animated=!0,this.options=void 0,this._chart=void 0,this._loop=void 0,this._fullLoop=void 0,this._path=void 0,this._points=void 0,this._segments=void 0,this._decimated=!1,this._pointsUpdated=!1,this._datasetIndex=void 0,e&&Object.assign(this,e)}updateControlPoints(e,a){const l=this.options;if((l.tension||l.cubicInterpolationMode==="monotone")&&!l.stepped&&!this._pointsUpdated){const r=l.spanGaps?this._loop:this._fullLoop;US(this._points,l,e,r,a),this._pointsUpdated=!0}}set points(e){this._points=e,delete this._segments,delete this._path,this._pointsUpdated=!1}get points(){return this._points}get segments(){return this._segments||(this._segments=nw(this,this.options.segment))}first(){const e=this.segments,a=this.points;return e.length&&a[e[0].start]}last(){const e=this.segments,a=this.points,l=e.length;return l&&a[e[l-1].end]}interpolate(e,a){const l=this.options,r=e[a],u=this.points,c=IS(this,{property:a,start:r,end:r});if(!c.length)return;const h=[],d=N2(l);let m,p;for(m=0,p=c.length;m<p;++m){const{start:b,end:v}=c[m],_=u[b],S=u[v];if(_===S){h.push(_);continue}const w=Math.abs((r-_[a])/(S[a]-_[a])),T=d(_,S,w,l.stepped);T[a]=e[a],h.push(T)}return h.length===1?h[0]:h}pathSegment(e,a,l){return Tf(this)(e,this,a,l)}path(e,a,l){const r=this.segments,u=Tf(this);let c=this._loop;a=a||0,l=l||this.points.length-a;for(const h of r)c&=u(e,this,h,{start:a,end:a+l-1});return!!c}draw(e,a,l,r){const u=this.options||{};(this.points||[]).length&&u.borderWidth&&(e.save(),B2(e,this,l,r),e.restore()),this.animated&&(this._pointsUpdated=!1,this._path=void 0)}}St(vl,"id","line"),St(vl,"defaults",{borderCapStyle:"butt",borderDash:[],borderDashOffset:0,borderJoinStyle:"miter",borderWidth:3,capBezierPoints:!0,cubicInterpolationMode:"default",fill:!1,spanGaps:!1,stepped:!1,tension:0}),St(vl,"defaultRoutes",{backgroundColor:"backgroundColor",borderColor:"borderColor"}),St(vl,"descriptors",{_scriptable:!0,_indexable:e=>e!=="borderDash"&&e!=="fill"});function iy(i,e,a,l){const r=i.options,{[a]:u}=i.getProps([a],l);return Math.abs(e-u)<r.radius+r.hitRadius}class So extends Ci{constructor(a){super();St(this,"parsed");St(this,"skip");St(this,"stop");this.options=void 0,this.parsed=void 0,this.skip=void 0,this.stop=void 0,a&&Object.assign(this,a)}inRange(a,l,r){const u=this.options,{x:c,y:h}=this.getProps(["x","y"],r);return Math.pow(a-c,2)+Math.pow(l-h,2)<Math.pow(u.hitRadius+u.radius,2)}inXRange(a,l){return iy(this,a,"x",l)}inYRange(a,l){return iy(this,a,"y",l)}getCenterPoint(a){const{x:l,y:r}=this.getProps(["x","y"],a);return{x:l,y:r}}size(a){a=a||this.options||{};let l=a.radius||0;l=Math.max(l,l&&a.hoverRadius||0);const r=l&&a.borderWidth||0;return(l+r)*2}draw(a,l){const r=this.options;this.skip||r.radius<.1||!Nl(this,l,this.size(r)/2)||(a.strokeStyle=r.borderColor,a.lineWidth=r.borderWidth,a.fillStyle=r.backgroundColor,_f(a,r,this.x,this.y))}getRange(){const a=this.options||{};return a.radius+a.hitRadius}}St(So,"id","point"),St(So,"defaults",{borderWidth:1,hitRadius:1,hoverBorderWidth:1,hoverRadius:4,pointStyle:"circle",radius:3,rotation:0}),St(So,"defaultRoutes",{backgroundColor:"backgroundColor",borderColor:"borderColor"});const ay=(i,e)=>{let{boxHeight:a=e,boxWidth:l=e}=i;return i.usePointStyle&&(a=Math.min(a,e),l=i.pointStyleWidth||Math.min(l,e)),{boxWidth:l,boxHeight:a,itemHeight:Math.max(e,a)}},U2=(i,e)=>i!==null&&e!==null&&i.datasetIndex===e.datasetIndex&&i.index===e.index;class sy extends Ci{constructor(e){super(),this._added=!1,this.legendHitBoxes=[],this._hoveredItem=null,this.doughnutMode=!1,this.chart=e.chart,this.options=e.options,this.ctx=e.ctx,this.legendItems=void 0,this.columnSizes=void 0,this.lineWidths=void 0,this.maxHeight=void 0,this.maxWidth=void 0,this.top=void 0,this.bottom=void 0,this.left=void 0,this.right=void 0,this.height=void 0,this.width=void 0,this._margins=void 0,this.position=void 0,this.weight=void 0,this.fullSize=void 0}update(e,a,l){this.maxWidth=e,this.maxHeight=a,this._margins=l,this.setDimensions(),this.buildLabels(),this.fit()}setDimensions(){this.isHorizontal()?(this.width=this.maxWidth,this.left=this._margins.left,this.right=this.width):(this.height=this.maxHeight,this.top=this._margins.top,this.bottom=this.height)}buildLabels(){const e=this.options.labels||{};let a=Xt(e.generateLabels,[this.chart],this)||[];e.filter&&(a=a.filter(l=>e.filter(l,this.chart.data))),e.sort&&(a=a.sort((l,r)=>e.sort(l,r,this.chart.data))),this.options.reverse&&a.reverse(),this.legendItems=a}fit(){const{options:e,ctx:a}=this;if(!e.display){this.width=this.height=0;return}const l=e.labels,r=He(l.font),u=r.size,c=this._computeTitleHeight(),{boxWidth:h,itemHeight:d}=ay(l,u);let m,p;a.font=r.string,this.isHorizontal()?(m=this.maxWidth,p=this._fitRows(c,u,h,d)+10):(p=this.maxHeight,m=this._fitCols(c,r,h,d)+10),this.width=Math.min(m,e.maxWidth||this.maxWidth),this.height=Math.min(p,e.maxHeight||this.maxHeight)}_fitRows(e,a,l,r){const{ctx:u,maxWidth:c,options:{labels:{padding:h}}}=this,d=this.legendHitBoxes=[],m=this.lineWidths=[0],p=r+h;let b=e;u.textAlign="left",u.textBaseline="middle";let v=-1,_=-p;return this.legendItems.forEach((S,w)=>{const T=l+a/2+u.measureText(S.text).width;(w===0||m[m.length-1]+T+2*h>c)&&(b+=p,m[m.length-(w>0?0:1)]=0,_+=p,v++),d[w]={left:0,top:_,row:v,width:T,height:r},m[m.length-1]+=T+h}),b}_fitCols(e,a,l,r){const{ctx:u,maxHeight:c,options:{labels:{padding:h}}}=this,d=this.legendHitBoxes=[],m=this.columnSizes=[],p=c-e;let b=h,v=0,_=0,S=0,w=0;return this.legendItems.forEach((T,A)=>{const{itemWidth:N,itemHeight:U}=V2(l,a,u,T,r);A>0&&_+U+2*h>p&&(b+=v+h,m.push({width:v,height:_}),S+=v+h,w++,v=_=0),d[A]={left:S,top:_,col:w,width:N,height:U},v=Math.max(v,N),_+=U+h}),b+=v,m.push({width:v,height:_}),b}adjustHitBoxes(){if(!this.options.display)return;const e=this._computeTitleHeight(),{legendHitBoxes:a,options:{align:l,labels:{padding:r},rtl:u}}=this,c=ns(u,this.left,this.width);if(this.isHorizontal()){let h=0,d=Fe(l,this.left+r,this.right-this.lineWidths[h]);for(const m of a)h!==m.row&&(h=m.row,d=Fe(l,this.left+r,this.right-this.lineWidths[h])),m.top+=this.top+e+r,m.left=c.leftForLtr(c.x(d),m.width),d+=m.width+r}else{let h=0,d=Fe(l,this.top+e+r,this.bottom-this.columnSizes[h].height);for(const m of a)m.col!==h&&(h=m.col,d=Fe(l,this.top+e+r,this.bottom-this.columnSizes[h].height)),m.top=d,m.left+=this.left+r,m.left=c.leftForLtr(c.x(m.left),m.width),d+=m.height+r}}isHorizontal(){return this.options.position==="top"||this.options.position==="bottom"}draw(){if(this.options.display){const e=this.ctx;Qf(e,this),this._draw(),Zf(e)}}_draw(){const{options:e,columnSizes:a,lineWidths:l,ctx:r}=this,{align:u,labels:c}=e,h=te.color,d=ns(e.rtl,this.left,this.width),m=He(c.font),{padding:p}=c,b=m.size,v=b/2;let _;this.drawTitle(),r.textAlign=d.textAlign("left"),r.textBaseline="middle",r.lineWidth=.5,r.font=m.string;const{boxWidth:S,boxHeight:w,itemHeight:T}=ay(c,b),A=function(W,J,$){if(isNaN(S)||S<=0||isNaN(w)||w<0)return;r.save();const X=zt($.lineWidth,1);if(r.fillStyle=zt($.fillStyle,h),r.lineCap=zt($.lineCap,"butt"),r.lineDashOffset=zt($.lineDashOffset,0),r.lineJoin=zt($.lineJoin,"miter"),r.lineWidth=X,r.strokeStyle=zt($.strokeStyle,h),r.setLineDash(zt($.lineDash,[])),c.usePointStyle){const tt={radius:w*Math.SQRT2/2,pointStyle:$.pointStyle,rotation:$.rotation,borderWidth:X},rt=d.xPlus(W,S/2),at=J+v;a0(r,tt,rt,at,c.pointStyleWidth&&S)}else{const tt=J+Math.max((b-w)/2,0),rt=d.leftForLtr(W,S),at=Al($.borderRadius);r.beginPath(),Object.values(at).some(ct=>ct!==0)?Sf(r,{x:rt,y:tt,w:S,h:w,radius:at}):r.rect(rt,tt,S,w),r.fill(),X!==0&&r.stroke()}r.restore()},N=function(W,J,$){Co(r,$.text,W,J+T/2,m,{strikethrough:$.hidden,textAlign:d.textAlign($.textAlign)})},U=this.isHorizontal(),Y=this._computeTitleHeight();U?_={x:Fe(u,this.left+p,this.right-l[0]),y:this.top+p+Y,line:0}:_={x:this.left+p,y:Fe(u,this.top+Y+p,this.bottom-a[0].height),line:0},f0(this.ctx,e.textDirection);const C=T+p;this.legendItems.forEach((W,J)=>{r.strokeStyle=W.fontColor,r.fillStyle=W.fontColor;const $=r.measureText(W.text).width,X=d.textAlign(W.textAlign||(W.textAlign=c.textAlign)),tt=S+v+$;let rt=_.x,at=_.y;d.setWidth(this.width),U?J>0&&rt+tt+p>this.right&&(at=_.y+=C,_.line++,rt=_.x=Fe(u,this.left+p,this.right-l[_.line])):J>0&&at+C>this.bottom&&(rt=_.x=rt+a[_.line].width+p,_.line++,at=_.y=Fe(u,this.top+Y+p,this.bottom-a[_.line].height));const ct=d.x(rt);if(A(ct,at,W),rt=tS(X,rt+S+v,U?rt+tt:this.right,e.rtl),N(d.x(rt),at,W),U)_.x+=tt+p;else if(typeof W.text!="string"){const st=m.lineHeight;_.y+=A0(W,st)+p}else _.y+=C}),h0(this.ctx,e.textDirection)}drawTitle(){const e=this.options,a=e.title,l=He(a.font),r=gn(a.padding);if(!a.display)return;const u=ns(e.rtl,this.left,this.width),c=this.ctx,h=a.position,d=l.size/2,m=r.top+d;let p,b=this.left,v=this.width;if(this.isHorizontal())v=Math.max(...this.lineWidths),p=this.top+m,b=Fe(e.align,b,this.right-v);else{const S=this.columnSizes.reduce((w,T)=>Math.max(w,T.height),0);p=m+Fe(e.align,this.top,this.bottom-S-e.labels.padding-this._computeTitleHeight())}const _=Fe(h,b,b+v);c.textAlign=u.textAlign(e0(h)),c.textBaseline="middle",c.strokeStyle=a.color,c.fillStyle=a.color,c.font=l.string,Co(c,a.text,_,p,l)}_computeTitleHeight(){const e=this.options.title,a=He(e.font),l=gn(e.padding);return e.display?a.lineHeight+l.height:0}_getLegendItemAt(e,a){let l,r,u;if(yl(e,this.left,this.right)&&yl(a,this.top,this.bottom)){for(u=this.legendHitBoxes,l=0;l<u.length;++l)if(r=u[l],yl(e,r.left,r.left+r.width)&&yl(a,r.top,r.top+r.height))return this.legendItems[l]}return null}handleEvent(e){const a=this.options;if(!F2(e.type,a))return;const l=this._getLegendItemAt(e.x,e.y);if(e.type==="mousemove"||e.type==="mouseout"){const r=this._hoveredItem,u=U2(r,l);r&&!u&&Xt(a.onLeave,[e,r,this],this),this._hoveredItem=l,l&&!u&&Xt(a.onHover,[e,l,this],this)}else l&&Xt(a.onClick,[e,l,this],this)}}function V2(i,e,a,l,r){const u=Y2(l,i,e,a),c=q2(r,l,e.lineHeight);return{itemWidth:u,itemHeight:c}}function Y2(i,e,a,l){let r=i.text;return r&&typeof r!="string"&&(r=r.reduce((u,c)=>u.length>c.length?u:c)),e+a.size/2+l.measureText(r).width}function q2(i,e,a){let l=i;return typeof e.text!="string"&&(l=A0(e,a)),l}function A0(i,e){const a=i.text?i.text.length:0;return e*a}function F2(i,e){return!!((i==="mousemove"||i==="mouseout")&&(e.onHover||e.onLeave)||e.onClick&&(i==="click"||i==="mouseup"))}var X2={id:"legend",_element:sy,start(i,e,a){const l=i.legend=new sy({ctx:i.ctx,options:a,chart:i});Oi.configure(i,l,a),Oi.addBox(i,l)},stop(i){Oi.removeBox(i,i.legend),delete i.legend},beforeUpdate(i,e,a){const l=i.legend;Oi.configure(i,l,a),l.options=a},afterUpdate(i){const e=i.legend;e.buildLabels(),e.adjustHitBoxes()},afterEvent(i,e){e.replay||i.legend.handleEvent(e.event)},defaults:{display:!0,position:"top",align:"center",fullSize:!0,reverse:!1,weight:1e3,onClick(i,e,a){const l=e.datasetIndex,r=a.chart;r.isDatasetVisible(l)?(r.hide(l),e.hidden=!0):(r.show(l),e.hidden=!1)},onHover:null,onLeave:null,labels:{color:i=>i.chart.options.color,boxWidth:40,padding:10,generateLabels(i){const e=i.data.datasets,{labels:{usePointStyle:a,pointStyle:l,textAlign:r,color:u,useBorderRadius:c,borderRadius:h}}=i.legend.options;return i._getSortedDatasetMetas().map(d=>{const m=d.controller.getStyle(a?0:void 0),p=gn(m.borderWidth);return{text:e[d.index].label,fillStyle:m.backgroundColor,fontColor:u,hidden:!d.visible,lineCap:m.borderCapStyle,lineDash:m.borderDash,lineDashOffset:m.borderDashOffset,lineJoin:m.borderJoinStyle,lineWidth:(p.width+p.height)/4,strokeStyle:m.borderColor,pointStyle:l||m.pointStyle,rotation:m.rotation,textAlign:r||m.textAlign,borderRadius:c&&(h||m.borderRadius),datasetIndex:d.index}},this)}},title:{color:i=>i.chart.options.color,display:!1,position:"center",text:""}},descriptors:{_scriptable:i=>!i.startsWith("on"),labels:{_scriptable:i=>!["generateLabels","filter","sort"].includes(i)}}};const xl={average(i){if(!i.length)return!1;let e,a,l=new Set,r=0,u=0;for(e=0,a=i.length;e<a;++e){const h=i[e].element;if(h&&h.hasValue()){const d=h.tooltipPosition();l.add(d.x),r+=d.y,++u}}return u===0||l.size===0?!1:{x:[...l].reduce((h,d)=>h+d)/l.size,y:r/u}},nearest(i,e){if(!i.length)return!1;let a=e.x,l=e.y,r=Number.POSITIVE_INFINITY,u,c,h;for(u=0,c=i.length;u<c;++u){const d=i[u].element;if(d&&d.hasValue()){const m=d.getCenterPoint(),p=vf(e,m);p<r&&(r=p,h=d)}}if(h){const d=h.tooltipPosition();a=d.x,l=d.y}return{x:a,y:l}}};function Sn(i,e){return e&&(ve(e)?Array.prototype.push.apply(i,e):i.push(e)),i}function Jn(i){return(typeof i=="string"||i instanceof String)&&i.indexOf(`
+`)>-1?i.split(`
+`):i}function G2(i,e){const{element:a,datasetIndex:l,index:r}=e,u=i.getDatasetMeta(l).controller,{label:c,value:h}=u.getLabelAndValue(r);return{chart:i,label:c,parsed:u.getParsed(r),raw:i.data.datasets[l].data[r],formattedValue:h,dataset:u.getDataset(),dataIndex:r,datasetIndex:l,element:a}}function ly(i,e){const a=i.chart.ctx,{body:l,footer:r,title:u}=i,{boxWidth:c,boxHeight:h}=e,d=He(e.bodyFont),m=He(e.titleFont),p=He(e.footerFont),b=u.length,v=r.length,_=l.length,S=gn(e.padding);let w=S.height,T=0,A=l.reduce((Y,C)=>Y+C.before.length+C.lines.length+C.after.length,0);if(A+=i.beforeBody.length+i.afterBody.length,b&&(w+=b*m.lineHeight+(b-1)*e.titleSpacing+e.titleMarginBottom),A){const Y=e.displayColors?Math.max(h,d.lineHeight):d.lineHeight;w+=_*Y+(A-_)*d.lineHeight+(A-1)*e.bodySpacing}v&&(w+=e.footerMarginTop+v*p.lineHeight+(v-1)*e.footerSpacing);let N=0;const U=function(Y){T=Math.max(T,a.measureText(Y).width+N)};return a.save(),a.font=m.string,jt(i.title,U),a.font=d.string,jt(i.beforeBody.concat(i.afterBody),U),N=e.displayColors?c+2+e.boxPadding:0,jt(l,Y=>{jt(Y.before,U),jt(Y.lines,U),jt(Y.after,U)}),N=0,a.font=p.string,jt(i.footer,U),a.restore(),T+=S.width,{width:T,height:w}}function Q2(i,e){const{y:a,height:l}=e;return a<l/2?"top":a>i.height-l/2?"bottom":"center"}function Z2(i,e,a,l){const{x:r,width:u}=l,c=a.caretSize+a.caretPadding;if(i==="left"&&r+u+c>e.width||i==="right"&&r-u-c<0)return!0}function K2(i,e,a,l){const{x:r,width:u}=a,{width:c,chartArea:{left:h,right:d}}=i;let m="center";return l==="center"?m=r<=(h+d)/2?"left":"right":r<=u/2?m="left":r>=c-u/2&&(m="right"),Z2(m,i,e,a)&&(m="center"),m}function ry(i,e,a){const l=a.yAlign||e.yAlign||Q2(i,a);return{xAlign:a.xAlign||e.xAlign||K2(i,e,a,l),yAlign:l}}function W2(i,e){let{x:a,width:l}=i;return e==="right"?a-=l:e==="center"&&(a-=l/2),a}function P2(i,e,a){let{y:l,height:r}=i;return e==="top"?l+=a:e==="bottom"?l-=r+a:l-=r/2,l}function oy(i,e,a,l){const{caretSize:r,caretPadding:u,cornerRadius:c}=i,{xAlign:h,yAlign:d}=a,m=r+u,{topLeft:p,topRight:b,bottomLeft:v,bottomRight:_}=Al(c);let S=W2(e,h);const w=P2(e,d,m);return d==="center"?h==="left"?S+=m:h==="right"&&(S-=m):h==="left"?S-=Math.max(p,v)+r:h==="right"&&(S+=Math.max(b,_)+r),{x:an(S,0,l.width-e.width),y:an(w,0,l.height-e.height)}}function go(i,e,a){const l=gn(a.padding);return e==="center"?i.x+i.width/2:e==="right"?i.x+i.width-l.right:i.x+l.left}function uy(i){return Sn([],Jn(i))}function $2(i,e,a){return ga(i,{tooltip:e,tooltipItems:a,type:"tooltip"})}function cy(i,e){const a=e&&e.dataset&&e.dataset.tooltip&&e.dataset.tooltip.callbacks;return a?i.override(a):i}const D0={beforeTitle:Pn,title(i){if(i.length>0){const e=i[0],a=e.chart.data.labels,l=a?a.length:0;if(this&&this.options&&this.options.mode==="dataset")return e.dataset.label||"";if(e.label)return e.label;if(l>0&&e.dataIndex<l)return a[e.dataIndex]}return""},afterTitle:Pn,beforeBody:Pn,beforeLabel:Pn,label(i){if(this&&this.options&&this.options.mode==="dataset")return i.label+": "+i.formattedValue||i.formattedValue;let e=i.dataset.label||"";e&&(e+=": ");const a=i.formattedValue;return qt(a)||(e+=a),e},labelColor(i){const a=i.chart.getDatasetMeta(i.datasetIndex).controller.getStyle(i.dataIndex);return{borderColor:a.borderColor,backgroundColor:a.backgroundColor,borderWidth:a.borderWidth,borderDash:a.borderDash,borderDashOffset:a.borderDashOffset,borderRadius:0}},labelTextColor(){return this.options.bodyColor},labelPointStyle(i){const a=i.chart.getDatasetMeta(i.datasetIndex).controller.getStyle(i.dataIndex);return{pointStyle:a.pointStyle,rotation:a.rotation}},afterLabel:Pn,afterBody:Pn,beforeFooter:Pn,footer:Pn,afterFooter:Pn};function je(i,e,a,l){const r=i[e].call(a,l);return typeof r>"u"?D0[e].call(a,l):r}class Mf extends Ci{constructor(e){super(),this.opacity=0,this._active=[],this._eventPosition=void 0,this._size=void 0,this._cachedAnimations=void 0,this._tooltipItems=[],this.$animations=void 0,this.$context=void 0,this.chart=e.chart,this.options=e.options,this.dataPoints=void 0,this.title=void 0,this.beforeBody=void 0,this.body=void 0,this.afterBody=void 0,this.footer=void 0,this.xAlign=void 0,this.yAlign=void 0,this.x=void 0,this.y=void 0,this.height=void 0,this.width=void 0,this.caretX=void 0,this.caretY=void 0,this.labelColors=void 0,this.labelPointStyles=void 0,this.labelTextColors=void 0}initialize(e){this.options=e,this._cachedAnimations=void 0,this.$context=void 0}_resolveAnimations(){const e=this._cachedAnimations;if(e)return e;const a=this.chart,l=this.options.setContext(this.getContext()),r=l.enabled&&a.options.animation&&l.animations,u=new g0(this.chart,r);return r._cacheable&&(this._cachedAnimations=Object.freeze(u)),u}getContext(){return this.$context||(this.$context=$2(this.chart.getContext(),this,this._tooltipItems))}getTitle(e,a){const{callbacks:l}=a,r=je(l,"beforeTitle",this,e),u=je(l,"title",this,e),c=je(l,"afterTitle",this,e);let h=[];return h=Sn(h,Jn(r)),h=Sn(h,Jn(u)),h=Sn(h,Jn(c)),h}getBeforeBody(e,a){return uy(je(a.callbacks,"beforeBody",this,e))}getBody(e,a){const{callbacks:l}=a,r=[];return jt(e,u=>{const c={before:[],lines:[],after:[]},h=cy(l,u);Sn(c.before,Jn(je(h,"beforeLabel",this,u))),Sn(c.lines,je(h,"label",this,u)),Sn(c.after,Jn(je(h,"afterLabel",this,u))),r.push(c)}),r}getAfterBody(e,a){return uy(je(a.callbacks,"afterBody",this,e))}getFooter(e,a){const{callbacks:l}=a,r=je(l,"beforeFooter",this,e),u=je(l,"footer",this,e),c=je(l,"afterFooter",this,e);let h=[];return h=Sn(h,Jn(r)),h=Sn(h,Jn(u)),h=Sn(h,Jn(c)),h}_createItems(e){const a=this._active,l=this.chart.data,r=[],u=[],c=[];let h=[],d,m;for(d=0,m=a.length;d<m;++d)h.push(G2(this.chart,a[d]));return e.filter&&(h=h.filter((p,b,v)=>e.filter(p,b,v,l))),e.itemSort&&(h=h.sort((p,b)=>e.itemSort(p,b,l))),jt(h,p=>{const b=cy(e.callbacks,p);r.push(je(b,"labelColor",this,p)),u.push(je(b,"labelPointStyle",this,p)),c.push(je(b,"labelTextColor",this,p))}),this.labelColors=r,this.labelPointStyles=u,this.labelTextColors=c,this.dataPoints=h,h}update(e,a){const l=this.options.setContext(this.getContext()),r=this._active;let u,c=[];if(!r.length)this.opacity!==0&&(u={opacity:0});else{const h=xl[l.position].call(this,r,this._eventPosition);c=this._createItems(l),this.title=this.getTitle(c,l),this.beforeBody=this.getBeforeBody(c,l),this.body=this.getBody(c,l),this.afterBody=this.getAfterBody(c,l),this.footer=this.getFooter(c,l);const d=this._size=ly(this,l),m=Object.assign({},h,d),p=ry(this.chart,l,m),b=oy(l,m,p,this.chart);this.xAlign=p.xAlign,this.yAlign=p.yAlign,u={opacity:1,x:b.x,y:b.y,width:d.width,height:d.height,caretX:h.x,caretY:h.y}}this._tooltipItems=c,this.$context=void 0,u&&this._resolveAnimations().update(this,u),e&&l.external&&l.external.call(this,{chart:this.chart,tooltip:this,replay:a})}drawCaret(e,a,l,r){const u=this.getCaretPosition(e,l,r);a.lineTo(u.x1,u.y1),a.lineTo(u.x2,u.y2),a.lineTo(u.x3,u.y3)}getCaretPosition(e,a,l){const{xAlign:r,yAlign:u}=this,{caretSize:c,cornerRadius:h}=l,{topLeft:d,topRight:m,bottomLeft:p,bottomRight:b}=Al(h),{x:v,y:_}=e,{width:S,height:w}=a;let T,A,N,U,Y,C;return u==="center"?(Y=_+w/2,r==="left"?(T=v,A=T-c,U=Y+c,C=Y-c):(T=v+S,A=T+c,U=Y-c,C=Y+c),N=T):(r==="left"?A=v+Math.max(d,p)+c:r==="right"?A=v+S-Math.max(m,b)-c:A=this.caretX,u==="top"?(U=_,Y=U-c,T=A-c,N=A+c):(U=_+w,Y=U+c,T=A+c,N=A-c),C=U),{x1:T,x2:A,x3:N,y1:U,y2:Y,y3:C}}drawTitle(e,a,l){const r=this.title,u=r.length;let c,h,d;if(u){const m=ns(l.rtl,this.x,this.width);for(e.x=go(this,l.titleAlign,l),a.textAlign=m.textAlign(l.titleAlign),a.textBaseline="middle",c=He(l.titleFont),h=l.titleSpacing,a.fillStyle=l.titleColor,a.font=c.string,d=0;d<u;++d)a.fillText(r[d],m.x(e.x),e.y+c.lineHeight/2),e.y+=c.lineHeight+h,d+1===u&&(e.y+=l.titleMarginBottom-h)}}_drawColorBox(e,a,l,r,u){const c=this.labelColors[l],h=this.labelPointStyles[l],{boxHeight:d,boxWidth:m}=u,p=He(u.bodyFont),b=go(this,"left",u),v=r.x(b),_=d<p.lineHeight?(p.lineHeight-d)/2:0,S=a.y+_;if(u.usePointStyle){const w={radius:Math.min(m,d)/2,pointStyle:h.pointStyle,rotation:h.rotation,borderWidth:1},T=r.leftForLtr(v,m)+m/2,A=S+d/2;e.strokeStyle=u.multiKeyBackground,e.fillStyle=u.multiKeyBackground,_f(e,w,T,A),e.strokeStyle=c.borderColor,e.fillStyle=c.backgroundColor,_f(e,w,T,A)}else{e.lineWidth=Nt(c.borderWidth)?Math.max(...Object.values(c.borderWidth)):c.borderWidth||1,e.strokeStyle=c.borderColor,e.setLineDash(c.borderDash||[]),e.lineDashOffset=c.borderDashOffset||0;const w=r.leftForLtr(v,m),T=r.leftForLtr(r.xPlus(v,1),m-2),A=Al(c.borderRadius);Object.values(A).some(N=>N!==0)?(e.beginPath(),e.fillStyle=u.multiKeyBackground,Sf(e,{x:w,y:S,w:m,h:d,radius:A}),e.fill(),e.stroke(),e.fillStyle=c.backgroundColor,e.beginPath(),Sf(e,{x:T,y:S+1,w:m-2,h:d-2,radius:A}),e.fill()):(e.fillStyle=u.multiKeyBackground,e.fillRect(w,S,m,d),e.strokeRect(w,S,m,d),e.fillStyle=c.backgroundColor,e.fillRect(T,S+1,m-2,d-2))}e.fillStyle=this.labelTextColors[l]}drawBody(e,a,l){const{body:r}=this,{bodySpacing:u,bodyAlign:c,displayColors:h,boxHeight:d,boxWidth:m,boxPadding:p}=l,b=He(l.bodyFont);let v=b.lineHeight,_=0;const S=ns(l.rtl,this.x,this.width),w=function($){a.fillText($,S.x(e.x+_),e.y+v/2),e.y+=v+u},T=S.textAlign(c);let A,N,U,Y,C,W,J;for(a.textAlign=c,a.textBaseline="middle",a.font=b.string,e.x=go(this,T,l),a.fillStyle=l.bodyColor,jt(this.beforeBody,w),_=h&&T!=="right"?c==="center"?m/2+p:m+2+p:0,Y=0,W=r.length;Y<W;++Y){for(A=r[Y],N=this.labelTextColors[Y],a.fillStyle=N,jt(A.before,w),U=A.lines,h&&U.length&&(this._drawColorBox(a,e,Y,S,l),v=Math.max(b.lineHeight,d)),C=0,J=U.length;C<J;++C)w(U[C]),v=b.lineHeight;jt(A.after,w)}_=0,v=b.lineHeight,jt(this.afterBody,w),e.y-=u}drawFooter(e,a,l){const r=this.footer,u=r.length;let c,h;if(u){const d=ns(l.rtl,this.x,this.width);for(e.x=go(this,l.footerAlign,l),e.y+=l.footerMarginTop,a.textAlign=d.textAlign(l.footerAlign),a.textBaseline="middle",c=He(l.footerFont),a.fillStyle=l.footerColor,a.font=c.string,h=0;h<u;++h)a.fillText(r[h],d.x(e.x),e.y+c.lineHeight/2),e.y+=c.lineHeight+l.footerSpacing}}drawBackground(e,a,l,r){const{xAlign:u,yAlign:c}=this,{x:h,y:d}=e,{width:m,height:p}=l,{topLeft:b,topRight:v,bottomLeft:_,bottomRight:S}=Al(r.cornerRadius);a.fillStyle=r.backgroundColor,a.strokeStyle=r.borderColor,a.lineWidth=r.borderWidth,a.beginPath(),a.moveTo(h+b,d),c==="top"&&this.drawCaret(e,a,l,r),a.lineTo(h+m-v,d),a.quadraticCurveTo(h+m,d,h+m,d+v),c==="center"&&u==="right"&&this.drawCaret(e,a,l,r),a.lineTo(h+m,d+p-S),a.quadraticCurveTo(h+m,d+p,h+m-S,d+p),c==="bottom"&&this.drawCaret(e,a,l,r),a.lineTo(h+_,d+p),a.quadraticCurveTo(h,d+p,h,d+p-_),c==="center"&&u==="left"&&this.drawCaret(e,a,l,r),a.lineTo(h,d+b),a.quadraticCurveTo(h,d,h+b,d),a.closePath(),a.fill(),r.borderWidth>0&&a.stroke()}_updateAnimationTarget(e){const a=this.chart,l=this.$animations,r=l&&l.x,u=l&&l.y;if(r||u){const c=xl[e.position].call(this,this._active,this._eventPosition);if(!c)return;const h=this._size=ly(this,e),d=Object.assign({},c,this._size),m=ry(a,e,d),p=oy(e,d,m,a);(r._to!==p.x||u._to!==p.y)&&(this.xAlign=m.xAlign,this.yAlign=m.yAlign,this.width=h.width,this.height=h.height,this.caretX=c.x,this.caretY=c.y,this._resolveAnimations().update(this,p))}}_willRender(){return!!this.opacity}draw(e){const a=this.options.setContext(this.getContext());let l=this.opacity;if(!l)return;this._updateAnimationTarget(a);const r={width:this.width,height:this.height},u={x:this.x,y:this.y};l=Math.abs(l)<.001?0:l;const c=gn(a.padding),h=this.title.length||this.beforeBody.length||this.body.length||this.afterBody.length||this.footer.length;a.enabled&&h&&(e.save(),e.globalAlpha=l,this.drawBackground(u,e,r,a),f0(e,a.textDirection),u.y+=c.top,this.drawTitle(u,e,a),this.drawBody(u,e,a),this.drawFooter(u,e,a),h0(e,a.textDirection),e.restore())}getActiveElements(){return this._active||[]}setActiveElements(e,a){const l=this._active,r=e.map(({datasetIndex:h,index:d})=>{const m=this.chart.getDatasetMeta(h);if(!m)throw new Error("Cannot find a dataset at index "+h);return{datasetIndex:h,element:m.data[d],index:d}}),u=!Ao(l,r),c=this._positionChanged(r,a);(u||c)&&(this._active=r,this._eventPosition=a,this._ignoreReplayEvents=!0,this.update(!0))}handleEvent(e,a,l=!0){if(a&&this._ignoreReplayEvents)return!1;this._ignoreReplayEvents=!1;const r=this.options,u=this._active||[],c=this._getActiveElements(e,u,a,l),h=this._positionChanged(c,e),d=a||!Ao(c,u)||h;return d&&(this._active=c,(r.enabled||r.external)&&(this._eventPosition={x:e.x,y:e.y},this.update(!0,a))),d}_getActiveElements(e,a,l,r){const u=this.options;if(e.type==="mouseout")return[];if(!r)return a.filter(h=>this.chart.data.datasets[h.datasetIndex]&&this.chart.getDatasetMeta(h.datasetIndex).controller.getParsed(h.index)!==void 0);const c=this.chart.getElementsAtEventForMode(e,u.mode,u,l);return u.reverse&&c.reverse(),c}_positionChanged(e,a){const{caretX:l,caretY:r,options:u}=this,c=xl[u.position].call(this,e,a);return c!==!1&&(l!==c.x||r!==c.y)}}St(Mf,"positioners",xl);var J2={id:"tooltip",_element:Mf,positioners:xl,afterInit(i,e,a){a&&(i.tooltip=new Mf({chart:i,options:a}))},beforeUpdate(i,e,a){i.tooltip&&i.tooltip.initialize(a)},reset(i,e,a){i.tooltip&&i.tooltip.initialize(a)},afterDraw(i){const e=i.tooltip;if(e&&e._willRender()){const a={tooltip:e};if(i.notifyPlugins("beforeTooltipDraw",{...a,cancelable:!0})===!1)return;e.draw(i.ctx),i.notifyPlugins("afterTooltipDraw",a)}},afterEvent(i,e){if(i.tooltip){const a=e.replay;i.tooltip.handleEvent(e.event,a,e.inChartArea)&&(e.changed=!0)}},defaults:{enabled:!0,external:null,position:"average",backgroundColor:"rgba(0,0,0,0.8)",titleColor:"#fff",titleFont:{weight:"bold"},titleSpacing:2,titleMarginBottom:6,titleAlign:"left",bodyColor:"#fff",bodySpacing:2,bodyFont:{},bodyAlign:"left",footerColor:"#fff",footerSpacing:2,footerMarginTop:6,footerFont:{weight:"bold"},footerAlign:"left",padding:6,caretPadding:2,caretSize:5,cornerRadius:6,boxHeight:(i,e)=>e.bodyFont.size,boxWidth:(i,e)=>e.bodyFont.size,multiKeyBackground:"#fff",displayColors:!0,boxPadding:0,borderColor:"rgba(0,0,0,0)",borderWidth:0,animation:{duration:400,easing:"easeOutQuart"},animations:{numbers:{type:"number",properties:["x","y","width","height","caretX","caretY"]},opacity:{easing:"linear",duration:200}},callbacks:D0},defaultRoutes:{bodyFont:"font",footerFont:"font",titleFont:"font"},descriptors:{_scriptable:i=>i!=="filter"&&i!=="itemSort"&&i!=="external",_indexable:!1,callbacks:{_scriptable:!1,_indexable:!1},animation:{_fallback:!1},animations:{_fallback:"animation"}},additionalOptionScopes:["interaction"]};const I2=(i,e,a,l)=>(typeof e=="string"?(a=i.push(e)-1,l.unshift({index:a,label:e})):isNaN(e)&&(a=null),a);function tE(i,e,a,l){const r=i.indexOf(e);if(r===-1)return I2(i,e,a,l);const u=i.lastIndexOf(e);return r!==u?a:r}const eE=(i,e)=>i===null?null:an(Math.round(i),0,e);function fy(i){const e=this.getLabels();return i>=0&&i<e.length?e[i]:i}class Af extends os{constructor(e){super(e),this._startValue=void 0,this._valueRange=0,this._addedLabels=[]}init(e){const a=this._addedLabels;if(a.length){const l=this.getLabels();for(const{index:r,label:u}of a)l[r]===u&&l.splice(r,1);this._addedLabels=[]}super.init(e)}parse(e,a){if(qt(e))return null;const l=this.getLabels();return a=isFinite(a)&&l[a]===e?a:tE(l,e,zt(a,e),this._addedLabels),eE(a,l.length-1)}determineDataLimits(){const{minDefined:e,maxDefined:a}=this.getUserBounds();let{min:l,max:r}=this.getMinMax(!0);this.options.bounds==="ticks"&&(e||(l=0),a||(r=this.getLabels().length-1)),this.min=l,this.max=r}buildTicks(){const e=this.min,a=this.max,l=this.options.offset,r=[];let u=this.getLabels();u=e===0&&a===u.length-1?u:u.slice(e,a+1),this._valueRange=Math.max(u.length-(l?0:1),1),this._startValue=this.min-(l?.5:0);for(let c=e;c<=a;c++)r.push({value:c});return r}getLabelForValue(e){return fy.call(this,e)}configure(){super.configure(),this.isHorizontal()||(this._reversePixels=!this._reversePixels)}getPixelForValue(e){return typeof e!="number"&&(e=this.parse(e)),e===null?NaN:this.getPixelForDecimal((e-this._startValue)/this._valueRange)}getPixelForTick(e){const a=this.ticks;return e<0||e>a.length-1?null:this.getPixelForValue(a[e].value)}getValueForPixel(e){return Math.round(this._startValue+this.getDecimalForPixel(e)*this._valueRange)}getBasePixel(){return this.bottom}}St(Af,"id","category"),St(Af,"defaults",{ticks:{callback:fy}});function nE(i,e){const a=[],{bounds:r,step:u,min:c,max:h,precision:d,count:m,maxTicks:p,maxDigits:b,includeBounds:v}=i,_=u||1,S=p-1,{min:w,max:T}=e,A=!qt(c),N=!qt(h),U=!qt(m),Y=(T-w)/(b+1);let C=pp((T-w)/S/_)*_,W,J,$,X;if(C<1e-14&&!A&&!N)return[{value:w},{value:T}];X=Math.ceil(T/C)-Math.floor(w/C),X>S&&(C=pp(X*C/S/_)*_),qt(d)||(W=Math.pow(10,d),C=Math.ceil(C*W)/W),r==="ticks"?(J=Math.floor(w/C)*C,$=Math.ceil(T/C)*C):(J=w,$=T),A&&N&&u&&F1((h-c)/u,C/1e3)?(X=Math.round(Math.min((h-c)/C,p)),C=(h-c)/X,J=c,$=h):U?(J=A?c:J,$=N?h:$,X=m-1,C=($-J)/X):(X=($-J)/C,El(X,Math.round(X),C/1e3)?X=Math.round(X):X=Math.ceil(X));const tt=Math.max(yp(C),yp(J));W=Math.pow(10,qt(d)?tt:d),J=Math.round(J*W)/W,$=Math.round($*W)/W;let rt=0;for(A&&(v&&J!==c?(a.push({value:c}),J<c&&rt++,El(Math.round((J+rt*C)*W)/W,c,hy(c,Y,i))&&rt++):J<c&&rt++);rt<X;++rt){const at=Math.round((J+rt*C)*W)/W;if(N&&at>h)break;a.push({value:at})}return N&&v&&$!==h?a.length&&El(a[a.length-1].value,h,hy(h,Y,i))?a[a.length-1].value=h:a.push({value:h}):(!N||$===h)&&a.push({value:$}),a}function hy(i,e,{horizontal:a,minRotation:l}){const r=ua(l),u=(a?Math.sin(r):Math.cos(r))||.001,c=.75*e*(""+i).length;return Math.min(e/u,c)}class iE extends os{constructor(e){super(e),this.start=void 0,this.end=void 0,this._startValue=void 0,this._endValue=void 0,this._valueRange=0}parse(e,a){return qt(e)||(typeof e=="number"||e instanceof Number)&&!isFinite(+e)?null:+e}handleTickRangeOptions(){const{beginAtZero:e}=this.options,{minDefined:a,maxDefined:l}=this.getUserBounds();let{min:r,max:u}=this;const c=d=>r=a?r:d,h=d=>u=l?u:d;if(e){const d=is(r),m=is(u);d<0&&m<0?h(0):d>0&&m>0&&c(0)}if(r===u){let d=u===0?1:Math.abs(u*.05);h(u+d),e||c(r-d)}this.min=r,this.max=u}getTickLimit(){const e=this.options.ticks;let{maxTicksLimit:a,stepSize:l}=e,r;return l?(r=Math.ceil(this.max/l)-Math.floor(this.min/l)+1,r>1e3&&(console.warn(`scales.${this.id}.ticks.stepSize: ${l} would result generating up to ${r} ticks. Limiting to 1000.`),r=1e3)):(r=this.computeTickLimit(),a=a||11),a&&(r=Math.min(a,r)),r}computeTickLimit(){return Number.POSITIVE_INFINITY}buildTicks(){const e=this.options,a=e.ticks;let l=this.getTickLimit();l=Math.max(2,l);const r={maxTicks:l,bounds:e.bounds,min:e.min,max:e.max,precision:a.precision,step:a.stepSize,count:a.count,maxDigits:this._maxDigits(),horizontal:this.isHorizontal(),minRotation:a.minRotation||0,includeBounds:a.includeBounds!==!1},u=this._range||this,c=nE(r,u);return e.bounds==="ticks"&&X1(c,this,"value"),e.reverse?(c.reverse(),this.start=this.max,this.end=this.min):(this.start=this.min,this.end=this.max),c}configure(){const e=this.ticks;let a=this.min,l=this.max;if(super.configure(),this.options.offset&&e.length){const r=(l-a)/Math.max(e.length-1,1)/2;a-=r,l+=r}this._startValue=a,this._endValue=l,this._valueRange=l-a}getLabelForValue(e){return n0(e,this.chart.options.locale,this.options.ticks.format)}}class Df extends iE{determineDataLimits(){const{min:e,max:a}=this.getMinMax(!0);this.min=sn(e)?e:0,this.max=sn(a)?a:1,this.handleTickRangeOptions()}computeTickLimit(){const e=this.isHorizontal(),a=e?this.width:this.height,l=ua(this.options.ticks.minRotation),r=(e?Math.sin(l):Math.cos(l))||.001,u=this._resolveTickFontOptions(0);return Math.ceil(a/Math.min(40,u.lineHeight/r))}getPixelForValue(e){return e===null?NaN:this.getPixelForDecimal((e-this._startValue)/this._valueRange)}getValueForPixel(e){return this._startValue+this.getDecimalForPixel(e)*this._valueRange}}St(Df,"id","linear"),St(Df,"defaults",{ticks:{callback:i0.formatters.numeric}});const qo={millisecond:{common:!0,size:1,steps:1e3},second:{common:!0,size:1e3,steps:60},minute:{common:!0,size:6e4,steps:60},hour:{common:!0,size:36e5,steps:24},day:{common:!0,size:864e5,steps:30},week:{common:!1,size:6048e5,steps:4},month:{common:!0,size:2628e6,steps:12},quarter:{common:!1,size:7884e6,steps:4},year:{common:!0,size:3154e7}},Le=Object.keys(qo);function dy(i,e){return i-e}function gy(i,e){if(qt(e))return null;const a=i._adapter,{parser:l,round:r,isoWeekday:u}=i._parseOpts;let c=e;return typeof l=="function"&&(c=l(c)),sn(c)||(c=typeof l=="string"?a.parse(c,l):a.parse(c)),c===null?null:(r&&(c=r==="week"&&(kl(u)||u===!0)?a.startOf(c,"isoWeek",u):a.startOf(c,r)),+c)}function my(i,e,a,l){const r=Le.length;for(let u=Le.indexOf(i);u<r-1;++u){const c=qo[Le[u]],h=c.steps?c.steps:Number.MAX_SAFE_INTEGER;if(c.common&&Math.ceil((a-e)/(h*c.size))<=l)return Le[u]}return Le[r-1]}function aE(i,e,a,l,r){for(let u=Le.length-1;u>=Le.indexOf(a);u--){const c=Le[u];if(qo[c].common&&i._adapter.diff(r,l,c)>=e-1)return c}return Le[a?Le.indexOf(a):0]}function sE(i){for(let e=Le.indexOf(i)+1,a=Le.length;e<a;++e)if(qo[Le[e]].common)return Le[e]}function py(i,e,a){if(!a)i[e]=!0;else if(a.length){const{lo:l,hi:r}=Xf(a,e),u=a[l]>=e?a[l]:a[r];i[u]=!0}}function lE(i,e,a,l){const r=i._adapter,u=+r.startOf(e[0].value,l),c=e[e.length-1].value;let h,d;for(h=u;h<=c;h=+r.add(h,1,l))d=a[h],d>=0&&(e[d].major=!0);return e}function yy(i,e,a){const l=[],r={},u=e.length;let c,h;for(c=0;c<u;++c)h=e[c],r[h]=c,l.push({value:h,major:!1});return u===0||!a?l:lE(i,l,r,a)}class jo extends os{constructor(e){super(e),this._cache={data:[],labels:[],all:[]},this._unit="day",this._majorUnit=void 0,this._offsets={},this._normalized=!1,this._parseOpts=void 0}init(e,a={}){const l=e.time||(e.time={}),r=this._adapter=new _w._date(e.adapters.date);r.init(a),wl(l.displayFormats,r.formats()),this._parseOpts={parser:l.parser,round:l.round,isoWeekday:l.isoWeekday},super.init(e),this._normalized=a.normalized}parse(e,a){return e===void 0?null:gy(this,e)}beforeLayout(){super.beforeLayout(),this._cache={data:[],labels:[],all:[]}}determineDataLimits(){const e=this.options,a=this._adapter,l=e.time.unit||"day";let{min:r,max:u,minDefined:c,maxDefined:h}=this.getUserBounds();function d(m){!c&&!isNaN(m.min)&&(r=Math.min(r,m.min)),!h&&!isNaN(m.max)&&(u=Math.max(u,m.max))}(!c||!h)&&(d(this._getLabelBounds()),(e.bounds!=="ticks"||e.ticks.source!=="labels")&&d(this.getMinMax(!1))),r=sn(r)&&!isNaN(r)?r:+a.startOf(Date.now(),l),u=sn(u)&&!isNaN(u)?u:+a.endOf(Date.now(),l)+1,this.min=Math.min(r,u-1),this.max=Math.max(r+1,u)}_getLabelBounds(){const e=this.getLabelTimestamps();let a=Number.POSITIVE_INFINITY,l=Number.NEGATIVE_INFINITY;return e.length&&(a=e[0],l=e[e.length-1]),{min:a,max:l}}buildTicks(){const e=this.options,a=e.time,l=e.ticks,r=l.source==="labels"?this.getLabelTimestamps():this._generate();e.bounds==="ticks"&&r.length&&(this.min=this._userMin||r[0],this.max=this._userMax||r[r.length-1]);const u=this.min,c=this.max,h=P1(r,u,c);return this._unit=a.unit||(l.autoSkip?my(a.minUnit,this.min,this.max,this._getLabelCapacity(u)):aE(this,h.length,a.minUnit,this.min,this.max)),this._majorUnit=!l.major.enabled||this._unit==="year"?void 0:sE(this._unit),this.initOffsets(r),e.reverse&&h.reverse(),yy(this,h,this._majorUnit)}afterAutoSkip(){this.options.offsetAfterAutoskip&&this.initOffsets(this.ticks.map(e=>+e.value))}initOffsets(e=[]){let a=0,l=0,r,u;this.options.offset&&e.length&&(r=this.getDecimalForValue(e[0]),e.length===1?a=1-r:a=(this.getDecimalForValue(e[1])-r)/2,u=this.getDecimalForValue(e[e.length-1]),e.length===1?l=u:l=(u-this.getDecimalForValue(e[e.length-2]))/2);const c=e.length<3?.5:.25;a=an(a,0,c),l=an(l,0,c),this._offsets={start:a,end:l,factor:1/(a+1+l)}}_generate(){const e=this._adapter,a=this.min,l=this.max,r=this.options,u=r.time,c=u.unit||my(u.minUnit,a,l,this._getLabelCapacity(a)),h=zt(r.ticks.stepSize,1),d=c==="week"?u.isoWeekday:!1,m=kl(d)||d===!0,p={};let b=a,v,_;if(m&&(b=+e.startOf(b,"isoWeek",d)),b=+e.startOf(b,m?"day":c),e.diff(l,a,c)>1e5*h)throw new Error(a+" and "+l+" are too far apart with stepSize of "+h+" "+c);const S=r.ticks.source==="data"&&this.getDataTimestamps();for(v=b,_=0;v<l;v=+e.add(v,h,c),_++)py(p,v,S);return(v===l||r.bounds==="ticks"||_===1)&&py(p,v,S),Object.keys(p).sort(dy).map(w=>+w)}getLabelForValue(e){const a=this._adapter,l=this.options.time;return l.tooltipFormat?a.format(e,l.tooltipFormat):a.format(e,l.displayFormats.datetime)}format(e,a){const r=this.options.time.displayFormats,u=this._unit,c=a||r[u];return this._adapter.format(e,c)}_tickFormatFunction(e,a,l,r){const u=this.options,c=u.ticks.callback;if(c)return Xt(c,[e,a,l],this);const h=u.time.displayFormats,d=this._unit,m=this._majorUnit,p=d&&h[d],b=m&&h[m],v=l[a],_=m&&b&&v&&v.major;return this._adapter.format(e,r||(_?b:p))}generateTickLabels(e){let a,l,r;for(a=0,l=e.length;a<l;++a)r=e[a],r.label=this._tickFormatFunction(r.value,a,e)}getDecimalForValue(e){return e===null?NaN:(e-this.min)/(this.max-this.min)}getPixelForValue(e){const a=this._offsets,l=this.getDecimalForValue(e);return this.getPixelForDecimal((a.start+l)*a.factor)}getValueForPixel(e){const a=this._offsets,l=this.getDecimalForPixel(e)/a.factor-a.end;return this.min+l*(this.max-this.min)}_getLabelSize(e){const a=this.options.ticks,l=this.ctx.measureText(e).width,r=ua(this.isHorizontal()?a.maxRotation:a.minRotation),u=Math.cos(r),c=Math.sin(r),h=this._resolveTickFontOptions(0).size;return{w:l*u+h*c,h:l*c+h*u}}_getLabelCapacity(e){const a=this.options.time,l=a.displayFormats,r=l[a.unit]||l.millisecond,u=this._tickFormatFunction(e,0,yy(this,[e],this._majorUnit),r),c=this._getLabelSize(u),h=Math.floor(this.isHorizontal()?this.width/c.w:this.height/c.h)-1;return h>0?h:1}getDataTimestamps(){let e=this._cache.data||[],a,l;if(e.length)return e;const r=this.getMatchingVisibleMetas();if(this._normalized&&r.length)return this._cache.data=r[0].controller.getAllParsedValues(this);for(a=0,l=r.length;a<l;++a)e=e.concat(r[a].controller.getAllParsedValues(this));return this._cache.data=this.normalize(e)}getLabelTimestamps(){const e=this._cache.labels||[];let a,l;if(e.length)return e;const r=this.getLabels();for(a=0,l=r.length;a<l;++a)e.push(gy(this,r[a]));return this._cache.labels=this._normalized?e:this.normalize(e)}normalize(e){return J1(e.sort(dy))}}St(jo,"id","time"),St(jo,"defaults",{bounds:"data",adapters:{},time:{parser:!1,unit:!1,round:!1,isoWeekday:!1,minUnit:"millisecond",displayFormats:{}},ticks:{source:"auto",callback:!1,major:{enabled:!1}}});function mo(i,e,a){let l=0,r=i.length-1,u,c,h,d;a?(e>=i[l].pos&&e<=i[r].pos&&({lo:l,hi:r}=ca(i,"pos",e)),{pos:u,time:h}=i[l],{pos:c,time:d}=i[r]):(e>=i[l].time&&e<=i[r].time&&({lo:l,hi:r}=ca(i,"time",e)),{time:u,pos:h}=i[l],{time:c,pos:d}=i[r]);const m=c-u;return m?h+(d-h)*(e-u)/m:h}class by extends jo{constructor(e){super(e),this._table=[],this._minPos=void 0,this._tableRange=void 0}initOffsets(){const e=this._getTimestampsForTable(),a=this._table=this.buildLookupTable(e);this._minPos=mo(a,this.min),this._tableRange=mo(a,this.max)-this._minPos,super.initOffsets(e)}buildLookupTable(e){const{min:a,max:l}=this,r=[],u=[];let c,h,d,m,p;for(c=0,h=e.length;c<h;++c)m=e[c],m>=a&&m<=l&&r.push(m);if(r.length<2)return[{time:a,pos:0},{time:l,pos:1}];for(c=0,h=r.length;c<h;++c)p=r[c+1],d=r[c-1],m=r[c],Math.round((p+d)/2)!==m&&u.push({time:m,pos:c/(h-1)});return u}_generate(){const e=this.min,a=this.max;let l=super.getDataTimestamps();return(!l.includes(e)||!l.length)&&l.splice(0,0,e),(!l.includes(a)||l.length===1)&&l.push(a),l.sort((r,u)=>r-u)}_getTimestampsForTable(){let e=this._cache.all||[];if(e.length)return e;const a=this.getDataTimestamps(),l=this.getLabelTimestamps();return a.length&&l.length?e=this.normalize(a.concat(l)):e=a.length?a:l,e=this._cache.all=e,e}getDecimalForValue(e){return(mo(this._table,e)-this._minPos)/this._tableRange}getValueForPixel(e){const a=this._offsets,l=this.getDecimalForPixel(e)/a.factor-a.end;return mo(this._table,l*this._tableRange+this._minPos,!0)}}St(by,"id","timeseries"),St(by,"defaults",jo.defaults);const O0="label";function vy(i,e){typeof i=="function"?i(e):i&&(i.current=e)}function rE(i,e){const a=i.options;a&&e&&Object.assign(a,e)}function z0(i,e){i.labels=e}function R0(i,e){let a=arguments.length>2&&arguments[2]!==void 0?arguments[2]:O0;const l=[];i.datasets=e.map(r=>{const u=i.datasets.find(c=>c[a]===r[a]);return!u||!r.data||l.includes(u)?{...r}:(l.push(u),Object.assign(u,r),u)})}function oE(i){let e=arguments.length>1&&arguments[1]!==void 0?arguments[1]:O0;const a={labels:[],datasets:[]};return z0(a,i.labels),R0(a,i.datasets,e),a}function uE(i,e){const{height:a=150,width:l=300,redraw:r=!1,datasetIdKey:u,type:c,data:h,options:d,plugins:m=[],fallbackContent:p,updateMode:b,...v}=i,_=j.useRef(null),S=j.useRef(null),w=()=>{_.current&&(S.current=new Yo(_.current,{type:c,data:oE(h,u),options:d&&{...d},plugins:m}),vy(e,S.current))},T=()=>{vy(e,null),S.current&&(S.current.destroy(),S.current=null)};return j.useEffect(()=>{!r&&S.current&&d&&rE(S.current,d)},[r,d]),j.useEffect(()=>{!r&&S.current&&z0(S.current.config.data,h.labels)},[r,h.labels]),j.useEffect(()=>{!r&&S.current&&h.datasets&&R0(S.current.config.data,h.datasets,u)},[r,h.datasets]),j.useEffect(()=>{S.current&&(r?(T(),setTimeout(w)):S.current.update(b))},[r,d,h.labels,h.datasets,b]),j.useEffect(()=>{S.current&&(T(),setTimeout(w))},[c]),j.useEffect(()=>(w(),()=>T()),[]),Ee.createElement("canvas",{ref:_,role:"img",height:a,width:l,...v},p)}const cE=j.forwardRef(uE);function fE(i,e){return Yo.register(e),j.forwardRef((a,l)=>Ee.createElement(cE,{...a,ref:l,type:i}))}const hE=fE("line",vo);Yo.register(vl,So,Df,Af,J2,X2);const dE=j.forwardRef(({selectedAsset:i,priceHistory:e,formatDate:a},l)=>M.jsxs("div",{className:"assets-chart-section",ref:l,children:[M.jsxs("h2",{className:"assets-chart-title",children:["Wykres ceny: ",i.name," (",i.symbol,")"]}),M.jsx("div",{className:"assets-chart-info",children:M.jsx("span",{children:"Wykres przedstawia historię cen wybranego aktywa. Ostatni punkt to aktualna cena rynkowa."})}),M.jsx("div",{className:"assets-chart-container",children:e.length>0?M.jsx(hE,{data:{labels:e.map(r=>a(r.timestamp)),datasets:[{label:"Cena",data:e.map(r=>r.price),borderColor:"#ff3c5f",backgroundColor:"rgba(255,60,95,0.08)",pointRadius:e.map((r,u)=>u===e.length-1?7:3),pointBackgroundColor:e.map((r,u)=>u===e.length-1?"#ef4444":"#9340ff"),tension:.3}]},options:{plugins:{legend:{display:!1},tooltip:{enabled:!0}},scales:{x:{display:!0,title:{display:!0,text:"Data"},ticks:{callback:function(r){return this.getLabelForValue(r)}}},y:{display:!0,title:{display:!0,text:"Cena (USD)"}}}}}):M.jsx("p",{className:"assets-chart-empty",children:"Brak danych do wyświetlenia wykresu."})})]}));function gE(){const[i,e]=j.useState(!1),[a,l]=j.useState(""),[r,u]=j.useState([]),{register:c,handleSubmit:h,reset:d}=Gy(),[m,p]=j.useState(!1),[b,v]=j.useState(null),[_,S]=j.useState([]),[w,T]=j.useState(""),[A,N]=j.useState("id"),[U,Y]=j.useState("asc"),[C,W]=j.useState(0),[J,$]=j.useState(1),X=j.useRef(null),tt=j.useRef(null),rt=async()=>{try{let P=`http://localhost:8000/api/v1/assets?page=${C}&size=6&`;w&&(P+=`search=${encodeURIComponent(w)}&`),A!=="id"&&(P+=`sortBy=${A}&sortDirection=${U}`);const V=await fetch(P);if(!V.ok)throw new Error("Nie udało się pobrać assetów");const et=await V.json();u(et.content||[]),$(et.totalPages||1)}catch(P){l(P.message)}};j.useEffect(()=>{rt();const P=setInterval(rt,1e4);return()=>clearInterval(P)},[w,A,U,C]),j.useEffect(()=>{(()=>{const V=localStorage.getItem("accessToken");if(V)try{const et=JSON.parse(atob(V.split(".")[1]));p(et.authorities==="ROLE_ADMIN")}catch(et){console.error("Error parsing token:",et),p(!1)}})()},[]);const at=async P=>{e(!0),l("");try{const V=localStorage.getItem("accessToken");if(!V)throw new Error("Brak autoryzacji. Zaloguj się ponownie.");const et=await fetch("http://localhost:8000/api/v1/assets",{method:"POST",headers:{"Content-Type":"application/json",Authorization:`Bearer ${V}`},body:JSON.stringify(P)});if(et.status===401)throw new Error("Sesja wygasła. Zaloguj się ponownie.");if(et.status===403)throw new Error("Brak uprawnień do dodawania aktywów.");if(!et.ok)throw new Error("Nie udało się dodać assetu");d(),await rt()}catch(V){l(V.message)}finally{e(!1)}},ct=async P=>{try{const V=localStorage.getItem("accessToken");if(!V)throw new Error("Brak autoryzacji. Zaloguj się ponownie.");const et=await fetch(`http://localhost:8000/api/v1/assets/${P}`,{method:"DELETE",headers:{Authorization:`Bearer ${V}`}});if(et.status===401)throw new Error("Sesja wygasła. Zaloguj się ponownie.");if(et.status===403)throw new Error("Brak uprawnień to usuwania aktywów.");if(!et.ok)throw new Error("Nie udało się usunąć assetu");u(r.filter(ut=>ut.id!==P))}catch(V){l(V.message)}};j.useEffect(()=>{if(!b){S([]);return}(async()=>{try{const V=await fetch(`http://localhost:8000/api/v1/assets/${b.id}/history`);if(!V.ok)throw new Error("Nie udało się pobrać historii cen");const et=await V.json();S(et)}catch{S([])}})()},[b]),j.useEffect(()=>{b&&tt.current&&X.current&&setTimeout(()=>{var P;(P=X.current)==null||P.scrollTo({top:0,behavior:"smooth"}),setTimeout(()=>{var V;(V=tt.current)==null||V.scrollIntoView({behavior:"smooth",block:"start"})},200)},100)},[b]);const st=P=>{const V=P.split("T")[0],[et,ut,wt]=V.split("-");return`${wt}.${ut}.${et}`};return M.jsxs("div",{className:"assets-main-container",ref:X,style:{overflowY:"auto",maxHeight:"100vh"},children:[M.jsxs("div",{className:"assets-header",children:[M.jsx("h1",{className:"assets-title",children:"Aktywa giełdowe"}),M.jsxs("p",{className:"assets-desc",children:["Tutaj znajdziesz wszystkie dostępne aktywa giełdowe. Kliknij w wybrane aktywo, aby zobaczyć jego wykres cenowy oraz szczegóły.",M.jsx("br",{}),M.jsx("span",{className:"assets-hint",children:"Ceny aktualizują się automatycznie co 10 sekund."})]})]}),M.jsx(u1,{searchTerm:w,setSearchTerm:T,sortBy:A,setSortBy:N,sortDirection:U,setSortDirection:Y,page:C,setPage:W,totalPages:J}),m&&M.jsx(o1,{loading:i,onAdd:h(at),register:c}),a&&M.jsx("p",{className:"assets-error",children:a}),M.jsx(r1,{assets:r,loading:i,isAdmin:m,selectedAsset:b,setSelectedAsset:v,deleteAsset:ct}),b&&M.jsx(dE,{ref:tt,selectedAsset:b,priceHistory:_,formatDate:st})]})}const mE=({account:i,addFundsAmount:e,setAddFundsAmount:a,handleAddFunds:l})=>M.jsxs("div",{className:"wallet-user",children:[M.jsx("div",{className:"wallet-avatar",children:i.username?i.username[0].toUpperCase():"U"}),M.jsx("div",{className:"wallet-username",children:i.username||"Użytkownik"}),M.jsxs("div",{className:"wallet-balance",children:[M.jsx("span",{children:"Stan konta"}),M.jsxs("div",{className:"wallet-balance-value",children:[i.accountBalance.toFixed(2)," PLN"]})]}),M.jsxs("div",{className:"wallet-profit",children:[M.jsx("span",{children:"Profit"}),M.jsxs("div",{className:`wallet-profit-value ${i.profit>=0?"profit-pos":"profit-neg"}`,children:[i.profit.toFixed(2)," PLN"]})]}),M.jsxs("form",{onSubmit:l,className:"wallet-addfunds-form",children:[M.jsx("input",{type:"number",placeholder:"Kwota do dodania",value:e,onChange:r=>a(r.target.value),min:"0.01",step:"0.01",required:!0,className:"wallet-addfunds-input"}),M.jsx("button",{type:"submit",className:"wallet-addfunds-btn",children:"+"})]})]}),pE=({asset:i})=>M.jsxs("div",{className:"wallet-asset-item",children:[M.jsxs("div",{className:"wallet-asset-main",children:[M.jsx("span",{className:"wallet-asset-symbol",children:i.symbol}),M.jsx("span",{className:"wallet-asset-name",children:i.name})]}),M.jsxs("div",{className:"wallet-asset-details",children:[M.jsxs("span",{className:"wallet-asset-amount",children:[i.amount," szt."]}),M.jsxs("span",{className:"wallet-asset-price",children:["@ ",i.price," USD"]})]})]}),yE=({assets:i})=>M.jsx(M.Fragment,{children:i.length>0?M.jsx("div",{className:"wallet-assets-list",children:i.map(e=>M.jsx(pE,{asset:e},e.id))}):M.jsx("p",{className:"wallet-assets-empty",children:"Brak aktywów w portfelu."})}),bE=({availableAssets:i,tradeAssetId:e,setTradeAssetId:a,tradeAmount:l,setTradeAmount:r,tradeType:u,setTradeType:c,handleTrade:h,selectedTradeAsset:d,parsedTradeAmount:m,tradeValue:p})=>M.jsxs("div",{className:"wallet-trade-section",children:[M.jsx("h3",{children:"Kup/Sprzedaj aktywo"}),M.jsxs("form",{onSubmit:h,className:"wallet-trade-form",children:[M.jsxs("select",{value:e,onChange:b=>a(b.target.value),required:!0,className:"wallet-trade-select",children:[M.jsx("option",{value:"",children:"Wybierz aktywo"}),i.map(b=>M.jsxs("option",{value:b.id,children:[b.name," (",b.symbol,") - ",b.price," USD"]},b.id))]}),M.jsx("input",{type:"number",placeholder:"Ilość",value:l,onChange:b=>r(b.target.value),min:"0.01",step:"0.01",required:!0,className:"wallet-trade-input"}),M.jsxs("select",{value:u,onChange:b=>c(b.target.value),className:"wallet-trade-type",children:[M.jsx("option",{value:"BUY",children:"Kup"}),M.jsx("option",{value:"SELL",children:"Sprzedaj"})]}),M.jsx("button",{type:"submit",className:"wallet-trade-btn",children:"Wykonaj"})]}),d&&m>0&&M.jsx("div",{className:"wallet-trade-preview",children:u==="BUY"?M.jsxs("span",{children:["Koszt zakupu: ",M.jsxs("strong",{children:[p.toFixed(2)," USD"]})]}):M.jsxs("span",{children:["Otrzymasz za sprzedaż: ",M.jsxs("strong",{children:[p.toFixed(2)," USD"]})]})})]}),vE=()=>M.jsx("div",{className:"wallet-tip",children:M.jsx("span",{children:"💡 Tip: Regularnie sprawdzaj swój profit i reaguj na zmiany rynku!"})});function xE(){const i=Bl(),a=Nx().userId??localStorage.getItem("userId"),[l,r]=j.useState([]),[u,c]=j.useState(""),[h,d]=j.useState(!0),[m,p]=j.useState([]),[b,v]=j.useState({accountBalance:0,profit:0,username:""}),[_,S]=j.useState(""),[w,T]=j.useState(""),[A,N]=j.useState(""),[U,Y]=j.useState("BUY"),C=m.find(st=>st.id.toString()===w),W=parseFloat(A)||0,J=C?W*C.price:0,$=j.useRef(null),X=async()=>{try{const st=await fetch(`http://localhost:8000/api/v1/users/${a}/wallet/details`,{credentials:"include",headers:{"Content-Type":"application/json"}});if(!st.ok){let V="Failed to fetch wallet details";try{V=(await st.json()).error||V}catch{}if(st.status===401){i("/login");return}throw new Error(V)}const P=await st.json();r(P)}catch(st){c(st.message)}finally{d(!1)}},tt=async()=>{try{const st=await fetch(`http://localhost:8000/api/v1/users/${a}`,{credentials:"include",headers:{"Content-Type":"application/json"}});if(!st.ok){let V="Failed to fetch user details";try{V=(await st.json()).error||V}catch{}if(st.status===401){i("/login");return}throw new Error(V)}const P=await st.json();v({accountBalance:P.accountBalance,profit:P.profit,username:P.username})}catch(st){c(st.message)}},rt=async()=>{try{const st=await fetch("http://localhost:8000/api/v1/assets");if(!st.ok)throw new Error("Nie udało się pobrać dostępnych aktywów");const P=await st.json();p(P)}catch{}};j.useEffect(()=>{X(),rt(),tt();const st=setInterval(()=>{tt()},1e4);return()=>clearInterval(st)},[a]),j.useEffect(()=>{$.current&&($.current.scrollTo({top:0}),window.scrollY<64&&window.scrollTo({top:0}))},[h,u]);const at=async st=>{st.preventDefault();try{const P=await fetch(`http://localhost:8000/api/v1/users/${a}/add-funds`,{method:"POST",credentials:"include",headers:{"Content-Type":"application/json"},body:JSON.stringify({amount:parseFloat(_)})});if(!P.ok){if(P.status===401){i("/login");return}throw new Error("Failed to add funds")}const V=await P.json();v({...b,accountBalance:V.accountBalance}),S("")}catch(P){c(P.message)}},ct=async st=>{st.preventDefault();try{const P=await fetch(`http://localhost:8000/api/v1/users/${a}/wallet/trade`,{method:"POST",credentials:"include",headers:{"Content-Type":"application/json"},body:JSON.stringify({assetId:parseInt(w),amount:parseFloat(A),type:U})});if(!P.ok){if(P.status===401){i("/login");return}const V=await P.json();throw new Error(V.error||"Nie udało się wykonać transakcji")}T(""),N(""),X(),tt(),c("")}catch(P){c(P.message)}};return h?M.jsx("p",{children:"Ładowanie portfela..."}):u?M.jsx("p",{children:u}):M.jsxs("div",{className:"wallet-layout wallet-main-container",ref:$,children:[M.jsx("aside",{className:"wallet-sidebar",children:M.jsx(mE,{account:b,addFundsAmount:_,setAddFundsAmount:S,handleAddFunds:at})}),M.jsxs("main",{className:"wallet-main",children:[M.jsx("h2",{className:"wallet-assets-title",children:"Twoje aktywa"}),M.jsx(yE,{assets:l}),M.jsx(bE,{availableAssets:m,tradeAssetId:w,setTradeAssetId:T,tradeAmount:A,setTradeAmount:N,tradeType:U,setTradeType:Y,handleTrade:ct,selectedTradeAsset:C,parsedTradeAmount:W,tradeValue:J}),M.jsx(vE,{})]})]})}function _E(){const i=Bl(),{isAuthenticated:e,logout:a}=jf(),l=localStorage.getItem("userId"),r=()=>{i(e&&l?`/user-wallet/${l}`:"/login")},u=async()=>{try{(await fetch("http://localhost:8000/api/v1/auth/logout",{method:"POST",credentials:"include"})).ok&&(a(),i("/login"))}catch(c){console.error("Logout failed:",c)}};return M.jsx("nav",{className:"navbar",children:M.jsxs("div",{className:"navbar-container",children:[M.jsx(zl,{to:"/",className:"navbar-link navbar-left",children:"Home"}),M.jsxs("div",{className:"navbar-right",children:[e&&M.jsx("button",{onClick:u,className:"navbar-button",children:"Logout"}),M.jsx("button",{onClick:r,className:"navbar-button",children:"My Account"}),M.jsx("button",{onClick:()=>i("/notifications"),className:"navbar-button",children:"Powiadomienia"})]})]})})}function SE(){const[i,e]=j.useState(!1),[a,l]=j.useState(""),[r,u]=j.useState(""),[c,h]=j.useState(""),[d,m]=j.useState(""),p=Bl(),{setAuthenticated:b,setUserRole:v}=jf(),_=async w=>{w.preventDefault(),m("");try{const T=await fetch("http://localhost:8000/api/v1/auth/login",{method:"POST",credentials:"include",headers:{"Content-Type":"application/json"},body:JSON.stringify({username:a,password:c})});if(!T.ok)throw new Error("Bledne dane logowania lub użytkownik nie istnieje");const A=await T.json();console.log("Login response:",A),localStorage.setItem("userId",A.userId),b(!0),v(A.role),p("/")}catch(T){m(T.message)}},S=async w=>{w.preventDefault(),m("");try{const T=await fetch("http://localhost:8000/api/v1/auth/register",{method:"POST",headers:{"Content-Type":"application/json"},body:JSON.stringify({username:a,email:r,password:c})});if(!T.ok){const A=await T.text();throw new Error(A)}e(!1),l(""),u(""),h("")}catch(T){m(T.message)}};return M.jsx("div",{className:"login-main-bg",children:M.jsxs("div",{className:"login-container",children:[M.jsx("h1",{className:"login-title",children:i?"Rejestracja":"Logowanie"}),M.jsx("div",{className:"login-subtitle",children:i?"Załóż nowe konto, aby korzystać z symulatora giełdy.":"Zaloguj się, aby zarządzać swoim portfelem inwestycyjnym."}),M.jsxs("form",{onSubmit:i?S:_,className:"login-form",children:[M.jsx("input",{type:"text",placeholder:"Nazwa użytkownika",value:a,onChange:w=>l(w.target.value),required:!0}),i&&M.jsx("input",{type:"email",placeholder:"Email",value:r,onChange:w=>u(w.target.value),required:!0}),M.jsx("input",{type:"password",placeholder:"Hasło",value:c,onChange:w=>h(w.target.value),required:!0}),M.jsx("button",{type:"submit",className:"login-button",children:i?"Zarejestruj się":"Zaloguj się"})]}),d&&M.jsx("p",{className:"error",children:d}),M.jsxs("p",{className:"toggle-text",children:[i?"Masz już konto?":"Nie masz konta?"," ",M.jsx("button",{type:"button",className:"toggle-button",onClick:()=>e(!i),children:i?"Zaloguj się":"Zarejestruj się"})]})]})})}function wE(){const[i,e]=j.useState([]),[a,l]=j.useState(!1),[r,u]=j.useState(""),c=async()=>{l(!0),u("");try{const d=await fetch("http://localhost:8000/api/notifications");if(!d.ok)throw new Error("Nie udało się pobrać powiadomień");const m=await d.json();e(m)}catch(d){u(d.message)}finally{l(!1)}},h=async()=>{try{(await fetch("http://localhost:8000/api/notifications",{method:"DELETE"})).ok&&e([])}catch(d){console.error(d)}};return j.useEffect(()=>{c()},[]),M.jsxs("div",{className:"notifications-container notifications-scrollable",children:[M.jsxs("div",{className:"notifications-header",children:[M.jsx("h1",{children:"Powiadomienia"}),M.jsxs("div",{className:"notifications-actions",children:[M.jsx("button",{onClick:c,disabled:a,children:a?"Ładowanie...":"Odśwież"}),M.jsx("button",{onClick:h,disabled:a,children:"Wyczyść powiadomienia"})]})]}),r&&M.jsx("p",{className:"notifications-error",children:r}),M.jsx("ul",{children:i.length>0?i.map((d,m)=>M.jsx("li",{children:d},m)):M.jsx("p",{children:"Brak powiadomień"})})]})}function EE(){return M.jsxs(M.Fragment,{children:[M.jsx(_E,{}),M.jsxs(Wx,{children:[M.jsx(sa,{path:"/",element:M.jsx(O_,{})}),M.jsx(sa,{path:"/add-user",element:M.jsx(s1,{})}),M.jsx(sa,{path:"/add-asset",element:M.jsx(gE,{})}),M.jsx(sa,{path:"/user-wallet/:userId",element:M.jsx(xE,{})}),M.jsx(sa,{path:"/login",element:M.jsx(SE,{})}),M.jsx(sa,{path:"/notifications",element:M.jsx(wE,{})})]})]})}ax.createRoot(document.getElementById("root")).render(M.jsx(Ee.StrictMode,{children:M.jsx(b_,{children:M.jsx(EE,{})})}));